@@ -0,0 +1,111 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.engine;
+
+import java.util.List;
+
+/**
+ * The change events of a single destination sharing the same row structure, laid out by columns. Every change event
+ * is one row of the batch; the columns of the row image hold the state of the row after the change, or before it
+ * for deletes, and the key columns hold the key of the event.<p/>
+ *
+ * The values of a column are exposed as the array backing the column, so that they can be handed over to columnar
+ * storage without copying them. The arrays must not be modified.
+ */
+public interface ColumnarBatch {
+
+    /**
+     * @return A name of the logical destination of the change events
+     */
+    String destination();
+
+    /**
+     * @return The number of change events, i.e. rows, in the batch
+     */
+    int size();
+
+    /**
+     * @return The operation code of the change event in the given row, e.g. {@code c} or {@code d}; null if the
+     *         change event does not carry one, such as tombstones or events without the change event envelope
+     */
+    String operation(int row);
+
+    /**
+     * @return The columns of the row image; empty when the change events carry no row image, e.g. for tombstones
+     */
+    List<Column> columns();
+
+    /**
+     * @return The column of the row image with the given name; null if there is no such column
+     */
+    Column column(String name);
+
+    /**
+     * @return The columns of the key; empty when the change events have no structured key
+     */
+    List<Column> keyColumns();
+
+    /**
+     * The values of a single column of a {@link ColumnarBatch}.
+     */
+    interface Column {
+
+        String name();
+
+        Type type();
+
+        /**
+         * @return The array backing the column, its class depends on the {@link #type()} of the column
+         */
+        Object values();
+
+        boolean isNull(int row);
+
+        /**
+         * @return The value of the given row, boxed if needed; null for null values
+         */
+        Object get(int row);
+    }
+
+    /**
+     * The type of a {@link Column}, which determines the array holding its values. Null values of primitive columns
+     * are stored as zero or false and are only distinguished by {@link Column#isNull(int)}.
+     */
+    enum Type {
+        /**
+         * {@code boolean[]}
+         */
+        BOOLEAN,
+        /**
+         * {@code int[]}, for 8, 16 and 32 bit integers
+         */
+        INT32,
+        /**
+         * {@code long[]}
+         */
+        INT64,
+        /**
+         * {@code float[]}
+         */
+        FLOAT32,
+        /**
+         * {@code double[]}
+         */
+        FLOAT64,
+        /**
+         * {@code String[]}
+         */
+        STRING,
+        /**
+         * {@code byte[][]}
+         */
+        BYTES,
+        /**
+         * {@code Object[]}, for logical types and nested structures, holding the values as they appear in the change event
+         */
+        OBJECT
+    }
+}
@@ -0,0 +1,16 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.engine.format;
+
+import io.debezium.engine.ColumnarBatch;
+
+/**
+ * A {@link SerializationFormat} delivering the change events of a destination as {@link ColumnarBatch columnar batches}
+ * instead of one serialized record per change event. It can only be used as a {@link ChangeEventFormat} together
+ * with a {@link io.debezium.engine.DebeziumEngine.ChangeConsumer}.
+ */
+public class Columnar implements SerializationFormat<ColumnarBatch> {
+}
@@ -293,6 +293,12 @@ default boolean useConsistentSnapshotTransaction() {
      */
     private static final int DEFAULT_BINLOG_BUFFER_SIZE = 0;
 
+    /**
+     * The default number of binlog events that may be read ahead of processing when the binlog
+     * pipeline is enabled.
+     */
+    private static final int DEFAULT_BINLOG_PIPELINE_QUEUE_SIZE = 1024;
+
     public static final Field PORT = RelationalDatabaseConnectorConfig.PORT
             .withDefault(DEFAULT_PORT);
 
@@ -435,6 +441,32 @@ default boolean useConsistentSnapshotTransaction() {
                     + "transaction in progress is going to be committed or rolled back. Use 0 to disable look-ahead "
                     + "buffering. Defaults to " + DEFAULT_BINLOG_BUFFER_SIZE + " (i.e. buffering is disabled.");
 
+    public static final Field BINLOG_PIPELINE_THREADS = Field.create("binlog.pipeline.threads")
+            .withDisplayName("Binlog pipeline threads")
+            .withType(ConfigDef.Type.INT)
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 4))
+            .withDescription("The number of threads used to deserialize binlog row events in parallel with reading the binlog. "
+                    + "When greater than 0, the binlog reader only reads events, row events are deserialized by a pool of "
+                    + "this many threads, and events are still processed strictly in binlog order. "
+                    + "Pipelining is not used when a look-ahead buffer is configured using 'binlog.buffer.size'. "
+                    + "Defaults to 0 (i.e. pipelining is disabled).");
+
+    public static final Field BINLOG_PIPELINE_QUEUE_SIZE = Field.create("binlog.pipeline.queue.size")
+            .withDisplayName("Binlog pipeline queue size")
+            .withType(ConfigDef.Type.INT)
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(DEFAULT_BINLOG_PIPELINE_QUEUE_SIZE)
+            .withValidation(Field::isPositiveInteger)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 5))
+            .withDescription("The maximum number of binlog events that have been read but not yet processed when "
+                    + "'binlog.pipeline.threads' is greater than 0. The binlog reader blocks when the queue is full. "
+                    + "Defaults to " + DEFAULT_BINLOG_PIPELINE_QUEUE_SIZE + ".");
+
     public static final Field TOPIC_NAMING_STRATEGY = Field.create("topic.naming.strategy")
             .withDisplayName("Topic naming strategy class")
             .withType(ConfigDef.Type.CLASS)
@@ -633,6 +665,8 @@ default boolean useConsistentSnapshotTransaction() {
                     DATABASE_INCLUDE_LIST,
                     DATABASE_EXCLUDE_LIST,
                     BUFFER_SIZE_FOR_BINLOG_READER,
+                    BINLOG_PIPELINE_THREADS,
+                    BINLOG_PIPELINE_QUEUE_SIZE,
                     EVENT_DESERIALIZATION_FAILURE_HANDLING_MODE,
                     INCONSISTENT_SCHEMA_HANDLING_MODE,
                     GTID_SOURCE_INCLUDES,
@@ -768,6 +802,20 @@ public int getBufferSizeForStreamingChangeEventSource() {
         return config.getInteger(BUFFER_SIZE_FOR_BINLOG_READER);
     }
 
+    /**
+     * @return the number of threads deserializing row events in parallel, {@code 0} if pipelining is disabled
+     */
+    public int getBinlogPipelineThreads() {
+        return config.getInteger(BINLOG_PIPELINE_THREADS);
+    }
+
+    /**
+     * @return the maximum number of events read but not yet processed when pipelining is enabled
+     */
+    public int getBinlogPipelineQueueSize() {
+        return config.getInteger(BINLOG_PIPELINE_QUEUE_SIZE);
+    }
+
     /**
      * @return whether the SQL query for a binlog event should be included in the event payload
      */
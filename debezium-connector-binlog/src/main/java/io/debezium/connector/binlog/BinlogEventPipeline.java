@@ -0,0 +1,156 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.binlog;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.shyiko.mysql.binlog.BinaryLogClient;
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDataDeserializationException;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.binlog.event.DeferredRowsEventData;
+import io.debezium.function.BlockingConsumer;
+import io.debezium.pipeline.ErrorHandler;
+import io.debezium.util.Threads;
+
+/**
+ * Decouples reading the binlog from processing its events.
+ * <p>
+ * The binlog client thread only reads events, rows events arriving with a {@link DeferredRowsEventData}
+ * body. Every event is queued in binlog order, while the bodies of rows events are deserialized concurrently
+ * by a pool of decoder threads. A single sequencer thread takes the events off the queue in the order they
+ * were read, waits for their deserialization to complete and passes them to the downstream consumer, so
+ * events are still processed strictly in binlog order.
+ */
+class BinlogEventPipeline implements BinaryLogClient.EventListener, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BinlogEventPipeline.class);
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+
+    private final BlockingQueue<Future<Event>> events;
+    private final ExecutorService decoders;
+    private final ExecutorService sequencer;
+    private final BlockingConsumer<Event> consumer;
+    private final Consumer<Exception> deserializationFailureHandler;
+    private final ErrorHandler errorHandler;
+
+    private volatile boolean running = true;
+
+    /**
+     * @param connectorClass the connector class, used to name the pipeline threads
+     * @param connectorConfig the connector configuration
+     * @param sequencerInitializer prepares the sequencer thread, e.g. its logging context
+     * @param consumer receives the deserialized events in binlog order
+     * @param deserializationFailureHandler handles failures to deserialize a rows event body
+     * @param errorHandler receives failures of the downstream consumer
+     */
+    BinlogEventPipeline(Class<?> connectorClass, BinlogConnectorConfig connectorConfig, Runnable sequencerInitializer,
+                        BlockingConsumer<Event> consumer, Consumer<Exception> deserializationFailureHandler, ErrorHandler errorHandler) {
+        this.events = new ArrayBlockingQueue<>(connectorConfig.getBinlogPipelineQueueSize());
+        this.decoders = Threads.newFixedThreadPool(connectorClass, connectorConfig.getLogicalName(), "binlog-decoder",
+                connectorConfig.getBinlogPipelineThreads());
+        this.sequencer = Threads.newSingleThreadExecutor(connectorClass, connectorConfig.getLogicalName(), "binlog-sequencer");
+        this.consumer = consumer;
+        this.deserializationFailureHandler = deserializationFailureHandler;
+        this.errorHandler = errorHandler;
+
+        sequencer.submit(() -> {
+            sequencerInitializer.run();
+            dispatchEvents();
+        });
+    }
+
+    @Override
+    public void onEvent(Event event) {
+        if (!running) {
+            return;
+        }
+
+        final Future<Event> deserialized = event.getData() instanceof DeferredRowsEventData
+                ? decoders.submit(() -> deserialize(event))
+                : CompletableFuture.completedFuture(event);
+        try {
+            // Blocking the binlog client thread while the queue is full applies back-pressure to the reader
+            while (running && !events.offer(deserialized, POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS)) {
+                LOGGER.trace("Binlog pipeline is full, waiting for events to be processed");
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        sequencer.shutdownNow();
+        decoders.shutdownNow();
+        try {
+            if (!sequencer.awaitTermination(POLL_INTERVAL.multipliedBy(10).toMillis(), TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("Binlog pipeline sequencer did not stop in time");
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        events.clear();
+    }
+
+    private void dispatchEvents() {
+        try {
+            while (running) {
+                final Future<Event> next = events.poll(POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                if (next == null) {
+                    continue;
+                }
+
+                final Event event;
+                try {
+                    event = next.get();
+                }
+                catch (ExecutionException e) {
+                    // The event is skipped, just as when the binlog client fails to deserialize an event
+                    deserializationFailureHandler.accept(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+                    continue;
+                }
+
+                consumer.accept(event);
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        catch (RuntimeException e) {
+            LOGGER.error("Error processing binlog event in the binlog pipeline", e);
+            errorHandler.setProducerThrowable(new DebeziumException("Error processing binlog event", e));
+            running = false;
+        }
+    }
+
+    private static Event deserialize(Event event) throws IOException {
+        try {
+            return new Event(event.getHeader(), ((DeferredRowsEventData) event.getData()).deserialize());
+        }
+        catch (IOException e) {
+            // Reported to the deserialization failure handler, just as the binlog client reports rows events it cannot read
+            throw new EventDataDeserializationException(event.getHeader(), e);
+        }
+    }
+}
@@ -27,6 +27,7 @@
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
@@ -58,6 +59,7 @@
 import com.github.shyiko.mysql.binlog.event.UpdateRowsEventData;
 import com.github.shyiko.mysql.binlog.event.WriteRowsEventData;
 import com.github.shyiko.mysql.binlog.event.deserialization.EventDataDeserializationException;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDataDeserializer;
 import com.github.shyiko.mysql.binlog.event.deserialization.EventDeserializer;
 import com.github.shyiko.mysql.binlog.event.deserialization.GtidEventDataDeserializer;
 import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
@@ -72,6 +74,7 @@
 import io.debezium.config.CommonConnectorConfig.EventProcessingFailureHandlingMode;
 import io.debezium.config.Configuration;
 import io.debezium.connector.binlog.BinlogConnectorConfig.SecureConnectionMode;
+import io.debezium.connector.binlog.event.DeferredRowsEventDataDeserializer;
 import io.debezium.connector.binlog.event.EventDataDeserializationExceptionData;
 import io.debezium.connector.binlog.event.RowDeserializers;
 import io.debezium.connector.binlog.event.StopEventDataDeserializer;
@@ -135,6 +138,7 @@
     private boolean ignoreDmlEventByGtidSource = false;
     private volatile Map<String, ?> lastOffset = null;
     private O effectiveOffsetContext;
+    private BinlogEventPipeline pipeline;
 
     @SingleThreadAccess("binlog client thread")
     protected Instant eventTimestamp;
@@ -213,12 +217,37 @@ public void execute(ChangeEventSourceContext context, P partition, O offsetConte
             EventBuffer<?, P, O> buffer = new EventBuffer<>(connectorConfig.getBufferSizeForStreamingChangeEventSource(), this, context);
             listener = (event) -> buffer.add(partition, effectiveOffsetContext, event);
         }
-        client.registerEventListener(listener);
 
-        client.registerLifecycleListener(new ReaderThreadLifecycleListener(effectiveOffsetContext));
-        client.registerEventListener((event) -> onEvent(effectiveOffsetContext, event));
-        if (LOGGER.isDebugEnabled()) {
-            client.registerEventListener((event) -> logEvent(effectiveOffsetContext, event));
+        final ReaderThreadLifecycleListener lifecycleListener = new ReaderThreadLifecycleListener(effectiveOffsetContext);
+        client.registerLifecycleListener(lifecycleListener);
+
+        if (isPipelineEnabled()) {
+            LOGGER.info("Deserializing binlog row events using {} pipeline threads", connectorConfig.getBinlogPipelineThreads());
+            // Events are only observed once deserialized, keeping the event timestamp in step with event processing
+            final BinaryLogClient.EventListener processor = listener;
+            pipeline = new BinlogEventPipeline(getConnectorClass(), connectorConfig,
+                    () -> taskContext.configureLoggingContext("binlog"),
+                    (event) -> {
+                        processor.onEvent(event);
+                        onEvent(effectiveOffsetContext, event);
+                        if (LOGGER.isDebugEnabled()) {
+                            logEvent(effectiveOffsetContext, event);
+                        }
+                    },
+                    (error) -> lifecycleListener.onEventDeserializationFailure(client, error),
+                    errorHandler);
+            client.registerEventListener(pipeline);
+        }
+        else {
+            if (connectorConfig.getBinlogPipelineThreads() > 0) {
+                LOGGER.warn("The binlog pipeline is not used because a look-ahead buffer is configured using '{}'",
+                        BinlogConnectorConfig.BUFFER_SIZE_FOR_BINLOG_READER.name());
+            }
+            client.registerEventListener(listener);
+            client.registerEventListener((event) -> onEvent(effectiveOffsetContext, event));
+            if (LOGGER.isDebugEnabled()) {
+                client.registerEventListener((event) -> logEvent(effectiveOffsetContext, event));
+            }
         }
 
         metrics.setIsGtidModeEnabled(isGtidModeEnabled);
@@ -348,6 +377,9 @@ public void execute(ChangeEventSourceContext context, P partition, O offsetConte
             catch (Exception e) {
                 LOGGER.info("Exception while stopping binary log client", e);
             }
+            if (pipeline != null) {
+                pipeline.close();
+            }
         }
     }
 
@@ -465,46 +497,87 @@ public Event nextEvent(ByteArrayInputStream inputStream) throws IOException {
                         throw edde;
                     }
 
-                    EventHeaderV4 header = new EventHeaderV4();
-                    header.setEventType(EventType.INCIDENT);
-                    header.setTimestamp(edde.getEventHeader().getTimestamp());
-                    header.setServerId(edde.getEventHeader().getServerId());
-
-                    if (edde.getEventHeader() instanceof EventHeaderV4) {
-                        header.setEventLength(((EventHeaderV4) edde.getEventHeader()).getEventLength());
-                        header.setNextPosition(((EventHeaderV4) edde.getEventHeader()).getNextPosition());
-                        header.setFlags(((EventHeaderV4) edde.getEventHeader()).getFlags());
-                    }
-
-                    EventData data = new EventDataDeserializationExceptionData(edde);
-                    return new Event(header, data);
+                    return createIncidentEvent(edde);
                 }
             }
         };
 
         eventDeserializer.setEventDataDeserializer(EventType.STOP, new StopEventDataDeserializer());
         eventDeserializer.setEventDataDeserializer(EventType.GTID, new GtidEventDataDeserializer());
-        eventDeserializer.setEventDataDeserializer(EventType.WRITE_ROWS,
-                new RowDeserializers.WriteRowsDeserializer(tableMapEventByTableId, eventDeserializationFailureHandlingMode));
-        eventDeserializer.setEventDataDeserializer(EventType.UPDATE_ROWS,
-                new RowDeserializers.UpdateRowsDeserializer(tableMapEventByTableId, eventDeserializationFailureHandlingMode));
-        eventDeserializer.setEventDataDeserializer(EventType.DELETE_ROWS,
-                new RowDeserializers.DeleteRowsDeserializer(tableMapEventByTableId, eventDeserializationFailureHandlingMode));
-        eventDeserializer.setEventDataDeserializer(EventType.EXT_WRITE_ROWS,
-                new RowDeserializers.WriteRowsDeserializer(
-                        tableMapEventByTableId, eventDeserializationFailureHandlingMode).setMayContainExtraInformation(true));
-        eventDeserializer.setEventDataDeserializer(EventType.EXT_UPDATE_ROWS,
-                new RowDeserializers.UpdateRowsDeserializer(
-                        tableMapEventByTableId, eventDeserializationFailureHandlingMode).setMayContainExtraInformation(true));
-        eventDeserializer.setEventDataDeserializer(EventType.EXT_DELETE_ROWS,
-                new RowDeserializers.DeleteRowsDeserializer(
-                        tableMapEventByTableId, eventDeserializationFailureHandlingMode).setMayContainExtraInformation(true));
+        setRowsEventDataDeserializer(eventDeserializer, EventType.WRITE_ROWS, tableMapEventByTableId,
+                (tableMaps) -> new RowDeserializers.WriteRowsDeserializer(tableMaps, eventDeserializationFailureHandlingMode));
+        setRowsEventDataDeserializer(eventDeserializer, EventType.UPDATE_ROWS, tableMapEventByTableId,
+                (tableMaps) -> new RowDeserializers.UpdateRowsDeserializer(tableMaps, eventDeserializationFailureHandlingMode));
+        setRowsEventDataDeserializer(eventDeserializer, EventType.DELETE_ROWS, tableMapEventByTableId,
+                (tableMaps) -> new RowDeserializers.DeleteRowsDeserializer(tableMaps, eventDeserializationFailureHandlingMode));
+        setRowsEventDataDeserializer(eventDeserializer, EventType.EXT_WRITE_ROWS, tableMapEventByTableId,
+                (tableMaps) -> new RowDeserializers.WriteRowsDeserializer(
+                        tableMaps, eventDeserializationFailureHandlingMode).setMayContainExtraInformation(true));
+        setRowsEventDataDeserializer(eventDeserializer, EventType.EXT_UPDATE_ROWS, tableMapEventByTableId,
+                (tableMaps) -> new RowDeserializers.UpdateRowsDeserializer(
+                        tableMaps, eventDeserializationFailureHandlingMode).setMayContainExtraInformation(true));
+        setRowsEventDataDeserializer(eventDeserializer, EventType.EXT_DELETE_ROWS, tableMapEventByTableId,
+                (tableMaps) -> new RowDeserializers.DeleteRowsDeserializer(
+                        tableMaps, eventDeserializationFailureHandlingMode).setMayContainExtraInformation(true));
         eventDeserializer.setEventDataDeserializer(EventType.TRANSACTION_PAYLOAD,
                 new TransactionPayloadDeserializer(tableMapEventByTableId, eventDeserializationFailureHandlingMode));
 
         return eventDeserializer;
     }
 
+    /**
+     * Registers the deserializer for a rows event type. When the binlog pipeline is enabled, the rows event body
+     * is only read by the binlog client thread and deserialized later by the pipeline.
+     *
+     * @param eventDeserializer the binlog event deserializer
+     * @param eventType the rows event type
+     * @param tableMapEventByTableId the most recent table map events by table number
+     * @param deserializerFactory creates the rows event deserializer for a table map
+     */
+    private void setRowsEventDataDeserializer(EventDeserializer eventDeserializer, EventType eventType,
+                                              Map<Long, TableMapEventData> tableMapEventByTableId,
+                                              Function<Map<Long, TableMapEventData>, EventDataDeserializer<?>> deserializerFactory) {
+        if (isPipelineEnabled()) {
+            eventDeserializer.setEventDataDeserializer(eventType, new DeferredRowsEventDataDeserializer(tableMapEventByTableId, deserializerFactory));
+        }
+        else {
+            eventDeserializer.setEventDataDeserializer(eventType, deserializerFactory.apply(tableMapEventByTableId));
+        }
+    }
+
+    /**
+     * Creates the pseudo-event of type {@link EventType#INCIDENT} that stands in for an event that could not
+     * be deserialized.
+     *
+     * @param edde the deserialization failure
+     * @return the incident event
+     */
+    private static Event createIncidentEvent(EventDataDeserializationException edde) {
+        EventHeaderV4 header = new EventHeaderV4();
+        header.setEventType(EventType.INCIDENT);
+        header.setTimestamp(edde.getEventHeader().getTimestamp());
+        header.setServerId(edde.getEventHeader().getServerId());
+
+        if (edde.getEventHeader() instanceof EventHeaderV4) {
+            header.setEventLength(((EventHeaderV4) edde.getEventHeader()).getEventLength());
+            header.setNextPosition(((EventHeaderV4) edde.getEventHeader()).getNextPosition());
+            header.setFlags(((EventHeaderV4) edde.getEventHeader()).getFlags());
+        }
+
+        EventData data = new EventDataDeserializationExceptionData(edde);
+        return new Event(header, data);
+    }
+
+    /**
+     * Pipelining is not compatible with the look-ahead buffer, which rewinds the binlog client while
+     * processing events.
+     *
+     * @return true if row events are deserialized and processed separately from reading the binlog
+     */
+    private boolean isPipelineEnabled() {
+        return connectorConfig.getBinlogPipelineThreads() > 0 && connectorConfig.getBufferSizeForStreamingChangeEventSource() == 0;
+    }
+
     protected void onEvent(O offsetContext, Event event) {
         long ts = 0;
         totalRecordCounter.incrementAndGet();
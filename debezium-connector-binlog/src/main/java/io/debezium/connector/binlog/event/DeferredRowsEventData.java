@@ -0,0 +1,54 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.binlog.event;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.github.shyiko.mysql.binlog.event.EventData;
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDataDeserializer;
+import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
+
+/**
+ * Event data for a rows event whose body has been read from the binlog but not yet deserialized.
+ * <p>
+ * The body is deserialized by {@link #deserialize()} against the table map that was in effect when the
+ * event was read, so that it can be deserialized on any thread while later events are still being read.
+ *
+ * @see DeferredRowsEventDataDeserializer
+ */
+public class DeferredRowsEventData implements EventData {
+
+    private static final long serialVersionUID = 1L;
+
+    private final byte[] body;
+    private final transient Map<Long, TableMapEventData> tableMapEventByTableId;
+    private final transient Function<Map<Long, TableMapEventData>, EventDataDeserializer<?>> deserializerFactory;
+
+    public DeferredRowsEventData(byte[] body, Map<Long, TableMapEventData> tableMapEventByTableId,
+                                 Function<Map<Long, TableMapEventData>, EventDataDeserializer<?>> deserializerFactory) {
+        this.body = body;
+        this.tableMapEventByTableId = tableMapEventByTableId;
+        this.deserializerFactory = deserializerFactory;
+    }
+
+    /**
+     * Deserializes the event body.
+     *
+     * @return the deserialized rows event data, never {@code null}
+     * @throws IOException if the event body could not be read
+     */
+    public EventData deserialize() throws IOException {
+        return deserializerFactory.apply(tableMapEventByTableId).deserialize(new ByteArrayInputStream(body));
+    }
+
+    @Override
+    public String toString() {
+        return "DeferredRowsEventData [length=" + body.length + "]";
+    }
+}
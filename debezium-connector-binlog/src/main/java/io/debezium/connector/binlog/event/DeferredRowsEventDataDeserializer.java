@@ -0,0 +1,51 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.binlog.event;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDataDeserializer;
+import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
+
+/**
+ * A rows event deserializer that only reads the event body, deferring its deserialization.
+ * <p>
+ * The table map of the event's table is captured along with the body, because later table map events
+ * may replace the entry for the same table number before the body is deserialized.
+ */
+public class DeferredRowsEventDataDeserializer implements EventDataDeserializer<DeferredRowsEventData> {
+
+    /**
+     * The length of the table number that starts the body of every rows event.
+     */
+    private static final int TABLE_ID_LENGTH = 6;
+
+    private final Map<Long, TableMapEventData> tableMapEventByTableId;
+    private final Function<Map<Long, TableMapEventData>, EventDataDeserializer<?>> deserializerFactory;
+
+    /**
+     * @param tableMapEventByTableId the most recent table map events by table number, never {@code null}
+     * @param deserializerFactory creates the deserializer for the deferred body from a table map, never {@code null}
+     */
+    public DeferredRowsEventDataDeserializer(Map<Long, TableMapEventData> tableMapEventByTableId,
+                                             Function<Map<Long, TableMapEventData>, EventDataDeserializer<?>> deserializerFactory) {
+        this.tableMapEventByTableId = tableMapEventByTableId;
+        this.deserializerFactory = deserializerFactory;
+    }
+
+    @Override
+    public DeferredRowsEventData deserialize(ByteArrayInputStream inputStream) throws IOException {
+        final byte[] body = inputStream.read(inputStream.available());
+
+        final long tableId = new ByteArrayInputStream(body).readLong(TABLE_ID_LENGTH);
+        final TableMapEventData tableMapEvent = tableMapEventByTableId.get(tableId);
+
+        return new DeferredRowsEventData(body, tableMapEvent != null ? Map.of(tableId, tableMapEvent) : Map.of(), deserializerFactory);
+    }
+}
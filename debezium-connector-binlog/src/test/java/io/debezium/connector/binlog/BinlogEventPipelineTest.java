@@ -0,0 +1,169 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.binlog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.awaitility.Awaitility;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.EventHeaderV4;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.WriteRowsEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.ColumnType;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDataDeserializationException;
+import com.github.shyiko.mysql.binlog.event.deserialization.MissingTableMapEventException;
+import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
+
+import io.debezium.config.CommonConnectorConfig.EventProcessingFailureHandlingMode;
+import io.debezium.connector.binlog.event.DeferredRowsEventDataDeserializer;
+import io.debezium.connector.binlog.event.RowDeserializers;
+import io.debezium.pipeline.ErrorHandler;
+
+public class BinlogEventPipelineTest {
+
+    private static final long TABLE_ID = 42L;
+
+    // Stands in for the table map cache that the binlog client thread updates while reading
+    private final Map<Long, TableMapEventData> tableMapEventByTableId = new ConcurrentHashMap<>();
+    private final List<Event> consumed = new CopyOnWriteArrayList<>();
+    private final List<Exception> failures = new CopyOnWriteArrayList<>();
+    private final ErrorHandler errorHandler = mock(ErrorHandler.class);
+
+    private DeferredRowsEventDataDeserializer deserializer;
+    private BinlogEventPipeline pipeline;
+
+    @Before
+    public void beforeEach() {
+        // Rows events are deserialized with a random delay, so that the decoder threads complete them out of order
+        deserializer = new DeferredRowsEventDataDeserializer(tableMapEventByTableId,
+                (tableMaps) -> (inputStream) -> {
+                    try {
+                        TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextInt(3));
+                    }
+                    catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return new RowDeserializers.WriteRowsDeserializer(tableMaps, EventProcessingFailureHandlingMode.FAIL).deserialize(inputStream);
+                });
+
+        final BinlogConnectorConfig connectorConfig = mock(BinlogConnectorConfig.class);
+        when(connectorConfig.getLogicalName()).thenReturn("server1");
+        when(connectorConfig.getBinlogPipelineThreads()).thenReturn(4);
+        when(connectorConfig.getBinlogPipelineQueueSize()).thenReturn(8);
+
+        pipeline = new BinlogEventPipeline(BinlogConnector.class, connectorConfig, () -> {
+        }, consumed::add, failures::add, errorHandler);
+    }
+
+    @After
+    public void afterEach() {
+        pipeline.close();
+    }
+
+    @Test
+    public void shouldPassInterleavedEventsInBinlogOrder() throws Exception {
+        final int rowsEvents = 200;
+        for (int i = 0; i < rowsEvents; i++) {
+            pipeline.onEvent(tableMapEvent(i));
+            pipeline.onEvent(rowsEvent(i));
+        }
+
+        Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> consumed.size() == 2 * rowsEvents);
+
+        for (int i = 0; i < rowsEvents; i++) {
+            final Event tableMap = consumed.get(2 * i);
+            assertThat(tableMap.<EventHeaderV4> getHeader().getEventType()).isEqualTo(EventType.TABLE_MAP);
+            assertThat(tableMap.<EventHeaderV4> getHeader().getPosition()).isEqualTo(2L * i);
+
+            final Event rows = consumed.get(2 * i + 1);
+            assertThat(rows.<EventHeaderV4> getHeader().getPosition()).isEqualTo(2L * i + 1);
+            final WriteRowsEventData data = rows.getData();
+            assertThat(data.getTableId()).isEqualTo(TABLE_ID);
+            assertThat(data.getRows().get(0)).containsExactly((Serializable) i);
+        }
+        assertThat(failures).isEmpty();
+        verify(errorHandler, never()).setProducerThrowable(any());
+    }
+
+    @Test
+    public void shouldReportDeserializationFailureAndSkipEvent() throws Exception {
+        pipeline.onEvent(tableMapEvent(0));
+        pipeline.onEvent(rowsEvent(0));
+
+        // The table map of the table is unknown when the next rows event is read
+        tableMapEventByTableId.clear();
+        pipeline.onEvent(rowsEvent(1));
+
+        pipeline.onEvent(tableMapEvent(2));
+        pipeline.onEvent(rowsEvent(2));
+
+        Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> consumed.size() == 4);
+
+        // The failure is reported just as the binlog client reports rows events it cannot read, and the event is skipped
+        assertThat(failures).hasSize(1);
+        assertThat(failures.get(0)).isInstanceOf(EventDataDeserializationException.class);
+        assertThat(failures.get(0).getCause()).isInstanceOf(MissingTableMapEventException.class);
+        final EventDataDeserializationException failure = (EventDataDeserializationException) failures.get(0);
+        assertThat(((EventHeaderV4) failure.getEventHeader()).getPosition()).isEqualTo(3L);
+
+        assertThat(consumed).extracting(event -> event.<EventHeaderV4> getHeader().getPosition()).containsExactly(0L, 1L, 4L, 5L);
+        final WriteRowsEventData data = consumed.get(3).getData();
+        assertThat(data.getRows().get(0)).containsExactly((Serializable) 2);
+        verify(errorHandler, never()).setProducerThrowable(any());
+    }
+
+    private Event tableMapEvent(int i) {
+        final TableMapEventData tableMapEvent = new TableMapEventData();
+        tableMapEvent.setTableId(TABLE_ID);
+        tableMapEvent.setDatabase("db");
+        tableMapEvent.setTable("t" + i);
+        tableMapEvent.setColumnTypes(new byte[]{ (byte) ColumnType.LONG.getCode() });
+        tableMapEvent.setColumnMetadata(new int[]{ 0 });
+        tableMapEvent.setColumnNullability(new BitSet());
+        // The binlog client caches the table map when reading the event, before it is processed
+        tableMapEventByTableId.put(TABLE_ID, tableMapEvent);
+        return new Event(header(EventType.TABLE_MAP, 2L * i), tableMapEvent);
+    }
+
+    private Event rowsEvent(int i) throws Exception {
+        final byte[] body = new byte[]{
+                // table id (6 bytes) and flags (2 bytes)
+                (byte) TABLE_ID, 0, 0, 0, 0, 0, 0, 0,
+                // number of columns and the included columns bitmap
+                1, 1,
+                // the row's null bitmap and its single 4-byte integer column
+                0, (byte) i, (byte) (i >> 8), (byte) (i >> 16), (byte) (i >> 24)
+        };
+        return new Event(header(EventType.WRITE_ROWS, 2L * i + 1), deserializer.deserialize(new ByteArrayInputStream(body)));
+    }
+
+    private static EventHeaderV4 header(EventType eventType, long position) {
+        final EventHeaderV4 header = new EventHeaderV4();
+        header.setEventType(eventType);
+        header.setNextPosition(position + 1);
+        header.setEventLength(1);
+        return header;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.binlog.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.WriteRowsEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.ColumnType;
+import com.github.shyiko.mysql.binlog.event.deserialization.MissingTableMapEventException;
+import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
+
+import io.debezium.config.CommonConnectorConfig.EventProcessingFailureHandlingMode;
+
+public class DeferredRowsEventDataDeserializerTest {
+
+    private static final long TABLE_ID = 42L;
+
+    private final Map<Long, TableMapEventData> tableMapEventByTableId = new HashMap<>();
+    private final DeferredRowsEventDataDeserializer deserializer = new DeferredRowsEventDataDeserializer(tableMapEventByTableId,
+            (tableMaps) -> new RowDeserializers.WriteRowsDeserializer(tableMaps, EventProcessingFailureHandlingMode.FAIL));
+
+    @Test
+    public void shouldDeserializeDeferredBody() throws Exception {
+        tableMapEventByTableId.put(TABLE_ID, tableMapEvent(ColumnType.LONG));
+
+        final DeferredRowsEventData data = deserializer.deserialize(new ByteArrayInputStream(writeRowsBody(1234)));
+
+        final WriteRowsEventData rows = (WriteRowsEventData) data.deserialize();
+        assertThat(rows.getTableId()).isEqualTo(TABLE_ID);
+        assertThat(rows.getRows()).hasSize(1);
+        assertThat(rows.getRows().get(0)).containsExactly((Serializable) 1234);
+    }
+
+    @Test
+    public void shouldDeserializeAgainstTableMapInEffectWhenRead() throws Exception {
+        tableMapEventByTableId.put(TABLE_ID, tableMapEvent(ColumnType.LONG));
+
+        final DeferredRowsEventData data = deserializer.deserialize(new ByteArrayInputStream(writeRowsBody(1234)));
+
+        // A later table map event for the same table number must not affect the deferred body
+        tableMapEventByTableId.put(TABLE_ID, tableMapEvent(ColumnType.TINY));
+
+        final WriteRowsEventData rows = (WriteRowsEventData) data.deserialize();
+        assertThat(rows.getRows().get(0)).containsExactly((Serializable) 1234);
+    }
+
+    @Test
+    public void shouldFailDeserializationWithoutTableMap() throws Exception {
+        final DeferredRowsEventData data = deserializer.deserialize(new ByteArrayInputStream(writeRowsBody(1234)));
+
+        assertThatThrownBy(data::deserialize).isInstanceOf(MissingTableMapEventException.class);
+    }
+
+    private static TableMapEventData tableMapEvent(ColumnType columnType) {
+        final TableMapEventData tableMapEvent = new TableMapEventData();
+        tableMapEvent.setTableId(TABLE_ID);
+        tableMapEvent.setDatabase("db");
+        tableMapEvent.setTable("t");
+        tableMapEvent.setColumnTypes(new byte[]{ (byte) columnType.getCode() });
+        tableMapEvent.setColumnMetadata(new int[]{ 0 });
+        tableMapEvent.setColumnNullability(new BitSet());
+        return tableMapEvent;
+    }
+
+    private static byte[] writeRowsBody(int value) {
+        return new byte[]{
+                // table id (6 bytes) and flags (2 bytes)
+                (byte) TABLE_ID, 0, 0, 0, 0, 0, 0, 0,
+                // number of columns and the included columns bitmap
+                1, 1,
+                // the row's null bitmap and its single 4-byte integer column
+                0, (byte) value, (byte) (value >> 8), (byte) (value >> 16), (byte) (value >> 24)
+        };
+    }
+}
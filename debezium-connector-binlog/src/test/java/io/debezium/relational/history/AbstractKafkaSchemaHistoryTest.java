@@ -6,19 +6,28 @@
 package io.debezium.relational.history;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.config.ConfigValue;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.junit.After;
 import org.junit.AfterClass;
@@ -35,6 +44,9 @@
 import io.debezium.kafka.KafkaCluster;
 import io.debezium.pipeline.spi.Offsets;
 import io.debezium.pipeline.spi.Partition;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
 import io.debezium.relational.Tables;
 import io.debezium.relational.ddl.DdlParser;
 import io.debezium.storage.kafka.history.KafkaSchemaHistory;
@@ -92,6 +104,7 @@ public void beforeEach() throws Exception {
 
         setLogPosition(0);
         history = new KafkaSchemaHistory();
+        TestDeserializer.onFirstValue = null;
     }
 
     @After
@@ -402,6 +415,211 @@ public void differentiateStorageExistsFromHistoryExists() {
         assertTrue(history.storageExists());
     }
 
+    @Test
+    public void shouldRecoverFromEmptyTopic() throws Exception {
+        String topicName = "recover-empty-schema-changes";
+        kafka.createTopic(topicName, 1, 1);
+
+        history.configure(recoveryConfig(topicName).build(), null, SchemaHistoryMetrics.NOOP, true);
+        Tables tables = new Tables();
+        setLogPosition(100000);
+        history.recover(offsets, tables, getDdlParser());
+
+        assertThat(tables.size()).isZero();
+    }
+
+    @Test
+    public void shouldRecoverRecordsInOrderAcrossBatches() throws Exception {
+        String topicName = "recover-in-order-schema-changes";
+        kafka.createTopic(topicName, 1, 1);
+        recordCreateAndDropTables(topicName, 40);
+
+        // Every poll returns a single record, so that the records are passed to the recovery in many batches
+        history.configure(recoveryConfig(topicName)
+                .with(KafkaSchemaHistory.consumerConfigPropertyName(ConsumerConfig.MAX_POLL_RECORDS_CONFIG), 1)
+                .build(), null, SchemaHistoryMetrics.NOOP, true);
+        Tables tables = new Tables();
+        setLogPosition(100000);
+        history.recover(offsets, tables, getDdlParser());
+
+        // Each table is dropped by the record following its creation, so only the last table is left if the order is kept
+        assertThat(tableNames(tables)).containsExactly("t39");
+    }
+
+    @Test
+    public void shouldStopRecoveryAtEndOffset() throws Exception {
+        String topicName = "recover-end-offset-schema-changes";
+        kafka.createTopic(topicName, 1, 1);
+        recordCreateAndDropTables(topicName, 5);
+
+        // Append a record once the recovery has started reading, i.e. after it determined the end offset
+        final String lateRecord = "{\"source\":{\"server\":\"my-server\"},\"position\":{\"filename\":\"my-txn-file.log\",\"position\":60}," +
+                "\"databaseName\":\"db1\",\"ddl\":\"CREATE TABLE late (id INTEGER NOT NULL PRIMARY KEY);\"}";
+        TestDeserializer.onFirstValue = () -> {
+            try (KafkaProducer<String, String> producer = new KafkaProducer<>(intruderConfig().asProperties())) {
+                producer.send(new ProducerRecord<>(topicName, PARTITION_NO, null, lateRecord)).get();
+            }
+            catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+
+        history.configure(recoveryConfig(topicName)
+                .with(KafkaSchemaHistory.consumerConfigPropertyName(ConsumerConfig.MAX_POLL_RECORDS_CONFIG), 1)
+                .with(KafkaSchemaHistory.consumerConfigPropertyName(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG), TestDeserializer.class.getName())
+                .build(), null, SchemaHistoryMetrics.NOOP, true);
+        Tables tables = new Tables();
+        setLogPosition(100000);
+        history.recover(offsets, tables, getDdlParser());
+
+        assertThat(tableNames(tables)).containsExactly("t4");
+    }
+
+    @Test
+    public void shouldPropagateFailureOfRecoveryReader() throws Exception {
+        String topicName = "recover-failure-schema-changes";
+        kafka.createTopic(topicName, 1, 1);
+        recordCreateAndDropTables(topicName, 3);
+        try (KafkaProducer<String, String> producer = new KafkaProducer<>(intruderConfig().asProperties())) {
+            producer.send(new ProducerRecord<>(topicName, PARTITION_NO, null, TestDeserializer.POISON)).get();
+        }
+
+        history.configure(recoveryConfig(topicName)
+                .with(KafkaSchemaHistory.consumerConfigPropertyName(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG), TestDeserializer.class.getName())
+                .build(), null, SchemaHistoryMetrics.NOOP, true);
+        setLogPosition(100000);
+
+        assertThatThrownBy(() -> history.recover(offsets, new Tables(), getDdlParser()))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    public void shouldRecoverFromCheckpointReadingTheTopicBackwards() throws Exception {
+        String topicName = "checkpoint-schema-changes";
+        kafka.createTopic(topicName, 1, 1);
+
+        history.configure(recoveryConfig(topicName).with(SchemaHistory.CHECKPOINT_INTERVAL, 1000).build(), null, SchemaHistoryMetrics.NOOP, true);
+        history.start();
+        for (int i = 0; i < 2500; i++) {
+            setLogPosition(i + 1);
+            final TableChanges changes = new TableChanges().create(Table.editor()
+                    .tableId(new TableId("db1", null, "t" + i))
+                    .addColumn(Column.editor().name("id").type("INTEGER").jdbcType(Types.INTEGER).create())
+                    .setPrimaryKeyNames("id")
+                    .create());
+            if (i > 0) {
+                changes.drop(new TableId("db1", null, "t" + (i - 1)));
+            }
+            history.record(offsets.getTheOnlyPartition().getSourcePartition(), offsets.getTheOnlyOffset().getOffset(), "db1", null, null, changes,
+                    Instant.now());
+        }
+        history.stop();
+
+        // Checkpoints were stored after the 1000th and the 2000th record
+        assertThat(recoverFromCheckpoint(topicName, 2500)).containsExactly("t2499");
+        // The newest checkpoint follows the offsets, so the older one is used
+        assertThat(recoverFromCheckpoint(topicName, 1500)).containsExactly("t1499");
+    }
+
+    private List<String> recoverFromCheckpoint(String topicName, int logPosition) throws InterruptedException {
+        final AtomicInteger recovered = new AtomicInteger();
+        history = new KafkaSchemaHistory();
+        history.configure(recoveryConfig(topicName).with(SchemaHistory.CHECKPOINT_INTERVAL, 1000).build(), null, new SchemaHistoryListener() {
+            @Override
+            public void started() {
+            }
+
+            @Override
+            public void stopped() {
+            }
+
+            @Override
+            public void recoveryStarted() {
+            }
+
+            @Override
+            public void recoveryStopped() {
+            }
+
+            @Override
+            public void onChangeFromHistory(HistoryRecord record) {
+                recovered.incrementAndGet();
+            }
+
+            @Override
+            public void onChangeApplied(HistoryRecord record) {
+            }
+        }, true);
+        final Tables tables = new Tables();
+        setLogPosition(logPosition);
+        history.recover(offsets, tables, getDdlParser());
+
+        // Only the newest checkpoint at or before the offsets and the records following it are recovered
+        assertThat(recovered.get()).isEqualTo(logPosition % 1000 + 1);
+        return tableNames(tables);
+    }
+
+    private void recordCreateAndDropTables(String topicName, int count) {
+        history.configure(recoveryConfig(topicName).build(), null, SchemaHistoryMetrics.NOOP, true);
+        history.start();
+        for (int i = 0; i < count; i++) {
+            setLogPosition(i + 1);
+            String ddl = "CREATE TABLE t" + i + " ( id INTEGER NOT NULL PRIMARY KEY);" + (i > 0 ? " DROP TABLE t" + (i - 1) + ";" : "");
+            history.record(offsets.getTheOnlyPartition().getSourcePartition(), offsets.getTheOnlyOffset().getOffset(), "db1", ddl);
+        }
+        history.stop();
+        history = new KafkaSchemaHistory();
+    }
+
+    private static Configuration.Builder recoveryConfig(String topicName) {
+        return Configuration.create()
+                .with(KafkaSchemaHistory.BOOTSTRAP_SERVERS, kafka.brokerList())
+                .with(KafkaSchemaHistory.TOPIC, topicName)
+                .with(SchemaHistory.NAME, "my-db-history")
+                .with(KafkaSchemaHistory.RECOVERY_POLL_INTERVAL_MS, 500)
+                .with(KafkaSchemaHistory.INTERNAL_CONNECTOR_CLASS, "org.apache.kafka.connect.source.SourceConnector")
+                .with(KafkaSchemaHistory.INTERNAL_CONNECTOR_ID, "dbz-test");
+    }
+
+    private static Configuration intruderConfig() {
+        return Configuration.create()
+                .withDefault(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafka.brokerList())
+                .withDefault(ProducerConfig.CLIENT_ID_CONFIG, "intruder")
+                .withDefault(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class)
+                .withDefault(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class)
+                .build();
+    }
+
+    private static List<String> tableNames(Tables tables) {
+        return tables.tableIds().stream().map(TableId::table).sorted().collect(Collectors.toList());
+    }
+
+    /**
+     * A deserializer used by the recovery consumer, which fails on a poison value and can run an action when
+     * reading the first value.
+     */
+    public static class TestDeserializer implements Deserializer<String> {
+
+        static final String POISON = "poison";
+        static volatile Runnable onFirstValue;
+
+        private final StringDeserializer delegate = new StringDeserializer();
+
+        @Override
+        public String deserialize(String topic, byte[] data) {
+            final Runnable action = onFirstValue;
+            if (action != null) {
+                onFirstValue = null;
+                action.run();
+            }
+            final String value = delegate.deserialize(topic, data);
+            if (POISON.equals(value)) {
+                throw new SerializationException("Cannot deserialize poison record");
+            }
+            return value;
+        }
+    }
+
     @Test
     @FixFor("DBZ-2144")
     public void shouldValidateMandatoryValues() {
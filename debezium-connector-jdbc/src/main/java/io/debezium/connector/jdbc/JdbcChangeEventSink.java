@@ -10,17 +10,27 @@
 import java.sql.SQLException;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
 
+import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.errors.ConnectException;
 import org.apache.kafka.connect.errors.DataException;
 import org.apache.kafka.connect.sink.SinkRecord;
 import org.hibernate.JDBCException;
+import org.hibernate.SessionFactory;
 import org.hibernate.StatelessSession;
 import org.hibernate.Transaction;
 import org.hibernate.dialect.DatabaseVersion;
@@ -28,7 +38,9 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.connector.jdbc.JdbcSinkConnectorConfig.InsertMode;
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+import io.debezium.connector.jdbc.dialect.StagingTableDialect;
 import io.debezium.connector.jdbc.relational.TableDescriptor;
 import io.debezium.metadata.CollectionId;
 import io.debezium.sink.DebeziumSinkRecord;
@@ -37,9 +49,14 @@
 import io.debezium.util.Clock;
 import io.debezium.util.Metronome;
 import io.debezium.util.Stopwatch;
+import io.debezium.util.Threads;
 
 /**
  * A {@link ChangeEventSink} for a JDBC relational database.
+ * <p>
+ * When configured with more than one flush thread, the buffers of different tables are flushed concurrently, each
+ * thread writing through its own session. The flushes of a single table are still executed in order, and all of them
+ * are completed before {@link #execute(Collection)} returns.
  *
  * @author Chris Cranford
  */
@@ -56,14 +73,48 @@ public class JdbcChangeEventSink implements ChangeEventSink {
     private final RecordWriter recordWriter;
     private final int flushMaxRetries;
     private final Duration flushRetryDelay;
+    private final StagingTableDialect stagingTableDialect;
+
+    private final SessionFactory sessionFactory;
+    private final QueryBinderResolver queryBinderResolver;
+    private final ExecutorService flushExecutor;
+    private final Queue<RecordWriter> flushRecordWriters = new ConcurrentLinkedQueue<>();
+    private final List<StatelessSession> flushSessions = new CopyOnWriteArrayList<>();
+    private final Map<CollectionId, CompletableFuture<Void>> pendingFlushesByTable = new HashMap<>();
 
     public JdbcChangeEventSink(JdbcSinkConnectorConfig config, StatelessSession session, DatabaseDialect dialect, RecordWriter recordWriter) {
+        this(config, session, dialect, recordWriter, null, null);
+    }
+
+    public JdbcChangeEventSink(JdbcSinkConnectorConfig config, StatelessSession session, DatabaseDialect dialect, RecordWriter recordWriter,
+                               SessionFactory sessionFactory, QueryBinderResolver queryBinderResolver) {
         this.config = config;
         this.dialect = dialect;
         this.session = session;
         this.recordWriter = recordWriter;
         this.flushMaxRetries = config.getFlushMaxRetries();
         this.flushRetryDelay = Duration.of(config.getFlushRetryDelayMs(), ChronoUnit.MILLIS);
+        this.sessionFactory = sessionFactory;
+        this.queryBinderResolver = queryBinderResolver;
+        if (config.getInsertMode() == InsertMode.COPY && !dialect.isBulkLoadSupported()) {
+            throw new ConnectException("Insert mode '" + InsertMode.COPY.getValue() + "' is not supported by dialect " + dialect.getClass().getSimpleName());
+        }
+        if (config.isUseStagingTable() && dialect instanceof StagingTableDialect stagingDialect) {
+            this.stagingTableDialect = stagingDialect;
+        }
+        else {
+            if (config.isUseStagingTable()) {
+                LOGGER.warn("Staging tables are not supported by dialect {}, records are written using regular statements", dialect.getClass().getSimpleName());
+            }
+            this.stagingTableDialect = null;
+        }
+        if (config.getFlushMaxThreads() > 1 && sessionFactory != null) {
+            LOGGER.info("Flushing the buffers of different tables using up to {} threads", config.getFlushMaxThreads());
+            this.flushExecutor = Threads.newFixedThreadPool(JdbcSinkConnector.class, "jdbc-sink", "flush", config.getFlushMaxThreads());
+        }
+        else {
+            this.flushExecutor = null;
+        }
 
         final DatabaseVersion version = this.dialect.getVersion();
         LOGGER.info("Database version {}.{}.{}", version.getMajor(), version.getMinor(), version.getMicro());
@@ -72,6 +123,7 @@ public JdbcChangeEventSink(JdbcSinkConnectorConfig config, StatelessSession sess
     public void execute(Collection<SinkRecord> records) {
         final Map<CollectionId, Buffer> upsertBufferByTable = new LinkedHashMap<>();
         final Map<CollectionId, Buffer> deleteBufferByTable = new LinkedHashMap<>();
+        final Map<CollectionId, ReducedChangeBuffer> reducedBufferByTable = new LinkedHashMap<>();
 
         for (SinkRecord kafkaSinkRecord : records) {
 
@@ -100,6 +152,8 @@ public void execute(Collection<SinkRecord> records) {
                 // Here we want to flush the buffer to let truncate having effect on the buffered events.
                 flushBuffers(upsertBufferByTable);
                 flushBuffers(deleteBufferByTable);
+                flushReducedBuffers(reducedBufferByTable);
+                awaitPendingFlushes();
 
                 try {
                     final TableDescriptor table = checkAndApplyTableChangesIfNeeded(collectionId, record);
@@ -111,22 +165,21 @@ public void execute(Collection<SinkRecord> records) {
                 }
             }
 
-            if (record.isDelete() || record.isTombstone()) {
-                if (!config.isDeleteEnabled()) {
-                    LOGGER.debug("Deletes are not enabled, skipping delete for topic '{}'", record.topicName());
-                    continue;
-                }
+            if ((record.isDelete() || record.isTombstone()) && !config.isDeleteEnabled()) {
+                LOGGER.debug("Deletes are not enabled, skipping delete for topic '{}'", record.topicName());
+                continue;
+            }
 
+            if (config.isUseReductionBuffer() && (!record.keyFieldNames().isEmpty() || reducedBufferByTable.containsKey(collectionId))) {
+                // The net change of every key is computed over the whole batch, so changing keys do not cause flushes
+                flushReducedChangesWithRetries(collectionId, getChangesToFlush(reducedBufferByTable, collectionId, record));
+            }
+            else if (record.isDelete() || record.isTombstone()) {
                 final Buffer upsertBufferToFlush = upsertBufferByTable.get(collectionId);
                 if (upsertBufferToFlush != null && !upsertBufferToFlush.isEmpty()) {
                     // When a delete event arrives, update buffer must be flushed to avoid losing the delete
                     // for the same record after its update.
-                    if (config.isUseReductionBuffer()) {
-                        upsertBufferToFlush.remove(record);
-                    }
-                    else {
-                        flushBufferWithRetries(collectionId, upsertBufferToFlush);
-                    }
+                    flushBufferWithRetries(collectionId, upsertBufferToFlush);
                 }
 
                 flushBufferRecordsWithRetries(collectionId, getRecordsToFlush(deleteBufferByTable, collectionId, record));
@@ -136,12 +189,7 @@ public void execute(Collection<SinkRecord> records) {
                 if (deleteBufferToFlush != null && !deleteBufferToFlush.isEmpty()) {
                     // When an insert arrives, delete buffer must be flushed to avoid losing an insert for the same record after its deletion.
                     // this because at the end we will always flush inserts before deletes.
-                    if (config.isUseReductionBuffer()) {
-                        deleteBufferToFlush.remove(record);
-                    }
-                    else {
-                        flushBufferWithRetries(collectionId, deleteBufferToFlush);
-                    }
+                    flushBufferWithRetries(collectionId, deleteBufferToFlush);
                 }
 
                 flushBufferRecordsWithRetries(collectionId, getRecordsToFlush(upsertBufferByTable, collectionId, record));
@@ -150,6 +198,8 @@ public void execute(Collection<SinkRecord> records) {
 
         flushBuffers(upsertBufferByTable);
         flushBuffers(deleteBufferByTable);
+        flushReducedBuffers(reducedBufferByTable);
+        awaitPendingFlushes();
     }
 
     private void validate(JdbcSinkRecord record) {
@@ -183,31 +233,48 @@ private BufferFlushRecords getRecordsToFlush(Map<CollectionId, Buffer> bufferMap
     }
 
     private Buffer getOrCreateBuffer(Map<CollectionId, Buffer> bufferMap, CollectionId collectionId, JdbcSinkRecord record) {
-        return bufferMap.computeIfAbsent(collectionId, (id) -> {
-            final TableDescriptor tableDescriptor;
-            try {
-                tableDescriptor = checkAndApplyTableChangesIfNeeded(collectionId, record);
-            }
-            catch (SQLException | JDBCException e) {
-                throw new ConnectException("Error while checking and applying table changes for collection '" + collectionId + "'", e);
-            }
-            return createBuffer(config, tableDescriptor, record);
-        });
+        return bufferMap.computeIfAbsent(collectionId, (id) -> new RecordBuffer(config, getTableDescriptorForBuffer(collectionId, record)));
     }
 
-    // Describes a specific buffer and a potential subset of records in the buffer to be flushed
-    private record BufferFlushRecords(Buffer buffer, List<JdbcSinkRecord> records) {
+    private BufferFlushChanges getChangesToFlush(Map<CollectionId, ReducedChangeBuffer> bufferMap, CollectionId collectionId, JdbcSinkRecord record) {
+        ReducedChangeBuffer buffer = getOrCreateReducedBuffer(bufferMap, collectionId, record);
+
+        if (isSchemaChanged(record, buffer.getTableDescriptor())) {
+            flushReducedChangesWithRetries(collectionId, buffer.flush(), buffer.getTableDescriptor());
+
+            // Explicitly remove as we need to recreate the buffer
+            bufferMap.remove(collectionId);
+
+            buffer = getOrCreateReducedBuffer(bufferMap, collectionId, record);
+        }
+
+        return new BufferFlushChanges(buffer, buffer.add(record));
     }
 
-    private Buffer createBuffer(JdbcSinkConnectorConfig config, TableDescriptor tableDescriptor, JdbcSinkRecord record) {
-        if (config.isUseReductionBuffer() && !record.keyFieldNames().isEmpty()) {
-            return new ReducedRecordBuffer(config, tableDescriptor);
+    private ReducedChangeBuffer getOrCreateReducedBuffer(Map<CollectionId, ReducedChangeBuffer> bufferMap, CollectionId collectionId, JdbcSinkRecord record) {
+        return bufferMap.computeIfAbsent(collectionId, (id) -> new ReducedChangeBuffer(config, getTableDescriptorForBuffer(collectionId, record)));
+    }
+
+    private TableDescriptor getTableDescriptorForBuffer(CollectionId collectionId, JdbcSinkRecord record) {
+        // The table may be altered, so its records already buffered must have been written
+        awaitPendingFlushes(collectionId);
+
+        try {
+            return checkAndApplyTableChangesIfNeeded(collectionId, record);
         }
-        else {
-            return new RecordBuffer(config, tableDescriptor);
+        catch (SQLException | JDBCException e) {
+            throw new ConnectException("Error while checking and applying table changes for collection '" + collectionId + "'", e);
         }
     }
 
+    // Describes a specific buffer and a potential subset of records in the buffer to be flushed
+    private record BufferFlushRecords(Buffer buffer, List<JdbcSinkRecord> records) {
+    }
+
+    // Describes a specific reduced buffer and the net changes of its keys to be flushed
+    private record BufferFlushChanges(ReducedChangeBuffer buffer, ReducedChangeBuffer.Changes changes) {
+    }
+
     private boolean isSchemaChanged(JdbcSinkRecord record, TableDescriptor tableDescriptor) {
         Set<String> missingFields = dialect.resolveMissingFields(record, tableDescriptor);
         LOGGER.debug("Schema change detected for '{}', missing fields: {}", tableDescriptor.getId().toFullIdentiferString(), missingFields);
@@ -218,6 +285,20 @@ private void flushBuffers(Map<CollectionId, Buffer> bufferByTable) {
         bufferByTable.forEach(this::flushBufferWithRetries);
     }
 
+    private void flushReducedBuffers(Map<CollectionId, ReducedChangeBuffer> bufferByTable) {
+        bufferByTable.forEach((collectionId, buffer) -> flushReducedChangesWithRetries(collectionId, buffer.flush(), buffer.getTableDescriptor()));
+    }
+
+    private void flushReducedChangesWithRetries(CollectionId collectionId, BufferFlushChanges bufferFlushChanges) {
+        flushReducedChangesWithRetries(collectionId, bufferFlushChanges.changes(), bufferFlushChanges.buffer().getTableDescriptor());
+    }
+
+    private void flushReducedChangesWithRetries(CollectionId collectionId, ReducedChangeBuffer.Changes changes, TableDescriptor tableDescriptor) {
+        // The flushes of a table are executed in order, so the deletes are applied before the upserts
+        flushBufferWithRetries(collectionId, changes.deletes(), tableDescriptor);
+        flushBufferWithRetries(collectionId, changes.upserts(), tableDescriptor);
+    }
+
     private void flushBufferRecordsWithRetries(CollectionId collectionId, BufferFlushRecords bufferFlushRecords) {
         flushBufferWithRetries(collectionId, bufferFlushRecords.records(), bufferFlushRecords.buffer.getTableDescriptor());
     }
@@ -227,6 +308,82 @@ private void flushBufferWithRetries(CollectionId collectionId, Buffer buffer) {
     }
 
     private void flushBufferWithRetries(CollectionId collectionId, List<JdbcSinkRecord> toFlush, TableDescriptor tableDescriptor) {
+        if (flushExecutor == null) {
+            flushBufferWithRetries(collectionId, toFlush, tableDescriptor, recordWriter);
+        }
+        else if (!toFlush.isEmpty()) {
+            // Chaining the flushes of a table keeps them in order, while the flushes of other tables run concurrently
+            final CompletableFuture<Void> previousFlush = pendingFlushesByTable.getOrDefault(collectionId, CompletableFuture.completedFuture(null));
+            pendingFlushesByTable.put(collectionId, previousFlush.thenRunAsync(() -> {
+                final RecordWriter writer = acquireFlushRecordWriter();
+                try {
+                    flushBufferWithRetries(collectionId, toFlush, tableDescriptor, writer);
+                }
+                finally {
+                    flushRecordWriters.add(writer);
+                }
+            }, flushExecutor));
+        }
+    }
+
+    private RecordWriter acquireFlushRecordWriter() {
+        final RecordWriter writer = flushRecordWriters.poll();
+        if (writer != null) {
+            return writer;
+        }
+        final StatelessSession flushSession = sessionFactory.openStatelessSession();
+        flushSessions.add(flushSession);
+        return new RecordWriter(flushSession, queryBinderResolver, config, dialect);
+    }
+
+    private void awaitPendingFlushes() {
+        if (pendingFlushesByTable.isEmpty()) {
+            return;
+        }
+        try {
+            awaitFlush(CompletableFuture.allOf(pendingFlushesByTable.values().toArray(new CompletableFuture[0])));
+        }
+        finally {
+            pendingFlushesByTable.clear();
+        }
+    }
+
+    private void awaitPendingFlushes(CollectionId collectionId) {
+        final CompletableFuture<Void> pendingFlush = pendingFlushesByTable.remove(collectionId);
+        if (pendingFlush != null) {
+            try {
+                awaitFlush(pendingFlush);
+            }
+            catch (ConnectException e) {
+                // Let the flushes of the other tables complete before failing
+                awaitPendingFlushesQuietly();
+                throw e;
+            }
+        }
+    }
+
+    private void awaitPendingFlushesQuietly() {
+        try {
+            awaitPendingFlushes();
+        }
+        catch (ConnectException e) {
+            LOGGER.debug("Flush failed while waiting for pending flushes to complete", e);
+        }
+    }
+
+    private void awaitFlush(CompletableFuture<Void> flush) {
+        try {
+            flush.join();
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof ConnectException connectException) {
+                throw connectException;
+            }
+            throw new ConnectException("Failed to process a sink record", e.getCause());
+        }
+    }
+
+    private void flushBufferWithRetries(CollectionId collectionId, List<JdbcSinkRecord> toFlush, TableDescriptor tableDescriptor, RecordWriter writer) {
         int retries = 0;
         Exception lastException = null;
 
@@ -243,7 +400,7 @@ private void flushBufferWithRetries(CollectionId collectionId, List<JdbcSinkReco
                         throw new ConnectException("Interrupted while waiting to retry flush records", e);
                     }
                 }
-                flushBuffer(collectionId, toFlush, tableDescriptor);
+                flushBuffer(collectionId, toFlush, tableDescriptor, writer);
                 return;
             }
             catch (Exception e) {
@@ -259,7 +416,7 @@ private void flushBufferWithRetries(CollectionId collectionId, List<JdbcSinkReco
         throw new ConnectException("Exceeded max retries " + flushMaxRetries + " times, failed to process sink records", lastException);
     }
 
-    private void flushBuffer(CollectionId collectionId, List<JdbcSinkRecord> toFlush, TableDescriptor table) throws SQLException {
+    private void flushBuffer(CollectionId collectionId, List<JdbcSinkRecord> toFlush, TableDescriptor table, RecordWriter writer) throws SQLException {
         Stopwatch flushBufferStopwatch = Stopwatch.reusable();
         Stopwatch tableChangesStopwatch = Stopwatch.reusable();
         if (!toFlush.isEmpty()) {
@@ -268,7 +425,16 @@ private void flushBuffer(CollectionId collectionId, List<JdbcSinkRecord> toFlush
             tableChangesStopwatch.stop();
             String sqlStatement = getSqlStatement(table, toFlush.get(0));
             flushBufferStopwatch.start();
-            recordWriter.write(toFlush, sqlStatement);
+            final JdbcSinkRecord first = toFlush.get(0);
+            if (isStaged(first)) {
+                writer.writeStaged(stagingTableDialect, lastRecordPerKey(toFlush), table);
+            }
+            else if (config.getInsertMode() == InsertMode.COPY && !first.isDelete()) {
+                writer.writeBulk(first.keyFieldNames().isEmpty() ? toFlush : lastRecordPerKey(toFlush), table, sqlStatement);
+            }
+            else {
+                writer.write(toFlush, sqlStatement);
+            }
             flushBufferStopwatch.stop();
 
             LOGGER.trace("[PERF] Flush buffer execution time {}", flushBufferStopwatch.durations());
@@ -278,6 +444,16 @@ private void flushBuffer(CollectionId collectionId, List<JdbcSinkRecord> toFlush
 
     @Override
     public void close() {
+        if (flushExecutor != null) {
+            flushExecutor.shutdownNow();
+        }
+        for (StatelessSession flushSession : flushSessions) {
+            if (flushSession.isOpen()) {
+                flushSession.close();
+            }
+        }
+        flushSessions.clear();
+
         if (session != null && session.isOpen()) {
             LOGGER.info("Closing session.");
             session.close();
@@ -398,6 +574,25 @@ private TableDescriptor alterTableIfNeeded(CollectionId collectionId, JdbcSinkRe
         return readTable(collectionId);
     }
 
+    private boolean isStaged(JdbcSinkRecord record) {
+        if (stagingTableDialect == null || record.keyFieldNames().isEmpty()) {
+            return false;
+        }
+        return record.isDelete() || config.getInsertMode() == InsertMode.UPSERT;
+    }
+
+    /**
+     * A single set-based statement cannot change the same row twice, so only the latest record
+     * per key is kept, which matches the outcome of applying the records one by one.
+     */
+    private static List<JdbcSinkRecord> lastRecordPerKey(List<JdbcSinkRecord> records) {
+        final Map<Struct, JdbcSinkRecord> recordsByKey = new LinkedHashMap<>();
+        for (JdbcSinkRecord record : records) {
+            recordsByKey.put(record.filteredKey(), record);
+        }
+        return new ArrayList<>(recordsByKey.values());
+    }
+
     private String getSqlStatement(TableDescriptor table, JdbcSinkRecord record) {
         if (!record.isDelete()) {
             switch (config.getInsertMode()) {
@@ -410,6 +605,12 @@ private String getSqlStatement(TableDescriptor table, JdbcSinkRecord record) {
                     return dialect.getUpsertStatement(table, record);
                 case UPDATE:
                     return dialect.getUpdateStatement(table, record);
+                case COPY:
+                    // Used whenever the records cannot be bulk loaded
+                    if (record.keyFieldNames().isEmpty()) {
+                        return dialect.getInsertStatement(table, record);
+                    }
+                    return dialect.getUpsertStatement(table, record);
             }
         }
         else {
@@ -64,6 +64,8 @@ public class JdbcSinkConnectorConfig implements SinkConnectorConfig {
     public static final String USE_REDUCTION_BUFFER = "use.reduction.buffer";
     public static final String FLUSH_MAX_RETRIES = "flush.max.retries";
     public static final String FLUSH_RETRY_DELAY_MS = "flush.retry.delay.ms";
+    public static final String FLUSH_MAX_THREADS = "flush.max.threads";
+    public static final String USE_STAGING_TABLE = "use.staging.table";
     public static final String CONNECTION_RESTART_ON_ERRORS = "connection.restart.on.errors";
 
     // todo add support for the ValueConverter contract
@@ -149,7 +151,8 @@ public class JdbcSinkConnectorConfig implements SinkConnectorConfig {
             .withDescription("The insertion mode to use. " +
                     "'insert' - the default mode, uses standard SQL insert statements; " +
                     "'upsert' - uses upsert semantics for the database if its supported and requires setting primary.key.mode and primary.key.fields;" +
-                    "'update' - uses update semantics for the database if its supported.");
+                    "'update' - uses update semantics for the database if its supported; " +
+                    "'copy' - uses the bulk loading facility of the database (PostgreSQL COPY), with upsert semantics if primary key fields are defined.");
 
     public static final Field DELETE_ENABLED_FIELD = SinkConnectorConfig.DELETE_ENABLED_FIELD
             .withValidation(JdbcSinkConnectorConfig::validateDeleteEnabled);
@@ -227,6 +230,30 @@ public class JdbcSinkConnectorConfig implements SinkConnectorConfig {
             .withDefault(1000L)
             .withDescription("Delay to retry when fail to flush");
 
+    public static final Field FLUSH_MAX_THREADS_FIELD = Field.create(FLUSH_MAX_THREADS)
+            .withDisplayName("Max flush threads")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 8))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(1)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The maximum number of threads used to flush the buffered records of different tables concurrently, " +
+                    "each thread using its own connection. The records of a single table are always written in order. " +
+                    "Default is 1, which flushes the tables one after another.");
+
+    public static final Field USE_STAGING_TABLE_FIELD = Field.create(USE_STAGING_TABLE)
+            .withDisplayName("Specifies whether to apply upserts and deletes through a staging table.")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 9))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(false)
+            .withDescription("When set to true, the buffered upserts and deletes of a table are inserted into a session-scoped " +
+                    "temporary staging table and applied with a single set-based MERGE or DELETE statement per flush, " +
+                    "rather than with one statement per record. Only the most recent record per primary key is applied. " +
+                    "Supported for SQL Server, Oracle (18c or later) and Db2; ignored for other databases.");
+
     public static final Field USE_REDUCTION_BUFFER_FIELD = Field.create(USE_REDUCTION_BUFFER)
             .withDisplayName("Specifies whether to use the reduction buffer.")
             .withType(Type.BOOLEAN)
@@ -286,6 +313,8 @@ public class JdbcSinkConnectorConfig implements SinkConnectorConfig {
                     FIELD_EXCLUDE_LIST_FIELD,
                     FLUSH_MAX_RETRIES_FIELD,
                     FLUSH_RETRY_DELAY_MS_FIELD,
+                    FLUSH_MAX_THREADS_FIELD,
+                    USE_STAGING_TABLE_FIELD,
                     CONNECTION_RESTART_ON_ERRORS_FIELD,
                     CLOUDEVENTS_SCHEMA_NAME_PATTERN_FIELD)
             .create();
@@ -312,7 +341,13 @@ public enum InsertMode implements EnumeratedValue {
         /**
          * Events that create or change data are treated using standard SQL update semantics.
          */
-        UPDATE("update");
+        UPDATE("update"),
+
+        /**
+         * Events that create or change data are written using the database's native bulk loading facility,
+         * using upsert semantics if key fields are defined.
+         */
+        COPY("copy");
 
         private final String mode;
 
@@ -397,6 +432,8 @@ public String getValue() {
     private final boolean sqlServerIdentityInsert;
     private final int flushMaxRetries;
     private final long flushRetryDelayMs;
+    private final int flushMaxThreads;
+    private final boolean useStagingTable;
     private final FieldNameFilter fieldsFilter;
     private final int batchSize;
     private final boolean useReductionBuffer;
@@ -423,6 +460,8 @@ public JdbcSinkConnectorConfig(Map<String, String> props) {
         this.useReductionBuffer = config.getBoolean(USE_REDUCTION_BUFFER_FIELD);
         this.flushMaxRetries = config.getInteger(FLUSH_MAX_RETRIES_FIELD);
         this.flushRetryDelayMs = config.getLong(FLUSH_RETRY_DELAY_MS_FIELD);
+        this.flushMaxThreads = config.getInteger(FLUSH_MAX_THREADS_FIELD);
+        this.useStagingTable = config.getBoolean(USE_STAGING_TABLE_FIELD);
         this.connectionRestartOnErrors = config.getBoolean(CONNECTION_RESTART_ON_ERRORS_FIELD);
         this.cloudEventsSchemaNamePattern = config.getString(CLOUDEVENTS_SCHEMA_NAME_PATTERN_FIELD);
 
@@ -553,6 +592,14 @@ public long getFlushRetryDelayMs() {
         return flushRetryDelayMs;
     }
 
+    public int getFlushMaxThreads() {
+        return flushMaxThreads;
+    }
+
+    public boolean isUseStagingTable() {
+        return useStagingTable;
+    }
+
     public boolean isConnectionRestartOnErrors() {
         return connectionRestartOnErrors;
     }
@@ -103,7 +103,7 @@ public void start(Map<String, String> props) {
             QueryBinderResolver queryBinderResolver = new QueryBinderResolver();
             RecordWriter recordWriter = new RecordWriter(session, queryBinderResolver, config, databaseDialect);
 
-            changeEventSink = new JdbcChangeEventSink(config, session, databaseDialect, recordWriter);
+            changeEventSink = new JdbcChangeEventSink(config, session, databaseDialect, recordWriter, sessionFactory, queryBinderResolver);
         }
         finally {
             stateLock.unlock();
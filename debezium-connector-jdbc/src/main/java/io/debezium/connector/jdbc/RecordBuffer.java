@@ -88,9 +88,4 @@ public boolean isEmpty() {
     public TableDescriptor getTableDescriptor() {
         return tableDescriptor;
     }
-
-    @Override
-    public void remove(JdbcSinkRecord record) {
-        throw new IllegalStateException("Can't remove record in simple buffer");
-    }
 }
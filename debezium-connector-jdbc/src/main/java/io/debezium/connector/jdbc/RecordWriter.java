@@ -19,7 +19,9 @@
 import org.slf4j.LoggerFactory;
 
 import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+import io.debezium.connector.jdbc.dialect.StagingTableDialect;
 import io.debezium.connector.jdbc.field.JdbcFieldDescriptor;
+import io.debezium.connector.jdbc.relational.TableDescriptor;
 import io.debezium.sink.valuebinding.ValueBindDescriptor;
 import io.debezium.util.Stopwatch;
 
@@ -60,6 +62,63 @@ public void write(List<JdbcSinkRecord> records, String sqlStatement) {
         LOGGER.trace("[PERF] Total write execution time {}", writeStopwatch.durations());
     }
 
+    /**
+     * Writes the records using the dialect's bulk loading facility, falling back to the given statement
+     * if the records cannot be bulk loaded.
+     */
+    public void writeBulk(List<JdbcSinkRecord> records, TableDescriptor table, String fallbackSqlStatement) {
+        Stopwatch writeStopwatch = Stopwatch.reusable();
+        writeStopwatch.start();
+        final Transaction transaction = session.beginTransaction();
+
+        try {
+            session.doWork(conn -> {
+                if (!dialect.bulkLoad(conn, table, records)) {
+                    LOGGER.debug("Records for table '{}' cannot be bulk loaded, using regular statements", table.getId().name());
+                    processBatch(records, fallbackSqlStatement).execute(conn);
+                }
+            });
+            transaction.commit();
+        }
+        catch (Exception e) {
+            transaction.rollback();
+            throw e;
+        }
+        writeStopwatch.stop();
+        LOGGER.trace("[PERF] Total bulk write execution time {}", writeStopwatch.durations());
+    }
+
+    /**
+     * Writes the records into the dialect's staging table and applies them to the table with a single
+     * set-based statement, the records must not contain the same key more than once.
+     */
+    public void writeStaged(StagingTableDialect stagingDialect, List<JdbcSinkRecord> records, TableDescriptor table) {
+        Stopwatch writeStopwatch = Stopwatch.reusable();
+        writeStopwatch.start();
+        final JdbcSinkRecord record = records.get(0);
+        final Transaction transaction = session.beginTransaction();
+
+        try {
+            session.doWork(conn -> {
+                try (Statement statement = conn.createStatement()) {
+                    statement.execute(stagingDialect.getCreateStagingTableStatement(table, record));
+                    processBatch(records, stagingDialect.getStagingInsertStatement(table, record)).execute(conn);
+                    statement.executeUpdate(record.isDelete()
+                            ? stagingDialect.getDeleteFromStagingStatement(table, record)
+                            : stagingDialect.getMergeFromStagingStatement(table, record));
+                    statement.execute(stagingDialect.getDropStagingTableStatement());
+                }
+            });
+            transaction.commit();
+        }
+        catch (Exception e) {
+            transaction.rollback();
+            throw e;
+        }
+        writeStopwatch.stop();
+        LOGGER.trace("[PERF] Total staged write execution time {}", writeStopwatch.durations());
+    }
+
     private Work processBatch(List<JdbcSinkRecord> records, String sqlStatement) {
         return conn -> {
             try (PreparedStatement prepareStatement = conn.prepareStatement(sqlStatement)) {
@@ -109,6 +168,7 @@ private void bindValues(JdbcSinkRecord record, QueryBinder queryBinder) {
         switch (config.getInsertMode()) {
             case INSERT:
             case UPSERT:
+            case COPY:
                 index = bindKeyValuesToQuery(record, queryBinder, 1);
                 bindNonKeyValuesToQuery(record, queryBinder, index);
                 break;
@@ -0,0 +1,161 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.errors.ConnectException;
+
+import io.debezium.annotation.VisibleForTesting;
+import io.debezium.connector.jdbc.JdbcSinkConnectorConfig.InsertMode;
+import io.debezium.connector.jdbc.relational.TableDescriptor;
+
+/**
+ * A buffer reducing the inserts, updates and deletes of a table to the net change of each primary key.
+ * <p>
+ * The deletes and the upserts of a key are tracked together rather than in separate buffers, so a key changing between
+ * the two states does not require flushing the buffered changes of the other keys. The changes are written as one batch
+ * of deletes followed by one batch of upserts.
+ */
+public class ReducedChangeBuffer {
+
+    private final JdbcSinkConnectorConfig connectorConfig;
+    private final TableDescriptor tableDescriptor;
+    private final boolean keepDeleteBeforeUpsert;
+    private Schema keySchema;
+    private Schema valueSchema;
+
+    private final Map<Struct, KeyChange> changes = new LinkedHashMap<>();
+    private int statementCount;
+
+    @VisibleForTesting
+    public ReducedChangeBuffer(JdbcSinkConnectorConfig connectorConfig) {
+        this(connectorConfig, null);
+    }
+
+    public ReducedChangeBuffer(JdbcSinkConnectorConfig connectorConfig, TableDescriptor tableDescriptor) {
+        this.connectorConfig = connectorConfig;
+        this.tableDescriptor = tableDescriptor;
+        // An upsert replaces the row whatever its state, while the other modes rely on the delete having been applied
+        this.keepDeleteBeforeUpsert = connectorConfig.getInsertMode() != InsertMode.UPSERT;
+    }
+
+    /**
+     * Adds a {@link JdbcSinkRecord} to the buffer, flushing the buffer when the record cannot be written together
+     * with the buffered ones or when the number of statements to write reaches {@link JdbcSinkConnectorConfig#getBatchSize()}.
+     * A key accounts for two statements when both its delete and its upsert are kept.
+     *
+     * @param record the Debezium sink record
+     * @return the changes to write, never {@code null}
+     */
+    public Changes add(JdbcSinkRecord record) {
+        final Struct key = record.filteredKey();
+        if (key == null) {
+            throw new ConnectException("No struct-based primary key defined for record key/value, reduction buffer require struct based primary key");
+        }
+        final boolean isDelete = record.isDelete() || record.isTombstone();
+
+        Changes flushed = Changes.EMPTY;
+        if (changes.isEmpty()) {
+            keySchema = key.schema();
+            valueSchema = null;
+        }
+        else if (!Objects.equals(keySchema, key.schema()) || (!isDelete && valueSchema != null && !Objects.equals(valueSchema, record.valueSchema()))) {
+            // Deletes are bound by key only, the upserts must all have the same structure
+            flushed = flush();
+            keySchema = key.schema();
+        }
+        if (!isDelete) {
+            valueSchema = record.valueSchema();
+        }
+
+        final KeyChange change = changes.computeIfAbsent(key, k -> new KeyChange());
+        statementCount -= change.statementCount();
+        if (isDelete) {
+            change.delete = record;
+            change.upsert = null;
+        }
+        else {
+            if (!keepDeleteBeforeUpsert) {
+                change.delete = null;
+            }
+            change.upsert = record;
+        }
+        statementCount += change.statementCount();
+
+        if (!flushed.isEmpty()) {
+            // current record is already added in internal buffer after flush,
+            // just return the flushed changes ignoring buffer size check
+            return flushed;
+        }
+
+        if (statementCount >= connectorConfig.getBatchSize()) {
+            flushed = flush();
+        }
+
+        return flushed;
+    }
+
+    /**
+     * Clears the buffer and returns the net changes of the buffered keys.
+     *
+     * @return the changes to write, never {@code null}
+     */
+    public Changes flush() {
+        if (changes.isEmpty()) {
+            return Changes.EMPTY;
+        }
+        final List<JdbcSinkRecord> deletes = new ArrayList<>();
+        final List<JdbcSinkRecord> upserts = new ArrayList<>();
+        for (KeyChange change : changes.values()) {
+            if (change.delete != null) {
+                deletes.add(change.delete);
+            }
+            if (change.upsert != null) {
+                upserts.add(change.upsert);
+            }
+        }
+        changes.clear();
+        statementCount = 0;
+        valueSchema = null;
+        return new Changes(deletes, upserts);
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    public TableDescriptor getTableDescriptor() {
+        return tableDescriptor;
+    }
+
+    /**
+     * The net changes of a set of keys. The deletes must be written before the upserts.
+     */
+    public record Changes(List<JdbcSinkRecord> deletes, List<JdbcSinkRecord> upserts) {
+
+        private static final Changes EMPTY = new Changes(List.of(), List.of());
+
+        public boolean isEmpty() {
+            return deletes.isEmpty() && upserts.isEmpty();
+        }
+    }
+
+    private static class KeyChange {
+        private JdbcSinkRecord delete;
+        private JdbcSinkRecord upsert;
+
+        private int statementCount() {
+            return (delete != null ? 1 : 0) + (upsert != null ? 1 : 0);
+        }
+    }
+}
@@ -383,6 +383,32 @@ default String getTimeQueryBinding() {
      */
     List<ValueBindDescriptor> bindValue(JdbcFieldDescriptor field, int startIndex, Object value);
 
+    /**
+     * Returns whether the dialect supports writing records using the database's native bulk loading
+     * facility, see {@link #bulkLoad(Connection, TableDescriptor, List)}.
+     *
+     * @return true if bulk loading is supported, false otherwise
+     */
+    default boolean isBulkLoadSupported() {
+        return false;
+    }
+
+    /**
+     * Writes the records using the database's native bulk loading facility. Records with key fields
+     * are written using upsert semantics, all other records are inserted.
+     *
+     * @param connection the database connection to be used, should not be {@code null}
+     * @param table the destination table, should not be {@code null}
+     * @param records the records to be written, should not be empty, must not contain deletes and, if the
+     *                records have key fields, must not contain the same key more than once
+     * @return true if the records were written, false if they cannot be bulk loaded and must be written
+     *         using regular statements instead
+     * @throws SQLException if a database exception occurs
+     */
+    default boolean bulkLoad(Connection connection, TableDescriptor table, List<JdbcSinkRecord> records) throws SQLException {
+        return false;
+    }
+
     /**
      * Set of retriable exceptions if flush fails.
      *
@@ -399,6 +399,53 @@ public String getDeleteStatement(TableDescriptor table, JdbcSinkRecord record) {
         return builder.build();
     }
 
+    /**
+     * Construct a {@code INSERT INTO} statement that writes the record into the given staging table.
+     */
+    protected String getStagingInsertStatement(TableDescriptor table, JdbcSinkRecord record, String stagingTableName) {
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("INSERT INTO ");
+        builder.append(stagingTableName);
+        builder.append(" (");
+        builder.appendList(", ", getStagingFieldNames(record), (name) -> columnNameFromField(name, record));
+        builder.append(") VALUES (");
+        builder.appendList(", ", getStagingFieldNames(record), (name) -> columnQueryBindingFromField(name, table, record));
+        builder.append(")");
+
+        return builder.build();
+    }
+
+    /**
+     * Construct a {@code DELETE} statement that deletes all rows of the table matching the keys in the given staging table.
+     */
+    protected String getDeleteFromStagingStatement(TableDescriptor table, JdbcSinkRecord record, String stagingTableName) {
+        final String tableName = getQualifiedTableName(table.getId());
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("DELETE FROM ");
+        builder.append(tableName);
+        builder.append(" WHERE EXISTS (SELECT 1 FROM ");
+        builder.append(stagingTableName);
+        builder.append(" STAGING WHERE ");
+        builder.appendList(" AND ", record.keyFieldNames(), (name) -> {
+            final String columnName = columnNameFromField(name, record);
+            return "STAGING." + columnName + "=" + tableName + "." + columnName;
+        });
+        builder.append(")");
+
+        return builder.build();
+    }
+
+    /**
+     * Returns the names of the fields written to the staging table, i.e. only the key fields for deletes.
+     */
+    protected List<String> getStagingFieldNames(JdbcSinkRecord record) {
+        final List<String> fieldNames = new ArrayList<>(record.keyFieldNames());
+        if (!record.isDelete()) {
+            fieldNames.addAll(record.nonKeyFieldNames());
+        }
+        return fieldNames;
+    }
+
     @Override
     public String getTruncateStatement(TableDescriptor table) {
         final SqlStatementBuilder builder = new SqlStatementBuilder();
@@ -0,0 +1,60 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.dialect;
+
+import io.debezium.connector.jdbc.JdbcSinkRecord;
+import io.debezium.connector.jdbc.relational.TableDescriptor;
+
+/**
+ * A {@link DatabaseDialect} that can apply upserts and deletes through a session-scoped staging table.
+ * Only dialects implementing this contract are used with {@code use.staging.table}.
+ */
+public interface StagingTableDialect extends DatabaseDialect {
+
+    /**
+     * Construct the statement that creates the session-scoped staging table for the record. The staging
+     * table has the key columns of the record if it is a delete, otherwise all its columns.
+     *
+     * @param table the destination table, should not be {@code null}
+     * @param record the record, should not be {@code null}
+     * @return the create staging table statement to be executed, never {@code null}
+     */
+    String getCreateStagingTableStatement(TableDescriptor table, JdbcSinkRecord record);
+
+    /**
+     * Construct a {@code INSERT INTO} statement that writes the record into the staging table.
+     *
+     * @param table the destination table, should not be {@code null}
+     * @param record the record, should not be {@code null}
+     * @return the staging insert SQL statement to be executed, never {@code null}
+     */
+    String getStagingInsertStatement(TableDescriptor table, JdbcSinkRecord record);
+
+    /**
+     * Construct a {@code MERGE} statement that upserts all rows of the staging table into the table.
+     *
+     * @param table the destination table, should not be {@code null}
+     * @param record the first staged record, should not be {@code null}
+     * @return the merge SQL statement to be executed, never {@code null}
+     */
+    String getMergeFromStagingStatement(TableDescriptor table, JdbcSinkRecord record);
+
+    /**
+     * Construct a {@code DELETE} statement that deletes all rows of the table matching the keys in the staging table.
+     *
+     * @param table the destination table, should not be {@code null}
+     * @param record the first staged record, should not be {@code null}
+     * @return the delete SQL statement to be executed, never {@code null}
+     */
+    String getDeleteFromStagingStatement(TableDescriptor table, JdbcSinkRecord record);
+
+    /**
+     * Construct the statement that drops the staging table.
+     *
+     * @return the drop staging table statement to be executed, never {@code null}
+     */
+    String getDropStagingTableStatement();
+}
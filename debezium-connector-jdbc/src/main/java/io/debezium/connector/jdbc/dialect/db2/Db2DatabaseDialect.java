@@ -21,6 +21,7 @@
 import io.debezium.connector.jdbc.dialect.DatabaseDialectProvider;
 import io.debezium.connector.jdbc.dialect.GeneralDatabaseDialect;
 import io.debezium.connector.jdbc.dialect.SqlStatementBuilder;
+import io.debezium.connector.jdbc.dialect.StagingTableDialect;
 import io.debezium.connector.jdbc.dialect.db2.connect.ConnectDateType;
 import io.debezium.connector.jdbc.dialect.db2.connect.ConnectTimeType;
 import io.debezium.connector.jdbc.dialect.db2.connect.ConnectTimestampType;
@@ -39,7 +40,9 @@
  *
  * @author Chris Cranford
  */
-public class Db2DatabaseDialect extends GeneralDatabaseDialect {
+public class Db2DatabaseDialect extends GeneralDatabaseDialect implements StagingTableDialect {
+
+    private static final String STAGING_TABLE_NAME = "SESSION.DEBEZIUM_STAGING";
 
     private static final DateTimeFormatter ISO_LOCAL_DATE_TIME_WITH_SPACE = new DateTimeFormatterBuilder()
             .parseCaseInsensitive()
@@ -140,14 +143,54 @@ public String getTimestampNegativeInfinityValue() {
 
     @Override
     public String getUpsertStatement(TableDescriptor table, JdbcSinkRecord record) {
+        final SqlStatementBuilder source = new SqlStatementBuilder();
+        source.append("(values(");
+        source.appendLists(record.keyFieldNames(), record.nonKeyFieldNames(), (name) -> columnQueryBindingFromField(name, table, record));
+        source.append(")) as DAT(");
+        source.appendLists(record.keyFieldNames(), record.nonKeyFieldNames(), (name) -> columnNameFromField(name, record));
+        source.append(")");
+        return getMergeStatement(table, record, source.build());
+    }
+
+    @Override
+    public String getCreateStagingTableStatement(TableDescriptor table, JdbcSinkRecord record) {
+        // Declared temporary tables require a user temporary table space
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("DECLARE GLOBAL TEMPORARY TABLE ").append(STAGING_TABLE_NAME);
+        builder.append(" AS (SELECT ");
+        builder.appendList(", ", getStagingFieldNames(record), (name) -> columnNameFromField(name, record));
+        builder.append(" FROM ").append(getQualifiedTableName(table.getId()));
+        builder.append(") DEFINITION ONLY WITH REPLACE ON COMMIT PRESERVE ROWS NOT LOGGED");
+        return builder.build();
+    }
+
+    @Override
+    public String getStagingInsertStatement(TableDescriptor table, JdbcSinkRecord record) {
+        return getStagingInsertStatement(table, record, STAGING_TABLE_NAME);
+    }
+
+    @Override
+    public String getMergeFromStagingStatement(TableDescriptor table, JdbcSinkRecord record) {
+        return getMergeStatement(table, record, STAGING_TABLE_NAME + " as DAT");
+    }
+
+    @Override
+    public String getDeleteFromStagingStatement(TableDescriptor table, JdbcSinkRecord record) {
+        return getDeleteFromStagingStatement(table, record, STAGING_TABLE_NAME);
+    }
+
+    @Override
+    public String getDropStagingTableStatement() {
+        return "DROP TABLE " + STAGING_TABLE_NAME;
+    }
+
+    private String getMergeStatement(TableDescriptor table, JdbcSinkRecord record, String source) {
         final SqlStatementBuilder builder = new SqlStatementBuilder();
         builder.append("merge into ");
         builder.append(getQualifiedTableName(table.getId()));
-        builder.append(" using (values(");
-        builder.appendLists(record.keyFieldNames(), record.nonKeyFieldNames(), (name) -> columnQueryBindingFromField(name, table, record));
-        builder.append(")) as DAT(");
-        builder.appendLists(record.keyFieldNames(), record.nonKeyFieldNames(), (name) -> columnNameFromField(name, record));
-        builder.append(") on ");
+        builder.append(" using ");
+        builder.append(source);
+        builder.append(" on ");
         builder.appendList(" AND ", record.keyFieldNames(), (name) -> getMergeDatClause(name, table, record));
         if (!record.nonKeyFieldNames().isEmpty()) {
             builder.append(" WHEN MATCHED THEN UPDATE SET ");
@@ -23,6 +23,7 @@
 import io.debezium.connector.jdbc.dialect.DatabaseDialectProvider;
 import io.debezium.connector.jdbc.dialect.GeneralDatabaseDialect;
 import io.debezium.connector.jdbc.dialect.SqlStatementBuilder;
+import io.debezium.connector.jdbc.dialect.StagingTableDialect;
 import io.debezium.connector.jdbc.relational.TableDescriptor;
 
 /**
@@ -30,8 +31,9 @@
  *
  * @author Chris Cranford
  */
-public class OracleDatabaseDialect extends GeneralDatabaseDialect {
+public class OracleDatabaseDialect extends GeneralDatabaseDialect implements StagingTableDialect {
 
+    private static final String STAGING_TABLE_NAME = "ORA$PTT_DEBEZIUM_STAGING";
     private static final String TO_DATE = "TO_DATE(%s, 'YYYY-MM-DD')";
     private static final String TO_TIMESTAMP_FF9 = "TO_TIMESTAMP('%s', 'YYYY-MM-DD\"T\"HH24:MI:SS.FF9 TZH:TZM')";
     private static final String TO_TIMESTAMP_FF6 = "TO_TIMESTAMP('%s', 'YYYY-MM-DD\"T\"HH24:MI:SS.FF6 TZH:TZM')";
@@ -95,13 +97,52 @@ public boolean isNegativeScaleAllowed() {
 
     @Override
     public String getUpsertStatement(TableDescriptor table, JdbcSinkRecord record) {
+        final SqlStatementBuilder source = new SqlStatementBuilder();
+        source.append("(SELECT ");
+        source.appendLists(", ", record.keyFieldNames(), record.nonKeyFieldNames(),
+                (name) -> columnQueryBindingFromField(name, table, record) + " " + columnNameFromField(name, record));
+        source.append(" FROM dual)");
+        return getMergeStatement(table, record, source.build());
+    }
+
+    @Override
+    public String getCreateStagingTableStatement(TableDescriptor table, JdbcSinkRecord record) {
+        // Private temporary tables require Oracle 18c and are dropped at the end of the transaction
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("CREATE PRIVATE TEMPORARY TABLE ").append(STAGING_TABLE_NAME);
+        builder.append(" ON COMMIT DROP DEFINITION AS SELECT ");
+        builder.appendList(", ", getStagingFieldNames(record), (name) -> columnNameFromField(name, record));
+        builder.append(" FROM ").append(getQualifiedTableName(table.getId())).append(" WHERE 1=0");
+        return builder.build();
+    }
+
+    @Override
+    public String getStagingInsertStatement(TableDescriptor table, JdbcSinkRecord record) {
+        return getStagingInsertStatement(table, record, STAGING_TABLE_NAME);
+    }
+
+    @Override
+    public String getMergeFromStagingStatement(TableDescriptor table, JdbcSinkRecord record) {
+        return getMergeStatement(table, record, STAGING_TABLE_NAME);
+    }
+
+    @Override
+    public String getDeleteFromStagingStatement(TableDescriptor table, JdbcSinkRecord record) {
+        return getDeleteFromStagingStatement(table, record, STAGING_TABLE_NAME);
+    }
+
+    @Override
+    public String getDropStagingTableStatement() {
+        return "DROP TABLE " + STAGING_TABLE_NAME;
+    }
+
+    private String getMergeStatement(TableDescriptor table, JdbcSinkRecord record, String source) {
         final SqlStatementBuilder builder = new SqlStatementBuilder();
         builder.append("MERGE INTO ");
         builder.append(getQualifiedTableName(table.getId()));
-        builder.append(" USING (SELECT ");
-        builder.appendLists(", ", record.keyFieldNames(), record.nonKeyFieldNames(),
-                (name) -> columnQueryBindingFromField(name, table, record) + " " + columnNameFromField(name, record));
-        builder.append(" FROM dual) ").append("INCOMING ON (");
+        builder.append(" USING ");
+        builder.append(source);
+        builder.append(" INCOMING ON (");
         builder.appendList(" AND ", record.keyFieldNames(), (name) -> getUpsertIncomingClause(name, table, record));
         builder.append(")");
         if (!record.nonKeyFieldNames().isEmpty()) {
@@ -0,0 +1,151 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc.dialect.postgres;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.debezium.sink.column.ColumnDescriptor;
+import io.debezium.sink.valuebinding.ValueBindDescriptor;
+
+/**
+ * Encodes bound values using the text format of the PostgreSQL {@code COPY} command, in which
+ * columns are separated by tabs, rows by newlines and {@code \N} represents {@code NULL}.
+ * <p>
+ * Values are passed to the input function of the destination column's type, so only values whose
+ * text representation is interpreted the same way as the bound parameter of a regular statement
+ * can be encoded.
+ */
+final class CopyTextEncoder {
+
+    private static final Pattern CAST_BINDING = Pattern.compile("cast\\s*\\(\\s*\\?\\s+as\\s+([^)]+?)\\s*\\)", Pattern.CASE_INSENSITIVE);
+    private static final HexFormat HEX = HexFormat.of();
+
+    private CopyTextEncoder() {
+    }
+
+    /**
+     * Returns whether values bound using the given query binding can be copied into the column,
+     * i.e. the binding is either a plain parameter or a cast to the column's type.
+     */
+    static boolean isCopyable(String queryBinding, ColumnDescriptor column) {
+        if ("?".equals(queryBinding)) {
+            return true;
+        }
+        final Matcher matcher = CAST_BINDING.matcher(queryBinding.trim());
+        return matcher.matches() && matcher.group(1).equalsIgnoreCase(column.getTypeName());
+    }
+
+    /**
+     * Appends the text representation of the bound value to the row.
+     *
+     * @return false if the value cannot be encoded
+     */
+    static boolean append(StringBuilder row, ValueBindDescriptor binding, ColumnDescriptor column) {
+        final Object value = binding.getValue();
+        if (value == null) {
+            row.append("\\N");
+            return true;
+        }
+        if (binding.getTargetSqlType() != null && binding.getTargetSqlType() == Types.ARRAY) {
+            return false;
+        }
+        if (value instanceof String || value instanceof Character || value instanceof UUID) {
+            appendEscaped(row, value.toString());
+        }
+        else if (value instanceof Boolean) {
+            row.append((Boolean) value ? 't' : 'f');
+        }
+        else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof BigInteger || value instanceof Float || value instanceof Double) {
+            row.append(value);
+        }
+        else if (value instanceof BigDecimal) {
+            row.append(((BigDecimal) value).toPlainString());
+        }
+        else if (value instanceof byte[]) {
+            // The backslash of the bytea hex format has to be escaped itself
+            row.append("\\\\x").append(HEX.formatHex((byte[]) value));
+        }
+        else if (value instanceof LocalDate) {
+            if (!isCommonEra(((LocalDate) value).getYear())) {
+                return false;
+            }
+            row.append(DateTimeFormatter.ISO_LOCAL_DATE.format((LocalDate) value));
+        }
+        else if (value instanceof LocalDateTime) {
+            if (!isCommonEra(((LocalDateTime) value).getYear())) {
+                return false;
+            }
+            row.append(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format((LocalDateTime) value));
+        }
+        else if (value instanceof LocalTime) {
+            row.append(DateTimeFormatter.ISO_LOCAL_TIME.format((LocalTime) value));
+        }
+        else if (value instanceof OffsetDateTime || value instanceof ZonedDateTime) {
+            // The offset would be silently dropped by columns without time zone
+            final OffsetDateTime offsetDateTime = value instanceof ZonedDateTime ? ((ZonedDateTime) value).toOffsetDateTime() : (OffsetDateTime) value;
+            if (!isColumnType(column, "timestamptz") || !isCommonEra(offsetDateTime.getYear())) {
+                return false;
+            }
+            row.append(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(offsetDateTime));
+        }
+        else if (value instanceof OffsetTime) {
+            if (!isColumnType(column, "timetz")) {
+                return false;
+            }
+            row.append(DateTimeFormatter.ISO_OFFSET_TIME.format((OffsetTime) value));
+        }
+        else {
+            return false;
+        }
+        return true;
+    }
+
+    private static void appendEscaped(StringBuilder row, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    row.append("\\\\");
+                    break;
+                case '\n':
+                    row.append("\\n");
+                    break;
+                case '\r':
+                    row.append("\\r");
+                    break;
+                case '\t':
+                    row.append("\\t");
+                    break;
+                default:
+                    row.append(c);
+            }
+        }
+    }
+
+    private static boolean isCommonEra(int year) {
+        // PostgreSQL expects BC dates and years beyond 9999 in a format different from ISO 8601
+        return year >= 1 && year <= 9999;
+    }
+
+    private static boolean isColumnType(ColumnDescriptor column, String typeName) {
+        return column.getTypeName() != null && typeName.equals(column.getTypeName().toLowerCase(Locale.ROOT));
+    }
+}
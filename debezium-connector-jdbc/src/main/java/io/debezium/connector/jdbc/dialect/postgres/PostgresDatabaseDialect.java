@@ -8,16 +8,27 @@
 import static io.debezium.connector.jdbc.type.debezium.DebeziumZonedTimestampType.NEGATIVE_INFINITY;
 import static io.debezium.connector.jdbc.type.debezium.DebeziumZonedTimestampType.POSITIVE_INFINITY;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
 import org.hibernate.SessionFactory;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.PostgreSQLDialect;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import io.debezium.connector.jdbc.JdbcSinkConnectorConfig;
 import io.debezium.connector.jdbc.JdbcSinkRecord;
@@ -25,10 +36,12 @@
 import io.debezium.connector.jdbc.dialect.DatabaseDialectProvider;
 import io.debezium.connector.jdbc.dialect.GeneralDatabaseDialect;
 import io.debezium.connector.jdbc.dialect.SqlStatementBuilder;
+import io.debezium.connector.jdbc.field.JdbcFieldDescriptor;
 import io.debezium.connector.jdbc.relational.TableDescriptor;
 import io.debezium.connector.jdbc.type.JdbcType;
 import io.debezium.metadata.CollectionId;
 import io.debezium.sink.column.ColumnDescriptor;
+import io.debezium.sink.valuebinding.ValueBindDescriptor;
 
 /**
  * A {@link DatabaseDialect} implementation for PostgreSQL.
@@ -54,6 +67,9 @@ public DatabaseDialect instantiate(JdbcSinkConnectorConfig config, SessionFactor
         }
     }
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostgresDatabaseDialect.class);
+    private static final String COPY_STAGING_TABLE = "__debezium_copy_staging";
+
     private PostgresDatabaseDialect(JdbcSinkConnectorConfig config, SessionFactory sessionFactory) {
         super(config, sessionFactory);
     }
@@ -120,6 +136,97 @@ public String getUpsertStatement(TableDescriptor table, JdbcSinkRecord record) {
         return builder.build();
     }
 
+    @Override
+    public boolean isBulkLoadSupported() {
+        return true;
+    }
+
+    @Override
+    public boolean bulkLoad(Connection connection, TableDescriptor table, List<JdbcSinkRecord> records) throws SQLException {
+        final JdbcSinkRecord first = records.get(0);
+        final List<String> fieldNames = new ArrayList<>(first.keyFieldNames());
+        fieldNames.addAll(first.nonKeyFieldNames());
+
+        final List<ColumnDescriptor> columns = new ArrayList<>(fieldNames.size());
+        for (String fieldName : fieldNames) {
+            final ColumnDescriptor column = table.getColumnByName(resolveColumnName(first.allFields().get(fieldName)));
+            if (column == null || !CopyTextEncoder.isCopyable(columnQueryBindingFromField(fieldName, table, first), column)) {
+                LOGGER.debug("Field '{}' of table '{}' requires a query binding expression and cannot be copied", fieldName, table.getId().name());
+                return false;
+            }
+            columns.add(column);
+        }
+
+        final boolean upsert = !first.keyFieldNames().isEmpty();
+        final StringBuilder data = new StringBuilder();
+        for (JdbcSinkRecord record : records) {
+            for (int i = 0; i < fieldNames.size(); i++) {
+                if (i > 0) {
+                    data.append('\t');
+                }
+                final String fieldName = fieldNames.get(i);
+                final JdbcFieldDescriptor field = record.jdbcFields().get(fieldName);
+                final Struct source = i < first.keyFieldNames().size() ? record.filteredKey() : record.getPayload();
+                final Object value = field.getSchema().isOptional() ? source.getWithoutDefault(fieldName) : source.get(fieldName);
+
+                final List<ValueBindDescriptor> boundValues = bindValue(field, i + 1, value);
+                if (boundValues.size() != 1 || !CopyTextEncoder.append(data, boundValues.get(0), columns.get(i))) {
+                    LOGGER.debug("Value of field '{}' of table '{}' cannot be copied", fieldName, table.getId().name());
+                    return false;
+                }
+            }
+            data.append('\n');
+        }
+
+        final String tableName = getQualifiedTableName(table.getId());
+        final String columnNames = fieldNames.stream().map(name -> columnNameFromField(name, first)).collect(Collectors.joining(","));
+        final CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        try {
+            if (!upsert) {
+                copyManager.copyIn("COPY " + tableName + " (" + columnNames + ") FROM STDIN", new StringReader(data.toString()));
+                return true;
+            }
+
+            // Rows are copied into a staging table first, as COPY itself cannot resolve conflicts
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TEMPORARY TABLE " + COPY_STAGING_TABLE + " ON COMMIT DROP AS SELECT " + columnNames
+                        + " FROM " + tableName + " WITH NO DATA");
+                copyManager.copyIn("COPY " + COPY_STAGING_TABLE + " (" + columnNames + ") FROM STDIN", new StringReader(data.toString()));
+                statement.executeUpdate(getUpsertFromStagingStatement(tableName, columnNames, first));
+                statement.execute("DROP TABLE " + COPY_STAGING_TABLE);
+            }
+            return true;
+        }
+        catch (IOException e) {
+            throw new SQLException("Failed to copy records into table " + tableName, e);
+        }
+    }
+
+    private String getUpsertFromStagingStatement(String tableName, String columnNames, JdbcSinkRecord record) {
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("INSERT INTO ");
+        builder.append(tableName);
+        builder.append(" (");
+        builder.append(columnNames);
+        builder.append(") SELECT ");
+        builder.append(columnNames);
+        builder.append(" FROM ");
+        builder.append(COPY_STAGING_TABLE);
+        builder.append(" ON CONFLICT (");
+        builder.appendList(",", record.keyFieldNames(), (name) -> columnNameFromField(name, record));
+        if (record.nonKeyFieldNames().isEmpty()) {
+            builder.append(") DO NOTHING");
+        }
+        else {
+            builder.append(") DO UPDATE SET ");
+            builder.appendList(",", record.nonKeyFieldNames(), (name) -> {
+                final String columnName = columnNameFromField(name, record);
+                return columnName + "=EXCLUDED." + columnName;
+            });
+        }
+        return builder.build();
+    }
+
     @Override
     public String getQueryBindingWithValueCast(ColumnDescriptor column, Schema schema, JdbcType type) {
         if (schema.type() == Schema.Type.STRING) {
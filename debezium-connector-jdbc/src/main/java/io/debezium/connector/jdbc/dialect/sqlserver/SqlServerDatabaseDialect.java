@@ -17,6 +17,7 @@
 import io.debezium.connector.jdbc.dialect.DatabaseDialectProvider;
 import io.debezium.connector.jdbc.dialect.GeneralDatabaseDialect;
 import io.debezium.connector.jdbc.dialect.SqlStatementBuilder;
+import io.debezium.connector.jdbc.dialect.StagingTableDialect;
 import io.debezium.connector.jdbc.dialect.sqlserver.connect.ConnectTimeType;
 import io.debezium.connector.jdbc.relational.TableDescriptor;
 
@@ -25,7 +26,9 @@
  *
  * @author Chris Cranford
  */
-public class SqlServerDatabaseDialect extends GeneralDatabaseDialect {
+public class SqlServerDatabaseDialect extends GeneralDatabaseDialect implements StagingTableDialect {
+
+    private static final String STAGING_TABLE_NAME = "#debezium_staging";
 
     public static class SqlServerDatabaseDialectProvider implements DatabaseDialectProvider {
         @Override
@@ -127,13 +130,56 @@ public String getTimestampNegativeInfinityValue() {
 
     @Override
     public String getUpsertStatement(TableDescriptor table, JdbcSinkRecord record) {
+        final SqlStatementBuilder source = new SqlStatementBuilder();
+        source.append("(SELECT ");
+        source.appendLists(", ", record.keyFieldNames(), record.nonKeyFieldNames(),
+                (name) -> columnNameFromField(name, columnQueryBindingFromField(name, table, record) + " AS ", record));
+        source.append(")");
+        return getMergeStatement(table, record, source.build());
+    }
+
+    @Override
+    public String getCreateStagingTableStatement(TableDescriptor table, JdbcSinkRecord record) {
+        final String tableName = getQualifiedTableName(table.getId());
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("SELECT ");
+        builder.appendList(", ", getStagingFieldNames(record), (name) -> columnNameFromField(name, record));
+        builder.append(" INTO ").append(STAGING_TABLE_NAME);
+        builder.append(" FROM ").append(tableName).append(" WHERE 1=0");
+        // The union prevents the staging table from inheriting the identity property of a column
+        builder.append(" UNION ALL SELECT ");
+        builder.appendList(", ", getStagingFieldNames(record), (name) -> columnNameFromField(name, record));
+        builder.append(" FROM ").append(tableName).append(" WHERE 1=0");
+        return builder.build();
+    }
+
+    @Override
+    public String getStagingInsertStatement(TableDescriptor table, JdbcSinkRecord record) {
+        return getStagingInsertStatement(table, record, STAGING_TABLE_NAME);
+    }
+
+    @Override
+    public String getMergeFromStagingStatement(TableDescriptor table, JdbcSinkRecord record) {
+        return getMergeStatement(table, record, STAGING_TABLE_NAME);
+    }
+
+    @Override
+    public String getDeleteFromStagingStatement(TableDescriptor table, JdbcSinkRecord record) {
+        return getDeleteFromStagingStatement(table, record, STAGING_TABLE_NAME);
+    }
+
+    @Override
+    public String getDropStagingTableStatement() {
+        return "DROP TABLE " + STAGING_TABLE_NAME;
+    }
+
+    private String getMergeStatement(TableDescriptor table, JdbcSinkRecord record, String source) {
         final SqlStatementBuilder builder = new SqlStatementBuilder();
         builder.append("MERGE INTO ");
         builder.append(getQualifiedTableName(table.getId()));
-        builder.append(" WITH (HOLDLOCK) AS TARGET USING (SELECT ");
-        builder.appendLists(", ", record.keyFieldNames(), record.nonKeyFieldNames(),
-                (name) -> columnNameFromField(name, columnQueryBindingFromField(name, table, record) + " AS ", record));
-        builder.append(") AS INCOMING ON (");
+        builder.append(" WITH (HOLDLOCK) AS TARGET USING ");
+        builder.append(source);
+        builder.append(" AS INCOMING ON (");
         builder.appendList(" AND ", record.keyFieldNames(), (name) -> {
             final String columnName = columnNameFromField(name, record);
             return "TARGET." + columnName + "=INCOMING." + columnName;
@@ -62,6 +62,15 @@ public void testNonDefaultInsertModeProperty() {
         assertThat(config.getInsertMode()).isEqualTo(JdbcSinkConnectorConfig.InsertMode.UPSERT);
     }
 
+    @Test
+    public void testInvalidFlushMaxThreadsProperty() {
+        final Map<String, String> properties = new HashMap<>();
+        properties.put(JdbcSinkConnectorConfig.FLUSH_MAX_THREADS, "0");
+
+        final JdbcSinkConnectorConfig config = new JdbcSinkConnectorConfig(properties);
+        assertThat(config.validateAndRecord(List.of(JdbcSinkConnectorConfig.FLUSH_MAX_THREADS_FIELD), LOGGER::error)).isFalse();
+    }
+
     @Test
     public void testNonDefaultDeleteEnabledPropertyWithPrimaryKeyModeNotRecordKey() {
         final Map<String, String> properties = new HashMap<>();
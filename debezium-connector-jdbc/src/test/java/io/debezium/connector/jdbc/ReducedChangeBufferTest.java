@@ -0,0 +1,349 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package io.debezium.connector.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.errors.ConnectException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import io.debezium.bindings.kafka.KafkaDebeziumSinkRecord;
+import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+import io.debezium.connector.jdbc.junit.jupiter.SinkRecordFactoryArgumentsProvider;
+import io.debezium.connector.jdbc.type.JdbcType;
+import io.debezium.connector.jdbc.util.SinkRecordFactory;
+import io.debezium.sink.SinkConnectorConfig;
+import io.debezium.sink.SinkConnectorConfig.PrimaryKeyMode;
+
+/**
+ * Unit tests for the {@link ReducedChangeBuffer} class.
+ */
+@Tag("UnitTests")
+class ReducedChangeBufferTest extends AbstractRecordBufferTest {
+
+    @BeforeEach
+    void setUp() {
+        dialect = mock(DatabaseDialect.class);
+        JdbcType type = mock(JdbcType.class);
+        when(type.getTypeName(any(), anyBoolean())).thenReturn("");
+        when(dialect.getSchemaType(any())).thenReturn(type);
+    }
+
+    private JdbcSinkConnectorConfig getJdbcConnectorConfig(PrimaryKeyMode primaryKeyMode, String insertMode) {
+        return new JdbcSinkConnectorConfig(
+                Map.of(
+                        SinkConnectorConfig.BATCH_SIZE, "5",
+                        SinkConnectorConfig.PRIMARY_KEY_MODE, primaryKeyMode.getValue(),
+                        JdbcSinkConnectorConfig.PRIMARY_KEY_FIELDS, "id",
+                        JdbcSinkConnectorConfig.INSERT_MODE, insertMode));
+    }
+
+    private JdbcSinkConnectorConfig getJdbcConnectorConfig() {
+        return getJdbcConnectorConfig(PrimaryKeyMode.RECORD_KEY, "upsert");
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When 10 sink records arrives and buffer size is 5 then the buffer will be flushed 2 times")
+    void correctlyBuffer(SinkRecordFactory factory) {
+        JdbcSinkConnectorConfig config = getJdbcConnectorConfig();
+        ReducedChangeBuffer buffer = new ReducedChangeBuffer(config);
+
+        List<ReducedChangeBuffer.Changes> flushes = IntStream.range(0, 10)
+                .mapToObj(i -> buffer.add(createRecordPkFieldId(factory, (byte) i, config)))
+                .filter(changes -> !changes.isEmpty())
+                .toList();
+
+        assertThat(flushes).hasSize(2);
+        assertThat(keys(flushes.get(0).upserts())).containsExactly((byte) 0, (byte) 1, (byte) 2, (byte) 3, (byte) 4);
+        assertThat(keys(flushes.get(1).upserts())).containsExactly((byte) 5, (byte) 6, (byte) 7, (byte) 8, (byte) 9);
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When sink records {0,1,2,3} arrive and {0,2} are deleted then the deletes replace their upserts")
+    void correctlyBufferOnDeleting(SinkRecordFactory factory) {
+        JdbcSinkConnectorConfig config = getJdbcConnectorConfig();
+        ReducedChangeBuffer buffer = new ReducedChangeBuffer(config);
+
+        List<JdbcKafkaSinkRecord> records = IntStream.range(0, 7)
+                .mapToObj(i -> createRecordPkFieldId(factory, (byte) i, config))
+                .toList();
+        IntStream.range(0, 4).forEach(i -> assertThat(buffer.add(records.get(i)).isEmpty()).isTrue());
+
+        assertThat(buffer.add(createDelete(factory, (byte) 0, config)).isEmpty()).isTrue();
+        assertThat(buffer.add(createDelete(factory, (byte) 2, config)).isEmpty()).isTrue();
+
+        // the deletes do not add statements, so the buffer is full with the fifth key
+        ReducedChangeBuffer.Changes changes = buffer.add(records.get(4));
+        assertThat(keys(changes.deletes())).containsExactly((byte) 0, (byte) 2);
+        assertThat(changes.upserts()).containsExactly(records.get(1), records.get(3), records.get(4));
+
+        buffer.add(records.get(5));
+        buffer.add(records.get(6));
+        assertThat(buffer.flush().upserts()).containsExactly(records.get(5), records.get(6));
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When 10 sink records arrives and buffer size is 5 with every alternate duplicate sink record then the buffer will be flushed 1 time")
+    void correctlyBufferWithDuplicate(SinkRecordFactory factory) {
+        JdbcSinkConnectorConfig config = getJdbcConnectorConfig();
+        ReducedChangeBuffer buffer = new ReducedChangeBuffer(config);
+
+        List<JdbcKafkaSinkRecord> records = IntStream.range(0, 10)
+                .mapToObj(i -> createRecordPkFieldId(factory, (byte) (i % 2 == 0 ? i : i - 1), config))
+                .toList();
+        List<ReducedChangeBuffer.Changes> flushes = records.stream()
+                .map(buffer::add)
+                .filter(changes -> !changes.isEmpty())
+                .toList();
+
+        // the buffer is flushed when the fifth key arrives, so the duplicate of the last key is kept for the next batch
+        assertThat(flushes).hasSize(1);
+        assertThat(flushes.get(0).upserts()).containsExactly(records.get(1), records.get(3), records.get(5), records.get(7), records.get(8));
+        assertThat(flushes.get(0).deletes()).isEmpty();
+        assertThat(buffer.flush().upserts()).containsExactly(records.get(9));
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When keys toggle between upserts and deletes then only the net change of each key is flushed once")
+    void reduceTogglingKeys(SinkRecordFactory factory) {
+        JdbcSinkConnectorConfig config = getJdbcConnectorConfig();
+        ReducedChangeBuffer buffer = new ReducedChangeBuffer(config);
+
+        for (int round = 0; round < 100; round++) {
+            for (byte key = 0; key < 4; key++) {
+                assertThat(buffer.add(createRecordPkFieldId(factory, key, config)).isEmpty()).isTrue();
+                assertThat(buffer.add(createDelete(factory, key, config)).isEmpty()).isTrue();
+            }
+        }
+        // keys 0 and 1 end up with an upsert, keys 2 and 3 with a delete
+        buffer.add(createRecordPkFieldId(factory, (byte) 0, config));
+        buffer.add(createRecordPkFieldId(factory, (byte) 1, config));
+
+        ReducedChangeBuffer.Changes changes = buffer.flush();
+        assertThat(keys(changes.upserts())).containsExactly((byte) 0, (byte) 1);
+        assertThat(keys(changes.deletes())).containsExactly((byte) 2, (byte) 3);
+        assertThat(buffer.isEmpty()).isTrue();
+        assertThat(buffer.flush().isEmpty()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When insert mode is not upsert then a delete followed by an insert is kept")
+    void keepDeleteBeforeInsert(SinkRecordFactory factory) {
+        JdbcSinkConnectorConfig config = getJdbcConnectorConfig(PrimaryKeyMode.RECORD_KEY, "insert");
+        ReducedChangeBuffer buffer = new ReducedChangeBuffer(config);
+
+        buffer.add(createRecordPkFieldId(factory, (byte) 1, config));
+        buffer.add(createDelete(factory, (byte) 1, config));
+        buffer.add(createRecordPkFieldId(factory, (byte) 1, config));
+        buffer.add(createRecordPkFieldId(factory, (byte) 2, config));
+
+        ReducedChangeBuffer.Changes changes = buffer.flush();
+        assertThat(keys(changes.deletes())).containsExactly((byte) 1);
+        assertThat(keys(changes.upserts())).containsExactly((byte) 1, (byte) 2);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When the number of keys reaches the batch size then the buffer will be flushed")
+    void flushOnBatchSize(SinkRecordFactory factory) {
+        JdbcSinkConnectorConfig config = getJdbcConnectorConfig();
+        ReducedChangeBuffer buffer = new ReducedChangeBuffer(config);
+
+        List<ReducedChangeBuffer.Changes> flushes = IntStream.range(0, 10)
+                .mapToObj(i -> buffer.add(i % 2 == 0 ? createRecordPkFieldId(factory, (byte) i, config) : createDelete(factory, (byte) i, config)))
+                .filter(changes -> !changes.isEmpty())
+                .toList();
+
+        assertThat(flushes).hasSize(2);
+        assertThat(keys(flushes.get(0).upserts())).containsExactly((byte) 0, (byte) 2, (byte) 4);
+        assertThat(keys(flushes.get(0).deletes())).containsExactly((byte) 1, (byte) 3);
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When keys keep both a delete and an insert then both statements count towards the batch size")
+    void flushOnBatchSizeOfStatements(SinkRecordFactory factory) {
+        JdbcSinkConnectorConfig config = getJdbcConnectorConfig(PrimaryKeyMode.RECORD_KEY, "insert");
+        ReducedChangeBuffer buffer = new ReducedChangeBuffer(config);
+
+        for (byte key = 0; key < 3; key++) {
+            assertThat(buffer.add(createRecordPkFieldId(factory, key, config)).isEmpty()).isTrue();
+            assertThat(buffer.add(createDelete(factory, key, config)).isEmpty()).isTrue();
+        }
+        // three keys, but five statements
+        assertThat(buffer.add(createRecordPkFieldId(factory, (byte) 0, config)).isEmpty()).isTrue();
+        ReducedChangeBuffer.Changes changes = buffer.add(createRecordPkFieldId(factory, (byte) 1, config));
+        assertThat(keys(changes.deletes())).containsExactly((byte) 0, (byte) 1, (byte) 2);
+        assertThat(keys(changes.upserts())).containsExactly((byte) 0, (byte) 1);
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When key schema changes then the buffer will be flushed")
+    void keySchemaChange(SinkRecordFactory factory) {
+        JdbcSinkConnectorConfig config = getJdbcConnectorConfig();
+        ReducedChangeBuffer buffer = new ReducedChangeBuffer(config);
+
+        IntStream.range(0, 3).forEach(i -> assertThat(buffer.add(createRecordPkFieldId(factory, (byte) i, config)).isEmpty()).isTrue());
+
+        KafkaDebeziumSinkRecord recordWithDifferentKeySchema = factory.updateBuilder()
+                .name("prefix")
+                .topic("topic")
+                .keySchema(factory.keySchema(UnaryOperator.identity(), Schema.INT16_SCHEMA))
+                .recordSchema(SchemaBuilder.struct().field("id", Schema.INT8_SCHEMA))
+                .sourceSchema(factory.basicSourceSchema())
+                .key("id", (short) 1)
+                .before("id", (byte) 1)
+                .after("id", (byte) 1)
+                .source("ts_ms", (int) Instant.now().getEpochSecond())
+                .build();
+
+        ReducedChangeBuffer.Changes changes = buffer.add(createRecord(recordWithDifferentKeySchema, config));
+        assertThat(keys(changes.upserts())).containsExactly((byte) 0, (byte) 1, (byte) 2);
+        assertThat(keys(buffer.flush().upserts())).containsExactly((short) 1);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When value schema of an upsert changes then the buffer will be flushed")
+    void valueSchemaChange(SinkRecordFactory factory) {
+        JdbcSinkConnectorConfig config = getJdbcConnectorConfig();
+        ReducedChangeBuffer buffer = new ReducedChangeBuffer(config);
+
+        buffer.add(createRecordPkFieldId(factory, (byte) 1, config));
+        buffer.add(createDelete(factory, (byte) 2, config));
+
+        KafkaDebeziumSinkRecord recordWithDifferentValueSchema = factory.updateBuilder()
+                .name("prefix")
+                .topic("topic")
+                .keySchema(factory.basicKeySchema())
+                .recordSchema(SchemaBuilder.struct().field("id", Schema.INT8_SCHEMA).field("other", Schema.OPTIONAL_STRING_SCHEMA))
+                .sourceSchema(factory.basicSourceSchema())
+                .key("id", (byte) 1)
+                .before("id", (byte) 1)
+                .after("id", (byte) 1)
+                .source("ts_ms", (int) Instant.now().getEpochSecond())
+                .build();
+
+        ReducedChangeBuffer.Changes changes = buffer.add(createRecord(recordWithDifferentValueSchema, config));
+        assertThat(keys(changes.upserts())).containsExactly((byte) 1);
+        assertThat(keys(changes.deletes())).containsExactly((byte) 2);
+
+        assertThat(keys(buffer.flush().upserts())).containsExactly((byte) 1);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When primary key mode is none then reduced buffer should raise exception")
+    void raiseExceptionWithoutPrimaryKeyOnAdding(SinkRecordFactory factory) {
+        JdbcSinkConnectorConfig config = new JdbcSinkConnectorConfig(Map.of(SinkConnectorConfig.PRIMARY_KEY_MODE, PrimaryKeyMode.NONE.getValue()));
+        ReducedChangeBuffer buffer = new ReducedChangeBuffer(config);
+
+        Exception thrown = Assertions.assertThrows(ConnectException.class, () -> buffer.add(createRecordNoPkFields(factory, (byte) 1, config)));
+        assertThat(thrown.getMessage()).isEqualTo("No struct-based primary key defined for record key/value, reduction buffer require struct based primary key");
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When primary key columns are in record value then reduced buffer should work as expected")
+    void primaryKeyInValue(SinkRecordFactory factory) {
+        JdbcSinkConnectorConfig config = new JdbcSinkConnectorConfig(
+                Map.of(
+                        SinkConnectorConfig.BATCH_SIZE, "5",
+                        SinkConnectorConfig.PRIMARY_KEY_MODE, PrimaryKeyMode.RECORD_VALUE.getValue(),
+                        JdbcSinkConnectorConfig.PRIMARY_KEY_FIELDS, "value_id"));
+        ReducedChangeBuffer buffer = new ReducedChangeBuffer(config);
+
+        List<ReducedChangeBuffer.Changes> flushes = IntStream.range(0, 10)
+                .mapToObj(i -> {
+                    KafkaDebeziumSinkRecord record = factory.createRecordWithSchemaValue(
+                            "topic",
+                            (byte) (1),
+                            List.of("value_id", "name"),
+                            List.of(SchemaBuilder.type(Schema.INT8_SCHEMA.type()).optional().build(),
+                                    SchemaBuilder.type(Schema.STRING_SCHEMA.type()).optional().build()),
+                            Arrays.asList((byte) (i % 2 == 0 ? i : i - 1), "John Doe " + i));
+                    return new JdbcKafkaSinkRecord(
+                            record.getOriginalKafkaRecord(),
+                            config.getPrimaryKeyMode(),
+                            config.getPrimaryKeyFields(),
+                            config.getFieldFilter(),
+                            config.cloudEventsSchemaNamePattern(),
+                            dialect);
+                })
+                .map(buffer::add)
+                .filter(changes -> !changes.isEmpty())
+                .toList();
+
+        assertThat(flushes).hasSize(1);
+        List<JdbcSinkRecord> upserts = flushes.get(0).upserts();
+        assertThat(upserts).hasSize(5);
+
+        upserts.forEach(record -> {
+            Struct keyStruct = record.filteredKey();
+            assertThat(keyStruct).isNotNull();
+            assertThat(keyStruct.schema().fields()).hasSize(1);
+            assertThat(keyStruct.schema().field("value_id")).isNotNull();
+
+            // Verify the value_id matches what we expect (even numbers 0,2,4,6,8)
+            byte expectedValue = record.getPayload().getInt8("value_id");
+            assertThat(keyStruct.get("value_id")).isEqualTo(expectedValue);
+
+            // Verify the name matches what we expect (odd numbers in the last 1, 3, 5, 7)
+            // 9 is not included because the buffer is flushed after 5 records, it will be in the next batch
+            if (expectedValue < 8) {
+                String expectedName = "John Doe " + (expectedValue + 1);
+                assertThat(record.getPayload().getString("name")).isEqualTo(expectedName);
+            }
+        });
+    }
+
+    private JdbcKafkaSinkRecord createDelete(SinkRecordFactory factory, byte key, JdbcSinkConnectorConfig config) {
+        return createRecord(factory.deleteBuilder()
+                .name("prefix")
+                .topic("topic")
+                .keySchema(factory.basicKeySchema())
+                .recordSchema(factory.basicRecordSchema())
+                .sourceSchema(factory.basicSourceSchema())
+                .key("id", key)
+                .before("id", key)
+                .before("name", "John Doe")
+                .source("ts_ms", (int) Instant.now().getEpochSecond())
+                .build(), config);
+    }
+
+    private static List<Object> keys(List<JdbcSinkRecord> records) {
+        return records.stream().map(record -> ((Struct) record.key()).get("id")).toList();
+    }
+}
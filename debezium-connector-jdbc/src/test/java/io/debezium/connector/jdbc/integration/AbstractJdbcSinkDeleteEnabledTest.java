@@ -16,6 +16,7 @@
 
 import io.debezium.bindings.kafka.KafkaDebeziumSinkRecord;
 import io.debezium.connector.jdbc.JdbcSinkConnectorConfig;
+import io.debezium.connector.jdbc.JdbcSinkConnectorConfig.InsertMode;
 import io.debezium.connector.jdbc.JdbcSinkConnectorConfig.SchemaEvolutionMode;
 import io.debezium.connector.jdbc.junit.TestHelper;
 import io.debezium.connector.jdbc.junit.jupiter.Sink;
@@ -85,6 +86,71 @@ public void testShouldDeleteRowWhenDeletesEnabled(SinkRecordFactory factory) {
         getSink().assertColumnType(tableAssert, "nick_name$", ValueType.TEXT);
     }
 
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    public void testShouldDeleteRowsWhenFlushingTablesConcurrently(SinkRecordFactory factory) {
+        final Map<String, String> properties = getDefaultSinkConfig();
+        properties.put(JdbcSinkConnectorConfig.SCHEMA_EVOLUTION, SchemaEvolutionMode.BASIC.getValue());
+        properties.put(JdbcSinkConnectorConfig.PRIMARY_KEY_MODE, PrimaryKeyMode.RECORD_KEY.getValue());
+        properties.put(JdbcSinkConnectorConfig.DELETE_ENABLED, "true");
+        properties.put(JdbcSinkConnectorConfig.FLUSH_MAX_THREADS, "3");
+        startSinkConnector(properties);
+        assertSinkConnectorIsRunning();
+
+        final String topicName1 = topicName("server1", "schema", randomTableName());
+        final String topicName2 = topicName("server1", "schema", randomTableName());
+        final String topicName3 = topicName("server1", "schema", randomTableName());
+
+        final KafkaDebeziumSinkRecord createRecord1 = factory.createRecord(topicName1, (byte) 1);
+        final KafkaDebeziumSinkRecord createRecord2 = factory.createRecord(topicName2, (byte) 1);
+        final KafkaDebeziumSinkRecord createRecord3 = factory.createRecord(topicName3, (byte) 1);
+        consume(List.of(
+                createRecord1,
+                createRecord2,
+                factory.createRecord(topicName1, (byte) 2),
+                createRecord3,
+                factory.createRecord(topicName2, (byte) 2),
+                factory.deleteRecord(topicName1),
+                factory.createRecord(topicName3, (byte) 2),
+                factory.deleteRecord(topicName3)));
+
+        // The delete of each table is applied after its inserts
+        TestHelper.assertTable(assertDbConnection(), destinationTableName(createRecord1)).exists().hasNumberOfRows(1);
+        TestHelper.assertTable(assertDbConnection(), destinationTableName(createRecord2)).exists().hasNumberOfRows(2);
+        TestHelper.assertTable(assertDbConnection(), destinationTableName(createRecord3)).exists().hasNumberOfRows(1);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    public void testShouldUpsertAndDeleteRowsUsingStagingTable(SinkRecordFactory factory) {
+        final Map<String, String> properties = getDefaultSinkConfig();
+        properties.put(JdbcSinkConnectorConfig.SCHEMA_EVOLUTION, SchemaEvolutionMode.BASIC.getValue());
+        properties.put(JdbcSinkConnectorConfig.PRIMARY_KEY_MODE, PrimaryKeyMode.RECORD_KEY.getValue());
+        properties.put(JdbcSinkConnectorConfig.INSERT_MODE, InsertMode.UPSERT.getValue());
+        properties.put(JdbcSinkConnectorConfig.DELETE_ENABLED, "true");
+        properties.put(JdbcSinkConnectorConfig.USE_STAGING_TABLE, "true");
+        startSinkConnector(properties);
+        assertSinkConnectorIsRunning();
+
+        final String tableName = randomTableName();
+        final String topicName = topicName("server1", "schema", tableName);
+
+        final KafkaDebeziumSinkRecord createRecord = factory.createRecord(topicName, (byte) 1);
+        consume(createRecord);
+        consume(List.of(
+                factory.createRecord(topicName, (byte) 1),
+                factory.createRecord(topicName, (byte) 2),
+                factory.createRecord(topicName, (byte) 2),
+                factory.createRecord(topicName, (byte) 3),
+                factory.deleteRecord(topicName),
+                factory.deleteRecord(topicName)));
+
+        final TableAssert tableAssert = TestHelper.assertTable(assertDbConnection(), destinationTableName(createRecord));
+        tableAssert.exists().hasNumberOfRows(2).hasNumberOfColumns(3);
+
+        getSink().assertColumnType(tableAssert, "id", ValueType.NUMBER, (byte) 2, (byte) 3);
+    }
+
     @ParameterizedTest
     @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
     public void testShouldDeleteRowWhenDeletesEnabledUsingSubsetOfRecordKeyFields(SinkRecordFactory factory) {
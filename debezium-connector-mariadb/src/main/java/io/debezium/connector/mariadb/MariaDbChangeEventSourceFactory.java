@@ -138,7 +138,8 @@ public StreamingChangeEventSource<MariaDbPartition, MariaDbOffsetContext> getStr
                 clock,
                 snapshotProgressListener,
                 dataChangeEventListener,
-                notificationService));
+                notificationService,
+                connectionFactory));
     }
 
     private void preSnapshot() {
@@ -606,6 +606,70 @@ public static OversizeHandlingMode parse(String value, String defaultValue) {
         }
     }
 
+    /**
+     * The set of predefined DocumentEncoding options or aliases.
+     */
+    public enum DocumentEncoding implements EnumeratedValue {
+        /**
+         * Documents are encoded as extended JSON strings
+         */
+        JSON("json"),
+
+        /**
+         * Documents are encoded as BSON bytes
+         */
+        BSON("bson");
+
+        private final String value;
+
+        DocumentEncoding(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @return the matching option, or null if no match is found
+         */
+        public static DocumentEncoding parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+
+            for (DocumentEncoding option : DocumentEncoding.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @param defaultValue the default value; may be null
+         * @return the matching option, or null if no match is found and the non-null default is invalid
+         */
+        public static DocumentEncoding parse(String value, String defaultValue) {
+            DocumentEncoding encoding = parse(value);
+
+            if (encoding == null && defaultValue != null) {
+                encoding = parse(defaultValue);
+            }
+
+            return encoding;
+        }
+    }
+
     protected static final int DEFAULT_SNAPSHOT_FETCH_SIZE = 0;
 
     public static final Field ALLOW_OFFSET_INVALIDATION = Field.createInternal("mongodb.allow.offset.invalidation")
@@ -938,6 +1002,19 @@ public static OversizeHandlingMode parse(String value, String defaultValue) {
                     + " the initial snapshot may be a subset of data present in the data source. The subset would be defined"
                     + " by mongodb filter query specified as value for property snapshot.collection.filter.override.<dbname>.<collectionName>");
 
+    public static final Field SNAPSHOT_COLLECTION_RANGE_SIZE = Field.create("snapshot.collection.range.size")
+            .withDisplayName("Snapshot collection range size")
+            .withType(Type.LONG)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_SNAPSHOT, 2))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(0L)
+            .withValidation(Field::isNonNegativeLong)
+            .withDescription("The approximate number of documents in each '_id' range of a collection snapshot. "
+                    + "Collections with more documents are split into ranges, which are read concurrently by the snapshot threads. "
+                    + "The range boundaries are determined from a random sample of the collection. "
+                    + "The default value of '0' disables the splitting, so that each collection is read by a single thread.");
+
     public static final Field CURSOR_MAX_AWAIT_TIME_MS = Field.create("cursor.max.await.time.ms")
             .withDisplayName("Server's oplog streaming cursor max await time")
             .withType(Type.INT)
@@ -993,6 +1070,29 @@ public static OversizeHandlingMode parse(String value, String defaultValue) {
                     + "This includes both, the size before and after database operation, "
                     + "more specifically this limits the size of fullDocument and fullDocumentBeforeChange filed of MongoDB change events.");
 
+    public static final Field DOCUMENT_ENCODING = Field.create("document.encoding")
+            .withDisplayName("Document encoding")
+            .withEnum(DocumentEncoding.class, DocumentEncoding.JSON)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 9))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The encoding of the documents in the 'before', 'after' and 'updateDescription.updatedFields' fields of change events. "
+                    + "Options include: "
+                    + "'json' (the default) the documents are encoded as extended JSON strings; "
+                    + "'bson' the documents are encoded as BSON bytes, which avoids serializing them to JSON and parsing them back in transformations and sinks.");
+
+    public static final Field CURSOR_PER_SHARD = Field.create("cursor.per.shard")
+            .withDisplayName("Change stream per shard")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 10))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(false)
+            .withDescription("When connected to a sharded cluster, whether a change stream is opened on each shard instead of a single change stream through the router. "
+                    + "The events of the shards are then fetched and decoded in parallel, and a resume token is kept for each shard. "
+                    + "The events of the shards are merged in the order of their cluster time, so an event is emitted only once every shard has reached its cluster time. "
+                    + "The connector must be able to connect to the shards with the configured credentials.");
+
     public static final Field TOPIC_NAMING_STRATEGY = Field.create("topic.naming.strategy")
             .withDisplayName("Topic naming strategy class")
             .withType(Type.CLASS)
@@ -1030,11 +1130,14 @@ public static OversizeHandlingMode parse(String value, String defaultValue) {
                     FIELD_EXCLUDE_LIST,
                     FIELD_RENAMES,
                     SNAPSHOT_FILTER_QUERY_BY_COLLECTION,
+                    SNAPSHOT_COLLECTION_RANGE_SIZE,
                     SOURCE_INFO_STRUCT_MAKER)
             .connector(
                     SNAPSHOT_MODE,
                     CAPTURE_MODE,
-                    SCHEMA_NAME_ADJUSTMENT_MODE)
+                    SCHEMA_NAME_ADJUSTMENT_MODE,
+                    DOCUMENT_ENCODING,
+                    CURSOR_PER_SHARD)
             .create();
 
     /**
@@ -1053,7 +1156,9 @@ public static ConfigDef configDef() {
     private final String captureTarget;
     private final boolean offsetInvalidationAllowed;
     private final int snapshotMaxThreads;
+    private final long snapshotCollectionRangeSize;
     private final int cursorMaxAwaitTimeMs;
+    private final boolean cursorPerShard;
     private final ConnectionString connectionString;
     private final String user;
     private final String password;
@@ -1075,6 +1180,7 @@ public static ConfigDef configDef() {
     private final OversizeHandlingMode oversizeHandlingMode;
     private final FiltersMatchMode filtersMatchMode;
     private final int oversizeSkipThreshold;
+    private final DocumentEncoding documentEncoding;
 
     public MongoDbConnectorConfig(Configuration config) {
         super(config, DEFAULT_SNAPSHOT_FETCH_SIZE);
@@ -1121,11 +1227,16 @@ public MongoDbConnectorConfig(Configuration config) {
         this.oversizeHandlingMode = OversizeHandlingMode.parse(oversizeHandlingModeValue, MongoDbConnectorConfig.CURSOR_OVERSIZE_HANDLING_MODE.defaultValueAsString());
         this.oversizeSkipThreshold = config.getInteger(CURSOR_OVERSIZE_SKIP_THRESHOLD);
 
+        String documentEncodingValue = config.getString(MongoDbConnectorConfig.DOCUMENT_ENCODING);
+        this.documentEncoding = DocumentEncoding.parse(documentEncodingValue, MongoDbConnectorConfig.DOCUMENT_ENCODING.defaultValueAsString());
+
         String filterMatchModeValue = config.getString(MongoDbConnectorConfig.FILTERS_MATCH_MODE);
         this.filtersMatchMode = FiltersMatchMode.parse(filterMatchModeValue, MongoDbConnectorConfig.FILTERS_MATCH_MODE.defaultValueAsString());
 
         this.snapshotMaxThreads = resolveSnapshotMaxThreads(config);
+        this.snapshotCollectionRangeSize = config.getLong(SNAPSHOT_COLLECTION_RANGE_SIZE);
         this.cursorMaxAwaitTimeMs = config.getInteger(MongoDbConnectorConfig.CURSOR_MAX_AWAIT_TIME_MS, 0);
+        this.cursorPerShard = config.getBoolean(CURSOR_PER_SHARD);
     }
 
     private static int validateChangeStreamPipeline(Configuration config, Field field, ValidationOutput problems) {
@@ -1354,6 +1465,10 @@ public int getCursorMaxAwaitTime() {
         return cursorMaxAwaitTimeMs;
     }
 
+    public boolean isCursorPerShard() {
+        return cursorPerShard;
+    }
+
     public CursorPipelineOrder getCursorPipelineOrder() {
         return cursorPipelineOrder;
     }
@@ -1366,6 +1481,10 @@ public int getOversizeSkipThreshold() {
         return oversizeSkipThreshold;
     }
 
+    public DocumentEncoding getDocumentEncoding() {
+        return documentEncoding;
+    }
+
     public FiltersMatchMode getFiltersMatchMode() {
         return filtersMatchMode;
     }
@@ -1375,6 +1494,10 @@ public int getSnapshotMaxThreads() {
         return snapshotMaxThreads;
     }
 
+    public long getSnapshotCollectionRangeSize() {
+        return snapshotCollectionRangeSize;
+    }
+
     @Override
     protected SourceInfoStructMaker<? extends AbstractSourceInfo> getSourceInfoStructMaker(Version version) {
         return getSourceInfoStructMaker(SOURCE_INFO_STRUCT_MAKER, Module.name(), Module.version(), this);
@@ -12,6 +12,7 @@
 import static io.debezium.connector.mongodb.SourceInfo.LSID;
 import static io.debezium.connector.mongodb.SourceInfo.ORDER;
 import static io.debezium.connector.mongodb.SourceInfo.RESUME_TOKEN;
+import static io.debezium.connector.mongodb.SourceInfo.SHARD_RESUME_TOKEN_PREFIX;
 import static io.debezium.connector.mongodb.SourceInfo.TIMESTAMP;
 import static io.debezium.connector.mongodb.SourceInfo.TXN_NUMBER;
 
@@ -68,15 +69,18 @@ void stopInitialSnapshot() {
     @Override
     public Map<String, ?> getOffset() {
         SourceInfo.Position position = sourceInfo.position();
+        // when the shards are read separately, the cluster is read completely only up to the oldest shard position
+        BsonTimestamp oldestShardTimestamp = sourceInfo.oldestShardTimestamp();
         Map<String, Object> offset = Collect.hashMapOf(
-                TIMESTAMP, position.getTime(),
-                ORDER, position.getInc());
+                TIMESTAMP, oldestShardTimestamp != null ? oldestShardTimestamp.getTime() : position.getTime(),
+                ORDER, oldestShardTimestamp != null ? oldestShardTimestamp.getInc() : position.getInc());
         if (isInitialSnapshotRunning()) {
             offset.put(INITIAL_SYNC, true);
         }
 
         addSessionTxnIdToOffset(position, offset);
         addResumeTokenToOffset(position, offset);
+        addShardResumeTokensToOffset(offset);
 
         return isInitialSnapshotRunning() ? offset : incrementalSnapshotContext.store(transactionContext.store(offset));
     }
@@ -94,6 +98,11 @@ private Map<String, Object> addResumeTokenToOffset(SourceInfo.Position position,
         return offset;
     }
 
+    private Map<String, Object> addShardResumeTokensToOffset(Map<String, Object> offset) {
+        sourceInfo.shardResumeTokens().forEach((shard, resumeToken) -> offset.put(SHARD_RESUME_TOKEN_PREFIX + shard, resumeToken));
+        return offset;
+    }
+
     @Override
     public Schema getSourceInfoSchema() {
         return sourceInfo.schema();
@@ -157,6 +166,10 @@ public void changeStreamEvent(ChangeStreamDocument<BsonDocument> changeStreamEve
         sourceInfo.changeStreamEvent(changeStreamEvent);
     }
 
+    public void changeStreamEvent(String shard, ChangeStreamDocument<BsonDocument> changeStreamEvent) {
+        sourceInfo.changeStreamEvent(shard, changeStreamEvent);
+    }
+
     public String lastResumeToken() {
         return sourceInfo.lastResumeToken();
     }
@@ -179,6 +192,19 @@ public BsonTimestamp lastTimestamp() {
         return sourceInfo.lastTimestamp();
     }
 
+    public BsonDocument lastShardResumeTokenDoc(String shard) {
+        final String data = sourceInfo.lastShardResumeToken(shard);
+        return data != null ? ResumeTokens.fromBase64(data) : null;
+    }
+
+    public void startShard(String shard, BsonTimestamp timestamp) {
+        sourceInfo.startShard(shard, timestamp);
+    }
+
+    public boolean hasShardResumeTokens() {
+        return !sourceInfo.shardResumeTokens().isEmpty();
+    }
+
     public BsonTimestamp lastTimestampOrTokenTime() {
         return Optional.of(lastResumeTokenDoc())
                 .map(ResumeTokens::getTimestamp)
@@ -227,6 +253,11 @@ public MongoDbOffsetContext load(Map<String, ?> offset) {
             if (!booleanOffsetValue(offset, INITIAL_SYNC)) {
                 var position = positionFromOffset(offset);
                 sourceInfo.setPosition(position);
+                offset.forEach((key, value) -> {
+                    if (key.startsWith(SHARD_RESUME_TOKEN_PREFIX) && value != null) {
+                        sourceInfo.setShardResumeToken(key.substring(SHARD_RESUME_TOKEN_PREFIX.length()), value.toString());
+                    }
+                });
             }
 
             return new MongoDbOffsetContext(
@@ -14,12 +14,14 @@
 
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
+import org.bson.BsonDocument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.debezium.annotation.ThreadSafe;
 import io.debezium.connector.common.DebeziumTaskState;
 import io.debezium.connector.mongodb.FieldSelector.FieldFilter;
+import io.debezium.connector.mongodb.data.Bson;
 import io.debezium.data.Envelope;
 import io.debezium.data.Envelope.FieldName;
 import io.debezium.data.Json;
@@ -47,6 +49,8 @@ public class MongoDbSchema implements DatabaseSchema<CollectionId> {
 
     public static final Schema UPDATED_DESCRIPTION_SCHEMA = MongoDbSchemaFactory.get().updatedDescriptionSchema();
 
+    public static final Schema UPDATED_DESCRIPTION_BSON_SCHEMA = MongoDbSchemaFactory.get().updatedDescriptionSchema(Bson.builder().optional().build());
+
     private final MongoDbConnectorConfig config;
     private final Filters filters;
     private final TopicNamingStrategy<CollectionId> topicNamingStrategy;
@@ -79,12 +83,17 @@ public DataCollectionSchema schemaFor(CollectionId collectionId) {
                     .field("id", Schema.STRING_SCHEMA)
                     .build();
 
+            // BSON encoded documents are passed on as they are, without the round-trip through JSON
+            final boolean bsonEncoding = config.getDocumentEncoding() == MongoDbConnectorConfig.DocumentEncoding.BSON;
+            final Schema documentSchema = bsonEncoding ? Bson.builder().optional().build() : Json.builder().optional().build();
+            final Schema updateDescriptionSchema = bsonEncoding ? UPDATED_DESCRIPTION_BSON_SCHEMA : UPDATED_DESCRIPTION_SCHEMA;
+
             final Schema valueSchema = SchemaBuilder.struct()
                     .name(adjuster.adjust(Envelope.schemaName(topicName)))
-                    .field(FieldName.BEFORE, Json.builder().optional().build())
-                    .field(FieldName.AFTER, Json.builder().optional().build())
+                    .field(FieldName.BEFORE, documentSchema)
+                    .field(FieldName.AFTER, documentSchema)
                     // Change Streams field
-                    .field(MongoDbFieldName.UPDATE_DESCRIPTION, UPDATED_DESCRIPTION_SCHEMA)
+                    .field(MongoDbFieldName.UPDATE_DESCRIPTION, updateDescriptionSchema)
                     .field(FieldName.SOURCE, sourceSchema)
                     .field(FieldName.OPERATION, Schema.OPTIONAL_STRING_SCHEMA)
                     .field(FieldName.TIMESTAMP, Schema.OPTIONAL_INT64_SCHEMA)
@@ -103,7 +112,9 @@ public DataCollectionSchema schemaFor(CollectionId collectionId) {
                     serialization::getDocumentId,
                     envelope,
                     valueSchema,
-                    serialization::getDocumentValue);
+                    bsonEncoding ? Bson::encode : serialization::getDocumentValue,
+                    updateDescriptionSchema,
+                    bsonEncoding ? Bson::encode : BsonDocument::toJson);
         });
     }
 
@@ -8,6 +8,7 @@
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
 
+import io.debezium.connector.mongodb.data.Bson;
 import io.debezium.data.Json;
 import io.debezium.schema.SchemaFactory;
 
@@ -38,15 +39,24 @@ public Schema truncatedArraySchema() {
                 .build();
     }
 
+    public SchemaBuilder datatypeBsonSchema() {
+        return SchemaBuilder.bytes()
+                .name(Bson.LOGICAL_NAME)
+                .version(Bson.SCHEMA_VERSION);
+    }
+
     public Schema updatedDescriptionSchema() {
+        return updatedDescriptionSchema(Json.builder().optional().build());
+    }
+
+    public Schema updatedDescriptionSchema(Schema updatedFieldsSchema) {
         return SchemaBuilder.struct()
                 .optional()
                 .name(MongoDbSchema.SCHEMA_NAME_UPDATED_DESCRIPTION)
                 .version(MONGODB_UPDATED_DESCRIPTION_SCHEMA_VERSION)
                 .field(MongoDbFieldName.REMOVED_FIELDS,
                         SchemaBuilder.array(Schema.STRING_SCHEMA).optional().build())
-                .field(MongoDbFieldName.UPDATED_FIELDS,
-                        Json.builder().optional().build())
+                .field(MongoDbFieldName.UPDATED_FIELDS, updatedFieldsSchema)
                 .field(MongoDbFieldName.TRUNCATED_ARRAYS,
                         SchemaBuilder.array(MongoDbSchema.TRUNCATED_ARRAY_SCHEMA).optional().build())
                 .build();
@@ -5,6 +5,7 @@
  */
 package io.debezium.connector.mongodb;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
@@ -18,6 +19,7 @@
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -40,6 +42,7 @@
 import io.debezium.connector.SnapshotRecord;
 import io.debezium.connector.mongodb.connection.MongoDbConnection;
 import io.debezium.connector.mongodb.recordemitter.MongoDbSnapshotRecordEmitter;
+import io.debezium.connector.mongodb.snapshot.MongoDbCollectionSplitter;
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.EventDispatcher.SnapshotReceiver;
@@ -75,6 +78,7 @@ public class MongoDbSnapshotChangeEventSource extends AbstractSnapshotChangeEven
     private final SnapshotProgressListener<MongoDbPartition> snapshotProgressListener;
     private final ErrorHandler errorHandler;
     private final SnapshotterService snapshotterService;
+    private final MongoDbCollectionSplitter collectionSplitter;
 
     public MongoDbSnapshotChangeEventSource(MongoDbConnectorConfig connectorConfig, MongoDbTaskContext taskContext,
                                             EventDispatcher<MongoDbPartition, CollectionId> dispatcher, Clock clock,
@@ -88,6 +92,7 @@ public MongoDbSnapshotChangeEventSource(MongoDbConnectorConfig connectorConfig,
         this.snapshotProgressListener = snapshotProgressListener;
         this.errorHandler = errorHandler;
         this.snapshotterService = snapshotterService;
+        this.collectionSplitter = new MongoDbCollectionSplitter(connectorConfig.getSnapshotCollectionRangeSize());
     }
 
     @Override
@@ -201,7 +206,6 @@ private void createDataEvents(ChangeEventSourceContext sourceContext,
                                   MongoDbConnection mongo,
                                   SnapshottingTask snapshottingTask)
             throws Throwable {
-        snapshotContext.lastCollection = false;
         snapshotContext.offset.startInitialSnapshot();
 
         LOGGER.info("Beginning snapshot at {}", snapshotContext.offset.getOffset());
@@ -215,10 +219,13 @@ private void createDataEvents(ChangeEventSourceContext sourceContext,
                 .collect(Collectors.toList());
         snapshotProgressListener.monitoredDataCollectionsDetermined(snapshotContext.partition, collections);
 
+        // Large collections are split into ranges, which are copied by the snapshot threads like whole collections.
+        final Queue<CollectionRangeSnapshot> rangesToCopy = new ConcurrentLinkedQueue<>(splitCollections(mongo, collections));
+        snapshotContext.pendingRanges.set(rangesToCopy.size());
+
         // Since multiple snapshot threads are to be used, create a thread pool and initiate the snapshot.
         // The current thread will wait until the snapshot threads either have completed or an error occurred.
-        final int numThreads = Math.min(collections.size(), connectorConfig.getSnapshotMaxThreads());
-        final Queue<CollectionId> collectionsToCopy = new ConcurrentLinkedQueue<>(collections);
+        final int numThreads = Math.min(rangesToCopy.size(), connectorConfig.getSnapshotMaxThreads());
 
         LOGGER.info("Creating snapshot worker pool with {} worker thread(s)", numThreads);
         final ExecutorService executorService = Threads.newFixedThreadPool(MongoDbConnector.class, taskContext.getServerName(), "snapshot-main",
@@ -233,7 +240,7 @@ private void createDataEvents(ChangeEventSourceContext sourceContext,
         CompletionService<Void> completionService = new ExecutorCompletionService<>(executorService);
         for (int i = 0; i < numThreads; ++i) {
             completionService
-                    .submit(() -> buildCallable(sourceContext, snapshotContext, snapshotReceiver, mongo, snapshottingTask, threadCounter, aborted, collectionsToCopy));
+                    .submit(() -> buildCallable(sourceContext, snapshotContext, snapshotReceiver, mongo, snapshottingTask, threadCounter, aborted, rangesToCopy));
         }
 
         try {
@@ -250,25 +257,21 @@ private void createDataEvents(ChangeEventSourceContext sourceContext,
 
     private Void buildCallable(ChangeEventSourceContext sourceContext, MongoDbSnapshotContext snapshotContext, SnapshotReceiver<MongoDbPartition> snapshotReceiver,
                                MongoDbConnection mongo, SnapshottingTask snapshottingTask, AtomicInteger threadCounter, AtomicBoolean aborted,
-                               Queue<CollectionId> collectionsToCopy) {
+                               Queue<CollectionRangeSnapshot> rangesToCopy) {
 
         taskContext.configureLoggingContext("snapshot" + threadCounter.incrementAndGet());
-        CollectionId id = null;
+        CollectionRangeSnapshot range = null;
         try {
-            while (!aborted.get() && (id = collectionsToCopy.poll()) != null) {
+            while (!aborted.get() && (range = rangesToCopy.poll()) != null) {
                 if (!sourceContext.isRunning()) {
                     throw new InterruptedException("Interrupted while snapshotting");
                 }
 
-                if (collectionsToCopy.isEmpty()) {
-                    snapshotContext.lastCollection = true;
-                }
-
                 createDataEventsForCollection(
                         sourceContext,
                         snapshotContext,
                         snapshotReceiver,
-                        id,
+                        range,
                         mongo, snapshottingTask.getFilterQueries());
             }
         }
@@ -276,11 +279,34 @@ private Void buildCallable(ChangeEventSourceContext sourceContext, MongoDbSnapsh
             // Do nothing so that this thread is stopped
             LOGGER.error("Snapshot failed", t);
             aborted.set(true);
-            throw new ConnectException("Snapshotting of collection " + id + " failed", t);
+            throw new ConnectException("Snapshotting of collection " + (range != null ? range.collection().id : null) + " failed", t);
         }
         return null;
     }
 
+    /**
+     * Determines the ranges to copy, in the order of the collections.
+     */
+    private List<CollectionRangeSnapshot> splitCollections(MongoDbConnection mongo, List<CollectionId> collections) throws InterruptedException {
+        if (connectorConfig.getSnapshotCollectionRangeSize() <= 0) {
+            return collections.stream()
+                    .map(id -> new CollectionRangeSnapshot(new CollectionSnapshot(id, 1), MongoDbCollectionSplitter.Range.ALL))
+                    .collect(Collectors.toList());
+        }
+        return mongo.execute("split collections", client -> {
+            final List<CollectionRangeSnapshot> ranges = new ArrayList<>();
+            for (CollectionId id : collections) {
+                final MongoCollection<BsonDocument> collection = client.getDatabase(id.dbName()).getCollection(id.name(), BsonDocument.class);
+                final List<MongoDbCollectionSplitter.Range> collectionRanges = collectionSplitter.split(collection);
+                final CollectionSnapshot collectionSnapshot = new CollectionSnapshot(id, collectionRanges.size());
+                for (MongoDbCollectionSplitter.Range range : collectionRanges) {
+                    ranges.add(new CollectionRangeSnapshot(collectionSnapshot, range));
+                }
+            }
+            return ranges;
+        });
+    }
+
     @Override
     protected <T extends DataCollectionId> Stream<T> determineDataCollectionsToBeSnapshotted(final Collection<T> allDataCollections,
                                                                                              Set<Pattern> snapshotAllowedDataCollections) {
@@ -297,12 +323,21 @@ protected <T extends DataCollectionId> Stream<T> determineDataCollectionsToBeSna
     private void createDataEventsForCollection(ChangeEventSourceContext sourceContext,
                                                MongoDbSnapshotContext snapshotContext,
                                                SnapshotReceiver<MongoDbPartition> snapshotReceiver,
-                                               CollectionId collectionId, MongoDbConnection mongo,
+                                               CollectionRangeSnapshot rangeSnapshot, MongoDbConnection mongo,
                                                Map<DataCollectionId, String> snapshotFilterQueryForCollection)
             throws InterruptedException {
-        long exportStart = clock.currentTimeInMillis();
-        LOGGER.info("\t Exporting data for collection '{}'", collectionId);
-        notificationService.initialSnapshotNotificationService().notifyTableInProgress(snapshotContext.partition, snapshotContext.offset, collectionId.namespace());
+        final CollectionSnapshot collectionSnapshot = rangeSnapshot.collection();
+        final CollectionId collectionId = collectionSnapshot.id;
+        final MongoDbCollectionSplitter.Range range = rangeSnapshot.range();
+        if (collectionSnapshot.started.compareAndSet(false, true)) {
+            collectionSnapshot.exportStart = clock.currentTimeInMillis();
+            LOGGER.info("\t Exporting data for collection '{}'", collectionId);
+            notificationService.initialSnapshotNotificationService().notifyTableInProgress(snapshotContext.partition, snapshotContext.offset,
+                    collectionId.namespace());
+        }
+        if (!range.isAll()) {
+            LOGGER.info("\t Exporting range {} of collection '{}'", range, collectionId);
+        }
 
         mongo.execute("sync '" + collectionId + "'", client -> {
             final MongoDatabase database = client.getDatabase(collectionId.dbName());
@@ -314,8 +349,7 @@ private void createDataEventsForCollection(ChangeEventSourceContext sourceContex
             Optional<String> snapshotFilterForCollectionId = Optional.ofNullable(snapshotFilterQueryForCollection.get(collectionId));
             Bson filterQuery = Document.parse(snapshotFilterForCollectionId.orElse("{}"));
 
-            try (MongoCursor<BsonDocument> cursor = collection.find(filterQuery).batchSize(batchSize).iterator()) {
-                snapshotContext.lastRecordInCollection = false;
+            try (MongoCursor<BsonDocument> cursor = range.apply(collection.find(filterQuery)).batchSize(batchSize).iterator()) {
                 if (cursor.hasNext()) {
                     while (cursor.hasNext()) {
                         if (!sourceContext.isRunning()) {
@@ -325,9 +359,9 @@ private void createDataEventsForCollection(ChangeEventSourceContext sourceContex
                         BsonDocument document = cursor.next();
                         docs++;
 
-                        snapshotContext.lastRecordInCollection = !cursor.hasNext();
-
-                        if (snapshotContext.lastCollection && snapshotContext.lastRecordInCollection) {
+                        // Ranges are copied concurrently, so only the last record of the last range still being copied
+                        // is the last record of the snapshot
+                        if (!cursor.hasNext() && snapshotContext.pendingRanges.get() == 1) {
                             snapshotContext.offset.markSnapshotRecord(SnapshotRecord.LAST);
                         }
 
@@ -336,16 +370,20 @@ private void createDataEventsForCollection(ChangeEventSourceContext sourceContex
                                 snapshotReceiver);
                     }
                 }
-                else if (snapshotContext.lastCollection) {
+                else if (snapshotContext.pendingRanges.get() == 1) {
                     // if the last collection does not contain any records we still need to mark the last processed event as last one
                     snapshotContext.offset.markSnapshotRecord(SnapshotRecord.LAST);
                 }
+            }
 
+            final long collectionDocs = collectionSnapshot.documents.addAndGet(docs);
+            snapshotContext.pendingRanges.decrementAndGet();
+            if (collectionSnapshot.pendingRanges.decrementAndGet() == 0) {
                 notificationService.initialSnapshotNotificationService().notifyCompletedTableSuccessfully(snapshotContext.partition, snapshotContext.offset,
                         collectionId.namespace());
-                LOGGER.info("\t Finished snapshotting {} records for collection '{}'; total duration '{}'", docs, collectionId,
-                        Strings.duration(clock.currentTimeInMillis() - exportStart));
-                snapshotProgressListener.dataCollectionSnapshotCompleted(snapshotContext.partition, collectionId, docs);
+                LOGGER.info("\t Finished snapshotting {} records for collection '{}'; total duration '{}'", collectionDocs, collectionId,
+                        Strings.duration(clock.currentTimeInMillis() - collectionSnapshot.exportStart));
+                snapshotProgressListener.dataCollectionSnapshotCompleted(snapshotContext.partition, collectionId, collectionDocs);
             }
         });
     }
@@ -371,12 +409,33 @@ private Clock getClock() {
         return clock;
     }
 
+    /**
+     * The progress of the snapshot of a collection, whose ranges may be copied by several threads.
+     */
+    private static class CollectionSnapshot {
+        private final CollectionId id;
+        private final AtomicInteger pendingRanges;
+        private final AtomicLong documents = new AtomicLong();
+        private final AtomicBoolean started = new AtomicBoolean();
+        private volatile long exportStart;
+
+        CollectionSnapshot(CollectionId id, int ranges) {
+            this.id = id;
+            this.pendingRanges = new AtomicInteger(ranges);
+        }
+    }
+
+    private record CollectionRangeSnapshot(CollectionSnapshot collection, MongoDbCollectionSplitter.Range range) {
+    }
+
     /**
      * Mutable context that is populated in the course of snapshotting.
      */
     private static class MongoDbSnapshotContext extends SnapshotContext<MongoDbPartition, MongoDbOffsetContext> {
-        public boolean lastCollection;
-        public boolean lastRecordInCollection;
+        /**
+         * The number of ranges of all collections that have not been copied completely yet.
+         */
+        public final AtomicInteger pendingRanges = new AtomicInteger();
 
         MongoDbSnapshotContext(MongoDbPartition partition) {
             super(partition);
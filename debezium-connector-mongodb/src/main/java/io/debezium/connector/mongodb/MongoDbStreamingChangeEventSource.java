@@ -5,12 +5,19 @@
  */
 package io.debezium.connector.mongodb;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.mongodb.ConnectionString;
 import com.mongodb.MongoException;
 import com.mongodb.client.ChangeStreamIterable;
 import com.mongodb.client.MongoClient;
@@ -82,7 +89,12 @@ public void execute(ChangeEventSourceContext context, MongoDbPartition partition
 
         try (MongoDbConnection mongo = taskContext.getConnection(dispatcher, partition)) {
             mongo.execute("Reading change stream", client -> {
-                readChangeStream(client, context, partition);
+                if (connectorConfig.isCursorPerShard()) {
+                    readShardChangeStreams(mongo, client, context, partition);
+                }
+                else {
+                    readChangeStream(client, context, partition);
+                }
             });
         }
         catch (Throwable t) {
@@ -98,30 +110,70 @@ public MongoDbOffsetContext getOffsetContext() {
 
     private void readChangeStream(MongoClient client, ChangeEventSourceContext context, MongoDbPartition partition) {
         LOGGER.info("Reading change stream");
-        final SplitEventHandler<BsonDocument> splitHandler = new SplitEventHandler<>();
         final ChangeStreamIterable<BsonDocument> stream = initChangeStream(client, effectiveOffset);
 
         try (var cursor = BufferingChangeStreamCursor.fromIterable(stream, taskContext, streamingMetrics, clock).start()) {
-            while (context.isRunning()) {
-                waitWhenStreamingPaused(context, cursor);
-                var resumableEvent = cursor.tryNext();
-                if (resumableEvent == null) {
-                    continue;
-                }
+            readEvents(cursor, context, partition);
+        }
+        catch (MongoException e) {
+            LOGGER.error("Error while reading change stream", e);
+            errorHandler.setProducerThrowable(e);
+        }
+    }
 
-                var result = resumableEvent.document
-                        .map(doc -> processChangeStreamDocument(doc, splitHandler, partition, effectiveOffset))
-                        .orElseGet(() -> errorHandled(() -> dispatchHeartbeatEvent(resumableEvent, partition, effectiveOffset)));
+    /**
+     * Reads the change stream of each shard of the cluster, falling back to the change stream of the cluster when it is not sharded.
+     */
+    private void readShardChangeStreams(MongoDbConnection mongo, MongoClient client, ChangeEventSourceContext context, MongoDbPartition partition) {
+        final Map<String, ConnectionString> shards = MongoUtils.shardConnectionStrings(client);
+        if (shards.isEmpty()) {
+            LOGGER.warn("The cluster is not sharded, reading its change stream instead of the change streams of the shards");
+            readChangeStream(client, context, partition);
+            return;
+        }
+        LOGGER.info("Reading change streams of {} shard(s): {}", shards.size(), shards.keySet());
 
-                if (result == StreamStatus.ERROR) {
-                    return;
-                }
+        final List<MongoClient> shardClients = new ArrayList<>();
+        try {
+            final Map<String, ChangeStreamIterable<BsonDocument>> streams = new LinkedHashMap<>();
+            for (Map.Entry<String, ConnectionString> shard : shards.entrySet()) {
+                final MongoClient shardClient = mongo.getMongoClient(shard.getValue());
+                shardClients.add(shardClient);
+                streams.put(shard.getKey(), initShardChangeStream(shardClient, shard.getKey(), effectiveOffset));
+            }
+
+            try (var cursor = BufferingChangeStreamCursor.fromShardIterables(streams, taskContext, streamingMetrics, clock).start()) {
+                readEvents(cursor, context, partition);
             }
         }
         catch (MongoException e) {
-            LOGGER.error("Error while reading change stream", e);
+            LOGGER.error("Error while reading change streams of shards", e);
             errorHandler.setProducerThrowable(e);
         }
+        finally {
+            shardClients.forEach(MongoClient::close);
+        }
+    }
+
+    private void readEvents(BufferingChangeStreamCursor<BsonDocument> cursor, ChangeEventSourceContext context, MongoDbPartition partition) {
+        // split events are reassembled per change stream, as the fragments of the shards may be interleaved
+        final Map<String, SplitEventHandler<BsonDocument>> splitHandlers = new HashMap<>();
+        while (context.isRunning()) {
+            waitWhenStreamingPaused(context, cursor);
+            var resumableEvent = cursor.tryNext();
+            if (resumableEvent == null) {
+                continue;
+            }
+
+            var splitHandler = splitHandlers.computeIfAbsent(resumableEvent.shard, shard -> new SplitEventHandler<>());
+            var result = resumableEvent.document
+                    .map(doc -> processChangeStreamDocument(resumableEvent.shard, doc, splitHandler, partition, effectiveOffset))
+                    .orElseGet(() -> errorHandled(() -> dispatchHeartbeatEvent(resumableEvent, partition, effectiveOffset)));
+
+            if (result == StreamStatus.ERROR) {
+                return;
+            }
+        }
     }
 
     private void waitWhenStreamingPaused(ChangeEventSourceContext context, BufferingChangeStreamCursor cursor) {
@@ -138,6 +190,7 @@ private void waitWhenStreamingPaused(ChangeEventSourceContext context, Buffering
     }
 
     private StreamStatus processChangeStreamDocument(
+                                                     String shard,
                                                      ChangeStreamDocument<BsonDocument> document,
                                                      SplitEventHandler<BsonDocument> splitHandler,
                                                      MongoDbPartition partition,
@@ -145,11 +198,12 @@ private StreamStatus processChangeStreamDocument(
         LOGGER.trace("Arrived Change Stream event: {}", document);
         return splitHandler
                 .handle(document)
-                .map(event -> errorHandled(() -> dispatchChangeEvent(event, partition, offsetContext)))
+                .map(event -> errorHandled(() -> dispatchChangeEvent(shard, event, partition, offsetContext)))
                 .orElse(StreamStatus.NEXT);
     }
 
     private void dispatchChangeEvent(
+                                     String shard,
                                      ChangeStreamDocument<BsonDocument> event,
                                      MongoDbPartition partition,
                                      MongoDbOffsetContext offsetContext)
@@ -159,7 +213,7 @@ private void dispatchChangeEvent(
                 event.getNamespace().getCollectionName());
 
         var emitter = new MongoDbChangeRecordEmitter(partition, offsetContext, clock, event, connectorConfig);
-        offsetContext.changeStreamEvent(event);
+        offsetContext.changeStreamEvent(shard, event);
         dispatcher.dispatchDataChangeEvent(partition, collectionId, emitter);
     }
 
@@ -190,6 +244,46 @@ private StreamStatus errorHandled(BlockingRunnable action) {
     }
 
     protected ChangeStreamIterable<BsonDocument> initChangeStream(MongoClient client, MongoDbOffsetContext offsetContext) {
+        final ChangeStreamIterable<BsonDocument> stream = openChangeStream(client);
+
+        if (offsetContext.lastResumeToken() != null) {
+            LOGGER.info("Resuming streaming from token '{}'", offsetContext.lastResumeToken());
+            stream.resumeAfter(offsetContext.lastResumeTokenDoc());
+        }
+        else if (offsetContext.lastTimestamp() != null) {
+            LOGGER.info("Resuming streaming from operation time '{}'", offsetContext.lastTimestamp());
+            stream.startAtOperationTime(offsetContext.lastTimestamp());
+        }
+
+        return stream;
+    }
+
+    /**
+     * Opens the change stream of a shard, resuming it from the token of the shard or, for a shard without a token, from
+     * the time up to which the cluster has been read.
+     */
+    protected ChangeStreamIterable<BsonDocument> initShardChangeStream(MongoClient shardClient, String shard, MongoDbOffsetContext offsetContext) {
+        final ChangeStreamIterable<BsonDocument> stream = openChangeStream(shardClient);
+
+        final BsonDocument resumeToken = offsetContext.lastShardResumeTokenDoc(shard);
+        if (resumeToken != null) {
+            LOGGER.info("Resuming streaming of shard '{}' from token '{}'", shard, resumeToken);
+            stream.resumeAfter(resumeToken);
+        }
+        else {
+            final BsonDocument clusterResumeToken = offsetContext.lastResumeTokenDoc();
+            final BsonTimestamp timestamp = clusterResumeToken != null ? ResumeTokens.getTimestamp(clusterResumeToken) : offsetContext.lastTimestamp();
+            if (timestamp != null) {
+                LOGGER.info("Resuming streaming of shard '{}' from operation time '{}'", shard, timestamp);
+                stream.startAtOperationTime(timestamp);
+                offsetContext.startShard(shard, timestamp);
+            }
+        }
+
+        return stream;
+    }
+
+    private ChangeStreamIterable<BsonDocument> openChangeStream(MongoClient client) {
         final ChangeStreamIterable<BsonDocument> stream = MongoUtils.openChangeStream(client, taskContext);
 
         if (connectorConfig.getCaptureMode().isFullUpdate()) {
@@ -203,15 +297,6 @@ protected ChangeStreamIterable<BsonDocument> initChangeStream(MongoClient client
         if (connectorConfig.getCaptureMode().isIncludePreImage()) {
             stream.fullDocumentBeforeChange(FullDocumentBeforeChange.WHEN_AVAILABLE);
         }
-        if (offsetContext.lastResumeToken() != null) {
-            LOGGER.info("Resuming streaming from token '{}'", offsetContext.lastResumeToken());
-            stream.resumeAfter(offsetContext.lastResumeTokenDoc());
-        }
-        else if (offsetContext.lastTimestamp() != null) {
-            LOGGER.info("Resuming streaming from operation time '{}'", offsetContext.lastTimestamp());
-            stream.startAtOperationTime(offsetContext.lastTimestamp());
-        }
-
         if (connectorConfig.getCursorMaxAwaitTime() > 0) {
             stream.maxAwaitTime(connectorConfig.getCursorMaxAwaitTime(), TimeUnit.MILLISECONDS);
         }
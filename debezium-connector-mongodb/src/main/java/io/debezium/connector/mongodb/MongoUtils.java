@@ -5,8 +5,10 @@
  */
 package io.debezium.connector.mongodb;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -16,6 +18,7 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.mongodb.ConnectionString;
 import com.mongodb.MongoException;
 import com.mongodb.client.ChangeStreamIterable;
 import com.mongodb.client.MongoClient;
@@ -28,6 +31,7 @@
 import com.mongodb.connection.ClusterType;
 import com.mongodb.connection.ServerDescription;
 
+import io.debezium.connector.mongodb.connection.ConnectionStrings;
 import io.debezium.function.BlockingConsumer;
 
 /**
@@ -132,6 +136,27 @@ public static void onCollectionDocuments(MongoClient client, String dbName, Stri
         });
     }
 
+    /**
+     * Read the connection strings of the shards of a sharded cluster.
+     *
+     * @param client the MongoDB client connected to the router; may not be null
+     * @return the connection strings keyed by shard name; empty if the cluster is not sharded
+     */
+    public static Map<String, ConnectionString> shardConnectionStrings(MongoClient client) {
+        if (clusterDescription(client).getType() != ClusterType.SHARDED) {
+            return Map.of();
+        }
+        final Map<String, ConnectionString> shards = new TreeMap<>();
+        try (MongoCursor<Document> cursor = client.getDatabase("config").getCollection("shards").find().iterator()) {
+            while (cursor.hasNext()) {
+                final Document shard = cursor.next();
+                ConnectionStrings.parseFromHosts(shard.getString("host"))
+                        .ifPresent(connectionString -> shards.put(shard.getString("_id"), new ConnectionString(connectionString)));
+            }
+        }
+        return shards;
+    }
+
     /**
      * Determine if the supplied {@link MongoIterable} contains an element that is equal to the supplied value.
      *
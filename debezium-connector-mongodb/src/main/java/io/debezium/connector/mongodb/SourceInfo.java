@@ -6,7 +6,9 @@
 package io.debezium.connector.mongodb;
 
 import java.time.Instant;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 import org.apache.kafka.connect.data.Struct;
 import org.bson.BsonDocument;
@@ -70,6 +72,7 @@ public final class SourceInfo extends BaseSourceInfo {
     public static final String COLLECTION = "collection";
     public static final String LSID = "lsid";
     public static final String TXN_NUMBER = "txnNumber";
+    public static final String SHARD_RESUME_TOKEN_PREFIX = "shard_resume_token.";
 
     public static final String WALL_TIME = "wallTime";
 
@@ -86,6 +89,11 @@ public final class SourceInfo extends BaseSourceInfo {
     private CollectionId collectionId;
     private Position position = null;
 
+    /**
+     * Positions of the change streams of the individual shards, when the shards are read separately.
+     */
+    private final Map<String, Position> shardPositions = new TreeMap<>();
+
     private long wallTime;
 
     @Immutable
@@ -164,6 +172,50 @@ public BsonTimestamp lastTimestamp() {
         return position != null ? position.getTimestamp() : null;
     }
 
+    public String lastShardResumeToken(String shard) {
+        final Position shardPosition = shardPositions.get(shard);
+        return shardPosition != null ? shardPosition.resumeToken : null;
+    }
+
+    /**
+     * @return the resume tokens of the change streams of the individual shards, keyed by shard name
+     */
+    public Map<String, String> shardResumeTokens() {
+        final Map<String, String> resumeTokens = new TreeMap<>();
+        shardPositions.forEach((shard, shardPosition) -> {
+            if (shardPosition.resumeToken != null) {
+                resumeTokens.put(shard, shardPosition.resumeToken);
+            }
+        });
+        return resumeTokens;
+    }
+
+    /**
+     * @return the oldest time up to which the change streams of the individual shards have been read, or {@code null}
+     *         if the shards are not read separately
+     */
+    public BsonTimestamp oldestShardTimestamp() {
+        BsonTimestamp oldest = null;
+        for (Position shardPosition : shardPositions.values()) {
+            if (oldest == null || shardPosition.ts.compareTo(oldest) < 0) {
+                oldest = shardPosition.ts;
+            }
+        }
+        return oldest;
+    }
+
+    /**
+     * Records the time from which the change stream of a shard without a resume token is read, so that the
+     * position of the cluster does not move past it before the first event of the shard.
+     */
+    public void startShard(String shard, BsonTimestamp timestamp) {
+        shardPositions.putIfAbsent(shard, Position.changeStreamPosition(timestamp, null, null));
+    }
+
+    public void setShardResumeToken(String shard, String resumeToken) {
+        shardPositions.put(shard, Position.changeStreamPosition(ResumeTokens.getTimestamp(ResumeTokens.fromBase64(resumeToken)), resumeToken, null));
+    }
+
     /**
      * Get a {@link Struct} representation of the source partition and offset
      * information where we have last read. The Struct complies with the {@link #schema} for the MongoDB connector.
@@ -193,6 +245,12 @@ public void noEvent(ResumableChangeStreamEvent<BsonDocument> event) {
         if (event.hasDocument()) {
             return;
         }
+        if (event.shard != null) {
+            final BsonTimestamp ts = ResumeTokens.getTimestamp(event.resumeToken);
+            shardPositions.put(event.shard, Position.changeStreamPosition(ts, ResumeTokens.toBase64(event.resumeToken), null));
+            noEvent(Position.changeStreamPosition(ts, null, null));
+            return;
+        }
         noEvent(ResumeTokens.toBase64(event.resumeToken));
     }
 
@@ -226,12 +284,25 @@ private void noEvent(Position position) {
     }
 
     public void changeStreamEvent(ChangeStreamDocument<BsonDocument> changeStreamEvent) {
+        changeStreamEvent(null, changeStreamEvent);
+    }
+
+    /**
+     * @param shard the shard whose change stream the event was read from, or {@code null} for the change stream of the cluster
+     * @param changeStreamEvent the event
+     */
+    public void changeStreamEvent(String shard, ChangeStreamDocument<BsonDocument> changeStreamEvent) {
         Position position = INITIAL_POSITION;
         String namespace = "";
         long wallTime = 0L;
         if (changeStreamEvent != null) {
             String resumeToken = ResumeTokens.toBase64(changeStreamEvent.getResumeToken());
             BsonTimestamp ts = changeStreamEvent.getClusterTime();
+            if (shard != null) {
+                shardPositions.put(shard, Position.changeStreamPosition(ts, resumeToken, null));
+                // the token of a shard cannot resume the change stream of the cluster
+                resumeToken = null;
+            }
             position = Position.changeStreamPosition(ts, resumeToken, MongoUtils.getChangeStreamSessionTransactionId(changeStreamEvent));
             namespace = changeStreamEvent.getNamespace().getFullName();
             if (changeStreamEvent.getWallTime() != null) {
@@ -306,6 +377,7 @@ long wallTime() {
 
     @Override
     public String toString() {
-        return "SourceInfo [initialSync=" + initialSnapshot + ", collectionId=" + collectionId + ", position=" + position + "]";
+        return "SourceInfo [initialSync=" + initialSnapshot + ", collectionId=" + collectionId + ", position=" + position
+                + (shardPositions.isEmpty() ? "" : ", shardPositions=" + shardPositions) + "]";
     }
 }
@@ -11,12 +11,14 @@
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import org.bson.BsonDocument;
 import org.bson.BsonTimestamp;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.mongodb.ConnectionString;
 import com.mongodb.MongoChangeStreamException;
 import com.mongodb.MongoCommandException;
 import com.mongodb.client.ChangeStreamIterable;
@@ -78,6 +80,16 @@ public MongoClient getMongoClient() {
         return connectionContext.getMongoClient();
     }
 
+    /**
+     * Creates a client connected to the given servers, e.g. to a shard of the cluster
+     *
+     * @param connectionString connection string specifying the servers
+     * @return mongo client
+     */
+    public MongoClient getMongoClient(ConnectionString connectionString) {
+        return connectionContext.getMongoClient(connectionString);
+    }
+
     /**
      * Execute the supplied operation. Whenever the operation fails the error handler is called and the operation is repeated
      *
@@ -202,6 +214,11 @@ public boolean validateLogPosition(MongoDbOffsetContext offset, MongoDbTaskConte
         LOGGER.info("Found existing offset for at {}", offset.getOffset());
         final BsonDocument token = offset.lastResumeTokenDoc();
 
+        if (token == null && offset.hasShardResumeTokens()) {
+            // the shards were read separately, the cluster must be readable from the oldest shard position
+            final BsonTimestamp timestamp = offset.lastTimestamp();
+            return timestamp != null && isValidChangeStreamStart(stream -> stream.startAtOperationTime(timestamp), taskContext);
+        }
         return isValidResumeToken(token, taskContext);
     }
 
@@ -211,10 +228,14 @@ private boolean isValidResumeToken(BsonDocument token, MongoDbTaskContext taskCo
             return false;
         }
 
+        return isValidChangeStreamStart(stream -> stream.resumeAfter(token), taskContext);
+    }
+
+    private boolean isValidChangeStreamStart(Consumer<ChangeStreamIterable<BsonDocument>> start, MongoDbTaskContext taskContext) {
         try {
             return execute("Checking change stream", client -> {
                 ChangeStreamIterable<BsonDocument> stream = MongoUtils.openChangeStream(client, taskContext);
-                stream.resumeAfter(token);
+                start.accept(stream);
 
                 try (var ignored = stream.cursor()) {
                     LOGGER.info("Valid resume token present, so no snapshot will be performed'");
@@ -68,6 +68,16 @@ public MongoClient getMongoClient() {
         return clientFactory.getMongoClient();
     }
 
+    /**
+     * Creates native {@link MongoClient} instance connected to the given servers
+     *
+     * @param connectionString connection string specifying the servers
+     * @return mongo client
+     */
+    public MongoClient getMongoClient(ConnectionString connectionString) {
+        return clientFactory.getMongoClient(connectionString);
+    }
+
     public ClusterDescription getClusterDescription() {
         try (var client = getMongoClient()) {
             LOGGER.info("Reading description of cluster at {}", getMaskedConnectionString());
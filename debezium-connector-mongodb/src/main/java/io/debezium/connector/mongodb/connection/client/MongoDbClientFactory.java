@@ -24,6 +24,7 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.mongodb.ConnectionString;
 import com.mongodb.MongoClientSettings;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
@@ -52,6 +53,19 @@ default MongoClient getMongoClient() {
         return MongoClients.create(clientSettings);
     }
 
+    /**
+     * Creates native {@link MongoClient} instance connected to other servers than the configured ones, e.g. to a shard
+     *
+     * @param connectionString connection string specifying the servers, the other settings are kept
+     * @return mongo client
+     */
+    default MongoClient getMongoClient(ConnectionString connectionString) {
+        var clientSettings = MongoClientSettings.builder(getMongoClientSettings())
+                .applyToClusterSettings(builder -> builder.applyConnectionString(connectionString))
+                .build();
+        return MongoClients.create(clientSettings);
+    }
+
     /**
      * Creates keystore
      *
@@ -0,0 +1,93 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb.data;
+
+import java.nio.ByteBuffer;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.errors.DataException;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+
+import io.debezium.connector.mongodb.MongoDbSchemaFactory;
+
+/**
+ * A semantic type for a MongoDB document encoded as BSON bytes.
+ */
+public class Bson {
+
+    public static final String LOGICAL_NAME = "io.debezium.data.Bson";
+    public static final int SCHEMA_VERSION = 1;
+
+    private static final BsonDocumentCodec BSON_DOCUMENT_CODEC = new BsonDocumentCodec();
+    private static final EncoderContext ENCODER_CONTEXT = EncoderContext.builder().build();
+
+    /**
+     * Returns a {@link SchemaBuilder} for a BSON field. You can use the resulting SchemaBuilder
+     * to set additional schema settings such as required/optional, default value, and documentation.
+     *
+     * @return the schema builder
+     */
+    public static SchemaBuilder builder() {
+        return MongoDbSchemaFactory.get().datatypeBsonSchema();
+    }
+
+    /**
+     * Returns a {@link SchemaBuilder} for a BSON field, with all other default Schema settings.
+     *
+     * @return the schema
+     * @see #builder()
+     */
+    public static Schema schema() {
+        return builder().build();
+    }
+
+    /**
+     * Encodes a document into BSON bytes.
+     *
+     * @param document the document; may be null
+     * @return the BSON bytes, or null if the document is null
+     */
+    public static byte[] encode(BsonDocument document) {
+        if (document == null) {
+            return null;
+        }
+        final BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            BSON_DOCUMENT_CODEC.encode(writer, document, ENCODER_CONTEXT);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Reads a document from the value of either a {@link Bson} or a {@link io.debezium.data.Json} field.
+     *
+     * @param value the BSON bytes or the JSON string; may be null
+     * @return the mutable document, or null if the value is null
+     */
+    public static BsonDocument toDocument(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof byte[] bytes) {
+            return new RawBsonDocument(bytes).decode(BSON_DOCUMENT_CODEC);
+        }
+        if (value instanceof ByteBuffer buffer) {
+            final byte[] bytes = new byte[buffer.remaining()];
+            buffer.duplicate().get(bytes);
+            return new RawBsonDocument(bytes).decode(BSON_DOCUMENT_CODEC);
+        }
+        if (value instanceof String json) {
+            return BsonDocument.parse(json);
+        }
+        throw new DataException("Unexpected document value type " + value.getClass().getName());
+    }
+}
@@ -7,6 +7,9 @@
 
 import java.io.Closeable;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
@@ -22,6 +25,7 @@
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,6 +40,7 @@
 import io.debezium.annotation.NotThreadSafe;
 import io.debezium.connector.mongodb.MongoDbConnector;
 import io.debezium.connector.mongodb.MongoDbTaskContext;
+import io.debezium.connector.mongodb.ResumeTokens;
 import io.debezium.connector.mongodb.metrics.MongoDbStreamingChangeEventSourceMetrics;
 import io.debezium.util.Clock;
 import io.debezium.util.DelayStrategy;
@@ -45,6 +50,11 @@
  * An implementation of {@link  MongoChangeStreamCursor} which immediately starts consuming available events into a buffer.
  * <p>
  * Internally this cursor starts a {@link EventFetcher} as a separate thread on provided executor.
+ * When the change streams of several shards are read, each of them has its own fetcher and the buffered events of the
+ * fetchers are merged in the order of their cluster time, as the router does. An event is returned only once every other
+ * shard has reported a position at or after its cluster time, either by an event or by a post batch resume token. So the
+ * events of a shard are held back until an idle shard advances its position, which it does at least with the periodic
+ * no-op writes of its replica set.
  * Although the implementation is internally thread safe the cursors is not meant to be accessed concurrently from multiple threads.
  *
  * @param <TResult> the type of documents the cursor contains
@@ -56,9 +66,11 @@
     public static final int THROTTLE_NO_MESSAGE_BEFORE_PAUSE = 5;
     public static final int FETCHER_SHUTDOWN_TIMEOUT = 30;
 
-    private final EventFetcher<TResult> fetcher;
+    private final List<EventFetcher<TResult>> fetchers;
     private final ExecutorService executor;
     private final DelayStrategy throttler;
+    private final Object[] heads;
+    private final BsonTimestamp[] positions;
     private BsonDocument lastResumeToken = null;
 
     /**
@@ -74,6 +86,10 @@
          * Otherwise the value corresponds to the value returned by associated {@link MongoChangeStreamCursor#getResumeToken()}
          */
         public final BsonDocument resumeToken;
+        /**
+         * The shard whose change stream the event was read from, or {@code null} for the change stream of the cluster
+         */
+        public final String shard;
 
         /**
          * Creates resumable event from document
@@ -81,9 +97,20 @@
          * @param document change stream event
          */
         public ResumableChangeStreamEvent(ChangeStreamDocument<TResult> document) {
+            this(null, document);
+        }
+
+        /**
+         * Creates resumable event from document
+         *
+         * @param shard the shard of the change stream, or {@code null} for the change stream of the cluster
+         * @param document change stream event
+         */
+        public ResumableChangeStreamEvent(String shard, ChangeStreamDocument<TResult> document) {
             Objects.requireNonNull(document);
             this.document = Optional.of(document);
             this.resumeToken = document.getResumeToken();
+            this.shard = shard;
         }
 
         /**
@@ -92,9 +119,20 @@ public ResumableChangeStreamEvent(ChangeStreamDocument<TResult> document) {
          * @param resumeToken resume token
          */
         public ResumableChangeStreamEvent(BsonDocument resumeToken) {
+            this(null, resumeToken);
+        }
+
+        /**
+         * Creates resumable event from resume token
+         *
+         * @param shard the shard of the change stream, or {@code null} for the change stream of the cluster
+         * @param resumeToken resume token
+         */
+        public ResumableChangeStreamEvent(String shard, BsonDocument resumeToken) {
             Objects.requireNonNull(resumeToken);
             this.document = Optional.empty();
             this.resumeToken = resumeToken;
+            this.shard = shard;
         }
 
         public boolean isEmpty() {
@@ -125,6 +163,7 @@ public String toString() {
         public static final long QUEUE_OFFER_TIMEOUT_MS = 100;
 
         private final ChangeStreamIterable<TResult> stream;
+        private final String shard;
         private final Semaphore capacity;
         private final Queue<ResumableChangeStreamEvent<TResult>> queue;
         private final DelayStrategy throttler;
@@ -143,7 +182,20 @@ public EventFetcher(ChangeStreamIterable<TResult> stream,
                             MongoDbStreamingChangeEventSourceMetrics metrics,
                             Clock clock,
                             DelayStrategy throttler) {
+            this(stream, null, capacity, metrics, clock, throttler);
+        }
+
+        /**
+         * @param shard the shard of the change stream, or {@code null} for the change stream of the cluster
+         */
+        public EventFetcher(ChangeStreamIterable<TResult> stream,
+                            String shard,
+                            int capacity,
+                            MongoDbStreamingChangeEventSourceMetrics metrics,
+                            Clock clock,
+                            DelayStrategy throttler) {
             this.stream = stream;
+            this.shard = shard;
             this.capacity = new Semaphore(capacity);
             this.metrics = metrics;
             this.clock = clock;
@@ -241,6 +293,19 @@ public ResumableChangeStreamEvent<TResult> poll() {
             return event;
         }
 
+        /**
+         * Returns the next buffered event without removing it from the buffer
+         *
+         * @return event or null if no event is buffered
+         */
+        public ResumableChangeStreamEvent<TResult> peek() {
+            var event = queue.peek();
+            if (event == null && hasError()) {
+                throw new DebeziumException("Unable to fetch change stream events", getError());
+            }
+            return event;
+        }
+
         public boolean isEmpty() {
             return queue.isEmpty();
         }
@@ -307,8 +372,8 @@ private Optional<ResumableChangeStreamEvent<TResult>> fetchEvent(MongoChangeStre
             // Cursor resume token may be `null` in case of issues like SERVER-63772, and situations called out in the Javadocs:
             // > resume token [...] can be null if the cursor has either not been iterated yet, or the cursor is closed.
             return Optional.<ResumableChangeStreamEvent<TResult>> empty()
-                    .or(() -> Optional.ofNullable(document).map(ResumableChangeStreamEvent::new))
-                    .or(() -> Optional.ofNullable(cursor.getResumeToken()).map(ResumableChangeStreamEvent::new));
+                    .or(() -> Optional.ofNullable(document).map(doc -> new ResumableChangeStreamEvent<>(shard, doc)))
+                    .or(() -> Optional.ofNullable(cursor.getResumeToken()).map(token -> new ResumableChangeStreamEvent<>(shard, token)));
         }
 
         private void throttleIfNeeded(ChangeStreamDocument<TResult> document) {
@@ -346,6 +411,27 @@ public static <TResult> BufferingChangeStreamCursor<TResult> fromIterable(
                 config.getPollInterval());
     }
 
+    /**
+     * Creates a cursor reading the change streams of several shards, each of them on its own fetcher thread
+     *
+     * @param streams the change streams keyed by shard name
+     */
+    public static <TResult> BufferingChangeStreamCursor<TResult> fromShardIterables(
+                                                                                    Map<String, ChangeStreamIterable<TResult>> streams,
+                                                                                    MongoDbTaskContext taskContext,
+                                                                                    MongoDbStreamingChangeEventSourceMetrics metrics,
+                                                                                    Clock clock) {
+        var config = taskContext.getConnectorConfig();
+        var fetchers = new ArrayList<EventFetcher<TResult>>(streams.size());
+        streams.forEach((shard, stream) -> fetchers.add(
+                new EventFetcher<>(stream, shard, config.getMaxBatchSize(), metrics, clock, DelayStrategy.constant(config.getPollInterval()))));
+
+        return new BufferingChangeStreamCursor<>(
+                fetchers,
+                Threads.newFixedThreadPool(MongoDbConnector.class, taskContext.getServerName(), "replicator-fetcher", fetchers.size()),
+                DelayStrategy.boundedExponential(Duration.ofMillis(1), config.getPollInterval(), 2));
+    }
+
     /**
      * Creates new prefetching cursor
      *
@@ -354,9 +440,22 @@ public static <TResult> BufferingChangeStreamCursor<TResult> fromIterable(
      * @param throttler throttling mechanism
      */
     public BufferingChangeStreamCursor(EventFetcher<TResult> fetcher, ExecutorService executor, DelayStrategy throttler) {
-        this.fetcher = fetcher;
+        this(List.of(fetcher), executor, throttler);
+    }
+
+    /**
+     * Creates new prefetching cursor over several change streams
+     *
+     * @param fetchers MongoDB change event fetchers, each run on its own thread
+     * @param executor executor used to dispatch buffering threads
+     * @param throttler throttling mechanism
+     */
+    public BufferingChangeStreamCursor(List<EventFetcher<TResult>> fetchers, ExecutorService executor, DelayStrategy throttler) {
+        this.fetchers = fetchers;
         this.executor = executor;
         this.throttler = throttler;
+        this.heads = new Object[fetchers.size()];
+        this.positions = new BsonTimestamp[fetchers.size()];
     }
 
     public BufferingChangeStreamCursor(EventFetcher<TResult> fetcher, ExecutorService executor, Duration throttleMaxSleep) {
@@ -364,8 +463,10 @@ public BufferingChangeStreamCursor(EventFetcher<TResult> fetcher, ExecutorServic
     }
 
     public BufferingChangeStreamCursor<TResult> start() {
-        LOGGER.info("Fetcher submitted for execution: {} @ {}", fetcher, executor);
-        executor.submit(fetcher);
+        for (EventFetcher<TResult> fetcher : fetchers) {
+            LOGGER.info("Fetcher submitted for execution: {} @ {}", fetcher, executor);
+            executor.submit(fetcher);
+        }
         return this;
     }
 
@@ -402,28 +503,68 @@ private ResumableChangeStreamEvent<TResult> pollWithDelay() {
         boolean slept;
         ResumableChangeStreamEvent<TResult> event;
         do {
-            event = fetcher.poll();
+            event = pollFetchers();
             slept = throttler.sleepWhen(event == null);
         } while (slept);
 
         return event;
     }
 
+    /**
+     * Polls the buffered event with the lowest cluster time, provided that no fetcher can still buffer an earlier one.
+     * <p>
+     * The position of a fetcher is the cluster time of its next buffered event or, when its buffer is empty, of the last
+     * event polled from it. As the events of a change stream are ordered by cluster time, a fetcher cannot buffer an event
+     * before its position.
+     *
+     * @return event or null if no event can be returned yet
+     */
+    private ResumableChangeStreamEvent<TResult> pollFetchers() {
+        if (fetchers.size() == 1) {
+            return fetchers.get(0).poll();
+        }
+
+        int next = -1;
+        for (int i = 0; i < fetchers.size(); i++) {
+            final ResumableChangeStreamEvent<TResult> head = fetchers.get(i).peek();
+            if (head == null) {
+                continue;
+            }
+            if (head != heads[i]) {
+                heads[i] = head;
+                positions[i] = ResumeTokens.getTimestamp(head.resumeToken);
+            }
+            if (next == -1 || positions[i].compareTo(positions[next]) < 0) {
+                next = i;
+            }
+        }
+        if (next == -1) {
+            return null;
+        }
+        for (BsonTimestamp position : positions) {
+            if (position == null || position.compareTo(positions[next]) < 0) {
+                LOGGER.trace("Holding back event at {} until all change streams reached its cluster time", positions[next]);
+                return null;
+            }
+        }
+        return fetchers.get(next).poll();
+    }
+
     public void resume() {
-        fetcher.resume();
+        fetchers.forEach(EventFetcher::resume);
     }
 
     public void pause() {
-        fetcher.pause();
+        fetchers.forEach(EventFetcher::pause);
     }
 
     public boolean isPaused() {
-        return fetcher.isPaused();
+        return fetchers.stream().allMatch(EventFetcher::isPaused);
     }
 
     @Override
     public boolean hasNext() {
-        return !fetcher.isEmpty();
+        return fetchers.stream().anyMatch(fetcher -> !fetcher.isEmpty());
     }
 
     /**
@@ -431,7 +572,7 @@ public boolean hasNext() {
      */
     @Override
     public int available() {
-        return fetcher.size();
+        return fetchers.stream().mapToInt(EventFetcher::size).sum();
     }
 
     @Override
@@ -439,19 +580,25 @@ public BsonDocument getResumeToken() {
         return lastResumeToken;
     }
 
+    /**
+     * Returns the server cursor of the first change stream
+     */
     @Override
     public ServerCursor getServerCursor() {
-        return fetcher.cursorRef.get().getServerCursor();
+        return fetchers.get(0).cursorRef.get().getServerCursor();
     }
 
+    /**
+     * Returns the server address of the first change stream
+     */
     @Override
     public ServerAddress getServerAddress() {
-        return fetcher.cursorRef.get().getServerAddress();
+        return fetchers.get(0).cursorRef.get().getServerAddress();
     }
 
     @Override
     public void close() {
-        fetcher.close();
+        fetchers.forEach(EventFetcher::close);
         executor.shutdown();
         try {
             LOGGER.info("Awaiting fetcher thread termination");
@@ -32,8 +32,10 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.connector.mongodb.data.Bson;
 import io.debezium.connector.mongodb.sink.converters.bson.AbstractBsonType;
 import io.debezium.connector.mongodb.sink.converters.bson.BooleanType;
+import io.debezium.connector.mongodb.sink.converters.bson.BsonDocumentType;
 import io.debezium.connector.mongodb.sink.converters.bson.BytesType;
 import io.debezium.connector.mongodb.sink.converters.bson.DateType;
 import io.debezium.connector.mongodb.sink.converters.bson.DecimalType;
@@ -53,6 +55,7 @@ class SchemaValueConverter implements SinkValueConverter {
     private static final Set<String> LOGICAL_TYPE_NAMES = unmodifiableSet(
             new HashSet<>(
                     asList(
+                            Bson.LOGICAL_NAME,
                             Date.LOGICAL_NAME,
                             Decimal.LOGICAL_NAME,
                             Time.LOGICAL_NAME,
@@ -72,6 +75,7 @@ class SchemaValueConverter implements SinkValueConverter {
         registerType(new Int64Type());
         registerType(new StringType());
 
+        registerLogicalType(new BsonDocumentType());
         registerLogicalType(new DateType());
         registerLogicalType(new DecimalType());
         registerLogicalType(new TimeType());
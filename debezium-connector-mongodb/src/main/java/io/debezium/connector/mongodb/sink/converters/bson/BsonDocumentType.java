@@ -0,0 +1,25 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb.sink.converters.bson;
+
+import org.bson.BsonValue;
+
+import io.debezium.connector.mongodb.data.Bson;
+
+/**
+ * Writes the BSON encoded documents of the MongoDB source connector as embedded documents.
+ */
+public class BsonDocumentType extends AbstractBsonType {
+
+    public BsonDocumentType() {
+        super(Bson.schema());
+    }
+
+    @Override
+    public BsonValue toBson(final Object data) {
+        return Bson.toDocument(data);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb.snapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+
+/**
+ * Splits a collection into {@code _id} ranges of approximately the same number of documents, so that the ranges of a
+ * large collection can be snapshotted concurrently.
+ * <p>
+ * The range boundaries are taken from a sorted random sample of the document identifiers. The ranges are read as
+ * bounds of the {@code _id} index, so that documents with identifiers of different BSON types are ordered the same
+ * way as by the index and no document falls between two ranges.
+ */
+public class MongoDbCollectionSplitter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MongoDbCollectionSplitter.class);
+
+    private static final String DOCUMENT_ID = "_id";
+    private static final String DOCUMENT_ID_INDEX = "_id_";
+    private static final BsonDocument DOCUMENT_ID_INDEX_KEY = new BsonDocument(DOCUMENT_ID, new BsonInt32(1));
+
+    /**
+     * The number of sampled identifiers per range; more samples make the ranges more even.
+     */
+    static final int SAMPLES_PER_RANGE = 10;
+    static final int MAX_RANGES = 10_000;
+
+    private final long rangeSize;
+
+    /**
+     * @param rangeSize the approximate number of documents per range; {@code 0} disables the splitting
+     */
+    public MongoDbCollectionSplitter(long rangeSize) {
+        this.rangeSize = rangeSize;
+    }
+
+    /**
+     * Splits the collection into ranges, falling back to a single range when the collection is small or cannot be
+     * read by {@code _id} index bounds, e.g. a view or a time series collection.
+     *
+     * @param collection the collection to split
+     * @return the ranges ordered by their bounds, never empty
+     */
+    public List<Range> split(MongoCollection<BsonDocument> collection) {
+        if (rangeSize <= 0) {
+            return List.of(Range.ALL);
+        }
+        try {
+            final int rangeCount = rangeCount(collection.estimatedDocumentCount(), rangeSize);
+            if (rangeCount <= 1 || !hasDocumentIdIndex(collection)) {
+                return List.of(Range.ALL);
+            }
+            final List<BsonValue> sample = collection.aggregate(List.of(
+                    Aggregates.sample(rangeCount * SAMPLES_PER_RANGE),
+                    Aggregates.project(Projections.include(DOCUMENT_ID)),
+                    Aggregates.sort(Sorts.ascending(DOCUMENT_ID))))
+                    .allowDiskUse(true)
+                    .map(document -> document.get(DOCUMENT_ID))
+                    .into(new ArrayList<>());
+            final List<Range> ranges = ranges(boundaries(sample, rangeCount));
+            LOGGER.info("Split collection '{}' into {} range(s)", collection.getNamespace(), ranges.size());
+            return ranges;
+        }
+        catch (MongoException e) {
+            LOGGER.warn("Unable to split collection '{}', it will be snapshotted as a whole", collection.getNamespace(), e);
+            return List.of(Range.ALL);
+        }
+    }
+
+    private static boolean hasDocumentIdIndex(MongoCollection<BsonDocument> collection) {
+        for (BsonDocument index : collection.listIndexes(BsonDocument.class)) {
+            if (DOCUMENT_ID_INDEX.equals(index.getString("name").getValue())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static int rangeCount(long documents, long rangeSize) {
+        return (int) Math.min(MAX_RANGES, (documents + rangeSize - 1) / rangeSize);
+    }
+
+    /**
+     * Picks evenly spaced boundaries from the sorted sample, skipping repeated values.
+     */
+    static List<BsonValue> boundaries(List<BsonValue> sortedSample, int rangeCount) {
+        final List<BsonValue> boundaries = new ArrayList<>(rangeCount - 1);
+        for (int i = 1; i < rangeCount; i++) {
+            final int index = (int) ((long) i * sortedSample.size() / rangeCount);
+            if (index >= sortedSample.size()) {
+                break;
+            }
+            final BsonValue boundary = sortedSample.get(index);
+            if (boundaries.isEmpty() || !boundaries.get(boundaries.size() - 1).equals(boundary)) {
+                boundaries.add(boundary);
+            }
+        }
+        return boundaries;
+    }
+
+    static List<Range> ranges(List<BsonValue> boundaries) {
+        final List<Range> ranges = new ArrayList<>(boundaries.size() + 1);
+        BsonValue lowerBound = null;
+        for (BsonValue boundary : boundaries) {
+            ranges.add(new Range(lowerBound, boundary));
+            lowerBound = boundary;
+        }
+        ranges.add(new Range(lowerBound, null));
+        return ranges;
+    }
+
+    /**
+     * A range of document identifiers.
+     *
+     * @param lowerBound the inclusive lower bound, or {@code null} if the range starts with the first document
+     * @param upperBound the exclusive upper bound, or {@code null} if the range ends with the last document
+     */
+    public record Range(BsonValue lowerBound, BsonValue upperBound) {
+
+        public static final Range ALL = new Range(null, null);
+
+        public boolean isAll() {
+            return lowerBound == null && upperBound == null;
+        }
+
+        /**
+         * Restricts the query to the documents of this range.
+         */
+        public <T> FindIterable<T> apply(FindIterable<T> find) {
+            if (isAll()) {
+                return find;
+            }
+            find.hint(DOCUMENT_ID_INDEX_KEY);
+            if (lowerBound != null) {
+                find.min(new BsonDocument(DOCUMENT_ID, lowerBound));
+            }
+            if (upperBound != null) {
+                find.max(new BsonDocument(DOCUMENT_ID, upperBound));
+            }
+            return find;
+        }
+
+        @Override
+        public String toString() {
+            return "[" + (lowerBound == null ? "MinKey" : lowerBound) + ", " + (upperBound == null ? "MaxKey" : upperBound) + ")";
+        }
+    }
+}
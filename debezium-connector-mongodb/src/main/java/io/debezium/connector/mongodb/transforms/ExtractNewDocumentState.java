@@ -34,6 +34,7 @@
 import io.debezium.config.EnumeratedValue;
 import io.debezium.config.Field;
 import io.debezium.connector.mongodb.MongoDbFieldName;
+import io.debezium.connector.mongodb.data.Bson;
 import io.debezium.data.Envelope;
 import io.debezium.schema.FieldNameSelector;
 import io.debezium.schema.SchemaNameAdjuster;
@@ -328,15 +329,15 @@ private BsonDocument getPartialUpdateDocument(R beforeRecord, R updateDescriptio
 
         Struct updateDescription = requireStruct(updateDescriptionRecord.value(), MongoDbFieldName.UPDATE_DESCRIPTION);
 
-        String updated = updateDescription.getString(MongoDbFieldName.UPDATED_FIELDS);
+        Object updated = updateDescription.get(MongoDbFieldName.UPDATED_FIELDS);
         List<String> removed = updateDescription.getArray(MongoDbFieldName.REMOVED_FIELDS);
 
         if (beforeRecord.value() != null) {
-            valueDocument = BsonDocument.parse(beforeRecord.value().toString());
+            valueDocument = Bson.toDocument(beforeRecord.value());
         }
 
         if (updated != null) {
-            BsonDocument updatedBson = BsonDocument.parse(updated);
+            BsonDocument updatedBson = Bson.toDocument(updated);
             for (Entry<String, BsonValue> valueEntry : updatedBson.entrySet()) {
                 valueDocument.append(valueEntry.getKey(), valueEntry.getValue());
             }
@@ -362,6 +363,7 @@ private BsonDocument getPartialUpdateDocument(R beforeRecord, R updateDescriptio
     }
 
     private BsonDocument getFullDocument(R record, BsonDocument key) {
-        return BsonDocument.parse(record.value().toString());
+        // Both the JSON strings and the BSON bytes of the connector's document encodings are read
+        return Bson.toDocument(record.value());
     }
 }
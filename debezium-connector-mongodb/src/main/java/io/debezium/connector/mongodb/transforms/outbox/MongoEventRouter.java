@@ -28,6 +28,7 @@
 import io.debezium.common.annotation.Incubating;
 import io.debezium.config.Configuration;
 import io.debezium.connector.mongodb.Module;
+import io.debezium.connector.mongodb.data.Bson;
 import io.debezium.connector.mongodb.transforms.ExtractNewDocumentState;
 import io.debezium.connector.mongodb.transforms.MongoDataConverter;
 import io.debezium.time.Timestamp;
@@ -105,7 +106,7 @@ public String version() {
     }
 
     /**
-     * Replaces <i>after</i> field by parsing and expanding original JSON string to Struct type.
+     * Replaces <i>after</i> field by parsing and expanding original JSON string or BSON bytes to Struct type.
      *
      * @param originalRecord an original Record from MongoDB Connector
      * @return a new Record of which <i>after</i> field is replaced with new one
@@ -114,17 +115,17 @@ public String version() {
     private R expandAfterField(R originalRecord) throws IllegalStateException {
         final R afterRecord = afterExtractor.apply(originalRecord);
 
-        // Convert 'after' field format from JSON String to Struct
+        // Convert 'after' field format from JSON String or BSON bytes to Struct
         Object after = afterRecord.value();
 
-        if (!(after instanceof String)) {
-            throw new IllegalStateException("Unable to expand non-String after field: " + after.getClass());
+        if (!(after instanceof String) && !(after instanceof byte[])) {
+            throw new IllegalStateException("Unable to expand after field of unexpected type: " + after.getClass());
         }
 
         Schema originalValueSchema = originalRecord.valueSchema();
 
         String afterSchemaName = afterRecord.valueSchema().name();
-        BsonDocument afterBsonDocument = BsonDocument.parse((String) after);
+        BsonDocument afterBsonDocument = Bson.toDocument(after);
 
         Schema newAfterSchema = buildNewAfterSchema(afterSchemaName, afterBsonDocument);
         Struct newAfterStruct = buildNewAfterStruct(newAfterSchema, afterBsonDocument);
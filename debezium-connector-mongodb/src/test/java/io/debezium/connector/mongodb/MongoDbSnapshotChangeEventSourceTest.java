@@ -0,0 +1,327 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.mongodb.Function;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.ListIndexesIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.MongoIterable;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.connector.SnapshotRecord;
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.connector.common.DebeziumHeaderProducer;
+import io.debezium.connector.mongodb.connection.MongoDbConnection;
+import io.debezium.data.Envelope;
+import io.debezium.function.BlockingConsumer;
+import io.debezium.function.BlockingFunction;
+import io.debezium.openlineage.DebeziumOpenLineageEmitter;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.pipeline.ErrorHandler;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.notification.InitialSnapshotNotificationService;
+import io.debezium.pipeline.notification.NotificationService;
+import io.debezium.pipeline.source.SnapshottingTask;
+import io.debezium.pipeline.source.spi.ChangeEventSource.ChangeEventSourceContext;
+import io.debezium.pipeline.source.spi.SnapshotProgressListener;
+import io.debezium.snapshot.SnapshotterService;
+import io.debezium.util.Clock;
+import io.debezium.util.LoggingContext;
+
+/**
+ * Tests the snapshot of collections whose ranges are copied concurrently, without a MongoDB deployment.
+ */
+@SuppressWarnings("unchecked")
+public class MongoDbSnapshotChangeEventSourceTest {
+
+    private static final String DATABASE = "dbA";
+    private static final CollectionId SPLIT_COLLECTION = new CollectionId(DATABASE, "c1");
+    private static final CollectionId SMALL_COLLECTION = new CollectionId(DATABASE, "c2");
+    private static final int SPLIT_COLLECTION_SIZE = 30;
+    private static final int SMALL_COLLECTION_SIZE = 5;
+    private static final int RANGE_SIZE = 10;
+
+    /**
+     * The three ranges of the split collection and the small collection, all of them copied at the same time.
+     */
+    private static final int RANGES = 4;
+
+    private final MongoDbPartition partition = new MongoDbPartition("mongo1");
+
+    private CyclicBarrier rangesStarted;
+    private ChangeEventQueue<DataChangeEvent> queue;
+    private SnapshotProgressListener<MongoDbPartition> snapshotProgressListener;
+    private InitialSnapshotNotificationService<MongoDbPartition, MongoDbOffsetContext> initialSnapshotNotificationService;
+    private MongoDbSnapshotChangeEventSource source;
+
+    @Before
+    public void beforeEach() throws InterruptedException {
+        rangesStarted = new CyclicBarrier(RANGES);
+        final MongoDbConnectorConfig connectorConfig = new MongoDbConnectorConfig(TestHelper.getConfiguration().edit()
+                .with(CommonConnectorConfig.SNAPSHOT_MAX_THREADS, RANGES)
+                .with(MongoDbConnectorConfig.SNAPSHOT_COLLECTION_RANGE_SIZE, RANGE_SIZE)
+                .build());
+        DebeziumOpenLineageEmitter.init(connectorConfig.getConfig().asMap(), "mongodb");
+
+        final MongoCollection<BsonDocument> splitCollection = collection(SPLIT_COLLECTION_SIZE);
+        final MongoCollection<BsonDocument> smallCollection = collection(SMALL_COLLECTION_SIZE);
+        final MongoClient client = mock(MongoClient.class);
+        final MongoDatabase database = mock(MongoDatabase.class);
+        when(client.getDatabase(DATABASE)).thenReturn(database);
+        when(database.getCollection(SPLIT_COLLECTION.name(), BsonDocument.class)).thenReturn(splitCollection);
+        when(database.getCollection(SMALL_COLLECTION.name(), BsonDocument.class)).thenReturn(smallCollection);
+        final ChangeStreamIterable<BsonDocument> changeStream = mock(ChangeStreamIterable.class);
+        when(client.watch(anyList(), eq(BsonDocument.class))).thenReturn(changeStream);
+        when(changeStream.cursor()).thenReturn(mock(MongoChangeStreamCursor.class));
+
+        final MongoDbConnection connection = mock(MongoDbConnection.class);
+        doAnswer(invocation -> invocation.<BlockingFunction<MongoClient, Object>> getArgument(1).apply(client))
+                .when(connection).execute(anyString(), any(BlockingFunction.class));
+        doAnswer(invocation -> {
+            invocation.<BlockingConsumer<MongoClient>> getArgument(1).accept(client);
+            return null;
+        }).when(connection).execute(anyString(), any(BlockingConsumer.class));
+        when(connection.collections()).thenReturn(List.of(SMALL_COLLECTION, SPLIT_COLLECTION));
+        when(connection.hello()).thenReturn(new BsonTimestamp(100, 1));
+
+        final MongoDbTaskContext taskContext = spy(new MongoDbTaskContext(connectorConfig.getConfig()));
+        doReturn(connection).when(taskContext).getConnection(any(), any());
+
+        queue = new ChangeEventQueue.Builder<DataChangeEvent>()
+                .pollInterval(Duration.ofMillis(1))
+                .maxBatchSize(1000)
+                .maxQueueSize(1000)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("test", "test", "test"))
+                .build();
+        final MongoDbSchema schema = new MongoDbSchema(connectorConfig, taskContext.getFilters(), taskContext.getTopicNamingStrategy(),
+                connectorConfig.getSourceInfoStructMaker().schema(), connectorConfig.schemaNameAdjuster());
+        final EventDispatcher<MongoDbPartition, CollectionId> dispatcher = new EventDispatcher<>(connectorConfig, taskContext.getTopicNamingStrategy(),
+                schema, queue, taskContext.getFilters().collectionFilter()::test, DataChangeEvent::new, new MongoDbEventMetadataProvider(),
+                connectorConfig.schemaNameAdjuster(), new DebeziumHeaderProducer(taskContext));
+
+        final NotificationService<MongoDbPartition, MongoDbOffsetContext> notificationService = mock(NotificationService.class);
+        initialSnapshotNotificationService = mock(InitialSnapshotNotificationService.class);
+        when(notificationService.initialSnapshotNotificationService()).thenReturn(initialSnapshotNotificationService);
+        snapshotProgressListener = mock(SnapshotProgressListener.class);
+
+        source = new MongoDbSnapshotChangeEventSource(connectorConfig, taskContext, dispatcher, Clock.system(), snapshotProgressListener,
+                mock(ErrorHandler.class), notificationService, mock(SnapshotterService.class));
+    }
+
+    @Test
+    public void shouldCompleteEachCollectionOnceWhenCopyingRangesConcurrently() throws Exception {
+        snapshot();
+
+        verify(snapshotProgressListener).dataCollectionSnapshotCompleted(partition, SPLIT_COLLECTION, SPLIT_COLLECTION_SIZE);
+        verify(snapshotProgressListener).dataCollectionSnapshotCompleted(partition, SMALL_COLLECTION, SMALL_COLLECTION_SIZE);
+        verify(snapshotProgressListener, times(2)).dataCollectionSnapshotCompleted(any(), any(), anyLong());
+
+        verify(initialSnapshotNotificationService).notifyCompletedTableSuccessfully(eq(partition), any(), eq(SPLIT_COLLECTION.namespace()));
+        verify(initialSnapshotNotificationService).notifyCompletedTableSuccessfully(eq(partition), any(), eq(SMALL_COLLECTION.namespace()));
+        verify(initialSnapshotNotificationService, times(2)).notifyTableInProgress(eq(partition), any(), anyString());
+    }
+
+    @Test
+    public void shouldMarkFinalRecordAsLastWhenCopyingRangesConcurrently() throws Exception {
+        // the ranges finish in any order, so the test is repeated to let different ranges emit the final record
+        for (int i = 0; i < 20; i++) {
+            snapshot();
+
+            final List<SnapshotRecord> markers = consumeRecords().stream()
+                    .map(record -> SnapshotRecord.fromSource(((Struct) record.value()).getStruct(Envelope.FieldName.SOURCE)))
+                    .collect(Collectors.toList());
+            assertThat(markers).hasSize(SPLIT_COLLECTION_SIZE + SMALL_COLLECTION_SIZE);
+            assertThat(markers.get(markers.size() - 1)).isEqualTo(SnapshotRecord.LAST);
+            assertThat(markers.subList(0, markers.size() - 1)).containsOnly(SnapshotRecord.TRUE);
+        }
+    }
+
+    private void snapshot() throws Exception {
+        final ChangeEventSourceContext context = mock(ChangeEventSourceContext.class);
+        when(context.isRunning()).thenReturn(true);
+
+        source.doExecute(context, null, source.prepare(partition, false),
+                new SnapshottingTask(false, true, List.of(), Map.of(), false));
+    }
+
+    /**
+     * Consumes the records emitted by a completed snapshot, in the order they were emitted.
+     */
+    private List<SourceRecord> consumeRecords() throws InterruptedException {
+        final List<SourceRecord> records = new ArrayList<>();
+        List<DataChangeEvent> events;
+        while (!(events = queue.poll()).isEmpty()) {
+            events.forEach(event -> records.add(event.getRecord()));
+        }
+        return records;
+    }
+
+    /**
+     * A collection with the given number of documents, identified from {@code 0}, with an {@code _id} index.
+     */
+    private MongoCollection<BsonDocument> collection(int size) {
+        final List<BsonDocument> documents = IntStream.range(0, size)
+                .mapToObj(id -> new BsonDocument("_id", new BsonInt32(id)))
+                .collect(Collectors.toList());
+
+        final MongoCollection<BsonDocument> collection = mock(MongoCollection.class);
+        when(collection.estimatedDocumentCount()).thenReturn((long) size);
+
+        final ListIndexesIterable<BsonDocument> indexes = mock(ListIndexesIterable.class);
+        when(indexes.iterator()).thenAnswer(invocation -> new DocumentCursor(List.of(new BsonDocument("name", new BsonString("_id_"))), null));
+        when(collection.listIndexes(BsonDocument.class)).thenReturn(indexes);
+
+        // the sample contains all identifiers, so that the ranges have the same size
+        final AggregateIterable<BsonDocument> sample = mock(AggregateIterable.class);
+        when(collection.aggregate(anyList())).thenReturn(sample);
+        when(sample.allowDiskUse(true)).thenReturn(sample);
+        when(sample.map(any())).thenAnswer(invocation -> {
+            final Function<BsonDocument, BsonValue> mapper = invocation.getArgument(0);
+            final MongoIterable<BsonValue> identifiers = mock(MongoIterable.class);
+            when(identifiers.into(any())).thenAnswer(into -> {
+                final Collection<BsonValue> target = into.getArgument(0);
+                documents.forEach(document -> target.add(mapper.apply(document)));
+                return target;
+            });
+            return identifiers;
+        });
+
+        when(collection.find(any(Bson.class))).thenAnswer(invocation -> find(documents));
+        return collection;
+    }
+
+    /**
+     * A query returning the documents within the {@code _id} bounds it is restricted to.
+     */
+    private FindIterable<BsonDocument> find(List<BsonDocument> documents) {
+        final FindIterable<BsonDocument> find = mock(FindIterable.class);
+        final AtomicReference<BsonDocument> min = new AtomicReference<>();
+        final AtomicReference<BsonDocument> max = new AtomicReference<>();
+        when(find.min(any())).thenAnswer(invocation -> {
+            min.set(invocation.getArgument(0));
+            return find;
+        });
+        when(find.max(any())).thenAnswer(invocation -> {
+            max.set(invocation.getArgument(0));
+            return find;
+        });
+        when(find.batchSize(anyInt())).thenReturn(find);
+        when(find.iterator()).thenAnswer(invocation -> new DocumentCursor(documents.stream()
+                .filter(document -> min.get() == null || id(document) >= id(min.get()))
+                .filter(document -> max.get() == null || id(document) < id(max.get()))
+                .collect(Collectors.toList()), rangesStarted));
+        return find;
+    }
+
+    private static int id(BsonDocument document) {
+        return document.getInt32("_id").getValue();
+    }
+
+    /**
+     * A cursor over the given documents, which waits for the cursors of all ranges to be opened before returning any
+     * document, so that all ranges are copied at the same time.
+     */
+    private static class DocumentCursor implements MongoCursor<BsonDocument> {
+
+        private final Iterator<BsonDocument> documents;
+        private CyclicBarrier started;
+
+        DocumentCursor(List<BsonDocument> documents, CyclicBarrier started) {
+            this.documents = documents.iterator();
+            this.started = started;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (started != null) {
+                try {
+                    started.await(10, TimeUnit.SECONDS);
+                }
+                catch (Exception e) {
+                    throw new IllegalStateException("Ranges were not copied concurrently", e);
+                }
+                started = null;
+            }
+            return documents.hasNext();
+        }
+
+        @Override
+        public BsonDocument next() {
+            return documents.next();
+        }
+
+        @Override
+        public int available() {
+            return 0;
+        }
+
+        @Override
+        public BsonDocument tryNext() {
+            return hasNext() ? next() : null;
+        }
+
+        @Override
+        public ServerCursor getServerCursor() {
+            return null;
+        }
+
+        @Override
+        public ServerAddress getServerAddress() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -7,6 +7,7 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -107,6 +108,51 @@ public void shouldConsumeAllEventsFromDatabase() throws InterruptedException {
         consumeAndVerifyNotFromInitialSnapshot(topic, 1, Envelope.Operation.UPDATE);
     }
 
+    @Test
+    public void shouldConsumeEventsOfShardsInCommitOrderWithCursorPerShard() throws InterruptedException {
+        var topic = String.format("%s.%s.%s", TOPIC_PREFIX, shardedDatabase(), shardedCollection());
+        populateCollection(shardedDatabase(), shardedCollection(), INIT_DOCUMENT_COUNT);
+
+        Configuration config = TestHelper.getConfiguration(mongo).edit()
+                .with(MongoDbConnectorConfig.POLL_INTERVAL_MS, 10)
+                .with(MongoDbConnectorConfig.CURSOR_PER_SHARD, true)
+                .with(CommonConnectorConfig.TOPIC_PREFIX, TOPIC_PREFIX)
+                .build();
+
+        start(MongoDbConnector.class, config);
+        consumeAndVerifyFromInitialSnapshot(topic, INIT_DOCUMENT_COUNT);
+
+        // The hashed ids are spread over the shards, the events are expected in the order the updates were committed
+        updateNames(0, 20, "first");
+        assertThat(consumeNames(topic, 20)).containsExactlyElementsOf(names(0, 20, "first"));
+
+        // Updates made while the connector is stopped are read from the resume token of each shard
+        stopConnector();
+        updateNames(20, 40, "second");
+        start(MongoDbConnector.class, config);
+        assertThat(consumeNames(topic, 20)).containsExactlyElementsOf(names(20, 40, "second"));
+    }
+
+    private void updateNames(int startId, int endId, String prefix) {
+        try (var client = connect()) {
+            var collection = client.getDatabase(shardedDatabase()).getCollection(shardedCollection());
+            names(startId, endId, prefix).forEach(name -> collection.updateOne(
+                    new Document("_id", Integer.parseInt(name.substring(prefix.length() + 1))), Updates.set("name", name)));
+        }
+    }
+
+    private List<String> consumeNames(String topic, int expectedRecords) throws InterruptedException {
+        var records = consumeRecordsByTopic(expectedRecords).recordsForTopic(topic);
+        records.forEach(record -> verifyOperation(record, Envelope.Operation.UPDATE));
+        return records.stream()
+                .map(record -> Document.parse(((Struct) record.value()).getString(Envelope.FieldName.AFTER)).getString("name"))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> names(int startId, int endId, String prefix) {
+        return IntStream.range(startId, endId).mapToObj(i -> prefix + "_" + i).collect(Collectors.toList());
+    }
+
     protected void consumeAndVerifyFromInitialSnapshot(String topic, int expectedRecords) throws InterruptedException {
         var records = consumeRecordsByTopic(expectedRecords);
         assertThat(records.topics().size()).isEqualTo(1);
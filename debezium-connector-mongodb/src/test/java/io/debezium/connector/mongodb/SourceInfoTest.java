@@ -29,6 +29,7 @@
 
 import io.debezium.config.CommonConnectorConfig;
 import io.debezium.config.Configuration;
+import io.debezium.connector.mongodb.events.BufferingChangeStreamCursor.ResumableChangeStreamEvent;
 import io.debezium.schema.SchemaFactory;
 
 /**
@@ -76,13 +77,15 @@ private SourceInfo createSourceInfo() {
         return new SourceInfo(config);
     }
 
-    private void createOffsetContext() {
-        var config = new MongoDbConnectorConfig(Configuration.create()
+    private MongoDbConnectorConfig createConnectorConfig() {
+        return new MongoDbConnectorConfig(Configuration.create()
                 .with(MongoDbConnectorConfig.CONNECTION_STRING, "mongodb://localhost:2017/?replicaSet=" + REPLICA_SET_NAME)
                 .with(CommonConnectorConfig.TOPIC_PREFIX, "serverX")
                 .build());
+    }
 
-        context = MongoDbOffsetContext.empty(config);
+    private void createOffsetContext() {
+        context = MongoDbOffsetContext.empty(createConnectorConfig());
         source = context.sourceInfo();
     }
 
@@ -221,6 +224,34 @@ public void shouldReturnRecordedOffsetForUsedReplicaNameDuringInitialSnapshotWit
         assertSourceInfoContents(source, cursor, CURSOR_RESUME_TOKEN_STRING, null, "true");
     }
 
+    @Test
+    public void shouldRecordPositionsOfShards() {
+        var event = mockEventChangeStreamCursor().tryNext();
+        context.changeStreamEvent("shard0", event);
+        context.noEvent(new ResumableChangeStreamEvent<>("shard1", CURSOR_RESUME_TOKEN));
+        context.startShard("shard2", new BsonTimestamp(1666193825, 0));
+
+        Map<String, ?> offset = context.getOffset();
+        assertThat(offset.get(SourceInfo.RESUME_TOKEN)).isNull();
+        assertThat(offset.get(SourceInfo.SHARD_RESUME_TOKEN_PREFIX + "shard0")).isEqualTo(CHANGE_RESUME_TOKEN_STRING);
+        assertThat(offset.get(SourceInfo.SHARD_RESUME_TOKEN_PREFIX + "shard1")).isEqualTo(CURSOR_RESUME_TOKEN_STRING);
+        assertThat(offset.containsKey(SourceInfo.SHARD_RESUME_TOKEN_PREFIX + "shard2")).isFalse();
+        // the cluster is read completely up to the oldest position of the shards
+        assertThat(offset.get(SourceInfo.TIMESTAMP)).isEqualTo(CHANGE_TIMESTAMP.getTime());
+        assertThat(offset.get(SourceInfo.ORDER)).isEqualTo(CHANGE_TIMESTAMP.getInc());
+
+        context.startShard("shard3", new BsonTimestamp(1666193800, 5));
+        assertThat(context.getOffset().get(SourceInfo.TIMESTAMP)).isEqualTo(1666193800);
+
+        var loaded = new MongoDbOffsetContext.Loader(createConnectorConfig()).load(offset);
+        assertThat(loaded.lastResumeToken()).isNull();
+        assertThat(loaded.lastTimestamp()).isEqualTo(CHANGE_TIMESTAMP);
+        assertThat(loaded.hasShardResumeTokens()).isTrue();
+        assertThat(loaded.lastShardResumeTokenDoc("shard0")).isEqualTo(CHANGE_RESUME_TOKEN);
+        assertThat(loaded.lastShardResumeTokenDoc("shard1")).isEqualTo(CURSOR_RESUME_TOKEN);
+        assertThat(loaded.lastShardResumeTokenDoc("shard2")).isNull();
+    }
+
     @Test
     public void versionIsPresent() {
         var cursor = mockEventChangeStreamCursor();
@@ -0,0 +1,63 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.errors.DataException;
+import org.bson.BsonDocument;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import org.junit.Test;
+
+public class BsonTest {
+
+    private static final BsonDocument DOCUMENT = BsonDocument.parse(
+            "{\"_id\": {\"$oid\": \"5f2a6b1c9d3e4f5a6b7c8d9e\"}, \"name\": \"Sally\", \"count\": {\"$numberLong\": \"42\"},"
+                    + " \"price\": {\"$numberDecimal\": \"1.50\"}, \"tags\": [\"a\", null, 1], \"address\": {\"zip\": 12345}}");
+
+    @Test
+    public void shouldDefineVersionedBytesSchema() {
+        final Schema schema = Bson.builder().optional().build();
+
+        assertThat(schema.type()).isEqualTo(Schema.Type.BYTES);
+        assertThat(schema.name()).isEqualTo(Bson.LOGICAL_NAME);
+        assertThat(schema.version()).isEqualTo(Bson.SCHEMA_VERSION);
+        assertThat(schema.isOptional()).isTrue();
+    }
+
+    @Test
+    public void shouldReadBackEncodedDocument() {
+        final byte[] bytes = Bson.encode(DOCUMENT);
+
+        assertThat(Bson.toDocument(bytes)).isEqualTo(DOCUMENT);
+        assertThat(Bson.toDocument(ByteBuffer.wrap(bytes))).isEqualTo(DOCUMENT);
+    }
+
+    @Test
+    public void shouldReadJsonDocument() {
+        final String json = DOCUMENT.toJson(JsonWriterSettings.builder().outputMode(JsonMode.EXTENDED).build());
+
+        assertThat(Bson.toDocument(json)).isEqualTo(DOCUMENT);
+    }
+
+    @Test
+    public void shouldPassNullValues() {
+        assertThat(Bson.encode(null)).isNull();
+        assertThat(Bson.toDocument(null)).isNull();
+    }
+
+    @Test
+    public void shouldRejectUnexpectedValues() {
+        assertThatThrownBy(() -> Bson.toDocument(42))
+                .isInstanceOf(DataException.class)
+                .hasMessage("Unexpected document value type java.lang.Integer");
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonTimestamp;
+import org.junit.After;
+import org.junit.Test;
+
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+
+import io.debezium.connector.mongodb.events.BufferingChangeStreamCursor.EventFetcher;
+import io.debezium.connector.mongodb.events.BufferingChangeStreamCursor.ResumableChangeStreamEvent;
+import io.debezium.connector.mongodb.metrics.MongoDbStreamingChangeEventSourceMetrics;
+import io.debezium.util.Clock;
+import io.debezium.util.DelayStrategy;
+
+public class BufferingChangeStreamCursorTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final MongoDbStreamingChangeEventSourceMetrics metrics = mock(MongoDbStreamingChangeEventSourceMetrics.class);
+    private BufferingChangeStreamCursor<BsonDocument> cursor;
+
+    @After
+    public void afterEach() {
+        if (cursor != null) {
+            cursor.close();
+        }
+    }
+
+    @Test
+    public void shouldMergeEventsOfShardsInClusterTimeOrder() {
+        final ShardStream shard1 = new ShardStream(1, 4, 5);
+        final ShardStream shard2 = new ShardStream(2, 3, 6);
+        shard1.advance(10);
+        shard2.advance(10);
+        cursor = start(shard1, shard2);
+
+        final List<ResumableChangeStreamEvent<BsonDocument>> events = pollDocuments(6);
+
+        assertThat(events).extracting(event -> event.document.orElseThrow().getClusterTime().getTime()).containsExactly(1, 2, 3, 4, 5, 6);
+        assertThat(events).extracting(event -> event.shard).containsExactly("shard1", "shard2", "shard2", "shard1", "shard1", "shard2");
+    }
+
+    @Test
+    public void shouldHoldBackEventsUntilAllShardsReachedTheirClusterTime() {
+        final ShardStream shard1 = new ShardStream(1, 2);
+        final ShardStream shard2 = new ShardStream();
+        shard1.advance(10);
+        cursor = start(shard1, shard2);
+
+        // the second shard has not reported any position yet
+        final long deadline = System.nanoTime() + Duration.ofMillis(500).toNanos();
+        while (System.nanoTime() < deadline) {
+            assertThat(cursor.tryNext()).isNull();
+        }
+
+        shard2.advance(5);
+        final List<ResumableChangeStreamEvent<BsonDocument>> events = pollDocuments(2);
+        assertThat(events).extracting(event -> event.document.orElseThrow().getClusterTime().getTime()).containsExactly(1, 2);
+
+        // the heartbeats of the first shard are held back until the second shard reaches them too
+        for (int i = 0; i < 10; i++) {
+            final ResumableChangeStreamEvent<BsonDocument> event = cursor.tryNext();
+            if (event != null) {
+                assertThat(event.shard).isEqualTo("shard2");
+            }
+        }
+    }
+
+    @Test
+    public void shouldReturnEventsOfSingleStreamAsFetched() {
+        final ShardStream stream = new ShardStream(3, 1, 2);
+        cursor = start(stream);
+
+        final List<ResumableChangeStreamEvent<BsonDocument>> events = pollDocuments(3);
+
+        assertThat(events).extracting(event -> event.document.orElseThrow().getClusterTime().getTime()).containsExactly(3, 1, 2);
+    }
+
+    private BufferingChangeStreamCursor<BsonDocument> start(ShardStream... streams) {
+        final List<EventFetcher<BsonDocument>> fetchers = new ArrayList<>();
+        for (int i = 0; i < streams.length; i++) {
+            fetchers.add(new EventFetcher<>(streams[i].iterable, "shard" + (i + 1), 100, metrics, Clock.system(),
+                    DelayStrategy.constant(Duration.ofMillis(1))));
+        }
+        return new BufferingChangeStreamCursor<>(fetchers, Executors.newFixedThreadPool(fetchers.size()),
+                DelayStrategy.boundedExponential(Duration.ofMillis(1), Duration.ofMillis(10), 2))
+                .start();
+    }
+
+    private List<ResumableChangeStreamEvent<BsonDocument>> pollDocuments(int count) {
+        final List<ResumableChangeStreamEvent<BsonDocument>> events = new ArrayList<>();
+        final long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (events.size() < count && System.nanoTime() < deadline) {
+            final ResumableChangeStreamEvent<BsonDocument> event = cursor.tryNext();
+            if (event != null && event.hasDocument()) {
+                events.add(event);
+            }
+        }
+        assertThat(events).hasSize(count);
+        return events;
+    }
+
+    private static BsonDocument resumeToken(int time) {
+        return new BsonDocument("_data", new BsonString(String.format("82%016X0004", new BsonTimestamp(time, 1).getValue())));
+    }
+
+    /**
+     * A change stream of a shard returning the given events, and then the last position it was advanced to
+     */
+    @SuppressWarnings("unchecked")
+    private static class ShardStream {
+
+        private final Queue<ChangeStreamDocument<BsonDocument>> events = new ConcurrentLinkedQueue<>();
+        private final AtomicReference<BsonDocument> position = new AtomicReference<>();
+        private final ChangeStreamIterable<BsonDocument> iterable = mock(ChangeStreamIterable.class);
+
+        ShardStream(int... times) {
+            for (int time : times) {
+                final ChangeStreamDocument<BsonDocument> document = mock(ChangeStreamDocument.class);
+                when(document.getResumeToken()).thenReturn(resumeToken(time));
+                when(document.getClusterTime()).thenReturn(new BsonTimestamp(time, 1));
+                events.add(document);
+            }
+            final MongoChangeStreamCursor<ChangeStreamDocument<BsonDocument>> cursor = mock(MongoChangeStreamCursor.class);
+            when(cursor.tryNext()).thenAnswer(invocation -> events.poll());
+            when(cursor.getResumeToken()).thenAnswer(invocation -> position.get());
+            when(iterable.cursor()).thenReturn(cursor);
+        }
+
+        void advance(int time) {
+            position.set(resumeToken(time));
+        }
+    }
+}
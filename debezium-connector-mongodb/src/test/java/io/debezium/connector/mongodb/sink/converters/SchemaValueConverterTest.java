@@ -0,0 +1,53 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb.sink.converters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonNull;
+import org.bson.BsonString;
+import org.junit.Test;
+
+import io.debezium.connector.mongodb.data.Bson;
+
+/**
+ * Unit tests for {@link SchemaValueConverter}.
+ */
+public class SchemaValueConverterTest {
+
+    private static final Schema VALUE_SCHEMA = SchemaBuilder.struct()
+            .field("id", Schema.INT32_SCHEMA)
+            .field("after", Bson.builder().optional().build())
+            .field("before", Bson.builder().optional().build())
+            .build();
+
+    private final SchemaValueConverter converter = new SchemaValueConverter();
+
+    @Test
+    public void shouldWriteBsonEncodedDocumentsAsEmbeddedDocuments() {
+        final BsonDocument document = new BsonDocument()
+                .append("_id", new BsonInt32(1))
+                .append("name", new BsonString("Sally"))
+                .append("tags", new BsonArray())
+                .append("address", new BsonDocument("city", new BsonString("Berlin")));
+
+        final Struct value = new Struct(VALUE_SCHEMA)
+                .put("id", 1)
+                .put("after", Bson.encode(document));
+
+        final BsonDocument converted = converter.convert(VALUE_SCHEMA, value);
+
+        assertThat(converted.getInt32("id").getValue()).isEqualTo(1);
+        assertThat(converted.get("after")).isEqualTo(document);
+        assertThat(converted.get("before")).isEqualTo(BsonNull.VALUE);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.junit.Test;
+
+import io.debezium.connector.mongodb.snapshot.MongoDbCollectionSplitter.Range;
+
+public class MongoDbCollectionSplitterTest {
+
+    @Test
+    public void shouldDetermineRangeCount() {
+        assertThat(MongoDbCollectionSplitter.rangeCount(0, 100)).isEqualTo(0);
+        assertThat(MongoDbCollectionSplitter.rangeCount(100, 100)).isEqualTo(1);
+        assertThat(MongoDbCollectionSplitter.rangeCount(101, 100)).isEqualTo(2);
+        assertThat(MongoDbCollectionSplitter.rangeCount(Long.MAX_VALUE / 2, 1)).isEqualTo(MongoDbCollectionSplitter.MAX_RANGES);
+    }
+
+    @Test
+    public void shouldPickEvenlySpacedBoundaries() {
+        final List<BsonValue> sample = IntStream.range(0, 40).mapToObj(BsonInt32::new).collect(Collectors.toList());
+
+        assertThat(MongoDbCollectionSplitter.boundaries(sample, 4))
+                .containsExactly(new BsonInt32(10), new BsonInt32(20), new BsonInt32(30));
+    }
+
+    @Test
+    public void shouldSkipRepeatedBoundaries() {
+        final List<BsonValue> sample = List.of(new BsonInt32(1), new BsonInt32(1), new BsonInt32(1), new BsonInt32(1), new BsonString("a"),
+                new BsonString("b"));
+
+        assertThat(MongoDbCollectionSplitter.boundaries(sample, 6))
+                .containsExactly(new BsonInt32(1), new BsonString("a"), new BsonString("b"));
+    }
+
+    @Test
+    public void shouldNotSplitOnEmptySample() {
+        assertThat(MongoDbCollectionSplitter.ranges(MongoDbCollectionSplitter.boundaries(List.of(), 4))).containsExactly(Range.ALL);
+    }
+
+    @Test
+    public void shouldCoverAllIdentifiersWithAdjacentRanges() {
+        final List<Range> ranges = MongoDbCollectionSplitter.ranges(List.of(new BsonInt32(10), new BsonString("a")));
+
+        assertThat(ranges).containsExactly(
+                new Range(null, new BsonInt32(10)),
+                new Range(new BsonInt32(10), new BsonString("a")),
+                new Range(new BsonString("a"), null));
+        assertThat(ranges.get(1).toString()).isEqualTo("[BsonInt32{value=10}, BsonString{value='a'})");
+        assertThat(ranges.get(0).isAll()).isFalse();
+        assertThat(Range.ALL.isAll()).isTrue();
+    }
+}
@@ -11,12 +11,17 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertThrows;
 
+import java.util.Arrays;
 import java.util.HashMap;
 
+import org.apache.kafka.connect.data.Field;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -24,6 +29,10 @@
 import org.junit.rules.TestRule;
 
 import io.debezium.connector.AbstractSourceInfo;
+import io.debezium.connector.mongodb.MongoDbFieldName;
+import io.debezium.connector.mongodb.MongoDbSchema;
+import io.debezium.connector.mongodb.data.Bson;
+import io.debezium.data.Envelope;
 import io.debezium.doc.FixFor;
 import io.debezium.junit.SkipTestRule;
 import io.debezium.junit.SkipWhenKafkaVersion;
@@ -242,4 +251,79 @@ public void shouldFailWhenTheSchemaLooksValidButDoesNotHaveTheCorrectFieldsPostK
         // when
         assertThrows(IllegalArgumentException.class, () -> transformation.apply(eventRecord));
     }
+
+    @Test
+    public void shouldConvertBsonEncodedDocument() {
+        final BsonDocument document = new BsonDocument()
+                .append("_id", new BsonInt32(1))
+                .append("name", new BsonString("Sally"))
+                .append("address", new BsonDocument("city", new BsonString("Berlin")));
+
+        final SourceRecord eventRecord = createBsonEventRecord(Envelope.Operation.CREATE, Bson.encode(document), null);
+
+        // when
+        SourceRecord transformed = transformation.apply(eventRecord);
+
+        assertThat(transformed.key()).isEqualTo(new Struct(transformed.keySchema()).put("id", 1));
+        assertThat(transformed.valueSchema().name()).isEqualTo("server.db.c");
+        Struct value = (Struct) transformed.value();
+        assertThat(value.get("_id")).isEqualTo(1);
+        assertThat(value.get("name")).isEqualTo("Sally");
+        assertThat(value.getStruct("address").get("city")).isEqualTo("Berlin");
+    }
+
+    @Test
+    public void shouldMergeBsonEncodedPartialUpdate() {
+        final BsonDocument updatedFields = new BsonDocument()
+                .append("name", new BsonString("Jane"))
+                .append("age", new BsonInt32(30));
+        final Struct updateDescription = new Struct(MongoDbSchema.UPDATED_DESCRIPTION_BSON_SCHEMA)
+                .put(MongoDbFieldName.UPDATED_FIELDS, Bson.encode(updatedFields))
+                .put(MongoDbFieldName.REMOVED_FIELDS, Arrays.asList("phone"));
+
+        final SourceRecord eventRecord = createBsonEventRecord(Envelope.Operation.UPDATE, null, updateDescription);
+
+        // when
+        SourceRecord transformed = transformation.apply(eventRecord);
+
+        Struct value = (Struct) transformed.value();
+        assertThat(value.schema().fields()).extracting(Field::name).containsExactly("name", "age", "_id");
+        assertThat(value.get("name")).isEqualTo("Jane");
+        assertThat(value.get("age")).isEqualTo(30);
+        assertThat(value.get("_id")).isEqualTo(1);
+    }
+
+    private static SourceRecord createBsonEventRecord(Envelope.Operation operation, byte[] after, Struct updateDescription) {
+        final Schema documentSchema = Bson.builder().optional().build();
+        final Schema valueSchema = SchemaBuilder.struct()
+                .name("server.db.c.Envelope")
+                .field(Envelope.FieldName.BEFORE, documentSchema)
+                .field(Envelope.FieldName.AFTER, documentSchema)
+                .field(MongoDbFieldName.UPDATE_DESCRIPTION, MongoDbSchema.UPDATED_DESCRIPTION_BSON_SCHEMA)
+                .field(Envelope.FieldName.OPERATION, Schema.OPTIONAL_STRING_SCHEMA)
+                .field(Envelope.FieldName.TIMESTAMP, Schema.OPTIONAL_INT64_SCHEMA)
+                .build();
+
+        final Struct value = new Struct(valueSchema)
+                .put(Envelope.FieldName.AFTER, after)
+                .put(MongoDbFieldName.UPDATE_DESCRIPTION, updateDescription)
+                .put(Envelope.FieldName.OPERATION, operation.code())
+                .put(Envelope.FieldName.TIMESTAMP, 1565787098802L);
+
+        final Schema keySchema = SchemaBuilder.struct()
+                .name("server.db.c.Key")
+                .field("id", Schema.STRING_SCHEMA)
+                .build();
+
+        final Struct key = new Struct(keySchema).put("id", "1");
+
+        return new SourceRecord(
+                new HashMap<>(),
+                new HashMap<>(),
+                "server.db.c",
+                keySchema,
+                key,
+                valueSchema,
+                value);
+    }
 }
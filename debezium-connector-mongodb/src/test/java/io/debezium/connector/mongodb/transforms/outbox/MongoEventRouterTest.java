@@ -5,6 +5,7 @@
  */
 package io.debezium.connector.mongodb.transforms.outbox;
 
+import static io.debezium.connector.mongodb.MongoDbSchema.UPDATED_DESCRIPTION_BSON_SCHEMA;
 import static io.debezium.connector.mongodb.MongoDbSchema.UPDATED_DESCRIPTION_SCHEMA;
 import static org.apache.kafka.connect.transforms.util.Requirements.requireStruct;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -34,6 +35,7 @@
 
 import io.debezium.connector.AbstractSourceInfo;
 import io.debezium.connector.mongodb.MongoDbFieldName;
+import io.debezium.connector.mongodb.data.Bson;
 import io.debezium.data.Envelope;
 import io.debezium.data.Json;
 import io.debezium.data.VerifyRecord;
@@ -882,6 +884,68 @@ public void canExpandJsonPayloadIfConfigured() {
         assertThat(valueStruct.getArray("pets").get(1)).isEqualTo("cat");
     }
 
+    @Test
+    public void canExtractTableFieldsFromBsonEncodedEvent() {
+        router.configure(new HashMap<>());
+
+        final SourceRecord eventRecord = createBsonEventRecord(
+                "da8d6de63b7745ff8f4457db",
+                "UserCreated",
+                new ObjectId("000000000000000000000001"),
+                "User",
+                new Document("fullName", "John Doe"));
+        final SourceRecord eventRouted = router.apply(eventRecord);
+
+        assertThat(eventRouted).isNotNull();
+        assertThat(eventRouted.topic()).isEqualTo("outbox.event.User");
+        assertThat(eventRouted.key()).isEqualTo("000000000000000000000001");
+        assertThat(eventRouted.valueSchema()).isEqualTo(Schema.OPTIONAL_STRING_SCHEMA);
+        assertThat(Document.parse((String) eventRouted.value()).get("fullName")).isEqualTo("John Doe");
+        assertThat(eventRouted.headers().lastWithName("id").value()).isEqualTo("da8d6de63b7745ff8f4457db");
+    }
+
+    @Test
+    public void canExpandBsonPayloadIfConfigured() {
+        final Map<String, String> config = new HashMap<>();
+        config.put(
+                MongoEventRouterConfigDefinition.EXPAND_JSON_PAYLOAD.name(),
+                "true");
+        router.configure(config);
+
+        final SourceRecord eventRecord = createBsonEventRecord(
+                "000000000000000000000000",
+                "UserCreated",
+                new ObjectId("000000000000000000000001"),
+                "User",
+                new Document()
+                        .append("fullName", "John Doe")
+                        .append("enabled", true)
+                        .append("rating", 4.9)
+                        .append("age", 42L)
+                        .append("pets", Arrays.asList("dog", "cat")));
+        final SourceRecord eventRouted = router.apply(eventRecord);
+
+        assertThat(eventRouted).isNotNull();
+
+        Schema valueSchema = eventRouted.valueSchema();
+        assertThat(valueSchema.type()).isEqualTo(SchemaBuilder.struct().type());
+
+        assertThat(valueSchema.fields().size()).isEqualTo(5);
+        assertThat(valueSchema.field("fullName").schema().type().getName()).isEqualTo("string");
+        assertThat(valueSchema.field("enabled").schema().type().getName()).isEqualTo("boolean");
+        assertThat(valueSchema.field("rating").schema().type().getName()).isEqualTo("float64");
+        assertThat(valueSchema.field("age").schema().type().getName()).isEqualTo("int64");
+        assertThat(valueSchema.field("pets").schema().type().getName()).isEqualTo("array");
+
+        Struct valueStruct = (Struct) eventRouted.value();
+        assertThat(valueStruct.get("fullName")).isEqualTo("John Doe");
+        assertThat(valueStruct.get("enabled")).isEqualTo(true);
+        assertThat(valueStruct.get("rating")).isEqualTo(4.9);
+        assertThat(valueStruct.get("age")).isEqualTo(42L);
+        assertThat(valueStruct.getArray("pets").size()).isEqualTo(2);
+        assertThat(valueStruct.getArray("pets").get(1)).isEqualTo("cat");
+    }
+
     @Test
     public void shouldNotExpandJSONPayloadIfNotConfigured() {
         router.configure(new HashMap<>());
@@ -949,11 +1013,33 @@ private SourceRecord createEventRecord(
 
         String after = outboxEvent.toJson(COMPACT_JSON_SETTINGS);
 
+        return createEventRecord(Json.builder().optional().build(), UPDATED_DESCRIPTION_SCHEMA, after);
+    }
+
+    private SourceRecord createBsonEventRecord(
+                                               String eventId,
+                                               String eventType,
+                                               ObjectId payloadId,
+                                               String payloadType,
+                                               Object payload) {
+        Document outboxEvent = new Document()
+                .append("_id", new ObjectId(eventId))
+                .append("aggregatetype", payloadType)
+                .append("aggregateid", payloadId)
+                .append("type", eventType)
+                .append("payload", payload);
+
+        byte[] after = Bson.encode(outboxEvent.toBsonDocument());
+
+        return createEventRecord(Bson.builder().optional().build(), UPDATED_DESCRIPTION_BSON_SCHEMA, after);
+    }
+
+    private SourceRecord createEventRecord(Schema documentSchema, Schema updateDescriptionSchema, Object after) {
         final Schema valueSchema = SchemaBuilder.struct()
                 .name("event.Envelope")
-                .field(Envelope.FieldName.AFTER, Json.builder().optional().build())
+                .field(Envelope.FieldName.AFTER, documentSchema)
                 // Change Streams field
-                .field(MongoDbFieldName.UPDATE_DESCRIPTION, UPDATED_DESCRIPTION_SCHEMA)
+                .field(MongoDbFieldName.UPDATE_DESCRIPTION, updateDescriptionSchema)
                 // .field(Envelope.FieldName.SOURCE, SchemaBuilder.struct().build())
                 .field(Envelope.FieldName.OPERATION, Schema.OPTIONAL_STRING_SCHEMA)
                 .field(Envelope.FieldName.TIMESTAMP, Schema.OPTIONAL_INT64_SCHEMA)
@@ -647,6 +647,17 @@ public Optional<Boolean> nullsSortLast() {
         return Optional.of(true);
     }
 
+    @Override
+    public Object getReselectionPoint(Struct source) {
+        if (source != null) {
+            final String commitScn = source.getString(SourceInfo.COMMIT_SCN_KEY);
+            if (!Strings.isNullOrEmpty(commitScn)) {
+                return commitScn;
+            }
+        }
+        return null;
+    }
+
     @Override
     public Map<String, Object> reselectColumns(Table table, List<String> columns, List<String> keyColumns, List<Object> keyValues, Struct source)
             throws SQLException {
@@ -683,6 +694,28 @@ public Map<String, Object> reselectColumns(Table table, List<String> columns, Li
         return reselectColumns(query, oracleTableId, columns, keyValues);
     }
 
+    @Override
+    public List<Map<String, Object>> reselectRows(Table table, List<String> columns, List<String> keyColumns, List<List<Object>> keyValues, Struct source)
+            throws SQLException {
+        // The events of a batch are grouped by their commit SCN, so all rows are read as of the same SCN
+        final String tableName = quotedTableIdString(new TableId(null, table.id().schema(), table.id().table()));
+        final Object commitScn = getReselectionPoint(source);
+        if (commitScn != null) {
+            try {
+                return reselectRowsFrom(table, "(SELECT * FROM " + tableName + " AS OF SCN ?)", List.of(commitScn), columns, keyColumns, keyValues);
+            }
+            catch (SQLException e) {
+                // Check if the exception is about a flashback area error with an aged SCN
+                if (!(e.getErrorCode() == 1555 || e.getMessage().startsWith("ORA-01555"))) {
+                    throw e;
+                }
+                LOGGER.warn("Failed to re-select {} rows for table {} as of SCN {}. Trying to perform re-selection without flashback.",
+                        keyValues.size(), table.id(), commitScn);
+            }
+        }
+        return reselectRowsFrom(table, tableName, List.of(), columns, keyColumns, keyValues);
+    }
+
     @Override
     protected Map<TableId, List<Attribute>> getAttributeDetails(TableId tableId, String tableType) {
         final Map<TableId, List<Attribute>> results = new HashMap<>();
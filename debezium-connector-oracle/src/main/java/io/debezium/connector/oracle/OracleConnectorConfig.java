@@ -65,6 +65,10 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
     protected final static int DEFAULT_SCN_GAP_TIME_INTERVAL = 20_000;
 
     protected final static int DEFAULT_TRANSACTION_EVENTS_THRESHOLD = 0;
+    protected final static int DEFAULT_MEMORY_MAPPED_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    protected final static int DEFAULT_PARALLEL_SESSIONS = 1;
+    protected final static int DEFAULT_PARALLEL_SESSIONS_BUFFER_SIZE = 100_000;
 
     protected final static int DEFAULT_QUERY_FETCH_SIZE = 10_000;
 
@@ -234,6 +238,28 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
             .withDefault(MAX_BATCH_SIZE)
             .withDescription("The maximum SCN interval size that this connector will use when reading from redo/archive logs.");
 
+    public static final Field LOG_MINING_PARALLEL_SESSIONS = Field.create("log.mining.parallel.sessions")
+            .withDisplayName("Number of concurrent LogMiner sessions")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(DEFAULT_PARALLEL_SESSIONS)
+            .withValidation(Field::isPositiveInteger, OracleConnectorConfig::validateLogMiningParallelSessions)
+            .withDescription("The number of LogMiner sessions that concurrently mine contiguous SCN sub-ranges of each mining window. " +
+                    "Each additional session uses its own database connection. The rows of all sessions are processed in SCN order, " +
+                    "the same order as with a single session. Only applies to the buffered LogMiner adapter when not using the " +
+                    "'redo_log_catalog' mining strategy. Defaults to 1, meaning a single session mines each window.");
+
+    public static final Field LOG_MINING_PARALLEL_SESSIONS_BUFFER_SIZE = Field.create("log.mining.parallel.sessions.buffer.size")
+            .withDisplayName("Number of rows buffered per additional LogMiner session")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(DEFAULT_PARALLEL_SESSIONS_BUFFER_SIZE)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The maximum number of rows that each additional LogMiner session buffers before they are processed. " +
+                    "A session pauses reading once its buffer is full.");
+
     public static final Field LOG_MINING_SLEEP_TIME_MIN_MS = Field.create("log.mining.sleep.time.min.ms")
             .withDisplayName("Minimum sleep time in milliseconds when reading redo/archive logs.")
             .withType(Type.LONG)
@@ -367,7 +393,29 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
                     System.lineSeparator() +
                     "infinispan_remote - This option uses a remote Infinispan cluster to buffer transaction data and persist it to disk." + System.lineSeparator() +
                     System.lineSeparator() +
-                    "ehcache - Use ehcache in embedded mode to buffer transaction data and persist it to disk.");
+                    "ehcache - Use ehcache in embedded mode to buffer transaction data and persist it to disk." + System.lineSeparator() +
+                    System.lineSeparator() +
+                    "memory_mapped - Buffers transaction events in memory-mapped segment files outside the JVM heap.");
+
+    public static final Field LOG_MINING_BUFFER_MEMORY_MAPPED_DIRECTORY = Field.create("log.mining.buffer.memory.mapped.directory")
+            .withDisplayName("The directory of the memory-mapped buffer segment files")
+            .withType(Type.STRING)
+            .withWidth(Width.LONG)
+            .withImportance(Importance.LOW)
+            .withDescription("The directory in which the 'memory_mapped' buffer type stores its segment files. " +
+                    "Each connector must use its own directory, as existing segment files are removed on start-up. " +
+                    "When not set, a temporary directory is used.");
+
+    public static final Field LOG_MINING_BUFFER_MEMORY_MAPPED_SEGMENT_SIZE = Field.create("log.mining.buffer.memory.mapped.segment.size")
+            .withDisplayName("The size of the memory-mapped buffer segment files")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(DEFAULT_MEMORY_MAPPED_SEGMENT_SIZE)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The size in bytes of each segment file used by the 'memory_mapped' buffer type. " +
+                    "A segment file is reused once none of its events belong to an in-progress transaction. " +
+                    "Events larger than this size are stored in a dedicated segment file. Defaults to 64MB.");
 
     public static final Field LOG_MINING_BUFFER_TRANSACTION_EVENTS_THRESHOLD = Field.create("log.mining.buffer.transaction.events.threshold")
             .withDisplayName("The maximum number of events a transaction can have before being discarded.")
@@ -777,6 +825,8 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
                     LOG_MINING_BATCH_SIZE_DEFAULT,
                     LOG_MINING_BATCH_SIZE_MIN,
                     LOG_MINING_BATCH_SIZE_MAX,
+                    LOG_MINING_PARALLEL_SESSIONS,
+                    LOG_MINING_PARALLEL_SESSIONS_BUFFER_SIZE,
                     LOG_MINING_BATCH_SIZE_INCREMENT,
                     LOG_MINING_SLEEP_TIME_DEFAULT_MS,
                     LOG_MINING_SLEEP_TIME_MIN_MS,
@@ -796,6 +846,8 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
                     LOG_MINING_BUFFER_INFINISPAN_CACHE_PROCESSED_TRANSACTIONS,
                     LOG_MINING_BUFFER_INFINISPAN_CACHE_SCHEMA_CHANGES,
                     LOG_MINING_BUFFER_TRANSACTION_EVENTS_THRESHOLD,
+                    LOG_MINING_BUFFER_MEMORY_MAPPED_DIRECTORY,
+                    LOG_MINING_BUFFER_MEMORY_MAPPED_SEGMENT_SIZE,
                     LOG_MINING_ARCHIVE_LOG_ONLY_SCN_POLL_INTERVAL_MS,
                     LOG_MINING_SCN_GAP_DETECTION_GAP_SIZE_MIN,
                     LOG_MINING_SCN_GAP_DETECTION_TIME_INTERVAL_MAX_MS,
@@ -873,6 +925,8 @@ public static ConfigDef configDef() {
     private final Set<String> racNodes;
     private final Duration archiveLogRetention;
     private final int logMiningBatchSizeMin;
+    private final int logMiningParallelSessions;
+    private final int logMiningParallelSessionsBufferSize;
     private final int logMiningBatchSizeMax;
     private final int logMiningBatchSizeDefault;
     private final int logMiningBatchSizeIncrement;
@@ -890,6 +944,8 @@ public static ConfigDef configDef() {
     private final LogMiningBufferType logMiningBufferType;
     private final long logMiningBufferTransactionEventsThreshold;
     private final boolean logMiningBufferDropOnStop;
+    private final String logMiningBufferMemoryMappedDirectory;
+    private final int logMiningBufferMemoryMappedSegmentSize;
     private final int logMiningScnGapDetectionGapSizeMin;
     private final int logMiningScnGapDetectionTimeIntervalMaxMs;
     private final int logMiningLogFileQueryMaxRetries;
@@ -955,6 +1011,8 @@ public OracleConnectorConfig(Configuration config) {
         this.racNodes = resolveRacNodes(config);
         this.archiveLogRetention = config.getDuration(ARCHIVE_LOG_HOURS, ChronoUnit.HOURS);
         this.logMiningBatchSizeMin = config.getInteger(LOG_MINING_BATCH_SIZE_MIN);
+        this.logMiningParallelSessions = config.getInteger(LOG_MINING_PARALLEL_SESSIONS);
+        this.logMiningParallelSessionsBufferSize = config.getInteger(LOG_MINING_PARALLEL_SESSIONS_BUFFER_SIZE);
         this.logMiningBatchSizeMax = config.getInteger(LOG_MINING_BATCH_SIZE_MAX);
         this.logMiningBatchSizeDefault = config.getInteger(LOG_MINING_BATCH_SIZE_DEFAULT);
         this.logMiningBatchSizeIncrement = config.getInteger(LOG_MINING_BATCH_SIZE_INCREMENT);
@@ -970,6 +1028,8 @@ public OracleConnectorConfig(Configuration config) {
         this.logMiningBufferType = LogMiningBufferType.parse(config.getString(LOG_MINING_BUFFER_TYPE));
         this.logMiningBufferTransactionEventsThreshold = config.getLong(LOG_MINING_BUFFER_TRANSACTION_EVENTS_THRESHOLD);
         this.logMiningBufferDropOnStop = config.getBoolean(LOG_MINING_BUFFER_DROP_ON_STOP);
+        this.logMiningBufferMemoryMappedDirectory = config.getString(LOG_MINING_BUFFER_MEMORY_MAPPED_DIRECTORY);
+        this.logMiningBufferMemoryMappedSegmentSize = config.getInteger(LOG_MINING_BUFFER_MEMORY_MAPPED_SEGMENT_SIZE);
         this.archiveLogOnlyScnPollTime = Duration.ofMillis(config.getInteger(LOG_MINING_ARCHIVE_LOG_ONLY_SCN_POLL_INTERVAL_MS));
         this.logMiningScnGapDetectionGapSizeMin = config.getInteger(LOG_MINING_SCN_GAP_DETECTION_GAP_SIZE_MIN);
         this.logMiningScnGapDetectionTimeIntervalMaxMs = config.getInteger(LOG_MINING_SCN_GAP_DETECTION_TIME_INTERVAL_MAX_MS);
@@ -1539,7 +1599,8 @@ public enum LogMiningBufferType implements EnumeratedValue {
         MEMORY("memory"),
         INFINISPAN_EMBEDDED("infinispan_embedded"),
         INFINISPAN_REMOTE("infinispan_remote"),
-        EHCACHE("ehcache");
+        EHCACHE("ehcache"),
+        MEMORY_MAPPED("memory_mapped");
 
         private final String value;
 
@@ -1564,6 +1625,10 @@ public boolean isEhcache() {
             return EHCACHE.equals(this);
         }
 
+        public boolean isMemoryMapped() {
+            return MEMORY_MAPPED.equals(this);
+        }
+
         public static LogMiningBufferType parse(String value) {
             if (value == null) {
                 return null;
@@ -1761,6 +1826,20 @@ public int getLogMiningBatchSizeMin() {
         return logMiningBatchSizeMin;
     }
 
+    /**
+     * @return the number of LogMiner sessions that concurrently mine each mining window
+     */
+    public int getLogMiningParallelSessions() {
+        return logMiningParallelSessions;
+    }
+
+    /**
+     * @return the maximum number of rows buffered by each additional LogMiner session
+     */
+    public int getLogMiningParallelSessionsBufferSize() {
+        return logMiningParallelSessionsBufferSize;
+    }
+
     /**
      *
      * @return int The maximum SCN interval used when mining redo/archive logs
@@ -1894,6 +1973,20 @@ public boolean isLogMiningBufferDropOnStop() {
         return logMiningBufferDropOnStop;
     }
 
+    /**
+     * @return the directory of the memory-mapped buffer segment files, may be {@code null}
+     */
+    public String getLogMiningBufferMemoryMappedDirectory() {
+        return logMiningBufferMemoryMappedDirectory;
+    }
+
+    /**
+     * @return the size in bytes of each memory-mapped buffer segment file
+     */
+    public int getLogMiningBufferMemoryMappedSegmentSize() {
+        return logMiningBufferMemoryMappedSegmentSize;
+    }
+
     /**
      *
      * @return int The default SCN interval used when mining redo/archive logs
@@ -2391,6 +2484,19 @@ public static int validateIncludeTransactionStartEvents(Configuration config, Fi
         return 0;
     }
 
+    public static int validateLogMiningParallelSessions(Configuration config, Field field, ValidationOutput problems) {
+        if (config.getInteger(LOG_MINING_PARALLEL_SESSIONS) > 1) {
+            if (!isBufferedLogMiner(config)) {
+                LOGGER.warn("'{}' only applies to the buffered LogMiner adapter, setting will be ignored.", LOG_MINING_PARALLEL_SESSIONS.name());
+            }
+            else if (LogMiningStrategy.CATALOG_IN_REDO.equals(LogMiningStrategy.parse(config.getString(LOG_MINING_STRATEGY)))) {
+                LOGGER.warn("'{}' does not apply to the '{}' mining strategy, setting will be ignored.",
+                        LOG_MINING_PARALLEL_SESSIONS.name(), LogMiningStrategy.CATALOG_IN_REDO.getValue());
+            }
+        }
+        return 0;
+    }
+
     public static int validateLogMiningUseCteQuery(Configuration config, Field field, ValidationOutput problems) {
         if (config.getBoolean(LOG_MINING_USE_CTE_QUERY)) {
             // When using the CTE, the LogMiningQueryFilterMode must be set
@@ -384,6 +384,23 @@ else if (sequenceUnavailable) {
      * @throws InterruptedException if the thread is interrupted
      */
     protected void executeAndProcessQuery(PreparedStatement statement) throws SQLException, InterruptedException {
+        executeAndProcessQuery(statement, null);
+    }
+
+    /**
+     * Executes the prepared statement's query and processes the result set, followed by the rows mined
+     * by the parallel mining sessions for the remainder of the mining window.
+     *
+     * @param statement the prepared statement to execute, should not be {@code null}
+     * @param miningBatch the rows mined by parallel mining sessions, may be {@code null}
+     * @return {@code true} if the rows of the parallel mining sessions were all processed, {@code false} if the
+     *         mining window ends at {@link ParallelLogMinerSessions.MiningBatch#getProcessedUpperBound()}
+     * @throws SQLException if a database error occurs
+     * @throws InterruptedException if the thread is interrupted
+     */
+    protected boolean executeAndProcessQuery(PreparedStatement statement, ParallelLogMinerSessions.MiningBatch miningBatch)
+            throws SQLException, InterruptedException {
+        boolean miningBatchProcessed = miningBatch == null;
         final Instant queryStartTime = Instant.now();
         try (ResultSet resultSet = statement.executeQuery()) {
             getMetrics().setLastDurationOfFetchQuery(Duration.between(queryStartTime, Instant.now()));
@@ -398,6 +415,15 @@ protected void executeAndProcessQuery(PreparedStatement statement) throws SQLExc
                 processEvent(event);
             }
 
+            // Rows of later sub-ranges can only be processed if all rows of the primary sub-range have been
+            // processed, otherwise the primary session stopped early due to an unavailable log.
+            if (miningBatch != null && getContext().isRunning() && !sequenceUnavailable) {
+                miningBatchProcessed = miningBatch.forEachRow(getContext(), event -> {
+                    getBatchMetrics().rowObserved();
+                    processEvent(event);
+                });
+            }
+
             getBatchMetrics().updateStreamingMetrics();
 
             if (getBatchMetrics().hasProcessedAnyTransactions()) {
@@ -412,6 +438,7 @@ protected void executeAndProcessQuery(PreparedStatement statement) throws SQLExc
                     getMetrics().getSleepTimeInMilliseconds(),
                     getOffsetContext());
         }
+        return miningBatchProcessed;
     }
 
     /**
@@ -1674,15 +1701,7 @@ protected Table dispatchSchemaChangeEventAndGetTableForNewConfiguredTable(TableI
      * @throws SQLException if a database exception occurred
      */
     private void setNlsSessionParameters() throws SQLException {
-        final String NLS_SESSION_PARAMETERS = "ALTER SESSION SET "
-                + "  NLS_DATE_FORMAT = 'YYYY-MM-DD HH24:MI:SS'"
-                + "  NLS_TIMESTAMP_FORMAT = 'YYYY-MM-DD HH24:MI:SS.FF9'"
-                + "  NLS_TIMESTAMP_TZ_FORMAT = 'YYYY-MM-DD HH24:MI:SS.FF9 TZH:TZM'"
-                + "  NLS_NUMERIC_CHARACTERS = '.,'";
-        jdbcConnection.executeWithoutCommitting(NLS_SESSION_PARAMETERS);
-
-        // This is necessary so that TIMESTAMP WITH LOCAL TIME ZONE is returned in UTC
-        jdbcConnection.executeWithoutCommitting("ALTER SESSION SET TIME_ZONE = '00:00'");
+        sessionContext.setNlsSessionParameters();
     }
 
     /**
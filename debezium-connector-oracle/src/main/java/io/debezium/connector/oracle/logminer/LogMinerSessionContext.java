@@ -167,6 +167,25 @@ public void endMiningSession() throws SQLException {
         }
     }
 
+    /**
+     * Sets the session's NLS configuration for streaming. This makes sure that specific LogMiner
+     * attributes are serialized in a consistent format to minimize the various permutations needed
+     * in the value converters.
+     *
+     * @throws SQLException if a database exception occurs
+     */
+    public void setNlsSessionParameters() throws SQLException {
+        final String NLS_SESSION_PARAMETERS = "ALTER SESSION SET "
+                + "  NLS_DATE_FORMAT = 'YYYY-MM-DD HH24:MI:SS'"
+                + "  NLS_TIMESTAMP_FORMAT = 'YYYY-MM-DD HH24:MI:SS.FF9'"
+                + "  NLS_TIMESTAMP_TZ_FORMAT = 'YYYY-MM-DD HH24:MI:SS.FF9 TZH:TZM'"
+                + "  NLS_NUMERIC_CHARACTERS = '.,'";
+        connection.executeWithoutCommitting(NLS_SESSION_PARAMETERS);
+
+        // This is necessary so that TIMESTAMP WITH LOCAL TIME ZONE is returned in UTC
+        connection.executeWithoutCommitting("ALTER SESSION SET TIME_ZONE = '00:00'");
+    }
+
     /**
      * Writes the data dictionary to the Oracle transaction logs.
      *
@@ -0,0 +1,428 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.math.BigInteger;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.annotation.VisibleForTesting;
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.events.LogMinerEventRow;
+import io.debezium.jdbc.JdbcConfiguration;
+import io.debezium.pipeline.source.spi.ChangeEventSource.ChangeEventSourceContext;
+import io.debezium.util.Strings;
+import io.debezium.util.Threads;
+
+/**
+ * Mines a mining window in several concurrent LogMiner sessions, each reading a contiguous SCN sub-range.
+ * <p>
+ * The primary LogMiner session mines the first sub-range of the window, while each of the remaining
+ * sub-ranges is mined by a dedicated session on its own connection, using only the logs that overlap
+ * the sub-range. Mined rows are buffered per sub-range and consumed in sub-range order, so the consumer
+ * observes the rows in exactly the same order as a single session mining the whole window would return
+ * them, leaving the ordering of transaction commits unchanged.
+ */
+public class ParallelLogMinerSessions implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelLogMinerSessions.class);
+
+    private static final int ROWS_PER_CHUNK = 1_000;
+    private static final long OFFER_TIMEOUT_MS = 100;
+    private static final List<LogMinerEventRow> END_OF_RANGE = Collections.emptyList();
+
+    private final int sessions;
+    private final BigInteger minimumRangeSize;
+    private final int chunksPerSession;
+    private final List<? extends RangeMiner> secondarySessions;
+    private final ExecutorService executor;
+
+    public ParallelLogMinerSessions(OracleConnectorConfig connectorConfig, JdbcConfiguration jdbcConfiguration, String queryString) {
+        this(connectorConfig, createSessions(connectorConfig, jdbcConfiguration, queryString));
+    }
+
+    @VisibleForTesting
+    ParallelLogMinerSessions(OracleConnectorConfig connectorConfig, List<? extends RangeMiner> secondarySessions) {
+        this.sessions = secondarySessions.size() + 1;
+        this.minimumRangeSize = BigInteger.valueOf(connectorConfig.getLogMiningBatchSizeMin());
+        this.chunksPerSession = Math.max(1, connectorConfig.getLogMiningParallelSessionsBufferSize() / ROWS_PER_CHUNK);
+        this.secondarySessions = secondarySessions;
+        this.executor = Threads.newFixedThreadPool(ParallelLogMinerSessions.class, connectorConfig.getLogicalName(),
+                "logminer-session", secondarySessions.size());
+    }
+
+    private static List<Session> createSessions(OracleConnectorConfig connectorConfig, JdbcConfiguration jdbcConfiguration, String queryString) {
+        final List<Session> sessions = new ArrayList<>();
+        for (int i = 1; i < connectorConfig.getLogMiningParallelSessions(); i++) {
+            sessions.add(new Session(connectorConfig, jdbcConfiguration, queryString));
+        }
+        return sessions;
+    }
+
+    /**
+     * Splits the mining window into contiguous SCN sub-ranges, one per session. The window is only split
+     * as far as each sub-range spans at least the minimum mining batch size.
+     *
+     * @param startScn the exclusive lower bound of the mining window, should not be {@code null}
+     * @param endScn the inclusive upper bound of the mining window, should not be {@code null}
+     * @return the inclusive upper bounds of the sub-ranges in ascending order, the last one being {@code endScn}
+     */
+    public List<Scn> getUpperBounds(Scn startScn, Scn endScn) {
+        final BigInteger range = endScn.subtract(startScn).asBigInteger();
+        final int count = range.divide(minimumRangeSize).min(BigInteger.valueOf(sessions)).intValue();
+        if (count <= 1) {
+            return List.of(endScn);
+        }
+
+        final BigInteger step = range.divide(BigInteger.valueOf(count));
+        final List<Scn> upperBounds = new ArrayList<>(count);
+        for (int i = 1; i < count; i++) {
+            upperBounds.add(startScn.add(new Scn(step.multiply(BigInteger.valueOf(i)))));
+        }
+        upperBounds.add(endScn);
+        return upperBounds;
+    }
+
+    /**
+     * Starts mining all but the first sub-range in the secondary sessions.
+     *
+     * @param upperBounds the sub-range upper bounds as returned by {@link #getUpperBounds(Scn, Scn)}
+     * @param logFiles the logs of the mining window, should not be {@code null}
+     * @return the batch providing access to the mined rows, never {@code null}
+     */
+    public MiningBatch mine(List<Scn> upperBounds, List<LogFile> logFiles) {
+        final List<SubRange> subRanges = new ArrayList<>(upperBounds.size() - 1);
+        for (int i = 1; i < upperBounds.size(); i++) {
+            final SubRange subRange = new SubRange(upperBounds.get(i - 1), upperBounds.get(i), chunksPerSession);
+            final RangeMiner session = secondarySessions.get(i - 1);
+            final List<LogFile> subRangeLogFiles = getLogFilesForRange(logFiles, subRange);
+            subRange.future = executor.submit(() -> mineSubRange(session, subRange, subRangeLogFiles));
+            subRanges.add(subRange);
+        }
+        return new MiningBatch(upperBounds.get(0), subRanges);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        for (RangeMiner session : secondarySessions) {
+            session.close();
+        }
+    }
+
+    private static void mineSubRange(RangeMiner session, SubRange subRange, List<LogFile> logFiles) {
+        try {
+            session.mine(subRange.lowerBound, subRange.upperBound, logFiles, subRange);
+        }
+        catch (Throwable t) {
+            subRange.failure = t;
+        }
+        finally {
+            try {
+                // Rows mined before a failure are valid and consumed, just like the primary session's rows
+                subRange.flush();
+                subRange.put(END_OF_RANGE);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static List<LogFile> getLogFilesForRange(List<LogFile> logFiles, SubRange subRange) {
+        // A log is needed when it contains changes within (lowerBound, upperBound]
+        return logFiles.stream()
+                .filter(logFile -> logFile.getFirstScn().compareTo(subRange.upperBound) <= 0)
+                .filter(logFile -> logFile.isCurrent() || logFile.getNextScn().compareTo(subRange.lowerBound) > 0)
+                .toList();
+    }
+
+    private static boolean isRetriable(Throwable failure) {
+        return failure instanceof RetriableLogMinerException
+                || (failure instanceof SQLException && failure.getMessage() != null && failure.getMessage().startsWith("ORA-00310"));
+    }
+
+    /**
+     * Consumes rows mined by the secondary sessions.
+     */
+    @FunctionalInterface
+    public interface RowConsumer {
+        void accept(LogMinerEventRow row) throws SQLException, InterruptedException;
+    }
+
+    /**
+     * Receives the rows mined for one sub-range, in the order LogMiner returns them.
+     */
+    interface RowSink {
+        /**
+         * @return {@code true} if mining the sub-range should stop because its rows are no longer consumed
+         */
+        boolean isCancelled();
+
+        void add(LogMinerEventRow row) throws InterruptedException;
+    }
+
+    /**
+     * Mines the rows of an SCN sub-range in a secondary session.
+     */
+    interface RangeMiner extends AutoCloseable {
+        /**
+         * Mines all rows of the sub-range {@code (lowerBound, upperBound]}.
+         *
+         * @param lowerBound the exclusive lower bound of the sub-range, never {@code null}
+         * @param upperBound the inclusive upper bound of the sub-range, never {@code null}
+         * @param logFiles the logs overlapping the sub-range, never {@code null}
+         * @param sink the receiver of the mined rows, never {@code null}
+         * @throws SQLException if a database exception occurs
+         * @throws InterruptedException if the thread is interrupted
+         */
+        void mine(Scn lowerBound, Scn upperBound, List<LogFile> logFiles, RowSink sink) throws SQLException, InterruptedException;
+
+        @Override
+        void close();
+    }
+
+    /**
+     * Provides access to the rows of one mining window mined by the secondary sessions. Closing the
+     * batch stops mining any sub-ranges that were not consumed and waits for the sessions to finish.
+     */
+    public static class MiningBatch implements AutoCloseable {
+
+        private final List<SubRange> subRanges;
+        private Scn processedUpperBound;
+
+        private MiningBatch(Scn primaryUpperBound, List<SubRange> subRanges) {
+            this.subRanges = subRanges;
+            this.processedUpperBound = primaryUpperBound;
+        }
+
+        /**
+         * Returns the SCN up to which the rows of the mining window have been passed to the consumer. This is
+         * the upper bound of the last sub-range that was consumed completely or, if consumption stopped within
+         * a sub-range, the SCN of the last row consumed from it. Before {@link #forEachRow} is called, this is
+         * the upper bound of the primary session's sub-range.
+         *
+         * @return the upper bound of the processed part of the mining window, never {@code null}
+         */
+        public Scn getProcessedUpperBound() {
+            return processedUpperBound;
+        }
+
+        /**
+         * Passes the rows of all sub-ranges to the consumer in sub-range order.
+         *
+         * @param context the change event source context, should not be {@code null}
+         * @param consumer the row consumer, should not be {@code null}
+         * @return {@code true} if all rows were consumed, {@code false} if consumption stopped early because
+         *         the connector is stopping or a session failed with a retriable error
+         * @throws SQLException if a database exception occurs
+         * @throws InterruptedException if the thread is interrupted
+         */
+        public boolean forEachRow(ChangeEventSourceContext context, RowConsumer consumer) throws SQLException, InterruptedException {
+            for (SubRange subRange : subRanges) {
+                while (true) {
+                    final List<LogMinerEventRow> chunk = subRange.queue.poll(OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                    if (!context.isRunning()) {
+                        return false;
+                    }
+                    else if (chunk == END_OF_RANGE) {
+                        break;
+                    }
+                    else if (chunk != null) {
+                        for (LogMinerEventRow row : chunk) {
+                            consumer.accept(row);
+                            if (row.getScn().compareTo(processedUpperBound) > 0) {
+                                processedUpperBound = row.getScn();
+                            }
+                        }
+                    }
+                }
+
+                if (subRange.failure != null) {
+                    if (isRetriable(subRange.failure)) {
+                        // The rows mined so far have been consumed, mining restarts after the last processed row
+                        LOGGER.warn("Mining session for SCN range ({}, {}] stopped early, the remaining changes will be mined in the next iteration.",
+                                subRange.lowerBound, subRange.upperBound, subRange.failure);
+                        return false;
+                    }
+                    throw new DebeziumException("Failed to mine SCN range (" + subRange.lowerBound + ", " + subRange.upperBound + "]",
+                            subRange.failure);
+                }
+                processedUpperBound = subRange.upperBound;
+            }
+            return true;
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            for (SubRange subRange : subRanges) {
+                subRange.cancelled = true;
+            }
+            for (SubRange subRange : subRanges) {
+                try {
+                    subRange.future.get();
+                }
+                catch (ExecutionException e) {
+                    LOGGER.warn("Mining session for SCN range ({}, {}] failed.", subRange.lowerBound, subRange.upperBound, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * A contiguous SCN sub-range of the mining window and the buffer of its mined rows.
+     */
+    private static class SubRange implements RowSink {
+        private final Scn lowerBound;
+        private final Scn upperBound;
+        private final BlockingQueue<List<LogMinerEventRow>> queue;
+        private volatile boolean cancelled;
+        private volatile Throwable failure;
+        private Future<?> future;
+        private List<LogMinerEventRow> chunk = new ArrayList<>(ROWS_PER_CHUNK);
+
+        SubRange(Scn lowerBound, Scn upperBound, int capacity) {
+            this.lowerBound = lowerBound;
+            this.upperBound = upperBound;
+            // Leave room for the end marker
+            this.queue = new ArrayBlockingQueue<>(capacity + 1);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void add(LogMinerEventRow row) throws InterruptedException {
+            chunk.add(row);
+            if (chunk.size() == ROWS_PER_CHUNK) {
+                flush();
+            }
+        }
+
+        void flush() throws InterruptedException {
+            if (!chunk.isEmpty()) {
+                put(chunk);
+                chunk = new ArrayList<>(ROWS_PER_CHUNK);
+            }
+        }
+
+        void put(List<LogMinerEventRow> chunk) throws InterruptedException {
+            while (!cancelled && !queue.offer(chunk, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                // Wait for the consumer to catch up
+            }
+        }
+    }
+
+    /**
+     * A secondary LogMiner session with its own connection, created lazily on first use.
+     */
+    private static class Session implements RangeMiner {
+
+        private final OracleConnectorConfig connectorConfig;
+        private final JdbcConfiguration jdbcConfiguration;
+        private final String queryString;
+        private OracleConnection connection;
+        private LogMinerSessionContext sessionContext;
+
+        Session(OracleConnectorConfig connectorConfig, JdbcConfiguration jdbcConfiguration, String queryString) {
+            this.connectorConfig = connectorConfig;
+            this.jdbcConfiguration = jdbcConfiguration;
+            this.queryString = queryString;
+        }
+
+        @Override
+        public void mine(Scn lowerBound, Scn upperBound, List<LogFile> logFiles, RowSink sink) throws SQLException, InterruptedException {
+            try {
+                if (connection == null) {
+                    connect();
+                }
+
+                sessionContext.removeAllLogFilesFromSession();
+                sessionContext.addLogFiles(logFiles);
+                sessionContext.startSession(lowerBound, upperBound, false);
+                try {
+                    fetchRows(lowerBound, upperBound, sink);
+                }
+                finally {
+                    sessionContext.endMiningSession();
+                }
+            }
+            catch (SQLException | RuntimeException e) {
+                // Reconnect on next use, the session state is unknown
+                close();
+                throw e;
+            }
+        }
+
+        private void fetchRows(Scn lowerBound, Scn upperBound, RowSink sink) throws SQLException, InterruptedException {
+            try (PreparedStatement statement = connection.connection().prepareStatement(queryString,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setQueryTimeout((int) connection.config().getQueryTimeout().toSeconds());
+                statement.setFetchSize(connectorConfig.getQueryFetchSize());
+                statement.setFetchDirection(ResultSet.FETCH_FORWARD);
+                statement.setString(1, lowerBound.toString());
+                statement.setString(2, upperBound.toString());
+                if (connectorConfig.isLogMiningUseCteQuery()) {
+                    statement.setString(3, lowerBound.toString());
+                    statement.setString(4, upperBound.toString());
+                }
+
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    final String catalogName = connectorConfig.getCatalogName();
+                    while (!sink.isCancelled() && resultSet.next()) {
+                        sink.add(LogMinerEventRow.fromResultSet(resultSet, catalogName));
+                    }
+                }
+            }
+        }
+
+        private void connect() throws SQLException {
+            connection = new OracleConnection(jdbcConfiguration, false);
+            connection.setAutoCommit(false);
+
+            // LogMiner must be run in the CDB
+            if (!Strings.isNullOrEmpty(connectorConfig.getPdbName())) {
+                connection.resetSessionToCdb();
+            }
+
+            sessionContext = new LogMinerSessionContext(connection, false, connectorConfig.getLogMiningStrategy(),
+                    connectorConfig.getLogMiningPathToDictionary());
+            sessionContext.setNlsSessionParameters();
+        }
+
+        @Override
+        public void close() {
+            if (connection != null) {
+                try {
+                    connection.close();
+                }
+                catch (SQLException e) {
+                    LOGGER.warn("Failed to close mining session connection", e);
+                }
+                connection = null;
+                sessionContext = null;
+            }
+        }
+    }
+}
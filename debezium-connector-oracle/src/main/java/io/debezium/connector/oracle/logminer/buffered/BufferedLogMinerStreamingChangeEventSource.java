@@ -14,6 +14,7 @@
 import java.time.ZoneOffset;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -32,6 +33,7 @@
 import io.debezium.connector.oracle.logminer.AbstractLogMinerStreamingChangeEventSource;
 import io.debezium.connector.oracle.logminer.LogMinerChangeRecordEmitter;
 import io.debezium.connector.oracle.logminer.LogMinerStreamingChangeEventSourceMetrics;
+import io.debezium.connector.oracle.logminer.ParallelLogMinerSessions;
 import io.debezium.connector.oracle.logminer.SqlUtils;
 import io.debezium.connector.oracle.logminer.TransactionCommitConsumer;
 import io.debezium.connector.oracle.logminer.buffered.ehcache.EhcacheCacheProvider;
@@ -41,6 +43,8 @@
 import io.debezium.connector.oracle.logminer.buffered.infinispan.RemoteInfinispanCacheProvider;
 import io.debezium.connector.oracle.logminer.buffered.memory.MemoryCacheProvider;
 import io.debezium.connector.oracle.logminer.buffered.memory.MemoryTransactionFactory;
+import io.debezium.connector.oracle.logminer.buffered.mmap.MemoryMappedCacheProvider;
+import io.debezium.connector.oracle.logminer.buffered.mmap.MemoryMappedTransactionFactory;
 import io.debezium.connector.oracle.logminer.events.DmlEvent;
 import io.debezium.connector.oracle.logminer.events.EventType;
 import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
@@ -76,6 +80,7 @@ public class BufferedLogMinerStreamingChangeEventSource extends AbstractLogMiner
     private final String queryString;
     private final CacheProvider<Transaction> cacheProvider;
     private final TransactionFactory<Transaction> transactionFactory;
+    private final ParallelLogMinerSessions parallelSessions;
 
     private Instant lastProcessedScnChangeTime = null;
     private Scn lastProcessedScn = Scn.NULL;
@@ -93,6 +98,9 @@ public BufferedLogMinerStreamingChangeEventSource(OracleConnectorConfig connecto
         this.queryString = new BufferedLogMinerQueryBuilder(connectorConfig).getQuery();
         this.cacheProvider = createCacheProvider(connectorConfig);
         this.transactionFactory = createTransactionFactory(connectorConfig);
+        this.parallelSessions = isParallelMiningEnabled(connectorConfig, jdbcConnection)
+                ? new ParallelLogMinerSessions(connectorConfig, getJdbcConfiguration(), queryString)
+                : null;
     }
 
     @Override
@@ -152,7 +160,7 @@ protected void executeLogMiningStreaming() throws Exception {
                     watch = Stopwatch.accumulating().start();
                 }
 
-                if (startMiningSession(startScn, endScn, miningStartAttempts)) {
+                if (startMiningSession(startScn, getPrimarySessionEndScn(startScn, endScn), miningStartAttempts)) {
                     miningStartAttempts = 1;
                     startScn = process(startScn, endScn);
 
@@ -175,6 +183,9 @@ protected void executeLogMiningStreaming() throws Exception {
 
     @Override
     public void close() {
+        if (parallelSessions != null) {
+            parallelSessions.close();
+        }
         try {
             cacheProvider.close();
         }
@@ -205,6 +216,7 @@ private <T extends Transaction> CacheProvider<T> createCacheProvider(OracleConne
             case INFINISPAN_EMBEDDED -> new EmbeddedInfinispanCacheProvider(connectorConfig);
             case INFINISPAN_REMOTE -> new RemoteInfinispanCacheProvider(connectorConfig);
             case EHCACHE -> new EhcacheCacheProvider(connectorConfig);
+            case MEMORY_MAPPED -> new MemoryMappedCacheProvider(connectorConfig);
         };
     }
 
@@ -214,6 +226,7 @@ private <T extends Transaction> TransactionFactory<T> createTransactionFactory(O
             case MEMORY -> new MemoryTransactionFactory();
             case INFINISPAN_EMBEDDED, INFINISPAN_REMOTE -> new InfinispanTransactionFactory();
             case EHCACHE -> new EhcacheTransactionFactory();
+            case MEMORY_MAPPED -> new MemoryMappedTransactionFactory();
         };
     }
 
@@ -221,24 +234,75 @@ private <T extends Transaction> TransactionFactory<T> createTransactionFactory(O
     protected Scn process(Scn startScn, Scn endScn) throws SQLException, InterruptedException {
         getBatchMetrics().reset();
 
-        try (PreparedStatement statement = createQueryStatement()) {
-            LOGGER.debug("Fetching results for SCN [{}, {}]", startScn, endScn);
+        final List<Scn> upperBounds = getMiningUpperBounds(startScn, endScn);
+        final Scn primaryEndScn = upperBounds.get(0);
+
+        try (PreparedStatement statement = createQueryStatement();
+                ParallelLogMinerSessions.MiningBatch miningBatch = upperBounds.size() > 1
+                        ? parallelSessions.mine(upperBounds, getCurrentLogFiles())
+                        : null) {
+            LOGGER.debug("Fetching results for SCN [{}, {}]", startScn, primaryEndScn);
             statement.setFetchSize(getConfig().getQueryFetchSize());
             statement.setFetchDirection(ResultSet.FETCH_FORWARD);
             statement.setString(1, startScn.toString());
-            statement.setString(2, endScn.toString());
+            statement.setString(2, primaryEndScn.toString());
 
             if (getConfig().isLogMiningUseCteQuery()) {
                 statement.setString(3, startScn.toString());
-                statement.setString(4, endScn.toString());
+                statement.setString(4, primaryEndScn.toString());
             }
 
-            executeAndProcessQuery(statement);
+            Scn processedEndScn = endScn;
+            if (!executeAndProcessQuery(statement, miningBatch)) {
+                // The remainder of the window was not processed and is mined again in the next iteration
+                processedEndScn = miningBatch.getProcessedUpperBound();
+                LOGGER.debug("Mining window [{}, {}] was only processed up to SCN {}.", startScn, endScn, processedEndScn);
+            }
 
             logActiveTransactions();
 
-            return calculateNewStartScn(startScn, endScn, getOffsetContext().getCommitScn().getMaxCommittedScn());
+            return calculateNewStartScn(startScn, processedEndScn, getOffsetContext().getCommitScn().getMaxCommittedScn());
+        }
+    }
+
+    /**
+     * Get the upper bounds of the SCN sub-ranges the mining window is split into, one per mining session.
+     *
+     * @param startScn the exclusive lower bound of the mining window
+     * @param endScn the inclusive upper bound of the mining window
+     * @return the upper bounds in ascending order, the last one being {@code endScn}
+     */
+    private List<Scn> getMiningUpperBounds(Scn startScn, Scn endScn) {
+        return parallelSessions != null ? parallelSessions.getUpperBounds(startScn, endScn) : List.of(endScn);
+    }
+
+    /**
+     * Get the upper bound of the SCN sub-range mined by the primary mining session.
+     *
+     * @param startScn the exclusive lower bound of the mining window
+     * @param endScn the inclusive upper bound of the mining window
+     * @return the upper bound of the primary session's sub-range
+     */
+    private Scn getPrimarySessionEndScn(Scn startScn, Scn endScn) {
+        return getMiningUpperBounds(startScn, endScn).get(0);
+    }
+
+    private static boolean isParallelMiningEnabled(OracleConnectorConfig connectorConfig, OracleConnection jdbcConnection) {
+        if (connectorConfig.getLogMiningParallelSessions() <= 1) {
+            return false;
         }
+        if (connectorConfig.getLogMiningStrategy() == OracleConnectorConfig.LogMiningStrategy.CATALOG_IN_REDO) {
+            // Each session would have to track the data dictionary from the redo logs independently
+            LOGGER.warn("Parallel mining sessions are not supported with the '{}' mining strategy, using a single session.",
+                    OracleConnectorConfig.LogMiningStrategy.CATALOG_IN_REDO.getValue());
+            return false;
+        }
+        if (connectorConfig.isLogMiningContinuousMining(jdbcConnection.getOracleVersion())) {
+            LOGGER.warn("Parallel mining sessions are not supported with continuous mining, using a single session.");
+            return false;
+        }
+        LOGGER.info("Using {} concurrent LogMiner sessions per mining window.", connectorConfig.getLogMiningParallelSessions());
+        return true;
     }
 
     @VisibleForTesting
@@ -644,7 +708,8 @@ private Scn calculateNewStartScn(Scn startScn, Scn endScn, Scn maxCommittedScn)
 
         if (getConfig().isLobEnabled()) {
             if (getTransactionCache().isEmpty() && !maxCommittedScn.isNull()) {
-                getOffsetContext().setScn(maxCommittedScn);
+                // Never resume beyond the end of the processed part of the mining window
+                getOffsetContext().setScn(maxCommittedScn.compareTo(endScn) > 0 ? endScn : maxCommittedScn);
                 getEventDispatcher().dispatchHeartbeatEvent(getPartition(), getOffsetContext());
             }
             else {
@@ -0,0 +1,86 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.buffered.mmap;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.logminer.buffered.AbstractCacheProvider;
+import io.debezium.connector.oracle.logminer.buffered.LogMinerCache;
+import io.debezium.connector.oracle.logminer.buffered.LogMinerTransactionCache;
+import io.debezium.connector.oracle.logminer.buffered.memory.MemoryBasedLogMinerCache;
+import io.debezium.util.Strings;
+
+/**
+ * Provides access to various transaction-focused caches, storing transaction events in memory-mapped
+ * segment files outside the JVM heap while processing change events from Oracle LogMiner's buffered
+ * implementation.
+ * <p>
+ * The segment files are scratch space and are not recovered on restart, in which case the connector
+ * re-mines in-progress transactions from the offsets just as with the heap buffer.
+ */
+public class MemoryMappedCacheProvider extends AbstractCacheProvider<MemoryMappedTransaction> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MemoryMappedCacheProvider.class);
+
+    private final Path directory;
+    private final boolean temporaryDirectory;
+    private final SegmentStore store;
+    private final MemoryMappedLogMinerTransactionCache transactionCache;
+    private final MemoryBasedLogMinerCache<String, String> processedTransactionsCache;
+    private final MemoryBasedLogMinerCache<String, String> schemaChangesCache;
+
+    public MemoryMappedCacheProvider(OracleConnectorConfig connectorConfig) {
+        final String configuredDirectory = connectorConfig.getLogMiningBufferMemoryMappedDirectory();
+        this.temporaryDirectory = Strings.isNullOrBlank(configuredDirectory);
+        this.directory = temporaryDirectory ? createTemporaryDirectory() : Path.of(configuredDirectory);
+
+        LOGGER.info("Using memory-mapped segment files in '{}' to buffer transactions", directory);
+
+        this.store = new SegmentStore(directory, connectorConfig.getLogMiningBufferMemoryMappedSegmentSize());
+        this.transactionCache = new MemoryMappedLogMinerTransactionCache(store);
+        this.processedTransactionsCache = new MemoryBasedLogMinerCache<>();
+        this.schemaChangesCache = new MemoryBasedLogMinerCache<>();
+    }
+
+    @Override
+    public LogMinerTransactionCache<MemoryMappedTransaction> getTransactionCache() {
+        return transactionCache;
+    }
+
+    @Override
+    public LogMinerCache<String, String> getSchemaChangesCache() {
+        return schemaChangesCache;
+    }
+
+    @Override
+    public LogMinerCache<String, String> getProcessedTransactionsCache() {
+        return processedTransactionsCache;
+    }
+
+    @Override
+    public void close() throws Exception {
+        store.close();
+        if (temporaryDirectory) {
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private static Path createTemporaryDirectory() {
+        try {
+            return Files.createTempDirectory("debezium-logminer-buffer-");
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to create a temporary directory for the transaction buffer", e);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.buffered.mmap;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.oracle.logminer.buffered.AbstractLogMinerTransactionCache;
+import io.debezium.connector.oracle.logminer.buffered.ehcache.serialization.LogMinerEventSerializer;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+
+/**
+ * A concrete implementation of {@link AbstractLogMinerTransactionCache} that keeps transactions on the
+ * JVM heap but stores their events in memory-mapped segment files.
+ * <p>
+ * Events are encoded with the same binary format used by the Ehcache buffer. Each transaction owns a
+ * {@link TransactionEventChain} referencing its events' records, so discarding a transaction releases
+ * its records per segment rather than per event.
+ */
+public class MemoryMappedLogMinerTransactionCache extends AbstractLogMinerTransactionCache<MemoryMappedTransaction> {
+
+    private final SegmentStore store;
+    private final LogMinerEventSerializer serializer;
+    private final Map<String, MemoryMappedTransaction> transactionsByTransactionId = new HashMap<>();
+    private final Map<String, TransactionEventChain> chainsByTransactionId = new HashMap<>();
+
+    private int eventCount;
+
+    MemoryMappedLogMinerTransactionCache(SegmentStore store) {
+        this.store = store;
+        this.serializer = new LogMinerEventSerializer(getClass().getClassLoader());
+    }
+
+    @Override
+    public MemoryMappedTransaction getTransaction(String transactionId) {
+        return transactionsByTransactionId.get(transactionId);
+    }
+
+    @Override
+    public void addTransaction(MemoryMappedTransaction transaction) {
+        transactionsByTransactionId.put(transaction.getTransactionId(), transaction);
+    }
+
+    @Override
+    public void removeTransaction(MemoryMappedTransaction transaction) {
+        transactionsByTransactionId.remove(transaction.getTransactionId());
+    }
+
+    @Override
+    public boolean containsTransaction(String transactionId) {
+        return transactionsByTransactionId.containsKey(transactionId);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return transactionsByTransactionId.isEmpty();
+    }
+
+    @Override
+    public int getTransactionCount() {
+        return transactionsByTransactionId.size();
+    }
+
+    @Override
+    public <R> R streamTransactionsAndReturn(Function<Stream<MemoryMappedTransaction>, R> consumer) {
+        return consumer.apply(transactionsByTransactionId.values().stream());
+    }
+
+    @Override
+    public void transactions(Consumer<Stream<MemoryMappedTransaction>> consumer) {
+        consumer.accept(transactionsByTransactionId.values().stream());
+    }
+
+    @Override
+    public void eventKeys(Consumer<Stream<String>> consumer) {
+        consumer.accept(chainsByTransactionId.entrySet().stream()
+                .flatMap(entry -> {
+                    final TransactionEventChain chain = entry.getValue();
+                    return IntStream.range(0, chain.size()).mapToObj(i -> entry.getKey() + "-" + chain.getEventId(i));
+                }));
+    }
+
+    @Override
+    public void forEachEvent(MemoryMappedTransaction transaction, InterruptiblePredicate<LogMinerEvent> predicate) throws InterruptedException {
+        final TransactionEventChain chain = chainsByTransactionId.get(transaction.getTransactionId());
+        if (chain != null) {
+            for (int i = 0; i < chain.size(); i++) {
+                if (!predicate.test(readEvent(chain.getAddress(i)))) {
+                    break;
+                }
+            }
+        }
+    }
+
+    @Override
+    public LogMinerEvent getTransactionEvent(MemoryMappedTransaction transaction, int eventKey) {
+        final TransactionEventChain chain = chainsByTransactionId.get(transaction.getTransactionId());
+        if (chain != null) {
+            final int index = chain.indexOf(eventKey);
+            if (index >= 0) {
+                return readEvent(chain.getAddress(index));
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public MemoryMappedTransaction getAndRemoveTransaction(String transactionId) {
+        return transactionsByTransactionId.remove(transactionId);
+    }
+
+    @Override
+    public void addTransactionEvent(MemoryMappedTransaction transaction, int eventKey, LogMinerEvent event) {
+        final long address = store.append(serializer.serialize(event));
+        chainsByTransactionId.computeIfAbsent(transaction.getTransactionId(), (id) -> new TransactionEventChain())
+                .add(eventKey, address);
+        eventCount++;
+    }
+
+    @Override
+    public void removeTransactionEvents(MemoryMappedTransaction transaction) {
+        final TransactionEventChain chain = chainsByTransactionId.remove(transaction.getTransactionId());
+        if (chain != null) {
+            eventCount -= chain.size();
+            chain.release(store);
+        }
+    }
+
+    @Override
+    public boolean removeTransactionEventWithRowId(MemoryMappedTransaction transaction, String rowId) {
+        final TransactionEventChain chain = chainsByTransactionId.get(transaction.getTransactionId());
+        if (chain != null) {
+            for (int i = chain.size() - 1; i >= 0; i--) {
+                if (readEvent(chain.getAddress(i)).getRowId().equals(rowId)) {
+                    chain.remove(i, store);
+                    eventCount--;
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean containsTransactionEvent(MemoryMappedTransaction transaction, int eventKey) {
+        final TransactionEventChain chain = chainsByTransactionId.get(transaction.getTransactionId());
+        return chain != null && chain.indexOf(eventKey) >= 0;
+    }
+
+    @Override
+    public int getTransactionEventCount(MemoryMappedTransaction transaction) {
+        final TransactionEventChain chain = chainsByTransactionId.get(transaction.getTransactionId());
+        return chain != null ? chain.size() : 0;
+    }
+
+    @Override
+    public int getTransactionEvents() {
+        return eventCount;
+    }
+
+    @Override
+    public void clear() {
+        transactionsByTransactionId.clear();
+        chainsByTransactionId.clear();
+        store.clear();
+        eventCount = 0;
+    }
+
+    @Override
+    public void syncTransaction(MemoryMappedTransaction transaction) {
+        // Transactions are kept on the heap, therefore this is a no-op
+    }
+
+    private LogMinerEvent readEvent(long address) {
+        try {
+            return serializer.read(store.read(address));
+        }
+        catch (ClassNotFoundException e) {
+            throw new DebeziumException("Failed to read event from segment store", e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.buffered.mmap;
+
+import io.debezium.connector.oracle.logminer.buffered.TransactionFactory;
+import io.debezium.connector.oracle.logminer.events.LogMinerEventRow;
+
+/**
+ * Transaction factory implementation for {@link MemoryMappedTransaction}.
+ */
+public class MemoryMappedTransactionFactory implements TransactionFactory<MemoryMappedTransaction> {
+    @Override
+    public MemoryMappedTransaction createTransaction(LogMinerEventRow event) {
+        return new MemoryMappedTransaction(event.getTransactionId(), event.getScn(), event.getChangeTime(),
+                event.getUserName(), event.getThread(), event.getClientId());
+    }
+}
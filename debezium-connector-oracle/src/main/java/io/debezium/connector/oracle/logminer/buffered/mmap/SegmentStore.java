@@ -0,0 +1,257 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.buffered.mmap;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+
+/**
+ * An append-only store of records backed by memory-mapped segment files.
+ * <p>
+ * Records are written sequentially into the active segment, prefixed by their length, and are
+ * addressed by the segment identifier in the upper and the offset in the lower 32 bits of a long.
+ * The store tracks the number of live records per segment rather than individual records, so that
+ * callers release records in bulk per segment. Once a segment no longer holds any live records it
+ * is recycled, avoiding the need to compact segment files.
+ */
+final class SegmentStore implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SegmentStore.class);
+
+    static final String SEGMENT_FILE_SUFFIX = ".segment";
+
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final Map<Integer, Segment> segments = new HashMap<>();
+    private final Deque<Segment> freeSegments = new ArrayDeque<>();
+
+    private Segment activeSegment;
+    private int nextSegmentId;
+
+    SegmentStore(Path directory, int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+
+        try {
+            Files.createDirectories(directory);
+            deleteSegmentFiles();
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to prepare segment directory " + directory, e);
+        }
+    }
+
+    /**
+     * Get the segment identifier of the given record address.
+     *
+     * @param address the record address
+     * @return the segment identifier
+     */
+    static int segmentId(long address) {
+        return (int) (address >>> 32);
+    }
+
+    /**
+     * Appends a record to the active segment, rolling over to a new segment when the record does not
+     * fit into the remaining space of the active one. Records larger than the configured segment size
+     * are written to a dedicated segment sized to fit the record.
+     *
+     * @param data the record data, should not be {@code null}
+     * @return the record's address
+     */
+    long append(ByteBuffer data) {
+        final int length = data.remaining();
+        final int required = RECORD_HEADER_SIZE + length;
+        if (activeSegment == null || activeSegment.remaining() < required) {
+            activeSegment = nextSegment(required);
+        }
+
+        final Segment segment = activeSegment;
+        final int offset = segment.position;
+        segment.buffer.putInt(offset, length);
+        segment.buffer.put(offset + RECORD_HEADER_SIZE, data, data.position(), length);
+        segment.position += required;
+        segment.liveRecords++;
+
+        return ((long) segment.id << 32) | offset;
+    }
+
+    /**
+     * Reads a record.
+     *
+     * @param address the record address
+     * @return the record data, never {@code null}
+     */
+    ByteBuffer read(long address) {
+        final Segment segment = getSegment(segmentId(address));
+        final int offset = (int) address;
+        final byte[] data = new byte[segment.buffer.getInt(offset)];
+        segment.buffer.get(offset + RECORD_HEADER_SIZE, data);
+        return ByteBuffer.wrap(data);
+    }
+
+    /**
+     * Releases a number of records held by a segment. The segment is recycled once it holds no live records.
+     *
+     * @param segmentId the segment identifier
+     * @param records the number of records to release
+     */
+    void release(int segmentId, int records) {
+        final Segment segment = getSegment(segmentId);
+        segment.liveRecords -= records;
+        if (segment.liveRecords < 0) {
+            throw new IllegalStateException("Segment " + segmentId + " released more records than it holds");
+        }
+        if (segment.liveRecords == 0) {
+            if (segment == activeSegment) {
+                // Nothing references the active segment, start writing from the beginning again
+                segment.position = 0;
+            }
+            else {
+                recycle(segment);
+            }
+        }
+    }
+
+    /**
+     * Releases all records, recycling all segments.
+     */
+    void clear() {
+        for (Segment segment : segments.values().toArray(new Segment[0])) {
+            segment.liveRecords = 0;
+            recycle(segment);
+        }
+        activeSegment = null;
+    }
+
+    /**
+     * @return the number of segments backed by a file, including free segments
+     */
+    int getSegmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * @return the number of segments that can be reused without allocating a new file
+     */
+    int getFreeSegmentCount() {
+        return freeSegments.size();
+    }
+
+    @Override
+    public void close() {
+        for (Segment segment : segments.values()) {
+            segment.close();
+        }
+        segments.clear();
+        freeSegments.clear();
+        activeSegment = null;
+    }
+
+    private Segment nextSegment(int required) {
+        if (activeSegment != null && activeSegment.liveRecords == 0) {
+            recycle(activeSegment);
+        }
+        if (required <= segmentSize && !freeSegments.isEmpty()) {
+            return freeSegments.pop();
+        }
+        return createSegment(Math.max(segmentSize, required));
+    }
+
+    private Segment createSegment(int capacity) {
+        final int id = nextSegmentId++;
+        final Path path = directory.resolve(id + SEGMENT_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping remains valid after the channel is closed
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            final Segment segment = new Segment(id, path, buffer);
+            segments.put(id, segment);
+            LOGGER.debug("Created segment file {} with {} bytes.", path, capacity);
+            return segment;
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to create segment file " + path, e);
+        }
+    }
+
+    private void recycle(Segment segment) {
+        if (segment == activeSegment) {
+            activeSegment = null;
+        }
+        if (segment.buffer.capacity() > segmentSize) {
+            // Oversized segments hold a single large record and are not worth retaining
+            segments.remove(segment.id);
+            segment.close();
+        }
+        else if (!freeSegments.contains(segment)) {
+            segment.position = 0;
+            freeSegments.push(segment);
+        }
+    }
+
+    private Segment getSegment(int segmentId) {
+        final Segment segment = segments.get(segmentId);
+        if (segment == null) {
+            throw new IllegalStateException("Segment " + segmentId + " does not exist");
+        }
+        return segment;
+    }
+
+    private void deleteSegmentFiles() throws IOException {
+        // Segments are not recoverable, so any files remaining after an unclean shutdown are discarded
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SEGMENT_FILE_SUFFIX)) {
+            for (Path path : stream) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static class Segment {
+        private final int id;
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        private int position;
+        private int liveRecords;
+
+        Segment(int id, Path path, MappedByteBuffer buffer) {
+            this.id = id;
+            this.path = path;
+            this.buffer = buffer;
+        }
+
+        int remaining() {
+            return buffer.capacity() - position;
+        }
+
+        void close() {
+            // There is no public API to unmap the buffer, the mapping is released when it is garbage collected.
+            // Deleting the file is still safe while mapped on POSIX systems.
+            try {
+                Files.deleteIfExists(path);
+            }
+            catch (IOException e) {
+                LOGGER.warn("Failed to delete segment file {}", path, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.buffered.mmap;
+
+import java.util.Arrays;
+
+/**
+ * The chain of events of a single transaction stored in a {@link SegmentStore}.
+ * <p>
+ * The chain keeps the event identifiers and record addresses in primitive arrays ordered by event
+ * identifier, so that the heap footprint per event is constant regardless of the event's size. In
+ * addition, it keeps the number of records per segment it references, which allows releasing the
+ * whole chain with one call per segment instead of one call per event.
+ */
+final class TransactionEventChain {
+
+    private static final int INITIAL_EVENT_CAPACITY = 16;
+    private static final int INITIAL_SEGMENT_CAPACITY = 4;
+
+    private int[] eventIds = new int[INITIAL_EVENT_CAPACITY];
+    private long[] addresses = new long[INITIAL_EVENT_CAPACITY];
+    private int size;
+
+    private int[] segmentIds = new int[INITIAL_SEGMENT_CAPACITY];
+    private int[] segmentRecords = new int[INITIAL_SEGMENT_CAPACITY];
+    private int segments;
+
+    /**
+     * Adds an event to the chain. Events are usually added in ascending event identifier order, in
+     * which case this is a constant time operation.
+     *
+     * @param eventId the event identifier
+     * @param address the address of the event's record
+     */
+    void add(int eventId, long address) {
+        if (size == eventIds.length) {
+            eventIds = Arrays.copyOf(eventIds, size * 2);
+            addresses = Arrays.copyOf(addresses, size * 2);
+        }
+
+        int index = size;
+        if (size > 0 && eventIds[size - 1] > eventId) {
+            index = -(Arrays.binarySearch(eventIds, 0, size, eventId) + 1);
+            System.arraycopy(eventIds, index, eventIds, index + 1, size - index);
+            System.arraycopy(addresses, index, addresses, index + 1, size - index);
+        }
+
+        eventIds[index] = eventId;
+        addresses[index] = address;
+        size++;
+
+        addSegmentRecord(SegmentStore.segmentId(address));
+    }
+
+    /**
+     * Get the index of the event in the chain.
+     *
+     * @param eventId the event identifier
+     * @return the index, or a negative value if the chain does not contain the event
+     */
+    int indexOf(int eventId) {
+        return Arrays.binarySearch(eventIds, 0, size, eventId);
+    }
+
+    int getEventId(int index) {
+        return eventIds[index];
+    }
+
+    long getAddress(int index) {
+        return addresses[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Removes the event at the given index, releasing its record from the store.
+     *
+     * @param index the event's index
+     * @param store the store holding the event's record
+     */
+    void remove(int index, SegmentStore store) {
+        final int segmentId = SegmentStore.segmentId(addresses[index]);
+        for (int i = segments - 1; i >= 0; i--) {
+            if (segmentIds[i] == segmentId) {
+                segmentRecords[i]--;
+                break;
+            }
+        }
+        store.release(segmentId, 1);
+
+        System.arraycopy(eventIds, index + 1, eventIds, index, size - index - 1);
+        System.arraycopy(addresses, index + 1, addresses, index, size - index - 1);
+        size--;
+    }
+
+    /**
+     * Releases the records of all events in the chain from the store.
+     *
+     * @param store the store holding the events' records
+     */
+    void release(SegmentStore store) {
+        for (int i = 0; i < segments; i++) {
+            if (segmentRecords[i] > 0) {
+                store.release(segmentIds[i], segmentRecords[i]);
+            }
+        }
+        segments = 0;
+        size = 0;
+    }
+
+    private void addSegmentRecord(int segmentId) {
+        // Events are appended to the store's active segment, so the match is usually the last entry
+        for (int i = segments - 1; i >= 0; i--) {
+            if (segmentIds[i] == segmentId) {
+                segmentRecords[i]++;
+                return;
+            }
+        }
+
+        if (segments == segmentIds.length) {
+            segmentIds = Arrays.copyOf(segmentIds, segments * 2);
+            segmentRecords = Arrays.copyOf(segmentRecords, segments * 2);
+        }
+        segmentIds[segments] = segmentId;
+        segmentRecords[segments] = 1;
+        segments++;
+    }
+}
@@ -5,26 +5,44 @@
  */
 package io.debezium.connector.oracle;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertThrows;
+import static org.mockito.AdditionalMatchers.not;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLRecoverableException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.time.Duration;
+import java.util.List;
 
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.errors.RetriableException;
 import org.junit.Before;
 import org.junit.Test;
 
 import io.debezium.jdbc.JdbcConfiguration;
 import io.debezium.jdbc.JdbcConnection;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
 
 public class OracleConnectionTest {
 
+    private static final Schema SOURCE_SCHEMA = SchemaBuilder.struct().field(SourceInfo.COMMIT_SCN_KEY, Schema.OPTIONAL_STRING_SCHEMA).build();
+
+    private Connection connection;
     private Statement statement;
     private JdbcConfiguration jdbcConfiguration;
     private JdbcConnection.ConnectionFactory connectionFactory;
@@ -35,7 +53,7 @@ public void setUp() throws Exception {
         jdbcConfiguration = mock(JdbcConfiguration.class);
         when(jdbcConfiguration.getQueryTimeout()).thenReturn(Duration.ZERO);
         connectionFactory = mock(JdbcConnection.ConnectionFactory.class);
-        Connection connection = mock(Connection.class);
+        connection = mock(Connection.class);
         statement = mock(Statement.class);
         when(connection.createStatement()).thenReturn(statement);
         when(connectionFactory.connect(jdbcConfiguration)).thenReturn(connection);
@@ -50,4 +68,55 @@ public void whenOracleConnectionGetSQLRecoverableExceptionThenARetriableExceptio
 
         assertThrows(RetriableException.class, () -> new OracleConnection(jdbcConfiguration, connectionFactory, true));
     }
+
+    @Test
+    public void shouldReselectRowsOfBatchAsOfCommitScn() throws SQLException {
+        final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(mock(ResultSet.class));
+
+        final OracleConnection oracleConnection = newConnection();
+        final Struct source = new Struct(SOURCE_SCHEMA).put(SourceInfo.COMMIT_SCN_KEY, "100");
+        assertThat(oracleConnection.getReselectionPoint(source)).isEqualTo("100");
+        oracleConnection.reselectRows(table(), List.of("TEXT"), List.of("ID"), List.of(List.of(1), List.of(2)), source);
+
+        verify(connection).prepareStatement("SELECT \"ID\",\"TEXT\" FROM (SELECT * FROM \"S\".\"T\" AS OF SCN ?) WHERE ID IN (?,?)");
+        verify(preparedStatement).setObject(1, "100");
+        verify(preparedStatement).setObject(2, 1);
+        verify(preparedStatement).setObject(3, 2);
+    }
+
+    @Test
+    public void shouldReselectRowsOfBatchInCurrentStateWhenScnIsTooOld() throws SQLException {
+        final PreparedStatement flashbackStatement = mock(PreparedStatement.class);
+        final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(contains("AS OF SCN"))).thenReturn(flashbackStatement);
+        when(connection.prepareStatement(not(contains("AS OF SCN")))).thenReturn(preparedStatement);
+        when(flashbackStatement.executeQuery()).thenThrow(new SQLException("ORA-01555: snapshot too old", "72000", 1555));
+        when(preparedStatement.executeQuery()).thenReturn(mock(ResultSet.class));
+
+        final OracleConnection oracleConnection = newConnection();
+        final Struct source = new Struct(SOURCE_SCHEMA).put(SourceInfo.COMMIT_SCN_KEY, "100");
+        oracleConnection.reselectRows(table(), List.of("TEXT"), List.of("ID"), List.of(List.of(1)), source);
+
+        verify(connection).prepareStatement("SELECT \"ID\",\"TEXT\" FROM \"S\".\"T\" WHERE ID IN (?)");
+        verify(preparedStatement).setObject(1, 1);
+    }
+
+    private OracleConnection newConnection() throws SQLException {
+        final ResultSet banner = mock(ResultSet.class);
+        when(banner.next()).thenReturn(true);
+        when(banner.getString(1)).thenReturn("Oracle Database 19c Enterprise Edition Release 19.0.0.0.0 - Production\nVersion 19.3.0.0.0");
+        when(statement.executeQuery(any())).thenReturn(banner);
+        return new OracleConnection(jdbcConfiguration, connectionFactory, false);
+    }
+
+    private static Table table() {
+        return Table.editor()
+                .tableId(new TableId("ORCLPDB1", "S", "T"))
+                .addColumn(Column.editor().name("ID").type("NUMBER").jdbcType(Types.NUMERIC).create())
+                .addColumn(Column.editor().name("TEXT").type("CLOB").jdbcType(Types.CLOB).create())
+                .setPrimaryKeyNames("ID")
+                .create();
+    }
 }
@@ -380,7 +380,8 @@ public void shouldReturnInvalidValueForLogMiningBufferWhenValidateLogMiningBuffe
 
         boolean actual = LOG_MINING_BUFFER_TYPE.validate(
                 configuration,
-                (field, value, problemMessage) -> assertThat(problemMessage).isEqualTo("Value must be one of ehcache, memory, infinispan_embedded, infinispan_remote"));
+                (field, value, problemMessage) -> assertThat(problemMessage)
+                        .isEqualTo("Value must be one of ehcache, memory, infinispan_embedded, infinispan_remote, memory_mapped"));
 
         assertThat(actual).isFalse();
     }
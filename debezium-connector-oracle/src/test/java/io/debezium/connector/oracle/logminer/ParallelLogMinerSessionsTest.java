@@ -0,0 +1,166 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.junit.SkipTestDependingOnAdapterNameRule;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.logminer.events.LogMinerEventRow;
+import io.debezium.connector.oracle.util.TestHelper;
+import io.debezium.pipeline.source.spi.ChangeEventSource.ChangeEventSourceContext;
+
+/**
+ * Unit tests for the {@link ParallelLogMinerSessions} class.
+ */
+@SkipWhenAdapterNameIsNot(value = SkipWhenAdapterNameIsNot.AdapterName.LOGMINER_BUFFERED)
+public class ParallelLogMinerSessionsTest {
+
+    @Rule
+    public TestRule skipRule = new SkipTestDependingOnAdapterNameRule();
+
+    @Test
+    public void shouldSplitMiningWindowIntoContiguousSubRanges() {
+        try (ParallelLogMinerSessions sessions = createSessions(4, 1_000)) {
+            assertThat(sessions.getUpperBounds(Scn.valueOf(10_000), Scn.valueOf(18_000)))
+                    .containsExactly(Scn.valueOf(12_000), Scn.valueOf(14_000), Scn.valueOf(16_000), Scn.valueOf(18_000));
+        }
+    }
+
+    @Test
+    public void shouldEndLastSubRangeAtEndOfMiningWindow() {
+        try (ParallelLogMinerSessions sessions = createSessions(3, 1_000)) {
+            assertThat(sessions.getUpperBounds(Scn.valueOf(0), Scn.valueOf(10_001)))
+                    .containsExactly(Scn.valueOf(3_333), Scn.valueOf(6_666), Scn.valueOf(10_001));
+        }
+    }
+
+    @Test
+    public void shouldNotSplitSubRangesBelowMinimumBatchSize() {
+        try (ParallelLogMinerSessions sessions = createSessions(4, 1_000)) {
+            assertThat(sessions.getUpperBounds(Scn.valueOf(10_000), Scn.valueOf(12_500)))
+                    .containsExactly(Scn.valueOf(11_250), Scn.valueOf(12_500));
+            assertThat(sessions.getUpperBounds(Scn.valueOf(10_000), Scn.valueOf(10_999)))
+                    .containsExactly(Scn.valueOf(10_999));
+        }
+    }
+
+    @Test
+    public void shouldConsumeRowsOfAllSubRangesInOrder() throws Exception {
+        try (ParallelLogMinerSessions sessions = createSessions(List.of(rows(), rows()))) {
+            final List<Scn> upperBounds = sessions.getUpperBounds(Scn.valueOf(10_000), Scn.valueOf(13_000));
+            final List<Scn> consumed = new ArrayList<>();
+            try (ParallelLogMinerSessions.MiningBatch batch = sessions.mine(upperBounds, List.of())) {
+                assertThat(batch.forEachRow(runningContext(), row -> consumed.add(row.getScn()))).isTrue();
+                assertThat(batch.getProcessedUpperBound()).isEqualTo(Scn.valueOf(13_000));
+            }
+            assertThat(consumed).containsExactly(Scn.valueOf(11_001), Scn.valueOf(11_002), Scn.valueOf(11_003),
+                    Scn.valueOf(12_001), Scn.valueOf(12_002), Scn.valueOf(12_003));
+        }
+    }
+
+    @Test
+    public void shouldStopAtLastConsumedRowWhenSecondarySubRangeFailsWithRetriableError() throws Exception {
+        final RetriableLogMinerException failure = new RetriableLogMinerException(new SQLException("ORA-00310: archived log does not contain sequence"));
+        try (ParallelLogMinerSessions sessions = createSessions(List.of(rows(), rows(2, failure), rows()))) {
+            final List<Scn> upperBounds = sessions.getUpperBounds(Scn.valueOf(10_000), Scn.valueOf(14_000));
+            final List<Scn> consumed = new ArrayList<>();
+            try (ParallelLogMinerSessions.MiningBatch batch = sessions.mine(upperBounds, List.of())) {
+                assertThat(batch.forEachRow(runningContext(), row -> consumed.add(row.getScn()))).isFalse();
+
+                // The window ends after the rows mined before the failure, the next iteration resumes from there
+                assertThat(batch.getProcessedUpperBound()).isEqualTo(Scn.valueOf(12_002));
+            }
+            assertThat(consumed).containsExactly(Scn.valueOf(11_001), Scn.valueOf(11_002), Scn.valueOf(11_003),
+                    Scn.valueOf(12_001), Scn.valueOf(12_002));
+        }
+    }
+
+    @Test
+    public void shouldFailWhenSecondarySubRangeFailsWithNonRetriableError() throws Exception {
+        try (ParallelLogMinerSessions sessions = createSessions(List.of(rows(), rows(1, new SQLException("ORA-01291: missing log file"))))) {
+            final List<Scn> upperBounds = sessions.getUpperBounds(Scn.valueOf(10_000), Scn.valueOf(13_000));
+            try (ParallelLogMinerSessions.MiningBatch batch = sessions.mine(upperBounds, List.of())) {
+                assertThatThrownBy(() -> batch.forEachRow(runningContext(), row -> {
+                }))
+                        .isInstanceOf(DebeziumException.class)
+                        .hasMessage("Failed to mine SCN range (12000, 13000]")
+                        .hasCauseInstanceOf(SQLException.class);
+                assertThat(batch.getProcessedUpperBound()).isEqualTo(Scn.valueOf(12_001));
+            }
+        }
+    }
+
+    private static ParallelLogMinerSessions createSessions(List<ParallelLogMinerSessions.RangeMiner> secondarySessions) {
+        final OracleConnectorConfig connectorConfig = new OracleConnectorConfig(TestHelper.defaultConfig()
+                .with(OracleConnectorConfig.LOG_MINING_PARALLEL_SESSIONS, secondarySessions.size() + 1)
+                .with(OracleConnectorConfig.LOG_MINING_BATCH_SIZE_MIN, 1_000)
+                .build());
+        return new ParallelLogMinerSessions(connectorConfig, secondarySessions);
+    }
+
+    /**
+     * Mines three rows right after the lower bound of the sub-range.
+     */
+    private static ParallelLogMinerSessions.RangeMiner rows() {
+        return rows(3, null);
+    }
+
+    /**
+     * Mines the given number of rows right after the lower bound of the sub-range and then optionally fails.
+     */
+    private static ParallelLogMinerSessions.RangeMiner rows(int count, Exception failure) {
+        return new ParallelLogMinerSessions.RangeMiner() {
+            @Override
+            public void mine(Scn lowerBound, Scn upperBound, List<LogFile> logFiles, ParallelLogMinerSessions.RowSink sink)
+                    throws SQLException, InterruptedException {
+                for (int i = 1; i <= count; i++) {
+                    final LogMinerEventRow row = mock(LogMinerEventRow.class);
+                    when(row.getScn()).thenReturn(lowerBound.add(Scn.valueOf(i)));
+                    sink.add(row);
+                }
+                if (failure instanceof SQLException sqlException) {
+                    throw sqlException;
+                }
+                else if (failure != null) {
+                    throw (RuntimeException) failure;
+                }
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private static ChangeEventSourceContext runningContext() {
+        final ChangeEventSourceContext context = mock(ChangeEventSourceContext.class);
+        when(context.isRunning()).thenReturn(true);
+        return context;
+    }
+
+    private static ParallelLogMinerSessions createSessions(int sessions, int minimumBatchSize) {
+        final OracleConnectorConfig connectorConfig = new OracleConnectorConfig(TestHelper.defaultConfig()
+                .with(OracleConnectorConfig.LOG_MINING_PARALLEL_SESSIONS, sessions)
+                .with(OracleConnectorConfig.LOG_MINING_BATCH_SIZE_MIN, minimumBatchSize)
+                .build());
+        return new ParallelLogMinerSessions(connectorConfig, connectorConfig.getJdbcConfig(), "SELECT 1 FROM DUAL");
+    }
+}
@@ -17,9 +17,11 @@
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Calendar;
 
 import org.junit.After;
 import org.junit.Before;
@@ -370,6 +372,7 @@ public void testNonEmptyResultSetWithMineRangeAdvancesCorrectly() throws Excepti
             Mockito.when(rs.getString(1)).thenReturn("101");
             Mockito.when(rs.getString(2)).thenReturn("insert into \"DEBEZIUM\".\"ABC\"(\"ID\",\"DATA\") values ('1','test');");
             Mockito.when(rs.getInt(3)).thenReturn(EventType.INSERT.getValue());
+            Mockito.when(rs.getTimestamp(Mockito.eq(4), any(Calendar.class))).thenReturn(Timestamp.from(Instant.now()));
             Mockito.when(rs.getString(7)).thenReturn("ABC");
             Mockito.when(rs.getString(8)).thenReturn("DEBEZIUM");
 
@@ -0,0 +1,139 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.buffered.mmap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.util.Testing;
+
+public class SegmentStoreTest {
+
+    private static final int SEGMENT_SIZE = 64;
+
+    private Path directory;
+    private SegmentStore store;
+
+    @Before
+    public void before() throws Exception {
+        directory = Testing.Files.createTestingPath("segment-store");
+        Testing.Files.delete(directory);
+        store = new SegmentStore(directory, SEGMENT_SIZE);
+    }
+
+    @After
+    public void after() {
+        store.close();
+        Testing.Files.delete(directory);
+    }
+
+    @Test
+    public void shouldReadAppendedRecords() {
+        final long first = store.append(record("first"));
+        final long second = store.append(record("second"));
+
+        assertThat(read(first)).isEqualTo("first");
+        assertThat(read(second)).isEqualTo("second");
+        assertThat(SegmentStore.segmentId(first)).isEqualTo(SegmentStore.segmentId(second));
+    }
+
+    @Test
+    public void shouldRollOverToNewSegmentWhenFull() {
+        final long first = store.append(record("a".repeat(40)));
+        final long second = store.append(record("b".repeat(40)));
+
+        assertThat(SegmentStore.segmentId(first)).isNotEqualTo(SegmentStore.segmentId(second));
+        assertThat(store.getSegmentCount()).isEqualTo(2);
+        assertThat(read(first)).isEqualTo("a".repeat(40));
+        assertThat(read(second)).isEqualTo("b".repeat(40));
+    }
+
+    @Test
+    public void shouldStoreRecordLargerThanSegmentSizeInDedicatedSegment() {
+        final String value = "x".repeat(SEGMENT_SIZE * 2);
+        final long address = store.append(record(value));
+        assertThat(read(address)).isEqualTo(value);
+
+        store.append(record("next"));
+        store.release(SegmentStore.segmentId(address), 1);
+
+        // Oversized segments are deleted rather than recycled
+        assertThat(store.getSegmentCount()).isEqualTo(1);
+        assertThat(store.getFreeSegmentCount()).isZero();
+    }
+
+    @Test
+    public void shouldRecycleSegmentOnceAllRecordsAreReleased() {
+        final long first = store.append(record("a".repeat(40)));
+        store.append(record("b".repeat(40)));
+
+        store.release(SegmentStore.segmentId(first), 1);
+        assertThat(store.getFreeSegmentCount()).isEqualTo(1);
+
+        // The next roll-over reuses the free segment
+        store.append(record("c".repeat(40)));
+        assertThat(store.getSegmentCount()).isEqualTo(2);
+        assertThat(store.getFreeSegmentCount()).isZero();
+    }
+
+    @Test
+    public void shouldReleaseChainPerSegment() {
+        final TransactionEventChain chain = new TransactionEventChain();
+        for (int i = 0; i < 10; i++) {
+            chain.add(i, store.append(record("event-" + i + "-" + "p".repeat(20))));
+        }
+        assertThat(chain.size()).isEqualTo(10);
+        assertThat(store.getSegmentCount()).isGreaterThan(1);
+
+        chain.release(store);
+
+        assertThat(chain.size()).isZero();
+        assertThat(store.getFreeSegmentCount()).isEqualTo(store.getSegmentCount() - 1);
+    }
+
+    @Test
+    public void shouldKeepChainOrderedByEventId() {
+        final TransactionEventChain chain = new TransactionEventChain();
+        chain.add(0, store.append(record("0")));
+        chain.add(2, store.append(record("2")));
+        chain.add(1, store.append(record("1")));
+
+        assertThat(chain.indexOf(1)).isEqualTo(1);
+        assertThat(read(chain.getAddress(2))).isEqualTo("2");
+
+        chain.remove(chain.indexOf(1), store);
+        assertThat(chain.indexOf(1)).isNegative();
+        assertThat(chain.size()).isEqualTo(2);
+        assertThat(read(chain.getAddress(1))).isEqualTo("2");
+    }
+
+    @Test
+    public void shouldDeleteStaleSegmentFilesOnStartup() throws Exception {
+        store.append(record("stale"));
+        store = new SegmentStore(directory, SEGMENT_SIZE);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.count()).isZero();
+        }
+    }
+
+    private static ByteBuffer record(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String read(long address) {
+        return StandardCharsets.UTF_8.decode(store.read(address)).toString();
+    }
+}
@@ -121,6 +121,7 @@ public StreamingChangeEventSource<PostgresPartition, PostgresOffsetContext> getS
                 clock,
                 snapshotProgressListener,
                 dataChangeEventListener,
-                notificationService));
+                notificationService,
+                connectionFactory));
     }
 }
@@ -6,6 +6,8 @@
 
 package io.debezium.connector.postgresql;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
@@ -1150,6 +1152,53 @@ public static LsnFlushTimeoutAction parse(String value, String defaultValue) {
             .withDefault(false)
             .withValidation(Field::isBoolean);
 
+    public static final Field PGOUTPUT_STREAMING = Field.create("pgoutput.streaming")
+            .withDisplayName("Stream in-progress transactions")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR, 27))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("A boolean that determines whether the pgoutput plug-in should stream the changes of large transactions while they are "
+                    + "still in progress, instead of decoding them on the server only once they have been committed. "
+                    + "The streamed changes are buffered by the connector and emitted once the transaction commits. "
+                    + "Requires PostgreSQL 14 or later.")
+            .withDefault(false)
+            .withValidation(Field::isBoolean);
+
+    public static final Field PGOUTPUT_STREAMING_BUFFER_MAX_BYTES = Field.create("pgoutput.streaming.buffer.max.bytes")
+            .withDisplayName("Maximum size of buffered in-progress transactions")
+            .withType(Type.LONG)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR, 28))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The maximum number of bytes of streamed in-progress transactions that are buffered in memory. "
+                    + "Once exceeded, the further changes of a transaction are written to the 'pgoutput.streaming.spill.directory', "
+                    + "or the connector fails if no spill directory is configured.")
+            .withDefault(64L * 1024 * 1024)
+            .withValidation(Field::isPositiveLong);
+
+    public static final Field PGOUTPUT_STREAMING_SPILL_DIRECTORY = Field.create("pgoutput.streaming.spill.directory")
+            .withDisplayName("Spill directory for in-progress transactions")
+            .withType(Type.STRING)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR, 29))
+            .withWidth(Width.MEDIUM)
+            .withImportance(Importance.LOW)
+            .withDescription("The directory to which the changes of streamed in-progress transactions are written once the in-memory buffer "
+                    + "is exhausted. The files are removed once the transaction is committed or aborted.");
+
+    public static final Field PGOUTPUT_BINARY = Field.create("pgoutput.binary")
+            .withDisplayName("Stream column values in binary format")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR, 26))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("A boolean that determines whether the pgoutput plug-in should send column values in the binary format of their types "
+                    + "instead of text, which avoids parsing the values. Requires PostgreSQL 14 or later. "
+                    + "When a captured column has a type whose binary format cannot be decoded, e.g. an array or a geometric type, "
+                    + "the values are streamed in text format.")
+            .withDefault(false)
+            .withValidation(Field::isBoolean);
+
     public static final Field SHOULD_FLUSH_LSN_IN_SOURCE_DB = Field.create("flush.lsn.source")
             .withDisplayName("Boolean to determine if Debezium should flush LSN in the source database")
             .withType(Type.BOOLEAN)
@@ -1187,6 +1236,8 @@ public static LsnFlushTimeoutAction parse(String value, String defaultValue) {
     private final SnapshotLockingMode snapshotLockingMode;
     private final boolean readOnlyConnection;
     private final boolean publishViaPartitionRoot;
+    private final boolean pgOutputBinary;
+    private final boolean pgOutputStreaming;
 
     public PostgresConnectorConfig(Configuration config) {
         super(
@@ -1211,6 +1262,8 @@ public PostgresConnectorConfig(Configuration config) {
         this.snapshotLockingMode = SnapshotLockingMode.parse(config.getString(SNAPSHOT_LOCKING_MODE), SNAPSHOT_LOCKING_MODE.defaultValueAsString());
         this.readOnlyConnection = config.getBoolean(READ_ONLY_CONNECTION);
         this.publishViaPartitionRoot = config.getBoolean(PUBLISH_VIA_PARTITION_ROOT);
+        this.pgOutputBinary = config.getBoolean(PGOUTPUT_BINARY);
+        this.pgOutputStreaming = config.getBoolean(PGOUTPUT_STREAMING);
         this.lsnFlushTimeoutAction = LsnFlushTimeoutAction.parse(config.getString(LSN_FLUSH_TIMEOUT_ACTION));
     }
 
@@ -1318,6 +1371,23 @@ public boolean isPublishViaPartitionRoot() {
         return publishViaPartitionRoot;
     }
 
+    public boolean isPgOutputBinaryEnabled() {
+        return pgOutputBinary;
+    }
+
+    public boolean isPgOutputStreamingEnabled() {
+        return pgOutputStreaming;
+    }
+
+    public long getPgOutputStreamingBufferMaxBytes() {
+        return getConfig().getLong(PGOUTPUT_STREAMING_BUFFER_MAX_BYTES);
+    }
+
+    public Path getPgOutputStreamingSpillDirectory() {
+        final String directory = getConfig().getString(PGOUTPUT_STREAMING_SPILL_DIRECTORY);
+        return Strings.isNullOrBlank(directory) ? null : Paths.get(directory);
+    }
+
     @Override
     public byte[] getUnavailableValuePlaceholder() {
         String placeholder = getConfig().getString(UNAVAILABLE_VALUE_PLACEHOLDER);
@@ -1415,7 +1485,11 @@ protected SourceInfoStructMaker<? extends AbstractSourceInfo> getSourceInfoStruc
                     UNAVAILABLE_VALUE_PLACEHOLDER,
                     LOGICAL_DECODING_MESSAGE_PREFIX_INCLUDE_LIST,
                     LOGICAL_DECODING_MESSAGE_PREFIX_EXCLUDE_LIST,
-                    PUBLISH_VIA_PARTITION_ROOT)
+                    PUBLISH_VIA_PARTITION_ROOT,
+                    PGOUTPUT_BINARY,
+                    PGOUTPUT_STREAMING,
+                    PGOUTPUT_STREAMING_BUFFER_MAX_BYTES,
+                    PGOUTPUT_STREAMING_SPILL_DIRECTORY)
             .excluding(INCLUDE_SCHEMA_CHANGES)
             .create();
 
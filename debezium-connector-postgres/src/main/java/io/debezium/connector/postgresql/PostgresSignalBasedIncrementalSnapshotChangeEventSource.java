@@ -11,6 +11,7 @@
 import org.slf4j.LoggerFactory;
 
 import io.debezium.connector.postgresql.connection.PostgresConnection;
+import io.debezium.jdbc.ConnectionFactory;
 import io.debezium.jdbc.JdbcConnection;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.notification.NotificationService;
@@ -46,7 +47,19 @@ public PostgresSignalBasedIncrementalSnapshotChangeEventSource(RelationalDatabas
                                                                    SnapshotProgressListener<PostgresPartition> progressListener,
                                                                    DataChangeEventListener<PostgresPartition> dataChangeEventListener,
                                                                    NotificationService<PostgresPartition, ? extends OffsetContext> notificationService) {
-        super(config, jdbcConnection, dispatcher, databaseSchema, clock, progressListener, dataChangeEventListener, notificationService);
+        this(config, jdbcConnection, dispatcher, databaseSchema, clock, progressListener, dataChangeEventListener, notificationService, null);
+    }
+
+    public PostgresSignalBasedIncrementalSnapshotChangeEventSource(RelationalDatabaseConnectorConfig config,
+                                                                   JdbcConnection jdbcConnection,
+                                                                   EventDispatcher<PostgresPartition, TableId> dispatcher,
+                                                                   DatabaseSchema<?> databaseSchema,
+                                                                   Clock clock,
+                                                                   SnapshotProgressListener<PostgresPartition> progressListener,
+                                                                   DataChangeEventListener<PostgresPartition> dataChangeEventListener,
+                                                                   NotificationService<PostgresPartition, ? extends OffsetContext> notificationService,
+                                                                   ConnectionFactory<? extends JdbcConnection> connectionFactory) {
+        super(config, jdbcConnection, dispatcher, databaseSchema, clock, progressListener, dataChangeEventListener, notificationService, connectionFactory);
         this.jdbcConnection = (PostgresConnection) jdbcConnection;
         this.schema = (PostgresSchema) databaseSchema;
     }
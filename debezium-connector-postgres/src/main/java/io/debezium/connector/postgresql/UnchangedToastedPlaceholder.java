@@ -31,7 +31,7 @@ public class UnchangedToastedPlaceholder {
     /**
      * Provides different representations of a placeholder value.<br>
      *
-     * <b>NOTE:</b> Adding new types might require an update in {@link io.debezium.processors.reselect.ReselectColumnsPostProcessor}.
+     * <b>NOTE:</b> Adding new types might require an update in {@link io.debezium.processors.UnavailableValuePlaceholderMatcher}.
      *
      * @param connectorConfig
      */
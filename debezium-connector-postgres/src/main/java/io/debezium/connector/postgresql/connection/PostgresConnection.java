@@ -820,15 +820,17 @@ public Map<String, Object> reselectColumns(Table table, List<String> columns, Li
                 columns.stream().map(this::quoteIdentifier).collect(Collectors.joining(",")),
                 quotedTableIdString(table.id()),
                 keyColumns.stream()
-                        .map(key -> {
-                            Column column = table.columnWithName(key);
-                            String castableType = typeRegistry.get(column.nativeType()).getName();
-                            return key + "=?::" + castableType;
-                        })
+                        .map(key -> key + "=" + reselectKeyParameter(table, key))
                         .collect(Collectors.joining(" AND ")));
         return reselectColumns(query, table.id(), columns, keyValues);
     }
 
+    @Override
+    protected String reselectKeyParameter(Table table, String keyColumn) {
+        final Column column = table.columnWithName(keyColumn);
+        return "?::" + getTypeRegistry().get(column.nativeType()).getName();
+    }
+
     @Override
     public void setQueryColumnValue(PreparedStatement statement, Column column, int pos, Object value)
             throws SQLException {
@@ -794,9 +794,24 @@ public boolean readPending(ReplicationMessageProcessor processor) throws SQLExce
             }
 
             private void deserializeMessages(ByteBuffer buffer, ReplicationMessageProcessor processor) throws SQLException, InterruptedException {
-                lastReceivedLsn = Lsn.valueOf(stream.getLastReceiveLSN());
+                final Lsn receivedLsn = Lsn.valueOf(stream.getLastReceiveLSN());
+                lastReceivedLsn = receivedLsn;
                 LOGGER.trace("Received message at LSN {}", lastReceivedLsn);
-                messageDecoder.processMessage(buffer, processor, typeRegistry);
+                messageDecoder.processMessage(buffer, new ReplicationMessageProcessor() {
+                    @Override
+                    public void process(ReplicationMessage message) throws SQLException, InterruptedException {
+                        lastReceivedLsn = receivedLsn;
+                        processor.process(message);
+                    }
+
+                    @Override
+                    public void process(ReplicationMessage message, Lsn lsn) throws SQLException, InterruptedException {
+                        // Buffered messages are reported with the LSN they were received at
+                        lastReceivedLsn = lsn;
+                        processor.process(message);
+                    }
+                }, typeRegistry);
+                lastReceivedLsn = receivedLsn;
             }
 
             @Override
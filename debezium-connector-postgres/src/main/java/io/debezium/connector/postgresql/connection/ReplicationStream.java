@@ -26,6 +26,16 @@ interface ReplicationMessageProcessor {
          * @param message The replication message, never {@code null}.
          */
         void process(ReplicationMessage message) throws SQLException, InterruptedException;
+
+        /**
+         * Processes a replication message that has been buffered by the decoder and is processed later than it was received,
+         * e.g. a change of a transaction streamed while still in progress.
+         * @param message The replication message, never {@code null}.
+         * @param lsn The LSN at which the message was received
+         */
+        default void process(ReplicationMessage message, Lsn lsn) throws SQLException, InterruptedException {
+            process(message);
+        }
     }
 
     /**
@@ -0,0 +1,275 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.postgresql.util.PGInterval;
+
+import io.debezium.connector.postgresql.PostgresStreamingChangeEventSource.PgConnectionSupplier;
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.PostgresValueConverter;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.connector.postgresql.connection.AbstractColumnValue;
+import io.debezium.data.SpecialValueDecimal;
+
+/**
+ * A column value sent by the pgoutput plug-in in the binary format of the column's type, i.e. the format
+ * produced by the type's {@code send} function. Only the types for which {@link #isSupported(PostgresType)}
+ * returns {@code true} can be decoded.
+ */
+class PgOutputBinaryColumnValue extends AbstractColumnValue<byte[]> {
+
+    private static final LocalDate PG_EPOCH_DATE = LocalDate.of(2000, 1, 1);
+    private static final Instant PG_EPOCH = PG_EPOCH_DATE.atStartOfDay().toInstant(ZoneOffset.UTC);
+
+    private static final int NUMERIC_POS = 0x0000;
+    private static final int NUMERIC_NEG = 0x4000;
+    private static final int NUMERIC_NAN = 0xC000;
+    private static final int NUMERIC_PINF = 0xD000;
+    private static final int NUMERIC_NINF = 0xF000;
+    private static final BigInteger NBASE = BigInteger.valueOf(10_000);
+
+    private static final long MICROS_PER_HOUR = 3_600_000_000L;
+    private static final long MICROS_PER_MINUTE = 60_000_000L;
+
+    /**
+     * Names of the root types whose binary format can be decoded; enum types are supported in addition.
+     */
+    private static final Set<String> SUPPORTED_TYPES = Set.of(
+            "bool", "int2", "int4", "int8", "oid", "float4", "float8", "numeric",
+            "bpchar", "char", "varchar", "text", "citext", "json", "jsonb", "uuid",
+            "date", "time", "timetz", "timestamp", "timestamptz", "interval", "bytea");
+
+    private final String typeName;
+    private final byte[] value;
+
+    PgOutputBinaryColumnValue(PostgresType type, byte[] value) {
+        this.typeName = type.getRootType().getName();
+        this.value = value;
+    }
+
+    /**
+     * Returns whether values of the given type can be decoded from their binary representation.
+     */
+    static boolean isSupported(PostgresType type) {
+        final PostgresType rootType = type.getRootType();
+        return !rootType.isArrayType() && (rootType.isEnumType() || SUPPORTED_TYPES.contains(rootType.getName()));
+    }
+
+    @Override
+    public byte[] getRawValue() {
+        return value;
+    }
+
+    @Override
+    public boolean isNull() {
+        return value == null;
+    }
+
+    @Override
+    public String asString() {
+        switch (typeName) {
+            case "uuid":
+                final ByteBuffer buffer = ByteBuffer.wrap(value);
+                return new UUID(buffer.getLong(), buffer.getLong()).toString();
+            case "jsonb":
+                // The first byte is the version of the jsonb binary format, followed by the text representation
+                return new String(value, 1, value.length - 1, StandardCharsets.UTF_8);
+            default:
+                return new String(value, StandardCharsets.UTF_8);
+        }
+    }
+
+    @Override
+    public Boolean asBoolean() {
+        return value[0] != 0;
+    }
+
+    @Override
+    public Integer asInteger() {
+        if ("int2".equals(typeName)) {
+            return (int) ByteBuffer.wrap(value).getShort();
+        }
+        return ByteBuffer.wrap(value).getInt();
+    }
+
+    @Override
+    public Long asLong() {
+        switch (typeName) {
+            case "oid":
+                return Integer.toUnsignedLong(ByteBuffer.wrap(value).getInt());
+            case "int2":
+                return (long) ByteBuffer.wrap(value).getShort();
+            case "int4":
+                return (long) ByteBuffer.wrap(value).getInt();
+            default:
+                return ByteBuffer.wrap(value).getLong();
+        }
+    }
+
+    @Override
+    public Float asFloat() {
+        return ByteBuffer.wrap(value).getFloat();
+    }
+
+    @Override
+    public Double asDouble() {
+        return ByteBuffer.wrap(value).getDouble();
+    }
+
+    @Override
+    public SpecialValueDecimal asDecimal() {
+        final ByteBuffer buffer = ByteBuffer.wrap(value);
+        final int ndigits = buffer.getShort();
+        final int weight = buffer.getShort();
+        final int sign = Short.toUnsignedInt(buffer.getShort());
+        final int dscale = Short.toUnsignedInt(buffer.getShort());
+
+        switch (sign) {
+            case NUMERIC_NAN:
+                return SpecialValueDecimal.NOT_A_NUMBER;
+            case NUMERIC_PINF:
+                return SpecialValueDecimal.POSITIVE_INF;
+            case NUMERIC_NINF:
+                return SpecialValueDecimal.NEGATIVE_INF;
+            case NUMERIC_POS:
+            case NUMERIC_NEG:
+                break;
+            default:
+                throw new ConnectException("Invalid sign " + sign + " of a binary numeric value");
+        }
+
+        // Each digit is a base 10000 digit, the first one having the given weight
+        BigInteger unscaled = BigInteger.ZERO;
+        long accumulated = 0;
+        int accumulatedDigits = 0;
+        for (int i = 0; i < ndigits; i++) {
+            accumulated = accumulated * 10_000 + buffer.getShort();
+            // Up to four base 10000 digits fit into a long
+            if (++accumulatedDigits == 4) {
+                unscaled = unscaled.multiply(NBASE.pow(4)).add(BigInteger.valueOf(accumulated));
+                accumulated = 0;
+                accumulatedDigits = 0;
+            }
+        }
+        if (accumulatedDigits > 0) {
+            unscaled = unscaled.multiply(NBASE.pow(accumulatedDigits)).add(BigInteger.valueOf(accumulated));
+        }
+        if (sign == NUMERIC_NEG) {
+            unscaled = unscaled.negate();
+        }
+
+        final BigDecimal decimal = new BigDecimal(unscaled, -4 * (weight - ndigits + 1));
+        // The display scale is never smaller than the scale of the significant digits
+        return new SpecialValueDecimal(decimal.setScale(dscale, RoundingMode.UNNECESSARY));
+    }
+
+    @Override
+    public byte[] asByteArray() {
+        return value;
+    }
+
+    @Override
+    public LocalDate asLocalDate() {
+        final int days = ByteBuffer.wrap(value).getInt();
+        if (days == Integer.MAX_VALUE) {
+            return PostgresValueConverter.POSITIVE_INFINITY_LOCAL_DATE;
+        }
+        else if (days == Integer.MIN_VALUE) {
+            return PostgresValueConverter.NEGATIVE_INFINITY_LOCAL_DATE;
+        }
+        return PG_EPOCH_DATE.plusDays(days);
+    }
+
+    @Override
+    public Object asTime() {
+        return Duration.of(ByteBuffer.wrap(value).getLong(), ChronoUnit.MICROS);
+    }
+
+    @Override
+    public Object asLocalTime() {
+        return LocalTime.ofNanoOfDay(ByteBuffer.wrap(value).getLong() * 1_000);
+    }
+
+    @Override
+    public OffsetTime asOffsetTimeUtc() {
+        final ByteBuffer buffer = ByteBuffer.wrap(value);
+        final LocalTime time = LocalTime.ofNanoOfDay(buffer.getLong() * 1_000);
+        // The zone is sent as seconds west of UTC
+        final ZoneOffset offset = ZoneOffset.ofTotalSeconds(-buffer.getInt());
+        return OffsetTime.of(time, offset).withOffsetSameInstant(ZoneOffset.UTC);
+    }
+
+    @Override
+    public OffsetDateTime asOffsetDateTimeAtUtc() {
+        final long micros = ByteBuffer.wrap(value).getLong();
+        if (micros == Long.MAX_VALUE) {
+            return PostgresValueConverter.POSITIVE_INFINITY_OFFSET_DATE_TIME;
+        }
+        else if (micros == Long.MIN_VALUE) {
+            return PostgresValueConverter.NEGATIVE_INFINITY_OFFSET_DATE_TIME;
+        }
+        return OffsetDateTime.ofInstant(PG_EPOCH.plus(micros, ChronoUnit.MICROS), ZoneOffset.UTC);
+    }
+
+    @Override
+    public Instant asInstant() {
+        final long micros = ByteBuffer.wrap(value).getLong();
+        if (micros == Long.MAX_VALUE) {
+            return PostgresValueConverter.POSITIVE_INFINITY_INSTANT;
+        }
+        else if (micros == Long.MIN_VALUE) {
+            return PostgresValueConverter.NEGATIVE_INFINITY_INSTANT;
+        }
+        return PG_EPOCH.plus(micros, ChronoUnit.MICROS);
+    }
+
+    @Override
+    public Object asInterval() {
+        final ByteBuffer buffer = ByteBuffer.wrap(value);
+        long micros = buffer.getLong();
+        final int days = buffer.getInt();
+        final int months = buffer.getInt();
+
+        final int hours = (int) (micros / MICROS_PER_HOUR);
+        micros -= hours * MICROS_PER_HOUR;
+        final int minutes = (int) (micros / MICROS_PER_MINUTE);
+        micros -= minutes * MICROS_PER_MINUTE;
+        return new PGInterval(months / 12, months % 12, days, hours, minutes, micros / 1_000_000.0);
+    }
+
+    @Override
+    public Object asArray(String columnName, PostgresType type, String fullType, PgConnectionSupplier connection) {
+        throw unsupportedType(fullType, columnName);
+    }
+
+    @Override
+    public Object asDefault(TypeRegistry typeRegistry, int columnType, String columnName, String fullType, boolean includeUnknownDatatypes,
+                            PgConnectionSupplier connection) {
+        throw unsupportedType(fullType, columnName);
+    }
+
+    private ConnectException unsupportedType(String fullType, String columnName) {
+        return new ConnectException("Column '" + columnName + "' of type '" + fullType + "' was received in binary format which cannot be decoded; "
+                + "tables with columns of this type are expected to be streamed in text format");
+    }
+}
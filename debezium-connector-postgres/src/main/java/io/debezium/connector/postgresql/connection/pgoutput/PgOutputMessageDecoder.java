@@ -25,10 +25,12 @@
 import java.util.Set;
 import java.util.function.Function;
 
+import org.apache.kafka.connect.errors.RetriableException;
 import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.connector.postgresql.PostgresSchema;
 import io.debezium.connector.postgresql.PostgresStreamingChangeEventSource.PgConnectionSupplier;
 import io.debezium.connector.postgresql.PostgresType;
 import io.debezium.connector.postgresql.TypeRegistry;
@@ -68,14 +70,31 @@ public class PgOutputMessageDecoder extends AbstractMessageDecoder {
 
     private final MessageDecoderContext decoderContext;
     private final PostgresConnection connection;
+    private final PgOutputStreamedTransactions streamedTransactions;
 
     private Instant commitTimestamp;
+    private Lsn lastReceivedLsn;
+
+    /**
+     * The locator of the position the stream is resumed from, used to filter the replayed changes of streamed transactions
+     */
+    private WalPositionLocator walPosition;
+
+    /**
+     * The id of the in-progress transaction whose changes are being streamed, null outside of a stream block
+     */
+    private Long streamedTransactionId;
 
     /**
      * Will be null for a non-transactional decoding message
      */
     private Long transactionId;
 
+    /**
+     * Whether the current replication stream transfers the column values in binary format
+     */
+    private boolean binaryTransfer;
+
     public enum MessageType {
         RELATION,
         BEGIN,
@@ -86,7 +105,11 @@ public enum MessageType {
         TYPE,
         ORIGIN,
         TRUNCATE,
-        LOGICAL_DECODING_MESSAGE;
+        LOGICAL_DECODING_MESSAGE,
+        STREAM_START,
+        STREAM_STOP,
+        STREAM_COMMIT,
+        STREAM_ABORT;
 
         public static MessageType forType(char type) {
             switch (type) {
@@ -110,6 +133,14 @@ public static MessageType forType(char type) {
                     return TRUNCATE;
                 case 'M':
                     return LOGICAL_DECODING_MESSAGE;
+                case 'S':
+                    return STREAM_START;
+                case 'E':
+                    return STREAM_STOP;
+                case 'c':
+                    return STREAM_COMMIT;
+                case 'A':
+                    return STREAM_ABORT;
                 default:
                     throw new IllegalArgumentException("Unsupported message type: " + type);
             }
@@ -119,6 +150,8 @@ public static MessageType forType(char type) {
     public PgOutputMessageDecoder(MessageDecoderContext decoderContext, PostgresConnection connection) {
         this.decoderContext = decoderContext;
         this.connection = connection;
+        this.streamedTransactions = new PgOutputStreamedTransactions(decoderContext.getConfig().getPgOutputStreamingBufferMaxBytes(),
+                decoderContext.getConfig().getPgOutputStreamingSpillDirectory());
     }
 
     @Override
@@ -126,10 +159,21 @@ public boolean shouldMessageBeSkipped(ByteBuffer buffer, Lsn lastReceivedLsn, Ls
         // Cache position as we're going to peak at the first byte to determine message type
         // We need to reprocess all BEGIN/COMMIT messages regardless.
         int position = buffer.position();
+        // Streamed changes are buffered until their transaction commits, so the LSN must be retained with them
+        this.lastReceivedLsn = lastReceivedLsn;
+        this.walPosition = walPosition;
         try {
             MessageType type = MessageType.forType((char) buffer.get());
             LOGGER.trace("Message Type: {}", type);
             switch (type) {
+                case STREAM_START:
+                case STREAM_STOP:
+                case STREAM_ABORT:
+                case STREAM_COMMIT:
+                    // These delimit the changes of in-progress transactions, which are filtered when they are
+                    // replayed on commit, so they must not be subject to the WAL position filtering either.
+                    LOGGER.trace("{} messages are always processed", type);
+                    return false;
                 case TYPE:
                 case ORIGIN:
                     // TYPE/ORIGIN
@@ -146,6 +190,12 @@ public boolean shouldMessageBeSkipped(ByteBuffer buffer, Lsn lastReceivedLsn, Ls
                 default:
                     // call super.shouldMessageBeSkipped for rest of the types
             }
+            if (streamedTransactionId != null && isStreamedMessage(type)) {
+                // The changes of an in-progress transaction are received before the changes of transactions committed
+                // earlier, so they are buffered as a whole and filtered in commit order when they are replayed
+                LOGGER.trace("{} messages of streamed transactions are filtered on commit", type);
+                return false;
+            }
             final boolean candidateForSkipping = super.shouldMessageBeSkipped(buffer, lastReceivedLsn, startLsn, walPosition);
             switch (type) {
                 case COMMIT:
@@ -190,7 +240,28 @@ public void processNotEmptyMessage(ByteBuffer buffer, ReplicationMessageProcesso
         }
 
         final MessageType messageType = MessageType.forType((char) buffer.get());
+        if (streamedTransactionId != null && isStreamedMessage(messageType)) {
+            bufferStreamedMessage(messageType, buffer);
+            return;
+        }
+        handleMessage(messageType, buffer, processor, typeRegistry);
+    }
+
+    private void handleMessage(MessageType messageType, ByteBuffer buffer, ReplicationMessageProcessor processor, TypeRegistry typeRegistry)
+            throws SQLException, InterruptedException {
         switch (messageType) {
+            case STREAM_START:
+                handleStreamStartMessage(buffer);
+                break;
+            case STREAM_STOP:
+                handleStreamStopMessage();
+                break;
+            case STREAM_COMMIT:
+                handleStreamCommitMessage(buffer, processor, typeRegistry);
+                break;
+            case STREAM_ABORT:
+                handleStreamAbortMessage(buffer);
+                break;
             case BEGIN:
                 handleBeginMessage(buffer, processor);
                 break;
@@ -228,17 +299,93 @@ public void processNotEmptyMessage(ByteBuffer buffer, ReplicationMessageProcesso
 
     @Override
     public ChainedLogicalStreamBuilder defaultOptions(ChainedLogicalStreamBuilder builder, Function<Integer, Boolean> hasMinimumServerVersion) {
-        builder = builder.withSlotOption("proto_version", 1)
+        // A new replication stream re-sends in-progress transactions from their start
+        streamedTransactions.close();
+        streamedTransactionId = null;
+        binaryTransfer = false;
+
+        boolean streaming = decoderContext.getConfig().isPgOutputStreamingEnabled();
+        if (streaming && !hasMinimumServerVersion.apply(140000)) {
+            LOGGER.warn("Streaming of in-progress transactions requires PostgreSQL 14 or later, transactions will be received upon commit");
+            streaming = false;
+        }
+
+        builder = builder.withSlotOption("proto_version", streaming ? 2 : 1)
                 .withSlotOption("publication_names", decoderContext.getConfig().publicationName());
 
+        if (streaming) {
+            builder = builder.withSlotOption("streaming", true);
+        }
+
         // DBZ-4374 Use enum once the driver got updated
         if (hasMinimumServerVersion.apply(140000)) {
             builder = builder.withSlotOption("messages", true);
         }
 
+        if (decoderContext.getConfig().isPgOutputBinaryEnabled()) {
+            if (!hasMinimumServerVersion.apply(140000)) {
+                LOGGER.warn("Binary transfer mode requires PostgreSQL 14 or later, columns will be streamed in text format");
+            }
+            else if (isBinaryTransferSupported()) {
+                LOGGER.info("Columns will be streamed in binary format");
+                builder = builder.withSlotOption("binary", true);
+                binaryTransfer = true;
+            }
+        }
+
         return builder;
     }
 
+    /**
+     * The binary option applies to all columns of the replication stream, so it can only be used when the
+     * binary format of the types of all captured columns can be decoded. Tables and columns that are captured
+     * later are checked when their relation message is received, see {@link #checkBinaryTransferSupported(Table)}.
+     */
+    private boolean isBinaryTransferSupported() {
+        if (connection == null) {
+            return false;
+        }
+        final PostgresSchema schema = decoderContext.getSchema();
+        for (TableId tableId : schema.tableIds()) {
+            final io.debezium.relational.Column column = findBinaryUnsupportedColumn(schema.tableFor(tableId));
+            if (column != null) {
+                LOGGER.warn("Binary format of column '{}' of type '{}' in table '{}' cannot be decoded, columns will be streamed in text format",
+                        column.name(), column.typeName(), tableId);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The relation message of a table precedes its first change in a replication stream, so a table whose columns
+     * cannot be decoded from the binary format is detected before any of its values is received. The replication
+     * stream is then restarted from the last committed position, which re-checks the now known table and falls back
+     * to the text format.
+     */
+    private void checkBinaryTransferSupported(Table table) {
+        if (!binaryTransfer || table == null) {
+            return;
+        }
+        final io.debezium.relational.Column column = findBinaryUnsupportedColumn(table);
+        if (column != null) {
+            binaryTransfer = false;
+            throw new RetriableException("Binary format of column '" + column.name() + "' of type '" + column.typeName() + "' in table '"
+                    + table.id() + "' cannot be decoded, the replication stream will be restarted in text format");
+        }
+    }
+
+    private io.debezium.relational.Column findBinaryUnsupportedColumn(Table table) {
+        final TypeRegistry typeRegistry = connection.getTypeRegistry();
+        for (io.debezium.relational.Column column : table.columns()) {
+            final PostgresType type = typeRegistry.get(column.typeName());
+            if (type == null || !PgOutputBinaryColumnValue.isSupported(type)) {
+                return column;
+            }
+        }
+        return null;
+    }
+
     private boolean isTruncateEventsIncluded() {
         return !decoderContext.getConfig().getSkippedOperations().contains(Envelope.Operation.TRUNCATE);
     }
@@ -279,6 +426,129 @@ private void handleCommitMessage(ByteBuffer buffer, ReplicationMessageProcessor
         processor.process(new TransactionMessage(Operation.COMMIT, transactionId, commitTimestamp));
     }
 
+    /**
+     * Callback handler for the 'S' stream start replication message (protocol version 2+).
+     *
+     * @param buffer The replication stream buffer
+     */
+    private void handleStreamStartMessage(ByteBuffer buffer) {
+        this.streamedTransactionId = Integer.toUnsignedLong(buffer.getInt());
+        final boolean firstSegment = buffer.get() == 1;
+        LOGGER.trace("Event: {}", MessageType.STREAM_START);
+        LOGGER.trace("XID of transaction: {}", streamedTransactionId);
+        LOGGER.trace("First segment: {}", firstSegment);
+    }
+
+    /**
+     * Callback handler for the 'E' stream stop replication message (protocol version 2+).
+     */
+    private void handleStreamStopMessage() {
+        LOGGER.trace("Event: {}", MessageType.STREAM_STOP);
+        this.streamedTransactionId = null;
+    }
+
+    /**
+     * Callback handler for the 'c' stream commit replication message (protocol version 2+).
+     * The buffered changes of the transaction are processed as if the whole transaction was received at once.
+     *
+     * @param buffer The replication stream buffer
+     * @param processor The replication message processor
+     * @param typeRegistry The postgres type registry
+     */
+    private void handleStreamCommitMessage(ByteBuffer buffer, ReplicationMessageProcessor processor, TypeRegistry typeRegistry)
+            throws SQLException, InterruptedException {
+        final long xid = Integer.toUnsignedLong(buffer.getInt());
+        int flags = buffer.get(); // flags, currently unused
+        final Lsn lsn = Lsn.valueOf(buffer.getLong()); // LSN of the commit
+        final Lsn endLsn = Lsn.valueOf(buffer.getLong()); // End LSN of the transaction
+        this.commitTimestamp = PG_EPOCH.plus(buffer.getLong(), ChronoUnit.MICROS);
+        this.transactionId = xid;
+        LOGGER.trace("Event: {}", MessageType.STREAM_COMMIT);
+        LOGGER.trace("XID of transaction: {}", xid);
+        LOGGER.trace("Flags: {} (currently unused and most likely 0)", flags);
+        LOGGER.trace("Commit LSN: {}", lsn);
+        LOGGER.trace("End LSN of transaction: {}", endLsn);
+        LOGGER.trace("Commit timestamp of transaction: {}", commitTimestamp);
+
+        final Lsn firstLsn = streamedTransactions.firstLsn(xid);
+        final TransactionMessage begin = new TransactionMessage(Operation.BEGIN, transactionId, commitTimestamp);
+        if (firstLsn != null) {
+            processor.process(begin, firstLsn);
+        }
+        else {
+            processor.process(begin);
+        }
+        streamedTransactions.commit(xid, (messageLsn, message) -> {
+            final MessageType messageType = MessageType.forType((char) message.get());
+            if (isReplayedMessageSkipped(messageType, messageLsn)) {
+                return;
+            }
+            handleMessage(messageType, message, replayed -> processor.process(replayed, messageLsn), typeRegistry);
+        });
+        processor.process(new TransactionMessage(Operation.COMMIT, transactionId, commitTimestamp));
+    }
+
+    /**
+     * Callback handler for the 'A' stream abort replication message (protocol version 2+).
+     *
+     * @param buffer The replication stream buffer
+     */
+    private void handleStreamAbortMessage(ByteBuffer buffer) {
+        final long xid = Integer.toUnsignedLong(buffer.getInt());
+        final long subXid = Integer.toUnsignedLong(buffer.getInt());
+        LOGGER.trace("Event: {}", MessageType.STREAM_ABORT);
+        LOGGER.trace("XID of transaction: {}", xid);
+        LOGGER.trace("XID of aborted sub-transaction: {}", subXid);
+        streamedTransactions.abort(xid, subXid);
+    }
+
+    /**
+     * Applies the WAL position filtering to a change of a streamed transaction when it is replayed, so the changes
+     * are filtered in the same commit order in which the position to resume from was located.
+     *
+     * @param messageType The type of the replayed message
+     * @param messageLsn The LSN at which the message was received
+     * @return true if the change has already been processed before the stream was restarted
+     */
+    private boolean isReplayedMessageSkipped(MessageType messageType, Lsn messageLsn) {
+        // relations are always processed to keep the table state cached
+        if (messageType == MessageType.RELATION || walPosition == null || !walPosition.skipMessage(messageLsn)) {
+            return false;
+        }
+        LOGGER.debug("Replayed {} message with LSN '{}' of streamed transaction {} identified as already processed", messageType, messageLsn, transactionId);
+        return true;
+    }
+
+    private static boolean isStreamedMessage(MessageType messageType) {
+        switch (messageType) {
+            case RELATION:
+            case INSERT:
+            case UPDATE:
+            case DELETE:
+            case TRUNCATE:
+            case LOGICAL_DECODING_MESSAGE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Buffers a message received within a stream block until the transaction is committed or aborted.
+     * The message is stored without the transaction id, so it can be decoded like a message of a non-streamed transaction.
+     *
+     * @param messageType The type of the message
+     * @param buffer The replication stream buffer positioned after the message type
+     */
+    private void bufferStreamedMessage(MessageType messageType, ByteBuffer buffer) {
+        final byte type = buffer.get(buffer.position() - 1);
+        final long subXid = Integer.toUnsignedLong(buffer.getInt());
+        final ByteBuffer message = ByteBuffer.allocate(1 + buffer.remaining());
+        message.put(type).put(buffer).flip();
+        LOGGER.trace("Buffering {} of (sub-)transaction {} in streamed transaction {}", messageType, subXid, streamedTransactionId);
+        streamedTransactions.append(streamedTransactionId, subXid, lastReceivedLsn, message);
+    }
+
     /**
      * Callback handler for the 'R' relation replication message.
      *
@@ -361,6 +631,7 @@ private void handleRelationMessage(ByteBuffer buffer, TypeRegistry typeRegistry)
 
         Table table = resolveRelationFromMetadata(new PgOutputRelationMetaData(relationId, schemaName, tableName, columns, primaryKeyColumns));
         decoderContext.getSchema().applySchemaChangesForTable(relationId, table);
+        checkBinaryTransferSupported(decoderContext.getSchema().tableFor(relationId));
     }
 
     private boolean isColumnInPrimaryKey(String schemaName, String tableName, String columnName, List<String> primaryKeyColumns) {
@@ -692,6 +963,19 @@ private static String readColumnValueAsString(ByteBuffer buffer) {
         return new String(value, Charset.forName("UTF-8"));
     }
 
+    /**
+     * Reads the replication stream where the column stream specifies a length followed by the value.
+     *
+     * @param buffer The replication stream buffer
+     * @return the column value as raw bytes read from the replication stream
+     */
+    private static byte[] readColumnValueAsBytes(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        byte[] value = new byte[length];
+        buffer.get(value, 0, length);
+        return value;
+    }
+
     /**
      * Resolve the replication stream's tuple data to a list of replication message columns.
      *
@@ -718,6 +1002,7 @@ private static List<Column> resolveColumnsFromStreamTupleData(ByteBuffer buffer,
 
             // Read the sub-message type
             // 't' : Value is represented as text
+            // 'b' : Value is represented in the binary format of its type
             // 'u' : An unchanged TOAST-ed value, actual value is not sent.
             // 'n' : Value is null.
             char type = (char) buffer.get();
@@ -736,6 +1021,21 @@ public String toString() {
                     }
                 };
             }
+            else if (type == 'b') {
+                final byte[] value = readColumnValueAsBytes(buffer);
+                replicationMessageColumn = new AbstractReplicationMessageColumn(columnName, columnType, typeExpression, optional) {
+                    @Override
+                    public Object getValue(PgConnectionSupplier connection, boolean includeUnknownDatatypes) {
+                        return PgOutputReplicationMessage.getValue(columnName, columnType, typeExpression, value, connection, includeUnknownDatatypes,
+                                typeRegistry);
+                    }
+
+                    @Override
+                    public String toString() {
+                        return columnName + "(" + typeExpression + ")=" + HexConverter.convertToHexString(value);
+                    }
+                };
+            }
             else if (type == 'u') {
                 replicationMessageColumn = new UnchangedToastedReplicationMessageColumn(columnName, columnType, typeExpression, optional) {
                     @Override
@@ -768,6 +1068,7 @@ public Object getValue(PgConnectionSupplier connection, boolean includeUnknownDa
 
     @Override
     public void close() {
+        streamedTransactions.close();
         if (connection != null) {
             connection.close();
         }
@@ -91,4 +91,16 @@ public static Object getValue(String columnName, PostgresType type, String fullT
         final PgOutputColumnValue columnValue = new PgOutputColumnValue(rawValue);
         return ReplicationMessageColumnValueResolver.resolveValue(columnName, type, fullType, columnValue, connection, includeUnknownDataTypes, typeRegistry);
     }
+
+    /**
+     * Converts the value (binary representation) coming from PgOutput plugin to a Java value based on the type of the column
+     * from the message, see {@link #getValue(String, PostgresType, String, String, PgConnectionSupplier, boolean, TypeRegistry)}.
+     *
+     * @return the value; may be null
+     */
+    public static Object getValue(String columnName, PostgresType type, String fullType, byte[] rawValue, final PgConnectionSupplier connection,
+                                  boolean includeUnknownDataTypes, TypeRegistry typeRegistry) {
+        final PgOutputBinaryColumnValue columnValue = new PgOutputBinaryColumnValue(type, rawValue);
+        return ReplicationMessageColumnValueResolver.resolveValue(columnName, type, fullType, columnValue, connection, includeUnknownDataTypes, typeRegistry);
+    }
 }
@@ -0,0 +1,258 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.postgresql.connection.Lsn;
+
+/**
+ * Buffers the changes of in-progress transactions that are streamed by the pgoutput plug-in (protocol version 2+)
+ * until the transaction is either committed or aborted.
+ * <p>
+ * The messages of all in-progress transactions are kept in memory up to the configured limit. Once the limit is
+ * exceeded, the further messages of the transaction being streamed are appended to a file in the spill directory,
+ * or the connector fails if no spill directory is configured.
+ */
+class PgOutputStreamedTransactions implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PgOutputStreamedTransactions.class);
+
+    private final long maxBufferedBytes;
+    private final Path spillDirectory;
+    private final Map<Long, StreamedTransaction> transactions = new HashMap<>();
+    private long bufferedBytes = 0;
+
+    /**
+     * Consumes a message of a committed transaction.
+     */
+    @FunctionalInterface
+    interface BufferedMessageConsumer {
+        void accept(Lsn lsn, ByteBuffer message) throws SQLException, InterruptedException;
+    }
+
+    PgOutputStreamedTransactions(long maxBufferedBytes, Path spillDirectory) {
+        this.maxBufferedBytes = maxBufferedBytes;
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * Buffers a message of an in-progress transaction.
+     *
+     * @param xid the id of the top-level transaction
+     * @param subXid the id of the (sub-)transaction that made the change
+     * @param lsn the LSN at which the message was received
+     * @param message the message without the transaction id
+     */
+    void append(long xid, long subXid, Lsn lsn, ByteBuffer message) {
+        final byte[] data = new byte[message.remaining()];
+        message.get(data);
+
+        final StreamedTransaction transaction = transactions.computeIfAbsent(xid, StreamedTransaction::new);
+        if (transaction.spillFile == null && bufferedBytes + data.length > maxBufferedBytes) {
+            if (spillDirectory == null) {
+                throw new DebeziumException("The changes of in-progress transactions exceed the in-memory buffer of " + maxBufferedBytes
+                        + " bytes while buffering transaction " + xid + "; increase the buffer size or configure a spill directory");
+            }
+            transaction.spill();
+        }
+        transaction.append(new BufferedMessage(subXid, lsn, data));
+    }
+
+    /**
+     * Discards the messages of an aborted transaction or sub-transaction.
+     */
+    void abort(long xid, long subXid) {
+        final StreamedTransaction transaction = transactions.get(xid);
+        if (transaction == null) {
+            return;
+        }
+        if (xid == subXid) {
+            LOGGER.trace("Discarding changes of aborted streamed transaction {}", xid);
+            transactions.remove(xid);
+            transaction.discard();
+        }
+        else {
+            LOGGER.trace("Discarding changes of aborted sub-transaction {} of streamed transaction {}", subXid, xid);
+            transaction.abortSubTransaction(subXid);
+        }
+    }
+
+    /**
+     * Passes all messages of a committed transaction to the consumer in the order they were received and
+     * releases them afterwards.
+     */
+    void commit(long xid, BufferedMessageConsumer consumer) throws SQLException, InterruptedException {
+        final StreamedTransaction transaction = transactions.remove(xid);
+        if (transaction == null) {
+            return;
+        }
+        try {
+            transaction.replay(consumer);
+        }
+        finally {
+            transaction.discard();
+        }
+    }
+
+    /**
+     * @return the LSN of the first buffered message of the transaction, or {@code null} if there is none
+     */
+    Lsn firstLsn(long xid) {
+        final StreamedTransaction transaction = transactions.get(xid);
+        return transaction == null ? null : transaction.firstLsn;
+    }
+
+    @Override
+    public void close() {
+        transactions.values().forEach(StreamedTransaction::discard);
+        transactions.clear();
+    }
+
+    private static class BufferedMessage {
+
+        private final long subXid;
+        private final Lsn lsn;
+        private final byte[] data;
+
+        BufferedMessage(long subXid, Lsn lsn, byte[] data) {
+            this.subXid = subXid;
+            this.lsn = lsn;
+            this.data = data;
+        }
+    }
+
+    private class StreamedTransaction {
+
+        private final long xid;
+        private final List<BufferedMessage> messages = new ArrayList<>();
+        private final Set<Long> abortedSubXids = new HashSet<>();
+        private long messagesSize = 0;
+        private Lsn firstLsn;
+        private Path spillFile;
+        private DataOutputStream spillOutput;
+
+        StreamedTransaction(long xid) {
+            this.xid = xid;
+        }
+
+        void append(BufferedMessage message) {
+            if (firstLsn == null) {
+                firstLsn = message.lsn;
+            }
+            if (spillOutput == null) {
+                messages.add(message);
+                messagesSize += message.data.length;
+                bufferedBytes += message.data.length;
+                return;
+            }
+            try {
+                spillOutput.writeLong(message.subXid);
+                spillOutput.writeLong(message.lsn.asLong());
+                spillOutput.writeInt(message.data.length);
+                spillOutput.write(message.data);
+            }
+            catch (IOException e) {
+                throw new DebeziumException("Failed to spill changes of streamed transaction " + xid + " to " + spillFile, e);
+            }
+        }
+
+        void spill() {
+            try {
+                spillFile = Files.createTempFile(spillDirectory, "dbz-pgoutput-" + xid + "-", ".spill");
+                spillOutput = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(spillFile)));
+                LOGGER.info("In-memory buffer for in-progress transactions is full, spilling the further changes of transaction {} to {}", xid, spillFile);
+            }
+            catch (IOException e) {
+                throw new DebeziumException("Failed to create spill file for streamed transaction " + xid + " in " + spillDirectory, e);
+            }
+        }
+
+        void abortSubTransaction(long subXid) {
+            abortedSubXids.add(subXid);
+            // Messages already spilled are filtered upon replay
+            messages.removeIf(message -> {
+                if (message.subXid == subXid) {
+                    messagesSize -= message.data.length;
+                    bufferedBytes -= message.data.length;
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        void replay(BufferedMessageConsumer consumer) throws SQLException, InterruptedException {
+            for (BufferedMessage message : messages) {
+                consumer.accept(message.lsn, ByteBuffer.wrap(message.data));
+            }
+            if (spillOutput == null) {
+                return;
+            }
+            try {
+                spillOutput.close();
+                spillOutput = null;
+                try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(spillFile)))) {
+                    while (true) {
+                        final long subXid;
+                        try {
+                            subXid = input.readLong();
+                        }
+                        catch (EOFException e) {
+                            break;
+                        }
+                        final Lsn lsn = Lsn.valueOf(input.readLong());
+                        final byte[] data = new byte[input.readInt()];
+                        input.readFully(data);
+                        if (!abortedSubXids.contains(subXid)) {
+                            consumer.accept(lsn, ByteBuffer.wrap(data));
+                        }
+                    }
+                }
+            }
+            catch (IOException e) {
+                throw new DebeziumException("Failed to read spilled changes of streamed transaction " + xid + " from " + spillFile, e);
+            }
+        }
+
+        void discard() {
+            bufferedBytes -= messagesSize;
+            messagesSize = 0;
+            messages.clear();
+            if (spillFile != null) {
+                try {
+                    if (spillOutput != null) {
+                        spillOutput.close();
+                        spillOutput = null;
+                    }
+                    Files.deleteIfExists(spillFile);
+                }
+                catch (IOException e) {
+                    LOGGER.warn("Failed to delete spill file {} of streamed transaction {}", spillFile, xid, e);
+                }
+                spillFile = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.processors;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.relational.TableId;
+
+/**
+ * A bounded cache of the last seen values of the columns of table rows, keyed by table, row key and column.
+ * <p>
+ * The rows are evicted in least recently used order as soon as either the number of cached rows or the
+ * estimated size of the cached values exceeds its limit.
+ */
+@ThreadSafe
+public class ToastValueCache {
+
+    private final int maxRows;
+    private final long maxSizeInBytes;
+    private final long minValueSize;
+
+    private final LinkedHashMap<RowKey, Row> rows = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeInBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param maxRows the maximum number of cached rows
+     * @param maxSizeInBytes the maximum estimated size of all cached values
+     * @param minValueSize the estimated size below which a value is not cached
+     */
+    public ToastValueCache(int maxRows, long maxSizeInBytes, long minValueSize) {
+        this.maxRows = maxRows;
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.minValueSize = minValueSize;
+    }
+
+    /**
+     * Returns the cached value of a column, counting the lookup as a hit or a miss.
+     *
+     * @param tableId the table of the row
+     * @param key the key of the row
+     * @param field the field of the column; the value is only returned if it was cached with the same schema
+     * @return the cached value or {@code null} if none is cached
+     */
+    public synchronized Object get(TableId tableId, Object key, Field field) {
+        final Row row = rows.get(new RowKey(tableId, key));
+        final CachedValue cached = row != null ? row.columns.get(field.name()) : null;
+        if (cached == null || !Objects.equals(cached.schema, field.schema())) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return cached.value instanceof ByteBuffer buffer ? buffer.duplicate() : cached.value;
+    }
+
+    /**
+     * Caches the value of a column, replacing the previous one. A {@code null} value or one smaller than
+     * the minimum size removes the column from the cache instead.
+     *
+     * @param tableId the table of the row
+     * @param key the key of the row
+     * @param field the field of the column
+     * @param value the value of the column
+     */
+    public synchronized void put(TableId tableId, Object key, Field field, Object value) {
+        final RowKey rowKey = new RowKey(tableId, key);
+        final long size = value != null ? sizeOf(value) : 0;
+        if (value == null || size < minValueSize) {
+            final Row row = rows.get(rowKey);
+            if (row != null) {
+                final CachedValue removed = row.columns.remove(field.name());
+                if (removed != null) {
+                    sizeInBytes -= removed.size;
+                }
+                if (row.columns.isEmpty()) {
+                    rows.remove(rowKey);
+                }
+            }
+            return;
+        }
+        final Row row = rows.computeIfAbsent(rowKey, k -> new Row());
+        final CachedValue replaced = row.columns.put(field.name(), new CachedValue(field.schema(), value, size));
+        if (replaced != null) {
+            sizeInBytes -= replaced.size;
+        }
+        sizeInBytes += size;
+        evict();
+    }
+
+    /**
+     * Removes the cached values of a row, e.g. after it was deleted.
+     */
+    public synchronized void remove(TableId tableId, Object key) {
+        final Row row = rows.remove(new RowKey(tableId, key));
+        if (row != null) {
+            sizeInBytes -= row.size();
+        }
+    }
+
+    /**
+     * Removes the cached values of all rows of a table, e.g. after it was truncated.
+     */
+    public synchronized void removeTable(TableId tableId) {
+        final Iterator<Map.Entry<RowKey, Row>> iterator = rows.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<RowKey, Row> entry = iterator.next();
+            if (entry.getKey().tableId.equals(tableId)) {
+                sizeInBytes -= entry.getValue().size();
+                iterator.remove();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        rows.clear();
+        sizeInBytes = 0;
+    }
+
+    public synchronized int getRowCount() {
+        return rows.size();
+    }
+
+    public synchronized long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public synchronized void resetStatistics() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    private void evict() {
+        final Iterator<Row> iterator = rows.values().iterator();
+        while ((rows.size() > maxRows || sizeInBytes > maxSizeInBytes) && iterator.hasNext()) {
+            sizeInBytes -= iterator.next().size();
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Estimates the size of a column value, counting one byte per character of strings.
+     */
+    static long sizeOf(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        else if (value instanceof String string) {
+            return string.length();
+        }
+        else if (value instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        else if (value instanceof ByteBuffer buffer) {
+            return buffer.remaining();
+        }
+        else if (value instanceof Collection<?> collection) {
+            long size = 0;
+            for (Object element : collection) {
+                size += sizeOf(element);
+            }
+            return size;
+        }
+        else if (value instanceof Map<?, ?> map) {
+            long size = 0;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += sizeOf(entry.getKey()) + sizeOf(entry.getValue());
+            }
+            return size;
+        }
+        else if (value instanceof Struct struct) {
+            long size = 0;
+            for (Field field : struct.schema().fields()) {
+                size += sizeOf(struct.get(field));
+            }
+            return size;
+        }
+        return Long.BYTES;
+    }
+
+    private record RowKey(TableId tableId, Object key) {
+    }
+
+    private record CachedValue(Schema schema, Object value, long size) {
+    }
+
+    private static class Row {
+        private final Map<String, CachedValue> columns = new HashMap<>();
+
+        private long size() {
+            long size = 0;
+            for (CachedValue value : columns.values()) {
+                size += value.size;
+            }
+            return size;
+        }
+    }
+}
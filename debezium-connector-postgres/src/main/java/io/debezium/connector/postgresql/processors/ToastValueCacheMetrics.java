@@ -0,0 +1,56 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.processors;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.connector.common.CdcSourceTaskContext;
+import io.debezium.metrics.Metrics;
+
+/**
+ * Metrics of the {@link ToastValueCache} of a {@link ToastValueCachePostProcessor}.
+ */
+@ThreadSafe
+public class ToastValueCacheMetrics extends Metrics implements ToastValueCacheMetricsMXBean {
+
+    private static final String CONTEXT_NAME = "toast-value-cache";
+
+    private final ToastValueCache cache;
+
+    public ToastValueCacheMetrics(CdcSourceTaskContext taskContext, ToastValueCache cache) {
+        super(taskContext, CONTEXT_NAME);
+        this.cache = cache;
+    }
+
+    @Override
+    public long getCacheHits() {
+        return cache.getHits();
+    }
+
+    @Override
+    public long getCacheMisses() {
+        return cache.getMisses();
+    }
+
+    @Override
+    public long getCacheEvictions() {
+        return cache.getEvictions();
+    }
+
+    @Override
+    public int getCachedRowCount() {
+        return cache.getRowCount();
+    }
+
+    @Override
+    public long getCachedSizeInBytes() {
+        return cache.getSizeInBytes();
+    }
+
+    @Override
+    public void reset() {
+        cache.resetStatistics();
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.processors;
+
+/**
+ * Exposes the metrics of the {@link ToastValueCache}.
+ */
+public interface ToastValueCacheMetricsMXBean {
+
+    /**
+     * @return number of unavailable values that were replaced by a cached value
+     */
+    long getCacheHits();
+
+    /**
+     * @return number of unavailable values for which no value was cached
+     */
+    long getCacheMisses();
+
+    /**
+     * @return number of rows that were evicted to keep the cache within its limits
+     */
+    long getCacheEvictions();
+
+    int getCachedRowCount();
+
+    long getCachedSizeInBytes();
+
+    void reset();
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.processors;
+
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Struct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.bean.StandardBeanNames;
+import io.debezium.bean.spi.BeanRegistry;
+import io.debezium.bean.spi.BeanRegistryAware;
+import io.debezium.common.annotation.Incubating;
+import io.debezium.config.Configuration;
+import io.debezium.connector.AbstractSourceInfo;
+import io.debezium.connector.common.CdcSourceTaskContext;
+import io.debezium.data.Envelope;
+import io.debezium.processors.UnavailableValuePlaceholderMatcher;
+import io.debezium.processors.spi.PostProcessor;
+import io.debezium.relational.RelationalDatabaseConnectorConfig;
+import io.debezium.relational.TableId;
+import io.debezium.util.Strings;
+
+/**
+ * An implementation of the Debezium {@link PostProcessor} contract that replaces the unavailable value placeholders
+ * of unchanged TOAST columns with the last value of the column seen in a snapshot or streamed event of the same row.
+ * <p>
+ * The values are kept in a bounded in-memory {@link ToastValueCache} keyed by table, event key and column. Placeholders
+ * without a cached value are left untouched, so that a subsequent {@code ReselectColumnsPostProcessor} can re-select them.
+ */
+@Incubating
+public class ToastValueCachePostProcessor implements PostProcessor, BeanRegistryAware {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ToastValueCachePostProcessor.class);
+
+    private static final String TOAST_CACHE_MAX_ROWS = "toast.cache.max.rows";
+    private static final String TOAST_CACHE_MAX_SIZE_BYTES = "toast.cache.max.size.bytes";
+    private static final String TOAST_CACHE_MIN_VALUE_SIZE = "toast.cache.min.value.size";
+
+    private static final int DEFAULT_MAX_ROWS = 10_000;
+    private static final long DEFAULT_MAX_SIZE_BYTES = 64L * 1024 * 1024;
+
+    private ToastValueCache cache;
+    private UnavailableValuePlaceholderMatcher unavailableValuePlaceholderMatcher;
+    private ToastValueCacheMetrics metrics;
+
+    @Override
+    public void configure(Map<String, ?> properties) {
+        final Configuration config = Configuration.from(properties);
+        this.cache = new ToastValueCache(
+                config.getInteger(TOAST_CACHE_MAX_ROWS, DEFAULT_MAX_ROWS),
+                config.getLong(TOAST_CACHE_MAX_SIZE_BYTES, DEFAULT_MAX_SIZE_BYTES),
+                config.getLong(TOAST_CACHE_MIN_VALUE_SIZE, 0L));
+    }
+
+    @Override
+    public void injectBeanRegistry(BeanRegistry beanRegistry) {
+        final RelationalDatabaseConnectorConfig connectorConfig = beanRegistry.lookupByName(StandardBeanNames.CONNECTOR_CONFIG,
+                RelationalDatabaseConnectorConfig.class);
+        this.unavailableValuePlaceholderMatcher = new UnavailableValuePlaceholderMatcher(connectorConfig.getUnavailableValuePlaceholder());
+
+        final CdcSourceTaskContext taskContext = beanRegistry.lookupByName(StandardBeanNames.CDC_SOURCE_TASK_CONTEXT, CdcSourceTaskContext.class);
+        if (taskContext != null) {
+            this.metrics = new ToastValueCacheMetrics(taskContext, cache);
+            this.metrics.register();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (metrics != null) {
+            metrics.unregister();
+        }
+        LOGGER.info("TOAST value cache statistics: {} hit(s), {} miss(es), {} eviction(s)", cache.getHits(), cache.getMisses(),
+                cache.getEvictions());
+        cache.clear();
+    }
+
+    @Override
+    public void apply(Object messageKey, Struct value) {
+        if (value == null || value.schema().field(Envelope.FieldName.OPERATION) == null) {
+            return;
+        }
+
+        final Envelope.Operation operation = Envelope.Operation.forCode(value.getString(Envelope.FieldName.OPERATION));
+        if (operation == null || operation == Envelope.Operation.MESSAGE) {
+            return;
+        }
+
+        final TableId tableId = getTableIdFromSource(value.getStruct(Envelope.FieldName.SOURCE));
+        if (tableId == null) {
+            return;
+        }
+
+        if (operation == Envelope.Operation.TRUNCATE) {
+            cache.removeTable(tableId);
+            return;
+        }
+
+        if (!(messageKey instanceof Struct)) {
+            LOGGER.debug("Key is not a Struct, no TOAST values are cached for table {}.", tableId);
+            return;
+        }
+
+        if (operation == Envelope.Operation.DELETE) {
+            cache.remove(tableId, messageKey);
+            return;
+        }
+
+        final Struct before = value.getStruct(Envelope.FieldName.BEFORE);
+        if (before != null) {
+            replaceUnavailableValues(tableId, messageKey, before);
+        }
+
+        final Struct after = value.getStruct(Envelope.FieldName.AFTER);
+        if (after != null) {
+            replaceUnavailableValues(tableId, messageKey, after);
+            for (Field field : after.schema().fields()) {
+                final Object fieldValue = after.get(field);
+                if (isToastable(field) && !unavailableValuePlaceholderMatcher.matches(field, fieldValue)) {
+                    cache.put(tableId, messageKey, field, fieldValue);
+                }
+            }
+        }
+    }
+
+    private void replaceUnavailableValues(TableId tableId, Object key, Struct row) {
+        for (Field field : row.schema().fields()) {
+            if (isToastable(field) && unavailableValuePlaceholderMatcher.matches(field, row.get(field))) {
+                final Object cachedValue = cache.get(tableId, key, field);
+                if (cachedValue != null) {
+                    LOGGER.trace("Replaced unavailable value of field {} of table {} with cached value.", field.name(), tableId);
+                    row.put(field, cachedValue);
+                }
+            }
+        }
+    }
+
+    private static boolean isToastable(Field field) {
+        switch (field.schema().type()) {
+            case STRING:
+            case BYTES:
+            case ARRAY:
+            case MAP:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static TableId getTableIdFromSource(Struct source) {
+        if (source == null) {
+            return null;
+        }
+        final String tableName = source.getString(AbstractSourceInfo.TABLE_NAME_KEY);
+        if (Strings.isNullOrEmpty(tableName)) {
+            return null;
+        }
+        return new TableId(source.getString(AbstractSourceInfo.DATABASE_NAME_KEY), source.getString(AbstractSourceInfo.SCHEMA_NAME_KEY), tableName);
+    }
+}
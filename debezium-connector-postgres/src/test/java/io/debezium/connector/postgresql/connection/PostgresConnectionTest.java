@@ -0,0 +1,104 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.jdbc.JdbcConfiguration;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+
+public class PostgresConnectionTest {
+
+    private static final PostgresType INT4 = type("int4", 23, Types.INTEGER);
+    private static final PostgresType UUID = type("uuid", 2950, Types.OTHER);
+
+    private final Connection connection = mock(Connection.class);
+    private final PreparedStatement statement = mock(PreparedStatement.class);
+    private PostgresConnection postgresConnection;
+
+    @Before
+    public void beforeEach() throws SQLException {
+        final TypeRegistry typeRegistry = mock(TypeRegistry.class);
+        when(typeRegistry.get(INT4.getOid())).thenReturn(INT4);
+        when(typeRegistry.get(UUID.getOid())).thenReturn(UUID);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(mock(ResultSet.class));
+
+        postgresConnection = spy(new PostgresConnection(JdbcConfiguration.empty(), "test"));
+        doReturn(typeRegistry).when(postgresConnection).getTypeRegistry();
+        doReturn(connection).when(postgresConnection).connection();
+    }
+
+    @Test
+    public void shouldCastKeyParametersOfReselectedRows() throws SQLException {
+        final Table table = table(INT4);
+        postgresConnection.reselectRows(table, List.of("text"), List.of("id"), List.of(List.of(1), List.of(2)), null);
+
+        verify(connection).prepareStatement("SELECT \"id\",\"text\" FROM \"s\".\"t\" WHERE id IN (?::int4,?::int4)");
+        verify(statement).setObject(1, 1);
+        verify(statement).setObject(2, 2);
+    }
+
+    @Test
+    public void shouldCastCompositeKeyParametersOfReselectedRows() throws SQLException {
+        final Table table = table(INT4, UUID);
+        postgresConnection.reselectRows(table, List.of("text"), List.of("id", "uid"),
+                List.of(List.of(1, "a"), List.of(2, "b")), null);
+
+        verify(connection).prepareStatement(
+                "SELECT \"id\",\"uid\",\"text\" FROM \"s\".\"t\" WHERE (id=?::int4 AND uid=?::uuid) OR (id=?::int4 AND uid=?::uuid)");
+        verify(statement).setObject(1, 1);
+        verify(statement).setObject(2, "a");
+        verify(statement).setObject(3, 2);
+        verify(statement).setObject(4, "b");
+    }
+
+    private static Table table(PostgresType idType) {
+        return Table.editor()
+                .tableId(new TableId(null, "s", "t"))
+                .addColumn(column("id", idType))
+                .addColumn(Column.editor().name("text").type("text").jdbcType(Types.VARCHAR).create())
+                .setPrimaryKeyNames("id")
+                .create();
+    }
+
+    private static Table table(PostgresType idType, PostgresType uidType) {
+        return Table.editor()
+                .tableId(new TableId(null, "s", "t"))
+                .addColumn(column("id", idType))
+                .addColumn(column("uid", uidType))
+                .addColumn(Column.editor().name("text").type("text").jdbcType(Types.VARCHAR).create())
+                .setPrimaryKeyNames("id", "uid")
+                .create();
+    }
+
+    private static Column column(String name, PostgresType type) {
+        return Column.editor().name(name).type(type.getName()).jdbcType(type.getJdbcId()).nativeType(type.getOid()).create();
+    }
+
+    private static PostgresType type(String name, int oid, int jdbcType) {
+        return new PostgresType.Builder(null, name, oid, jdbcType, TypeRegistry.NO_TYPE_MODIFIER, null).build();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Test;
+import org.postgresql.util.PGInterval;
+
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.PostgresValueConverter;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.data.SpecialValueDecimal;
+
+public class PgOutputBinaryColumnValueTest {
+
+    @Test
+    public void shouldDecodeNumbers() {
+        assertThat(value("bool", new byte[]{ 1 }).asBoolean()).isTrue();
+        assertThat(value("bool", new byte[]{ 0 }).asBoolean()).isFalse();
+        assertThat(value("int2", ByteBuffer.allocate(2).putShort((short) -12).array()).asInteger()).isEqualTo(-12);
+        assertThat(value("int4", ByteBuffer.allocate(4).putInt(123456).array()).asInteger()).isEqualTo(123456);
+        assertThat(value("int8", ByteBuffer.allocate(8).putLong(-9876543210L).array()).asLong()).isEqualTo(-9876543210L);
+        assertThat(value("oid", ByteBuffer.allocate(4).putInt(-1).array()).asLong()).isEqualTo(4294967295L);
+        assertThat(value("float4", ByteBuffer.allocate(4).putFloat(1.5f).array()).asFloat()).isEqualTo(1.5f);
+        assertThat(value("float8", ByteBuffer.allocate(8).putDouble(-2.25).array()).asDouble()).isEqualTo(-2.25);
+    }
+
+    @Test
+    public void shouldDecodeNumeric() {
+        // 12345678901234567890.0123
+        assertThat(numeric(0x0000, 4, 4, 1234, 5678, 9012, 3456, 7890, 123).asDecimal().getDecimalValue())
+                .contains(new BigDecimal("12345678901234567890.0123"));
+        // -0.00012 with display scale 6
+        assertThat(numeric(0x4000, 6, -1, 1, 2000).asDecimal().getDecimalValue()).contains(new BigDecimal("-0.000120"));
+        // 1000000 is sent as a single digit of weight 1
+        assertThat(numeric(0x0000, 0, 1, 100).asDecimal().getDecimalValue()).contains(new BigDecimal("1000000"));
+        // 1.5 with display scale 2
+        assertThat(numeric(0x0000, 2, 0, 1, 5000).asDecimal().getDecimalValue()).contains(new BigDecimal("1.50"));
+        assertThat(numeric(0x0000, 0, 0).asDecimal().getDecimalValue()).contains(BigDecimal.ZERO);
+        assertThat(numeric(0xC000, 0, 0).asDecimal()).isEqualTo(SpecialValueDecimal.NOT_A_NUMBER);
+        assertThat(numeric(0xD000, 0, 0).asDecimal()).isEqualTo(SpecialValueDecimal.POSITIVE_INF);
+        assertThat(numeric(0xF000, 0, 0).asDecimal()).isEqualTo(SpecialValueDecimal.NEGATIVE_INF);
+    }
+
+    @Test
+    public void shouldDecodeStrings() {
+        assertThat(value("text", "Grüße".getBytes(StandardCharsets.UTF_8)).asString()).isEqualTo("Grüße");
+        assertThat(value("jsonb", "\u0001{\"a\": 1}".getBytes(StandardCharsets.UTF_8)).asString()).isEqualTo("{\"a\": 1}");
+
+        final UUID uuid = UUID.randomUUID();
+        final byte[] bytes = ByteBuffer.allocate(16).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits()).array();
+        assertThat(value("uuid", bytes).asString()).isEqualTo(uuid.toString());
+    }
+
+    @Test
+    public void shouldDecodeTemporalValues() {
+        assertThat(value("date", ByteBuffer.allocate(4).putInt(-1).array()).asLocalDate()).isEqualTo(LocalDate.of(1999, 12, 31));
+        assertThat(value("date", ByteBuffer.allocate(4).putInt(Integer.MAX_VALUE).array()).asLocalDate())
+                .isEqualTo(PostgresValueConverter.POSITIVE_INFINITY_LOCAL_DATE);
+
+        final long micros = 86_399_999_999L;
+        assertThat(value("time", ByteBuffer.allocate(8).putLong(micros).array()).asTime()).isEqualTo(Duration.ofNanos(micros * 1_000));
+
+        // 10:00:00+02 is sent as seconds west of UTC
+        assertThat(value("timetz", ByteBuffer.allocate(12).putLong(36_000_000_000L).putInt(-7200).array()).asOffsetTimeUtc())
+                .isEqualTo(OffsetTime.of(8, 0, 0, 0, ZoneOffset.UTC));
+
+        final long timestamp = 1_000_000L * 60 * 60 * 24 + 123_456;
+        assertThat(value("timestamp", ByteBuffer.allocate(8).putLong(timestamp).array()).asInstant())
+                .isEqualTo(Instant.parse("2000-01-02T00:00:00.123456Z"));
+        assertThat(value("timestamp", ByteBuffer.allocate(8).putLong(Long.MIN_VALUE).array()).asInstant())
+                .isEqualTo(PostgresValueConverter.NEGATIVE_INFINITY_INSTANT);
+        assertThat(value("timestamptz", ByteBuffer.allocate(8).putLong(timestamp).array()).asOffsetDateTimeAtUtc())
+                .isEqualTo(OffsetDateTime.of(2000, 1, 2, 0, 0, 0, 123_456_000, ZoneOffset.UTC));
+
+        // 1 year 2 mons 3 days 04:05:06.5
+        final long intervalMicros = ((4 * 60 + 5) * 60 + 6) * 1_000_000L + 500_000;
+        assertThat(value("interval", ByteBuffer.allocate(16).putLong(intervalMicros).putInt(3).putInt(14).array()).asInterval())
+                .isEqualTo(new PGInterval(1, 2, 3, 4, 5, 6.5));
+    }
+
+    @Test
+    public void shouldDetermineSupportedTypes() {
+        assertThat(PgOutputBinaryColumnValue.isSupported(type("numeric"))).isTrue();
+        assertThat(PgOutputBinaryColumnValue.isSupported(type("timestamptz"))).isTrue();
+        assertThat(PgOutputBinaryColumnValue.isSupported(type("point"))).isFalse();
+        assertThat(PgOutputBinaryColumnValue.isSupported(type("hstore"))).isFalse();
+        assertThat(PgOutputBinaryColumnValue.isSupported(new PostgresType.Builder(null, "mood", 100_000, Types.VARCHAR, TypeRegistry.NO_TYPE_MODIFIER, null)
+                .enumValues(List.of("happy", "sad"))
+                .build())).isTrue();
+    }
+
+    private static PgOutputBinaryColumnValue numeric(int sign, int dscale, int weight, int... digits) {
+        final ByteBuffer buffer = ByteBuffer.allocate(8 + 2 * digits.length)
+                .putShort((short) digits.length)
+                .putShort((short) weight)
+                .putShort((short) sign)
+                .putShort((short) dscale);
+        for (int digit : digits) {
+            buffer.putShort((short) digit);
+        }
+        return value("numeric", buffer.array());
+    }
+
+    private static PgOutputBinaryColumnValue value(String typeName, byte[] value) {
+        return new PgOutputBinaryColumnValue(type(typeName), value);
+    }
+
+    private static PostgresType type(String name) {
+        return new PostgresType.Builder(null, name, 0, Types.OTHER, TypeRegistry.NO_TYPE_MODIFIER, null).build();
+    }
+}
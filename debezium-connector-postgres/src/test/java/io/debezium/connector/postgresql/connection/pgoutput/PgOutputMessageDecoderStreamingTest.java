@@ -0,0 +1,247 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.connector.postgresql.PostgresConnectorConfig;
+import io.debezium.connector.postgresql.PostgresSchema;
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.connector.postgresql.connection.Lsn;
+import io.debezium.connector.postgresql.connection.MessageDecoderContext;
+import io.debezium.connector.postgresql.connection.PostgresConnection;
+import io.debezium.connector.postgresql.connection.ReplicationMessage;
+import io.debezium.connector.postgresql.connection.ReplicationMessage.Operation;
+import io.debezium.connector.postgresql.connection.ReplicationStream.ReplicationMessageProcessor;
+import io.debezium.connector.postgresql.connection.WalPositionLocator;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+
+public class PgOutputMessageDecoderStreamingTest {
+
+    private static final int RELATION_ID = 16384;
+    private static final TableId TABLE_ID = new TableId(null, "s", "t");
+    private static final PostgresType INT4 = new PostgresType.Builder(null, "int4", 23, Types.INTEGER, TypeRegistry.NO_TYPE_MODIFIER, null).build();
+
+    private static final int STREAMED_XID = 100;
+    private static final int REGULAR_XID = 200;
+
+    private final TypeRegistry typeRegistry = mock(TypeRegistry.class);
+    private PgOutputMessageDecoder decoder;
+
+    @Before
+    public void beforeEach() {
+        final PostgresConnectorConfig config = new PostgresConnectorConfig(Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "server")
+                .with(PostgresConnectorConfig.DATABASE_NAME, "db")
+                .with(PostgresConnectorConfig.PGOUTPUT_STREAMING, true)
+                .build());
+
+        when(typeRegistry.get(INT4.getName())).thenReturn(INT4);
+        when(typeRegistry.get(INT4.getOid())).thenReturn(INT4);
+
+        final PostgresSchema schema = mock(PostgresSchema.class);
+        when(schema.tableFor(RELATION_ID)).thenReturn(Table.editor()
+                .tableId(TABLE_ID)
+                .addColumn(Column.editor().name("id").type(INT4.getName()).jdbcType(Types.INTEGER).create())
+                .setPrimaryKeyNames("id")
+                .create());
+        decoder = new PgOutputMessageDecoder(new MessageDecoderContext(config, schema), mock(PostgresConnection.class));
+    }
+
+    @Test
+    public void shouldRequestStreamingOfInProgressTransactions() {
+        final ChainedLogicalStreamBuilder builder = startStream();
+
+        verify(builder).withSlotOption("proto_version", 2);
+        verify(builder).withSlotOption("streaming", true);
+    }
+
+    @Test
+    public void shouldEmitStreamedTransactionOnCommitWithTheLsnsOfItsChanges() throws Exception {
+        startStream();
+        final Stream stream = new Stream(new WalPositionLocator());
+
+        stream.streamStart(STREAMED_XID).streamedInsert(10, STREAMED_XID).streamedInsert(11, STREAMED_XID).streamStop();
+        assertThat(stream.processed).isEmpty();
+
+        stream.regularTransaction(12, 13);
+        stream.streamStart(STREAMED_XID).streamedInsert(14, STREAMED_XID).streamStop().streamCommit(15, STREAMED_XID);
+
+        assertThat(stream.processed).containsExactly(
+                "BEGIN@12", "INSERT@12", "COMMIT@13",
+                "BEGIN@10", "INSERT@10", "INSERT@11", "INSERT@14", "COMMIT@15");
+    }
+
+    @Test
+    public void shouldDiscardAbortedTransactionsAndSubtransactions() throws Exception {
+        startStream();
+        final Stream stream = new Stream(new WalPositionLocator());
+
+        stream.streamStart(STREAMED_XID).streamedInsert(10, STREAMED_XID).streamedInsert(11, STREAMED_XID + 1).streamStop();
+        stream.streamAbort(STREAMED_XID, STREAMED_XID + 1);
+        stream.streamStart(STREAMED_XID).streamedInsert(12, STREAMED_XID).streamStop().streamCommit(13, STREAMED_XID);
+
+        stream.streamStart(STREAMED_XID + 2).streamedInsert(14, STREAMED_XID + 2).streamStop();
+        stream.streamAbort(STREAMED_XID + 2, STREAMED_XID + 2);
+
+        assertThat(stream.processed).containsExactly("BEGIN@10", "INSERT@10", "INSERT@12", "COMMIT@13");
+    }
+
+    @Test
+    public void shouldSkipAlreadyEmittedChangesWhenRestartingInTheMiddleOfStreamedTransaction() throws Exception {
+        // The connector stopped after emitting the change at LSN 11 of the streamed transaction
+        final WalPositionLocator walPosition = new WalPositionLocator(Lsn.valueOf(13L), Lsn.valueOf(11L), Operation.INSERT);
+
+        final List<String> emitted = restart(walPosition, stream -> {
+            stream.streamStart(STREAMED_XID).streamedInsert(10, STREAMED_XID).streamedInsert(11, STREAMED_XID).streamStop();
+            stream.regularTransaction(12, 13);
+            stream.streamStart(STREAMED_XID).streamedInsert(14, STREAMED_XID).streamStop().streamCommit(15, STREAMED_XID);
+        });
+
+        assertThat(emitted).containsExactly("BEGIN@12", "COMMIT@13", "BEGIN@10", "INSERT@14", "COMMIT@15");
+    }
+
+    @Test
+    public void shouldEmitWholeStreamedTransactionStartedBeforeTheResumePosition() throws Exception {
+        // The connector stopped after emitting the change at LSN 12 of a transaction committed before the streamed one,
+        // whose changes at LSN 10 and 11 were received before that transaction
+        final WalPositionLocator walPosition = new WalPositionLocator(Lsn.valueOf(5L), Lsn.valueOf(12L), Operation.INSERT);
+
+        final List<String> emitted = restart(walPosition, stream -> {
+            stream.streamStart(STREAMED_XID).streamedInsert(10, STREAMED_XID).streamedInsert(11, STREAMED_XID).streamStop();
+            stream.regularTransaction(12, 13);
+            stream.streamStart(STREAMED_XID).streamedInsert(14, STREAMED_XID).streamStop().streamCommit(15, STREAMED_XID);
+        });
+
+        assertThat(emitted).containsExactly("BEGIN@12", "COMMIT@13", "BEGIN@10", "INSERT@10", "INSERT@11", "INSERT@14", "COMMIT@15");
+    }
+
+    /**
+     * Searches the position to resume from in a first stream and returns the messages processed by a second stream,
+     * as the streaming change event source does on restart
+     */
+    private List<String> restart(WalPositionLocator walPosition, ThrowingConsumer<Stream> messages) throws Exception {
+        startStream();
+        final Stream search = new Stream(walPosition);
+        search.resumeLsn = Optional.empty();
+        messages.accept(search);
+        assertThat(search.resumeLsn).isPresent();
+
+        walPosition.enableFiltering();
+        startStream();
+        final Stream resumed = new Stream(walPosition);
+        messages.accept(resumed);
+        return resumed.processed;
+    }
+
+    private ChainedLogicalStreamBuilder startStream() {
+        final ChainedLogicalStreamBuilder builder = mock(ChainedLogicalStreamBuilder.class, RETURNS_SELF);
+        decoder.defaultOptions(builder, version -> true);
+        return builder;
+    }
+
+    @FunctionalInterface
+    private interface ThrowingConsumer<T> {
+        void accept(T value) throws Exception;
+    }
+
+    /**
+     * Passes messages received at the given LSNs through the decoder and records the processed messages
+     * with the LSN they are reported at
+     */
+    private class Stream {
+
+        private final WalPositionLocator walPosition;
+        private final List<String> processed = new ArrayList<>();
+        private Optional<Lsn> resumeLsn;
+        private Lsn receivedLsn;
+
+        Stream(WalPositionLocator walPosition) {
+            this.walPosition = walPosition;
+        }
+
+        Stream streamStart(int xid) throws Exception {
+            return receive(0, buffer -> buffer.put((byte) 'S').putInt(xid).put((byte) 0));
+        }
+
+        Stream streamStop() throws Exception {
+            return receive(0, buffer -> buffer.put((byte) 'E'));
+        }
+
+        Stream streamedInsert(long lsn, int subXid) throws Exception {
+            return receive(lsn, buffer -> putInsert(buffer.put((byte) 'I').putInt(subXid), lsn));
+        }
+
+        Stream streamCommit(long lsn, int xid) throws Exception {
+            return receive(lsn, buffer -> buffer.put((byte) 'c').putInt(xid).put((byte) 0).putLong(lsn).putLong(lsn + 1).putLong(0L));
+        }
+
+        Stream streamAbort(int xid, int subXid) throws Exception {
+            return receive(0, buffer -> buffer.put((byte) 'A').putInt(xid).putInt(subXid));
+        }
+
+        Stream regularTransaction(long lsn, long commitLsn) throws Exception {
+            receive(lsn, buffer -> buffer.put((byte) 'B').putLong(commitLsn).putLong(0L).putInt(REGULAR_XID));
+            receive(lsn, buffer -> putInsert(buffer.put((byte) 'I'), lsn));
+            return receive(commitLsn, buffer -> buffer.put((byte) 'C').put((byte) 0).putLong(commitLsn).putLong(commitLsn + 1).putLong(0L));
+        }
+
+        private Stream receive(long lsn, Consumer<ByteBuffer> message) throws Exception {
+            final ByteBuffer buffer = ByteBuffer.allocate(64);
+            message.accept(buffer);
+            buffer.flip();
+
+            receivedLsn = Lsn.valueOf(lsn);
+            if (decoder.shouldMessageBeSkipped(buffer, receivedLsn, Lsn.valueOf(0L), walPosition)) {
+                return this;
+            }
+            decoder.processNotEmptyMessage(buffer, new ReplicationMessageProcessor() {
+                @Override
+                public void process(ReplicationMessage message) {
+                    process(message, receivedLsn);
+                }
+
+                @Override
+                public void process(ReplicationMessage message, Lsn messageLsn) {
+                    if (resumeLsn != null) {
+                        if (resumeLsn.isEmpty()) {
+                            resumeLsn = walPosition.resumeFromLsn(messageLsn, message);
+                        }
+                        return;
+                    }
+                    processed.add(message.getOperation() + "@" + messageLsn.asLong());
+                }
+            }, typeRegistry);
+            return this;
+        }
+
+        private void putInsert(ByteBuffer buffer, long id) {
+            final byte[] value = Long.toString(id).getBytes(StandardCharsets.UTF_8);
+            buffer.putInt(RELATION_ID).put((byte) 'N').putShort((short) 1).put((byte) 't').putInt(value.length).put(value);
+        }
+    }
+}
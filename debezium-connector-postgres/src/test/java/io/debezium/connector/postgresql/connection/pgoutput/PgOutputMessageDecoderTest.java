@@ -0,0 +1,165 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.kafka.connect.errors.RetriableException;
+import org.junit.Before;
+import org.junit.Test;
+import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.connector.postgresql.PostgresConnectorConfig;
+import io.debezium.connector.postgresql.PostgresSchema;
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.connector.postgresql.connection.MessageDecoderContext;
+import io.debezium.connector.postgresql.connection.PostgresConnection;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+
+public class PgOutputMessageDecoderTest {
+
+    private static final int RELATION_ID = 16384;
+    private static final TableId TABLE_ID = new TableId(null, "s", "t");
+
+    private static final PostgresType INT4 = type("int4", 23);
+
+    private final PostgresSchema schema = mock(PostgresSchema.class);
+    private final TypeRegistry typeRegistry = mock(TypeRegistry.class);
+    private PostgresType int4Array;
+    private PgOutputMessageDecoder decoder;
+
+    @Before
+    public void beforeEach() throws Exception {
+        final PostgresConnectorConfig config = new PostgresConnectorConfig(Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "server")
+                .with(PostgresConnectorConfig.DATABASE_NAME, "db")
+                .with(PostgresConnectorConfig.PGOUTPUT_BINARY, true)
+                .build());
+
+        when(typeRegistry.get(INT4.getName())).thenReturn(INT4);
+        when(typeRegistry.get(INT4.getOid())).thenReturn(INT4);
+        int4Array = new PostgresType.Builder(typeRegistry, "_int4", 1007, Types.ARRAY, TypeRegistry.NO_TYPE_MODIFIER, null)
+                .elementType(INT4.getOid())
+                .build();
+        when(typeRegistry.get(int4Array.getName())).thenReturn(int4Array);
+        when(typeRegistry.get(int4Array.getOid())).thenReturn(int4Array);
+
+        final PostgresConnection connection = mock(PostgresConnection.class);
+        final Connection jdbcConnection = mock(Connection.class);
+        when(connection.getTypeRegistry()).thenReturn(typeRegistry);
+        when(connection.connection()).thenReturn(jdbcConnection);
+        when(jdbcConnection.getMetaData()).thenReturn(mock(DatabaseMetaData.class));
+        when(connection.readPrimaryKeyNames(any(), eq(TABLE_ID))).thenReturn(new ArrayList<>(List.of("id")));
+
+        when(schema.tableIds()).thenReturn(Set.of());
+        decoder = new PgOutputMessageDecoder(new MessageDecoderContext(config, schema), connection);
+    }
+
+    @Test
+    public void shouldKeepBinaryTransferForRelationWithSupportedTypes() throws Exception {
+        final ChainedLogicalStreamBuilder builder = startStream();
+        verify(builder).withSlotOption("binary", true);
+
+        when(schema.tableFor(RELATION_ID)).thenReturn(table(INT4));
+        decoder.processNotEmptyMessage(relationMessage(INT4), null, typeRegistry);
+    }
+
+    @Test
+    public void shouldRestartStreamInTextFormatForRelationWithUnsupportedTypes() throws Exception {
+        final ChainedLogicalStreamBuilder builder = startStream();
+        verify(builder).withSlotOption("binary", true);
+
+        // A table captured after the stream was started has a column whose binary format cannot be decoded
+        final Table table = table(int4Array);
+        when(schema.tableFor(RELATION_ID)).thenReturn(table);
+        assertThatThrownBy(() -> decoder.processNotEmptyMessage(relationMessage(int4Array), null, typeRegistry))
+                .isInstanceOf(RetriableException.class)
+                .hasMessageContaining("'s.t'");
+
+        // The restarted stream knows the table and streams all columns in text format
+        when(schema.tableIds()).thenReturn(Set.of(TABLE_ID));
+        when(schema.tableFor(TABLE_ID)).thenReturn(table);
+        final ChainedLogicalStreamBuilder restarted = startStream();
+        verify(restarted, never()).withSlotOption(eq("binary"), anyBoolean());
+        decoder.processNotEmptyMessage(relationMessage(int4Array), null, typeRegistry);
+    }
+
+    @Test
+    public void shouldIgnoreRelationsOfTablesThatAreNotCaptured() throws Exception {
+        startStream();
+
+        when(schema.tableFor(anyInt())).thenReturn(null);
+        decoder.processNotEmptyMessage(relationMessage(int4Array), null, typeRegistry);
+    }
+
+    private ChainedLogicalStreamBuilder startStream() {
+        final ChainedLogicalStreamBuilder builder = mock(ChainedLogicalStreamBuilder.class, RETURNS_SELF);
+        decoder.defaultOptions(builder, version -> true);
+        return builder;
+    }
+
+    private static Table table(PostgresType columnType) {
+        return Table.editor()
+                .tableId(TABLE_ID)
+                .addColumn(Column.editor().name("id").type(INT4.getName()).jdbcType(Types.INTEGER).create())
+                .addColumn(Column.editor().name("value").type(columnType.getName()).jdbcType(columnType.getJdbcId()).optional(true).create())
+                .setPrimaryKeyNames("id")
+                .create();
+    }
+
+    private static ByteBuffer relationMessage(PostgresType valueType) {
+        final ByteBuffer buffer = ByteBuffer.allocate(256);
+        buffer.put((byte) 'R');
+        buffer.putInt(RELATION_ID);
+        putString(buffer, TABLE_ID.schema());
+        putString(buffer, TABLE_ID.table());
+        // replica identity default
+        buffer.put((byte) 'd');
+        buffer.putShort((short) 2);
+        putColumn(buffer, "id", INT4);
+        putColumn(buffer, "value", valueType);
+        return buffer.flip();
+    }
+
+    private static void putColumn(ByteBuffer buffer, String name, PostgresType type) {
+        buffer.put((byte) 0);
+        putString(buffer, name);
+        buffer.putInt(type.getOid());
+        buffer.putInt(TypeRegistry.NO_TYPE_MODIFIER);
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        buffer.put(value.getBytes(StandardCharsets.UTF_8));
+        buffer.put((byte) 0);
+    }
+
+    private static PostgresType type(String name, int oid) {
+        return new PostgresType.Builder(null, name, oid, Types.INTEGER, TypeRegistry.NO_TYPE_MODIFIER, null).build();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.postgresql.connection.Lsn;
+import io.debezium.util.Testing;
+
+public class PgOutputStreamedTransactionsTest {
+
+    private Path spillDirectory;
+
+    @Before
+    public void beforeEach() throws IOException {
+        spillDirectory = Testing.Files.createTestingDirectory("pgoutput-spill", true).toPath();
+    }
+
+    @After
+    public void afterEach() {
+        Testing.Files.delete(spillDirectory);
+    }
+
+    @Test
+    public void shouldReplayCommittedTransactionInOrder() throws Exception {
+        try (PgOutputStreamedTransactions transactions = new PgOutputStreamedTransactions(1024, null)) {
+            transactions.append(1, 1, Lsn.valueOf(10L), message("a"));
+            transactions.append(2, 2, Lsn.valueOf(11L), message("x"));
+            transactions.append(1, 1, Lsn.valueOf(12L), message("b"));
+
+            assertThat(transactions.firstLsn(1)).isEqualTo(Lsn.valueOf(10L));
+            assertThat(replay(transactions, 1)).containsExactly("10:a", "12:b");
+            assertThat(transactions.firstLsn(1)).isNull();
+            assertThat(replay(transactions, 1)).isEmpty();
+
+            transactions.abort(2, 2);
+            assertThat(replay(transactions, 2)).isEmpty();
+        }
+    }
+
+    @Test
+    public void shouldDiscardAbortedSubTransactions() throws Exception {
+        try (PgOutputStreamedTransactions transactions = new PgOutputStreamedTransactions(1024, null)) {
+            transactions.append(1, 1, Lsn.valueOf(10L), message("a"));
+            transactions.append(1, 5, Lsn.valueOf(11L), message("b"));
+            transactions.append(1, 1, Lsn.valueOf(12L), message("c"));
+            transactions.abort(1, 5);
+
+            assertThat(replay(transactions, 1)).containsExactly("10:a", "12:c");
+        }
+    }
+
+    @Test
+    public void shouldSpillToDiskWhenBufferIsExhausted() throws Exception {
+        try (PgOutputStreamedTransactions transactions = new PgOutputStreamedTransactions(2, spillDirectory)) {
+            transactions.append(1, 1, Lsn.valueOf(10L), message("a"));
+            transactions.append(1, 1, Lsn.valueOf(11L), message("b"));
+            transactions.append(1, 5, Lsn.valueOf(12L), message("c"));
+            transactions.append(1, 1, Lsn.valueOf(13L), message("d"));
+            assertThat(spillFiles()).hasSize(1);
+
+            transactions.abort(1, 5);
+            assertThat(replay(transactions, 1)).containsExactly("10:a", "11:b", "13:d");
+            assertThat(spillFiles()).isEmpty();
+        }
+    }
+
+    @Test
+    public void shouldFailWhenBufferIsExhaustedWithoutSpillDirectory() {
+        try (PgOutputStreamedTransactions transactions = new PgOutputStreamedTransactions(2, null)) {
+            transactions.append(1, 1, Lsn.valueOf(10L), message("ab"));
+            assertThatThrownBy(() -> transactions.append(1, 1, Lsn.valueOf(11L), message("c")))
+                    .isInstanceOf(DebeziumException.class)
+                    .hasMessageContaining("transaction 1");
+        }
+    }
+
+    private static ByteBuffer message(String content) {
+        return ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> replay(PgOutputStreamedTransactions transactions, long xid) throws SQLException, InterruptedException {
+        final List<String> messages = new ArrayList<>();
+        transactions.commit(xid, (lsn, message) -> messages.add(lsn.asLong() + ":" + StandardCharsets.UTF_8.decode(message)));
+        return messages;
+    }
+
+    private List<Path> spillFiles() throws IOException {
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            return files.toList();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.processors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.bean.DefaultBeanRegistry;
+import io.debezium.bean.StandardBeanNames;
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.connector.postgresql.PostgresConnectorConfig;
+import io.debezium.data.Envelope;
+import io.debezium.relational.TableId;
+
+public class ToastValueCachePostProcessorTest {
+
+    private static final String PLACEHOLDER = "__debezium_unavailable_value";
+
+    private static final Schema KEY_SCHEMA = SchemaBuilder.struct().field("id", Schema.INT32_SCHEMA).build();
+    private static final Schema ROW_SCHEMA = SchemaBuilder.struct()
+            .field("id", Schema.INT32_SCHEMA)
+            .field("text", Schema.OPTIONAL_STRING_SCHEMA)
+            .field("data", Schema.OPTIONAL_BYTES_SCHEMA)
+            .field("counter", Schema.OPTIONAL_INT64_SCHEMA)
+            .optional()
+            .build();
+    private static final Schema SOURCE_SCHEMA = SchemaBuilder.struct()
+            .field("db", Schema.STRING_SCHEMA)
+            .field("schema", Schema.STRING_SCHEMA)
+            .field("table", Schema.STRING_SCHEMA)
+            .build();
+    private static final Envelope ENVELOPE = Envelope.defineSchema()
+            .withName("server.s.t.Envelope")
+            .withRecord(ROW_SCHEMA)
+            .withSource(SOURCE_SCHEMA)
+            .build();
+
+    private ToastValueCachePostProcessor processor;
+
+    @Before
+    public void beforeEach() {
+        processor = newProcessor(Map.of());
+    }
+
+    @After
+    public void afterEach() {
+        processor.close();
+    }
+
+    @Test
+    public void shouldReplaceUnavailableValuesWithValuesOfPreviousEvents() {
+        processor.apply(key(1), ENVELOPE.read(row(1, "text-1", bytes("data-1")), source("t"), Instant.now()));
+
+        final Struct update = ENVELOPE.update(null, row(1, PLACEHOLDER, ByteBuffer.wrap(PLACEHOLDER.getBytes())), source("t"), Instant.now());
+        processor.apply(key(1), update);
+
+        final Struct after = update.getStruct(Envelope.FieldName.AFTER);
+        assertThat(after.getString("text")).isEqualTo("text-1");
+        assertThat(after.getBytes("data")).isEqualTo("data-1".getBytes());
+    }
+
+    @Test
+    public void shouldKeepUnavailableValuesOfUnknownRows() {
+        processor.apply(key(1), ENVELOPE.create(row(1, "text-1", null), source("t"), Instant.now()));
+
+        final Struct otherRow = ENVELOPE.update(null, row(2, PLACEHOLDER, null), source("t"), Instant.now());
+        processor.apply(key(2), otherRow);
+        final Struct otherTable = ENVELOPE.update(null, row(1, PLACEHOLDER, null), source("other"), Instant.now());
+        processor.apply(key(1), otherTable);
+
+        assertThat(otherRow.getStruct(Envelope.FieldName.AFTER).getString("text")).isEqualTo(PLACEHOLDER);
+        assertThat(otherTable.getStruct(Envelope.FieldName.AFTER).getString("text")).isEqualTo(PLACEHOLDER);
+    }
+
+    @Test
+    public void shouldTrackLatestValueOfRow() {
+        processor.apply(key(1), ENVELOPE.create(row(1, "text-1", null), source("t"), Instant.now()));
+        processor.apply(key(1), ENVELOPE.update(null, row(1, "text-2", null), source("t"), Instant.now()));
+        processor.apply(key(1), ENVELOPE.update(null, row(1, PLACEHOLDER, null), source("t"), Instant.now()));
+
+        final Struct update = ENVELOPE.update(null, row(1, PLACEHOLDER, null), source("t"), Instant.now());
+        processor.apply(key(1), update);
+        assertThat(update.getStruct(Envelope.FieldName.AFTER).getString("text")).isEqualTo("text-2");
+    }
+
+    @Test
+    public void shouldForgetDeletedAndTruncatedRows() {
+        processor.apply(key(1), ENVELOPE.create(row(1, "text-1", null), source("t"), Instant.now()));
+        processor.apply(key(2), ENVELOPE.create(row(2, "text-2", null), source("t"), Instant.now()));
+
+        processor.apply(key(1), ENVELOPE.delete(row(1, "text-1", null), source("t"), Instant.now()));
+        final Struct deleted = ENVELOPE.update(null, row(1, PLACEHOLDER, null), source("t"), Instant.now());
+        processor.apply(key(1), deleted);
+        assertThat(deleted.getStruct(Envelope.FieldName.AFTER).getString("text")).isEqualTo(PLACEHOLDER);
+
+        processor.apply(null, ENVELOPE.truncate(source("t"), Instant.now()));
+        final Struct truncated = ENVELOPE.update(null, row(2, PLACEHOLDER, null), source("t"), Instant.now());
+        processor.apply(key(2), truncated);
+        assertThat(truncated.getStruct(Envelope.FieldName.AFTER).getString("text")).isEqualTo(PLACEHOLDER);
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedRows() {
+        final ToastValueCache cache = new ToastValueCache(2, 10, 2);
+        final TableId tableId = new TableId("db", "s", "t");
+        final org.apache.kafka.connect.data.Field text = ROW_SCHEMA.field("text");
+
+        cache.put(tableId, key(1), text, "aaa");
+        cache.put(tableId, key(2), text, "bbb");
+        cache.put(tableId, key(3), text, "c");
+        assertThat(cache.getRowCount()).isEqualTo(2);
+
+        assertThat(cache.get(tableId, key(1), text)).isEqualTo("aaa");
+        cache.put(tableId, key(3), text, "ccc");
+        assertThat(cache.get(tableId, key(2), text)).isNull();
+        assertThat(cache.get(tableId, key(1), text)).isEqualTo("aaa");
+        assertThat(cache.get(tableId, key(3), text)).isEqualTo("ccc");
+
+        cache.put(tableId, key(4), text, "dddddd");
+        assertThat(cache.getSizeInBytes()).isLessThanOrEqualTo(10);
+        assertThat(cache.get(tableId, key(1), text)).isNull();
+
+        assertThat(cache.getHits()).isEqualTo(3);
+        assertThat(cache.getMisses()).isEqualTo(2);
+        assertThat(cache.getEvictions()).isEqualTo(2);
+    }
+
+    private static ToastValueCachePostProcessor newProcessor(Map<String, ?> properties) {
+        final DefaultBeanRegistry beanRegistry = new DefaultBeanRegistry();
+        beanRegistry.add(StandardBeanNames.CONNECTOR_CONFIG, new PostgresConnectorConfig(Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "server")
+                .with(PostgresConnectorConfig.DATABASE_NAME, "db")
+                .build()));
+        final ToastValueCachePostProcessor processor = new ToastValueCachePostProcessor();
+        processor.configure(properties);
+        processor.injectBeanRegistry(beanRegistry);
+        return processor;
+    }
+
+    private static Struct key(int id) {
+        return new Struct(KEY_SCHEMA).put("id", id);
+    }
+
+    private static Struct row(int id, String text, ByteBuffer data) {
+        return new Struct(ROW_SCHEMA).put("id", id).put("text", text).put("data", data).put("counter", 1L);
+    }
+
+    private static ByteBuffer bytes(String value) {
+        return ByteBuffer.wrap(value.getBytes());
+    }
+
+    private static Struct source(String table) {
+        return new Struct(SOURCE_SCHEMA).put("db", "db").put("schema", "s").put("table", table);
+    }
+}
@@ -7,7 +7,16 @@
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -15,6 +24,7 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.DebeziumException;
 import io.debezium.config.CommonConnectorConfig;
 import io.debezium.connector.common.CdcSourceTaskContext;
 import io.debezium.pipeline.ChangeEventSourceCoordinator;
@@ -34,16 +44,19 @@
 import io.debezium.util.Clock;
 import io.debezium.util.LoggingContext;
 import io.debezium.util.Metronome;
+import io.debezium.util.Threads;
 
 /**
  * Coordinates one or more {@link ChangeEventSource}s and executes them in order. Extends the base
  * {@link ChangeEventSourceCoordinator} to support snapshotting and streaming of multiple partitions.
+ * The partitions are streamed one after another or, if configured, concurrently by a bounded number of threads.
  */
 public class SqlServerChangeEventSourceCoordinator extends ChangeEventSourceCoordinator<SqlServerPartition, SqlServerOffsetContext> {
     private static final Logger LOGGER = LoggerFactory.getLogger(SqlServerChangeEventSourceCoordinator.class);
 
     private final Clock clock;
     private final Duration pollInterval;
+    private final int streamingMaxThreads;
 
     private final AtomicBoolean firstStreamingIterationCompletedSuccessfully = new AtomicBoolean(false);
 
@@ -62,6 +75,9 @@ public SqlServerChangeEventSourceCoordinator(Offsets<SqlServerPartition, SqlServ
                 changeEventSourceMetricsFactory, eventDispatcher, schema, signalProcessor, notificationService, snapshotterService);
         this.clock = clock;
         this.pollInterval = connectorConfig.getPollInterval();
+        this.streamingMaxThreads = connectorConfig instanceof SqlServerConnectorConfig sqlServerConnectorConfig
+                ? sqlServerConnectorConfig.getStreamingMaxThreads()
+                : 1;
     }
 
     public boolean firstStreamingIterationCompletedSuccessfully() {
@@ -104,10 +120,31 @@ protected void executeChangeEventSources(CdcSourceTaskContext taskContext, Snaps
         getSignalProcessor(previousOffsets).ifPresent(signalProcessor -> registerSignalActionsAndStartProcessor(signalProcessor,
                 eventDispatcher, this, connectorConfig));
 
-        final Metronome metronome = Metronome.sleeper(pollInterval, clock);
-
         LOGGER.info("Starting streaming");
 
+        try {
+            final int threads = Math.min(streamingMaxThreads, streamingOffsets.getOffsets().size());
+            if (threads > 1) {
+                streamConcurrently(taskContext, streamingOffsets, context, threads);
+            }
+            else {
+                streamSequentially(taskContext, streamingOffsets, previousLogContext, context);
+            }
+        }
+        finally {
+            if (streamingSource != null) {
+                streamingSource.close();
+            }
+        }
+
+        LOGGER.info("Finished streaming");
+    }
+
+    private void streamSequentially(CdcSourceTaskContext taskContext, Offsets<SqlServerPartition, SqlServerOffsetContext> streamingOffsets,
+                                    AtomicReference<LoggingContext.PreviousContext> previousLogContext, ChangeEventSourceContext context)
+            throws InterruptedException {
+        final Metronome metronome = Metronome.sleeper(pollInterval, clock);
+
         while (context.isRunning()) {
             boolean streamedEvents = false;
             for (Map.Entry<SqlServerPartition, SqlServerOffsetContext> entry : streamingOffsets) {
@@ -137,7 +174,88 @@ protected void executeChangeEventSources(CdcSourceTaskContext taskContext, Snaps
             }
 
         }
+    }
 
-        LOGGER.info("Finished streaming");
+    /**
+     * Streams the partitions using a pool of threads. A partition is streamed by at most one thread at a time, so that
+     * its changes are emitted in order, and it is polled again immediately if its last iteration streamed any changes,
+     * or after the poll interval otherwise. This way a busy database does not delay the streaming of the other ones.
+     */
+    private void streamConcurrently(CdcSourceTaskContext taskContext, Offsets<SqlServerPartition, SqlServerOffsetContext> streamingOffsets,
+                                    ChangeEventSourceContext context, int threads)
+            throws InterruptedException {
+        LOGGER.info("Streaming {} databases using {} threads", streamingOffsets.getOffsets().size(), threads);
+
+        final ExecutorService executorService = Threads.newFixedThreadPool(SqlServerConnector.class, connectorConfig.getLogicalName(), "streaming", threads);
+        final CompletionService<SqlServerPartition> completionService = new ExecutorCompletionService<>(executorService);
+        final Map<SqlServerPartition, Long> nextIterationTimes = new ConcurrentHashMap<>();
+        final Set<SqlServerPartition> partitionsInProgress = new HashSet<>();
+
+        try {
+            while (context.isRunning()) {
+                final long now = clock.currentTimeInMillis();
+                long nextIterationTime = now + pollInterval.toMillis();
+                for (Map.Entry<SqlServerPartition, SqlServerOffsetContext> entry : streamingOffsets) {
+                    final SqlServerPartition partition = entry.getKey();
+                    final SqlServerOffsetContext previousOffset = entry.getValue();
+                    if (partitionsInProgress.size() >= threads || partitionsInProgress.contains(partition)) {
+                        continue;
+                    }
+                    final long partitionIterationTime = nextIterationTimes.getOrDefault(partition, now);
+                    if (partitionIterationTime > now) {
+                        nextIterationTime = Math.min(nextIterationTime, partitionIterationTime);
+                        continue;
+                    }
+                    partitionsInProgress.add(partition);
+                    completionService.submit(() -> {
+                        final LoggingContext.PreviousContext previousContext = taskContext.configureLoggingContext("streaming", partition);
+                        try {
+                            final boolean streamedEvents = context.isRunning() && streamingSource.executeIteration(context, partition, previousOffset);
+                            nextIterationTimes.put(partition, streamedEvents ? 0L : clock.currentTimeInMillis() + pollInterval.toMillis());
+                            return partition;
+                        }
+                        finally {
+                            previousContext.restore();
+                        }
+                    });
+                }
+
+                // Wait until an iteration completes or the next partition is to be polled
+                Future<SqlServerPartition> completed = completionService.poll(Math.max(nextIterationTime - now, 0), TimeUnit.MILLISECONDS);
+                while (completed != null) {
+                    partitionsInProgress.remove(getCompletedPartition(completed));
+                    completed = completionService.poll();
+                }
+
+                if (errorHandler.getProducerThrowable() == null) {
+                    firstStreamingIterationCompletedSuccessfully.set(true);
+                }
+
+                if (context.isPaused()) {
+                    while (!partitionsInProgress.isEmpty()) {
+                        partitionsInProgress.remove(getCompletedPartition(completionService.take()));
+                    }
+                    LOGGER.info("Streaming will now pause");
+                    context.streamingPaused();
+                    context.waitSnapshotCompletion();
+                    LOGGER.info("Streaming resumed");
+                }
+            }
+        }
+        finally {
+            executorService.shutdownNow();
+            if (!executorService.awaitTermination(pollInterval.toMillis() * 2, TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("Streaming threads did not terminate in time");
+            }
+        }
+    }
+
+    private SqlServerPartition getCompletedPartition(Future<SqlServerPartition> completed) throws InterruptedException {
+        try {
+            return completed.get();
+        }
+        catch (ExecutionException e) {
+            throw new DebeziumException("Streaming of a database failed", e.getCause());
+        }
     }
 }
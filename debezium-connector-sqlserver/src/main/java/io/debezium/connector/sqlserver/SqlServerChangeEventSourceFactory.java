@@ -64,6 +64,7 @@ public StreamingChangeEventSource<SqlServerPartition, SqlServerOffsetContext> ge
                 configuration,
                 connectionFactory.mainConnection(),
                 metadataConnection,
+                connectionFactory,
                 dispatcher,
                 errorHandler,
                 clock,
@@ -91,7 +92,8 @@ public StreamingChangeEventSource<SqlServerPartition, SqlServerOffsetContext> ge
                 clock,
                 snapshotProgressListener,
                 dataChangeEventListener,
-                notificationService);
+                notificationService,
+                connectionFactory);
         return Optional.of(incrementalSnapshotChangeEventSource);
     }
 }
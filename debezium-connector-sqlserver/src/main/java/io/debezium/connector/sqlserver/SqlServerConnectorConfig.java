@@ -481,6 +481,17 @@ public static DataQueryMode parse(String value, String defaultValue) {
             .withDescription("Specifies the maximum number of rows that should be read in one go from each table while streaming. "
                     + "The connector will read the table contents in multiple batches of this size. Defaults to 0 which means no limit.");
 
+    public static final Field STREAMING_MAX_THREADS = Field.create("streaming.max.threads")
+            .withDisplayName("Streaming maximum threads")
+            .withDefault(1)
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 2))
+            .withImportance(Importance.LOW)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The maximum number of threads used to stream changes from the databases captured by a task. "
+                    + "When greater than 1, the change tables of multiple databases are queried concurrently, each thread using its own database connections, "
+                    + "while the changes of each database are still streamed in order. Defaults to 1 which means the databases are queried one after another.");
+
     private static final ConfigDefinition CONFIG_DEFINITION = HistorizedRelationalDatabaseConnectorConfig.CONFIG_DEFINITION.edit()
             .name("SQL Server")
             .type(
@@ -502,7 +513,8 @@ public static DataQueryMode parse(String value, String defaultValue) {
                     INCREMENTAL_SNAPSHOT_ALLOW_SCHEMA_CHANGES,
                     QUERY_FETCH_SIZE,
                     DATA_QUERY_MODE,
-                    STREAMING_FETCH_SIZE)
+                    STREAMING_FETCH_SIZE,
+                    STREAMING_MAX_THREADS)
             .events(SOURCE_INFO_STRUCT_MAKER)
             .excluding(
                     SCHEMA_INCLUDE_LIST,
@@ -530,6 +542,7 @@ public static ConfigDef configDef() {
     private final int queryFetchSize;
     private final DataQueryMode dataQueryMode;
     private final int streamingFetchSize;
+    private final int streamingMaxThreads;
 
     public SqlServerConnectorConfig(Configuration config) {
         super(
@@ -574,6 +587,7 @@ public SqlServerConnectorConfig(Configuration config) {
         this.dataQueryMode = DataQueryMode.parse(config.getString(DATA_QUERY_MODE), DATA_QUERY_MODE.defaultValueAsString());
         this.snapshotLockingMode = SnapshotLockingMode.parse(config.getString(SNAPSHOT_LOCKING_MODE), SNAPSHOT_LOCKING_MODE.defaultValueAsString());
         this.streamingFetchSize = config.getInteger(STREAMING_FETCH_SIZE);
+        this.streamingMaxThreads = config.getInteger(STREAMING_MAX_THREADS);
     }
 
     public List<String> getDatabaseNames() {
@@ -727,4 +741,8 @@ private static int validateDatabaseNames(Configuration config, Field field, Fiel
     public int getStreamingFetchSize() {
         return streamingFetchSize;
     }
+
+    public int getStreamingMaxThreads() {
+        return streamingMaxThreads;
+    }
 }
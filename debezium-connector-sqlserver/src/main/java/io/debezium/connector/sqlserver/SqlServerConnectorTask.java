@@ -59,6 +59,7 @@ public class SqlServerConnectorTask extends BaseSourceTask<SqlServerPartition, S
     private volatile ChangeEventQueue<DataChangeEvent> queue;
     private volatile SqlServerConnection dataConnection;
     private volatile SqlServerConnection metadataConnection;
+    private volatile SqlServerConnection beanRegistryJdbcConnection;
     private volatile SqlServerErrorHandler errorHandler;
     private volatile SqlServerDatabaseSchema schema;
 
@@ -89,6 +90,8 @@ public ChangeEventSourceCoordinator<SqlServerPartition, SqlServerOffsetContext>
         dataConnection = connectionFactory.mainConnection();
         metadataConnection = new SqlServerConnection(connectorConfig, valueConverters,
                 connectorConfig.getSkippedOperations(), connectorConfig.useSingleDatabase());
+        // The bean registry connection is used by the post processors, which may run on several streaming threads
+        beanRegistryJdbcConnection = connectionFactory.newConnection();
 
         // Service providers
         registerServiceProviders(connectorConfig.getServiceRegistry());
@@ -107,7 +110,8 @@ public ChangeEventSourceCoordinator<SqlServerPartition, SqlServerOffsetContext>
         connectorConfig.getBeanRegistry().add(StandardBeanNames.CONFIGURATION, config);
         connectorConfig.getBeanRegistry().add(StandardBeanNames.CONNECTOR_CONFIG, connectorConfig);
         connectorConfig.getBeanRegistry().add(StandardBeanNames.DATABASE_SCHEMA, schema);
-        connectorConfig.getBeanRegistry().add(StandardBeanNames.JDBC_CONNECTION, metadataConnection);
+        connectorConfig.getBeanRegistry().add(StandardBeanNames.JDBC_CONNECTION, beanRegistryJdbcConnection);
+        connectorConfig.getBeanRegistry().add(StandardBeanNames.JDBC_CONNECTION_FACTORY, connectionFactory);
         connectorConfig.getBeanRegistry().add(StandardBeanNames.VALUE_CONVERTER, valueConverters);
         connectorConfig.getBeanRegistry().add(StandardBeanNames.OFFSETS, offsets);
         connectorConfig.getBeanRegistry().add(StandardBeanNames.CDC_SOURCE_TASK_CONTEXT, taskContext);
@@ -226,6 +230,15 @@ protected void doStop() {
             LOGGER.error("Exception while closing JDBC metadata connection", e);
         }
 
+        try {
+            if (beanRegistryJdbcConnection != null) {
+                beanRegistryJdbcConnection.close();
+            }
+        }
+        catch (SQLException e) {
+            LOGGER.error("Exception while closing JDBC bean registry connection", e);
+        }
+
         if (schema != null) {
             schema.close();
         }
@@ -22,6 +22,9 @@
 import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
@@ -31,6 +34,8 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.DebeziumException;
+import io.debezium.jdbc.ConnectionFactory;
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.notification.Notification;
@@ -64,6 +69,10 @@
  * table with the LSN larger than in the old one. Then the change table is switched and streaming is executed
  * from the new one.</p>
  *
+ * <p>The source is safe to be used for multiple partitions concurrently as long as each partition is streamed by a single
+ * thread at a time. Every thread then reads the changes using its own pair of connections, while the dispatching of events,
+ * which updates the shared schema and metrics, is serialized.</p>
+ *
  * @author Jiri Pechanec
  */
 public class SqlServerStreamingChangeEventSource implements StreamingChangeEventSource<SqlServerPartition, SqlServerOffsetContext> {
@@ -76,17 +85,16 @@ public class SqlServerStreamingChangeEventSource implements StreamingChangeEvent
     private static final int INTERVAL_BETWEEN_COMMITS_BASED_ON_POLL_FACTOR = 3;
 
     /**
-     * Connection used for reading CDC tables.
+     * Connections that are not used by any streaming thread at the moment, initially the main connections only.
      */
-    private final SqlServerConnection dataConnection;
+    private final Queue<StreamingConnections> connectionPool = new ConcurrentLinkedQueue<>();
 
     /**
-     * A separate connection for retrieving details of the schema changes; without it, adaptive buffering will not work.
-     *
-     * @link https://docs.microsoft.com/en-us/sql/connect/jdbc/using-adaptive-buffering?view=sql-server-2017#guidelines-for-using-adaptive-buffering
+     * Connections opened in addition to the main connections for concurrent streaming of multiple partitions.
      */
-    private final SqlServerConnection metadataConnection;
+    private final List<StreamingConnections> additionalConnections = new CopyOnWriteArrayList<>();
 
+    private final ConnectionFactory<SqlServerConnection> connectionFactory;
     private final EventDispatcher<SqlServerPartition, TableId> dispatcher;
     private final ErrorHandler errorHandler;
     private final Clock clock;
@@ -95,23 +103,27 @@ public class SqlServerStreamingChangeEventSource implements StreamingChangeEvent
     private final SnapshotterService snapshotterService;
     private final SqlServerConnectorConfig connectorConfig;
 
-    private final ElapsedTimeStrategy pauseBetweenCommits;
+    private final Duration intervalBetweenCommits;
     private final Map<SqlServerPartition, SqlServerStreamingExecutionContext> streamingExecutionContexts;
     private final Map<SqlServerPartition, Set<SqlServerChangeTable>> changeTablesWithKnownStopLsn = new HashMap<>();
 
-    private boolean checkAgent;
-    private SqlServerOffsetContext effectiveOffset;
+    /**
+     * Serializes the calls of the dispatcher by the streaming threads, as they update the schema and the metrics.
+     */
+    private final Object dispatchLock = new Object();
+    private final Map<SqlServerPartition, SqlServerOffsetContext> effectiveOffsets = new ConcurrentHashMap<>();
+
+    private volatile SqlServerOffsetContext effectiveOffset;
     private final NotificationService<SqlServerPartition, SqlServerOffsetContext> notificationService;
 
     public SqlServerStreamingChangeEventSource(SqlServerConnectorConfig connectorConfig, SqlServerConnection dataConnection,
-                                               SqlServerConnection metadataConnection,
+                                               SqlServerConnection metadataConnection, ConnectionFactory<SqlServerConnection> connectionFactory,
                                                EventDispatcher<SqlServerPartition, TableId> dispatcher,
                                                ErrorHandler errorHandler, Clock clock, SqlServerDatabaseSchema schema,
                                                NotificationService<SqlServerPartition, SqlServerOffsetContext> notificationService,
                                                SnapshotterService snapshotterService) {
         this.connectorConfig = connectorConfig;
-        this.dataConnection = dataConnection;
-        this.metadataConnection = metadataConnection;
+        this.connectionFactory = connectionFactory;
         this.dispatcher = dispatcher;
         this.errorHandler = errorHandler;
         this.clock = clock;
@@ -120,12 +132,11 @@ public SqlServerStreamingChangeEventSource(SqlServerConnectorConfig connectorCon
         this.pollInterval = connectorConfig.getPollInterval();
         this.snapshotterService = snapshotterService;
         final Duration intervalBetweenCommitsBasedOnPoll = this.pollInterval.multipliedBy(INTERVAL_BETWEEN_COMMITS_BASED_ON_POLL_FACTOR);
-        this.pauseBetweenCommits = ElapsedTimeStrategy.constant(clock,
-                DEFAULT_INTERVAL_BETWEEN_COMMITS.compareTo(intervalBetweenCommitsBasedOnPoll) > 0
-                        ? DEFAULT_INTERVAL_BETWEEN_COMMITS.toMillis()
-                        : intervalBetweenCommitsBasedOnPoll.toMillis());
-        this.streamingExecutionContexts = new HashMap<>();
-        this.checkAgent = true;
+        this.intervalBetweenCommits = DEFAULT_INTERVAL_BETWEEN_COMMITS.compareTo(intervalBetweenCommitsBasedOnPoll) > 0
+                ? DEFAULT_INTERVAL_BETWEEN_COMMITS
+                : intervalBetweenCommitsBasedOnPoll;
+        this.connectionPool.add(new StreamingConnections(dataConnection, metadataConnection));
+        this.streamingExecutionContexts = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -140,6 +151,17 @@ public void execute(ChangeEventSourceContext context, SqlServerPartition partiti
 
     @Override
     public boolean executeIteration(ChangeEventSourceContext context, SqlServerPartition partition, SqlServerOffsetContext offsetContext) {
+        final StreamingConnections connections = acquireConnections();
+        try {
+            return executeIteration(context, partition, offsetContext, connections);
+        }
+        finally {
+            connectionPool.add(connections);
+        }
+    }
+
+    private boolean executeIteration(ChangeEventSourceContext context, SqlServerPartition partition, SqlServerOffsetContext offsetContext,
+                                     StreamingConnections connections) {
 
         if (!snapshotterService.getSnapshotter().shouldStream()) {
             LOGGER.info("Streaming is disabled for snapshot mode {}", snapshotterService.getSnapshotter().name());
@@ -147,8 +169,9 @@ public boolean executeIteration(ChangeEventSourceContext context, SqlServerParti
         }
 
         final String databaseName = partition.getDatabaseName();
+        final SqlServerConnection dataConnection = connections.dataConnection;
 
-        this.effectiveOffset = offsetContext;
+        effectiveOffsets.put(partition, offsetContext);
 
         try {
             final SqlServerStreamingExecutionContext streamingExecutionContext = streamingExecutionContexts.getOrDefault(partition,
@@ -176,12 +199,12 @@ public boolean executeIteration(ChangeEventSourceContext context, SqlServerParti
             TxLogPosition lastProcessedPosition = streamingExecutionContext.getLastProcessedPosition();
 
             if (context.isRunning()) {
-                commitTransaction();
+                commitTransaction(connections);
                 final Lsn toLsn = getToLsn(dataConnection, databaseName, lastProcessedPosition, maxTransactionsPerIteration);
 
                 // Shouldn't happen if the agent is running, but it is better to guard against such situation
                 if (!toLsn.isAvailable()) {
-                    if (checkAgent) {
+                    if (streamingExecutionContext.getCheckAgent()) {
                         try {
                             if (!dataConnection.isAgentRunning(databaseName)) {
                                 LOGGER.error("No maximum LSN recorded in the database; SQL Server Agent is not running");
@@ -194,17 +217,19 @@ public boolean executeIteration(ChangeEventSourceContext context, SqlServerParti
                                     "You should follow the documentation on how to configure SQL Server Agent running status query.");
                             LOGGER.warn("Cannot query the status of the SQL Server Agent", e);
                         }
-                        checkAgent = false;
+                        streamingExecutionContext.setCheckAgent(false);
                     }
                     return false;
                 }
-                else if (!checkAgent) {
-                    checkAgent = true;
+                else if (!streamingExecutionContext.getCheckAgent()) {
+                    streamingExecutionContext.setCheckAgent(true);
                 }
                 // There is no change in the database
                 if (toLsn.compareTo(lastProcessedPosition.getCommitLsn()) <= 0 && streamingExecutionContext.getShouldIncreaseFromLsn()) {
                     LOGGER.debug("No change in the database");
-                    dispatcher.dispatchHeartbeatEvent(partition, offsetContext);
+                    synchronized (dispatchLock) {
+                        dispatcher.dispatchHeartbeatEvent(partition, offsetContext);
+                    }
                     return false;
                 }
 
@@ -216,10 +241,10 @@ else if (!checkAgent) {
                 streamingExecutionContext.setShouldIncreaseFromLsn(true);
 
                 while (!schemaChangeCheckpoints.isEmpty()) {
-                    migrateTable(partition, schemaChangeCheckpoints, offsetContext);
+                    migrateTable(partition, schemaChangeCheckpoints, offsetContext, connections.metadataConnection);
                 }
                 if (!dataConnection.getNewChangeTables(databaseName, fromLsn, toLsn).isEmpty()) {
-                    final SqlServerChangeTable[] tables = getChangeTablesToQuery(partition, offsetContext, toLsn);
+                    final SqlServerChangeTable[] tables = getChangeTablesToQuery(partition, offsetContext, toLsn, dataConnection);
                     tablesSlot.set(tables);
                     for (SqlServerChangeTable table : tables) {
                         if (table.getStartLsn().isBetween(fromLsn, toLsn)) {
@@ -230,7 +255,7 @@ else if (!checkAgent) {
                     collectChangeTablesWithKnownStopLsn(partition, tables);
                 }
                 if (tablesSlot.get() == null) {
-                    tablesSlot.set(getChangeTablesToQuery(partition, offsetContext, toLsn));
+                    tablesSlot.set(getChangeTablesToQuery(partition, offsetContext, toLsn, dataConnection));
                     collectChangeTablesWithKnownStopLsn(partition, tablesSlot.get());
                 }
 
@@ -305,7 +330,7 @@ else if (!checkAgent) {
                         LOGGER.trace("Schema change checkpoints {}", schemaChangeCheckpoints);
                         if (!schemaChangeCheckpoints.isEmpty()) {
                             if (tableWithSmallestLsn.getChangePosition().getCommitLsn().compareTo(schemaChangeCheckpoints.peek().getStartLsn()) >= 0) {
-                                migrateTable(partition, schemaChangeCheckpoints, offsetContext);
+                                migrateTable(partition, schemaChangeCheckpoints, offsetContext, connections.metadataConnection);
                             }
                         }
                         final TableId tableId = tableWithSmallestLsn.getChangeTable().getSourceTableId();
@@ -331,18 +356,20 @@ else if (!checkAgent) {
                                 tableWithSmallestLsn.getChangeTable().getSourceTableId(),
                                 resultSet.getTimestamp(resultSet.getMetaData().getColumnCount()).toInstant());
 
-                        dispatcher
-                                .dispatchDataChangeEvent(
-                                        partition,
-                                        tableId,
-                                        new SqlServerChangeRecordEmitter(
-                                                partition,
-                                                offsetContext,
-                                                operation,
-                                                data,
-                                                dataNext,
-                                                clock,
-                                                connectorConfig));
+                        synchronized (dispatchLock) {
+                            dispatcher
+                                    .dispatchDataChangeEvent(
+                                            partition,
+                                            tableId,
+                                            new SqlServerChangeRecordEmitter(
+                                                    partition,
+                                                    offsetContext,
+                                                    operation,
+                                                    data,
+                                                    dataNext,
+                                                    clock,
+                                                    connectorConfig));
+                        }
                         tableWithSmallestLsn.next();
                     }
                     streamingExecutionContext.setLastProcessedPosition(TxLogPosition.valueOf(toLsn));
@@ -364,11 +391,33 @@ else if (!checkAgent) {
         return true;
     }
 
+    /**
+     * Returns the offset of the partition streamed by the task, or the offset passed to {@link #init(SqlServerOffsetContext)}
+     * before the partition is streamed. A task streaming several partitions has no single offset, so the offset of each
+     * partition must be obtained with {@link #getOffsetContext(SqlServerPartition)}; the coordinator only reads this offset
+     * for signal processing, which is enabled for a single partition only.
+     *
+     * @throws DebeziumException if the task streams several partitions
+     */
     @Override
     public SqlServerOffsetContext getOffsetContext() {
+        if (effectiveOffsets.size() > 1) {
+            throw new DebeziumException("The offset context of a task streaming " + effectiveOffsets.size()
+                    + " partitions depends on the partition");
+        }
+        if (effectiveOffsets.size() == 1) {
+            return effectiveOffsets.values().iterator().next();
+        }
         return effectiveOffset;
     }
 
+    /**
+     * Returns the offset of the given partition, or {@code null} if the partition has not been streamed yet.
+     */
+    public SqlServerOffsetContext getOffsetContext(SqlServerPartition partition) {
+        return effectiveOffsets.get(partition);
+    }
+
     private void collectChangeTablesWithKnownStopLsn(SqlServerPartition partition, SqlServerChangeTable[] tables) {
         for (SqlServerChangeTable table : tables) {
             if (table.getStopLsn().isAvailable()) {
@@ -380,31 +429,56 @@ private void collectChangeTablesWithKnownStopLsn(SqlServerPartition partition, S
         }
     }
 
-    private void commitTransaction() throws SQLException {
+    @Override
+    public void close() {
+        for (StreamingConnections connections : additionalConnections) {
+            connections.close();
+        }
+        additionalConnections.clear();
+    }
+
+    /**
+     * Takes connections from the pool, opening additional ones if all of them are in use by other threads.
+     */
+    private StreamingConnections acquireConnections() {
+        final StreamingConnections connections = connectionPool.poll();
+        if (connections != null) {
+            return connections;
+        }
+        LOGGER.info("Opening additional connections for concurrent streaming");
+        final StreamingConnections newConnections = new StreamingConnections(connectionFactory.newConnection(), connectionFactory.newConnection());
+        additionalConnections.add(newConnections);
+        return newConnections;
+    }
+
+    private void commitTransaction(StreamingConnections connections) throws SQLException {
         // When reading from read-only Always On replica the default and only transaction isolation
         // is snapshot. This means that CDC metadata are not visible for long-running transactions.
         // It is thus necessary to restart the transaction before every read.
         // For R/W database it is important to execute regular commits to maintain the size of TempDB
-        if (connectorConfig.isReadOnlyDatabaseConnection() || pauseBetweenCommits.hasElapsed()) {
-            dataConnection.commit();
-            metadataConnection.commit();
+        if (connectorConfig.isReadOnlyDatabaseConnection() || connections.pauseBetweenCommits.hasElapsed()) {
+            connections.dataConnection.commit();
+            connections.metadataConnection.commit();
         }
     }
 
-    private void migrateTable(SqlServerPartition partition, final Queue<SqlServerChangeTable> schemaChangeCheckpoints, SqlServerOffsetContext offsetContext)
+    private void migrateTable(SqlServerPartition partition, final Queue<SqlServerChangeTable> schemaChangeCheckpoints, SqlServerOffsetContext offsetContext,
+                              SqlServerConnection metadataConnection)
             throws InterruptedException, SQLException {
         final SqlServerChangeTable newTable = schemaChangeCheckpoints.poll();
         LOGGER.info("Migrating schema to {}", newTable);
-        Table oldTableSchema = schema.tableFor(newTable.getSourceTableId());
         Table tableSchema = metadataConnection.getTableSchemaFromTable(partition.getDatabaseName(), newTable);
-        if (oldTableSchema.equals(tableSchema)) {
-            LOGGER.info("Migration skipped, no table schema changes detected.");
-            return;
+        synchronized (dispatchLock) {
+            Table oldTableSchema = schema.tableFor(newTable.getSourceTableId());
+            if (oldTableSchema.equals(tableSchema)) {
+                LOGGER.info("Migration skipped, no table schema changes detected.");
+                return;
+            }
+            dispatcher.dispatchSchemaChangeEvent(partition, offsetContext, newTable.getSourceTableId(),
+                    new SqlServerSchemaChangeEventEmitter(partition, offsetContext, newTable, tableSchema, schema,
+                            SchemaChangeEventType.ALTER));
+            newTable.setSourceTable(tableSchema);
         }
-        dispatcher.dispatchSchemaChangeEvent(partition, offsetContext, newTable.getSourceTableId(),
-                new SqlServerSchemaChangeEventEmitter(partition, offsetContext, newTable, tableSchema, schema,
-                        SchemaChangeEventType.ALTER));
-        newTable.setSourceTable(tableSchema);
     }
 
     private SqlServerChangeTable[] processErrorFromChangeTableQuery(String databaseName, SQLException exception,
@@ -422,7 +496,7 @@ private SqlServerChangeTable[] processErrorFromChangeTableQuery(String databaseN
     }
 
     private SqlServerChangeTable[] getChangeTablesToQuery(SqlServerPartition partition, SqlServerOffsetContext offsetContext,
-                                                          Lsn toLsn)
+                                                          Lsn toLsn, SqlServerConnection dataConnection)
             throws SQLException, InterruptedException {
         final String databaseName = partition.getDatabaseName();
         final List<SqlServerChangeTable> changeTables = dataConnection.getChangeTables(databaseName, toLsn);
@@ -464,30 +538,32 @@ private SqlServerChangeTable[] getChangeTablesToQuery(SqlServerPartition partiti
                 tables.add(futureTable);
                 LOGGER.info("Multiple capture instances present for the same table: {} and {}", currentTable, futureTable);
             }
-            if (schema.tableFor(currentTable.getSourceTableId()) == null) {
-                LOGGER.info("Table {} is new to be monitored by capture instance {}", currentTable.getSourceTableId(), currentTable.getCaptureInstance());
-                // We need to read the source table schema - nullability information cannot be obtained from change table
-                // There might be no start LSN in the new change table at this time so current timestamp is used
-                offsetContext.event(
-                        currentTable.getSourceTableId(),
-                        Instant.now());
-                dispatcher.dispatchSchemaChangeEvent(
-                        partition,
-                        offsetContext,
-                        currentTable.getSourceTableId(),
-                        new SqlServerSchemaChangeEventEmitter(
-                                partition,
-                                offsetContext,
-                                currentTable,
-                                dataConnection.getTableSchemaFromTable(databaseName, currentTable),
-                                schema,
-                                SchemaChangeEventType.CREATE));
-            }
+            synchronized (dispatchLock) {
+                if (schema.tableFor(currentTable.getSourceTableId()) == null) {
+                    LOGGER.info("Table {} is new to be monitored by capture instance {}", currentTable.getSourceTableId(), currentTable.getCaptureInstance());
+                    // We need to read the source table schema - nullability information cannot be obtained from change table
+                    // There might be no start LSN in the new change table at this time so current timestamp is used
+                    offsetContext.event(
+                            currentTable.getSourceTableId(),
+                            Instant.now());
+                    dispatcher.dispatchSchemaChangeEvent(
+                            partition,
+                            offsetContext,
+                            currentTable.getSourceTableId(),
+                            new SqlServerSchemaChangeEventEmitter(
+                                    partition,
+                                    offsetContext,
+                                    currentTable,
+                                    dataConnection.getTableSchemaFromTable(databaseName, currentTable),
+                                    schema,
+                                    SchemaChangeEventType.CREATE));
+                }
 
-            // If a column was renamed, then the old capture instance had been dropped and a new one
-            // created. In consequence, a table with out-dated schema might be assigned here.
-            // A proper value will be set when migration happens.
-            currentTable.setSourceTable(schema.tableFor(currentTable.getSourceTableId()));
+                // If a column was renamed, then the old capture instance had been dropped and a new one
+                // created. In consequence, a table with out-dated schema might be assigned here.
+                // A proper value will be set when migration happens.
+                currentTable.setSourceTable(schema.tableFor(currentTable.getSourceTableId()));
+            }
             tables.add(currentTable);
         }
 
@@ -558,4 +634,40 @@ public void commitOffset(Map<String, ?> sourcePartition, Map<String, ?> offset)
             }
         }
     }
+
+    /**
+     * The connections used by a single streaming thread.
+     */
+    private class StreamingConnections {
+
+        /**
+         * Connection used for reading CDC tables.
+         */
+        private final SqlServerConnection dataConnection;
+
+        /**
+         * A separate connection for retrieving details of the schema changes; without it, adaptive buffering will not work.
+         *
+         * @link https://docs.microsoft.com/en-us/sql/connect/jdbc/using-adaptive-buffering?view=sql-server-2017#guidelines-for-using-adaptive-buffering
+         */
+        private final SqlServerConnection metadataConnection;
+
+        private final ElapsedTimeStrategy pauseBetweenCommits;
+
+        StreamingConnections(SqlServerConnection dataConnection, SqlServerConnection metadataConnection) {
+            this.dataConnection = dataConnection;
+            this.metadataConnection = metadataConnection;
+            this.pauseBetweenCommits = ElapsedTimeStrategy.constant(clock, intervalBetweenCommits.toMillis());
+        }
+
+        void close() {
+            try {
+                dataConnection.close();
+                metadataConnection.close();
+            }
+            catch (SQLException e) {
+                LOGGER.warn("Failed to close streaming connections", e);
+            }
+        }
+    }
 }
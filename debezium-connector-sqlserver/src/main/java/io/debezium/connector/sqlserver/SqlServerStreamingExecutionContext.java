@@ -22,6 +22,7 @@ public class SqlServerStreamingExecutionContext {
     private TxLogPosition lastProcessedPosition;
     private final AtomicBoolean changesStoppedBeingMonotonic;
     private boolean shouldIncreaseFromLsn;
+    private boolean checkAgent = true;
 
     public SqlServerStreamingExecutionContext(PriorityQueue<SqlServerChangeTable> schemaChangeCheckpoints, AtomicReference<SqlServerChangeTable[]> tablesSlot,
                                               TxLogPosition changePosition, AtomicBoolean changesStoppedBeingMonotonic, boolean snapshotCompleted) {
@@ -59,4 +60,12 @@ public AtomicBoolean getChangesStoppedBeingMonotonic() {
     public boolean getShouldIncreaseFromLsn() {
         return shouldIncreaseFromLsn;
     }
+
+    public boolean getCheckAgent() {
+        return checkAgent;
+    }
+
+    public void setCheckAgent(boolean checkAgent) {
+        this.checkAgent = checkAgent;
+    }
 }
@@ -124,6 +124,10 @@ void currentChunk(String chunkId, Object[] chunkFrom, Object[] chunkTo, Object t
         snapshotMeter.currentChunk(chunkId, chunkFrom, chunkTo, tableTo);
     }
 
+    void currentChunkSize(int chunkSize) {
+        snapshotMeter.currentChunkSize(chunkSize);
+    }
+
     @Override
     public String getChunkId() {
         return snapshotMeter.getChunkId();
@@ -139,6 +143,11 @@ public String getChunkTo() {
         return snapshotMeter.getChunkTo();
     }
 
+    @Override
+    public int getChunkSize() {
+        return snapshotMeter.getChunkSize();
+    }
+
     @Override
     public String getTableFrom() {
         return snapshotMeter.getTableFrom();
@@ -87,4 +87,9 @@ public void currentChunk(SqlServerPartition partition, String chunkId, Object[]
     public void currentChunk(SqlServerPartition partition, String chunkId, Object[] chunkFrom, Object[] chunkTo, Object[] tableTo) {
         onPartitionEvent(partition, bean -> bean.currentChunk(chunkId, chunkFrom, chunkTo, tableTo));
     }
+
+    @Override
+    public void currentChunkSize(SqlServerPartition partition, int chunkSize) {
+        onPartitionEvent(partition, bean -> bean.currentChunkSize(chunkSize));
+    }
 }
@@ -46,6 +46,16 @@ public void nonEmptyDatabaseNames() {
         assertTrue(connectorConfig.validateAndRecord(SqlServerConnectorConfig.ALL_FIELDS, LOGGER::error));
     }
 
+    @Test
+    public void invalidStreamingMaxThreads() {
+        final SqlServerConnectorConfig connectorConfig = new SqlServerConnectorConfig(
+                defaultConfig()
+                        .with(SqlServerConnectorConfig.DATABASE_NAMES, "testDB1")
+                        .with(SqlServerConnectorConfig.STREAMING_MAX_THREADS, 0)
+                        .build());
+        assertFalse(connectorConfig.validateAndRecord(SqlServerConnectorConfig.ALL_FIELDS, LOGGER::error));
+    }
+
     @Test
     public void hostnameAndDefaultPortConnectionUrl() {
         final SqlServerConnectorConfig connectorConfig = new SqlServerConnectorConfig(
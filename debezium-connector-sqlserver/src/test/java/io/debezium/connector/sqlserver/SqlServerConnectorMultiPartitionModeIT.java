@@ -120,6 +120,44 @@ public void snapshotAndStreaming() throws Exception {
         assertValue(tableA2.get(0), "colA", "a2s");
     }
 
+    @Test
+    public void streamingWithMultipleThreads() throws Exception {
+        final Configuration config = TestHelper.defaultConfig(
+                TestHelper.TEST_DATABASE_1,
+                TestHelper.TEST_DATABASE_2)
+                .with(SqlServerConnectorConfig.SNAPSHOT_MODE, SqlServerConnectorConfig.SnapshotMode.INITIAL)
+                .with(SqlServerConnectorConfig.STREAMING_MAX_THREADS, 2)
+                .build();
+        start(SqlServerConnector.class, config);
+        assertConnectorIsRunning();
+
+        TestHelper.waitForDatabaseSnapshotsToBeCompleted(TestHelper.TEST_DATABASE_1, TestHelper.TEST_DATABASE_2);
+        consumeRecordsByTopic(4);
+        TestHelper.waitForStreamingStarted();
+
+        final int recordsPerDatabase = 10;
+        for (int i = 0; i < recordsPerDatabase; i++) {
+            connection.execute(
+                    "USE " + TestHelper.TEST_DATABASE_1,
+                    "INSERT INTO tableA VALUES(" + (100 + i) + ", 'a1-" + i + "')");
+            connection.execute(
+                    "USE " + TestHelper.TEST_DATABASE_2,
+                    "INSERT INTO tableA VALUES(" + (200 + i) + ", 'a2-" + i + "')");
+        }
+
+        final SourceRecords records = consumeRecordsByTopic(2 * recordsPerDatabase);
+
+        final List<SourceRecord> tableA1 = records.recordsForTopic(TestHelper.topicName(TestHelper.TEST_DATABASE_1, "tableA"));
+        final List<SourceRecord> tableA2 = records.recordsForTopic(TestHelper.topicName(TestHelper.TEST_DATABASE_2, "tableA"));
+        assertThat(tableA1).hasSize(recordsPerDatabase);
+        assertThat(tableA2).hasSize(recordsPerDatabase);
+        // The changes of each database are streamed in order
+        for (int i = 0; i < recordsPerDatabase; i++) {
+            assertValue(tableA1.get(i), "colA", "a1-" + i);
+            assertValue(tableA2.get(i), "colA", "a2-" + i);
+        }
+    }
+
     private void assertValue(SourceRecord record, String fieldName, Object expected) {
         final Struct value = (Struct) record.value();
         final Struct after = (Struct) value.get("after");
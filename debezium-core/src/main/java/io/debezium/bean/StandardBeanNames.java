@@ -7,6 +7,7 @@
 
 import io.debezium.config.Configuration;
 import io.debezium.connector.common.CdcSourceTaskContext;
+import io.debezium.jdbc.ConnectionFactory;
 import io.debezium.jdbc.JdbcConnection;
 import io.debezium.pipeline.source.AbstractSnapshotChangeEventSource;
 import io.debezium.pipeline.spi.Offsets;
@@ -46,6 +47,12 @@ public interface StandardBeanNames {
     // and then replace this name key as CONNECTION_FACTORY regardless of the connector.
     String JDBC_CONNECTION = JdbcConnection.class.getName();
 
+    /**
+     * The connector-specific factory of {@link #JDBC_CONNECTION JDBC connections}, for components that
+     * need a connection of their own, e.g. because they run on another thread.
+     */
+    String JDBC_CONNECTION_FACTORY = ConnectionFactory.class.getName();
+
     /**
      * The connector-specific offsets.
      */
@@ -700,6 +700,67 @@ public static SnapshotQueryMode parse(String value, String defaultValue) {
                     "This doesn't affect the snapshot events' values, but the schema of snapshot events may have outdated defaults.")
             .withDefault(Boolean.FALSE);
 
+    public static final Field INCREMENTAL_SNAPSHOT_CHUNK_SIZE_ADAPTIVE = Field.create("incremental.snapshot.chunk.size.adaptive")
+            .withDisplayName("Adaptive incremental snapshot chunk size")
+            .withType(Type.BOOLEAN)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Whether the size of each incremental snapshot chunk is adapted per table, starting from '"
+                    + "incremental.snapshot.chunk.size'. When enabled, the connector resizes the chunks of each table "
+                    + "so that a window stays within 'incremental.snapshot.window.target.bytes' and "
+                    + "'incremental.snapshot.window.target.duration.ms', based on the observed row size, query latency "
+                    + "and time taken to dispatch the previous window.")
+            .withDefault(Boolean.FALSE);
+
+    public static final Field INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MIN = Field.create("incremental.snapshot.chunk.size.min")
+            .withDisplayName("Minimum adaptive incremental snapshot chunk size")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The minimum number of rows in an incremental snapshot chunk when 'incremental.snapshot.chunk.size.adaptive' is enabled.")
+            .withDefault(64)
+            .withValidation(Field::isPositiveInteger);
+
+    public static final Field INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MAX = Field.create("incremental.snapshot.chunk.size.max")
+            .withDisplayName("Maximum adaptive incremental snapshot chunk size")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The maximum number of rows in an incremental snapshot chunk when 'incremental.snapshot.chunk.size.adaptive' is enabled.")
+            .withDefault(65_536)
+            .withValidation(Field::isPositiveInteger);
+
+    public static final Field INCREMENTAL_SNAPSHOT_WINDOW_TARGET_BYTES = Field.create("incremental.snapshot.window.target.bytes")
+            .withDisplayName("Target incremental snapshot window size in bytes")
+            .withType(Type.LONG)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The approximate number of bytes of row data that an incremental snapshot window should hold "
+                    + "when 'incremental.snapshot.chunk.size.adaptive' is enabled.")
+            .withDefault(32L * 1024 * 1024)
+            .withValidation(Field::isPositiveLong);
+
+    public static final Field INCREMENTAL_SNAPSHOT_WINDOW_TARGET_DURATION_MS = Field.create("incremental.snapshot.window.target.duration.ms")
+            .withDisplayName("Target incremental snapshot window duration (ms)")
+            .withType(Type.LONG)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The time in milliseconds that reading an incremental snapshot chunk and dispatching its window should take "
+                    + "when 'incremental.snapshot.chunk.size.adaptive' is enabled.")
+            .withDefault(2_000L)
+            .withValidation(Field::isPositiveLong);
+
+    public static final Field INCREMENTAL_SNAPSHOT_MAX_THREADS = Field.create("incremental.snapshot.max.threads")
+            .withDisplayName("Incremental snapshot maximum threads")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The maximum number of tables that an incremental snapshot reads concurrently, each on its own database connection. "
+                    + "The chunks of these tables are read within the same watermark window, and each table keeps its own window buffer "
+                    + "for deduplication against streamed events. Defaults to 1, which snapshots one table at a time.")
+            .withDefault(1)
+            .withValidation(Field::isPositiveInteger);
+
     public static final Field SNAPSHOT_MODE_TABLES = Field.create("snapshot.include.collection.list")
             .withDisplayName("Snapshot mode include data collection")
             .withType(Type.LIST)
@@ -1312,6 +1373,12 @@ public static SnapshotQueryMode parse(String value, String defaultValue) {
                     QUERY_FETCH_SIZE,
                     MAX_RETRIES_ON_ERROR,
                     INCREMENTAL_SNAPSHOT_WATERMARKING_STRATEGY,
+                    INCREMENTAL_SNAPSHOT_CHUNK_SIZE_ADAPTIVE,
+                    INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MIN,
+                    INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MAX,
+                    INCREMENTAL_SNAPSHOT_WINDOW_TARGET_BYTES,
+                    INCREMENTAL_SNAPSHOT_WINDOW_TARGET_DURATION_MS,
+                    INCREMENTAL_SNAPSHOT_MAX_THREADS,
                     LOG_POSITION_CHECK_ENABLED,
                     ADVANCED_METRICS_ENABLE,
                     CONNECTION_VALIDATION_TIMEOUT_MS,
@@ -1555,6 +1622,30 @@ public int getIncrementalSnapshotChunkSize() {
         return incrementalSnapshotChunkSize;
     }
 
+    public boolean isIncrementalSnapshotChunkSizeAdaptive() {
+        return config.getBoolean(INCREMENTAL_SNAPSHOT_CHUNK_SIZE_ADAPTIVE);
+    }
+
+    public int getIncrementalSnapshotChunkSizeMin() {
+        return config.getInteger(INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MIN);
+    }
+
+    public int getIncrementalSnapshotChunkSizeMax() {
+        return config.getInteger(INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MAX);
+    }
+
+    public long getIncrementalSnapshotWindowTargetBytes() {
+        return config.getLong(INCREMENTAL_SNAPSHOT_WINDOW_TARGET_BYTES);
+    }
+
+    public Duration getIncrementalSnapshotWindowTargetDuration() {
+        return Duration.ofMillis(config.getLong(INCREMENTAL_SNAPSHOT_WINDOW_TARGET_DURATION_MS));
+    }
+
+    public int getIncrementalSnapshotMaxThreads() {
+        return config.getInteger(INCREMENTAL_SNAPSHOT_MAX_THREADS);
+    }
+
     public String getNotificationTopic() {
         return notificationTopicName;
     }
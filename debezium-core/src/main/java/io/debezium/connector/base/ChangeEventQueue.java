@@ -5,35 +5,17 @@
  */
 package io.debezium.connector.base;
 
-import static io.debezium.util.Loggings.maybeRedactSensitiveData;
-
 import java.time.Duration;
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 import io.debezium.annotation.SingleThreadAccess;
 import io.debezium.annotation.ThreadSafe;
-import io.debezium.config.ConfigurationDefaults;
 import io.debezium.pipeline.Sizeable;
-import io.debezium.time.Temporals;
-import io.debezium.util.Clock;
 import io.debezium.util.LoggingContext;
 import io.debezium.util.LoggingContext.PreviousContext;
-import io.debezium.util.Threads;
-import io.debezium.util.Threads.Timer;
 
 /**
  * A queue which serves as handover point between producer threads (e.g. MySQL's
@@ -51,6 +33,10 @@
  * operation. Upon the next call to {@link #poll()}, that exception will be
  * raised, causing Kafka Connect to stop the connector and mark it as
  * {@code FAILED}.
+ * <p>
+ * This class holds the configuration, the single cell buffer and the producer exception; the storage of the
+ * records is left to the implementations selected by the {@link Builder}, i.e. the lock-based
+ * {@link LockingChangeEventQueue} and the lock-free {@link RingBufferChangeEventQueue}.
  *
  * @author Gunnar Morling
  *
@@ -61,23 +47,13 @@
  *            may be used.
  */
 @ThreadSafe
-public class ChangeEventQueue<T extends Sizeable> implements ChangeEventQueueMetrics {
-
-    private static final Logger LOGGER = LoggerFactory.getLogger(ChangeEventQueue.class);
-
-    private final Duration pollInterval;
-    private final int maxBatchSize;
-    private final int maxQueueSize;
-    private final long maxQueueSizeInBytes;
-
-    private final Lock lock;
-    private final Condition isFull;
-    private final Condition isNotFull;
+public abstract class ChangeEventQueue<T extends Sizeable> implements ChangeEventQueueMetrics {
 
-    private final Queue<T> queue;
-    private final Supplier<PreviousContext> loggingContextSupplier;
-    private final Queue<Long> sizeInBytesQueue;
-    private long currentQueueSizeInBytes = 0;
+    protected final Duration pollInterval;
+    protected final int maxBatchSize;
+    protected final int maxQueueSize;
+    protected final long maxQueueSizeInBytes;
+    protected final Supplier<PreviousContext> loggingContextSupplier;
 
     // Sometimes it is necessary to update the record before it is delivered depending on the content
     // of the following record. In that cases the easiest solution is to provide a single cell buffer
@@ -91,19 +67,12 @@
 
     private volatile RuntimeException producerException;
 
-    private ChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSize, Supplier<LoggingContext.PreviousContext> loggingContextSupplier,
-                             long maxQueueSizeInBytes, boolean buffering) {
+    protected ChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSize, Supplier<LoggingContext.PreviousContext> loggingContextSupplier,
+                               long maxQueueSizeInBytes, boolean buffering) {
         this.pollInterval = pollInterval;
         this.maxBatchSize = maxBatchSize;
         this.maxQueueSize = maxQueueSize;
-
-        this.lock = new ReentrantLock();
-        this.isFull = lock.newCondition();
-        this.isNotFull = lock.newCondition();
-
-        this.queue = new ArrayDeque<>(maxQueueSize);
         this.loggingContextSupplier = loggingContextSupplier;
-        this.sizeInBytesQueue = new ArrayDeque<>(maxQueueSize);
         this.maxQueueSizeInBytes = maxQueueSizeInBytes;
         this.buffering = buffering;
     }
@@ -116,6 +85,7 @@ private ChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSi
         private Supplier<LoggingContext.PreviousContext> loggingContextSupplier;
         private long maxQueueSizeInBytes;
         private boolean buffering;
+        private boolean ringBuffer;
 
         public Builder<T> pollInterval(Duration pollInterval) {
             this.pollInterval = pollInterval;
@@ -147,8 +117,20 @@ public Builder<T> buffering() {
             return this;
         }
 
+        /**
+         * Selects the lock-free {@link RingBufferChangeEventQueue} implementation, which supports multiple
+         * producers but only a single consumer.
+         */
+        public Builder<T> ringBuffer() {
+            this.ringBuffer = true;
+            return this;
+        }
+
         public ChangeEventQueue<T> build() {
-            return new ChangeEventQueue<T>(pollInterval, maxQueueSize, maxBatchSize, loggingContextSupplier, maxQueueSizeInBytes, buffering);
+            if (ringBuffer) {
+                return new RingBufferChangeEventQueue<T>(pollInterval, maxQueueSize, maxBatchSize, loggingContextSupplier, maxQueueSizeInBytes, buffering);
+            }
+            return new LockingChangeEventQueue<T>(pollInterval, maxQueueSize, maxBatchSize, loggingContextSupplier, maxQueueSizeInBytes, buffering);
         }
     }
 
@@ -211,39 +193,10 @@ public void enableBuffering() {
         buffering = true;
     }
 
-    protected void doEnqueue(T record) throws InterruptedException {
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace("Enqueuing source record '{}'", maybeRedactSensitiveData(record));
-        }
-
-        try {
-            this.lock.lock();
-
-            while (queue.size() >= maxQueueSize || (maxQueueSizeInBytes > 0 && currentQueueSizeInBytes >= maxQueueSizeInBytes)) {
-                // signal poll() to drain queue
-                this.isFull.signalAll();
-                // queue size or queue sizeInBytes threshold reached, so wait a bit
-                this.isNotFull.await(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
-            }
-
-            queue.add(record);
-            // If we pass a positiveLong max.queue.size.in.bytes to enable handling queue size in bytes feature
-            if (maxQueueSizeInBytes > 0) {
-                long messageSize = record.objectSize();
-                sizeInBytesQueue.add(messageSize);
-                currentQueueSizeInBytes += messageSize;
-            }
-
-            // batch size or queue sizeInBytes threshold reached
-            if (queue.size() >= maxBatchSize || (maxQueueSizeInBytes > 0 && currentQueueSizeInBytes >= maxQueueSizeInBytes)) {
-                // signal poll() to start draining queue and do not wait
-                this.isFull.signalAll();
-            }
-        }
-        finally {
-            this.lock.unlock();
-        }
-    }
+    /**
+     * Adds a record to the storage of the queue, blocking while the queue is full.
+     */
+    protected abstract void doEnqueue(T record) throws InterruptedException;
 
     /**
      * Returns the next batch of elements from this queue. May be empty in case no
@@ -253,70 +206,22 @@ protected void doEnqueue(T record) throws InterruptedException {
      *             if this thread has been interrupted while waiting for more
      *             elements to arrive
      */
-    public List<T> poll() throws InterruptedException {
-        LoggingContext.PreviousContext previousContext = loggingContextSupplier.get();
-
-        try {
-            LOGGER.debug("polling records...");
-            final Timer timeout = Threads.timer(Clock.SYSTEM, Temporals.min(pollInterval, ConfigurationDefaults.RETURN_CONTROL_INTERVAL));
-            try {
-                this.lock.lock();
-                List<T> records = new ArrayList<>(Math.min(maxBatchSize, queue.size()));
-                throwProducerExceptionIfPresent();
-                while (drainRecords(records, maxBatchSize - records.size()) < maxBatchSize
-                        && (maxQueueSizeInBytes == 0 || currentQueueSizeInBytes < maxQueueSizeInBytes)
-                        && !timeout.expired()) {
-                    throwProducerExceptionIfPresent();
-
-                    LOGGER.debug("no records available or batch size not reached yet, sleeping a bit...");
-                    long remainingTimeoutMills = timeout.remaining().toMillis();
-                    if (remainingTimeoutMills > 0) {
-                        // signal doEnqueue() to add more records
-                        this.isNotFull.signalAll();
-                        // no records available or batch size not reached yet, so wait a bit
-                        this.isFull.await(remainingTimeoutMills, TimeUnit.MILLISECONDS);
-                    }
-                    LOGGER.debug("checking for more records...");
-                }
-                // signal doEnqueue() to add more records
-                this.isNotFull.signalAll();
-                return records;
-            }
-            finally {
-                this.lock.unlock();
-            }
-        }
-        finally {
-            previousContext.restore();
-        }
-    }
+    public abstract List<T> poll() throws InterruptedException;
 
-    private long drainRecords(List<T> records, int maxElements) {
-        int queueSize = queue.size();
-        if (queueSize == 0) {
-            return records.size();
-        }
-        int recordsToDrain = Math.min(queueSize, maxElements);
-        T[] drainedRecords = (T[]) new Sizeable[recordsToDrain];
-        for (int i = 0; i < recordsToDrain; i++) {
-            T record = queue.poll();
-            drainedRecords[i] = record;
-        }
-        if (maxQueueSizeInBytes > 0) {
-            for (int i = 0; i < recordsToDrain; i++) {
-                Long objectSize = sizeInBytesQueue.poll();
-                currentQueueSizeInBytes -= (objectSize == null ? 0L : objectSize);
-            }
-        }
-        records.addAll(Arrays.asList(drainedRecords));
-        return records.size();
-    }
+    /**
+     * Counts a size towards the size in bytes of the queue until the next {@link #poll()}, e.g. the size of values
+     * that post processors added to the records of the last polled batch, which are held in memory until then.
+     * Has no effect unless the queue is limited by its size in bytes.
+     *
+     * @param sizeInBytes the size to count
+     */
+    public abstract void addToPolledBatchSizeInBytes(long sizeInBytes);
 
     public void producerException(final RuntimeException producerException) {
         this.producerException = producerException;
     }
 
-    private void throwProducerExceptionIfPresent() {
+    protected void throwProducerExceptionIfPresent() {
         if (producerException != null) {
             throw producerException;
         }
@@ -327,21 +232,11 @@ public int totalCapacity() {
         return maxQueueSize;
     }
 
-    @Override
-    public int remainingCapacity() {
-        return maxQueueSize - queue.size();
-    }
-
     @Override
     public long maxQueueSizeInBytes() {
         return maxQueueSizeInBytes;
     }
 
-    @Override
-    public long currentQueueSizeInBytes() {
-        return currentQueueSizeInBytes;
-    }
-
     public boolean isBuffered() {
         return buffering;
     }
@@ -0,0 +1,274 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.base;
+
+import static io.debezium.util.Loggings.maybeRedactSensitiveData;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.SingleThreadAccess;
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.config.ConfigurationDefaults;
+import io.debezium.pipeline.Sizeable;
+import io.debezium.time.Temporals;
+import io.debezium.util.Clock;
+import io.debezium.util.LoggingContext;
+import io.debezium.util.Threads;
+import io.debezium.util.Threads.Timer;
+
+/**
+ * A {@link ChangeEventQueue} backed by a bounded multi-producer, single-consumer ring buffer.
+ * <p>
+ * Producers claim a slot with a single compare-and-set and publish the record without taking a lock; the
+ * consumer drains all published records up to the batch size in one pass. Producers and the consumer only
+ * block, and only then synchronize, when the queue is full or when the consumer waits for a batch to fill up.
+ * The size in bytes of each record is stored alongside it in the ring so that it is computed only once.
+ * <p>
+ * This implementation supports a single consumer thread calling {@link #poll()}, which is the case for the
+ * Kafka Connect polling loop and the embedded engine.
+ *
+ * @param <T> the type of events in this queue
+ */
+@ThreadSafe
+class RingBufferChangeEventQueue<T extends Sizeable> extends ChangeEventQueue<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RingBufferChangeEventQueue.class);
+
+    /**
+     * The time the consumer parks while the next record has been claimed but is not published yet.
+     */
+    private static final long PUBLISH_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final int mask;
+    private final AtomicReferenceArray<T> buffer;
+    private final long[] sizesInBytes;
+
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+    private final AtomicLong currentQueueSizeInBytes = new AtomicLong();
+    @SingleThreadAccess("consumer thread")
+    private long polledBatchSizeInBytes;
+
+    private final Object notFull = new Object();
+    private volatile int waitingProducers = 0;
+    private volatile Thread waitingConsumer;
+
+    RingBufferChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSize, Supplier<LoggingContext.PreviousContext> loggingContextSupplier,
+                               long maxQueueSizeInBytes, boolean buffering) {
+        super(pollInterval, maxQueueSize, maxBatchSize, loggingContextSupplier, maxQueueSizeInBytes, buffering);
+
+        final int capacity = ceilingPowerOfTwo(maxQueueSize);
+        this.mask = capacity - 1;
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.sizesInBytes = new long[capacity];
+    }
+
+    @Override
+    protected void doEnqueue(T record) throws InterruptedException {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("Enqueuing source record '{}'", maybeRedactSensitiveData(record));
+        }
+
+        final long messageSize = maxQueueSizeInBytes > 0 ? record.objectSize() : 0;
+        while (!offer(record, messageSize)) {
+            awaitNotFull();
+        }
+
+        // batch size or queue sizeInBytes threshold reached, wake up poll() to start draining the queue
+        if (size() >= maxBatchSize || isSizeInBytesExceeded()) {
+            final Thread consumer = waitingConsumer;
+            if (consumer != null) {
+                LockSupport.unpark(consumer);
+            }
+        }
+    }
+
+    private boolean offer(T record, long messageSize) {
+        if (isSizeInBytesExceeded()) {
+            return false;
+        }
+
+        long index;
+        do {
+            index = producerIndex.get();
+            if (index - consumerIndex.get() >= maxQueueSize) {
+                return false;
+            }
+        } while (!producerIndex.compareAndSet(index, index + 1));
+
+        final int slot = (int) index & mask;
+        sizesInBytes[slot] = messageSize;
+        currentQueueSizeInBytes.addAndGet(messageSize);
+        // publishes the size written above as well
+        buffer.lazySet(slot, record);
+        return true;
+    }
+
+    private void awaitNotFull() throws InterruptedException {
+        synchronized (notFull) {
+            waitingProducers++;
+            try {
+                if (isFull()) {
+                    // signal poll() to drain queue
+                    final Thread consumer = waitingConsumer;
+                    if (consumer != null) {
+                        LockSupport.unpark(consumer);
+                    }
+                    // queue size or queue sizeInBytes threshold reached, so wait a bit
+                    notFull.wait(pollInterval.toMillis());
+                }
+            }
+            finally {
+                waitingProducers--;
+            }
+        }
+    }
+
+    private void signalNotFull() {
+        if (waitingProducers > 0) {
+            synchronized (notFull) {
+                notFull.notifyAll();
+            }
+        }
+    }
+
+    @Override
+    public List<T> poll() throws InterruptedException {
+        LoggingContext.PreviousContext previousContext = loggingContextSupplier.get();
+
+        try {
+            LOGGER.debug("polling records...");
+            final Timer timeout = Threads.timer(Clock.SYSTEM, Temporals.min(pollInterval, ConfigurationDefaults.RETURN_CONTROL_INTERVAL));
+            releasePolledBatchSize();
+            final List<T> records = new ArrayList<>(Math.min(maxBatchSize, size()));
+            throwProducerExceptionIfPresent();
+            while (drainRecords(records, maxBatchSize - records.size()) < maxBatchSize
+                    && !isSizeInBytesExceeded()
+                    && !timeout.expired()) {
+                throwProducerExceptionIfPresent();
+
+                LOGGER.debug("no records available or batch size not reached yet, sleeping a bit...");
+                long remainingTimeoutMills = timeout.remaining().toMillis();
+                if (remainingTimeoutMills > 0) {
+                    waitingConsumer = Thread.currentThread();
+                    try {
+                        // re-check after publishing the waiting consumer so that a wake-up by a producer cannot be missed
+                        if (size() < maxBatchSize - records.size() && !isSizeInBytesExceeded()) {
+                            LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(remainingTimeoutMills));
+                        }
+                        else if (isNextRecordUnpublished()) {
+                            // a producer has claimed the next slot but not written the record yet, back off instead of spinning
+                            LockSupport.parkNanos(this, Math.min(PUBLISH_WAIT_NANOS, TimeUnit.MILLISECONDS.toNanos(remainingTimeoutMills)));
+                        }
+                    }
+                    finally {
+                        waitingConsumer = null;
+                    }
+                    if (Thread.interrupted()) {
+                        throw new InterruptedException();
+                    }
+                }
+                LOGGER.debug("checking for more records...");
+            }
+            return records;
+        }
+        finally {
+            previousContext.restore();
+        }
+    }
+
+    @Override
+    @SingleThreadAccess("consumer thread")
+    public void addToPolledBatchSizeInBytes(long sizeInBytes) {
+        if (maxQueueSizeInBytes > 0 && sizeInBytes > 0) {
+            polledBatchSizeInBytes += sizeInBytes;
+            currentQueueSizeInBytes.addAndGet(sizeInBytes);
+        }
+    }
+
+    /**
+     * The records of the previous batch have been handed over when the next one is polled.
+     */
+    @SingleThreadAccess("consumer thread")
+    private void releasePolledBatchSize() {
+        if (polledBatchSizeInBytes > 0) {
+            currentQueueSizeInBytes.addAndGet(-polledBatchSizeInBytes);
+            polledBatchSizeInBytes = 0;
+            signalNotFull();
+        }
+    }
+
+    @SingleThreadAccess("consumer thread")
+    private int drainRecords(List<T> records, int maxElements) {
+        long index = consumerIndex.get();
+        long drainedSizeInBytes = 0;
+        int drained = 0;
+        while (drained < maxElements) {
+            final int slot = (int) index & mask;
+            final T record = buffer.get(slot);
+            if (record == null) {
+                // the slot has been claimed but the record is not published yet, or the queue is empty
+                break;
+            }
+            drainedSizeInBytes += sizesInBytes[slot];
+            buffer.lazySet(slot, null);
+            records.add(record);
+            index++;
+            drained++;
+        }
+        if (drained > 0) {
+            consumerIndex.set(index);
+            if (drainedSizeInBytes > 0) {
+                currentQueueSizeInBytes.addAndGet(-drainedSizeInBytes);
+            }
+            // signal doEnqueue() to add more records
+            signalNotFull();
+        }
+        return records.size();
+    }
+
+    @SingleThreadAccess("consumer thread")
+    private boolean isNextRecordUnpublished() {
+        final long index = consumerIndex.get();
+        return index < producerIndex.get() && buffer.get((int) index & mask) == null;
+    }
+
+    private int size() {
+        return (int) (producerIndex.get() - consumerIndex.get());
+    }
+
+    private boolean isFull() {
+        return size() >= maxQueueSize || isSizeInBytesExceeded();
+    }
+
+    private boolean isSizeInBytesExceeded() {
+        return maxQueueSizeInBytes > 0 && currentQueueSizeInBytes.get() >= maxQueueSizeInBytes;
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return maxQueueSize - size();
+    }
+
+    @Override
+    public long currentQueueSizeInBytes() {
+        return currentQueueSizeInBytes.get();
+    }
+}
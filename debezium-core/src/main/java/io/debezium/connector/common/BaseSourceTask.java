@@ -332,6 +332,9 @@ public final List<SourceRecord> poll() throws InterruptedException {
             }
 
             final List<SourceRecord> records = doPoll();
+            if (coordinator != null) {
+                coordinator.postProcessBatch(records);
+            }
             logStatistics(records);
 
             resetErrorHandlerRetriesIfNeeded(records);
@@ -9,14 +9,17 @@
 import static org.apache.kafka.connect.data.Schema.Type.STRUCT;
 import static org.apache.kafka.connect.transforms.util.Requirements.requireStruct;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -41,6 +44,8 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -63,6 +68,7 @@
 import io.debezium.data.Envelope;
 import io.debezium.pipeline.txmetadata.TransactionMonitor;
 import io.debezium.schema.SchemaNameAdjuster;
+import io.debezium.util.BoundedConcurrentHashMap;
 
 /**
  * Implementation of Converter that express schemas and objects with CloudEvents specification. The serialization
@@ -107,28 +113,48 @@ public class CloudEventsConverter implements Converter, Versioned {
     private static final String DATA_SCHEMA_SUFFIX = "-data";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CloudEventsConverter.class);
-    private static Method CONVERT_TO_CONNECT_METHOD;
+    private static final MethodHandle CONVERT_TO_CONNECT_METHOD;
+    private static final boolean CONVERT_TO_CONNECT_WITH_CONFIG;
+
+    /**
+     * The factory of generators writing structured JSON CloudEvents; the data attribute is appended as-is
+     * after the generator has written the other attributes, so the generator must not close the object itself.
+     */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+    private static final int ENVELOPE_PLAN_CACHE_SIZE = 64;
+    private static final String OPERATION_EXTENSION_NAME = adjustExtensionName(Envelope.FieldName.OPERATION);
+    private static final String[] TX_EXTENSION_NAMES = TransactionMonitor.TRANSACTION_BLOCK_SCHEMA.fields().stream()
+            .map(field -> txExtensionName(field.name()))
+            .toArray(String[]::new);
 
     @Immutable
     private static final Map<String, CloudEventsProvider> PROVIDERS;
 
     static {
+        Method convertToConnect;
         try {
             // Use Kafka 3.5+ method signature
-            CONVERT_TO_CONNECT_METHOD = JsonConverter.class.getDeclaredMethod("convertToConnect", Schema.class, JsonNode.class, JsonConverterConfig.class);
-            CONVERT_TO_CONNECT_METHOD.setAccessible(true);
+            convertToConnect = JsonConverter.class.getDeclaredMethod("convertToConnect", Schema.class, JsonNode.class, JsonConverterConfig.class);
             LOGGER.info("Using up-to-date JsonConverter implementation");
         }
         catch (NoSuchMethodException e) {
             try {
-                CONVERT_TO_CONNECT_METHOD = JsonConverter.class.getDeclaredMethod("convertToConnect", Schema.class, JsonNode.class);
-                CONVERT_TO_CONNECT_METHOD.setAccessible(true);
+                convertToConnect = JsonConverter.class.getDeclaredMethod("convertToConnect", Schema.class, JsonNode.class);
                 LOGGER.info("Using legacy JsonConverter implementation");
             }
             catch (NoSuchMethodException ei) {
                 throw new DataException(ei);
             }
         }
+        try {
+            // A method handle avoids the argument boxing and access checks of a reflective call on every record
+            convertToConnect.setAccessible(true);
+            CONVERT_TO_CONNECT_METHOD = MethodHandles.lookup().unreflect(convertToConnect);
+            CONVERT_TO_CONNECT_WITH_CONFIG = convertToConnect.getParameterCount() == 3;
+        }
+        catch (IllegalAccessException e) {
+            throw new DataException(e);
+        }
 
         Map<String, CloudEventsProvider> foundProviders = new HashMap<>();
 
@@ -163,6 +189,9 @@ public class CloudEventsConverter implements Converter, Versioned {
 
     private final CloudEventsValidator cloudEventsValidator = new CloudEventsValidator();
 
+    private final BoundedConcurrentHashMap<EnvelopePlanKey, EnvelopePlan> envelopePlans = new BoundedConcurrentHashMap<>(ENVELOPE_PLAN_CACHE_SIZE);
+    private volatile EnvelopePlan lastEnvelopePlan;
+
     public CloudEventsConverter() {
         this(null);
     }
@@ -295,30 +324,11 @@ public byte[] fromConnectData(String topic, Headers headers, Schema schema, Obje
                 (schemaRegistryUrls == null) ? null : String.join(",", schemaRegistryUrls), cloudEventsSchemaName);
 
         if (ceSerializerType == SerializerType.JSON) {
+            // JSON - JSON; the attributes are written directly and followed by the JSON data, with or without schema;
+            // the event itself must not have schema enabled, so to be a proper CloudEvent
             if (dataSerializerType == SerializerType.JSON) {
-                // JSON - JSON (with schema in data)
-                if (enableJsonSchemas) {
-                    SchemaBuilder dummy = SchemaBuilder.struct();
-                    SchemaAndValue cloudEvent = convertToCloudEventsFormat(recordAndMetadata, maker, dummy, null, new Struct(dummy));
-
-                    // need to create a JSON node with schema + payload first
-                    byte[] data = jsonDataConverter.fromConnectData(topic, maker.ceDataAttributeSchema(), maker.ceDataAttribute());
-
-                    // replace the dummy '{}' in '"data" : {}' with the schema + payload JSON node;
-                    // the event itself must not have schema enabled, so to be a proper CloudEvent
-                    byte[] cloudEventJson = jsonCloudEventsConverter.fromConnectData(topic, cloudEvent.schema(), cloudEvent.value());
-
-                    ByteBuffer cloudEventWithData = ByteBuffer.allocate(cloudEventJson.length + data.length - 2);
-                    cloudEventWithData.put(cloudEventJson, 0, cloudEventJson.length - 3);
-                    cloudEventWithData.put(data);
-                    cloudEventWithData.put((byte) '}');
-                    return cloudEventWithData.array();
-                }
-                // JSON - JSON (without schema); can just use the regular JSON converter for the entire event
-                else {
-                    SchemaAndValue cloudEvent = convertToCloudEventsFormat(recordAndMetadata, maker, maker.ceDataAttributeSchema(), null, maker.ceDataAttribute());
-                    return jsonCloudEventsConverter.fromConnectData(topic, cloudEvent.schema(), cloudEvent.value());
-                }
+                byte[] data = jsonDataConverter.fromConnectData(topic, maker.ceDataAttributeSchema(), maker.ceDataAttribute());
+                return writeJsonCloudEvent(recordAndMetadata, maker, data);
             }
             // JSON - Avro; need to convert "data" to Avro first
             else {
@@ -360,11 +370,10 @@ private Struct getSource(Struct record, Headers headers) {
      * Creates a CloudEvents wrapper, converting the "data" to Avro.
      */
     private SchemaAndValue convertToCloudEventsFormatWithDataAsAvro(String topic, RecordAndMetadata recordAndMetadata, CloudEventsMaker maker) {
-        Schema dataSchemaType = Schema.BYTES_SCHEMA;
         byte[] serializedData = avroConverter.fromConnectData(topic, maker.ceDataAttributeSchema(), maker.ceDataAttribute());
         String dataSchemaUri = maker.ceDataschemaUri(getSchemaIdFromAvroMessage(serializedData));
 
-        return convertToCloudEventsFormat(recordAndMetadata, maker, dataSchemaType, dataSchemaUri, serializedData);
+        return convertToCloudEventsFormat(recordAndMetadata, maker, dataSchemaUri, serializedData);
     }
 
     /**
@@ -456,18 +465,19 @@ private SchemaAndValue reconvertData(String topic, JsonNode data, SerializerType
 
                     Schema schema = jsonCloudEventsConverter.asConnectSchema(jsonValue.get(CloudEventsMaker.FieldName.SCHEMA_FIELD_NAME));
 
+                    final JsonNode payload = jsonValue.get(CloudEventsMaker.FieldName.PAYLOAD_FIELD_NAME);
                     try {
                         // Kafka 3.5+ requires additional argument
                         return new SchemaAndValue(schema,
-                                (CONVERT_TO_CONNECT_METHOD.getParameterCount() == 2)
-                                        ? CONVERT_TO_CONNECT_METHOD.invoke(jsonCloudEventsConverter, schema,
-                                                jsonValue.get(CloudEventsMaker.FieldName.PAYLOAD_FIELD_NAME))
-                                        : CONVERT_TO_CONNECT_METHOD.invoke(jsonCloudEventsConverter, schema,
-                                                jsonValue.get(CloudEventsMaker.FieldName.PAYLOAD_FIELD_NAME),
-                                                jsonCloudEventsConverterConfig));
+                                CONVERT_TO_CONNECT_WITH_CONFIG
+                                        ? CONVERT_TO_CONNECT_METHOD.invoke(schema, payload, jsonCloudEventsConverterConfig)
+                                        : CONVERT_TO_CONNECT_METHOD.invoke(schema, payload));
                     }
-                    catch (IllegalAccessException | InvocationTargetException e) {
-                        throw new DataException(e.getCause());
+                    catch (DataException e) {
+                        throw e;
+                    }
+                    catch (Throwable e) {
+                        throw new DataException(e);
                     }
                 case AVRO:
                     return avroConverter.toConnectData(topic, serializedData);
@@ -480,82 +490,150 @@ private SchemaAndValue reconvertData(String topic, JsonNode data, SerializerType
         }
     }
 
-    private SchemaAndValue convertToCloudEventsFormat(RecordAndMetadata recordAndMetadata, CloudEventsMaker maker, Schema dataSchemaType, String dataSchema,
-                                                      Object serializedData) {
-        Struct source = recordAndMetadata.source();
-        Schema sourceSchema = recordAndMetadata.source().schema();
+    private SchemaAndValue convertToCloudEventsFormat(RecordAndMetadata recordAndMetadata, CloudEventsMaker maker, String dataSchema, byte[] serializedData) {
+        final Struct source = recordAndMetadata.source();
         final Struct transaction = recordAndMetadata.transaction();
+        final EnvelopePlan plan = envelopePlan(source.schema(), schemaNameAdjuster.adjust(maker.ceSchemaName()));
+        final Schema ceSchema = plan.schema;
 
-        // construct schema of CloudEvents envelope
-        CESchemaBuilder ceSchemaBuilder = defineSchema()
-                .withName(schemaNameAdjuster.adjust(maker.ceSchemaName()))
-                .withSchema(CloudEventsMaker.FieldName.ID, Schema.STRING_SCHEMA)
-                .withSchema(CloudEventsMaker.FieldName.SOURCE, Schema.STRING_SCHEMA)
-                .withSchema(CloudEventsMaker.FieldName.SPECVERSION, Schema.STRING_SCHEMA)
-                .withSchema(CloudEventsMaker.FieldName.TYPE, Schema.STRING_SCHEMA)
-                .withSchema(CloudEventsMaker.FieldName.TIME, Schema.STRING_SCHEMA)
-                .withSchema(CloudEventsMaker.FieldName.DATACONTENTTYPE, Schema.STRING_SCHEMA);
+        String ceId = this.metadataSource.id() == MetadataSourceValue.GENERATE ? maker.ceId() : recordAndMetadata.id();
+        String ceType = this.metadataSource.type() == MetadataSourceValue.GENERATE ? maker.ceType() : recordAndMetadata.type();
 
-        if (dataSchema != null) {
-            ceSchemaBuilder.withSchema(CloudEventsMaker.FieldName.DATASCHEMA, Schema.STRING_SCHEMA);
-        }
+        // construct value of CloudEvents Envelope
+        final Struct ceValue = new Struct(ceSchema)
+                .put(CloudEventsMaker.FieldName.ID, ceId)
+                .put(CloudEventsMaker.FieldName.SOURCE, maker.ceSource(source.getString("name")))
+                .put(CloudEventsMaker.FieldName.SPECVERSION, maker.ceSpecversion())
+                .put(CloudEventsMaker.FieldName.TYPE, ceType)
+                .put(CloudEventsMaker.FieldName.TIME, maker.ceTime())
+                .put(CloudEventsMaker.FieldName.DATACONTENTTYPE, maker.ceDatacontenttype())
+                .put(CloudEventsMaker.FieldName.DATASCHEMA, dataSchema);
 
         if (this.openTelemetryTracingAttributesEnable) {
-            ceSchemaBuilder.withSchema(CloudEventsMaker.FieldName.TRACE_PARENT, Schema.STRING_SCHEMA);
+            ceValue.put(CloudEventsMaker.FieldName.TRACE_PARENT, recordAndMetadata.traceParent());
         }
 
         if (this.extensionAttributesEnable) {
-            ceSchemaBuilder.withSchema(adjustExtensionName(Envelope.FieldName.OPERATION), Schema.STRING_SCHEMA);
-            ceSchemaFromSchema(sourceSchema, ceSchemaBuilder, CloudEventsConverter::adjustExtensionName, false);
-            // transaction attributes
-            ceSchemaFromSchema(TransactionMonitor.TRANSACTION_BLOCK_SCHEMA, ceSchemaBuilder, CloudEventsConverter::txExtensionName, true);
+            ceValue.put(OPERATION_EXTENSION_NAME, recordAndMetadata.operation());
+            for (int i = 0; i < plan.sourceFields.length; i++) {
+                ceValue.put(plan.sourceExtensionFields[i], extensionValue(plan.sourceFields[i], source.get(plan.sourceFields[i])));
+            }
+            if (transaction != null) {
+                final List<Field> txFields = TransactionMonitor.TRANSACTION_BLOCK_SCHEMA.fields();
+                for (int i = 0; i < txFields.size(); i++) {
+                    ceValue.put(plan.txExtensionFields[i], extensionValue(txFields.get(i), transaction.get(txFields.get(i))));
+                }
+            }
         }
 
-        ceSchemaBuilder.withSchema(CloudEventsMaker.FieldName.DATA, dataSchemaType);
+        ceValue.put(CloudEventsMaker.FieldName.DATA, serializedData);
 
-        Schema ceSchema = ceSchemaBuilder.build();
+        return new SchemaAndValue(ceSchema, ceValue);
+    }
 
-        String ceId = this.metadataSource.id() == MetadataSourceValue.GENERATE ? maker.ceId() : recordAndMetadata.id();
-        String ceType = this.metadataSource.type() == MetadataSourceValue.GENERATE ? maker.ceType() : recordAndMetadata.type();
+    /**
+     * Writes a structured JSON CloudEvent directly, without building the CloudEvents envelope as a {@link Struct}.
+     * The attributes are written in the same order and with the same values as the envelope schema would define them.
+     */
+    private byte[] writeJsonCloudEvent(RecordAndMetadata recordAndMetadata, CloudEventsMaker maker, byte[] data) {
+        final Struct source = recordAndMetadata.source();
+        final Struct transaction = recordAndMetadata.transaction();
 
-        // construct value of CloudEvents Envelope
-        CEValueBuilder ceValueBuilder = withValue(ceSchema)
-                .withValue(CloudEventsMaker.FieldName.ID, ceId)
-                .withValue(CloudEventsMaker.FieldName.SOURCE, maker.ceSource(source.getString("name")))
-                .withValue(CloudEventsMaker.FieldName.SPECVERSION, maker.ceSpecversion())
-                .withValue(CloudEventsMaker.FieldName.TYPE, ceType)
-                .withValue(CloudEventsMaker.FieldName.TIME, maker.ceTime())
-                .withValue(CloudEventsMaker.FieldName.DATACONTENTTYPE, maker.ceDatacontenttype());
+        final String ceId = this.metadataSource.id() == MetadataSourceValue.GENERATE ? maker.ceId() : recordAndMetadata.id();
+        final String ceType = this.metadataSource.type() == MetadataSourceValue.GENERATE ? maker.ceType() : recordAndMetadata.type();
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(data.length + 512);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            generator.writeStartObject();
+            writeRequiredAttribute(generator, CloudEventsMaker.FieldName.ID, ceId);
+            writeRequiredAttribute(generator, CloudEventsMaker.FieldName.SOURCE, maker.ceSource(source.getString("name")));
+            writeRequiredAttribute(generator, CloudEventsMaker.FieldName.SPECVERSION, maker.ceSpecversion());
+            writeRequiredAttribute(generator, CloudEventsMaker.FieldName.TYPE, ceType);
+            writeRequiredAttribute(generator, CloudEventsMaker.FieldName.TIME, maker.ceTime());
+            writeRequiredAttribute(generator, CloudEventsMaker.FieldName.DATACONTENTTYPE, maker.ceDatacontenttype());
+
+            if (this.openTelemetryTracingAttributesEnable) {
+                writeRequiredAttribute(generator, CloudEventsMaker.FieldName.TRACE_PARENT, recordAndMetadata.traceParent());
+            }
 
-        if (dataSchema != null) {
-            ceValueBuilder.withValue(CloudEventsMaker.FieldName.DATASCHEMA, dataSchema);
+            if (this.extensionAttributesEnable) {
+                final EnvelopePlan plan = envelopePlan(source.schema(), null);
+                writeRequiredAttribute(generator, OPERATION_EXTENSION_NAME, recordAndMetadata.operation());
+                for (int i = 0; i < plan.sourceFields.length; i++) {
+                    writeExtensionAttribute(generator, plan.sourceExtensionNames[i], plan.sourceExtensionSchemas[i], source.get(plan.sourceFields[i]));
+                }
+                final List<Field> txFields = TransactionMonitor.TRANSACTION_BLOCK_SCHEMA.fields();
+                for (int i = 0; i < txFields.size(); i++) {
+                    writeExtensionAttribute(generator, TX_EXTENSION_NAMES[i], plan.txExtensionSchemas[i], transaction != null ? transaction.get(txFields.get(i)) : null);
+                }
+            }
+
+            generator.writeFieldName(CloudEventsMaker.FieldName.DATA);
+            generator.writeRaw(':');
         }
+        catch (IOException e) {
+            throw new DataException("Failed to write CloudEvent", e);
+        }
+        out.write(data, 0, data.length);
+        out.write('}');
+        return out.toByteArray();
+    }
 
-        if (this.openTelemetryTracingAttributesEnable) {
-            ceValueBuilder.withValue(CloudEventsMaker.FieldName.TRACE_PARENT, recordAndMetadata.traceParent());
+    private static void writeRequiredAttribute(JsonGenerator generator, String name, String value) throws IOException {
+        if (value == null) {
+            throw new DataException("Invalid value: null used for required field: \"" + name + "\", schema type: STRING");
         }
+        generator.writeStringField(name, value);
+    }
 
-        if (this.extensionAttributesEnable) {
-            ceValueBuilder.withValue(adjustExtensionName(Envelope.FieldName.OPERATION), recordAndMetadata.operation());
-            ceValueFromStruct(source, sourceSchema, ceValueBuilder, CloudEventsConverter::adjustExtensionName);
-            if (transaction != null) {
-                ceValueFromStruct(transaction, TransactionMonitor.TRANSACTION_BLOCK_SCHEMA, ceValueBuilder, CloudEventsConverter::txExtensionName);
+    /**
+     * Writes a source or transaction attribute as a CE extension attribute of the given schema, validating it
+     * as the envelope {@link Struct} would.
+     */
+    private static void writeExtensionAttribute(JsonGenerator generator, String name, Schema ceExtensionSchema, Object value) throws IOException {
+        if (value == null) {
+            if (!ceExtensionSchema.isOptional()) {
+                throw new DataException("Invalid value: null used for required field: \"" + name + "\", schema type: " + ceExtensionSchema.type());
             }
+            generator.writeNullField(name);
+            return;
+        }
+        generator.writeFieldName(name);
+        switch (ceExtensionSchema.type()) {
+            case BOOLEAN:
+                generator.writeBoolean((Boolean) value);
+                break;
+            case INT32:
+                generator.writeNumber(((Number) value).intValue());
+                break;
+            default:
+                // int64 attributes are written as strings
+                generator.writeString(value instanceof Number ? Long.toString(((Number) value).longValue()) : value.toString());
         }
+    }
 
-        ceValueBuilder.withValue(CloudEventsMaker.FieldName.DATA, serializedData);
-
-        return new SchemaAndValue(ceSchema, ceValueBuilder.build());
+    /**
+     * Converts the value of a source or transaction attribute into the value of the CE extension attribute.
+     */
+    private static Object extensionValue(Field field, Object value) {
+        if (field.schema().type() == Type.INT64 && value != null) {
+            return String.valueOf((long) value);
+        }
+        return value;
     }
 
-    private void ceValueFromStruct(Struct struct, Schema schema, CEValueBuilder ceValueBuilder, Function<String, String> nameMapper) {
-        for (Field field : schema.fields()) {
-            Object value = struct.get(field);
-            if (field.schema().type() == Type.INT64 && value != null) {
-                value = String.valueOf((long) value);
-            }
-            ceValueBuilder.withValue(nameMapper.apply(field.name()), value);
+    private EnvelopePlan envelopePlan(Schema sourceSchema, String schemaName) {
+        // Events of a connector mostly share the same source schema instance, which avoids hashing the schema
+        EnvelopePlan plan = lastEnvelopePlan;
+        if (plan != null && plan.sourceSchema == sourceSchema && Objects.equals(plan.schemaName, schemaName)) {
+            return plan;
+        }
+        plan = envelopePlans.computeIfAbsent(new EnvelopePlanKey(sourceSchema, schemaName), key -> new EnvelopePlan(sourceSchema, schemaName));
+        if (plan.sourceSchema != sourceSchema) {
+            plan = plan.withSourceSchema(sourceSchema);
         }
+        lastEnvelopePlan = plan;
+        return plan;
     }
 
     private void ceSchemaFromSchema(Schema schema, CESchemaBuilder ceSchemaBuilder, Function<String, String> nameMapper, boolean alwaysOptional) {
@@ -622,28 +700,6 @@ public Schema build() {
         };
     }
 
-    private static CEValueBuilder withValue(Schema schema) {
-        return new CEValueBuilder() {
-            private final Schema ceSchema = schema;
-            private final Struct ceValue = new Struct(ceSchema);
-
-            @Override
-            public CEValueBuilder withValue(String fieldName, Object value) {
-                if (ceSchema.field(fieldName) == null) {
-                    throw new DataException(fieldName + " is not a valid field name");
-                }
-
-                ceValue.put(fieldName, value);
-                return this;
-            }
-
-            @Override
-            public Struct build() {
-                return ceValue;
-            }
-        };
-    }
-
     /**
      * Builder of a CloudEvents envelope schema.
      */
@@ -666,6 +722,129 @@ public interface CEValueBuilder {
         Struct build();
     }
 
+    /**
+     * The parts of a CloudEvents envelope that depend only on the schema of the source block and on the configuration:
+     * the names of the extension attributes and, when the envelope is built as a {@link Struct}, its schema,
+     * otherwise the schemas of the extension attributes.
+     */
+    private final class EnvelopePlan {
+
+        private final Schema sourceSchema;
+        private final String schemaName;
+        private final Field[] sourceFields;
+        private final String[] sourceExtensionNames;
+        private final Schema schema;
+        private final Field[] sourceExtensionFields;
+        private final Field[] txExtensionFields;
+        private final Schema[] sourceExtensionSchemas;
+        private final Schema[] txExtensionSchemas;
+
+        EnvelopePlan(Schema sourceSchema, String schemaName) {
+            this.sourceSchema = sourceSchema;
+            this.schemaName = schemaName;
+            this.sourceFields = sourceSchema.fields().toArray(new Field[0]);
+            this.sourceExtensionNames = new String[sourceFields.length];
+            for (int i = 0; i < sourceFields.length; i++) {
+                sourceExtensionNames[i] = adjustExtensionName(sourceFields[i].name());
+            }
+            this.schema = schemaName != null ? buildSchema() : null;
+            this.sourceExtensionFields = new Field[sourceFields.length];
+            this.txExtensionFields = new Field[TX_EXTENSION_NAMES.length];
+            if (schema != null && extensionAttributesEnable) {
+                for (int i = 0; i < sourceFields.length; i++) {
+                    sourceExtensionFields[i] = schema.field(sourceExtensionNames[i]);
+                }
+                for (int i = 0; i < TX_EXTENSION_NAMES.length; i++) {
+                    txExtensionFields[i] = schema.field(TX_EXTENSION_NAMES[i]);
+                }
+            }
+            this.sourceExtensionSchemas = new Schema[sourceFields.length];
+            this.txExtensionSchemas = new Schema[TX_EXTENSION_NAMES.length];
+            if (schema == null && extensionAttributesEnable) {
+                for (int i = 0; i < sourceFields.length; i++) {
+                    sourceExtensionSchemas[i] = convertToCeExtensionSchema(sourceFields[i].schema());
+                }
+                final List<Field> txFields = TransactionMonitor.TRANSACTION_BLOCK_SCHEMA.fields();
+                for (int i = 0; i < txExtensionSchemas.length; i++) {
+                    txExtensionSchemas[i] = convertToCeExtensionSchema(txFields.get(i).schema(), true);
+                }
+            }
+        }
+
+        private EnvelopePlan(EnvelopePlan plan, Schema sourceSchema) {
+            this.sourceSchema = sourceSchema;
+            this.schemaName = plan.schemaName;
+            this.sourceFields = plan.sourceFields;
+            this.sourceExtensionNames = plan.sourceExtensionNames;
+            this.schema = plan.schema;
+            this.sourceExtensionFields = plan.sourceExtensionFields;
+            this.txExtensionFields = plan.txExtensionFields;
+            this.sourceExtensionSchemas = plan.sourceExtensionSchemas;
+            this.txExtensionSchemas = plan.txExtensionSchemas;
+        }
+
+        EnvelopePlan withSourceSchema(Schema sourceSchema) {
+            return new EnvelopePlan(this, sourceSchema);
+        }
+
+        /**
+         * Constructs the schema of the CloudEvents envelope whose data is serialized separately.
+         */
+        private Schema buildSchema() {
+            CESchemaBuilder ceSchemaBuilder = defineSchema()
+                    .withName(schemaName)
+                    .withSchema(CloudEventsMaker.FieldName.ID, Schema.STRING_SCHEMA)
+                    .withSchema(CloudEventsMaker.FieldName.SOURCE, Schema.STRING_SCHEMA)
+                    .withSchema(CloudEventsMaker.FieldName.SPECVERSION, Schema.STRING_SCHEMA)
+                    .withSchema(CloudEventsMaker.FieldName.TYPE, Schema.STRING_SCHEMA)
+                    .withSchema(CloudEventsMaker.FieldName.TIME, Schema.STRING_SCHEMA)
+                    .withSchema(CloudEventsMaker.FieldName.DATACONTENTTYPE, Schema.STRING_SCHEMA)
+                    .withSchema(CloudEventsMaker.FieldName.DATASCHEMA, Schema.STRING_SCHEMA);
+
+            if (openTelemetryTracingAttributesEnable) {
+                ceSchemaBuilder.withSchema(CloudEventsMaker.FieldName.TRACE_PARENT, Schema.STRING_SCHEMA);
+            }
+
+            if (extensionAttributesEnable) {
+                ceSchemaBuilder.withSchema(OPERATION_EXTENSION_NAME, Schema.STRING_SCHEMA);
+                ceSchemaFromSchema(sourceSchema, ceSchemaBuilder, CloudEventsConverter::adjustExtensionName, false);
+                // transaction attributes
+                ceSchemaFromSchema(TransactionMonitor.TRANSACTION_BLOCK_SCHEMA, ceSchemaBuilder, CloudEventsConverter::txExtensionName, true);
+            }
+
+            ceSchemaBuilder.withSchema(CloudEventsMaker.FieldName.DATA, Schema.BYTES_SCHEMA);
+
+            return ceSchemaBuilder.build();
+        }
+    }
+
+    private static final class EnvelopePlanKey {
+        private final Schema sourceSchema;
+        private final String schemaName;
+
+        EnvelopePlanKey(Schema sourceSchema, String schemaName) {
+            this.sourceSchema = sourceSchema;
+            this.schemaName = schemaName;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            EnvelopePlanKey that = (EnvelopePlanKey) o;
+            return Objects.equals(sourceSchema, that.sourceSchema) && Objects.equals(schemaName, that.schemaName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sourceSchema, schemaName);
+        }
+    }
+
     /**
      * Adjust the name of CloudEvents attributes for Debezium events, following CloudEvents
      * <a href="https://github.com/cloudevents/spec/blob/v1.0/spec.md#attribute-naming-conventionattribute"> attribute
@@ -0,0 +1,422 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.converters;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.common.config.ConfigDef;
+import org.apache.kafka.connect.components.Versioned;
+import org.apache.kafka.connect.data.ConnectSchema;
+import org.apache.kafka.connect.data.Date;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaAndValue;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Time;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.errors.DataException;
+import org.apache.kafka.connect.json.DecimalFormat;
+import org.apache.kafka.connect.json.JsonConverter;
+import org.apache.kafka.connect.json.JsonConverterConfig;
+import org.apache.kafka.connect.storage.Converter;
+import org.apache.kafka.connect.storage.ConverterType;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.debezium.Module;
+import io.debezium.util.BoundedConcurrentHashMap;
+
+/**
+ * A {@link Converter} producing the same JSON as Kafka's {@link JsonConverter}, including the {@code schemas.enable}
+ * envelope, without building an intermediate Jackson tree for every record. Values are written with a streaming
+ * {@link JsonGenerator} into a buffer reused by each thread, and the field names and the JSON representation of every
+ * schema are prepared once and cached.<p/>
+ *
+ * The converter accepts the configuration options of {@link JsonConverter}, which it delegates to when converting
+ * JSON back to Kafka Connect data.
+ */
+public class StreamingJsonConverter implements Converter, Versioned {
+
+    private static final String SCHEMA_FIELD_NAME = "schema";
+    private static final String PAYLOAD_FIELD_NAME = "payload";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final ObjectMapper SCHEMA_MAPPER = new ObjectMapper();
+    private static final SerializedString NULL_SCHEMA = new SerializedString("null");
+
+    private final JsonConverter delegate = new JsonConverter();
+    private final ThreadLocal<ByteArrayBuilder> buffers = ThreadLocal.withInitial(ByteArrayBuilder::new);
+
+    private JsonConverterConfig config;
+    private BoundedConcurrentHashMap<Schema, SchemaPlan> plans;
+    private volatile SchemaPlan lastPlan;
+
+    @Override
+    public String version() {
+        return Module.version();
+    }
+
+    @Override
+    public ConfigDef config() {
+        return JsonConverterConfig.configDef();
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        final Map<String, Object> conf = new HashMap<>(configs);
+        conf.put(JsonConverterConfig.TYPE_CONFIG, isKey ? ConverterType.KEY.getName() : ConverterType.VALUE.getName());
+        config = new JsonConverterConfig(conf);
+        plans = new BoundedConcurrentHashMap<>(config.schemaCacheSize());
+        delegate.configure(configs, isKey);
+    }
+
+    @Override
+    public byte[] fromConnectData(String topic, Schema schema, Object value) {
+        if (schema == null && value == null) {
+            return null;
+        }
+
+        final SchemaPlan plan = schema != null ? plan(schema) : null;
+        final ByteArrayBuilder buffer = buffers.get();
+        try {
+            try (JsonGenerator generator = JSON_FACTORY.createGenerator(buffer)) {
+                if (config.schemasEnabled()) {
+                    generator.writeStartObject();
+                    generator.writeFieldName(SCHEMA_FIELD_NAME);
+                    generator.writeRawValue(plan != null ? plan.schemaJson() : NULL_SCHEMA);
+                    generator.writeFieldName(PAYLOAD_FIELD_NAME);
+                    write(generator, plan, value);
+                    generator.writeEndObject();
+                }
+                else {
+                    write(generator, plan, value);
+                }
+            }
+            return buffer.toByteArray();
+        }
+        catch (IOException e) {
+            throw new DataException("Converting Kafka Connect data to byte[] failed due to serialization error: ", e);
+        }
+        finally {
+            buffer.reset();
+        }
+    }
+
+    @Override
+    public SchemaAndValue toConnectData(String topic, byte[] value) {
+        return delegate.toConnectData(topic, value);
+    }
+
+    private SchemaPlan plan(Schema schema) {
+        // Records of a topic mostly share the same schema instance, which avoids hashing the whole schema
+        SchemaPlan plan = lastPlan;
+        if (plan != null && plan.schema == schema) {
+            return plan;
+        }
+        plan = plans.computeIfAbsent(schema, SchemaPlan::new);
+        lastPlan = plan;
+        return plan;
+    }
+
+    private void write(JsonGenerator generator, SchemaPlan plan, Object value) throws IOException {
+        if (plan == null) {
+            writeSchemaless(generator, value);
+            return;
+        }
+
+        final Schema schema = plan.schema;
+        if (value == null) {
+            if (schema.defaultValue() != null && config.replaceNullWithDefault()) {
+                write(generator, plan, schema.defaultValue());
+            }
+            else if (schema.isOptional()) {
+                generator.writeNull();
+            }
+            else {
+                throw new DataException("Conversion error: null value for field that is required and has no default value");
+            }
+            return;
+        }
+
+        try {
+            switch (plan.logicalType) {
+                case DECIMAL:
+                    if (!(value instanceof BigDecimal)) {
+                        throw new DataException("Invalid type for Decimal, expected BigDecimal but was " + value.getClass());
+                    }
+                    if (config.decimalFormat() == DecimalFormat.NUMERIC) {
+                        generator.writeNumber((BigDecimal) value);
+                    }
+                    else {
+                        generator.writeBinary(Decimal.fromLogical(schema, (BigDecimal) value));
+                    }
+                    return;
+                case DATE:
+                    if (!(value instanceof java.util.Date)) {
+                        throw new DataException("Invalid type for Date, expected Date but was " + value.getClass());
+                    }
+                    generator.writeNumber(Date.fromLogical(schema, (java.util.Date) value));
+                    return;
+                case TIME:
+                    if (!(value instanceof java.util.Date)) {
+                        throw new DataException("Invalid type for Time, expected Date but was " + value.getClass());
+                    }
+                    generator.writeNumber(Time.fromLogical(schema, (java.util.Date) value));
+                    return;
+                case TIMESTAMP:
+                    if (!(value instanceof java.util.Date)) {
+                        throw new DataException("Invalid type for Timestamp, expected Date but was " + value.getClass());
+                    }
+                    generator.writeNumber(Timestamp.fromLogical(schema, (java.util.Date) value));
+                    return;
+                default:
+                    break;
+            }
+
+            switch (schema.type()) {
+                case STRUCT:
+                    final Struct struct = (Struct) value;
+                    if (struct.schema() != schema && !struct.schema().equals(schema)) {
+                        throw new DataException("Mismatching schema.");
+                    }
+                    generator.writeStartObject();
+                    for (int i = 0; i < plan.fields.length; i++) {
+                        generator.writeFieldName(plan.fieldNames[i]);
+                        write(generator, plan.fieldPlans[i], struct.getWithoutDefault(plan.fields[i].name()));
+                    }
+                    generator.writeEndObject();
+                    return;
+                case ARRAY:
+                    generator.writeStartArray();
+                    for (Object element : (Collection<?>) value) {
+                        write(generator, plan.valuePlan, element);
+                    }
+                    generator.writeEndArray();
+                    return;
+                case MAP:
+                    writeMap(generator, plan.keyPlan, plan.valuePlan, (Map<?, ?>) value, schema.keySchema().type() == Schema.Type.STRING);
+                    return;
+                default:
+                    writePrimitive(generator, schema.type(), value);
+            }
+        }
+        catch (ClassCastException e) {
+            throw new DataException("Invalid type for " + schema.type() + ": " + value.getClass());
+        }
+    }
+
+    private void writeSchemaless(JsonGenerator generator, Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        final Schema.Type type = ConnectSchema.schemaType(value.getClass());
+        if (type == null) {
+            throw new DataException("Java class " + value.getClass() + " does not have corresponding schema type.");
+        }
+        try {
+            switch (type) {
+                case STRUCT:
+                    // A struct always carries its schema, which cannot match the missing one
+                    throw new DataException("Mismatching schema.");
+                case ARRAY:
+                    generator.writeStartArray();
+                    for (Object element : (Collection<?>) value) {
+                        writeSchemaless(generator, element);
+                    }
+                    generator.writeEndArray();
+                    return;
+                case MAP:
+                    boolean objectMode = true;
+                    for (Object key : ((Map<?, ?>) value).keySet()) {
+                        if (!(key instanceof String)) {
+                            objectMode = false;
+                            break;
+                        }
+                    }
+                    writeMap(generator, null, null, (Map<?, ?>) value, objectMode);
+                    return;
+                default:
+                    writePrimitive(generator, type, value);
+            }
+        }
+        catch (ClassCastException e) {
+            throw new DataException("Invalid type for " + type + ": " + value.getClass());
+        }
+    }
+
+    private void writeMap(JsonGenerator generator, SchemaPlan keyPlan, SchemaPlan valuePlan, Map<?, ?> map, boolean objectMode) throws IOException {
+        if (objectMode) {
+            generator.writeStartObject();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                generator.writeFieldName(mapKeyText(keyPlan, entry.getKey()));
+                write(generator, valuePlan, entry.getValue());
+            }
+            generator.writeEndObject();
+        }
+        else {
+            generator.writeStartArray();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                generator.writeStartArray();
+                write(generator, keyPlan, entry.getKey());
+                write(generator, valuePlan, entry.getValue());
+                generator.writeEndArray();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * Returns the text of a key of a map written as an object; such keys are always strings, possibly replaced
+     * by the default value of the key schema, while a null key is written as the text of a JSON null.
+     */
+    private String mapKeyText(SchemaPlan keyPlan, Object key) {
+        if (key == null && keyPlan != null && keyPlan.schema.defaultValue() != null && config.replaceNullWithDefault()) {
+            key = keyPlan.schema.defaultValue();
+        }
+        if (key == null) {
+            if (keyPlan != null && !keyPlan.schema.isOptional()) {
+                throw new DataException("Conversion error: null value for field that is required and has no default value");
+            }
+            return "null";
+        }
+        return ((CharSequence) key).toString();
+    }
+
+    private static void writePrimitive(JsonGenerator generator, Schema.Type type, Object value) throws IOException {
+        switch (type) {
+            case INT8:
+                generator.writeNumber((Byte) value);
+                return;
+            case INT16:
+                generator.writeNumber((Short) value);
+                return;
+            case INT32:
+                generator.writeNumber((Integer) value);
+                return;
+            case INT64:
+                generator.writeNumber((Long) value);
+                return;
+            case FLOAT32:
+                generator.writeNumber((Float) value);
+                return;
+            case FLOAT64:
+                generator.writeNumber((Double) value);
+                return;
+            case BOOLEAN:
+                generator.writeBoolean((Boolean) value);
+                return;
+            case STRING:
+                generator.writeString(((CharSequence) value).toString());
+                return;
+            case BYTES:
+                if (value instanceof byte[]) {
+                    generator.writeBinary((byte[]) value);
+                }
+                else if (value instanceof ByteBuffer) {
+                    generator.writeBinary(((ByteBuffer) value).array());
+                }
+                else {
+                    throw new DataException("Invalid type for bytes type: " + value.getClass());
+                }
+                return;
+            default:
+                throw new DataException("Couldn't convert " + value + " to JSON.");
+        }
+    }
+
+    private enum LogicalType {
+        NONE,
+        DECIMAL,
+        DATE,
+        TIME,
+        TIMESTAMP;
+
+        static LogicalType of(Schema schema) {
+            if (schema.name() == null) {
+                return NONE;
+            }
+            switch (schema.name()) {
+                case Decimal.LOGICAL_NAME:
+                    return DECIMAL;
+                case Date.LOGICAL_NAME:
+                    return DATE;
+                case Time.LOGICAL_NAME:
+                    return TIME;
+                case Timestamp.LOGICAL_NAME:
+                    return TIMESTAMP;
+                default:
+                    return NONE;
+            }
+        }
+    }
+
+    /**
+     * Everything needed to write values of a given schema that does not depend on the value itself: the escaped
+     * field names, the plans of nested schemas and, for the top-level schemas, their JSON representation.
+     */
+    private final class SchemaPlan {
+
+        private final Schema schema;
+        private final LogicalType logicalType;
+        private final Field[] fields;
+        private final SerializedString[] fieldNames;
+        private final SchemaPlan[] fieldPlans;
+        private final SchemaPlan keyPlan;
+        private final SchemaPlan valuePlan;
+        private volatile SerializedString schemaJson;
+
+        SchemaPlan(Schema schema) {
+            this.schema = schema;
+            this.logicalType = LogicalType.of(schema);
+
+            if (schema.type() == Schema.Type.STRUCT) {
+                final List<Field> structFields = schema.fields();
+                this.fields = structFields.toArray(new Field[0]);
+                this.fieldNames = new SerializedString[fields.length];
+                this.fieldPlans = new SchemaPlan[fields.length];
+                for (int i = 0; i < fields.length; i++) {
+                    fieldNames[i] = new SerializedString(fields[i].name());
+                    fieldPlans[i] = new SchemaPlan(fields[i].schema());
+                }
+            }
+            else {
+                this.fields = null;
+                this.fieldNames = null;
+                this.fieldPlans = null;
+            }
+            this.keyPlan = schema.type() == Schema.Type.MAP ? new SchemaPlan(schema.keySchema()) : null;
+            this.valuePlan = schema.type() == Schema.Type.MAP || schema.type() == Schema.Type.ARRAY ? new SchemaPlan(schema.valueSchema()) : null;
+        }
+
+        SerializedString schemaJson() {
+            SerializedString json = schemaJson;
+            if (json == null) {
+                try {
+                    json = new SerializedString(new String(SCHEMA_MAPPER.writeValueAsBytes(delegate.asJsonSchema(schema)), StandardCharsets.UTF_8));
+                }
+                catch (IOException e) {
+                    throw new DataException("Converting schema " + schema + " to JSON failed: ", e);
+                }
+                schemaJson = json;
+            }
+            return json;
+        }
+    }
+}
@@ -29,6 +29,7 @@
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -1719,6 +1720,85 @@ public Map<String, Object> reselectColumns(Table table, List<String> columns, Li
         return reselectColumns(query, table.id(), columns, keyValues);
     }
 
+    /**
+     * Returns the point in time of the database state that is read when re-selecting the columns of an event.
+     * Only the rows of events with the same point can be re-selected by the same query.
+     *
+     * @param source the source info block of the event
+     * @return the point in time, or {@code null} if the current state of the rows is read
+     */
+    public Object getReselectionPoint(Struct source) {
+        return null;
+    }
+
+    /**
+     * Re-selects the columns of several rows of a table with a single query.
+     *
+     * @param table the table of the rows
+     * @param columns the columns to re-select
+     * @param keyColumns the columns identifying a row
+     * @param keyValues the values of the key columns of each row
+     * @param source the source info block of one of the events, all of which have the same {@link #getReselectionPoint(Struct) point}
+     * @return the values of the key columns and the re-selected columns of each found row, in no particular order
+     */
+    public List<Map<String, Object>> reselectRows(Table table, List<String> columns, List<String> keyColumns, List<List<Object>> keyValues, Struct source)
+            throws SQLException {
+        return reselectRowsFrom(table, quotedTableIdString(table.id()), List.of(), columns, keyColumns, keyValues);
+    }
+
+    /**
+     * Re-selects the columns of several rows with a single query.
+     *
+     * @param table the table of the rows
+     * @param from the {@code FROM} clause of the query, e.g. the quoted table name
+     * @param fromBindValues the values of the bind parameters of the {@code FROM} clause
+     */
+    protected List<Map<String, Object>> reselectRowsFrom(Table table, String from, List<Object> fromBindValues, List<String> columns,
+                                                         List<String> keyColumns, List<List<Object>> keyValues)
+            throws SQLException {
+        final Set<String> selectedColumns = new LinkedHashSet<>(keyColumns);
+        selectedColumns.addAll(columns);
+
+        final String condition;
+        if (keyColumns.size() == 1) {
+            final String parameter = reselectKeyParameter(table, keyColumns.get(0));
+            condition = keyColumns.get(0) + " IN (" + keyValues.stream().map(values -> parameter).collect(Collectors.joining(",")) + ")";
+        }
+        else {
+            final String rowCondition = keyColumns.stream()
+                    .map(key -> key + "=" + reselectKeyParameter(table, key))
+                    .collect(Collectors.joining(" AND ", "(", ")"));
+            condition = keyValues.stream().map(values -> rowCondition).collect(Collectors.joining(" OR "));
+        }
+        final String query = String.format("SELECT %s FROM %s WHERE %s",
+                selectedColumns.stream().map(this::quoteIdentifier).collect(Collectors.joining(",")),
+                from,
+                condition);
+
+        final List<Object> bindValues = new ArrayList<>(fromBindValues.size() + keyColumns.size() * keyValues.size());
+        bindValues.addAll(fromBindValues);
+        keyValues.forEach(bindValues::addAll);
+
+        final List<Map<String, Object>> results = new ArrayList<>(keyValues.size());
+        prepareQuery(query, bindValues, (params, rs) -> {
+            while (rs.next()) {
+                final Map<String, Object> row = new HashMap<>();
+                for (String columnName : selectedColumns) {
+                    row.put(columnName, rs.getObject(columnName));
+                }
+                results.add(row);
+            }
+        });
+        return results;
+    }
+
+    /**
+     * Returns the bind parameter of a key column in a re-selection query, e.g. to cast the bound value to the column type.
+     */
+    protected String reselectKeyParameter(Table table, String keyColumn) {
+        return "?";
+    }
+
     protected Map<String, Object> reselectColumns(String query, TableId tableId, List<String> columns, List<Object> bindValues) throws SQLException {
         final Map<String, Object> results = new HashMap<>();
         prepareQuery(query, bindValues, (params, rs) -> {
@@ -20,6 +20,7 @@
 import java.util.stream.StreamSupport;
 
 import org.apache.kafka.connect.source.SourceConnector;
+import org.apache.kafka.connect.source.SourceRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -415,6 +416,15 @@ public ErrorHandler getErrorHandler() {
         return errorHandler;
     }
 
+    /**
+     * Applies the batch-enabled post processors to the records of a poll batch.
+     *
+     * @param records the records returned by the task's poll, may be {@code null}
+     */
+    public void postProcessBatch(List<SourceRecord> records) {
+        eventDispatcher.postProcessBatch(records);
+    }
+
     public class ChangeEventSourceContextImpl implements ChangeEventSourceContext {
 
         private final Lock lock = new ReentrantLock();
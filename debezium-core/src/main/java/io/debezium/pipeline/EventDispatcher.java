@@ -11,6 +11,7 @@
 import java.time.Instant;
 import java.util.Collection;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -62,6 +63,7 @@
 import io.debezium.schema.SchemaNameAdjuster;
 import io.debezium.spi.schema.DataCollectionId;
 import io.debezium.spi.topic.TopicNamingStrategy;
+import io.debezium.util.ApproximateStructSizeCalculator;
 
 /**
  * Central dispatcher for data change and schema change events. The former will be routed to the change event queue, the
@@ -784,9 +786,35 @@ public void close() {
     @SuppressWarnings("resource")
     protected void doPostProcessing(Object key, Struct value) {
         if (postProcessorRegistry != null) {
-            for (PostProcessor processor : postProcessorRegistry.getProcessors()) {
+            for (PostProcessor processor : postProcessorRegistry.getEventProcessors()) {
                 processor.apply(key, value);
             }
         }
     }
+
+    /**
+     * Applies the batch-enabled post processors to the records of a poll batch.
+     *
+     * @param records the records returned by the task's poll, may be {@code null}
+     */
+    public void postProcessBatch(List<SourceRecord> records) {
+        if (postProcessorRegistry == null || !postProcessorRegistry.hasBatchProcessors() || records == null || records.isEmpty()) {
+            return;
+        }
+        if (queue.maxQueueSizeInBytes() <= 0) {
+            postProcessorRegistry.applyBatch(records);
+            return;
+        }
+
+        // Values added to the batch, e.g. re-selected LOB columns, count towards the queue size until the next poll
+        long sizeInBytes = 0;
+        for (SourceRecord record : records) {
+            sizeInBytes -= ApproximateStructSizeCalculator.getApproximateRecordSize(record);
+        }
+        postProcessorRegistry.applyBatch(records);
+        for (SourceRecord record : records) {
+            sizeInBytes += ApproximateStructSizeCalculator.getApproximateRecordSize(record);
+        }
+        queue.addToPolledBatchSizeInBytes(sizeInBytes);
+    }
 }
@@ -12,6 +12,7 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -48,6 +49,7 @@ public class SnapshotMeter implements SnapshotMetricsMXBean {
     private final AtomicReference<String> chunkId = new AtomicReference<>();
     private final AtomicReference<Object[]> chunkFrom = new AtomicReference<>();
     private final AtomicReference<Object[]> chunkTo = new AtomicReference<>();
+    private final AtomicInteger chunkSize = new AtomicInteger();
     private final AtomicReference<Object[]> tableFrom = new AtomicReference<>();
     private final AtomicReference<Object[]> tableTo = new AtomicReference<>();
 
@@ -220,6 +222,10 @@ public void currentChunk(String chunkId, Object[] chunkFrom, Object[] chunkTo, O
         this.tableTo.set(tableTo);
     }
 
+    public void currentChunkSize(int chunkSize) {
+        this.chunkSize.set(chunkSize);
+    }
+
     @Override
     public String getChunkId() {
         return chunkId.get();
@@ -235,6 +241,11 @@ public String getChunkTo() {
         return arrayToString(chunkTo.get());
     }
 
+    @Override
+    public int getChunkSize() {
+        return chunkSize.get();
+    }
+
     @Override
     public String getTableFrom() {
         return arrayToString(tableFrom.get());
@@ -266,6 +277,7 @@ public void reset() {
         chunkId.set(null);
         chunkFrom.set(null);
         chunkTo.set(null);
+        chunkSize.set(0);
         tableFrom.set(null);
         tableTo.set(null);
     }
@@ -150,6 +150,11 @@ public void currentChunk(P partition, String chunkId, Object[] chunkFrom, Object
         snapshotMeter.currentChunk(chunkId, chunkFrom, chunkTo, tableTo);
     }
 
+    @Override
+    public void currentChunkSize(P partition, int chunkSize) {
+        snapshotMeter.currentChunkSize(chunkSize);
+    }
+
     @Override
     public String getChunkId() {
         return snapshotMeter.getChunkId();
@@ -165,6 +170,11 @@ public String getChunkTo() {
         return snapshotMeter.getChunkTo();
     }
 
+    @Override
+    public int getChunkSize() {
+        return snapshotMeter.getChunkSize();
+    }
+
     @Override
     public String getTableFrom() {
         return snapshotMeter.getTableFrom();
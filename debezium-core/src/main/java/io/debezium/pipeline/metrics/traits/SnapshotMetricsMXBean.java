@@ -38,6 +38,8 @@ public interface SnapshotMetricsMXBean extends SchemaMetricsMXBean {
 
     String getChunkTo();
 
+    int getChunkSize();
+
     String getTableFrom();
 
     String getTableTo();
@@ -200,23 +200,56 @@ public PreparedStatement readTableChunkStatement(IncrementalSnapshotContext<T> c
             // Fill boundaries placeholders
             int pos = 0;
             final List<Column> queryColumns = getQueryColumns(context, table);
-            for (int i = 0; i < chunkEndPosition.length; i++) {
-                for (int j = 0; j < i + 1; j++) {
-                    if (chunkEndPosition[j] != null) {
-                        jdbcConnection.setQueryColumnValue(statement, queryColumns.get(j), ++pos, chunkEndPosition[j]);
-                    }
-                }
-            }
+            pos = setBoundaryKeyValues(statement, queryColumns, chunkEndPosition, pos);
             // Fill maximum key placeholders
-            for (int i = 0; i < maximumKey.length; i++) {
-                for (int j = 0; j < i + 1; j++) {
-                    if (maximumKey[j] != null) {
-                        jdbcConnection.setQueryColumnValue(statement, queryColumns.get(j), ++pos, maximumKey[j]);
-                    }
+            setBoundaryKeyValues(statement, queryColumns, maximumKey, pos);
+        }
+        return statement;
+    }
+
+    /**
+     * Fills the placeholders generated by {@link #addLowerBound} or {@link #addUpperBound} for the given boundary key.
+     *
+     * @return the position of the last placeholder that was filled
+     */
+    protected int setBoundaryKeyValues(PreparedStatement statement, List<Column> queryColumns, Object[] boundaryKey, int pos)
+            throws SQLException {
+        for (int i = 0; i < boundaryKey.length; i++) {
+            for (int j = 0; j < i + 1; j++) {
+                if (boundaryKey[j] != null) {
+                    jdbcConnection.setQueryColumnValue(statement, queryColumns.get(j), ++pos, boundaryKey[j]);
                 }
             }
         }
-        return statement;
+        return pos;
+    }
+
+    @Override
+    public String buildKeyRangeCondition(Table table, Object[] lowerBound, Object[] upperBound) {
+        final StringBuilder sql = new StringBuilder();
+        if (lowerBound != null) {
+            addLowerBound(null, table, lowerBound, sql);
+        }
+        if (upperBound != null) {
+            if (lowerBound != null) {
+                sql.append(" AND ");
+            }
+            addUpperBound(null, table, upperBound, sql);
+        }
+        return sql.toString();
+    }
+
+    @Override
+    public int setKeyRangeConditionValues(PreparedStatement statement, Table table, Object[] lowerBound, Object[] upperBound, int position)
+            throws SQLException {
+        final List<Column> queryColumns = getQueryColumns(null, table);
+        if (lowerBound != null) {
+            position = setBoundaryKeyValues(statement, queryColumns, lowerBound, position);
+        }
+        if (upperBound != null) {
+            position = setBoundaryKeyValues(statement, queryColumns, upperBound, position);
+        }
+        return position;
     }
 
     @Override
@@ -16,12 +16,18 @@
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -32,7 +38,9 @@
 
 import io.debezium.DebeziumException;
 import io.debezium.annotation.NotThreadSafe;
+import io.debezium.config.CommonConnectorConfig;
 import io.debezium.data.ValueWrapper;
+import io.debezium.jdbc.ConnectionFactory;
 import io.debezium.jdbc.JdbcConnection;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.notification.IncrementalSnapshotNotificationService.TableScanCompletionStatus;
@@ -56,6 +64,7 @@
 import io.debezium.schema.DatabaseSchema;
 import io.debezium.schema.SchemaChangeEvent;
 import io.debezium.spi.schema.DataCollectionId;
+import io.debezium.util.ApproximateStructSizeCalculator;
 import io.debezium.util.Clock;
 import io.debezium.util.ColumnUtils;
 import io.debezium.util.Strings;
@@ -86,6 +95,12 @@
     protected ChunkQueryBuilder<T> chunkQueryBuilder;
     protected final Map<Struct, Object[]> window = new LinkedHashMap<>();
     protected final NotificationService<P, ? extends OffsetContext> notificationService;
+    private final AdaptiveChunkSizeController chunkSizeController;
+    private final ConnectionFactory<? extends JdbcConnection> connectionFactory;
+    private final int maxConcurrentDataCollections;
+    private final Map<T, ConcurrentDataCollection> concurrentDataCollections = new LinkedHashMap<>();
+    private final Queue<ChunkReader> chunkReaders = new ConcurrentLinkedQueue<>();
+    private ExecutorService chunkReaderExecutor;
 
     public AbstractIncrementalSnapshotChangeEventSource(RelationalDatabaseConnectorConfig config,
                                                         JdbcConnection jdbcConnection,
@@ -95,6 +110,22 @@ public AbstractIncrementalSnapshotChangeEventSource(RelationalDatabaseConnectorC
                                                         SnapshotProgressListener<P> progressListener,
                                                         DataChangeEventListener<P> dataChangeEventListener,
                                                         NotificationService<P, ? extends OffsetContext> notificationService) {
+        this(config, jdbcConnection, dispatcher, databaseSchema, clock, progressListener, dataChangeEventListener, notificationService, null);
+    }
+
+    /**
+     * @param connectionFactory creates the additional connections to read the chunks of several tables concurrently;
+     *                          may be null if the tables are always snapshotted one at a time
+     */
+    public AbstractIncrementalSnapshotChangeEventSource(RelationalDatabaseConnectorConfig config,
+                                                        JdbcConnection jdbcConnection,
+                                                        EventDispatcher<P, T> dispatcher,
+                                                        DatabaseSchema<?> databaseSchema,
+                                                        Clock clock,
+                                                        SnapshotProgressListener<P> progressListener,
+                                                        DataChangeEventListener<P> dataChangeEventListener,
+                                                        NotificationService<P, ? extends OffsetContext> notificationService,
+                                                        ConnectionFactory<? extends JdbcConnection> connectionFactory) {
         this.connectorConfig = config;
         this.jdbcConnection = jdbcConnection;
         this.chunkQueryBuilder = jdbcConnection.chunkQueryBuilder(config);
@@ -104,6 +135,32 @@ public AbstractIncrementalSnapshotChangeEventSource(RelationalDatabaseConnectorC
         this.progressListener = progressListener;
         this.dataListener = dataChangeEventListener;
         this.notificationService = notificationService;
+        this.chunkSizeController = config.isIncrementalSnapshotChunkSizeAdaptive() ? new AdaptiveChunkSizeController(config) : null;
+        this.connectionFactory = connectionFactory;
+        this.maxConcurrentDataCollections = determineMaxConcurrentDataCollections(config, connectionFactory);
+    }
+
+    private static int determineMaxConcurrentDataCollections(RelationalDatabaseConnectorConfig config,
+                                                             ConnectionFactory<? extends JdbcConnection> connectionFactory) {
+        final int maxThreads = config.getIncrementalSnapshotMaxThreads();
+        if (maxThreads <= 1) {
+            return 1;
+        }
+        if (connectionFactory == null) {
+            LOGGER.warn("The incremental snapshot of this connector cannot read tables concurrently, '{}' is ignored",
+                    CommonConnectorConfig.INCREMENTAL_SNAPSHOT_MAX_THREADS.name());
+            return 1;
+        }
+        if (config.isIncrementalSnapshotSchemaChangesEnabled()) {
+            LOGGER.warn("Tables cannot be snapshotted concurrently when '{}' is enabled, '{}' is ignored",
+                    CommonConnectorConfig.INCREMENTAL_SNAPSHOT_ALLOW_SCHEMA_CHANGES.name(), CommonConnectorConfig.INCREMENTAL_SNAPSHOT_MAX_THREADS.name());
+            return 1;
+        }
+        return maxThreads;
+    }
+
+    private boolean isConcurrentSnapshot() {
+        return maxConcurrentDataCollections > 1;
     }
 
     @Override
@@ -123,6 +180,7 @@ public void pauseSnapshot(P partition, OffsetContext offsetContext) {
         context = (IncrementalSnapshotContext<T>) offsetContext.getIncrementalSnapshotContext();
         if (context.snapshotRunning() && !context.isSnapshotPaused()) {
             context.pauseSnapshot();
+            closeChunkReaders();
             progressListener.snapshotPaused(partition);
             notificationService.incrementalSnapshotNotificationService().notifyPaused(context, partition, offsetContext);
         }
@@ -142,6 +200,15 @@ public void resumeSnapshot(P partition, OffsetContext offsetContext) throws Inte
     @Override
     public void processSchemaChange(P partition, OffsetContext offsetContext, DataCollectionId dataCollectionId) throws InterruptedException {
         context = (IncrementalSnapshotContext<T>) offsetContext.getIncrementalSnapshotContext();
+        if (isConcurrentSnapshot()) {
+            final ConcurrentDataCollection dataCollection = concurrentDataCollections.get(dataCollectionId);
+            if (dataCollection != null && context.deduplicationNeeded() && !dataCollection.window.isEmpty()) {
+                // The chunk is read again with the new schema in the next window
+                dataCollection.window.clear();
+                dataCollection.context.revertChunk();
+            }
+            return;
+        }
         if (dataCollectionId != null && (context.currentDataCollectionId() != null) &&
                 dataCollectionId.equals(context.currentDataCollectionId().getId())) {
             rereadChunk(partition, offsetContext);
@@ -168,20 +235,57 @@ protected String getSignalTableName(String dataCollectionId) {
     }
 
     protected void sendWindowEvents(P partition, OffsetContext offsetContext) throws InterruptedException {
+        if (isConcurrentSnapshot()) {
+            sendConcurrentWindowEvents(partition, offsetContext);
+            return;
+        }
         LOGGER.debug("Sending {} events from window buffer", window.size());
+        final long dispatchStart = clock.currentTimeInMillis();
         offsetContext.incrementalSnapshotEvents();
         for (Object[] row : window.values()) {
             sendEvent(partition, dispatcher, offsetContext, row);
         }
         offsetContext.postSnapshotCompletion();
+        if (chunkSizeController != null && context.currentDataCollectionId() != null) {
+            // Dispatching slows down when the queue is full, so the dispatch time reflects back-pressure
+            chunkSizeController.windowDispatched(context.currentDataCollectionId().getId(), window.size(),
+                    Duration.ofMillis(clock.currentTimeInMillis() - dispatchStart));
+        }
         window.clear();
     }
 
+    private void sendConcurrentWindowEvents(P partition, OffsetContext offsetContext) throws InterruptedException {
+        offsetContext.incrementalSnapshotEvents();
+        for (ConcurrentDataCollection dataCollection : concurrentDataCollections.values()) {
+            if (dataCollection.window.isEmpty()) {
+                continue;
+            }
+            LOGGER.debug("Sending {} events from window buffer of table '{}'", dataCollection.window.size(), dataCollection.table.id());
+            final long dispatchStart = clock.currentTimeInMillis();
+            for (Object[] row : dataCollection.window.values()) {
+                sendEvent(partition, dispatcher, offsetContext, dataCollection.context, dataCollection.table, row);
+            }
+            if (chunkSizeController != null) {
+                chunkSizeController.windowDispatched(dataCollection.table.id(), dataCollection.window.size(),
+                        Duration.ofMillis(clock.currentTimeInMillis() - dispatchStart));
+            }
+            dataCollection.window.clear();
+        }
+        offsetContext.postSnapshotCompletion();
+    }
+
     protected void sendEvent(P partition, EventDispatcher<P, T> dispatcher, OffsetContext offsetContext, Object[] row) throws InterruptedException {
-        context.sendEvent(keyFromRow(row));
-        offsetContext.event(context.currentDataCollectionId().getId(), clock.currentTimeAsInstant());
-        dispatcher.dispatchSnapshotEvent(partition, context.currentDataCollectionId().getId(),
-                getChangeRecordEmitter(partition, context.currentDataCollectionId().getId(), offsetContext, row),
+        sendEvent(partition, dispatcher, offsetContext, context, currentTable, row);
+    }
+
+    private void sendEvent(P partition, EventDispatcher<P, T> dispatcher, OffsetContext offsetContext, IncrementalSnapshotContext<T> context, Table table,
+                           Object[] row)
+            throws InterruptedException {
+        final T dataCollectionId = context.currentDataCollectionId().getId();
+        context.sendEvent(keyFromRow(context, table, row));
+        offsetContext.event(dataCollectionId, clock.currentTimeAsInstant());
+        dispatcher.dispatchSnapshotEvent(partition, dataCollectionId,
+                getChangeRecordEmitter(partition, dataCollectionId, offsetContext, row),
                 dispatcher.getIncrementalSnapshotChangeEventReceiver(dataListener));
     }
 
@@ -195,6 +299,13 @@ protected ChangeRecordEmitter<P> getChangeRecordEmitter(P partition, T dataColle
     }
 
     protected void deduplicateWindow(DataCollectionId dataCollectionId, Object key) {
+        if (isConcurrentSnapshot()) {
+            final ConcurrentDataCollection dataCollection = concurrentDataCollections.get(dataCollectionId);
+            if (dataCollection != null && key instanceof Struct && dataCollection.window.remove(key) != null) {
+                LOGGER.info("Removed '{}' from window of table '{}'", maybeRedactSensitiveData(key), dataCollectionId);
+            }
+            return;
+        }
         if (context.currentDataCollectionId() == null || !context.currentDataCollectionId().getId().equals(dataCollectionId)) {
             return;
         }
@@ -205,6 +316,21 @@ protected void deduplicateWindow(DataCollectionId dataCollectionId, Object key)
         }
     }
 
+    /**
+     * @return {@code true} if no chunk rows are buffered for deduplication
+     */
+    protected boolean isWindowEmpty() {
+        if (!window.isEmpty()) {
+            return false;
+        }
+        for (ConcurrentDataCollection dataCollection : concurrentDataCollections.values()) {
+            if (!dataCollection.window.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Update low watermark for the incremental snapshot chunk
      */
@@ -247,6 +373,7 @@ protected void readChunk(P partition, OffsetContext offsetContext) throws Interr
         checkAndProcessStopFlag(partition, offsetContext);
         if (!context.snapshotRunning()) {
             LOGGER.info("Skipping read chunk because snapshot is not running");
+            concurrentSnapshotCompleted();
             postIncrementalSnapshotCompleted();
             return;
         }
@@ -261,86 +388,92 @@ protected void readChunk(P partition, OffsetContext offsetContext) throws Interr
             context.startNewChunk();
             emitWindowOpen();
             LOGGER.trace("Window open emitted");
-            while (context.snapshotRunning()) {
+            if (isConcurrentSnapshot()) {
+                readConcurrentChunks(partition, offsetContext);
+            }
+            else {
+                while (context.snapshotRunning()) {
 
-                LOGGER.trace("Checking if current table is invalid");
-                if (isTableInvalid(partition, offsetContext)) {
-                    continue;
-                }
-                if (connectorConfig.isIncrementalSnapshotSchemaChangesEnabled() && !schemaHistoryIsUpToDate()) {
-                    // Schema has changed since the previous window.
-                    // Closing the current window and repeating schema verification within the following window.
-                    break;
-                }
-                final TableId currentTableId = (TableId) context.currentDataCollectionId().getId();
-                if (context.maximumKey().isEmpty()) {
-                    currentTable = refreshTableSchema(currentTable);
-                    Object[] maximumKey;
-                    try {
-                        maximumKey = jdbcConnection.queryAndMap(
-                                chunkQueryBuilder.buildMaxPrimaryKeyQuery(context, currentTable, context.currentDataCollectionId().getAdditionalCondition()), rs -> {
-                                    if (!rs.next()) {
-                                        return null;
-                                    }
-                                    return keyFromRow(jdbcConnection.rowToArray(currentTable, rs,
-                                            ColumnUtils.toArray(rs, currentTable)));
-                                });
-                        context.maximumKey(maximumKey);
-                    }
-                    catch (SQLException e) {
-                        LOGGER.error("Failed to read maximum key for table {}", currentTableId, e);
-                        notificationService.incrementalSnapshotNotificationService().notifyTableScanCompleted(context, partition, offsetContext, totalRowsScanned,
-                                SQL_EXCEPTION);
-                        nextDataCollection(partition, offsetContext);
+                    LOGGER.trace("Checking if current table is invalid");
+                    if (isTableInvalid(partition, offsetContext)) {
                         continue;
                     }
-                    if (context.maximumKey().isEmpty()) {
-                        LOGGER.info(
-                                "No maximum key returned by the query, incremental snapshotting of table '{}' finished as it is empty",
-                                currentTableId);
-                        notificationService.incrementalSnapshotNotificationService().notifyTableScanCompleted(context, partition, offsetContext, totalRowsScanned, EMPTY);
-                        nextDataCollection(partition, offsetContext);
-                        continue;
+                    if (connectorConfig.isIncrementalSnapshotSchemaChangesEnabled() && !schemaHistoryIsUpToDate()) {
+                        // Schema has changed since the previous window.
+                        // Closing the current window and repeating schema verification within the following window.
+                        break;
                     }
-                    if (LOGGER.isInfoEnabled()) {
-                        LOGGER.info("Incremental snapshot for table '{}' will end at position {}", currentTableId,
-                                maybeRedactSensitiveData(context.maximumKey().orElse(new Object[0])));
+                    final TableId currentTableId = (TableId) context.currentDataCollectionId().getId();
+                    if (context.maximumKey().isEmpty()) {
+                        currentTable = refreshTableSchema(currentTable);
+                        Object[] maximumKey;
+                        try {
+                            maximumKey = jdbcConnection.queryAndMap(
+                                    chunkQueryBuilder.buildMaxPrimaryKeyQuery(context, currentTable, context.currentDataCollectionId().getAdditionalCondition()), rs -> {
+                                        if (!rs.next()) {
+                                            return null;
+                                        }
+                                        return keyFromRow(jdbcConnection.rowToArray(currentTable, rs,
+                                                ColumnUtils.toArray(rs, currentTable)));
+                                    });
+                            context.maximumKey(maximumKey);
+                        }
+                        catch (SQLException e) {
+                            LOGGER.error("Failed to read maximum key for table {}", currentTableId, e);
+                            notificationService.incrementalSnapshotNotificationService().notifyTableScanCompleted(context, partition, offsetContext, totalRowsScanned,
+                                    SQL_EXCEPTION);
+                            nextDataCollection(partition, offsetContext);
+                            continue;
+                        }
+                        if (context.maximumKey().isEmpty()) {
+                            LOGGER.info(
+                                    "No maximum key returned by the query, incremental snapshotting of table '{}' finished as it is empty",
+                                    currentTableId);
+                            notificationService.incrementalSnapshotNotificationService().notifyTableScanCompleted(context, partition, offsetContext, totalRowsScanned,
+                                    EMPTY);
+                            nextDataCollection(partition, offsetContext);
+                            continue;
+                        }
+                        if (LOGGER.isInfoEnabled()) {
+                            LOGGER.info("Incremental snapshot for table '{}' will end at position {}", currentTableId,
+                                    maybeRedactSensitiveData(context.maximumKey().orElse(new Object[0])));
+                        }
                     }
-                }
 
-                try {
-                    if (createDataEventsForTable(partition)) {
+                    try {
+                        if (createDataEventsForTable(partition)) {
 
-                        if (!context.snapshotRunning()) { // A stop signal has been processed and window cleared.
-                            return;
-                        }
+                            if (!context.snapshotRunning()) { // A stop signal has been processed and window cleared.
+                                return;
+                            }
 
-                        if (window.isEmpty()) {
-                            LOGGER.info("No data returned by the query, incremental snapshotting of table '{}' finished",
-                                    currentTableId);
+                            if (window.isEmpty()) {
+                                LOGGER.info("No data returned by the query, incremental snapshotting of table '{}' finished",
+                                        currentTableId);
 
-                            notificationService.incrementalSnapshotNotificationService().notifyTableScanCompleted(context, partition, offsetContext, totalRowsScanned,
-                                    SUCCEEDED);
+                                notificationService.incrementalSnapshotNotificationService().notifyTableScanCompleted(context, partition, offsetContext, totalRowsScanned,
+                                        SUCCEEDED);
 
-                            tableScanCompleted(partition);
-                            nextDataCollection(partition, offsetContext);
+                                tableScanCompleted(partition);
+                                nextDataCollection(partition, offsetContext);
+                            }
+                            else {
+
+                                notificationService.incrementalSnapshotNotificationService().notifyInProgress(context, partition, offsetContext);
+                                break;
+                            }
                         }
                         else {
-
-                            notificationService.incrementalSnapshotNotificationService().notifyInProgress(context, partition, offsetContext);
+                            context.revertChunk();
                             break;
                         }
                     }
-                    else {
-                        context.revertChunk();
-                        break;
+                    catch (SQLException e) {
+                        notificationService.incrementalSnapshotNotificationService().notifyTableScanCompleted(context, partition, offsetContext, totalRowsScanned,
+                                SQL_EXCEPTION);
+                        nextDataCollection(partition, offsetContext);
                     }
                 }
-                catch (SQLException e) {
-                    notificationService.incrementalSnapshotNotificationService().notifyTableScanCompleted(context, partition, offsetContext, totalRowsScanned,
-                            SQL_EXCEPTION);
-                    nextDataCollection(partition, offsetContext);
-                }
             }
             emitWindowClose(partition, offsetContext);
             LOGGER.trace("Window close emitted");
@@ -351,43 +484,295 @@ protected void readChunk(P partition, OffsetContext offsetContext) throws Interr
         finally {
             postReadChunk(context);
             if (!context.snapshotRunning()) {
+                concurrentSnapshotCompleted();
                 postIncrementalSnapshotCompleted();
             }
         }
     }
 
+    /**
+     * Reads the next chunk of several tables concurrently, each on its own connection and into its own window buffer.
+     * As all the chunks are read between the same low and high watermarks, each window is deduplicated against the
+     * streamed events of its table just as a single window is.
+     */
+    private void readConcurrentChunks(P partition, OffsetContext offsetContext) throws Exception {
+        final AbstractIncrementalSnapshotContext<T> snapshotContext = (AbstractIncrementalSnapshotContext<T>) context;
+        while (context.snapshotRunning()) {
+            refreshConcurrentDataCollections(snapshotContext);
+
+            final List<ConcurrentDataCollection> dataCollectionsToRead = new ArrayList<>();
+            for (ConcurrentDataCollection dataCollection : new ArrayList<>(concurrentDataCollections.values())) {
+                final Table table = resolveTable(dataCollection.context, partition, offsetContext, dataCollection.rowsScanned);
+                if (table == null) {
+                    concurrentDataCollectionCompleted(partition, offsetContext, dataCollection);
+                    continue;
+                }
+                dataCollection.table = refreshTableSchema(table);
+                dataCollection.chunkSize = connectorConfig.getIncrementalSnapshotChunkSize();
+                if (chunkSizeController != null) {
+                    dataCollection.chunkSize = chunkSizeController.getChunkSize(table.id());
+                    progressListener.currentChunkSize(partition, dataCollection.chunkSize);
+                }
+                dataCollectionsToRead.add(dataCollection);
+            }
+            if (dataCollectionsToRead.isEmpty()) {
+                continue;
+            }
+
+            readChunksConcurrently(dataCollectionsToRead);
+
+            boolean windowFilled = false;
+            for (ConcurrentDataCollection dataCollection : dataCollectionsToRead) {
+                final TableId tableId = dataCollection.table.id();
+                if (dataCollection.rows > 0) {
+                    dataCollection.rowsScanned += dataCollection.rows;
+                    progressListener.rowsScanned(partition, tableId, dataCollection.rowsScanned);
+                    if (dataCollection.initialChunk) {
+                        progressListener.currentChunk(partition, context.currentChunkId(), dataCollection.firstKey, dataCollection.lastKey,
+                                dataCollection.context.maximumKey().orElse(null));
+                    }
+                    else {
+                        progressListener.currentChunk(partition, context.currentChunkId(), dataCollection.firstKey, dataCollection.lastKey);
+                    }
+                    if (chunkSizeController != null) {
+                        chunkSizeController.chunkRead(tableId, dataCollection.rows, dataCollection.bytes, dataCollection.readDuration);
+                    }
+                }
+                if (dataCollection.completionStatus != null) {
+                    LOGGER.info("Incremental snapshotting of table '{}' finished with status {}", tableId, dataCollection.completionStatus);
+                    notificationService.incrementalSnapshotNotificationService().notifyTableScanCompleted(dataCollection.context, partition, offsetContext,
+                            dataCollection.rowsScanned, dataCollection.completionStatus);
+                    if (dataCollection.completionStatus == SUCCEEDED) {
+                        progressListener.dataCollectionSnapshotCompleted(partition, tableId, dataCollection.rowsScanned);
+                        progressListener.currentChunk(partition, null, null, null, null);
+                    }
+                    concurrentDataCollectionCompleted(partition, offsetContext, dataCollection);
+                }
+                else {
+                    notificationService.incrementalSnapshotNotificationService().notifyInProgress(dataCollection.context, partition, offsetContext);
+                    windowFilled = true;
+                }
+            }
+            if (windowFilled) {
+                break;
+            }
+        }
+    }
+
+    private void refreshConcurrentDataCollections(AbstractIncrementalSnapshotContext<T> snapshotContext) {
+        final Map<T, ConcurrentDataCollection> previous = new LinkedHashMap<>(concurrentDataCollections);
+        concurrentDataCollections.clear();
+        for (AbstractIncrementalSnapshotContext<T> dataCollectionContext : snapshotContext.concurrentDataCollections(maxConcurrentDataCollections)) {
+            final T dataCollectionId = dataCollectionContext.currentDataCollectionId().getId();
+            final ConcurrentDataCollection dataCollection = previous.get(dataCollectionId);
+            concurrentDataCollections.put(dataCollectionId, dataCollection != null && dataCollection.context == dataCollectionContext
+                    ? dataCollection
+                    : new ConcurrentDataCollection(dataCollectionContext));
+        }
+    }
+
+    private void concurrentDataCollectionCompleted(P partition, OffsetContext offsetContext, ConcurrentDataCollection dataCollection) {
+        final T dataCollectionId = dataCollection.context.currentDataCollectionId().getId();
+        if (chunkSizeController != null) {
+            chunkSizeController.tableCompleted(dataCollectionId);
+        }
+        concurrentDataCollections.remove(dataCollectionId);
+        ((AbstractIncrementalSnapshotContext<T>) context).concurrentDataCollectionCompleted(dataCollectionId);
+        notifyIfSnapshotCompleted(partition, offsetContext);
+    }
+
+    private void readChunksConcurrently(List<ConcurrentDataCollection> dataCollections) throws InterruptedException, SQLException {
+        openChunkReaders(dataCollections.size());
+        final List<Future<Void>> futures = new ArrayList<>();
+        try {
+            for (ConcurrentDataCollection dataCollection : dataCollections) {
+                futures.add(chunkReaderExecutor.submit(() -> {
+                    final ChunkReader reader = chunkReaders.poll();
+                    try {
+                        readConcurrentChunk(dataCollection, reader);
+                    }
+                    finally {
+                        chunkReaders.add(reader);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        }
+        catch (ExecutionException e) {
+            throw new DebeziumException("Failed to read incremental snapshot chunks", e.getCause());
+        }
+        finally {
+            // No chunk reader may still be running when the window is closed
+            for (Future<Void> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Reads the next chunk of a single table on a worker thread. Only the state of the given data collection is modified.
+     */
+    private void readConcurrentChunk(ConcurrentDataCollection dataCollection, ChunkReader reader) throws SQLException {
+        final IncrementalSnapshotContext<T> dataCollectionContext = dataCollection.context;
+        final Table table = dataCollection.table;
+        final Optional<String> additionalCondition = dataCollectionContext.currentDataCollectionId().getAdditionalCondition();
+        final long exportStart = clock.currentTimeInMillis();
+        dataCollection.startChunk(!dataCollectionContext.isNonInitialChunk());
+        try {
+            if (dataCollectionContext.maximumKey().isEmpty()) {
+                final Object[] maximumKey = reader.connection.queryAndMap(
+                        reader.chunkQueryBuilder.buildMaxPrimaryKeyQuery(dataCollectionContext, table, additionalCondition), rs -> {
+                            if (!rs.next()) {
+                                return null;
+                            }
+                            return keyFromRow(dataCollectionContext, table, reader.connection.rowToArray(table, rs, ColumnUtils.toArray(rs, table)));
+                        });
+                dataCollectionContext.maximumKey(maximumKey);
+                if (dataCollectionContext.maximumKey().isEmpty()) {
+                    dataCollection.completionStatus = EMPTY;
+                    return;
+                }
+                if (LOGGER.isInfoEnabled()) {
+                    LOGGER.info("Incremental snapshot for table '{}' will end at position {}", table.id(),
+                            maybeRedactSensitiveData(dataCollectionContext.maximumKey().get()));
+                }
+            }
+
+            final String selectStatement = reader.chunkQueryBuilder.buildChunkQuery(dataCollectionContext, table, dataCollection.chunkSize, additionalCondition);
+            LOGGER.debug("\t For table '{}' using select statement: '{}', key: '{}', maximum key: '{}'", table.id(),
+                    selectStatement, dataCollectionContext.chunkEndPosititon(), maybeRedactSensitiveData(dataCollectionContext.maximumKey().get()));
+            final TableSchema tableSchema = databaseSchema.schemaFor(table.id());
+
+            Object[] firstRow = null;
+            Object[] lastRow = null;
+            try (PreparedStatement statement = reader.chunkQueryBuilder.readTableChunkStatement(dataCollectionContext, table, selectStatement);
+                    ResultSet rs = statement.executeQuery()) {
+                final ColumnUtils.ColumnArray columnArray = ColumnUtils.toArray(rs, table);
+                while (rs.next()) {
+                    final Object[] row = reader.connection.rowToArray(table, rs, columnArray);
+                    if (firstRow == null) {
+                        firstRow = row;
+                    }
+                    dataCollection.window.put(tableSchema.keyFromColumnData(row), row);
+                    dataCollection.rows++;
+                    if (chunkSizeController != null) {
+                        dataCollection.bytes += ApproximateStructSizeCalculator.getApproximateRowSize(row);
+                    }
+                    lastRow = row;
+                }
+            }
+            dataCollection.firstKey = keyFromRow(dataCollectionContext, table, firstRow);
+            dataCollection.lastKey = keyFromRow(dataCollectionContext, table, lastRow);
+            dataCollectionContext.nextChunkPosition(dataCollection.lastKey);
+            dataCollection.readDuration = Duration.ofMillis(clock.currentTimeInMillis() - exportStart);
+            if (dataCollection.rows == 0) {
+                dataCollection.completionStatus = SUCCEEDED;
+            }
+            LOGGER.debug("\t Finished exporting {} records for window of table '{}'; total duration '{}'", dataCollection.rows,
+                    table.id(), Strings.duration(dataCollection.readDuration.toMillis()));
+        }
+        catch (SQLException e) {
+            LOGGER.error("Snapshotting of table {} failed. Skipping it", table.id(), e);
+            dataCollection.window.clear();
+            dataCollection.rows = 0;
+            dataCollection.completionStatus = SQL_EXCEPTION;
+        }
+        finally {
+            // Ends the read transaction so that the next chunk sees the latest committed data
+            reader.connection.commit();
+        }
+    }
+
+    private void openChunkReaders(int count) throws SQLException {
+        if (chunkReaderExecutor == null) {
+            // Created once per concurrent snapshot and shut down with the chunk readers
+            chunkReaderExecutor = Threads.newFixedThreadPool(getClass(), connectorConfig.getLogicalName(), "incremental-snapshot",
+                    maxConcurrentDataCollections);
+        }
+        if (chunkReaders.isEmpty()) {
+            chunkReaders.add(new ChunkReader(jdbcConnection, chunkQueryBuilder, false));
+        }
+        while (chunkReaders.size() < count) {
+            final JdbcConnection connection = connectionFactory.newConnection();
+            connection.connect();
+            chunkReaders.add(new ChunkReader(connection, connection.chunkQueryBuilder(connectorConfig), true));
+        }
+    }
+
+    private void closeChunkReaders() {
+        if (chunkReaderExecutor != null) {
+            chunkReaderExecutor.shutdownNow();
+            chunkReaderExecutor = null;
+        }
+        for (ChunkReader reader : chunkReaders) {
+            if (reader.owned) {
+                try {
+                    reader.connection.close();
+                }
+                catch (SQLException e) {
+                    LOGGER.warn("Failed to close incremental snapshot connection", e);
+                }
+            }
+        }
+        chunkReaders.clear();
+    }
+
+    private void concurrentSnapshotCompleted() {
+        concurrentDataCollections.clear();
+        closeChunkReaders();
+    }
+
     private boolean isTableInvalid(P partition, OffsetContext offsetContext) {
-        final TableId currentTableId = (TableId) context.currentDataCollectionId().getId();
-        currentTable = databaseSchema.tableFor(currentTableId);
+        currentTable = resolveTable(context, partition, offsetContext, totalRowsScanned);
         if (currentTable == null) {
+            nextDataCollection(partition, offsetContext);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Resolves the table of the data collection being snapshotted, notifying about the skipped table if it cannot be snapshotted.
+     *
+     * @return the table, or {@code null} if the table has to be skipped
+     */
+    private Table resolveTable(IncrementalSnapshotContext<T> context, P partition, OffsetContext offsetContext, long rowsScanned) {
+        final TableId tableId = (TableId) context.currentDataCollectionId().getId();
+        Table table = databaseSchema.tableFor(tableId);
+        if (table == null) {
             LOGGER.info("Schema not found for table '{}', known tables {}. Will attempt to retrieve this schema",
-                    currentTableId, databaseSchema.tableIds());
+                    tableId, databaseSchema.tableIds());
             try {
-                retrieveAndRefreshSchema(currentTableId, partition, offsetContext);
-                currentTable = databaseSchema.tableFor(currentTableId);
-                if (currentTable == null) {
-                    warnAndSkip(currentTableId, partition, offsetContext, UNKNOWN_SCHEMA, "Schema retrieval failed to populate the schema as expected for {}");
-                    return true;
+                retrieveAndRefreshSchema(tableId, partition, offsetContext);
+                table = databaseSchema.tableFor(tableId);
+                if (table == null) {
+                    warnAndSkip(context, tableId, partition, offsetContext, rowsScanned, UNKNOWN_SCHEMA,
+                            "Schema retrieval failed to populate the schema as expected for {}");
+                    return null;
                 }
             }
             catch (Exception e) {
-                LOGGER.warn("Failed to retrieve schema for {}", currentTableId, e);
-                warnAndSkip(currentTableId, partition, offsetContext, UNKNOWN_SCHEMA, "Schema retrieval failed due to an exception for {}");
-                return true;
+                LOGGER.warn("Failed to retrieve schema for {}", tableId, e);
+                warnAndSkip(context, tableId, partition, offsetContext, rowsScanned, UNKNOWN_SCHEMA, "Schema retrieval failed due to an exception for {}");
+                return null;
             }
         }
-        if (chunkQueryBuilder.getQueryColumns(context, currentTable).isEmpty()) {
-            warnAndSkip(currentTableId, partition, offsetContext, NO_PRIMARY_KEY, "Incremental snapshot for table '{}' skipped because the table has no primary keys");
-            return true;
+        if (chunkQueryBuilder.getQueryColumns(context, table).isEmpty()) {
+            warnAndSkip(context, tableId, partition, offsetContext, rowsScanned, NO_PRIMARY_KEY,
+                    "Incremental snapshot for table '{}' skipped because the table has no primary keys");
+            return null;
         }
-        return false;
+        return table;
     }
 
-    private void warnAndSkip(TableId currentTableId, P partition, OffsetContext offsetContext, TableScanCompletionStatus status, String reason) {
-        LOGGER.warn(reason, currentTableId);
+    private void warnAndSkip(IncrementalSnapshotContext<T> context, TableId tableId, P partition, OffsetContext offsetContext, long rowsScanned,
+                             TableScanCompletionStatus status, String reason) {
+        LOGGER.warn(reason, tableId);
         notificationService.incrementalSnapshotNotificationService()
-                .notifyTableScanCompleted(context, partition, offsetContext, totalRowsScanned, status);
-        nextDataCollection(partition, offsetContext);
+                .notifyTableScanCompleted(context, partition, offsetContext, rowsScanned, status);
     }
 
     private void retrieveAndRefreshSchema(TableId tableId, P partition, OffsetContext offsetContext) throws SQLException, InterruptedException {
@@ -396,9 +781,8 @@ private void retrieveAndRefreshSchema(TableId tableId, P partition, OffsetContex
         // Create and dispatch schema change event
         createAndDispatchSchemaChangeEvent(newTable, partition, offsetContext, tableId);
 
-        // Refresh schema and assign to current table
+        // Refresh schema
         databaseSchema.refresh(newTable);
-        currentTable = newTable;
         LOGGER.info("Schema successfully read and dispatched for table '{}'", tableId);
     }
 
@@ -447,7 +831,14 @@ private Table readSchema() {
     }
 
     private void nextDataCollection(P partition, OffsetContext offsetContext) {
+        if (chunkSizeController != null && context.currentDataCollectionId() != null) {
+            chunkSizeController.tableCompleted(context.currentDataCollectionId().getId());
+        }
         context.nextDataCollection();
+        notifyIfSnapshotCompleted(partition, offsetContext);
+    }
+
+    private void notifyIfSnapshotCompleted(P partition, OffsetContext offsetContext) {
         if (!context.snapshotRunning()) {
             progressListener.snapshotCompleted(partition);
             notificationService.incrementalSnapshotNotificationService().notifyCompleted(context, partition, offsetContext);
@@ -581,7 +972,15 @@ private boolean createDataEventsForTable(P partition) throws SQLException {
         long exportStart = clock.currentTimeInMillis();
         LOGGER.debug("Exporting data chunk from table '{}' (total {} tables)", currentTable.id(), context.dataCollectionsToBeSnapshottedCount());
 
-        final String selectStatement = chunkQueryBuilder.buildChunkQuery(context, currentTable, context.currentDataCollectionId().getAdditionalCondition());
+        final String selectStatement;
+        if (chunkSizeController != null) {
+            final int chunkSize = chunkSizeController.getChunkSize(currentTable.id());
+            progressListener.currentChunkSize(partition, chunkSize);
+            selectStatement = chunkQueryBuilder.buildChunkQuery(context, currentTable, chunkSize, context.currentDataCollectionId().getAdditionalCondition());
+        }
+        else {
+            selectStatement = chunkQueryBuilder.buildChunkQuery(context, currentTable, context.currentDataCollectionId().getAdditionalCondition());
+        }
         LOGGER.debug("\t For table '{}' using select statement: '{}', key: '{}', maximum key: '{}'", currentTable.id(),
                 selectStatement, context.chunkEndPosititon(), maybeRedactSensitiveData(context.maximumKey().get()));
 
@@ -594,6 +993,7 @@ private boolean createDataEventsForTable(P partition) throws SQLException {
             }
             final ColumnUtils.ColumnArray columnArray = ColumnUtils.toArray(rs, currentTable);
             long rows = 0;
+            long bytes = 0;
             Timer logTimer = getTableScanLogTimer();
 
             Object[] lastRow = null;
@@ -606,6 +1006,9 @@ private boolean createDataEventsForTable(P partition) throws SQLException {
                 }
                 final Struct keyStruct = tableSchema.keyFromColumnData(row);
                 window.put(keyStruct, row);
+                if (chunkSizeController != null) {
+                    bytes += ApproximateStructSizeCalculator.getApproximateRowSize(row);
+                }
                 if (logTimer.expired()) {
                     long stop = clock.currentTimeInMillis();
                     LOGGER.debug("\t Exported {} records for table '{}' after {}", rows, currentTable.id(),
@@ -630,6 +1033,9 @@ private boolean createDataEventsForTable(P partition) throws SQLException {
             LOGGER.debug("\t Finished exporting {} records for window of table table '{}'; total duration '{}'", rows,
                     currentTable.id(), Strings.duration(clock.currentTimeInMillis() - exportStart));
             incrementTableRowsScanned(partition, rows);
+            if (chunkSizeController != null) {
+                chunkSizeController.chunkRead(currentTable.id(), rows, bytes, Duration.ofMillis(clock.currentTimeInMillis() - exportStart));
+            }
         }
         catch (SQLException e) {
             LOGGER.error("Snapshotting of table {} failed. Skipping it", currentTable.id(), e);
@@ -690,12 +1096,16 @@ private Timer getTableScanLogTimer() {
         return Threads.timer(clock, RelationalSnapshotChangeEventSource.LOG_INTERVAL);
     }
 
-    @SuppressWarnings("unchecked")
     private Object[] keyFromRow(Object[] row) {
+        return keyFromRow(context, currentTable, row);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object[] keyFromRow(IncrementalSnapshotContext<T> context, Table table, Object[] row) {
         if (row == null) {
             return null;
         }
-        final List<Column> keyColumns = chunkQueryBuilder.getQueryColumns(context, currentTable);
+        final List<Column> keyColumns = chunkQueryBuilder.getQueryColumns(context, table);
         final Object[] key = new Object[keyColumns.size()];
         for (int i = 0; i < keyColumns.size(); i++) {
             final Object fieldValue = row[keyColumns.get(i).position() - 1];
@@ -705,6 +1115,55 @@ private Object[] keyFromRow(Object[] row) {
         return key;
     }
 
+    /**
+     * A table that is snapshotted concurrently with other tables, buffering the rows of its current chunk in its own window.
+     */
+    private class ConcurrentDataCollection {
+        private final AbstractIncrementalSnapshotContext<T> context;
+        private final Map<Struct, Object[]> window = new LinkedHashMap<>();
+        private Table table;
+        private int chunkSize;
+        private long rowsScanned;
+
+        // The outcome of reading the latest chunk
+        private boolean initialChunk;
+        private long rows;
+        private long bytes;
+        private Object[] firstKey;
+        private Object[] lastKey;
+        private Duration readDuration;
+        private TableScanCompletionStatus completionStatus;
+
+        ConcurrentDataCollection(AbstractIncrementalSnapshotContext<T> context) {
+            this.context = context;
+        }
+
+        void startChunk(boolean initialChunk) {
+            this.initialChunk = initialChunk;
+            this.rows = 0;
+            this.bytes = 0;
+            this.firstKey = null;
+            this.lastKey = null;
+            this.readDuration = Duration.ZERO;
+            this.completionStatus = null;
+        }
+    }
+
+    /**
+     * A connection reading the chunks of concurrently snapshotted tables.
+     */
+    private class ChunkReader {
+        private final JdbcConnection connection;
+        private final ChunkQueryBuilder<T> chunkQueryBuilder;
+        private final boolean owned;
+
+        ChunkReader(JdbcConnection connection, ChunkQueryBuilder<T> chunkQueryBuilder, boolean owned) {
+            this.connection = connection;
+            this.chunkQueryBuilder = chunkQueryBuilder;
+            this.owned = owned;
+        }
+    }
+
     protected void setContext(IncrementalSnapshotContext<T> context) {
         this.context = context;
     }
@@ -56,6 +56,7 @@
     public static final String EVENT_PRIMARY_KEY = INCREMENTAL_SNAPSHOT_KEY + "_primary_key";
     public static final String TABLE_MAXIMUM_KEY = INCREMENTAL_SNAPSHOT_KEY + "_maximum_key";
     public static final String CORRELATION_ID = INCREMENTAL_SNAPSHOT_KEY + "_correlation_id";
+    public static final String CONCURRENT_DATA_COLLECTIONS = INCREMENTAL_SNAPSHOT_KEY + "_concurrent_collections";
     private final SnapshotDataCollection<T> snapshotDataCollection = new SnapshotDataCollection<>();
 
     /**
@@ -98,8 +99,23 @@
     private final AtomicBoolean paused = new AtomicBoolean(false);
     private final LinkedBlockingQueue<String> dataCollectionsToStop = new LinkedBlockingQueue<>();
 
+    /**
+     * The state of the data collections that are snapshotted concurrently, each tracking its own chunk positions.
+     */
+    private final Map<T, AbstractIncrementalSnapshotContext<T>> concurrentDataCollections = new LinkedHashMap<>();
+
+    /**
+     * The context snapshotting all data collections if this context tracks a single concurrently snapshotted one.
+     */
+    private final AbstractIncrementalSnapshotContext<T> parent;
+
     public AbstractIncrementalSnapshotContext(boolean useCatalogBeforeSchema) {
+        this(useCatalogBeforeSchema, null);
+    }
+
+    private AbstractIncrementalSnapshotContext(boolean useCatalogBeforeSchema, AbstractIncrementalSnapshotContext<T> parent) {
         this.useCatalogBeforeSchema = useCatalogBeforeSchema;
+        this.parent = parent;
     }
 
     public boolean openWindow(String id) {
@@ -192,9 +208,26 @@ public Map<String, Object> store(Map<String, Object> offset) {
         offset.put(TABLE_MAXIMUM_KEY, arrayToSerializedString(maximumKey));
         offset.put(SnapshotDataCollection.DATA_COLLECTIONS_TO_SNAPSHOT_KEY, snapshotDataCollection.dataCollectionsAsJsonString());
         offset.put(CORRELATION_ID, correlationId);
+        if (!concurrentDataCollections.isEmpty()) {
+            offset.put(CONCURRENT_DATA_COLLECTIONS, arrayToSerializedString(concurrentDataCollectionPositions()));
+        }
         return offset;
     }
 
+    /**
+     * @return the id, the last sent key and the maximum key of each concurrently snapshotted data collection, one after another
+     */
+    private Object[] concurrentDataCollectionPositions() {
+        final Object[] positions = new Object[concurrentDataCollections.size() * 3];
+        int i = 0;
+        for (Map.Entry<T, AbstractIncrementalSnapshotContext<T>> entry : concurrentDataCollections.entrySet()) {
+            positions[i++] = entry.getKey().toString();
+            positions[i++] = entry.getValue().lastEventKeySent;
+            positions[i++] = entry.getValue().maximumKey;
+        }
+        return positions;
+    }
+
     private void addTablesIdsToSnapshot(List<DataCollection<T>> dataCollectionIds) {
         snapshotDataCollection.add(dataCollectionIds);
     }
@@ -248,11 +281,15 @@ public void requestSnapshotStop(List<String> dataCollectionIds) {
     @SuppressWarnings("unchecked")
     public boolean removeDataCollectionFromSnapshot(String dataCollectionId) {
         final T collectionId = (T) TableId.parse(dataCollectionId, useCatalogBeforeSchema);
+        concurrentDataCollections.remove(collectionId);
         return snapshotDataCollection.remove(List.of(new DataCollection<>(collectionId)));
     }
 
     @Override
     public List<DataCollection<T>> getDataCollections() {
+        if (parent != null) {
+            return parent.getDataCollections();
+        }
         return new ArrayList<>(snapshotDataCollection.getDataCollectionsToSnapshot());
     }
 
@@ -263,7 +300,47 @@ public void unsetCorrelationId() {
 
     @Override
     public String getCorrelationId() {
-        return this.correlationId;
+        return parent != null ? parent.getCorrelationId() : this.correlationId;
+    }
+
+    /**
+     * Returns the state of the data collections that are snapshotted concurrently. Data collections from the head of
+     * the queue are added until the given number of them is snapshotted.
+     *
+     * @param maxDataCollections the maximum number of data collections to snapshot concurrently
+     * @return the contexts tracking the chunk positions of each data collection, in the order of the queue
+     */
+    public List<AbstractIncrementalSnapshotContext<T>> concurrentDataCollections(int maxDataCollections) {
+        for (DataCollection<T> dataCollection : snapshotDataCollection.getDataCollectionsToSnapshot()) {
+            if (concurrentDataCollections.size() >= maxDataCollections) {
+                break;
+            }
+            concurrentDataCollections.computeIfAbsent(dataCollection.getId(), id -> newConcurrentDataCollection(dataCollection));
+        }
+        return new ArrayList<>(concurrentDataCollections.values());
+    }
+
+    private AbstractIncrementalSnapshotContext<T> newConcurrentDataCollection(DataCollection<T> dataCollection) {
+        final AbstractIncrementalSnapshotContext<T> dataCollectionContext = new AbstractIncrementalSnapshotContext<>(useCatalogBeforeSchema, this);
+        dataCollectionContext.addTablesIdsToSnapshot(List.of(dataCollection));
+        if (dataCollection.equals(currentDataCollectionId()) && maximumKey != null) {
+            // The snapshot of the data collection was started by a single-threaded snapshot, continue from its position
+            dataCollectionContext.chunkEndPosition = chunkEndPosition;
+            dataCollectionContext.lastEventKeySent = lastEventKeySent;
+            dataCollectionContext.maximumKey = maximumKey;
+            resetChunk();
+        }
+        return dataCollectionContext;
+    }
+
+    /**
+     * Removes a concurrently snapshotted data collection from the snapshot once all of its chunks have been read.
+     *
+     * @param dataCollectionId the id of the completed data collection
+     */
+    public void concurrentDataCollectionCompleted(T dataCollectionId) {
+        concurrentDataCollections.remove(dataCollectionId);
+        snapshotDataCollection.remove(List.of(new DataCollection<>(dataCollectionId)));
     }
 
     protected static <U> IncrementalSnapshotContext<U> init(AbstractIncrementalSnapshotContext<U> context, Map<String, ?> offsets) {
@@ -281,6 +358,22 @@ protected static <U> IncrementalSnapshotContext<U> init(AbstractIncrementalSnaps
             context.addTablesIdsToSnapshot(context.snapshotDataCollection.stringToDataCollections(dataCollectionsStr, context.useCatalogBeforeSchema));
         }
         context.correlationId = (String) offsets.get(CORRELATION_ID);
+        context.concurrentDataCollections.clear();
+        final String concurrentDataCollectionsStr = (String) offsets.get(CONCURRENT_DATA_COLLECTIONS);
+        if (concurrentDataCollectionsStr != null) {
+            final Object[] positions = context.serializedStringToArray(CONCURRENT_DATA_COLLECTIONS, concurrentDataCollectionsStr);
+            for (int i = 0; i < positions.length; i += 3) {
+                final String id = (String) positions[i];
+                for (DataCollection<U> dataCollection : context.snapshotDataCollection.getDataCollectionsToSnapshot()) {
+                    if (dataCollection.getId().toString().equals(id)) {
+                        final AbstractIncrementalSnapshotContext<U> dataCollectionContext = context.newConcurrentDataCollection(dataCollection);
+                        dataCollectionContext.chunkEndPosition = (Object[]) positions[i + 1];
+                        dataCollectionContext.maximumKey = (Object[]) positions[i + 2];
+                        context.concurrentDataCollections.put(dataCollection.getId(), dataCollectionContext);
+                    }
+                }
+            }
+        }
         return context;
     }
 
@@ -369,7 +462,7 @@ public String toString() {
         return "IncrementalSnapshotContext [windowOpened=" + windowOpened + ", chunkEndPosition="
                 + Arrays.toString(chunkEndPosition) + ", dataCollectionsToSnapshot=" + snapshotDataCollection.getDataCollectionsToSnapshot()
                 + ", lastEventKeySent=" + Arrays.toString(lastEventKeySent) + ", maximumKey="
-                + Arrays.toString(maximumKey) + "]";
+                + Arrays.toString(maximumKey) + ", concurrentDataCollections=" + concurrentDataCollections.values() + "]";
     }
 
     private static class SnapshotDataCollection<T> extends LinkedBlockingQueue<DataCollection<T>> {
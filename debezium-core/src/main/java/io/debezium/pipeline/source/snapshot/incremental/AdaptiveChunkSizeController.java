@@ -0,0 +1,148 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.snapshot.incremental;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.spi.schema.DataCollectionId;
+
+/**
+ * Chooses the size of each incremental snapshot chunk per table.
+ * <p>
+ * For every table, the controller keeps a moving average of the row size, of the time needed to read a row
+ * and of the time needed to dispatch a row of the previous window. The latter grows when the change event
+ * queue is full, so that back-pressure shrinks the chunks as well. The next chunk is sized to keep the window
+ * within both the target number of bytes and the target duration, changing by at most a factor of two per
+ * chunk and staying within the configured minimum and maximum.
+ */
+@NotThreadSafe
+public class AdaptiveChunkSizeController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdaptiveChunkSizeController.class);
+
+    /**
+     * The weight of the latest chunk in the moving averages.
+     */
+    private static final double SMOOTHING_FACTOR = 0.5;
+
+    private final int initialChunkSize;
+    private final int minimumChunkSize;
+    private final int maximumChunkSize;
+    private final long targetWindowBytes;
+    private final long targetWindowNanos;
+    private final Map<DataCollectionId, TableChunkStatistics> statistics = new HashMap<>();
+
+    public AdaptiveChunkSizeController(CommonConnectorConfig connectorConfig) {
+        this(connectorConfig.getIncrementalSnapshotChunkSize(),
+                connectorConfig.getIncrementalSnapshotChunkSizeMin(),
+                connectorConfig.getIncrementalSnapshotChunkSizeMax(),
+                connectorConfig.getIncrementalSnapshotWindowTargetBytes(),
+                connectorConfig.getIncrementalSnapshotWindowTargetDuration());
+    }
+
+    public AdaptiveChunkSizeController(int initialChunkSize, int minimumChunkSize, int maximumChunkSize, long targetWindowBytes,
+                                       Duration targetWindowDuration) {
+        this.minimumChunkSize = minimumChunkSize;
+        this.maximumChunkSize = Math.max(minimumChunkSize, maximumChunkSize);
+        this.initialChunkSize = clamp(initialChunkSize, this.minimumChunkSize, this.maximumChunkSize);
+        this.targetWindowBytes = targetWindowBytes;
+        this.targetWindowNanos = targetWindowDuration.toNanos();
+    }
+
+    /**
+     * @param dataCollectionId the table being snapshotted
+     * @return the number of rows to read in the next chunk of the table
+     */
+    public int getChunkSize(DataCollectionId dataCollectionId) {
+        final TableChunkStatistics tableStatistics = statistics.get(dataCollectionId);
+        return tableStatistics != null ? tableStatistics.chunkSize : initialChunkSize;
+    }
+
+    /**
+     * Records a chunk that has been read from a table and resizes the next chunk accordingly.
+     *
+     * @param dataCollectionId the table the chunk was read from
+     * @param rows the number of rows in the chunk
+     * @param bytes the approximate size of the rows in the chunk
+     * @param readDuration the time taken to query and read the chunk
+     */
+    public void chunkRead(DataCollectionId dataCollectionId, long rows, long bytes, Duration readDuration) {
+        if (rows == 0) {
+            return;
+        }
+        final TableChunkStatistics tableStatistics = statistics.computeIfAbsent(dataCollectionId, id -> new TableChunkStatistics(initialChunkSize));
+        tableStatistics.bytesPerRow = average(tableStatistics.bytesPerRow, (double) bytes / rows);
+        tableStatistics.readNanosPerRow = average(tableStatistics.readNanosPerRow, (double) readDuration.toNanos() / rows);
+        resize(dataCollectionId, tableStatistics);
+    }
+
+    /**
+     * Records the time taken to dispatch the window of a table's chunk and resizes the next chunk accordingly.
+     *
+     * @param dataCollectionId the table the window belongs to
+     * @param rows the number of rows in the window
+     * @param dispatchDuration the time taken to dispatch all events of the window
+     */
+    public void windowDispatched(DataCollectionId dataCollectionId, long rows, Duration dispatchDuration) {
+        final TableChunkStatistics tableStatistics = statistics.get(dataCollectionId);
+        if (rows == 0 || tableStatistics == null) {
+            return;
+        }
+        tableStatistics.dispatchNanosPerRow = average(tableStatistics.dispatchNanosPerRow, (double) dispatchDuration.toNanos() / rows);
+        resize(dataCollectionId, tableStatistics);
+    }
+
+    /**
+     * Discards the statistics of a table whose snapshot has completed.
+     *
+     * @param dataCollectionId the table
+     */
+    public void tableCompleted(DataCollectionId dataCollectionId) {
+        statistics.remove(dataCollectionId);
+    }
+
+    private void resize(DataCollectionId dataCollectionId, TableChunkStatistics tableStatistics) {
+        final double nanosPerRow = tableStatistics.readNanosPerRow + Math.max(0, tableStatistics.dispatchNanosPerRow);
+        final double rowsByBytes = targetWindowBytes / Math.max(1.0, tableStatistics.bytesPerRow);
+        final double rowsByDuration = targetWindowNanos / Math.max(1.0, nanosPerRow);
+        final long desired = (long) Math.min(rowsByBytes, rowsByDuration);
+
+        final int previous = tableStatistics.chunkSize;
+        final long bounded = Math.max(previous / 2, Math.min(desired, previous * 2L));
+        tableStatistics.chunkSize = clamp(bounded, minimumChunkSize, maximumChunkSize);
+
+        if (tableStatistics.chunkSize != previous) {
+            LOGGER.debug("Changed incremental snapshot chunk size of '{}' from {} to {} ({} bytes and {} ns per row)",
+                    dataCollectionId, previous, tableStatistics.chunkSize, (long) tableStatistics.bytesPerRow, (long) nanosPerRow);
+        }
+    }
+
+    private static double average(double average, double value) {
+        return average < 0 ? value : SMOOTHING_FACTOR * value + (1 - SMOOTHING_FACTOR) * average;
+    }
+
+    private static int clamp(long value, int minimum, int maximum) {
+        return (int) Math.max(minimum, Math.min(maximum, value));
+    }
+
+    private static class TableChunkStatistics {
+        private int chunkSize;
+        private double bytesPerRow = -1;
+        private double readNanosPerRow = -1;
+        private double dispatchNanosPerRow = -1;
+
+        TableChunkStatistics(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+    }
+}
@@ -44,4 +44,18 @@
      */
     List<Column> getQueryColumns(IncrementalSnapshotContext<T> context, Table table);
 
+    /**
+     * Builds a condition that restricts a table read to the key range {@code (lowerBound, upperBound]}.
+     * Either of the bounds may be {@code null}, leaving that side of the range open.
+     */
+    String buildKeyRangeCondition(Table table, Object[] lowerBound, Object[] upperBound);
+
+    /**
+     * Fills the placeholders of a condition returned by buildKeyRangeCondition, starting at the given position.
+     *
+     * @return the position of the last placeholder that was filled
+     */
+    int setKeyRangeConditionValues(PreparedStatement statement, Table table, Object[] lowerBound, Object[] upperBound, int position)
+            throws SQLException;
+
 }
@@ -111,6 +111,20 @@ protected void addUpperBound(IncrementalSnapshotContext<T> context, Table table,
         rowValueComparison(pkColumns, "<=", sql);
     }
 
+    @Override
+    protected int setBoundaryKeyValues(PreparedStatement statement, List<Column> queryColumns, Object[] boundaryKey, int pos)
+            throws SQLException {
+        if (fallbackToSuper(queryColumns)) {
+            // Fall back to slower base class implementation that is correct for NULL values.
+            return super.setBoundaryKeyValues(statement, queryColumns, boundaryKey, pos);
+        }
+
+        for (int i = 0; i < boundaryKey.length; i++) {
+            jdbcConnection.setQueryColumnValue(statement, queryColumns.get(i), ++pos, boundaryKey[i]);
+        }
+        return pos;
+    }
+
     @Override
     public PreparedStatement readTableChunkStatement(IncrementalSnapshotContext<T> context, Table table, String sql) throws SQLException {
         final List<Column> queryColumns = getQueryColumns(context, table);
@@ -17,6 +17,7 @@
 
 import io.debezium.annotation.NotThreadSafe;
 import io.debezium.config.CommonConnectorConfig;
+import io.debezium.jdbc.ConnectionFactory;
 import io.debezium.jdbc.JdbcConnection;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.notification.NotificationService;
@@ -45,7 +46,18 @@ public SignalBasedIncrementalSnapshotChangeEventSource(RelationalDatabaseConnect
                                                            SnapshotProgressListener<P> progressListener,
                                                            DataChangeEventListener<P> dataChangeEventListener,
                                                            NotificationService<P, ? extends OffsetContext> notificationService) {
-        super(config, jdbcConnection, dispatcher, databaseSchema, clock, progressListener, dataChangeEventListener, notificationService);
+        this(config, jdbcConnection, dispatcher, databaseSchema, clock, progressListener, dataChangeEventListener, notificationService, null);
+    }
+
+    public SignalBasedIncrementalSnapshotChangeEventSource(RelationalDatabaseConnectorConfig config,
+                                                           JdbcConnection jdbcConnection,
+                                                           EventDispatcher<P, T> dispatcher, DatabaseSchema<?> databaseSchema,
+                                                           Clock clock,
+                                                           SnapshotProgressListener<P> progressListener,
+                                                           DataChangeEventListener<P> dataChangeEventListener,
+                                                           NotificationService<P, ? extends OffsetContext> notificationService,
+                                                           ConnectionFactory<? extends JdbcConnection> connectionFactory) {
+        super(config, jdbcConnection, dispatcher, databaseSchema, clock, progressListener, dataChangeEventListener, notificationService, connectionFactory);
         signalWindowStatement = "INSERT INTO " + getSignalTableName(config.getSignalingDataCollectionId())
                 + " VALUES (?, ?, ?)";
     }
@@ -59,7 +71,7 @@ public void processMessage(Partition partition, DataCollectionId dataCollectionI
             return;
         }
         LOGGER.trace("Checking window for table '{}', key '{}', window contains '{}'", dataCollectionId, maybeRedactSensitiveData(key), window);
-        if (!window.isEmpty() && context.deduplicationNeeded()) {
+        if (!isWindowEmpty() && context.deduplicationNeeded()) {
             deduplicateWindow(dataCollectionId, key);
         }
     }
@@ -38,6 +38,8 @@
 
     void currentChunk(P partition, String chunkId, Object[] chunkFrom, Object[] chunkTo, Object[] tableTo);
 
+    void currentChunkSize(P partition, int chunkSize);
+
     static <P extends Partition> SnapshotProgressListener<P> NO_OP() {
         return new SnapshotProgressListener<P>() {
 
@@ -84,6 +86,10 @@ public void currentChunk(P partition, String chunkId, Object[] chunkFrom, Object
             @Override
             public void currentChunk(P partition, String chunkId, Object[] chunkFrom, Object[] chunkTo, Object[] tableTo) {
             }
+
+            @Override
+            public void currentChunkSize(P partition, int chunkSize) {
+            }
         };
     }
 }
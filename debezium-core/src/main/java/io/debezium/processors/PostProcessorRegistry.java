@@ -6,13 +6,18 @@
 package io.debezium.processors;
 
 import java.io.Closeable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
 import io.debezium.annotation.Immutable;
 import io.debezium.annotation.ThreadSafe;
 import io.debezium.bean.spi.BeanRegistry;
 import io.debezium.bean.spi.BeanRegistryAware;
+import io.debezium.processors.spi.BatchPostProcessor;
 import io.debezium.processors.spi.PostProcessor;
 import io.debezium.service.Service;
 import io.debezium.service.spi.InjectService;
@@ -28,6 +33,9 @@ public class PostProcessorRegistry implements Service, Startable, Closeable {
 
     @Immutable
     private final List<PostProcessor> processors;
+    // Whether a post processor is applied to batches is known once the bean registry is injected
+    private volatile List<PostProcessor> eventProcessors = Collections.emptyList();
+    private volatile List<BatchPostProcessor> batchProcessors = Collections.emptyList();
     private BeanRegistry beanRegistry;
 
     public PostProcessorRegistry(List<PostProcessor> processors) {
@@ -51,6 +59,19 @@ public void start() {
                 ((BeanRegistryAware) postProcessor).injectBeanRegistry(beanRegistry);
             }
         }
+
+        final List<PostProcessor> eventProcessors = new ArrayList<>();
+        final List<BatchPostProcessor> batchProcessors = new ArrayList<>();
+        for (PostProcessor processor : processors) {
+            if (processor instanceof BatchPostProcessor batchProcessor && batchProcessor.isBatchEnabled()) {
+                batchProcessors.add(batchProcessor);
+            }
+            else {
+                eventProcessors.add(processor);
+            }
+        }
+        this.eventProcessors = Collections.unmodifiableList(eventProcessors);
+        this.batchProcessors = Collections.unmodifiableList(batchProcessors);
     }
 
     @Override
@@ -64,4 +85,38 @@ public List<PostProcessor> getProcessors() {
         return this.processors;
     }
 
+    /**
+     * @return the post processors to apply to each event before it is added to the change event queue
+     */
+    public List<PostProcessor> getEventProcessors() {
+        return this.eventProcessors;
+    }
+
+    /**
+     * @return whether any post processor is applied to the records of poll batches
+     */
+    public boolean hasBatchProcessors() {
+        return !this.batchProcessors.isEmpty();
+    }
+
+    /**
+     * Applies the batch-enabled post processors to the records of a poll batch.
+     *
+     * @param records the records returned by the task's poll, may be {@code null}
+     */
+    public void applyBatch(List<SourceRecord> records) {
+        if (batchProcessors.isEmpty() || records == null || records.isEmpty()) {
+            return;
+        }
+        final List<BatchPostProcessor.Event> events = new ArrayList<>(records.size());
+        for (SourceRecord record : records) {
+            if (record.value() instanceof Struct value) {
+                events.add(new BatchPostProcessor.Event(record.key(), value));
+            }
+        }
+        for (BatchPostProcessor processor : batchProcessors) {
+            processor.apply(events);
+        }
+    }
+
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.processors;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Schema.Type;
+
+import io.debezium.data.Json;
+
+/**
+ * Detects the representations of the {@code unavailable.value.placeholder} sentinel value in the fields of a
+ * change event, e.g. the value of an unchanged PostgreSQL TOAST column.
+ */
+public class UnavailableValuePlaceholderMatcher {
+
+    private final String placeholder;
+    private final ByteBuffer placeholderBytes;
+    private final Map<String, String> placeholderMap;
+    private final String placeholderJson;
+    private final List<Integer> placeholderIntArray;
+    private final List<Long> placeholderLongArray;
+
+    public UnavailableValuePlaceholderMatcher(byte[] unavailableValuePlaceholder) {
+        this.placeholder = new String(unavailableValuePlaceholder);
+        this.placeholderBytes = ByteBuffer.wrap(unavailableValuePlaceholder);
+        this.placeholderMap = Map.of(placeholder, placeholder);
+        this.placeholderJson = "{\"" + placeholder + "\":\"" + placeholder + "\"}";
+        this.placeholderIntArray = new ArrayList<>(unavailableValuePlaceholder.length);
+        this.placeholderLongArray = new ArrayList<>(unavailableValuePlaceholder.length);
+        for (byte b : unavailableValuePlaceholder) {
+            placeholderIntArray.add((int) b);
+            placeholderLongArray.add((long) b);
+        }
+    }
+
+    /**
+     * @param field the field of the event value
+     * @param value the value of the field
+     * @return {@code true} if the value is, or for arrays contains, the unavailable value placeholder
+     */
+    public boolean matches(Field field, Object value) {
+        if (field.schema().type() == Schema.Type.ARRAY && value != null) {
+            // Special use case to inspect by element
+            final Collection<?> values = (Collection<?>) value;
+            for (Object collectionValue : values) {
+                if (matches(field.schema().valueSchema(), collectionValue)) {
+                    return true;
+                }
+            }
+            // Case for whole array value representing unavailable value
+            return matchesArray(field.schema(), value);
+        }
+        return matches(field.schema(), value);
+    }
+
+    private boolean matches(Schema schema, Object value) {
+        switch (schema.type()) {
+            case BYTES:
+                return placeholderBytes.equals(value);
+            case MAP:
+                return placeholderMap.equals(value);
+            case STRING:
+                // Both PostgreSQL HSTORE and JSON/JSONB have a schema name of "json".
+                // PostgreSQL HSTORE fields use a JSON-like unavailable value placeholder, e.g., {"key":"value"},
+                // while JSON/JSONB fields use a simple string placeholder.
+                // This condition is needed to handle both cases:
+                // - HSTORE unavailable value placeholders (as JSON objects)
+                // - JSON/JSONB unavailable value placeholders (as strings)
+                final boolean isJsonAndUnavailable = Json.LOGICAL_NAME.equals(schema.name()) && placeholderJson.equals(value);
+                return placeholder.equals(value) || isJsonAndUnavailable;
+        }
+        return false;
+    }
+
+    private boolean matchesArray(Schema schema, Object value) {
+        assert schema.type() == Type.ARRAY;
+        switch (schema.valueSchema().type()) {
+            case INT32:
+                return placeholderIntArray.equals(value);
+            case INT64:
+                return placeholderLongArray.equals(value);
+            default:
+                return false;
+        }
+    }
+}
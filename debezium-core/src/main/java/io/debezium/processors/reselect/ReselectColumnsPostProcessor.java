@@ -8,15 +8,14 @@
 import java.nio.ByteBuffer;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 import org.apache.kafka.common.config.ConfigDef;
-import org.apache.kafka.connect.data.Schema;
-import org.apache.kafka.connect.data.Schema.Type;
 import org.apache.kafka.connect.data.Struct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,11 +30,13 @@
 import io.debezium.config.Field;
 import io.debezium.connector.AbstractSourceInfo;
 import io.debezium.data.Envelope;
-import io.debezium.data.Json;
 import io.debezium.data.SpecialValueDecimal;
 import io.debezium.data.VariableScaleDecimal;
 import io.debezium.function.Predicates;
+import io.debezium.jdbc.ConnectionFactory;
 import io.debezium.jdbc.JdbcConnection;
+import io.debezium.processors.UnavailableValuePlaceholderMatcher;
+import io.debezium.processors.spi.BatchPostProcessor;
 import io.debezium.processors.spi.PostProcessor;
 import io.debezium.relational.Column;
 import io.debezium.relational.RelationalDatabaseConnectorConfig;
@@ -50,11 +51,16 @@
  * An implementation of the Debezium {@link PostProcessor} contract that allows for the re-selection of
  * columns that are populated with the unavailable value placeholder or that the user wishes to have
  * re-queried with the latest state if the column's value happens to be {@code null}.
+ * <p>
+ * When {@code reselect.batch.enabled} is set, the events of a poll batch are grouped by table and the rows
+ * of each group are re-selected by key lists of up to {@code reselect.batch.max.keys} keys instead of one
+ * query per event. The poll batches are processed on the consumer thread, so the batch re-selection uses a
+ * connection of its own, which requires the connector to provide a connection factory.
  *
  * @author Chris Cranford
  */
 @Incubating
-public class ReselectColumnsPostProcessor implements PostProcessor, BeanRegistryAware {
+public class ReselectColumnsPostProcessor implements BatchPostProcessor, BeanRegistryAware {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ReselectColumnsPostProcessor.class);
 
@@ -63,19 +69,21 @@ public class ReselectColumnsPostProcessor implements PostProcessor, BeanRegistry
     private static final String RESELECT_UNAVAILABLE_VALUES = "reselect.unavailable.values";
     private static final String RESELECT_NULL_VALUES = "reselect.null.values";
     private static final String RESELECT_USE_EVENT_KEY = "reselect.use.event.key";
+    private static final String RESELECT_BATCH_ENABLED = "reselect.batch.enabled";
+    private static final String RESELECT_BATCH_MAX_KEYS = "reselect.batch.max.keys";
+
+    private static final int DEFAULT_BATCH_MAX_KEYS = 1000;
 
     private Predicate<String> selector;
     private boolean reselectUnavailableValues;
     private boolean reselectNullValues;
     private boolean reselectUseEventKeyFields;
+    private boolean reselectBatchEnabled;
+    private int reselectBatchMaxKeys;
     private JdbcConnection jdbcConnection;
+    private JdbcConnection batchConnection;
     private ValueConverterProvider valueConverterProvider;
-    private String unavailableValuePlaceholder;
-    private ByteBuffer unavailableValuePlaceholderBytes;
-    private Map<String, String> unavailableValuePlaceholderMap;
-    private String unavailableValuePlaceholderJson;
-    private List<Integer> unavailablePlaceholderIntArray;
-    private List<Long> unavailablePlaceholderLongArray;
+    private UnavailableValuePlaceholderMatcher unavailableValuePlaceholderMatcher;
     private RelationalDatabaseSchema schema;
     private RelationalDatabaseConnectorConfig connectorConfig;
 
@@ -135,6 +143,8 @@ public void configure(Map<String, ?> properties) {
         this.reselectUnavailableValues = config.getBoolean(RESELECT_UNAVAILABLE_VALUES, true);
         this.reselectNullValues = config.getBoolean(RESELECT_NULL_VALUES, true);
         this.reselectUseEventKeyFields = config.getBoolean(RESELECT_USE_EVENT_KEY, false);
+        this.reselectBatchEnabled = config.getBoolean(RESELECT_BATCH_ENABLED, false);
+        this.reselectBatchMaxKeys = config.getInteger(RESELECT_BATCH_MAX_KEYS, DEFAULT_BATCH_MAX_KEYS);
         this.errorHandlingMode = ErrorHandlingMode.parse(config.getString(ERROR_HANDLING_MODE));
         this.selector = new ReselectColumnsPredicateBuilder()
                 .includeColumns(config.getString(RESELECT_COLUMNS_INCLUDE_LIST))
@@ -148,130 +158,243 @@ public void configure(Map<String, ?> properties) {
 
     @Override
     public void close() {
-        // nothing to do
+        if (batchConnection != null) {
+            try {
+                batchConnection.close();
+            }
+            catch (SQLException e) {
+                LOGGER.warn("Failed to close the batch re-selection connection", e);
+            }
+        }
     }
 
+    @Override
     public void apply(Object messageKey, Struct value) {
+        final Reselection reselection = prepareReselection(messageKey, value);
+        if (reselection != null) {
+            reselect(jdbcConnection, reselection);
+        }
+    }
+
+    @Override
+    public boolean isBatchEnabled() {
+        return batchConnection != null;
+    }
+
+    @Override
+    public void apply(List<Event> events) {
+        final Map<ReselectionGroup, List<Reselection>> groups = new LinkedHashMap<>();
+        for (Event event : events) {
+            final Reselection reselection = prepareReselection(event.key(), event.value());
+            if (reselection != null) {
+                groups.computeIfAbsent(reselection.group(batchConnection), group -> new ArrayList<>()).add(reselection);
+            }
+        }
+        for (List<Reselection> reselections : groups.values()) {
+            reselectBatch(reselections);
+        }
+    }
+
+    private Reselection prepareReselection(Object messageKey, Struct value) {
         if (value == null) {
             LOGGER.debug("Value is not a Struct, no re-selection possible.");
-            return;
+            return null;
         }
 
         if (!(messageKey instanceof Struct)) {
             LOGGER.debug("Key is not a Struct, no re-selection possible.");
-            return;
+            return null;
         }
 
         final Struct key = (Struct) messageKey;
 
+        if (value.schema().field(Envelope.FieldName.AFTER) == null) {
+            LOGGER.debug("Value is not a change event, no re-selection possible.");
+            return null;
+        }
+
         final Struct after = value.getStruct(Envelope.FieldName.AFTER);
         if (after == null) {
             LOGGER.debug("Value has no after field, no re-selection possible.");
-            return;
+            return null;
         }
 
         // Skip read events as these are generated from raw JDBC selects which should have the current
         // state of the row and there is no reason to logically re-select the column state.
         final String operation = value.getString(Envelope.FieldName.OPERATION);
         if (Envelope.Operation.READ.code().equals(operation)) {
-            return;
+            return null;
         }
 
         final Struct source = value.getStruct(Envelope.FieldName.SOURCE);
         if (source == null) {
             LOGGER.debug("Value has no source field, no re-selection possible.");
-            return;
+            return null;
         }
 
         final TableId tableId = getTableIdFromSource(source);
         if (tableId == null) {
-            return;
+            return null;
         }
 
         if (connectorConfig.isSignalDataCollection(tableId)) {
             LOGGER.debug("Signal table '{}' events are not eligible for re-selection.", tableId);
-            return;
+            return null;
         }
 
         final Table table = schema.tableFor(tableId);
         if (table == null) {
             LOGGER.debug("Unable to locate table {} in relational model.", tableId);
-            return;
+            return null;
         }
 
         final List<String> requiredColumnSelections = getRequiredColumnSelections(tableId, after);
         if (requiredColumnSelections.isEmpty()) {
             LOGGER.debug("No columns require re-selection.");
-            return;
+            return null;
         }
 
         final List<String> keyColumns = new ArrayList<>();
+        final List<org.apache.kafka.connect.data.Field> keyFields = new ArrayList<>();
         final List<Object> keyValues = new ArrayList<>();
+        final List<Object> rowKey = new ArrayList<>();
         if (reselectUseEventKeyFields) {
             for (org.apache.kafka.connect.data.Field field : key.schema().fields()) {
                 keyColumns.add(field.name());
+                keyFields.add(field);
                 keyValues.add(resolveKeyFieldValue(key, field));
+                rowKey.add(normalizeKeyValue(key.get(field)));
             }
         }
         else {
             for (Column column : table.primaryKeyColumns()) {
+                final org.apache.kafka.connect.data.Field field = after.schema().field(column.name());
                 keyColumns.add(column.name());
-                keyValues.add(resolveKeyFieldValue(after, after.schema().field(column.name())));
+                keyFields.add(field);
+                keyValues.add(resolveKeyFieldValue(after, field));
+                rowKey.add(normalizeKeyValue(after.get(field)));
             }
         }
 
+        return new Reselection(table, key, after, source, requiredColumnSelections, keyColumns, keyFields, keyValues, rowKey);
+    }
+
+    private void reselect(JdbcConnection connection, Reselection reselection) {
+        final TableId tableId = reselection.table().id();
         final Map<String, Object> selections;
         try {
-            selections = jdbcConnection.reselectColumns(table, requiredColumnSelections, keyColumns, keyValues, source);
+            selections = connection.reselectColumns(reselection.table(), reselection.columns(), reselection.keyColumns(),
+                    reselection.keyValues(), reselection.source());
             if (selections.isEmpty()) {
                 if (errorHandlingMode == ErrorHandlingMode.FAIL) {
-                    throw new DebeziumException("Failed to find row in table " + tableId + " with key " + key);
+                    throw new DebeziumException("Failed to find row in table " + tableId + " with key " + reselection.key());
                 }
-                LOGGER.warn("Failed to find row in table {} with key {}.", tableId, key);
+                LOGGER.warn("Failed to find row in table {} with key {}.", tableId, reselection.key());
                 return;
             }
         }
         catch (SQLException e) {
             if (errorHandlingMode == ErrorHandlingMode.FAIL) {
-                throw new DebeziumException("Failed to re-select columns for table " + tableId + " and key " + keyValues, e);
+                throw new DebeziumException("Failed to re-select columns for table " + tableId + " and key " + reselection.keyValues(), e);
             }
-            LOGGER.warn("Failed to re-select columns for table {} and key {}", tableId, keyValues, e);
+            LOGGER.warn("Failed to re-select columns for table {} and key {}", tableId, reselection.keyValues(), e);
             return;
         }
+        applySelections(reselection, selections);
+    }
+
+    /**
+     * Re-selects the rows of events of the same group with as few queries as possible. Each row is re-selected
+     * once however many events of the batch it has, the events whose row is not found are re-selected one by one.
+     */
+    private void reselectBatch(List<Reselection> reselections) {
+        final Reselection first = reselections.get(0);
+        final Table table = first.table();
+
+        final Map<List<Object>, List<Object>> keyValuesByRowKey = new LinkedHashMap<>();
+        for (Reselection reselection : reselections) {
+            keyValuesByRowKey.putIfAbsent(reselection.rowKey(), reselection.keyValues());
+        }
+        final List<List<Object>> keyValues = new ArrayList<>(keyValuesByRowKey.values());
 
+        final Map<List<Object>, Map<String, Object>> rows = new HashMap<>();
+        try {
+            for (int i = 0; i < keyValues.size(); i += reselectBatchMaxKeys) {
+                final List<List<Object>> chunk = keyValues.subList(i, Math.min(i + reselectBatchMaxKeys, keyValues.size()));
+                for (Map<String, Object> row : batchConnection.reselectRows(table, first.columns(), first.keyColumns(), chunk, first.source())) {
+                    rows.putIfAbsent(getRowKey(first, row), row);
+                }
+            }
+        }
+        catch (SQLException e) {
+            LOGGER.warn("Failed to re-select columns for {} rows of table {}, re-selecting them one by one.", keyValues.size(), table.id(), e);
+        }
+
+        for (Reselection reselection : reselections) {
+            final Map<String, Object> row = rows.get(reselection.rowKey());
+            if (row != null) {
+                applySelections(reselection, row);
+            }
+            else {
+                reselect(batchConnection, reselection);
+            }
+        }
+    }
+
+    private void applySelections(Reselection reselection, Map<String, Object> selections) {
         // Iterate re-selection columns and override old values
-        for (Map.Entry<String, Object> selection : selections.entrySet()) {
-            final String columnName = selection.getKey();
-            final Column column = table.columnWithName(columnName);
+        final Struct after = reselection.after();
+        for (String columnName : reselection.columns()) {
+            final Column column = reselection.table().columnWithName(columnName);
             final org.apache.kafka.connect.data.Field field = after.schema().field(columnName);
 
-            final Object convertedValue = getConvertedValue(column, field, selection.getValue());
+            final Object convertedValue = getConvertedValue(column, field, selections.get(columnName));
             if (LOGGER.isTraceEnabled()) {
-                LOGGER.trace("Replaced field {} value {} with {}", field.name(), value.get(field), convertedValue);
+                LOGGER.trace("Replaced field {} value {} with {}", field.name(), after.get(field), convertedValue);
             }
             after.put(field.name(), convertedValue);
         }
     }
 
+    /**
+     * Returns the key values of a re-selected row in their event representation, so that they can be matched with
+     * the {@link Reselection#rowKey()} of the events.
+     */
+    private List<Object> getRowKey(Reselection reselection, Map<String, Object> row) {
+        final List<Object> rowKey = new ArrayList<>(reselection.keyColumns().size());
+        for (int i = 0; i < reselection.keyColumns().size(); i++) {
+            final String keyColumn = reselection.keyColumns().get(i);
+            final Column column = reselection.table().columnWithName(keyColumn);
+            final Object value = row.get(keyColumn);
+            rowKey.add(normalizeKeyValue(column != null ? getConvertedValue(column, reselection.keyFields().get(i), value) : value));
+        }
+        return rowKey;
+    }
+
+    private static Object normalizeKeyValue(Object value) {
+        // Byte arrays do not implement value equality
+        return value instanceof byte[] bytes ? ByteBuffer.wrap(bytes) : value;
+    }
+
     @Override
     public void injectBeanRegistry(BeanRegistry beanRegistry) {
         this.connectorConfig = beanRegistry.lookupByName(StandardBeanNames.CONNECTOR_CONFIG, RelationalDatabaseConnectorConfig.class);
 
-        // Various unavailable value placeholders
-        this.unavailableValuePlaceholder = new String(connectorConfig.getUnavailableValuePlaceholder());
-        this.unavailableValuePlaceholderBytes = ByteBuffer.wrap(connectorConfig.getUnavailableValuePlaceholder());
-        this.unavailableValuePlaceholderMap = Map.of(this.unavailableValuePlaceholder, this.unavailableValuePlaceholder);
-        this.unavailableValuePlaceholderJson = "{\"" + this.unavailableValuePlaceholder + "\":\"" + this.unavailableValuePlaceholder + "\"}";
-        unavailablePlaceholderIntArray = new ArrayList<>(unavailableValuePlaceholderBytes.limit());
-        unavailablePlaceholderLongArray = new ArrayList<>(unavailableValuePlaceholderBytes.limit());
-        for (byte b : unavailableValuePlaceholderBytes.array()) {
-            unavailablePlaceholderIntArray.add((int) b);
-            unavailablePlaceholderLongArray.add((long) b);
-        }
+        this.unavailableValuePlaceholderMatcher = new UnavailableValuePlaceholderMatcher(connectorConfig.getUnavailableValuePlaceholder());
 
         this.valueConverterProvider = beanRegistry.lookupByName(StandardBeanNames.VALUE_CONVERTER, ValueConverterProvider.class);
         this.jdbcConnection = beanRegistry.lookupByName(StandardBeanNames.JDBC_CONNECTION, JdbcConnection.class);
         this.schema = beanRegistry.lookupByName(StandardBeanNames.DATABASE_SCHEMA, RelationalDatabaseSchema.class);
+
+        if (reselectBatchEnabled) {
+            final ConnectionFactory<?> connectionFactory = beanRegistry.lookupByName(StandardBeanNames.JDBC_CONNECTION_FACTORY, ConnectionFactory.class);
+            if (connectionFactory != null) {
+                this.batchConnection = connectionFactory.newConnection();
+            }
+            else {
+                LOGGER.warn("The connector provides no connection for batch re-selection, columns are re-selected for each event.");
+            }
+        }
     }
 
     private Object resolveKeyFieldValue(Struct key, org.apache.kafka.connect.data.Field field) {
@@ -309,54 +432,7 @@ else if (reselectNullValues && value == null) {
     }
 
     private boolean isUnavailableValueHolder(org.apache.kafka.connect.data.Field field, Object value) {
-        if (unavailableValuePlaceholder != null) {
-            if (field.schema().type() == Schema.Type.ARRAY && value != null) {
-                // Special use case to inspect by element
-                final Collection<?> values = (Collection<?>) value;
-                for (Object collectionValue : values) {
-                    if (isUnavailableValueHolder(field.schema().valueSchema(), collectionValue)) {
-                        return true;
-                    }
-                }
-                // Case for whole array value representing unavailable value
-                return isUnavailableArrayValueHolder(field.schema(), value);
-            }
-            else {
-                return isUnavailableValueHolder(field.schema(), value);
-            }
-        }
-        return false;
-    }
-
-    private boolean isUnavailableValueHolder(Schema schema, Object value) {
-        switch (schema.type()) {
-            case BYTES:
-                return unavailableValuePlaceholderBytes.equals(value);
-            case MAP:
-                return unavailableValuePlaceholderMap.equals(value);
-            case STRING:
-                // Both PostgreSQL HSTORE and JSON/JSONB have a schema name of "json".
-                // PostgreSQL HSTORE fields use a JSON-like unavailable value placeholder, e.g., {"key":"value"},
-                // while JSON/JSONB fields use a simple string placeholder.
-                // This condition is needed to handle both cases:
-                // - HSTORE unavailable value placeholders (as JSON objects)
-                // - JSON/JSONB unavailable value placeholders (as strings)
-                final boolean isJsonAndUnavailable = Json.LOGICAL_NAME.equals(schema.name()) && unavailableValuePlaceholderJson.equals(value);
-                return unavailableValuePlaceholder.equals(value) || isJsonAndUnavailable;
-        }
-        return false;
-    }
-
-    private boolean isUnavailableArrayValueHolder(Schema schema, Object value) {
-        assert schema.type() == Type.ARRAY;
-        switch (schema.valueSchema().type()) {
-            case INT32:
-                return unavailablePlaceholderIntArray.equals(value);
-            case INT64:
-                return unavailablePlaceholderLongArray.equals(value);
-            default:
-                return false;
-        }
+        return unavailableValuePlaceholderMatcher.matches(field, value);
     }
 
     private Object getConvertedValue(Column column, org.apache.kafka.connect.data.Field field, Object value) {
@@ -389,6 +465,25 @@ private TableId getTableIdFromSource(Struct source) {
         return jdbcConnection.createTableId(databaseName, schemaName, tableName);
     }
 
+    /**
+     * The re-selection required by an event.
+     *
+     * @param rowKey the values of the key fields in the event, identifying the row within its table
+     */
+    private record Reselection(Table table, Struct key, Struct after, Struct source, List<String> columns, List<String> keyColumns,
+            List<org.apache.kafka.connect.data.Field> keyFields, List<Object> keyValues, List<Object> rowKey) {
+
+        /**
+         * Returns the group of events whose rows can be re-selected by the same query.
+         */
+        ReselectionGroup group(JdbcConnection connection) {
+            return new ReselectionGroup(table.id(), columns, keyColumns, connection.getReselectionPoint(source));
+        }
+    }
+
+    private record ReselectionGroup(TableId tableId, List<String> columns, List<String> keyColumns, Object point) {
+    }
+
     private static class ReselectColumnsPredicateBuilder {
 
         private Predicate<String> reselectColumnInclusions;
@@ -0,0 +1,50 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.processors.spi;
+
+import java.util.List;
+
+import org.apache.kafka.connect.data.Struct;
+
+import io.debezium.common.annotation.Incubating;
+
+/**
+ * A {@link PostProcessor} that can process all events of a poll batch at once, e.g. to replace many
+ * round-trips to the source database with a few bulk queries.
+ *
+ * When {@link #isBatchEnabled()} returns {@code true}, the post processor is not applied to each event
+ * before it is added to the change event queue, but to the events of each batch returned by the task's
+ * poll, after all other post processors were applied. Otherwise {@link #apply(Object, Struct)} is used.
+ * <p>
+ * Batches are processed on the thread polling the task rather than on the producer thread of the events,
+ * so a post processor must not share state with the producer thread, e.g. a database connection. The
+ * mode is determined once the bean registry was injected into {@link io.debezium.bean.spi.BeanRegistryAware}
+ * post processors.
+ */
+@Incubating
+public interface BatchPostProcessor extends PostProcessor {
+
+    /**
+     * @return {@code true} if the post processor should be applied to poll batches rather than to single events
+     */
+    boolean isBatchEnabled();
+
+    /**
+     * Apply the post processor to the events of a batch.
+     *
+     * @param events the events of the batch in their emitted order, never {@code null}
+     */
+    void apply(List<Event> events);
+
+    /**
+     * An event of a batch.
+     *
+     * @param key the event's key, may be {@code null}
+     * @param value the event's value, never {@code null}
+     */
+    record Event(Object key, Struct value) {
+    }
+}
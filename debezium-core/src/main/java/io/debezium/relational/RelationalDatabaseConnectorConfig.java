@@ -538,6 +538,19 @@ public static SnapshotTablesRowCountOrder parse(String value, String defaultValu
                     + "A `ascending` value will order the tables by row count ascending. "
                     + "A value of `disabled` (the default) will disable ordering by row count.");
 
+    public static final Field SNAPSHOT_MAX_THREADS_MULTIPLIER = Field.create("snapshot.max.threads.multiplier")
+            .withDisplayName("Snapshot maximum threads multiplier")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_SNAPSHOT, 112))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(1)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("Controls whether the initial snapshot splits a single table into key ranges that are read concurrently. "
+                    + "When set to a value greater than 1 and 'snapshot.max.threads' is greater than 1, each table with a primary key "
+                    + "is split into at most 'snapshot.max.threads' multiplied by this value key ranges, each read by its own query. "
+                    + "The default value of 1 disables splitting, so each table is read by a single query.");
+
     protected static final ConfigDefinition CONFIG_DEFINITION = CommonConnectorConfig.CONFIG_DEFINITION.edit()
             .type(
                     CommonConnectorConfig.TOPIC_PREFIX)
@@ -564,6 +577,7 @@ public static SnapshotTablesRowCountOrder parse(String value, String defaultValu
                     PROPAGATE_DATATYPE_SOURCE_TYPE,
                     SNAPSHOT_FULL_COLUMN_SCAN_FORCE,
                     SNAPSHOT_TABLES_ORDER_BY_ROW_COUNT,
+                    SNAPSHOT_MAX_THREADS_MULTIPLIER,
                     DatabaseHeartbeatImpl.HEARTBEAT_ACTION_QUERY)
             .create();
 
@@ -577,6 +591,7 @@ public static SnapshotTablesRowCountOrder parse(String value, String defaultValu
     private final String heartbeatActionQuery;
     private final FieldNamer<Column> fieldNamer;
     private final SnapshotTablesRowCountOrder snapshotOrderByRowCount;
+    private final int snapshotMaxThreadsMultiplier;
 
     protected RelationalDatabaseConnectorConfig(Configuration config, TableFilter systemTablesFilter,
                                                 TableIdToStringMapper tableIdMapper, int defaultSnapshotFetchSize,
@@ -613,6 +628,7 @@ protected RelationalDatabaseConnectorConfig(Configuration config, TableFilter sy
         this.heartbeatActionQuery = config.getString(DatabaseHeartbeatImpl.HEARTBEAT_ACTION_QUERY_PROPERTY_NAME, "");
         this.fieldNamer = FieldNameSelector.defaultSelector(fieldNameAdjuster());
         this.snapshotOrderByRowCount = SnapshotTablesRowCountOrder.parse(config.getString(SNAPSHOT_TABLES_ORDER_BY_ROW_COUNT));
+        this.snapshotMaxThreadsMultiplier = config.getInteger(SNAPSHOT_MAX_THREADS_MULTIPLIER);
     }
 
     public RelationalTableFilters getTableFilters() {
@@ -694,6 +710,17 @@ public SnapshotTablesRowCountOrder snapshotOrderByRowCount() {
         return snapshotOrderByRowCount;
     }
 
+    public int getSnapshotMaxThreadsMultiplier() {
+        return snapshotMaxThreadsMultiplier;
+    }
+
+    /**
+     * @return true if the initial snapshot should split tables into key ranges that are read concurrently
+     */
+    public boolean isSnapshotTableSplittingEnabled() {
+        return getSnapshotMaxThreads() > 1 && snapshotMaxThreadsMultiplier > 1;
+    }
+
     private static int validateColumnExcludeList(Configuration config, Field field, ValidationOutput problems) {
         String includeList = config.getString(COLUMN_INCLUDE_LIST);
         String excludeList = config.getString(COLUMN_EXCLUDE_LIST);
@@ -6,6 +6,7 @@
 package io.debezium.relational;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -29,6 +30,7 @@
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -49,6 +51,7 @@
 import io.debezium.pipeline.signal.actions.snapshotting.SnapshotConfiguration;
 import io.debezium.pipeline.source.AbstractSnapshotChangeEventSource;
 import io.debezium.pipeline.source.SnapshottingTask;
+import io.debezium.pipeline.source.snapshot.incremental.ChunkQueryBuilder;
 import io.debezium.pipeline.source.spi.SnapshotChangeEventSource;
 import io.debezium.pipeline.source.spi.SnapshotProgressListener;
 import io.debezium.pipeline.source.spi.StreamingChangeEventSource;
@@ -92,6 +95,9 @@
     protected final SnapshotterService snapshotterService;
     protected Queue<JdbcConnection> connectionPool;
     private final TableId signalDataCollectionTableId;
+    private final ChunkQueryBuilder<TableId> chunkQueryBuilder;
+    // Cleared once the database rejected the window functions computing the key range boundaries
+    private volatile boolean keyRangeBoundariesSelectSupported = true;
 
     public RelationalSnapshotChangeEventSource(RelationalDatabaseConnectorConfig connectorConfig,
                                                MainConnectionProvidingConnectionFactory<? extends JdbcConnection> jdbcConnectionFactory,
@@ -107,6 +113,7 @@ public RelationalSnapshotChangeEventSource(RelationalDatabaseConnectorConfig con
         this.clock = clock;
         this.snapshotProgressListener = snapshotProgressListener;
         this.snapshotterService = snapshotterService;
+        this.chunkQueryBuilder = jdbcConnection.chunkQueryBuilder(connectorConfig);
 
         if (!Strings.isNullOrBlank(connectorConfig.getSignalingDataCollectionId())) {
             this.signalDataCollectionTableId = TableId.parse(connectorConfig.getSignalingDataCollectionId());
@@ -219,7 +226,11 @@ private Queue<JdbcConnection> createConnectionPool(final RelationalSnapshotConte
         Queue<JdbcConnection> connectionPool = new ConcurrentLinkedQueue<>();
         connectionPool.add(jdbcConnection);
 
-        int snapshotMaxThreads = Math.max(1, Math.min(connectorConfig.getSnapshotMaxThreads(), ctx.capturedTables.size()));
+        // When tables are split into key ranges, a single table can keep all threads busy
+        int maxConcurrentReads = connectorConfig.isSnapshotTableSplittingEnabled() && !ctx.capturedTables.isEmpty()
+                ? connectorConfig.getSnapshotMaxThreads()
+                : ctx.capturedTables.size();
+        int snapshotMaxThreads = Math.max(1, Math.min(connectorConfig.getSnapshotMaxThreads(), maxConcurrentReads));
         if (snapshotMaxThreads > 1) {
             Optional<String> firstQuery = getSnapshotConnectionFirstSelect(ctx, ctx.capturedTables.iterator().next());
             for (int i = 1; i < snapshotMaxThreads; i++) {
@@ -515,19 +526,33 @@ private void createDataEvents(ChangeEventSourceContext sourceContext,
         try {
             int tableCount = rowCountTables.size();
             int tableOrder = 1;
+            // Tasks of tables that are split into key ranges submit the tasks of the further key ranges
+            AtomicInteger taskCount = new AtomicInteger();
             for (TableId tableId : rowCountTables.keySet()) {
                 boolean firstTable = tableOrder == 1 && snapshotMaxThreads == 1;
                 boolean lastTable = tableOrder == tableCount && snapshotMaxThreads == 1;
                 String selectStatement = queryTables.get(tableId);
                 OptionalLong rowCount = rowCountTables.get(tableId);
                 Set<TableId> rowCountTablesKeySet = new HashSet<>(rowCountTables.keySet());
-                Callable<Void> callable = createDataEventsForTableCallable(sourceContext, snapshotContext, snapshotReceiver,
-                        snapshotContext.tables.forTable(tableId), firstTable, lastTable, tableOrder++, tableCount, selectStatement, rowCount, rowCountTablesKeySet,
-                        connectionPool, offsets);
+                Table table = snapshotContext.tables.forTable(tableId);
+                final Callable<Void> callable;
+                if (isKeyRangeSplittingApplicable(snapshotContext, table, snapshotMaxThreads, snapshotSelectOverridesByTable)) {
+                    callable = createDataEventsForSplitTableCallable(sourceContext, snapshotContext, snapshotReceiver, table, tableOrder,
+                            tableCount, selectStatement, rowCount, rowCountTablesKeySet, connectionPool, offsets, snapshotMaxThreads,
+                            completionService, taskCount);
+                }
+                else {
+                    callable = createDataEventsForTableCallable(sourceContext, snapshotContext, snapshotReceiver,
+                            table, firstTable, lastTable, tableOrder, tableCount, selectStatement, rowCount, rowCountTablesKeySet,
+                            connectionPool, offsets);
+                }
+                taskCount.incrementAndGet();
                 completionService.submit(callable);
+                tableOrder++;
             }
 
-            for (int i = 0; i < tableCount; i++) {
+            // The key range tasks of a table are counted before the task of the table completes
+            for (int completed = 0; completed < taskCount.get(); completed++) {
                 completionService.take().get();
             }
         }
@@ -597,6 +622,126 @@ protected Callable<Void> createDataEventsForTableCallable(ChangeEventSourceConte
         };
     }
 
+    /**
+     * Creates the task of a table that may be split into key ranges. The task determines the key ranges using a pooled connection,
+     * submits the tasks of all key ranges but the first one and reads the first one itself, or reads the whole table if it is not split.
+     */
+    private Callable<Void> createDataEventsForSplitTableCallable(ChangeEventSourceContext sourceContext,
+                                                                 RelationalSnapshotContext<P, O> snapshotContext,
+                                                                 SnapshotReceiver<P> snapshotReceiver, Table table, int tableOrder, int tableCount,
+                                                                 String selectStatement, OptionalLong rowCount, Set<TableId> rowCountTablesKeySet,
+                                                                 Queue<JdbcConnection> connectionPool, Queue<O> offsets, int snapshotMaxThreads,
+                                                                 CompletionService<Void> completionService, AtomicInteger taskCount) {
+        return () -> {
+            final List<Object[]> keyRangeBoundaries;
+            JdbcConnection connection = connectionPool.poll();
+            try {
+                keyRangeBoundaries = determineKeyRangeBoundaries(connection, table, rowCount, snapshotMaxThreads);
+            }
+            catch (SQLException e) {
+                notificationService.initialSnapshotNotificationService().notifyCompletedTableWithError(snapshotContext.partition,
+                        snapshotContext.offset,
+                        table.id().identifier());
+                throw new ConnectException("Determining the key ranges of table " + table.id() + " failed", e);
+            }
+            finally {
+                connectionPool.add(connection);
+            }
+
+            if (keyRangeBoundaries.isEmpty()) {
+                return createDataEventsForTableCallable(sourceContext, snapshotContext, snapshotReceiver, table, false, false, tableOrder,
+                        tableCount, selectStatement, rowCount, rowCountTablesKeySet, connectionPool, offsets).call();
+            }
+
+            final int keyRangeCount = keyRangeBoundaries.size() + 1;
+            LOGGER.info("Splitting table '{}' into {} key ranges", table.id(), keyRangeCount);
+            final SnapshotKeyRangeProgress progress = new SnapshotKeyRangeProgress(keyRangeCount, tableOrder, tableCount);
+            final List<Callable<Void>> keyRangeCallables = new ArrayList<>(keyRangeCount);
+            for (int i = 0; i < keyRangeCount; i++) {
+                TableKeyRange keyRange = new TableKeyRange(i, keyRangeCount,
+                        i == 0 ? null : keyRangeBoundaries.get(i - 1),
+                        i == keyRangeCount - 1 ? null : keyRangeBoundaries.get(i));
+                keyRangeCallables.add(createDataEventsForTableKeyRangeCallable(sourceContext, snapshotContext, snapshotReceiver,
+                        table, keyRange, progress, tableOrder, tableCount, selectStatement, rowCount, rowCountTablesKeySet,
+                        connectionPool, offsets));
+            }
+            for (Callable<Void> keyRangeCallable : keyRangeCallables.subList(1, keyRangeCount)) {
+                taskCount.incrementAndGet();
+                completionService.submit(keyRangeCallable);
+            }
+            return keyRangeCallables.get(0).call();
+        };
+    }
+
+    private Callable<Void> createDataEventsForTableKeyRangeCallable(ChangeEventSourceContext sourceContext,
+                                                                    RelationalSnapshotContext<P, O> snapshotContext,
+                                                                    SnapshotReceiver<P> snapshotReceiver, Table table, TableKeyRange keyRange,
+                                                                    SnapshotKeyRangeProgress progress, int tableOrder, int tableCount,
+                                                                    String selectStatement, OptionalLong rowCount, Set<TableId> rowCountTablesKeySet,
+                                                                    Queue<JdbcConnection> connectionPool, Queue<O> offsets) {
+        return () -> {
+            JdbcConnection connection = connectionPool.poll();
+            O offset = offsets.poll();
+            try {
+                doCreateDataEventsForTableKeyRange(sourceContext, snapshotContext, offset, snapshotReceiver, table, keyRange, progress,
+                        tableOrder, tableCount, selectStatement, rowCount, rowCountTablesKeySet, connection);
+            }
+            catch (SQLException e) {
+                if (progress.failed.compareAndSet(false, true)) {
+                    notificationService.initialSnapshotNotificationService().notifyCompletedTableWithError(snapshotContext.partition,
+                            snapshotContext.offset,
+                            table.id().identifier());
+                }
+                throw new ConnectException("Snapshotting of table " + table.id() + " failed", e);
+            }
+            finally {
+                offsets.add(offset);
+                connectionPool.add(connection);
+            }
+            return null;
+        };
+    }
+
+    private void doCreateDataEventsForTableKeyRange(ChangeEventSourceContext sourceContext, RelationalSnapshotContext<P, O> snapshotContext, O offset,
+                                                    SnapshotReceiver<P> snapshotReceiver, Table table, TableKeyRange keyRange,
+                                                    SnapshotKeyRangeProgress progress, int tableOrder, int tableCount, String selectStatement,
+                                                    OptionalLong rowCount, Set<TableId> rowCountTablesKeySet, JdbcConnection jdbcConnection)
+            throws InterruptedException, SQLException {
+
+        if (!sourceContext.isRunning()) {
+            throw new InterruptedException("Interrupted while snapshotting table " + table.id());
+        }
+
+        long exportStart = clock.currentTimeInMillis();
+        LOGGER.info("Exporting data from table '{}' key range {} of {} ({} of {} tables)", table.id(), keyRange.index + 1, keyRange.count,
+                tableOrder, tableCount);
+
+        if (progress.started.compareAndSet(false, true)) {
+            notificationService.initialSnapshotNotificationService().notifyTableInProgress(
+                    snapshotContext.partition,
+                    snapshotContext.offset,
+                    table.id().identifier(),
+                    rowCountTablesKeySet);
+        }
+
+        Instant sourceTableSnapshotTimestamp = getSnapshotSourceTimestamp(jdbcConnection, offset, table.id());
+
+        final String keyRangeCondition = chunkQueryBuilder.buildKeyRangeCondition(table, keyRange.lowerBound, keyRange.upperBound);
+        final String keyRangeSelect = getSnapshotSelectForKeyRange(selectStatement, keyRangeCondition);
+        LOGGER.debug("For table '{}' key range {} using select statement: '{}'", table.id(), keyRange.index + 1, keyRangeSelect);
+
+        try (PreparedStatement statement = readTableKeyRangeStatement(jdbcConnection, keyRangeSelect, rowCount)) {
+            chunkQueryBuilder.setKeyRangeConditionValues(statement, table, keyRange.lowerBound, keyRange.upperBound, 0);
+            try (ResultSet rs = CancellableResultSet.from(statement.executeQuery())) {
+                final long rows = createDataEventsForResultSet(sourceContext, snapshotContext, offset, snapshotReceiver, table, rs,
+                        false, false, progress, rowCount, exportStart, sourceTableSnapshotTimestamp, jdbcConnection);
+
+                LOGGER.info("\t Finished exporting {} records for table '{}' key range {} of {}; total duration '{}'",
+                        rows, table.id(), keyRange.index + 1, keyRange.count, Strings.duration(clock.currentTimeInMillis() - exportStart));
+            }
+        }
+    }
+
     protected void doCreateDataEventsForTable(ChangeEventSourceContext sourceContext, RelationalSnapshotContext<P, O> snapshotContext, O offset,
                                               SnapshotReceiver<P> snapshotReceiver, Table table,
                                               boolean firstTable, boolean lastTable, int tableOrder, int tableCount, String selectStatement, OptionalLong rowCount,
@@ -621,51 +766,268 @@ protected void doCreateDataEventsForTable(ChangeEventSourceContext sourceContext
         try (Statement statement = readTableStatement(jdbcConnection, rowCount);
                 ResultSet rs = resultSetForDataEvents(selectStatement, statement)) {
 
-            ColumnUtils.ColumnArray columnArray = ColumnUtils.toArray(rs, table);
-            long rows = 0;
-            Timer logTimer = getTableScanLogTimer();
-            boolean hasNext = rs.next();
+            final long rows = createDataEventsForResultSet(sourceContext, snapshotContext, offset, snapshotReceiver, table, rs,
+                    firstTable, lastTable, null, rowCount, exportStart, sourceTableSnapshotTimestamp, jdbcConnection);
 
-            if (hasNext) {
-                while (hasNext) {
-                    if (!sourceContext.isRunning()) {
-                        throw new InterruptedException("Interrupted while snapshotting table " + table.id());
-                    }
+            LOGGER.info("\t Finished exporting {} records for table '{}' ({} of {} tables); total duration '{}'",
+                    rows, table.id(), tableOrder, tableCount, Strings.duration(clock.currentTimeInMillis() - exportStart));
+            snapshotProgressListener.dataCollectionSnapshotCompleted(snapshotContext.partition, table.id(), rows);
+            notificationService.initialSnapshotNotificationService().notifyCompletedTableSuccessfully(snapshotContext.partition,
+                    snapshotContext.offset, table.id().identifier(), rows, snapshotContext.capturedTables);
+        }
+    }
+
+    /**
+     * Dispatches a snapshot event for each row of the given result set.
+     *
+     * @param progress the progress of the key ranges of the table if the result set holds one of them, {@code null} if it holds the whole table
+     * @return the number of rows read
+     */
+    private long createDataEventsForResultSet(ChangeEventSourceContext sourceContext, RelationalSnapshotContext<P, O> snapshotContext, O offset,
+                                              SnapshotReceiver<P> snapshotReceiver, Table table, ResultSet rs,
+                                              boolean firstTable, boolean lastTable, SnapshotKeyRangeProgress progress,
+                                              OptionalLong rowCount, long exportStart, Instant sourceTableSnapshotTimestamp,
+                                              JdbcConnection jdbcConnection)
+            throws InterruptedException, SQLException {
 
-                    rows++;
-                    final Object[] row = jdbcConnection.rowToArray(table, rs, columnArray);
+        ColumnUtils.ColumnArray columnArray = ColumnUtils.toArray(rs, table);
+        SnapshotKeyRangeProgress.RowDispatcher keyRangeRowDispatcher = (keyRangeRow, timestamp, marker) -> {
+            offset.markSnapshotRecord(marker);
+            dispatcher.dispatchSnapshotEvent(snapshotContext.partition, table.id(),
+                    getChangeRecordEmitter(snapshotContext.partition, offset, table.id(), keyRangeRow, timestamp), snapshotReceiver);
+        };
+        long rows = 0;
+        long reportedRows = 0;
+        Timer logTimer = getTableScanLogTimer();
+        boolean hasNext = rs.next();
+
+        if (hasNext) {
+            while (hasNext) {
+                if (!sourceContext.isRunning()) {
+                    throw new InterruptedException("Interrupted while snapshotting table " + table.id());
+                }
 
-                    if (logTimer.expired()) {
-                        long stop = clock.currentTimeInMillis();
-                        if (rowCount.isPresent()) {
-                            LOGGER.info("\t Exported {} of {} records for table '{}' after {}", rows, rowCount.getAsLong(),
-                                    table.id(), Strings.duration(stop - exportStart));
-                        }
-                        else {
-                            LOGGER.info("\t Exported {} records for table '{}' after {}", rows, table.id(),
-                                    Strings.duration(stop - exportStart));
-                        }
-                        snapshotProgressListener.rowsScanned(snapshotContext.partition, table.id(), rows);
-                        logTimer = getTableScanLogTimer();
+                rows++;
+                final Object[] row = jdbcConnection.rowToArray(table, rs, columnArray);
+
+                if (logTimer.expired()) {
+                    long stop = clock.currentTimeInMillis();
+                    if (rowCount.isPresent()) {
+                        LOGGER.info("\t Exported {} of {} records for table '{}' after {}", rows, rowCount.getAsLong(),
+                                table.id(), Strings.duration(stop - exportStart));
+                    }
+                    else {
+                        LOGGER.info("\t Exported {} records for table '{}' after {}", rows, table.id(),
+                                Strings.duration(stop - exportStart));
                     }
+                    // The rows of all key ranges of a table are reported together
+                    final long scannedRows = progress == null ? rows : progress.rows.addAndGet(rows - reportedRows);
+                    reportedRows = rows;
+                    snapshotProgressListener.rowsScanned(snapshotContext.partition, table.id(), scannedRows);
+                    logTimer = getTableScanLogTimer();
+                }
 
-                    hasNext = rs.next();
+                hasNext = rs.next();
+                if (progress == null) {
                     setSnapshotMarker(offset, firstTable, lastTable, rows == 1, !hasNext);
-
                     dispatcher.dispatchSnapshotEvent(snapshotContext.partition, table.id(),
                             getChangeRecordEmitter(snapshotContext.partition, offset, table.id(), row, sourceTableSnapshotTimestamp), snapshotReceiver);
                 }
+                else if (!hasNext) {
+                    progress.rows.addAndGet(rows - reportedRows);
+                    completeKeyRange(snapshotContext, table, progress, row, sourceTableSnapshotTimestamp, keyRangeRowDispatcher);
+                }
+                else {
+                    progress.dispatchRow(row, sourceTableSnapshotTimestamp, rows == 1, keyRangeRowDispatcher);
+                }
             }
-            else {
-                setSnapshotMarker(offset, firstTable, lastTable, false, true);
+        }
+        else if (progress == null) {
+            setSnapshotMarker(offset, firstTable, lastTable, false, true);
+        }
+        else {
+            completeKeyRange(snapshotContext, table, progress, null, sourceTableSnapshotTimestamp, keyRangeRowDispatcher);
+        }
+        return rows;
+    }
+
+    /**
+     * Completes a key range of a split table, reporting the completion of the table when all of its key ranges completed.
+     *
+     * @param lastRow the last row of the key range, {@code null} if the key range is empty
+     */
+    private void completeKeyRange(RelationalSnapshotContext<P, O> snapshotContext, Table table, SnapshotKeyRangeProgress progress,
+                                  Object[] lastRow, Instant sourceTableSnapshotTimestamp, SnapshotKeyRangeProgress.RowDispatcher rowDispatcher)
+            throws InterruptedException {
+        if (!progress.completeKeyRange(lastRow, sourceTableSnapshotTimestamp, rowDispatcher)) {
+            return;
+        }
+
+        final long tableRows = progress.rows.get();
+        LOGGER.info("\t Finished exporting {} records for table '{}' ({} of {} tables)", tableRows, table.id(), progress.tableOrder, progress.tableCount);
+        snapshotProgressListener.dataCollectionSnapshotCompleted(snapshotContext.partition, table.id(), tableRows);
+        notificationService.initialSnapshotNotificationService().notifyCompletedTableSuccessfully(snapshotContext.partition,
+                snapshotContext.offset, table.id().identifier(), tableRows, snapshotContext.capturedTables);
+    }
+
+    /**
+     * Returns whether the given table may be split into key ranges that are read concurrently, which requires splitting to be enabled
+     * and the table to have a key that is part of the snapshot select.
+     */
+    private boolean isKeyRangeSplittingApplicable(RelationalSnapshotContext<P, O> snapshotContext, Table table, int snapshotMaxThreads,
+                                                  Map<DataCollectionId, String> snapshotSelectOverridesByTable)
+            throws SQLException {
+        if (!connectorConfig.isSnapshotTableSplittingEnabled() || snapshotMaxThreads < 2) {
+            return false;
+        }
+        if (getSnapshotSelectOverridesByTable(table.id(), snapshotSelectOverridesByTable) != null) {
+            LOGGER.info("Table '{}' uses a snapshot select override and will not be split into key ranges", table.id());
+            return false;
+        }
+
+        final List<Column> keyColumns = chunkQueryBuilder.getQueryColumns(null, table);
+        if (keyColumns.isEmpty()) {
+            LOGGER.info("Table '{}' has no key columns and will not be split into key ranges", table.id());
+            return false;
+        }
+        if (jdbcConnection.nullsSortLast().isEmpty() && keyColumns.stream().anyMatch(Column::isOptional)) {
+            LOGGER.info("Table '{}' has nullable key columns with an unknown sort order and will not be split into key ranges", table.id());
+            return false;
+        }
+        if (!getPreparedColumnNames(snapshotContext.partition, table).containsAll(quotedKeyColumnNames(keyColumns))) {
+            LOGGER.info("Table '{}' excludes key columns from the snapshot and will not be split into key ranges", table.id());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Determines the boundaries of the evenly sized key ranges the given table is split into, if it has enough rows to warrant
+     * more than one range. The boundaries are computed by the database using window functions; if the database does not support
+     * them, the boundaries are read as the last keys of consecutive chunks of the table.
+     *
+     * @param connection the connection reading the boundaries
+     * @return the inclusive upper bound of each key range but the last one, empty if the table should not be split
+     */
+    private List<Object[]> determineKeyRangeBoundaries(JdbcConnection connection, Table table, OptionalLong rowCount, int snapshotMaxThreads)
+            throws SQLException {
+        final long rows = rowCount.isPresent() ? rowCount.getAsLong()
+                : connection.queryAndMap("SELECT COUNT(*) FROM " + jdbcConnection.quotedTableIdString(table.id()), rs -> rs.next() ? rs.getLong(1) : 0L);
+        final int keyRanges = SnapshotKeyRangeBoundaries.keyRangeCount(rows, snapshotMaxThreads * connectorConfig.getSnapshotMaxThreadsMultiplier(),
+                connectorConfig.getSnapshotFetchSize());
+        if (keyRanges < 2) {
+            LOGGER.info("Table '{}' has too few rows and will not be split into key ranges", table.id());
+            return List.of();
+        }
+
+        final List<Column> keyColumns = chunkQueryBuilder.getQueryColumns(null, table);
+        final List<String> keyColumnNames = quotedKeyColumnNames(keyColumns);
+        final long start = clock.currentTimeInMillis();
+        List<Object[]> boundaries = null;
+        if (keyRangeBoundariesSelectSupported) {
+            try {
+                boundaries = connection.queryAndMap(getKeyRangeBoundariesSelect(table, keyColumnNames, keyRanges),
+                        rs -> readKeyRangeBoundaries(connection, table, keyColumns, rs, keyRanges - 1));
+            }
+            catch (SQLException e) {
+                LOGGER.warn("The key range boundaries of table '{}' cannot be computed by the database, "
+                        + "the boundaries of all tables will be read as the last keys of chunks of the tables: {}", table.id(), e.getMessage());
+                keyRangeBoundariesSelectSupported = false;
+            }
+        }
+        if (boundaries == null) {
+            boundaries = readKeyRangeBoundariesByChunks(connection, table, keyColumns, keyColumnNames, keyRanges, (rows + keyRanges - 1) / keyRanges);
+        }
+        LOGGER.info("Determined {} key range boundaries of table '{}' in {}", boundaries.size(), table.id(),
+                Strings.duration(clock.currentTimeInMillis() - start));
+        return boundaries;
+    }
+
+    /**
+     * Reads the boundaries of the key ranges of a table as the last keys of consecutive chunks of the table of the given size,
+     * for databases that do not support the window functions used by {@link #getKeyRangeBoundariesSelect(Table, List, int)}.
+     */
+    private List<Object[]> readKeyRangeBoundariesByChunks(JdbcConnection connection, Table table, List<Column> keyColumns, List<String> keyColumnNames,
+                                                          int keyRanges, long rowsPerKeyRange)
+            throws SQLException {
+        final String keyColumnList = String.join(", ", keyColumnNames);
+        final int chunkSize = (int) Math.min(Integer.MAX_VALUE, rowsPerKeyRange);
+        final List<Object[]> boundaries = new ArrayList<>(keyRanges - 1);
+        Object[] lowerBound = null;
+        while (boundaries.size() < keyRanges - 1) {
+            final String sql = connection.buildSelectWithRowLimits(table.id(), chunkSize, keyColumnList,
+                    lowerBound == null ? Optional.empty() : Optional.of(chunkQueryBuilder.buildKeyRangeCondition(table, lowerBound, null)),
+                    Optional.empty(), keyColumnList);
+            Object[] lastKey = null;
+            long chunkRows = 0;
+            try (PreparedStatement statement = readTableKeyRangeStatement(connection, sql, OptionalLong.of(chunkSize))) {
+                chunkQueryBuilder.setKeyRangeConditionValues(statement, table, lowerBound, null, 0);
+                try (ResultSet rs = statement.executeQuery()) {
+                    final ColumnUtils.ColumnArray columnArray = ColumnUtils.toArray(rs, table);
+                    while (rs.next()) {
+                        chunkRows++;
+                        lastKey = keyOfRow(connection.rowToArray(table, rs, columnArray), keyColumns);
+                    }
+                }
+            }
+            // A chunk that is not full ends the table, so its last key does not bound another key range
+            if (chunkRows < chunkSize) {
+                break;
             }
+            lowerBound = lastKey;
+            boundaries.add(lowerBound);
+        }
+        return boundaries;
+    }
 
-            LOGGER.info("\t Finished exporting {} records for table '{}' ({} of {} tables); total duration '{}'",
-                    rows, table.id(), tableOrder, tableCount, Strings.duration(clock.currentTimeInMillis() - exportStart));
-            snapshotProgressListener.dataCollectionSnapshotCompleted(snapshotContext.partition, table.id(), rows);
-            notificationService.initialSnapshotNotificationService().notifyCompletedTableSuccessfully(snapshotContext.partition,
-                    snapshotContext.offset, table.id().identifier(), rows, snapshotContext.capturedTables);
+    private List<Object[]> readKeyRangeBoundaries(JdbcConnection connection, Table table, List<Column> keyColumns, ResultSet rs, int expectedKeys)
+            throws SQLException {
+        final ColumnUtils.ColumnArray columnArray = ColumnUtils.toArray(rs, table);
+        final List<Object[]> keys = new ArrayList<>(expectedKeys);
+        while (rs.next()) {
+            keys.add(keyOfRow(connection.rowToArray(table, rs, columnArray), keyColumns));
         }
+        return keys;
+    }
+
+    private static Object[] keyOfRow(Object[] row, List<Column> keyColumns) {
+        // The key values are converted like the rows they are compared with
+        final Object[] key = new Object[keyColumns.size()];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = row[keyColumns.get(i).position() - 1];
+        }
+        return key;
+    }
+
+    private List<String> quotedKeyColumnNames(List<Column> keyColumns) {
+        return keyColumns.stream()
+                .map(column -> jdbcConnection.quoteIdentifier(column.name()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the statement selecting the inclusive upper boundaries of the given number of evenly sized key ranges of a table,
+     * but the last one, in ascending key order.
+     *
+     * @param keyColumnNames the quoted names of the key columns
+     */
+    protected String getKeyRangeBoundariesSelect(Table table, List<String> keyColumnNames, int keyRanges) {
+        return SnapshotKeyRangeBoundaries.select(jdbcConnection.quotedTableIdString(table.id()), keyColumnNames, keyRanges);
+    }
+
+    /**
+     * Returns the statement reading a single key range of a table by restricting the table's snapshot select
+     * with the given key range condition.
+     */
+    protected String getSnapshotSelectForKeyRange(String selectStatement, String keyRangeCondition) {
+        return "SELECT * FROM (" + selectStatement + ") dbz_key_range WHERE " + keyRangeCondition;
+    }
+
+    /**
+     * Allow per-connector prepared query creation for reading a key range of a table.
+     */
+    protected PreparedStatement readTableKeyRangeStatement(JdbcConnection jdbcConnection, String sql, OptionalLong tableSize) throws SQLException {
+        return jdbcConnection.readTablePreparedStatement(connectorConfig, sql, tableSize);
     }
 
     protected ResultSet resultSetForDataEvents(String selectStatement, Statement statement)
@@ -829,6 +1191,23 @@ private void rollbackTransaction(Connection connection) {
         }
     }
 
+    /**
+     * A range of a table's key space read by a single query; {@code null} bounds are unbounded.
+     */
+    private static final class TableKeyRange {
+        private final int index;
+        private final int count;
+        private final Object[] lowerBound;
+        private final Object[] upperBound;
+
+        private TableKeyRange(int index, int count, Object[] lowerBound, Object[] upperBound) {
+            this.index = index;
+            this.count = count;
+            this.lowerBound = lowerBound;
+            this.upperBound = upperBound;
+        }
+    }
+
     /**
      * Mutable context which is populated in the course of snapshotting.
      */
@@ -0,0 +1,43 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational;
+
+import java.util.List;
+
+/**
+ * Determines the boundaries of key ranges used to split a table into chunks during the initial snapshot.
+ * <p>
+ * The boundaries are computed by the database, which divides the keys of the table in key order into tiles of
+ * equal size and returns only the last key of each tile, so the keys of the table are not read by the connector.
+ */
+final class SnapshotKeyRangeBoundaries {
+
+    private SnapshotKeyRangeBoundaries() {
+    }
+
+    /**
+     * Returns the number of key ranges a table with the given number of rows is split into, 1 if the table is too small to be split.
+     */
+    static int keyRangeCount(long rows, int maxKeyRanges, long minRowsPerKeyRange) {
+        return (int) Math.max(1, Math.min(maxKeyRanges, rows / Math.max(1, minRowsPerKeyRange)));
+    }
+
+    /**
+     * Returns the query selecting the inclusive upper boundaries of all key ranges but the last one, which is unbounded,
+     * in ascending key order.
+     *
+     * @param tableName the quoted name of the table
+     * @param keyColumnNames the quoted names of the key columns
+     * @param keyRanges the number of key ranges
+     */
+    static String select(String tableName, List<String> keyColumnNames, int keyRanges) {
+        final String keyColumns = String.join(", ", keyColumnNames);
+        return "SELECT " + keyColumns + " FROM ("
+                + "SELECT " + keyColumns + ", dbz_tile, LEAD(dbz_tile) OVER (ORDER BY " + keyColumns + ") AS dbz_next_tile FROM ("
+                + "SELECT " + keyColumns + ", NTILE(" + keyRanges + ") OVER (ORDER BY " + keyColumns + ") AS dbz_tile FROM " + tableName
+                + ") dbz_tiles) dbz_boundaries WHERE dbz_tile <> dbz_next_tile ORDER BY " + keyColumns;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.debezium.connector.SnapshotRecord;
+
+/**
+ * Tracks the key ranges of a table that is split for the initial snapshot, so that table-level progress is reported exactly once
+ * while the key ranges are read concurrently.
+ * <p>
+ * The first row dispatched for the table is marked as the first one of the table. The last row of each key range is held back
+ * until another key range completes, so that the row dispatched when all key ranges completed can be marked as the last one.
+ */
+final class SnapshotKeyRangeProgress {
+
+    /**
+     * Dispatches a row of the table with the given snapshot marker.
+     */
+    @FunctionalInterface
+    interface RowDispatcher {
+        void dispatch(Object[] row, Instant sourceTableSnapshotTimestamp, SnapshotRecord marker) throws InterruptedException;
+    }
+
+    final int tableOrder;
+    final int tableCount;
+    final AtomicLong rows = new AtomicLong();
+    final AtomicBoolean started = new AtomicBoolean();
+    final AtomicBoolean failed = new AtomicBoolean();
+    private final AtomicInteger remaining;
+
+    // Guarded by the lock of this progress
+    private boolean firstRowDispatched;
+    private Object[] pendingRow;
+    private Instant pendingRowTimestamp;
+
+    SnapshotKeyRangeProgress(int keyRangeCount, int tableOrder, int tableCount) {
+        this.remaining = new AtomicInteger(keyRangeCount);
+        this.tableOrder = tableOrder;
+        this.tableCount = tableCount;
+    }
+
+    /**
+     * Dispatches a row of a key range that is not the last row of the key range.
+     *
+     * @param firstInKeyRange whether the row is the first one of its key range, which may be the first one of the table
+     */
+    void dispatchRow(Object[] row, Instant sourceTableSnapshotTimestamp, boolean firstInKeyRange, RowDispatcher dispatcher)
+            throws InterruptedException {
+        if (!firstInKeyRange) {
+            dispatcher.dispatch(row, sourceTableSnapshotTimestamp, SnapshotRecord.TRUE);
+            return;
+        }
+        synchronized (this) {
+            dispatch(row, sourceTableSnapshotTimestamp, false, dispatcher);
+        }
+    }
+
+    /**
+     * Completes a key range, dispatching the row held back by a previously completed key range.
+     *
+     * @param lastRow the last row of the key range, {@code null} if the key range is empty
+     * @return {@code true} if all key ranges of the table have been completed
+     */
+    boolean completeKeyRange(Object[] lastRow, Instant sourceTableSnapshotTimestamp, RowDispatcher dispatcher) throws InterruptedException {
+        synchronized (this) {
+            if (lastRow != null) {
+                if (pendingRow != null) {
+                    dispatch(pendingRow, pendingRowTimestamp, false, dispatcher);
+                }
+                pendingRow = lastRow;
+                pendingRowTimestamp = sourceTableSnapshotTimestamp;
+            }
+            if (remaining.decrementAndGet() > 0) {
+                return false;
+            }
+            if (pendingRow != null) {
+                dispatch(pendingRow, pendingRowTimestamp, true, dispatcher);
+                pendingRow = null;
+            }
+            return true;
+        }
+    }
+
+    private void dispatch(Object[] row, Instant sourceTableSnapshotTimestamp, boolean lastInTable, RowDispatcher dispatcher)
+            throws InterruptedException {
+        final SnapshotRecord marker;
+        if (lastInTable) {
+            marker = SnapshotRecord.LAST_IN_DATA_COLLECTION;
+        }
+        else if (!firstRowDispatched) {
+            marker = SnapshotRecord.FIRST_IN_DATA_COLLECTION;
+        }
+        else {
+            marker = SnapshotRecord.TRUE;
+        }
+        firstRowDispatched = true;
+        dispatcher.dispatch(row, sourceTableSnapshotTimestamp, marker);
+    }
+}
@@ -17,6 +17,7 @@
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -127,6 +128,19 @@ protected void recoverRecords(Consumer<HistoryRecord> records) {
         lock.write(() -> getRecords().forEach(records));
     }
 
+    @Override
+    protected boolean recoverRecordsNewestFirst(Predicate<HistoryRecord> records) {
+        lock.write(() -> {
+            final List<HistoryRecord> recovered = getRecords();
+            for (int i = recovered.size() - 1; i >= 0; i--) {
+                if (!records.test(recovered.get(i))) {
+                    break;
+                }
+            }
+        });
+        return true;
+    }
+
     @Override
     public boolean exists() {
         return !getRecords().isEmpty();
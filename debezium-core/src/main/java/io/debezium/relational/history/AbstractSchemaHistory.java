@@ -6,8 +6,14 @@
 package io.debezium.relational.history;
 
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
@@ -20,6 +26,8 @@
 import io.debezium.document.Array;
 import io.debezium.document.Document;
 import io.debezium.function.Predicates;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
 import io.debezium.relational.Tables;
 import io.debezium.relational.ddl.DdlParser;
 import io.debezium.relational.history.TableChanges.TableChange;
@@ -36,6 +44,12 @@
  */
 public abstract class AbstractSchemaHistory implements SchemaHistory {
 
+    /**
+     * The maximum number of columns stored in a single record of a checkpoint, which keeps the records
+     * well below the default message size limit of Kafka.
+     */
+    private static final int CHECKPOINT_MAX_COLUMNS_PER_RECORD = 1_000;
+
     protected final Logger logger = LoggerFactory.getLogger(getClass());
 
     public static Field.Set ALL_FIELDS = Field.setOf(NAME, INTERNAL_CONNECTOR_CLASS, INTERNAL_CONNECTOR_ID);
@@ -47,8 +61,18 @@ public abstract class AbstractSchemaHistory implements SchemaHistory {
     private SchemaHistoryListener listener = SchemaHistoryListener.NOOP;
     private boolean useCatalogBeforeSchema;
     private boolean preferDdl = false;
+    private int checkpointInterval;
     private final TableChangesSerializer<Array> tableChangesSerializer = new JsonTableChangeSerializer();
 
+    /**
+     * The tables at the position of the newest record of the history, maintained from the table changes of the recorded
+     * changes so that checkpoints can be stored while the connector is running; {@code null} if they are not known.
+     */
+    private Tables checkpointSchema;
+    private Document checkpointSource;
+    private long recordsSinceCheckpoint;
+    private boolean checkpointSchemaDetermined;
+
     protected AbstractSchemaHistory() {
     }
 
@@ -63,6 +87,11 @@ public void configure(Configuration config, HistoryRecordComparator comparator,
         this.listener = listener;
         this.useCatalogBeforeSchema = useCatalogBeforeSchema;
         this.preferDdl = config.getBoolean(INTERNAL_PREFER_DDL);
+        this.checkpointInterval = config.getInteger(CHECKPOINT_INTERVAL);
+        if (checkpointInterval > 0 && preferDdl) {
+            // A checkpoint consists of table changes, which are ignored when the schema is recovered from the DDL statements
+            logger.info("Database schema history checkpoints are disabled as the schema is recovered from DDL statements");
+        }
     }
 
     @Override
@@ -82,8 +111,47 @@ public final void record(Map<String, ?> source, Map<String, ?> position, String
                              String ddl, TableChanges changes, Instant timestamp)
             throws SchemaHistoryException {
         final HistoryRecord record = new HistoryRecord(source, position, databaseName, schemaName, ddl, changes, timestamp);
+        if (!checkpointSchemaDetermined) {
+            // The history has not been recovered, so the tables are only known when the history starts with this record
+            checkpointSchemaDetermined = true;
+            if (isCheckpointingEnabled() && !exists()) {
+                checkpointSchema = new Tables();
+            }
+        }
         storeRecord(record);
         listener.onChangeApplied(record);
+        if (checkpointSchema != null) {
+            updateCheckpointSchema(record, source, position, changes);
+        }
+    }
+
+    /**
+     * Applies the table changes of a stored record to the tables of the next checkpoint and stores the checkpoint
+     * once the configured number of records has been stored since the previous one.
+     */
+    private void updateCheckpointSchema(HistoryRecord record, Map<String, ?> source, Map<String, ?> position, TableChanges changes) {
+        final Document srcDocument = record.document().getDocument(HistoryRecord.Fields.SOURCE);
+        if (checkpointSource == null) {
+            checkpointSource = srcDocument;
+        }
+        else if (!checkpointSource.equals(srcDocument)) {
+            logger.info("Database schema history checkpoints are not stored as the connector records changes of multiple partitions");
+            checkpointSchema = null;
+            return;
+        }
+        if (changes != null && changes.iterator().hasNext()) {
+            applyTableChanges(changes, checkpointSchema);
+        }
+        else if (record.ddl() != null) {
+            // The effect of the statement is only known to the DDL parser, which replays it upon recovery
+            logger.info("Database schema history checkpoints are not stored until the next restart as the statement '{}' has no table changes",
+                    Loggings.maybeRedactSensitiveData(record.ddl()));
+            checkpointSchema = null;
+            return;
+        }
+        if (++recordsSinceCheckpoint >= checkpointInterval) {
+            storeCheckpoint(source, position, checkpointSchema);
+        }
     }
 
     @Override
@@ -98,70 +166,265 @@ public void recover(Map<Map<String, ?>, Map<String, ?>> offsets, Tables schema,
             stopPoints.put(srcDocument, new HistoryRecord(source, position, null, null, null, null, null));
         });
 
-        recoverRecords(recovered -> {
+        checkpointSchemaDetermined = true;
+        checkpointSchema = null;
+        if (!isCheckpointingEnabled() || stopPoints.size() != 1) {
+            if (isCheckpointingEnabled()) {
+                // A checkpoint captures all tables at the position of one partition, so it cannot restore the tables
+                // of the other partitions, whose offsets may be at an earlier position
+                logger.info("Database schema history checkpoints are not used as the connector has offsets of multiple partitions");
+            }
+            recoverRecords(recovered -> {
+                listener.onChangeFromHistory(recovered);
+                if (recovered.checkpoint() != null) {
+                    logger.trace("Skipping schema history checkpoint: {}", recovered);
+                }
+                else if (isAtOrBeforeStopPoint(recovered, stopPoints)) {
+                    applyRecord(recovered, schema, ddlParser);
+                }
+                else {
+                    logger.debug("Skipping: {}", recovered.ddl());
+                }
+            });
+            listener.recoveryStopped();
+            return;
+        }
+
+        final CheckpointTail tail = new CheckpointTail(stopPoints);
+        if (!recoverRecordsNewestFirst(tail::acceptNewestFirst)) {
+            recoverRecords(tail::accept);
+        }
+        if (tail.checkpoint != null) {
+            final List<TableChange> checkpointTables = new ArrayList<>();
+            tail.checkpoint.forEach(part -> {
+                listener.onChangeFromHistory(part);
+                tableChangesSerializer.deserialize(part.tableChanges(), useCatalogBeforeSchema).forEach(checkpointTables::add);
+            });
+            logger.info("Recovering database schema history from checkpoint with {} tables", checkpointTables.size());
+            schema.clear();
+            checkpointTables.forEach(table -> schema.overwriteTable(table.getTable()));
+        }
+        for (HistoryRecord recovered : tail.records) {
             listener.onChangeFromHistory(recovered);
-            Document srcDocument = recovered.document().getDocument(HistoryRecord.Fields.SOURCE);
-            if (stopPoints.containsKey(srcDocument) && comparator.isAtOrBefore(recovered, stopPoints.get(srcDocument))) {
-                Array tableChanges = recovered.tableChanges();
-                String ddl = recovered.ddl();
-
-                if (!preferDdl && tableChanges != null && !tableChanges.isEmpty()) {
-                    TableChanges changes = tableChangesSerializer.deserialize(tableChanges, useCatalogBeforeSchema);
-                    for (TableChange entry : changes) {
-                        if (entry.getType() == TableChangeType.CREATE) {
-                            schema.overwriteTable(entry.getTable());
-                        }
-                        else if (entry.getType() == TableChangeType.ALTER) {
-                            if (entry.getPreviousId() != null) {
-                                schema.removeTable(entry.getPreviousId());
-                            }
-                            schema.overwriteTable(entry.getTable());
-                        }
-                        // DROP
-                        else {
-                            schema.removeTable(entry.getId());
-                        }
-                    }
-                    listener.onChangeApplied(recovered);
+            applyRecord(recovered, schema, ddlParser);
+        }
+
+        if (tail.recordsAfterStopPoint == 0) {
+            // The tables of the next checkpoint are the recovered ones, as the history ends at the offsets
+            final Map.Entry<Map<String, ?>, Map<String, ?>> offset = offsets.entrySet().iterator().next();
+            checkpointSchema = schema.clone();
+            checkpointSource = stopPoints.keySet().iterator().next();
+            recordsSinceCheckpoint = tail.records.size();
+            if (recordsSinceCheckpoint >= checkpointInterval) {
+                storeCheckpoint(offset.getKey(), offset.getValue(), checkpointSchema);
+            }
+        }
+        listener.recoveryStopped();
+    }
+
+    private boolean isAtOrBeforeStopPoint(HistoryRecord recovered, Map<Document, HistoryRecord> stopPoints) {
+        Document srcDocument = recovered.document().getDocument(HistoryRecord.Fields.SOURCE);
+        return stopPoints.containsKey(srcDocument) && comparator.isAtOrBefore(recovered, stopPoints.get(srcDocument));
+    }
+
+    /**
+     * Checkpoints are only used when the schema is recovered from table changes, as a checkpoint consists of
+     * the table changes that create all tables.
+     */
+    private boolean isCheckpointingEnabled() {
+        return checkpointInterval > 0 && !preferDdl;
+    }
+
+    private void applyRecord(HistoryRecord recovered, Tables schema, DdlParser ddlParser) {
+        Array tableChanges = recovered.tableChanges();
+        String ddl = recovered.ddl();
+
+        if (!preferDdl && tableChanges != null && !tableChanges.isEmpty()) {
+            applyTableChanges(tableChangesSerializer.deserialize(tableChanges, useCatalogBeforeSchema), schema);
+            listener.onChangeApplied(recovered);
+        }
+        else if (ddl != null && ddlParser != null) {
+            if (recovered.databaseName() != null) {
+                ddlParser.setCurrentDatabase(recovered.databaseName()); // may be null
+            }
+            if (recovered.schemaName() != null) {
+                ddlParser.setCurrentSchema(recovered.schemaName()); // may be null
+            }
+            if (ddlFilter.test(ddl)) {
+                logger.info("a DDL '{}' was filtered out of processing by regular expression '{}'",
+                        Loggings.maybeRedactSensitiveData(ddl), config.getString(DDL_FILTER));
+                return;
+            }
+            try {
+                logger.debug("Applying: {}", ddl);
+                ddlParser.parse(ddl, schema);
+                listener.onChangeApplied(recovered);
+            }
+            catch (final ParsingException | MultipleParsingExceptions e) {
+                if (skipUnparseableDDL) {
+                    logger.warn("Ignoring unparseable statements '{}' stored in database schema history", ddl, e);
                 }
-                else if (ddl != null && ddlParser != null) {
-                    if (recovered.databaseName() != null) {
-                        ddlParser.setCurrentDatabase(recovered.databaseName()); // may be null
-                    }
-                    if (recovered.schemaName() != null) {
-                        ddlParser.setCurrentSchema(recovered.schemaName()); // may be null
-                    }
-                    if (ddlFilter.test(ddl)) {
-                        logger.info("a DDL '{}' was filtered out of processing by regular expression '{}'",
-                                Loggings.maybeRedactSensitiveData(ddl), config.getString(DDL_FILTER));
-                        return;
-                    }
-                    try {
-                        logger.debug("Applying: {}", ddl);
-                        ddlParser.parse(ddl, schema);
-                        listener.onChangeApplied(recovered);
-                    }
-                    catch (final ParsingException | MultipleParsingExceptions e) {
-                        if (skipUnparseableDDL) {
-                            logger.warn("Ignoring unparseable statements '{}' stored in database schema history", ddl, e);
-                        }
-                        else {
-                            throw e;
-                        }
-                    }
+                else {
+                    throw e;
                 }
             }
+        }
+    }
+
+    private static void applyTableChanges(TableChanges changes, Tables schema) {
+        for (TableChange entry : changes) {
+            if (entry.getType() == TableChangeType.CREATE) {
+                schema.overwriteTable(entry.getTable());
+            }
+            else if (entry.getType() == TableChangeType.ALTER) {
+                if (entry.getPreviousId() != null) {
+                    schema.removeTable(entry.getPreviousId());
+                }
+                schema.overwriteTable(entry.getTable());
+            }
+            // DROP
             else {
-                logger.debug("Skipping: {}", recovered.ddl());
+                schema.removeTable(entry.getId());
             }
-        });
-        listener.recoveryStopped();
+        }
+    }
+
+    /**
+     * Stores a checkpoint of the given tables at the given position.
+     * The checkpoint is split into several records so that no record exceeds the size limits of the storage.
+     */
+    private void storeCheckpoint(Map<String, ?> source, Map<String, ?> position, Tables schema) {
+        recordsSinceCheckpoint = 0;
+        final List<TableChanges> parts = new ArrayList<>();
+        TableChanges part = new TableChanges();
+        int columns = 0;
+        for (TableId tableId : schema.tableIds()) {
+            final Table table = schema.forTable(tableId);
+            if (columns > 0 && columns + table.columns().size() > CHECKPOINT_MAX_COLUMNS_PER_RECORD) {
+                parts.add(part);
+                part = new TableChanges();
+                columns = 0;
+            }
+            part.create(table);
+            columns += table.columns().size();
+        }
+        parts.add(part);
+
+        final String checkpointId = UUID.randomUUID().toString();
+        final Instant timestamp = Clock.SYSTEM.currentTimeAsInstant();
+        logger.info("Storing database schema history checkpoint '{}' with {} tables in {} records", checkpointId, schema.size(), parts.size());
+        try {
+            for (int i = 0; i < parts.size(); i++) {
+                storeRecord(new HistoryRecord(source, position, null, null, null, parts.get(i), timestamp)
+                        .checkpoint(checkpointId, i, parts.size()));
+            }
+        }
+        catch (SchemaHistoryException e) {
+            logger.warn("Failed to store database schema history checkpoint, the next recovery will replay the full history", e);
+        }
+    }
+
+    /**
+     * Collects the newest complete checkpoint at or before the connector offsets and the records that follow it,
+     * from the records read either from the oldest or from the newest one.
+     */
+    private class CheckpointTail {
+        private final Map<Document, HistoryRecord> stopPoints;
+        private final Deque<HistoryRecord> records = new ArrayDeque<>();
+        private List<HistoryRecord> checkpoint;
+        private long recordsAfterStopPoint = 0;
+        private final List<HistoryRecord> parts = new ArrayList<>();
+
+        CheckpointTail(Map<Document, HistoryRecord> stopPoints) {
+            this.stopPoints = stopPoints;
+        }
+
+        void accept(HistoryRecord recovered) {
+            if (!isAtOrBeforeStopPoint(recovered, stopPoints)) {
+                recordsAfterStopPoint++;
+                return;
+            }
+            final Document part = recovered.checkpoint();
+            if (part == null) {
+                parts.clear();
+                records.addLast(recovered);
+                return;
+            }
+            final int index = part.getInteger(HistoryRecord.Fields.CHECKPOINT_PART);
+            if (index == 0) {
+                parts.clear();
+            }
+            else if (!isNextPart(part, index - 1)) {
+                // A part of a checkpoint whose preceding parts are missing
+                parts.clear();
+                return;
+            }
+            parts.add(recovered);
+            if (index == part.getInteger(HistoryRecord.Fields.CHECKPOINT_PARTS) - 1) {
+                checkpoint = new ArrayList<>(parts);
+                parts.clear();
+                records.clear();
+            }
+        }
+
+        /**
+         * @return {@code false} once the newest complete checkpoint has been found and no older records are needed
+         */
+        boolean acceptNewestFirst(HistoryRecord recovered) {
+            if (!isAtOrBeforeStopPoint(recovered, stopPoints)) {
+                recordsAfterStopPoint++;
+                return true;
+            }
+            final Document part = recovered.checkpoint();
+            if (part == null) {
+                parts.clear();
+                records.addFirst(recovered);
+                return true;
+            }
+            final int index = part.getInteger(HistoryRecord.Fields.CHECKPOINT_PART);
+            if (index == part.getInteger(HistoryRecord.Fields.CHECKPOINT_PARTS) - 1) {
+                parts.clear();
+            }
+            else if (!isNextPart(part, index + 1)) {
+                // A part of a checkpoint whose following parts are missing
+                parts.clear();
+                return true;
+            }
+            parts.add(recovered);
+            if (index == 0) {
+                Collections.reverse(parts);
+                checkpoint = new ArrayList<>(parts);
+                return false;
+            }
+            return true;
+        }
+
+        private boolean isNextPart(Document part, int previousIndex) {
+            if (parts.isEmpty()) {
+                return false;
+            }
+            final Document previous = parts.get(parts.size() - 1).checkpoint();
+            return previous.getString(HistoryRecord.Fields.CHECKPOINT_ID).equals(part.getString(HistoryRecord.Fields.CHECKPOINT_ID))
+                    && previous.getInteger(HistoryRecord.Fields.CHECKPOINT_PART) == previousIndex;
+        }
     }
 
     protected abstract void storeRecord(HistoryRecord record) throws SchemaHistoryException;
 
     protected abstract void recoverRecords(Consumer<HistoryRecord> records) throws InterruptedException;
 
+    /**
+     * Passes the records of the history to the given consumer from the newest to the oldest one, until the consumer returns
+     * {@code false}, so that a recovery from a checkpoint does not need to read the records preceding the checkpoint.
+     * Storages that cannot read the history backwards return {@code false} without reading any record, in which case
+     * the history is read once with {@link #recoverRecords(Consumer)}.
+     *
+     * @return {@code true} if the records were read, {@code false} if the storage does not support reading backwards
+     */
+    protected boolean recoverRecordsNewestFirst(Predicate<HistoryRecord> records) throws InterruptedException {
+        return false;
+    }
+
     @Override
     public void stop() {
         listener.stopped();
@@ -23,6 +23,10 @@ public static final class Fields {
         public static final String DDL_STATEMENTS = "ddl";
         public static final String TABLE_CHANGES = "tableChanges";
         public static final String TIMESTAMP = "ts_ms";
+        public static final String CHECKPOINT = "checkpoint";
+        public static final String CHECKPOINT_ID = "id";
+        public static final String CHECKPOINT_PART = "part";
+        public static final String CHECKPOINT_PARTS = "parts";
     }
 
     private final Document doc;
@@ -107,6 +111,30 @@ protected long timestamp() {
         return doc.getLong(Fields.TIMESTAMP);
     }
 
+    /**
+     * @return the checkpoint information if this record is a part of a schema checkpoint, otherwise {@code null}
+     */
+    protected Document checkpoint() {
+        return doc.getDocument(Fields.CHECKPOINT);
+    }
+
+    /**
+     * Marks this record as a part of a schema checkpoint, i.e. a snapshot of all tables at the record's position
+     * that may be stored in several records.
+     *
+     * @param id the identifier of the checkpoint, shared by all of its parts
+     * @param part the zero-based index of this part
+     * @param parts the number of parts of the checkpoint
+     * @return this record
+     */
+    protected HistoryRecord checkpoint(String id, int part, int parts) {
+        doc.setDocument(Fields.CHECKPOINT)
+                .setString(Fields.CHECKPOINT_ID, id)
+                .setNumber(Fields.CHECKPOINT_PART, part)
+                .setNumber(Fields.CHECKPOINT_PARTS, parts);
+        return this;
+    }
+
     @Override
     public String toString() {
         return doc.toString();
@@ -8,6 +8,7 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import io.debezium.annotation.ThreadSafe;
 import io.debezium.util.FunctionalReadWriteLock;
@@ -39,6 +40,18 @@ protected void recoverRecords(Consumer<HistoryRecord> records) {
         lock.write(() -> this.records.forEach(records));
     }
 
+    @Override
+    protected boolean recoverRecordsNewestFirst(Predicate<HistoryRecord> records) {
+        lock.write(() -> {
+            for (int i = this.records.size() - 1; i >= 0; i--) {
+                if (!records.test(this.records.get(i))) {
+                    break;
+                }
+            }
+        });
+        return true;
+    }
+
     @Override
     public boolean storageExists() {
         return true;
@@ -113,6 +113,18 @@ public interface SchemaHistory {
                     + "from processing and storing into schema history evolution.")
             .withValidation(Field::isListOfRegex);
 
+    Field CHECKPOINT_INTERVAL = Field.create(CONFIGURATION_FIELD_PREFIX_STRING + "checkpoint.interval")
+            .withDisplayName("Schema history checkpoint interval")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The number of records of the database schema history after which a checkpoint of the schema is stored "
+                    + "in the history, both while changes are recorded and when a recovery replayed at least that many records. "
+                    + "Subsequent recoveries start from the newest checkpoint at or before the connector offsets and replay only "
+                    + "the records that follow it. The default of 0 disables checkpoints.")
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger);
+
     // Required for unified thread creation
     Field INTERNAL_CONNECTOR_CLASS = Field.create(CONFIGURATION_FIELD_PREFIX_STRING + "connector.class")
             .withDisplayName("Debezium connector class")
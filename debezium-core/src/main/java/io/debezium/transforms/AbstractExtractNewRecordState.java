@@ -73,6 +73,7 @@
     protected List<FieldReference> additionalHeaders;
     protected List<FieldReference> additionalFields;
     protected String routeByField;
+    private volatile HeaderSchemas lastHeaderSchemas;
 
     @Override
     public String version() {
@@ -136,21 +137,44 @@ protected R setTopic(String updatedTopicValue, R record) {
     protected Headers makeHeaders(List<FieldReference> additionalHeaders, Struct originalRecordValue) {
         Headers headers = new ConnectHeaders();
 
-        for (FieldReference fieldReference : additionalHeaders) {
+        if (originalRecordValue == null) {
             // add "d" operation header to tombstone events
-            if (originalRecordValue == null) {
+            for (FieldReference fieldReference : additionalHeaders) {
                 if (OPERATION.equals(fieldReference.getField())) {
                     headers.addString(fieldReference.getNewField(), Envelope.Operation.DELETE.code());
                 }
-                continue;
             }
-            Optional<Schema> schema = fieldReference.getSchema(originalRecordValue.schema());
-            schema.ifPresent(value -> headers.add(fieldReference.getNewField(), fieldReference.getValue(originalRecordValue), value));
+            return headers;
+        }
+
+        final Schema[] schemas = getHeaderSchemas(additionalHeaders, originalRecordValue.schema());
+        for (int i = 0; i < schemas.length; i++) {
+            if (schemas[i] != null) {
+                final FieldReference fieldReference = additionalHeaders.get(i);
+                headers.add(fieldReference.getNewField(), fieldReference.getValue(originalRecordValue), schemas[i]);
+            }
         }
 
         return headers;
     }
 
+    /**
+     * Derives the schemas of the headers once per record schema instance, with {@code null} for the headers
+     * whose field is not present in the record.
+     */
+    private Schema[] getHeaderSchemas(List<FieldReference> additionalHeaders, Schema originalRecordSchema) {
+        HeaderSchemas cached = lastHeaderSchemas;
+        if (cached == null || cached.additionalHeaders != additionalHeaders || cached.originalRecordSchema != originalRecordSchema) {
+            final Schema[] schemas = new Schema[additionalHeaders.size()];
+            for (int i = 0; i < schemas.length; i++) {
+                schemas[i] = additionalHeaders.get(i).getSchema(originalRecordSchema).orElse(null);
+            }
+            cached = new HeaderSchemas(additionalHeaders, originalRecordSchema, schemas);
+            lastHeaderSchemas = cached;
+        }
+        return cached.schemas;
+    }
+
     /**
      * Retrieve the Header object from connect record by specified header name
      */
@@ -287,6 +311,18 @@ private boolean isInSchema(Schema originalRecordSchema) {
         }
     }
 
+    private static final class HeaderSchemas {
+        private final List<FieldReference> additionalHeaders;
+        private final Schema originalRecordSchema;
+        private final Schema[] schemas;
+
+        HeaderSchemas(List<FieldReference> additionalHeaders, Schema originalRecordSchema, Schema[] schemas) {
+            this.additionalHeaders = additionalHeaders;
+            this.originalRecordSchema = originalRecordSchema;
+            this.schemas = schemas;
+        }
+    }
+
     protected static class NewRecordValueMetadata {
         private final Schema schema;
         private final String operation;
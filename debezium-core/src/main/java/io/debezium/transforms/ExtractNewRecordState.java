@@ -12,6 +12,7 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 import org.apache.kafka.common.config.ConfigDef;
@@ -85,7 +86,8 @@
     private String dropFieldsHeaderName;
     private boolean dropFieldsFromKey;
     private boolean dropFieldsKeepSchemaCompatible;
-    private BoundedConcurrentHashMap<NewRecordValueMetadata, Schema> schemaUpdateCache;
+    private BoundedConcurrentHashMap<NewRecordValueMetadata, ProjectionPlan> projectionPlanCache;
+    private volatile ProjectionPlan lastProjectionPlan;
 
     private final Field.Set configFields = CONFIG_FIELDS.with(
             DROP_FIELDS_HEADER, DROP_FIELDS_FROM_KEY, DROP_FIELDS_KEEP_SCHEMA_COMPATIBLE);
@@ -97,7 +99,8 @@ public void configure(final Map<String, ?> configs) {
         dropFieldsHeaderName = config.getString(DROP_FIELDS_HEADER);
         dropFieldsFromKey = config.getBoolean(DROP_FIELDS_FROM_KEY);
         dropFieldsKeepSchemaCompatible = config.getBoolean(DROP_FIELDS_KEEP_SCHEMA_COMPATIBLE);
-        schemaUpdateCache = new BoundedConcurrentHashMap<>(SCHEMA_CACHE_SIZE);
+        projectionPlanCache = new BoundedConcurrentHashMap<>(SCHEMA_CACHE_SIZE);
+        lastProjectionPlan = null;
     }
 
     @Override
@@ -180,44 +183,41 @@ public ConfigDef config() {
 
     private R addFields(List<FieldReference> additionalFields, R originalRecord, R unwrappedRecord) {
         final Struct value = requireStruct(unwrappedRecord.value(), PURPOSE);
-        Struct originalRecordValue = (Struct) originalRecord.value();
-
-        Schema updatedSchema = schemaUpdateCache.computeIfAbsent(buildCacheKey(value, originalRecord),
-                s -> makeUpdatedSchema(additionalFields, value.schema(), originalRecordValue));
-
-        // Update the value with the new fields
-        Struct updatedValue = new Struct(updatedSchema);
-        for (org.apache.kafka.connect.data.Field field : value.schema().fields()) {
-            // We use getWithoutDefault method (instead of get) to get the raw value of the field
-            // Using get method may perform unwanted manipulation for the value (e.g: replacing null value with default value)
-            updatedValue.put(field.name(), value.getWithoutDefault(field.name()));
-
-        }
-
-        for (FieldReference fieldReference : additionalFields) {
-            Optional<Schema> schema = fieldReference.getSchema(originalRecordValue.schema());
-            if (schema.isPresent()) {
-                updatedValue = updateValue(fieldReference, updatedValue, originalRecordValue);
-            }
-        }
+        final Struct originalRecordValue = (Struct) originalRecord.value();
+        final ProjectionPlan plan = getProjectionPlan(additionalFields, value, originalRecordValue);
 
         return unwrappedRecord.newRecord(
                 unwrappedRecord.topic(),
                 unwrappedRecord.kafkaPartition(),
                 unwrappedRecord.keySchema(),
                 unwrappedRecord.key(),
-                updatedSchema,
-                updatedValue,
+                plan.schema,
+                plan.project(value, originalRecordValue),
                 unwrappedRecord.timestamp());
     }
 
-    private NewRecordValueMetadata buildCacheKey(Struct value, R originalRecord) {
+    private ProjectionPlan getProjectionPlan(List<FieldReference> additionalFields, Struct value, Struct originalRecordValue) {
+        final String operation = originalRecordValue.getString(OPERATION);
+
+        // Consecutive records mostly share the same schema instance, which avoids hashing the schema for the cache lookup
+        ProjectionPlan plan = lastProjectionPlan;
+        if (plan != null && plan.valueSchema == value.schema() && Objects.equals(plan.operation, operation)) {
+            return plan;
+        }
+
         // This is needed because in case using this SMT after ExtractChangedRecordState and HeaderToValue
         // If we only use the value schema as cache key, it will be calculated only on `read` record and any other event will use the value in cache.
         // But since ExtractChangedRecordState generates changed field with `update` or `delete` operation and then eventually copied to the payload with HeaderToValue SMT,
         // the schema in that case will never be updated since cached on the first `read` operation.
         // Using also the operation in the cache key will solve the problem.
-        return new NewRecordValueMetadata(value.schema(), ((Struct) originalRecord.value()).getString(OPERATION));
+        plan = projectionPlanCache.computeIfAbsent(new NewRecordValueMetadata(value.schema(), operation),
+                key -> new ProjectionPlan(additionalFields, value.schema(), originalRecordValue.schema(), operation));
+        if (plan.valueSchema != value.schema()) {
+            // An equal schema cached for a different instance; remember this instance for the identity check
+            plan = plan.forValueSchema(value.schema());
+        }
+        lastProjectionPlan = plan;
+        return plan;
     }
 
     private R dropFields(R record) {
@@ -278,29 +278,85 @@ private List<String> getFieldsToDropFromSchema(Schema schema, List<String> field
         return fieldsToDrop;
     }
 
-    private Schema makeUpdatedSchema(List<FieldReference> additionalFields, Schema schema, Struct originalRecordValue) {
-        // Get fields from original schema
-        SchemaBuilder builder = SchemaUtil.copySchemaBasics(schema, SchemaBuilder.struct());
-        for (org.apache.kafka.connect.data.Field field : schema.fields()) {
-            builder.field(field.name(), field.schema());
-        }
+    /**
+     * Copies the unwrapped value together with the additional fields into the updated schema.
+     * The updated schema and the fields to be copied are derived once per value schema and operation,
+     * so that each record is projected by index without looking up fields by name or deriving schemas.
+     */
+    private static final class ProjectionPlan {
+
+        private final Schema valueSchema;
+        private final String operation;
+        private final Schema schema;
+        private final org.apache.kafka.connect.data.Field[] valueFields;
+        private final org.apache.kafka.connect.data.Field[] projectedValueFields;
+        private final boolean[] valueFieldHasDefault;
+        private final FieldReference[] additionalFields;
+        private final org.apache.kafka.connect.data.Field[] projectedAdditionalFields;
+
+        ProjectionPlan(List<FieldReference> additionalFields, Schema valueSchema, Schema originalRecordSchema, String operation) {
+            this.valueSchema = valueSchema;
+            this.operation = operation;
+
+            // Get fields from original schema
+            SchemaBuilder builder = SchemaUtil.copySchemaBasics(valueSchema, SchemaBuilder.struct());
+            for (org.apache.kafka.connect.data.Field field : valueSchema.fields()) {
+                builder.field(field.name(), field.schema());
+            }
 
-        // Update the schema with the new fields
-        for (FieldReference fieldReference : additionalFields) {
-            Optional<Schema> fieldSchema = fieldReference.getSchema(originalRecordValue.schema());
-            if (fieldSchema.isPresent()) {
-                builder = updateSchema(fieldReference, builder, fieldSchema.get());
+            // Update the schema with the new fields
+            final List<FieldReference> presentFields = new ArrayList<>(additionalFields.size());
+            for (FieldReference fieldReference : additionalFields) {
+                Optional<Schema> fieldSchema = fieldReference.getSchema(originalRecordSchema);
+                if (fieldSchema.isPresent()) {
+                    builder.field(fieldReference.getNewField(), fieldSchema.get());
+                    presentFields.add(fieldReference);
+                }
+            }
+            this.schema = builder.build();
+
+            final List<org.apache.kafka.connect.data.Field> fields = valueSchema.fields();
+            this.valueFields = fields.toArray(new org.apache.kafka.connect.data.Field[0]);
+            this.projectedValueFields = new org.apache.kafka.connect.data.Field[valueFields.length];
+            this.valueFieldHasDefault = new boolean[valueFields.length];
+            for (int i = 0; i < valueFields.length; i++) {
+                projectedValueFields[i] = schema.field(valueFields[i].name());
+                valueFieldHasDefault[i] = valueFields[i].schema().defaultValue() != null;
+            }
+            this.additionalFields = presentFields.toArray(new FieldReference[0]);
+            this.projectedAdditionalFields = new org.apache.kafka.connect.data.Field[this.additionalFields.length];
+            for (int i = 0; i < this.additionalFields.length; i++) {
+                projectedAdditionalFields[i] = schema.field(this.additionalFields[i].getNewField());
             }
         }
 
-        return builder.build();
-    }
+        private ProjectionPlan(ProjectionPlan plan, Schema valueSchema) {
+            this.valueSchema = valueSchema;
+            this.operation = plan.operation;
+            this.schema = plan.schema;
+            this.valueFields = plan.valueFields;
+            this.projectedValueFields = plan.projectedValueFields;
+            this.valueFieldHasDefault = plan.valueFieldHasDefault;
+            this.additionalFields = plan.additionalFields;
+            this.projectedAdditionalFields = plan.projectedAdditionalFields;
+        }
 
-    private SchemaBuilder updateSchema(FieldReference fieldReference, SchemaBuilder builder, Schema fieldSchema) {
-        return builder.field(fieldReference.getNewField(), fieldSchema);
-    }
+        ProjectionPlan forValueSchema(Schema valueSchema) {
+            return new ProjectionPlan(this, valueSchema);
+        }
 
-    private Struct updateValue(FieldReference fieldReference, Struct updatedValue, Struct struct) {
-        return updatedValue.put(fieldReference.getNewField(), fieldReference.getValue(struct));
+        Struct project(Struct value, Struct originalRecordValue) {
+            final Struct projected = new Struct(schema);
+            for (int i = 0; i < valueFields.length; i++) {
+                // The raw value of the field is needed, as a default value must not replace a null value;
+                // without a default value the lookup by field is equivalent and avoids resolving the field by name
+                final Object fieldValue = valueFieldHasDefault[i] ? value.getWithoutDefault(valueFields[i].name()) : value.get(valueFields[i]);
+                projected.put(projectedValueFields[i], fieldValue);
+            }
+            for (int i = 0; i < additionalFields.length; i++) {
+                projected.put(projectedAdditionalFields[i], additionalFields[i].getValue(originalRecordValue));
+            }
+            return projected;
+        }
     }
 }
@@ -7,6 +7,9 @@
 
 import java.math.BigDecimal;
 import java.nio.ByteBuffer;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
 
@@ -35,6 +38,52 @@ public static long getApproximateRecordSize(SourceRecord changeEvent) {
                 + changeEvent.topic().getBytes().length;
     }
 
+    /**
+     * Estimates the heap size of a row of column values as read from a JDBC result set.
+     * Large objects are sized by their length, as their values are read when the row is converted.
+     *
+     * @param row the column values; may be null
+     * @return the approximate size of the row in bytes
+     */
+    public static long getApproximateRowSize(Object[] row) {
+        if (row == null) {
+            return 0L;
+        }
+        long size = EMPTY_ARRAY_SIZE;
+        for (Object value : row) {
+            size += REFERENCE_SIZE;
+            if (value instanceof String) {
+                size += EMPTY_STRING_SIZE + ((String) value).length();
+            }
+            else if (value instanceof byte[]) {
+                size += EMPTY_BYTES_SIZE + ((byte[]) value).length;
+            }
+            else if (value instanceof ByteBuffer) {
+                size += EMPTY_BYTES_SIZE + ((ByteBuffer) value).remaining();
+            }
+            else if (value instanceof Clob) {
+                size += EMPTY_STRING_SIZE + getLobLength(value);
+            }
+            else if (value instanceof Blob) {
+                size += EMPTY_BYTES_SIZE + getLobLength(value);
+            }
+            else if (value != null) {
+                size += EMPTY_PRIMITIVE;
+            }
+        }
+        return size;
+    }
+
+    private static long getLobLength(Object lob) {
+        try {
+            return lob instanceof Clob ? ((Clob) lob).length() : ((Blob) lob).length();
+        }
+        catch (SQLException e) {
+            // The large object is no longer accessible, so its value cannot be read either
+            return 0L;
+        }
+    }
+
     private static long getStructSize(Struct struct) {
         if (struct == null) {
             return 0;
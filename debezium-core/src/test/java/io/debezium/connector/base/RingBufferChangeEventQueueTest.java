@@ -0,0 +1,209 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import io.debezium.pipeline.Sizeable;
+import io.debezium.util.LoggingContext;
+
+public class RingBufferChangeEventQueueTest {
+
+    @Test
+    public void shouldBeSelectedByBuilder() {
+        assertThat(queue(16, 4, 0)).isInstanceOf(RingBufferChangeEventQueue.class);
+        assertThat(new ChangeEventQueue.Builder<TestEvent>().maxQueueSize(16).maxBatchSize(4).build()).isInstanceOf(LockingChangeEventQueue.class);
+    }
+
+    @Test
+    public void shouldPollRecordsInOrderInBatches() throws InterruptedException {
+        final ChangeEventQueue<TestEvent> queue = queue(16, 4, 0);
+        for (int i = 0; i < 10; i++) {
+            queue.enqueue(new TestEvent(i, 1));
+        }
+        assertThat(queue.remainingCapacity()).isEqualTo(6);
+
+        final List<TestEvent> records = new ArrayList<>();
+        while (records.size() < 10) {
+            final List<TestEvent> batch = queue.poll();
+            assertThat(batch.size()).isLessThanOrEqualTo(4);
+            records.addAll(batch);
+        }
+        for (int i = 0; i < records.size(); i++) {
+            assertThat(records.get(i).id).isEqualTo(i);
+        }
+        assertThat(queue.remainingCapacity()).isEqualTo(16);
+        assertThat(queue.totalCapacity()).isEqualTo(16);
+    }
+
+    @Test
+    public void shouldApplyBackPressureBySizeInBytes() throws InterruptedException {
+        final ChangeEventQueue<TestEvent> queue = queue(1024, 4, 100);
+        for (int i = 0; i < 4; i++) {
+            queue.enqueue(new TestEvent(i, 25));
+        }
+        assertThat(queue.currentQueueSizeInBytes()).isEqualTo(100);
+
+        final Thread producer = new Thread(() -> {
+            try {
+                queue.enqueue(new TestEvent(4, 25));
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        producer.join(200);
+        assertThat(producer.isAlive()).isTrue();
+
+        assertThat(queue.poll()).hasSize(4);
+        producer.join(TimeUnit.SECONDS.toMillis(5));
+        assertThat(producer.isAlive()).isFalse();
+        assertThat(queue.currentQueueSizeInBytes()).isEqualTo(25);
+        final List<TestEvent> events = queue.poll();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).id).isEqualTo(4);
+        assertThat(queue.currentQueueSizeInBytes()).isZero();
+    }
+
+    @Test
+    public void shouldCountSizeAddedToPolledBatchUntilNextPoll() throws InterruptedException {
+        final ChangeEventQueue<TestEvent> lockingQueue = new ChangeEventQueue.Builder<TestEvent>()
+                .maxQueueSize(1024)
+                .maxBatchSize(4)
+                .maxQueueSizeInBytes(100)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
+                .pollInterval(Duration.ofMillis(100))
+                .build();
+        for (ChangeEventQueue<TestEvent> queue : List.of(queue(1024, 4, 100), lockingQueue)) {
+            queue.enqueue(new TestEvent(0, 25));
+            assertThat(queue.poll()).hasSize(1);
+
+            // e.g. values re-selected by a post processor after the batch was polled
+            queue.addToPolledBatchSizeInBytes(100);
+            assertThat(queue.currentQueueSizeInBytes()).isEqualTo(100);
+
+            final Thread producer = new Thread(() -> {
+                try {
+                    queue.enqueue(new TestEvent(1, 25));
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            producer.start();
+            producer.join(200);
+            assertThat(producer.isAlive()).isTrue();
+
+            final List<TestEvent> events = new ArrayList<>(queue.poll());
+            producer.join(TimeUnit.SECONDS.toMillis(5));
+            assertThat(producer.isAlive()).isFalse();
+            events.addAll(queue.poll());
+            assertThat(events).extracting(event -> event.id).containsExactly(1L);
+            assertThat(queue.currentQueueSizeInBytes()).isZero();
+        }
+    }
+
+    @Test
+    public void shouldQueueAndPollMessagesFromMultipleWriters() throws InterruptedException {
+        final int noOfWriters = 8;
+        final int noOfEventsPerWriter = 250_000;
+        final long totalNoOfEvents = (long) noOfWriters * noOfEventsPerWriter;
+        final ChangeEventQueue<TestEvent> queue = queue(8192 * 2, 8192, 0);
+        final AtomicLong recordsRead = new AtomicLong();
+        final long[] lastIdPerWriter = new long[noOfWriters];
+
+        final Thread[] writers = new Thread[noOfWriters];
+        for (int w = 0; w < noOfWriters; w++) {
+            final int writer = w;
+            writers[w] = new Thread(() -> {
+                for (int i = 0; i < noOfEventsPerWriter; i++) {
+                    try {
+                        queue.enqueue(new TestEvent((long) writer * noOfEventsPerWriter + i, 1));
+                    }
+                    catch (InterruptedException ex) {
+                        // exit thread
+                        return;
+                    }
+                }
+            });
+        }
+        final Thread reader = new Thread(() -> {
+            for (int w = 0; w < noOfWriters; w++) {
+                lastIdPerWriter[w] = (long) w * noOfEventsPerWriter - 1;
+            }
+            while (recordsRead.get() < totalNoOfEvents) {
+                try {
+                    for (TestEvent event : queue.poll()) {
+                        // records of a single writer must be delivered in the order they were enqueued
+                        final int writer = (int) (event.id / noOfEventsPerWriter);
+                        if (event.id != lastIdPerWriter[writer] + 1) {
+                            return;
+                        }
+                        lastIdPerWriter[writer] = event.id;
+                        recordsRead.incrementAndGet();
+                    }
+                }
+                catch (InterruptedException ex) {
+                    // exit thread
+                    return;
+                }
+            }
+        });
+
+        for (Thread writer : writers) {
+            writer.start();
+        }
+        reader.start();
+
+        final long maxWaitTimeout = TimeUnit.SECONDS.toMillis(10);
+        for (Thread writer : writers) {
+            writer.join(maxWaitTimeout);
+        }
+        reader.join(maxWaitTimeout);
+        for (Thread writer : writers) {
+            writer.interrupt();
+        }
+        reader.interrupt();
+
+        assertThat(recordsRead.get()).isEqualTo(totalNoOfEvents);
+    }
+
+    private static ChangeEventQueue<TestEvent> queue(int maxQueueSize, int maxBatchSize, long maxQueueSizeInBytes) {
+        return new ChangeEventQueue.Builder<TestEvent>()
+                .maxQueueSize(maxQueueSize)
+                .maxBatchSize(maxBatchSize)
+                .maxQueueSizeInBytes(maxQueueSizeInBytes)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
+                .pollInterval(Duration.ofMillis(100))
+                .ringBuffer()
+                .build();
+    }
+
+    private static class TestEvent implements Sizeable {
+
+        private final long id;
+        private final long size;
+
+        TestEvent(long id, long size) {
+            this.id = id;
+            this.size = size;
+        }
+
+        @Override
+        public long objectSize() {
+            return size;
+        }
+    }
+}
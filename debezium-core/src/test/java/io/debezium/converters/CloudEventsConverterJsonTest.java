@@ -0,0 +1,236 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.converters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaAndValue;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.errors.DataException;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.debezium.connector.AbstractSourceInfo;
+import io.debezium.converters.recordandmetadata.RecordAndMetadata;
+import io.debezium.converters.spi.CloudEventsMaker;
+import io.debezium.converters.spi.CloudEventsProvider;
+import io.debezium.converters.spi.SerializerType;
+import io.debezium.data.Envelope;
+import io.debezium.pipeline.txmetadata.TransactionMonitor;
+
+/**
+ * Verifies the structured JSON CloudEvents written by {@link CloudEventsConverter}.
+ */
+public class CloudEventsConverterJsonTest {
+
+    private static final String CONNECTOR = "cetest";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final Schema RECORD_SCHEMA = SchemaBuilder.struct()
+            .name("server.db.table.Value")
+            .field("id", Schema.INT32_SCHEMA)
+            .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+            .optional()
+            .build();
+    private static final Schema SOURCE_SCHEMA = SchemaBuilder.struct()
+            .name("source")
+            .field(AbstractSourceInfo.DEBEZIUM_VERSION_KEY, Schema.STRING_SCHEMA)
+            .field(AbstractSourceInfo.DEBEZIUM_CONNECTOR_KEY, Schema.STRING_SCHEMA)
+            .field(AbstractSourceInfo.SERVER_NAME_KEY, Schema.STRING_SCHEMA)
+            .field(AbstractSourceInfo.TIMESTAMP_KEY, Schema.INT64_SCHEMA)
+            .field(AbstractSourceInfo.SNAPSHOT_KEY, Schema.OPTIONAL_BOOLEAN_SCHEMA)
+            .field(AbstractSourceInfo.DATABASE_NAME_KEY, Schema.STRING_SCHEMA)
+            .field("lsn", Schema.OPTIONAL_INT64_SCHEMA)
+            .field("sequence", Schema.OPTIONAL_INT32_SCHEMA)
+            .build();
+    private static final Envelope ENVELOPE = Envelope.defineSchema()
+            .withName("server.db.table.Envelope")
+            .withRecord(RECORD_SCHEMA)
+            .withSource(SOURCE_SCHEMA)
+            .withSchema(TransactionMonitor.TRANSACTION_BLOCK_SCHEMA, Envelope.FieldName.TRANSACTION)
+            .build();
+
+    @Test
+    public void shouldWriteAttributesInSchemaOrderFollowedByData() throws Exception {
+        final CloudEventsConverter converter = converter(false);
+        final Struct value = value(1, null);
+
+        final byte[] bytes = converter.fromConnectData("server.db.table", ENVELOPE.schema(), value);
+        final JsonNode json = MAPPER.readTree(bytes);
+
+        assertThat(fieldNames(json)).containsExactly("id", "source", "specversion", "type", "time", "datacontenttype",
+                "iodebeziumop", "iodebeziumversion", "iodebeziumconnector", "iodebeziumname", "iodebeziumtsms", "iodebeziumsnapshot",
+                "iodebeziumdb", "iodebeziumlsn", "iodebeziumsequence", "iodebeziumtxid", "iodebeziumtxtotalorder", "iodebeziumtxdatacollectionorder", "data");
+        assertThat(json.get("id").asText()).isEqualTo("lsn:1");
+        assertThat(json.get("source").asText()).isEqualTo("/debezium/" + CONNECTOR + "/server");
+        assertThat(json.get("type").asText()).isEqualTo("io.debezium.connector." + CONNECTOR + ".DataChangeEvent");
+        assertThat(json.get("time").asText()).isEqualTo("2024-01-02T03:04:05.678Z");
+        assertThat(json.get("datacontenttype").asText()).isEqualTo("application/json");
+        assertThat(json.get("iodebeziumop").asText()).isEqualTo("c");
+        assertThat(json.get("iodebeziumtsms").isTextual()).isTrue();
+        assertThat(json.get("iodebeziumtsms").asText()).isEqualTo("1704164645678");
+        assertThat(json.get("iodebeziumsnapshot").isBoolean()).isTrue();
+        assertThat(json.get("iodebeziumlsn").asText()).isEqualTo("1");
+        assertThat(json.get("iodebeziumsequence").isInt()).isTrue();
+        assertThat(json.get("iodebeziumtxid").isNull()).isTrue();
+        assertThat(json.get("data").get("after").get("id").asInt()).isEqualTo(1);
+        assertThat(json.get("data").get("after").get("name").asText()).isEqualTo("name1");
+
+        // the event is written compactly, as the JSON converter would
+        assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo(MAPPER.writeValueAsString(json));
+    }
+
+    @Test
+    public void shouldWriteTransactionAttributes() throws Exception {
+        final CloudEventsConverter converter = converter(false);
+        final Struct transaction = new Struct(TransactionMonitor.TRANSACTION_BLOCK_SCHEMA)
+                .put("id", "tx1")
+                .put("total_order", 10L)
+                .put("data_collection_order", 5L);
+
+        final JsonNode json = MAPPER.readTree(converter.fromConnectData("server.db.table", ENVELOPE.schema(), value(2, transaction)));
+
+        assertThat(json.get("iodebeziumtxid").asText()).isEqualTo("tx1");
+        assertThat(json.get("iodebeziumtxtotalorder").asText()).isEqualTo("10");
+        assertThat(json.get("iodebeziumtxdatacollectionorder").asText()).isEqualTo("5");
+    }
+
+    @Test
+    public void shouldWriteLongAttributesWithoutTruncation() throws Exception {
+        final CloudEventsConverter converter = converter(false);
+        final Struct value = value(6, null);
+        value.getStruct(Envelope.FieldName.SOURCE).put("lsn", 5_000_000_000L);
+
+        final JsonNode json = MAPPER.readTree(converter.fromConnectData("server.db.table", ENVELOPE.schema(), value));
+
+        assertThat(json.get("iodebeziumlsn").isTextual()).isTrue();
+        assertThat(json.get("iodebeziumlsn").asText()).isEqualTo("5000000000");
+        assertThat(json.get("iodebeziumsequence").asInt()).isEqualTo(6);
+    }
+
+    @Test
+    public void shouldRejectMissingRequiredAttribute() {
+        final CloudEventsConverter converter = converter(false);
+        final Struct value = value(7, null);
+        // a source block that passes the validation when the event is created, but lacks a required attribute when read
+        final Struct source = new Struct(SOURCE_SCHEMA) {
+            @Override
+            public Object get(Field field) {
+                return field.name().equals(AbstractSourceInfo.DATABASE_NAME_KEY) ? null : super.get(field);
+            }
+        };
+        SOURCE_SCHEMA.fields().forEach(field -> source.put(field, value.getStruct(Envelope.FieldName.SOURCE).get(field)));
+        value.put(Envelope.FieldName.SOURCE, source);
+
+        assertThatThrownBy(() -> converter.fromConnectData("server.db.table", ENVELOPE.schema(), value))
+                .isInstanceOf(DataException.class)
+                .hasMessage("Invalid value: null used for required field: \"iodebeziumdb\", schema type: STRING");
+    }
+
+    @Test
+    public void shouldEmbedDataWithSchemaAndReadItBack() throws Exception {
+        final CloudEventsConverter converter = converter(true);
+        final Struct value = value(3, null);
+
+        final byte[] bytes = converter.fromConnectData("server.db.table", ENVELOPE.schema(), value);
+        final JsonNode json = MAPPER.readTree(bytes);
+
+        assertThat(json.get("data").get("schema").get("type").asText()).isEqualTo("struct");
+        assertThat(json.get("data").get("payload").get("after").get("id").asInt()).isEqualTo(3);
+
+        final SchemaAndValue read = converter.toConnectData("server.db.table", bytes);
+        final Struct data = (Struct) ((Map<?, ?>) read.value()).get(CloudEventsMaker.FieldName.DATA);
+        assertThat(data.getStruct(Envelope.FieldName.AFTER).getInt32("id")).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldProduceSameEventsForRecordsOfSameSchema() throws Exception {
+        final CloudEventsConverter converter = converter(false);
+
+        final JsonNode first = MAPPER.readTree(converter.fromConnectData("server.db.table", ENVELOPE.schema(), value(4, null)));
+        final JsonNode second = MAPPER.readTree(converter.fromConnectData("server.db.table", ENVELOPE.schema(), value(5, null)));
+
+        assertThat(fieldNames(second)).isEqualTo(fieldNames(first));
+        assertThat(first.get("iodebeziumlsn").asText()).isEqualTo("4");
+        assertThat(second.get("iodebeziumlsn").asText()).isEqualTo("5");
+    }
+
+    private static CloudEventsConverter converter(boolean schemasEnable) {
+        final Map<String, Object> config = new HashMap<>();
+        config.put("serializer.type", "json");
+        config.put("data.serializer.type", "json");
+        config.put("json.schemas.enable", String.valueOf(schemasEnable));
+
+        final CloudEventsConverter converter = new CloudEventsConverter();
+        converter.configure(config, false);
+        return converter;
+    }
+
+    private static Struct value(int id, Struct transaction) {
+        final Struct source = new Struct(SOURCE_SCHEMA)
+                .put(AbstractSourceInfo.DEBEZIUM_VERSION_KEY, "1.0")
+                .put(AbstractSourceInfo.DEBEZIUM_CONNECTOR_KEY, CONNECTOR)
+                .put(AbstractSourceInfo.SERVER_NAME_KEY, "server")
+                .put(AbstractSourceInfo.TIMESTAMP_KEY, 1704164645678L)
+                .put(AbstractSourceInfo.SNAPSHOT_KEY, false)
+                .put(AbstractSourceInfo.DATABASE_NAME_KEY, "db")
+                .put("lsn", (long) id)
+                .put("sequence", id);
+        final Struct after = new Struct(RECORD_SCHEMA)
+                .put("id", id)
+                .put("name", "name" + id);
+        final Struct value = ENVELOPE.create(after, source, Instant.now());
+        if (transaction != null) {
+            value.put(Envelope.FieldName.TRANSACTION, transaction);
+        }
+        return value;
+    }
+
+    private static List<String> fieldNames(JsonNode json) {
+        final List<String> names = new ArrayList<>();
+        json.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+
+    public static class TestCloudEventsProvider implements CloudEventsProvider {
+
+        @Override
+        public String getName() {
+            return CONNECTOR;
+        }
+
+        @Override
+        public CloudEventsMaker createMaker(RecordAndMetadata recordAndMetadata, SerializerType contentType, String dataSchemaUriBase,
+                                            String cloudEventsSchemaName) {
+            return new CloudEventsMaker(recordAndMetadata, contentType, dataSchemaUriBase, cloudEventsSchemaName,
+                    Envelope.FieldName.BEFORE, Envelope.FieldName.AFTER) {
+                @Override
+                public String ceId() {
+                    return "lsn:" + sourceField("lsn");
+                }
+
+                @Override
+                public Set<String> connectorSpecificSourceFields() {
+                    return Set.of("lsn", "sequence");
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.converters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Date;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaAndValue;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Time;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.errors.DataException;
+import org.apache.kafka.connect.json.JsonConverter;
+import org.junit.Test;
+
+import io.debezium.util.Collect;
+
+public class StreamingJsonConverterTest {
+
+    private static final Schema ADDRESS_SCHEMA = SchemaBuilder.struct()
+            .name("address")
+            .field("street", Schema.STRING_SCHEMA)
+            .field("zip", Schema.OPTIONAL_INT32_SCHEMA)
+            .optional()
+            .build();
+
+    private static final Schema VALUE_SCHEMA = SchemaBuilder.struct()
+            .name("server.db.table.Value")
+            .version(2)
+            .doc("a \"quoted\" doc")
+            .parameter("key", "value")
+            .field("id", Schema.INT64_SCHEMA)
+            .field("tiny", Schema.INT8_SCHEMA)
+            .field("small", Schema.INT16_SCHEMA)
+            .field("int", Schema.OPTIONAL_INT32_SCHEMA)
+            .field("float", Schema.FLOAT32_SCHEMA)
+            .field("double", Schema.FLOAT64_SCHEMA)
+            .field("flag", Schema.BOOLEAN_SCHEMA)
+            .field("näme \"x\"", Schema.OPTIONAL_STRING_SCHEMA)
+            .field("bytes", Schema.OPTIONAL_BYTES_SCHEMA)
+            .field("buffer", Schema.OPTIONAL_BYTES_SCHEMA)
+            .field("amount", Decimal.builder(2).optional().build())
+            .field("date", Date.builder().optional().build())
+            .field("time", Time.builder().optional().build())
+            .field("ts", Timestamp.builder().optional().build())
+            .field("defaulted", SchemaBuilder.string().optional().defaultValue("default").build())
+            .field("tags", SchemaBuilder.array(Schema.STRING_SCHEMA).optional().build())
+            .field("attributes", SchemaBuilder.map(Schema.STRING_SCHEMA, Schema.OPTIONAL_INT32_SCHEMA).optional().build())
+            .field("counts", SchemaBuilder.map(Schema.INT32_SCHEMA, Schema.STRING_SCHEMA).optional().build())
+            .field("address", ADDRESS_SCHEMA)
+            .build();
+
+    @Test
+    public void shouldWriteSameJsonAsJsonConverter() {
+        for (Map<String, String> config : Arrays.asList(
+                Collect.hashMapOf("schemas.enable", "true"),
+                Collect.hashMapOf("schemas.enable", "false"),
+                Collect.hashMapOf("schemas.enable", "true", "decimal.format", "NUMERIC"),
+                Collect.hashMapOf("schemas.enable", "false", "replace.null.with.default", "false"))) {
+            assertSameJson(config, VALUE_SCHEMA, fullValue());
+            assertSameJson(config, VALUE_SCHEMA, sparseValue());
+        }
+    }
+
+    @Test
+    public void shouldWriteSameJsonAsJsonConverterForSchemalessValues() {
+        final Map<Object, Object> map = new LinkedHashMap<>();
+        map.put("a", 1);
+        map.put("b", Arrays.asList(1.5d, "x", null, true));
+        final Map<Object, Object> nonStringKeys = new LinkedHashMap<>();
+        nonStringKeys.put(1, "one");
+        nonStringKeys.put(2L, null);
+
+        for (Map<String, String> config : Arrays.asList(Collect.hashMapOf("schemas.enable", "true"), Collect.hashMapOf("schemas.enable", "false"))) {
+            assertSameJson(config, null, map);
+            assertSameJson(config, null, nonStringKeys);
+            assertSameJson(config, null, "text");
+            assertSameJson(config, null, 12L);
+            assertSameJson(config, null, new byte[]{ 1, 2, 3 });
+        }
+    }
+
+    @Test
+    public void shouldWriteSameJsonAsJsonConverterForPrimitiveSchemas() {
+        for (Map<String, String> config : Arrays.asList(Collect.hashMapOf("schemas.enable", "true"), Collect.hashMapOf("schemas.enable", "false"))) {
+            assertSameJson(config, Schema.STRING_SCHEMA, "key");
+            assertSameJson(config, Schema.OPTIONAL_INT64_SCHEMA, null);
+            assertSameJson(config, Decimal.schema(3), new BigDecimal("-12.345"));
+        }
+    }
+
+    @Test
+    public void shouldReturnNullForTombstones() {
+        final StreamingJsonConverter converter = new StreamingJsonConverter();
+        converter.configure(Collect.hashMapOf("schemas.enable", "true"), false);
+
+        assertThat(converter.fromConnectData("topic", null, null)).isNull();
+    }
+
+    @Test
+    public void shouldReadBackWrittenValue() {
+        final StreamingJsonConverter converter = new StreamingJsonConverter();
+        converter.configure(Collect.hashMapOf("schemas.enable", "true"), false);
+
+        final Struct value = fullValue();
+        final SchemaAndValue read = converter.toConnectData("topic", converter.fromConnectData("topic", VALUE_SCHEMA, value));
+        final Struct readValue = (Struct) read.value();
+
+        assertThat(read.schema()).isEqualTo(VALUE_SCHEMA);
+        for (String field : Arrays.asList("id", "näme \"x\"", "bytes", "amount", "ts", "tags", "attributes", "counts", "address")) {
+            assertThat(readValue.get(field)).as(field).isEqualTo(value.get(field));
+        }
+    }
+
+    @Test
+    public void shouldRejectInvalidValues() {
+        final StreamingJsonConverter converter = new StreamingJsonConverter();
+        converter.configure(Collect.hashMapOf("schemas.enable", "false"), false);
+
+        assertThatThrownBy(() -> converter.fromConnectData("topic", Schema.INT64_SCHEMA, 1))
+                .isInstanceOf(DataException.class)
+                .hasMessage("Invalid type for INT64: class java.lang.Integer");
+        assertThatThrownBy(() -> converter.fromConnectData("topic", Schema.STRING_SCHEMA, null))
+                .isInstanceOf(DataException.class)
+                .hasMessage("Conversion error: null value for field that is required and has no default value");
+        assertThatThrownBy(() -> converter.fromConnectData("topic", ADDRESS_SCHEMA, fullValue()))
+                .isInstanceOf(DataException.class)
+                .hasMessage("Mismatching schema.");
+
+        // the buffer must not keep the output of the failed conversions
+        assertThat(new String(converter.fromConnectData("topic", Schema.STRING_SCHEMA, "ok"), StandardCharsets.UTF_8)).isEqualTo("\"ok\"");
+    }
+
+    private static void assertSameJson(Map<String, String> config, Schema schema, Object value) {
+        final JsonConverter expected = new JsonConverter();
+        expected.configure(config, false);
+        final StreamingJsonConverter actual = new StreamingJsonConverter();
+        actual.configure(config, false);
+
+        final byte[] expectedBytes = expected.fromConnectData("topic", schema, value);
+        // twice, so both the newly built and the cached plan are used
+        for (int i = 0; i < 2; i++) {
+            assertThat(new String(actual.fromConnectData("topic", schema, value), StandardCharsets.UTF_8))
+                    .as("conversion of %s with %s", value, config)
+                    .isEqualTo(new String(expectedBytes, StandardCharsets.UTF_8));
+        }
+    }
+
+    private static Struct fullValue() {
+        final Map<String, Integer> attributes = new LinkedHashMap<>();
+        attributes.put("first", 1);
+        attributes.put("second", null);
+        final Map<Integer, String> counts = new HashMap<>();
+        counts.put(1, "one");
+        final List<String> tags = Arrays.asList("a", "b\n\"c\"");
+
+        return new Struct(VALUE_SCHEMA)
+                .put("id", Long.MAX_VALUE)
+                .put("tiny", (byte) -1)
+                .put("small", (short) 300)
+                .put("int", 42)
+                .put("float", 1.25f)
+                .put("double", Double.NaN)
+                .put("flag", true)
+                .put("näme \"x\"", "välue \u0001")
+                .put("bytes", new byte[]{ 0, 1, 2, (byte) 255 })
+                .put("buffer", ByteBuffer.wrap(new byte[]{ 7, 8 }))
+                .put("amount", new BigDecimal("1234.50"))
+                .put("date", new java.util.Date(86_400_000L * 365))
+                .put("time", new java.util.Date(3_723_000L))
+                .put("ts", new java.util.Date(1_700_000_000_123L))
+                .put("defaulted", null)
+                .put("tags", tags)
+                .put("attributes", attributes)
+                .put("counts", counts)
+                .put("address", new Struct(ADDRESS_SCHEMA).put("street", "Main").put("zip", 12345));
+    }
+
+    private static Struct sparseValue() {
+        return new Struct(VALUE_SCHEMA)
+                .put("id", 1L)
+                .put("tiny", (byte) 0)
+                .put("small", (short) 0)
+                .put("float", 0f)
+                .put("double", -0.5d)
+                .put("flag", false);
+    }
+}
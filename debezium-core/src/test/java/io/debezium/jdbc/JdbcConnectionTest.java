@@ -5,6 +5,7 @@
  */
 package io.debezium.jdbc;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -18,6 +19,7 @@
 import java.sql.DriverManager;
 import java.sql.NClob;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLClientInfoException;
 import java.sql.SQLException;
 import java.sql.SQLWarning;
@@ -25,16 +27,22 @@
 import java.sql.Savepoint;
 import java.sql.Statement;
 import java.sql.Struct;
+import java.sql.Types;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
 import io.debezium.jdbc.JdbcConnection.ConnectionFactory;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
 
 public class JdbcConnectionTest {
 
@@ -88,6 +96,58 @@ public void testPatternBasedFactorySpecialCharacters() throws SQLException {
         }
     }
 
+    @Test
+    public void shouldReselectRowsBySingleKeyWithInList() throws SQLException {
+        final Table table = Table.editor()
+                .tableId(new TableId(null, "s", "t"))
+                .addColumn(Column.editor().name("id").type("INT").jdbcType(Types.INTEGER).create())
+                .addColumn(Column.editor().name("text").type("TEXT").jdbcType(Types.VARCHAR).create())
+                .setPrimaryKeyNames("id")
+                .create();
+        final Connection connection = Mockito.mock(Connection.class);
+        final PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+        final ResultSet resultSet = Mockito.mock(ResultSet.class);
+        Mockito.when(connection.prepareStatement(anyString())).thenReturn(statement);
+        Mockito.when(statement.executeQuery()).thenReturn(resultSet);
+        Mockito.when(resultSet.next()).thenReturn(true, true, false);
+        Mockito.when(resultSet.getObject("id")).thenReturn(2, 1);
+        Mockito.when(resultSet.getObject("text")).thenReturn("text-2", "text-1");
+
+        final JdbcConnection conn = new JdbcConnection(JdbcConfiguration.empty(), config -> connection, "\"", "\"");
+        final List<Map<String, Object>> rows = conn.reselectRows(table, List.of("text"), List.of("id"), List.of(List.of(1), List.of(2)), null);
+
+        Mockito.verify(connection).prepareStatement("SELECT \"id\",\"text\" FROM \"s\".\"t\" WHERE id IN (?,?)");
+        Mockito.verify(statement).setObject(1, 1);
+        Mockito.verify(statement).setObject(2, 2);
+        assertThat(rows).containsExactly(Map.of("id", 2, "text", "text-2"), Map.of("id", 1, "text", "text-1"));
+    }
+
+    @Test
+    public void shouldReselectRowsByCompositeKeyWithDisjunction() throws SQLException {
+        final Table table = Table.editor()
+                .tableId(new TableId(null, "s", "t"))
+                .addColumn(Column.editor().name("a").type("INT").jdbcType(Types.INTEGER).create())
+                .addColumn(Column.editor().name("b").type("INT").jdbcType(Types.INTEGER).create())
+                .addColumn(Column.editor().name("text").type("TEXT").jdbcType(Types.VARCHAR).create())
+                .setPrimaryKeyNames("a", "b")
+                .create();
+        final Connection connection = Mockito.mock(Connection.class);
+        final PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+        Mockito.when(connection.prepareStatement(anyString())).thenReturn(statement);
+        Mockito.when(statement.executeQuery()).thenReturn(Mockito.mock(ResultSet.class));
+
+        final JdbcConnection conn = new JdbcConnection(JdbcConfiguration.empty(), config -> connection, "\"", "\"");
+        final List<Map<String, Object>> rows = conn.reselectRows(table, List.of("text"), List.of("a", "b"), List.of(List.of(1, 10), List.of(2, 20)), null);
+
+        Mockito.verify(connection).prepareStatement("SELECT \"a\",\"b\",\"text\" FROM \"s\".\"t\" WHERE (a=? AND b=?) OR (a=? AND b=?)");
+        final InOrder inOrder = Mockito.inOrder(statement);
+        inOrder.verify(statement).setObject(1, 1);
+        inOrder.verify(statement).setObject(2, 10);
+        inOrder.verify(statement).setObject(3, 2);
+        inOrder.verify(statement).setObject(4, 20);
+        assertThat(rows).isEmpty();
+    }
+
     private static class RogueConnection extends NormalConnection {
         @Override
         public void close() throws SQLException {
@@ -0,0 +1,79 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.snapshot.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.Test;
+
+import io.debezium.relational.TableId;
+
+public class AdaptiveChunkSizeControllerTest {
+
+    private static final TableId NARROW_TABLE = TableId.parse("db.narrow");
+    private static final TableId WIDE_TABLE = TableId.parse("db.wide");
+
+    private final AdaptiveChunkSizeController controller = new AdaptiveChunkSizeController(1024, 16, 65_536, 1024 * 1024,
+            Duration.ofSeconds(1));
+
+    @Test
+    public void shouldStartWithConfiguredChunkSize() {
+        assertThat(controller.getChunkSize(NARROW_TABLE)).isEqualTo(1024);
+    }
+
+    @Test
+    public void shouldGrowChunksOfNarrowFastTable() {
+        // 100 bytes per row and 10 ms per chunk allows far larger windows
+        for (int i = 0; i < 10; i++) {
+            final int chunkSize = controller.getChunkSize(NARROW_TABLE);
+            controller.chunkRead(NARROW_TABLE, chunkSize, chunkSize * 100L, Duration.ofMillis(10));
+        }
+        // Bounded by the target window size of 1 MiB at 100 bytes per row
+        assertThat(controller.getChunkSize(NARROW_TABLE)).isEqualTo(10_485);
+    }
+
+    @Test
+    public void shouldShrinkChunksOfWideTable() {
+        // 64 KiB per row only fits 16 rows into the target window size
+        for (int i = 0; i < 10; i++) {
+            final int chunkSize = controller.getChunkSize(WIDE_TABLE);
+            controller.chunkRead(WIDE_TABLE, chunkSize, chunkSize * 65_536L, Duration.ofMillis(10));
+        }
+        assertThat(controller.getChunkSize(WIDE_TABLE)).isEqualTo(16);
+    }
+
+    @Test
+    public void shouldChangeChunkSizeByAtMostFactorOfTwo() {
+        controller.chunkRead(WIDE_TABLE, 1024, 1024 * 65_536L, Duration.ofMillis(10));
+        assertThat(controller.getChunkSize(WIDE_TABLE)).isEqualTo(512);
+
+        controller.chunkRead(NARROW_TABLE, 1024, 1024, Duration.ofMillis(1));
+        assertThat(controller.getChunkSize(NARROW_TABLE)).isEqualTo(2048);
+    }
+
+    @Test
+    public void shouldShrinkChunksUnderBackPressure() {
+        controller.chunkRead(NARROW_TABLE, 1024, 1024 * 100L, Duration.ofMillis(100));
+        final int chunkSize = controller.getChunkSize(NARROW_TABLE);
+
+        // Dispatching the window takes far longer than the target duration because the queue is full
+        controller.windowDispatched(NARROW_TABLE, chunkSize, Duration.ofSeconds(10));
+        assertThat(controller.getChunkSize(NARROW_TABLE)).isEqualTo(chunkSize / 2);
+    }
+
+    @Test
+    public void shouldKeepChunkSizesPerTable() {
+        controller.chunkRead(WIDE_TABLE, 1024, 1024 * 65_536L, Duration.ofMillis(10));
+
+        assertThat(controller.getChunkSize(WIDE_TABLE)).isEqualTo(512);
+        assertThat(controller.getChunkSize(NARROW_TABLE)).isEqualTo(1024);
+
+        controller.tableCompleted(WIDE_TABLE);
+        assertThat(controller.getChunkSize(WIDE_TABLE)).isEqualTo(1024);
+    }
+}
@@ -478,4 +478,25 @@ private Table createTwoPrimaryKeysTable() {
                 .setPrimaryKeyNames("pk1", "pk2").create();
         return table;
     }
+
+    @Test
+    public void testBuildKeyRangeCondition() {
+        final ChunkQueryBuilder<TableId> chunkQueryBuilder = new DefaultChunkQueryBuilder<>(
+                config(), new JdbcConnection(config().getJdbcConfig(), config -> null, "\"", "\""));
+        final Column pk1 = Column.editor().name("pk1").optional(false).create();
+        final Column pk2 = Column.editor().name("pk2").optional(false).create();
+        final Column val1 = Column.editor().name("val1").create();
+        final Table table = Table.editor().tableId(new TableId(null, "s1", "table1"))
+                .addColumn(pk1)
+                .addColumn(pk2)
+                .addColumn(val1)
+                .setPrimaryKeyNames("pk1", "pk2").create();
+
+        assertThat(chunkQueryBuilder.buildKeyRangeCondition(table, null, new Object[]{ 1, 5 })).isEqualTo(
+                "NOT ((\"pk1\" > ?) OR (\"pk1\" = ? AND \"pk2\" > ?))");
+        assertThat(chunkQueryBuilder.buildKeyRangeCondition(table, new Object[]{ 1, 5 }, new Object[]{ 10, 50 })).isEqualTo(
+                "((\"pk1\" > ?) OR (\"pk1\" = ? AND \"pk2\" > ?)) AND NOT ((\"pk1\" > ?) OR (\"pk1\" = ? AND \"pk2\" > ?))");
+        assertThat(chunkQueryBuilder.buildKeyRangeCondition(table, new Object[]{ 10, 50 }, null)).isEqualTo(
+                "((\"pk1\" > ?) OR (\"pk1\" = ? AND \"pk2\" > ?))");
+    }
 }
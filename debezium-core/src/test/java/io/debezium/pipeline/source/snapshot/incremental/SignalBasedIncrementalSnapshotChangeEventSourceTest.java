@@ -0,0 +1,274 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.snapshot.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.config.CommonConnectorConfig.WatermarkStrategy;
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.notification.NotificationService;
+import io.debezium.pipeline.source.spi.DataChangeEventListener;
+import io.debezium.pipeline.source.spi.SnapshotProgressListener;
+import io.debezium.pipeline.spi.ChangeRecordEmitter;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.pipeline.spi.Partition;
+import io.debezium.relational.Column;
+import io.debezium.relational.RelationalDatabaseConnectorConfig;
+import io.debezium.relational.RelationalDatabaseSchema;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.TableSchema;
+import io.debezium.util.Clock;
+
+/**
+ * Unit tests for the concurrent reading of chunks in {@link SignalBasedIncrementalSnapshotChangeEventSource}.
+ */
+public class SignalBasedIncrementalSnapshotChangeEventSourceTest {
+
+    private static final TableId T1 = TableId.parse("db.t1");
+    private static final TableId T2 = TableId.parse("db.t2");
+    private static final TableId T3 = TableId.parse("db.t3");
+    private static final Schema KEY_SCHEMA = SchemaBuilder.struct().field("id", Schema.INT32_SCHEMA).build();
+
+    private final Partition partition = mock(Partition.class);
+    private final RelationalDatabaseSchema databaseSchema = mock(RelationalDatabaseSchema.class);
+    private final Map<TableId, Queue<List<Object[]>>> chunks = new ConcurrentHashMap<>();
+    private final Map<TableId, Integer> maximumKeys = new ConcurrentHashMap<>();
+    private final List<String> chunkQueries = new CopyOnWriteArrayList<>();
+    private final List<String> maximumKeyQueries = new CopyOnWriteArrayList<>();
+    private final List<String> emittedRows = new CopyOnWriteArrayList<>();
+    private final AtomicInteger openedConnections = new AtomicInteger();
+
+    @Before
+    public void beforeEach() {
+        for (TableId tableId : List.of(T1, T2, T3)) {
+            final Table table = Table.editor()
+                    .tableId(tableId)
+                    .addColumn(Column.editor().name("id").type("INT").jdbcType(Types.INTEGER).position(1).optional(false).create())
+                    .addColumn(Column.editor().name("name").type("VARCHAR").jdbcType(Types.VARCHAR).position(2).optional(true).create())
+                    .setPrimaryKeyNames("id")
+                    .create();
+            final TableSchema tableSchema = mock(TableSchema.class);
+            when(tableSchema.keyFromColumnData(any())).thenAnswer(invocation -> new Struct(KEY_SCHEMA).put("id", invocation.<Object[]> getArgument(0)[0]));
+            when(databaseSchema.tableFor(tableId)).thenReturn(table);
+            when(databaseSchema.schemaFor(tableId)).thenReturn(tableSchema);
+        }
+    }
+
+    @Test
+    public void shouldDeduplicateWindowOfEachTableAgainstItsStreamedEvents() throws Exception {
+        chunk(T1, 1, 2, 3);
+        chunk(T1);
+        maximumKeys.put(T1, 3);
+        chunk(T2, 1, 2);
+        chunk(T2);
+        maximumKeys.put(T2, 2);
+
+        final SignalBasedIncrementalSnapshotContext<TableId> context = createContext("db.t1", "db.t2");
+        final OffsetContext offsetContext = offsetContext(context);
+        final SignalBasedIncrementalSnapshotChangeEventSource<Partition, TableId> source = createSource();
+
+        source.init(partition, offsetContext);
+        assertThat(chunkQueries).containsExactlyInAnyOrder("db.t1 after null", "db.t2 after null");
+        assertThat(emittedRows).isEmpty();
+
+        // Streamed events between the watermarks remove the rows of their own table only
+        context.openWindow(context.currentChunkId() + "-open");
+        source.processMessage(partition, T1, key(2), offsetContext);
+        source.processMessage(partition, T2, key(1), offsetContext);
+        source.processMessage(partition, T3, key(3), offsetContext);
+        source.closeWindow(partition, context.currentChunkId() + "-close", offsetContext);
+
+        assertThat(emittedRows).containsExactly("db.t1:1", "db.t1:3", "db.t2:2");
+        assertThat(chunkQueries).hasSize(4);
+        assertThat(chunkQueries.subList(2, 4)).containsExactlyInAnyOrder("db.t1 after [3]", "db.t2 after [2]");
+        assertThat(context.snapshotRunning()).isFalse();
+        assertThat(openedConnections).hasValue(1);
+    }
+
+    @Test
+    public void shouldResumeEachTableFromItsStoredPosition() throws Exception {
+        chunk(T1, 1, 2);
+        chunk(T1, 3, 4);
+        maximumKeys.put(T1, 5);
+        chunk(T2, 1);
+        chunk(T2, 2);
+        maximumKeys.put(T2, 5);
+
+        final SignalBasedIncrementalSnapshotContext<TableId> context = createContext("db.t1", "db.t2", "db.t3");
+        final OffsetContext offsetContext = offsetContext(context);
+        final SignalBasedIncrementalSnapshotChangeEventSource<Partition, TableId> source = createSource();
+        source.init(partition, offsetContext);
+        assertThat(maximumKeyQueries).containsExactlyInAnyOrder("db.t1", "db.t2");
+
+        context.openWindow(context.currentChunkId() + "-open");
+        source.closeWindow(partition, context.currentChunkId() + "-close", offsetContext);
+        assertThat(emittedRows).containsExactly("db.t1:1", "db.t1:2", "db.t2:1");
+
+        // The buffered second chunks are lost on restart, each table is read again after its last emitted row
+        final Map<String, Object> offsets = context.store(new HashMap<>());
+        assertThat(offsets).containsKey(AbstractIncrementalSnapshotContext.CONCURRENT_DATA_COLLECTIONS);
+
+        chunkQueries.clear();
+        maximumKeyQueries.clear();
+        chunk(T1, 3, 4);
+        chunk(T2, 2);
+        final SignalBasedIncrementalSnapshotContext<TableId> restored = SignalBasedIncrementalSnapshotContext.load(offsets, false);
+        createSource().init(partition, offsetContext(restored));
+
+        assertThat(chunkQueries).containsExactlyInAnyOrder("db.t1 after [2]", "db.t2 after [1]");
+        assertThat(maximumKeyQueries).isEmpty();
+        assertThat(ids(restored.concurrentDataCollections(2))).containsExactly("db.t1", "db.t2");
+    }
+
+    private SignalBasedIncrementalSnapshotChangeEventSource<Partition, TableId> createSource() {
+        final RelationalDatabaseConnectorConfig config = mock(RelationalDatabaseConnectorConfig.class);
+        when(config.getIncrementalSnapshotMaxThreads()).thenReturn(2);
+        when(config.getIncrementalSnapshotChunkSize()).thenReturn(1024);
+        when(config.getLogicalName()).thenReturn("server");
+        when(config.getSignalingDataCollectionId()).thenReturn("db.signals");
+        when(config.getIncrementalSnapshotWatermarkingStrategy()).thenReturn(WatermarkStrategy.INSERT_INSERT);
+
+        @SuppressWarnings("unchecked")
+        final EventDispatcher<Partition, TableId> dispatcher = mock(EventDispatcher.class);
+        @SuppressWarnings("unchecked")
+        final NotificationService<Partition, OffsetContext> notificationService = mock(NotificationService.class, RETURNS_DEEP_STUBS);
+        @SuppressWarnings("unchecked")
+        final SnapshotProgressListener<Partition> progressListener = mock(SnapshotProgressListener.class);
+        @SuppressWarnings("unchecked")
+        final DataChangeEventListener<Partition> dataChangeEventListener = mock(DataChangeEventListener.class);
+
+        return new SignalBasedIncrementalSnapshotChangeEventSource<>(config, connection(), dispatcher, databaseSchema, Clock.system(),
+                progressListener, dataChangeEventListener, notificationService, () -> {
+                    openedConnections.incrementAndGet();
+                    return connection();
+                }) {
+            @Override
+            protected ChangeRecordEmitter<Partition> getChangeRecordEmitter(Partition partition, TableId dataCollectionId, OffsetContext offsetContext,
+                                                                            Object[] row) {
+                emittedRows.add(dataCollectionId + ":" + row[0]);
+                return super.getChangeRecordEmitter(partition, dataCollectionId, offsetContext, row);
+            }
+        };
+    }
+
+    /**
+     * A connection reading the chunks and maximum keys of the tables from the test's fixtures.
+     */
+    @SuppressWarnings("unchecked")
+    private JdbcConnection connection() {
+        final JdbcConnection connection = mock(JdbcConnection.class);
+        final ChunkQueryBuilder<TableId> chunkQueryBuilder = mock(ChunkQueryBuilder.class);
+        try {
+            when(connection.chunkQueryBuilder(any())).thenReturn((ChunkQueryBuilder) chunkQueryBuilder);
+            when(connection.rowToArray(any(), any(), any())).thenAnswer(invocation -> {
+                final ResultSet rs = invocation.getArgument(1);
+                return new Object[]{ rs.getObject(1), rs.getObject(2) };
+            });
+            when(connection.queryAndMap(anyString(), any())).thenAnswer(invocation -> {
+                final TableId tableId = TableId.parse(invocation.getArgument(0));
+                maximumKeyQueries.add(tableId.toString());
+                final Integer maximumKey = maximumKeys.get(tableId);
+                return invocation.<JdbcConnection.ResultSetMapper<Object>> getArgument(1)
+                        .apply(resultSet(maximumKey == null ? List.of() : List.<Object[]> of(row(maximumKey))));
+            });
+
+            when(chunkQueryBuilder.getQueryColumns(any(), any())).thenAnswer(invocation -> invocation.<Table> getArgument(1).primaryKeyColumns());
+            when(chunkQueryBuilder.buildMaxPrimaryKeyQuery(any(), any(), any())).thenAnswer(invocation -> invocation.<Table> getArgument(1).id().toString());
+            when(chunkQueryBuilder.buildChunkQuery(any(), any(), anyInt(), any())).thenAnswer(invocation -> {
+                final IncrementalSnapshotContext<TableId> context = invocation.getArgument(0);
+                final String query = invocation.<Table> getArgument(1).id() + " after " + Arrays.toString(context.chunkEndPosititon());
+                chunkQueries.add(query);
+                return query;
+            });
+            when(chunkQueryBuilder.readTableChunkStatement(any(), any(), anyString())).thenAnswer(invocation -> {
+                final Queue<List<Object[]>> tableChunks = chunks.get(invocation.<Table> getArgument(1).id());
+                final List<Object[]> rows = tableChunks != null && !tableChunks.isEmpty() ? tableChunks.poll() : Collections.emptyList();
+                final PreparedStatement statement = mock(PreparedStatement.class);
+                final ResultSet rs = resultSet(rows);
+                when(statement.executeQuery()).thenReturn(rs);
+                return statement;
+            });
+        }
+        catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return connection;
+    }
+
+    private static ResultSet resultSet(List<Object[]> rows) throws SQLException {
+        final ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(metaData.getColumnName(1)).thenReturn("id");
+        when(metaData.getColumnName(2)).thenReturn("name");
+
+        final AtomicInteger position = new AtomicInteger(-1);
+        final ResultSet rs = mock(ResultSet.class);
+        when(rs.getMetaData()).thenReturn(metaData);
+        when(rs.next()).thenAnswer(invocation -> position.incrementAndGet() < rows.size());
+        when(rs.getObject(anyInt())).thenAnswer(invocation -> rows.get(position.get())[invocation.<Integer> getArgument(0) - 1]);
+        return rs;
+    }
+
+    private void chunk(TableId tableId, int... ids) {
+        final List<Object[]> rows = Arrays.stream(ids).mapToObj(SignalBasedIncrementalSnapshotChangeEventSourceTest::row).toList();
+        chunks.computeIfAbsent(tableId, k -> new ArrayDeque<>()).add(rows);
+    }
+
+    private static Object[] row(int id) {
+        return new Object[]{ id, "name-" + id };
+    }
+
+    private static Struct key(int id) {
+        return new Struct(KEY_SCHEMA).put("id", id);
+    }
+
+    private static OffsetContext offsetContext(IncrementalSnapshotContext<TableId> context) {
+        final OffsetContext offsetContext = mock(OffsetContext.class);
+        doReturn(context).when(offsetContext).getIncrementalSnapshotContext();
+        return offsetContext;
+    }
+
+    private static SignalBasedIncrementalSnapshotContext<TableId> createContext(String... dataCollectionIds) {
+        final SignalBasedIncrementalSnapshotContext<TableId> context = new SignalBasedIncrementalSnapshotContext<>(false);
+        context.addDataCollectionNamesToSnapshot("correlation", List.of(dataCollectionIds), List.of(), "");
+        return context;
+    }
+
+    private static List<String> ids(List<AbstractIncrementalSnapshotContext<TableId>> dataCollections) {
+        return dataCollections.stream().map(dataCollection -> dataCollection.currentDataCollectionId().getId().toString()).toList();
+    }
+}
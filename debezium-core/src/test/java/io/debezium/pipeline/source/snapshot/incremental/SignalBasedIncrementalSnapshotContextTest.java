@@ -0,0 +1,89 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.snapshot.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import io.debezium.relational.TableId;
+
+public class SignalBasedIncrementalSnapshotContextTest {
+
+    @Test
+    public void shouldSnapshotDataCollectionsFromHeadOfQueueConcurrently() {
+        final SignalBasedIncrementalSnapshotContext<TableId> context = createContext("db.t1", "db.t2", "db.t3");
+
+        assertThat(ids(context.concurrentDataCollections(2))).containsExactly("db.t1", "db.t2");
+
+        context.concurrentDataCollectionCompleted(TableId.parse("db.t1"));
+        assertThat(context.dataCollectionsToBeSnapshottedCount()).isEqualTo(2);
+        assertThat(ids(context.concurrentDataCollections(2))).containsExactly("db.t2", "db.t3");
+
+        context.concurrentDataCollectionCompleted(TableId.parse("db.t3"));
+        context.concurrentDataCollectionCompleted(TableId.parse("db.t2"));
+        assertThat(context.snapshotRunning()).isFalse();
+    }
+
+    @Test
+    public void shouldRestorePositionsOfConcurrentDataCollections() {
+        final SignalBasedIncrementalSnapshotContext<TableId> context = createContext("db.t1", "db.t2", "db.t3");
+        final List<AbstractIncrementalSnapshotContext<TableId>> dataCollections = context.concurrentDataCollections(2);
+        dataCollections.get(0).maximumKey(new Object[]{ 100 });
+        dataCollections.get(0).sendEvent(new Object[]{ 10 });
+        dataCollections.get(1).maximumKey(new Object[]{ 200 });
+        dataCollections.get(1).sendEvent(new Object[]{ 20 });
+
+        final Map<String, Object> offsets = context.store(new HashMap<>());
+        final SignalBasedIncrementalSnapshotContext<TableId> restored = SignalBasedIncrementalSnapshotContext.load(offsets, false);
+
+        final List<AbstractIncrementalSnapshotContext<TableId>> restoredDataCollections = restored.concurrentDataCollections(2);
+        assertThat(ids(restoredDataCollections)).containsExactly("db.t1", "db.t2");
+        assertThat(restoredDataCollections.get(0).chunkEndPosititon()).containsExactly(10);
+        assertThat(restoredDataCollections.get(0).maximumKey()).hasValueSatisfying(key -> assertThat(key).containsExactly(100));
+        assertThat(restoredDataCollections.get(1).chunkEndPosititon()).containsExactly(20);
+        assertThat(restoredDataCollections.get(1).maximumKey()).hasValueSatisfying(key -> assertThat(key).containsExactly(200));
+        assertThat(restoredDataCollections.get(1).getCorrelationId()).isEqualTo("correlation");
+    }
+
+    @Test
+    public void shouldContinueDataCollectionStartedBySingleThreadedSnapshot() {
+        final SignalBasedIncrementalSnapshotContext<TableId> context = createContext("db.t1", "db.t2");
+        context.maximumKey(new Object[]{ 100 });
+        context.nextChunkPosition(new Object[]{ 10 });
+
+        final AbstractIncrementalSnapshotContext<TableId> dataCollection = context.concurrentDataCollections(2).get(0);
+        assertThat(dataCollection.chunkEndPosititon()).containsExactly(10);
+        assertThat(dataCollection.maximumKey()).hasValueSatisfying(key -> assertThat(key).containsExactly(100));
+        assertThat(context.maximumKey()).isEmpty();
+    }
+
+    @Test
+    public void shouldRemoveStoppedConcurrentDataCollection() {
+        final SignalBasedIncrementalSnapshotContext<TableId> context = createContext("db.t1", "db.t2", "db.t3");
+        context.concurrentDataCollections(2);
+
+        assertThat(context.removeDataCollectionFromSnapshot("db.t2")).isTrue();
+        assertThat(ids(context.concurrentDataCollections(2))).containsExactly("db.t1", "db.t3");
+    }
+
+    private static SignalBasedIncrementalSnapshotContext<TableId> createContext(String... dataCollectionIds) {
+        final SignalBasedIncrementalSnapshotContext<TableId> context = new SignalBasedIncrementalSnapshotContext<>(false);
+        context.addDataCollectionNamesToSnapshot("correlation", List.of(dataCollectionIds), List.of(), "");
+        return context;
+    }
+
+    private static List<String> ids(List<AbstractIncrementalSnapshotContext<TableId>> dataCollections) {
+        return dataCollections.stream()
+                .map(dataCollection -> dataCollection.currentDataCollectionId().getId().toString())
+                .collect(Collectors.toList());
+    }
+}
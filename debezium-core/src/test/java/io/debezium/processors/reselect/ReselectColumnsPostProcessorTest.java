@@ -0,0 +1,182 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.processors.reselect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.bean.StandardBeanNames;
+import io.debezium.bean.spi.BeanRegistry;
+import io.debezium.data.Envelope;
+import io.debezium.jdbc.ConnectionFactory;
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.processors.spi.BatchPostProcessor.Event;
+import io.debezium.relational.Column;
+import io.debezium.relational.RelationalDatabaseConnectorConfig;
+import io.debezium.relational.RelationalDatabaseSchema;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.ValueConverterProvider;
+
+public class ReselectColumnsPostProcessorTest {
+
+    private static final String PLACEHOLDER = "__debezium_unavailable_value";
+    private static final TableId TABLE_ID = new TableId("db", "s", "t");
+
+    private static final Schema KEY_SCHEMA = SchemaBuilder.struct().field("id", Schema.INT32_SCHEMA).build();
+    private static final Schema ROW_SCHEMA = SchemaBuilder.struct()
+            .field("id", Schema.INT32_SCHEMA)
+            .field("text", Schema.OPTIONAL_STRING_SCHEMA)
+            .optional()
+            .build();
+    private static final Schema SOURCE_SCHEMA = SchemaBuilder.struct()
+            .field("db", Schema.STRING_SCHEMA)
+            .field("schema", Schema.STRING_SCHEMA)
+            .field("table", Schema.STRING_SCHEMA)
+            .build();
+    private static final Envelope ENVELOPE = Envelope.defineSchema()
+            .withName("server.s.t.Envelope")
+            .withRecord(ROW_SCHEMA)
+            .withSource(SOURCE_SCHEMA)
+            .build();
+
+    private JdbcConnection jdbcConnection;
+    private JdbcConnection batchConnection;
+    private ConnectionFactory<JdbcConnection> connectionFactory;
+    private Table table;
+
+    @Before
+    public void beforeEach() {
+        table = Table.editor()
+                .tableId(TABLE_ID)
+                .addColumn(Column.editor().name("id").type("INT").jdbcType(Types.INTEGER).create())
+                .addColumn(Column.editor().name("text").type("TEXT").jdbcType(Types.VARCHAR).optional(true).create())
+                .setPrimaryKeyNames("id")
+                .create();
+
+        jdbcConnection = mock(JdbcConnection.class);
+        when(jdbcConnection.createTableId("db", "s", "t")).thenReturn(TABLE_ID);
+        when(jdbcConnection.getQualifiedTableName(TABLE_ID)).thenReturn("s.t");
+        batchConnection = mock(JdbcConnection.class);
+        connectionFactory = () -> batchConnection;
+    }
+
+    @Test
+    public void shouldReselectRowsOfBatchWithSingleQuery() throws SQLException {
+        when(batchConnection.reselectRows(eq(table), eq(List.of("text")), eq(List.of("id")), anyList(), any()))
+                .thenReturn(List.of(Map.of("id", 2, "text", "text-2"), Map.of("id", 1, "text", "text-1")));
+        final ReselectColumnsPostProcessor processor = newProcessor(Map.of("reselect.batch.enabled", "true"));
+        assertThat(processor.isBatchEnabled()).isTrue();
+
+        final List<Event> events = List.of(update(1), update(2), update(1));
+        processor.apply(events);
+
+        assertThat(events).extracting(event -> event.value().getStruct(Envelope.FieldName.AFTER).getString("text"))
+                .containsExactly("text-1", "text-2", "text-1");
+        verify(batchConnection, times(1)).reselectRows(eq(table), eq(List.of("text")), eq(List.of("id")), eq(List.of(List.of(1), List.of(2))), any());
+        verify(batchConnection, never()).reselectColumns(any(), anyList(), anyList(), anyList(), any());
+
+        // The batches are re-selected on the polling thread, so the connection of the producer thread is not used
+        verifyNoInteractionsWithReselection(jdbcConnection);
+        processor.close();
+        verify(batchConnection).close();
+    }
+
+    @Test
+    public void shouldSplitKeysOfBatchAndReselectMissingRowsOneByOne() throws SQLException {
+        when(batchConnection.reselectRows(eq(table), eq(List.of("text")), eq(List.of("id")), anyList(), any()))
+                .thenReturn(List.of(Map.of("id", 1, "text", "text-1")), List.of());
+        when(batchConnection.reselectColumns(eq(table), eq(List.of("text")), eq(List.of("id")), eq(List.of(2)), any()))
+                .thenReturn(Map.of("text", "text-2"));
+        final ReselectColumnsPostProcessor processor = newProcessor(Map.of("reselect.batch.enabled", "true", "reselect.batch.max.keys", "1"));
+
+        final List<Event> events = List.of(update(1), update(2));
+        processor.apply(events);
+
+        assertThat(events).extracting(event -> event.value().getStruct(Envelope.FieldName.AFTER).getString("text"))
+                .containsExactly("text-1", "text-2");
+        verify(batchConnection, times(2)).reselectRows(eq(table), eq(List.of("text")), eq(List.of("id")), anyList(), any());
+        verify(batchConnection, times(1)).reselectColumns(eq(table), eq(List.of("text")), eq(List.of("id")), eq(List.of(2)), any());
+        verifyNoInteractionsWithReselection(jdbcConnection);
+    }
+
+    @Test
+    public void shouldReselectRowsOfEventsWithDifferentReselectionPointsSeparately() throws SQLException {
+        // e.g. the commit SCNs of the events read by Oracle flashback queries
+        when(batchConnection.getReselectionPoint(any())).thenReturn("100", "100", "200");
+        when(batchConnection.reselectRows(eq(table), eq(List.of("text")), eq(List.of("id")), anyList(), any()))
+                .thenReturn(List.of(Map.of("id", 1, "text", "text-1"), Map.of("id", 2, "text", "text-2")), List.of(Map.of("id", 3, "text", "text-3")));
+        final ReselectColumnsPostProcessor processor = newProcessor(Map.of("reselect.batch.enabled", "true"));
+
+        final List<Event> events = List.of(update(1), update(2), update(3));
+        processor.apply(events);
+
+        assertThat(events).extracting(event -> event.value().getStruct(Envelope.FieldName.AFTER).getString("text"))
+                .containsExactly("text-1", "text-2", "text-3");
+        verify(batchConnection).reselectRows(eq(table), eq(List.of("text")), eq(List.of("id")), eq(List.of(List.of(1), List.of(2))), any());
+        verify(batchConnection).reselectRows(eq(table), eq(List.of("text")), eq(List.of("id")), eq(List.of(List.of(3))), any());
+    }
+
+    @Test
+    public void shouldNotBeBatchEnabledByDefault() {
+        assertThat(newProcessor(Map.of()).isBatchEnabled()).isFalse();
+    }
+
+    @Test
+    public void shouldNotBeBatchEnabledWithoutConnectionFactory() {
+        connectionFactory = null;
+        assertThat(newProcessor(Map.of("reselect.batch.enabled", "true")).isBatchEnabled()).isFalse();
+    }
+
+    private ReselectColumnsPostProcessor newProcessor(Map<String, ?> properties) {
+        final RelationalDatabaseConnectorConfig connectorConfig = mock(RelationalDatabaseConnectorConfig.class);
+        when(connectorConfig.getUnavailableValuePlaceholder()).thenReturn(PLACEHOLDER.getBytes());
+        final RelationalDatabaseSchema schema = mock(RelationalDatabaseSchema.class);
+        when(schema.tableFor(TABLE_ID)).thenReturn(table);
+
+        final BeanRegistry beanRegistry = mock(BeanRegistry.class);
+        when(beanRegistry.lookupByName(StandardBeanNames.CONNECTOR_CONFIG, RelationalDatabaseConnectorConfig.class)).thenReturn(connectorConfig);
+        when(beanRegistry.lookupByName(StandardBeanNames.VALUE_CONVERTER, ValueConverterProvider.class)).thenReturn(mock(ValueConverterProvider.class));
+        when(beanRegistry.lookupByName(StandardBeanNames.JDBC_CONNECTION, JdbcConnection.class)).thenReturn(jdbcConnection);
+        when(beanRegistry.lookupByName(StandardBeanNames.JDBC_CONNECTION_FACTORY, ConnectionFactory.class)).thenReturn(connectionFactory);
+        when(beanRegistry.lookupByName(StandardBeanNames.DATABASE_SCHEMA, RelationalDatabaseSchema.class)).thenReturn(schema);
+
+        final ReselectColumnsPostProcessor processor = new ReselectColumnsPostProcessor();
+        processor.configure(properties);
+        processor.injectBeanRegistry(beanRegistry);
+        return processor;
+    }
+
+    private static void verifyNoInteractionsWithReselection(JdbcConnection connection) throws SQLException {
+        verify(connection, never()).reselectColumns(any(), anyList(), anyList(), anyList(), any());
+        verify(connection, never()).reselectRows(any(), anyList(), anyList(), anyList(), any());
+    }
+
+    private static Event update(int id) {
+        final Struct after = new Struct(ROW_SCHEMA).put("id", id).put("text", PLACEHOLDER);
+        final Struct source = new Struct(SOURCE_SCHEMA).put("db", "db").put("schema", "s").put("table", "t");
+        return new Event(new Struct(KEY_SCHEMA).put("id", id), ENVELOPE.update(null, after, source, Instant.now()));
+    }
+}
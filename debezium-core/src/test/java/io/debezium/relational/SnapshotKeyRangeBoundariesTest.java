@@ -0,0 +1,44 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.Test;
+
+public class SnapshotKeyRangeBoundariesTest {
+
+    @Test
+    public void shouldSplitIntoMaximumNumberOfRanges() {
+        assertThat(SnapshotKeyRangeBoundaries.keyRangeCount(1000, 4, 10)).isEqualTo(4);
+    }
+
+    @Test
+    public void shouldLimitRangesToMinimumRowsPerRange() {
+        assertThat(SnapshotKeyRangeBoundaries.keyRangeCount(250, 8, 100)).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldNotSplitSmallTable() {
+        assertThat(SnapshotKeyRangeBoundaries.keyRangeCount(150, 8, 100)).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotSplitEmptyTable() {
+        assertThat(SnapshotKeyRangeBoundaries.keyRangeCount(0, 8, 1)).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldSelectLastKeyOfEachTileButTheLast() {
+        assertThat(SnapshotKeyRangeBoundaries.select("\"s\".\"t\"", List.of("\"a\"", "\"b\""), 4)).isEqualTo(
+                "SELECT \"a\", \"b\" FROM ("
+                        + "SELECT \"a\", \"b\", dbz_tile, LEAD(dbz_tile) OVER (ORDER BY \"a\", \"b\") AS dbz_next_tile FROM ("
+                        + "SELECT \"a\", \"b\", NTILE(4) OVER (ORDER BY \"a\", \"b\") AS dbz_tile FROM \"s\".\"t\""
+                        + ") dbz_tiles) dbz_boundaries WHERE dbz_tile <> dbz_next_tile ORDER BY \"a\", \"b\"");
+    }
+}
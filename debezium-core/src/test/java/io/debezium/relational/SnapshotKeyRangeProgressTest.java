@@ -0,0 +1,126 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import io.debezium.connector.SnapshotRecord;
+
+public class SnapshotKeyRangeProgressTest {
+
+    private static final Instant TIMESTAMP = Instant.ofEpochMilli(1000);
+
+    private final List<String> dispatched = Collections.synchronizedList(new ArrayList<>());
+    private final SnapshotKeyRangeProgress.RowDispatcher dispatcher = (row, timestamp, marker) -> dispatched.add(row[0] + ":" + marker);
+
+    @Test
+    public void shouldMarkLastDispatchedRowWhenKeyRangesCompleteOutOfOrder() throws Exception {
+        final SnapshotKeyRangeProgress progress = new SnapshotKeyRangeProgress(3, 1, 1);
+
+        // the second key range completes first
+        progress.dispatchRow(row("b1"), TIMESTAMP, true, dispatcher);
+        progress.dispatchRow(row("b2"), TIMESTAMP, false, dispatcher);
+        assertThat(progress.completeKeyRange(row("b3"), TIMESTAMP, dispatcher)).isFalse();
+
+        // then the third one, which is empty
+        assertThat(progress.completeKeyRange(null, TIMESTAMP, dispatcher)).isFalse();
+
+        // and finally the first one
+        progress.dispatchRow(row("a1"), TIMESTAMP, true, dispatcher);
+        assertThat(progress.completeKeyRange(row("a2"), TIMESTAMP, dispatcher)).isTrue();
+
+        assertThat(dispatched).containsExactly(
+                "b1:FIRST_IN_DATA_COLLECTION",
+                "b2:TRUE",
+                "a1:TRUE",
+                "b3:TRUE",
+                "a2:LAST_IN_DATA_COLLECTION");
+    }
+
+    @Test
+    public void shouldMarkFirstRowHeldBackFromSingleRowKeyRange() throws Exception {
+        final SnapshotKeyRangeProgress progress = new SnapshotKeyRangeProgress(2, 1, 1);
+
+        assertThat(progress.completeKeyRange(row("b1"), TIMESTAMP, dispatcher)).isFalse();
+        assertThat(dispatched).isEmpty();
+
+        assertThat(progress.completeKeyRange(row("a1"), TIMESTAMP, dispatcher)).isTrue();
+
+        assertThat(dispatched).containsExactly("b1:FIRST_IN_DATA_COLLECTION", "a1:LAST_IN_DATA_COLLECTION");
+    }
+
+    @Test
+    public void shouldMarkLastRowOfEarlierKeyRangeWhenLastKeyRangeIsEmpty() throws Exception {
+        final SnapshotKeyRangeProgress progress = new SnapshotKeyRangeProgress(2, 1, 1);
+
+        progress.dispatchRow(row("a1"), TIMESTAMP, true, dispatcher);
+        assertThat(progress.completeKeyRange(row("a2"), TIMESTAMP, dispatcher)).isFalse();
+        assertThat(progress.completeKeyRange(null, TIMESTAMP, dispatcher)).isTrue();
+
+        assertThat(dispatched).containsExactly("a1:FIRST_IN_DATA_COLLECTION", "a2:LAST_IN_DATA_COLLECTION");
+    }
+
+    @Test
+    public void shouldCompleteTableWithEmptyKeyRangesOnce() throws Exception {
+        final SnapshotKeyRangeProgress progress = new SnapshotKeyRangeProgress(2, 1, 1);
+
+        assertThat(progress.completeKeyRange(null, TIMESTAMP, dispatcher)).isFalse();
+        assertThat(progress.completeKeyRange(null, TIMESTAMP, dispatcher)).isTrue();
+
+        assertThat(dispatched).isEmpty();
+    }
+
+    @Test
+    public void shouldMarkFirstAndLastRowOnceWhenKeyRangesAreReadConcurrently() throws Exception {
+        final int keyRanges = 8;
+        final int rowsPerKeyRange = 1000;
+        final SnapshotKeyRangeProgress progress = new SnapshotKeyRangeProgress(keyRanges, 1, 1);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(keyRanges);
+        try {
+            final List<Callable<Boolean>> tasks = new ArrayList<>();
+            for (int range = 0; range < keyRanges; range++) {
+                final int keyRange = range;
+                tasks.add(() -> {
+                    for (int i = 0; i < rowsPerKeyRange - 1; i++) {
+                        progress.dispatchRow(row(keyRange + "-" + i), TIMESTAMP, i == 0, dispatcher);
+                    }
+                    return progress.completeKeyRange(row(keyRange + "-last"), TIMESTAMP, dispatcher);
+                });
+            }
+            int completedTables = 0;
+            for (Future<Boolean> completed : executor.invokeAll(tasks)) {
+                if (completed.get()) {
+                    completedTables++;
+                }
+            }
+            assertThat(completedTables).isEqualTo(1);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(dispatched).hasSize(keyRanges * rowsPerKeyRange);
+        assertThat(dispatched.get(0)).endsWith(":" + SnapshotRecord.FIRST_IN_DATA_COLLECTION);
+        assertThat(dispatched.get(dispatched.size() - 1)).endsWith(":" + SnapshotRecord.LAST_IN_DATA_COLLECTION);
+        assertThat(dispatched).filteredOn(row -> !row.endsWith(":" + SnapshotRecord.TRUE)).hasSize(2);
+    }
+
+    private static Object[] row(String key) {
+        return new Object[]{ key };
+    }
+}
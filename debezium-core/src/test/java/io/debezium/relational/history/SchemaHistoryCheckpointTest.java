@@ -0,0 +1,323 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.config.Configuration;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableEditor;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+import io.debezium.util.Collect;
+
+public class SchemaHistoryCheckpointTest {
+
+    private static final Map<String, Object> SOURCE = Collect.linkMapOf("server", "abc");
+    private static final Map<String, Object> OTHER_SOURCE = Collect.linkMapOf("server", "def");
+
+    private final List<HistoryRecord> applied = new ArrayList<>();
+    private final List<HistoryRecord> stored = new ArrayList<>();
+    private AbstractSchemaHistory history;
+    private boolean readBackwards = true;
+    private int read;
+
+    @Before
+    public void beforeEach() {
+        history = new AbstractSchemaHistory() {
+            @Override
+            protected void storeRecord(HistoryRecord record) {
+                stored.add(record);
+            }
+
+            @Override
+            protected void recoverRecords(Consumer<HistoryRecord> records) {
+                stored.forEach(record -> {
+                    read++;
+                    records.accept(record);
+                });
+            }
+
+            @Override
+            protected boolean recoverRecordsNewestFirst(Predicate<HistoryRecord> records) {
+                if (!readBackwards) {
+                    return false;
+                }
+                for (int i = stored.size() - 1; i >= 0; i--) {
+                    read++;
+                    if (!records.test(stored.get(i))) {
+                        break;
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public boolean exists() {
+                return !stored.isEmpty();
+            }
+
+            @Override
+            public boolean storageExists() {
+                return true;
+            }
+        };
+        history.configure(Configuration.create().with(SchemaHistory.CHECKPOINT_INTERVAL, 3).build(), null, new SchemaHistoryListener() {
+            @Override
+            public void started() {
+            }
+
+            @Override
+            public void stopped() {
+            }
+
+            @Override
+            public void recoveryStarted() {
+            }
+
+            @Override
+            public void recoveryStopped() {
+            }
+
+            @Override
+            public void onChangeFromHistory(HistoryRecord record) {
+            }
+
+            @Override
+            public void onChangeApplied(HistoryRecord record) {
+                applied.add(record);
+            }
+        }, true);
+        history.start();
+    }
+
+    @Test
+    public void shouldRecoverFromCheckpointAndReplayOnlyFollowingRecords() throws InterruptedException {
+        for (int i = 1; i <= 5; i++) {
+            store(i, new TableChanges().create(table("t" + i, 1)));
+        }
+        store(6, new TableChanges().drop(tableId("t2")));
+
+        final Tables full = recover(6);
+        assertThat(full.tableIds()).hasSize(4);
+        assertThat(stored).hasSize(7);
+        assertThat(stored.get(6).checkpoint().getInteger(HistoryRecord.Fields.CHECKPOINT_PARTS)).isEqualTo(1);
+
+        record(7, new TableChanges().alter(table("t1", 2)));
+        record(8, new TableChanges().create(table("t8", 1)));
+        applied.clear();
+
+        final Tables fromCheckpoint = recover(8);
+        assertThat(applied).hasSize(2);
+        assertThat(fromCheckpoint.tableIds()).hasSize(5);
+        assertThat(fromCheckpoint.forTable(tableId("t1")).columns()).hasSize(2);
+        assertThat(fromCheckpoint.forTable(tableId("t2"))).isNull();
+        assertThat(fromCheckpoint).isEqualTo(replayWithoutCheckpoints(8));
+    }
+
+    @Test
+    public void shouldReadOnlyCheckpointAndFollowingRecords() throws InterruptedException {
+        for (int i = 1; i <= 100; i++) {
+            store(i, new TableChanges().create(table("t" + i, 1)));
+        }
+        recover(100);
+        assertThat(stored).hasSize(101);
+
+        store(101, new TableChanges().drop(tableId("t1")));
+        store(102, new TableChanges().create(table("t102", 1)));
+        read = 0;
+        applied.clear();
+
+        final Tables tables = recover(102);
+        assertThat(read).isEqualTo(3);
+        assertThat(applied).hasSize(2);
+        assertThat(tables).isEqualTo(replayWithoutCheckpoints(102));
+    }
+
+    @Test
+    public void shouldRecoverFromCheckpointInSinglePassWhenStorageCannotReadBackwards() throws InterruptedException {
+        readBackwards = false;
+        for (int i = 1; i <= 5; i++) {
+            store(i, new TableChanges().create(table("t" + i, 400)));
+        }
+        recover(5);
+        store(6, new TableChanges().drop(tableId("t3")));
+        store(7, new TableChanges().alter(table("t1", 2)));
+        read = 0;
+        applied.clear();
+
+        final Tables tables = recover(7);
+        assertThat(read).isEqualTo(stored.size());
+        assertThat(applied).hasSize(2);
+        assertThat(tables).isEqualTo(replayWithoutCheckpoints(7));
+    }
+
+    @Test
+    public void shouldNotStoreCheckpointWhenHistoryContainsLaterRecords() throws InterruptedException {
+        for (int i = 1; i <= 5; i++) {
+            store(i, new TableChanges().create(table("t" + i, 1)));
+        }
+
+        final Tables tables = recover(3);
+        assertThat(tables.tableIds()).hasSize(3);
+        assertThat(stored).hasSize(5);
+
+        // The recorded changes follow records past the offsets, whose tables are not known
+        record(4, new TableChanges().create(table("t4", 1)));
+        record(5, new TableChanges().create(table("t5", 1)));
+        record(6, new TableChanges().create(table("t6", 1)));
+        assertThat(stored).hasSize(8);
+    }
+
+    @Test
+    public void shouldIgnoreCheckpointAfterOffsets() throws InterruptedException {
+        for (int i = 1; i <= 5; i++) {
+            store(i, new TableChanges().create(table("t" + i, 1)));
+        }
+        recover(5);
+        assertThat(stored).hasSize(6);
+
+        final Tables tables = recover(4);
+        assertThat(tables.tableIds()).hasSize(4);
+        assertThat(tables.forTable(tableId("t5"))).isNull();
+    }
+
+    @Test
+    public void shouldSplitLargeCheckpoints() throws InterruptedException {
+        for (int i = 1; i <= 5; i++) {
+            store(i, new TableChanges().create(table("t" + i, 400)));
+        }
+        final Tables full = recover(5);
+        assertThat(stored).hasSize(8);
+
+        applied.clear();
+        assertThat(recover(5)).isEqualTo(full);
+        assertThat(applied).isEmpty();
+    }
+
+    @Test
+    public void shouldIgnoreIncompleteCheckpoint() throws InterruptedException {
+        for (int i = 1; i <= 5; i++) {
+            store(i, new TableChanges().create(table("t" + i, 400)));
+        }
+        recover(5);
+        // Simulates a failure while the checkpoint was being stored
+        stored.remove(stored.size() - 1);
+
+        applied.clear();
+        assertThat(recover(5).tableIds()).hasSize(5);
+        assertThat(applied).hasSize(5);
+    }
+
+    @Test
+    public void shouldStoreCheckpointsWhileRecordingChanges() throws InterruptedException {
+        for (int i = 1; i <= 7; i++) {
+            record(i, new TableChanges().create(table("t" + i, 1)));
+        }
+        assertThat(stored).hasSize(9);
+        assertThat(stored.get(3).checkpoint() != null).isTrue();
+        assertThat(stored.get(7).checkpoint() != null).isTrue();
+
+        applied.clear();
+        final Tables tables = recover(7);
+        assertThat(applied).hasSize(1);
+        assertThat(tables).isEqualTo(replayWithoutCheckpoints(7));
+        assertThat(recover(5)).isEqualTo(replayWithoutCheckpoints(5));
+    }
+
+    @Test
+    public void shouldStoreCheckpointsWhileRecordingChangesAfterRecovery() throws InterruptedException {
+        store(1, new TableChanges().create(table("t1", 1)));
+        store(2, new TableChanges().create(table("t2", 1)));
+        recover(2);
+
+        record(3, new TableChanges().alter(table("t1", 2)));
+        assertThat(stored).hasSize(4);
+        record(4, new TableChanges().drop(tableId("t2")));
+        assertThat(stored).hasSize(5);
+
+        applied.clear();
+        final Tables tables = recover(4);
+        assertThat(applied).hasSize(1);
+        assertThat(tables).isEqualTo(replayWithoutCheckpoints(4));
+    }
+
+    @Test
+    public void shouldNotStoreCheckpointsForMultiplePartitions() throws InterruptedException {
+        record(1, new TableChanges().create(table("t1", 1)));
+        history.record(OTHER_SOURCE, Collect.linkMapOf("pos", 1), "db", null, null, new TableChanges().create(table("u1", 1)), Instant.now());
+        record(2, new TableChanges().create(table("t2", 1)));
+        record(3, new TableChanges().create(table("t3", 1)));
+        assertThat(stored).hasSize(4);
+
+        final Tables tables = new Tables();
+        history.recover(Map.of(SOURCE, Collect.linkMapOf("pos", 3), OTHER_SOURCE, Collect.linkMapOf("pos", 1)), tables, null);
+        assertThat(tables.tableIds()).hasSize(4);
+        assertThat(stored).hasSize(4);
+    }
+
+    @Test
+    public void shouldNotStoreCheckpointsAfterStatementWithoutTableChanges() {
+        record(1, new TableChanges().create(table("t1", 1)));
+        history.record(SOURCE, Collect.linkMapOf("pos", 2), "db", "DROP DATABASE db");
+        record(3, new TableChanges().create(table("t3", 1)));
+        record(4, new TableChanges().create(table("t4", 1)));
+        assertThat(stored).hasSize(4);
+    }
+
+    private void record(int position, TableChanges changes) {
+        history.record(SOURCE, Collect.linkMapOf("pos", position), "db", null, null, changes, Instant.now());
+    }
+
+    private void store(int position, TableChanges changes) {
+        stored.add(new HistoryRecord(SOURCE, Collect.linkMapOf("pos", position), "db", null, null, changes, Instant.now()));
+    }
+
+    private Tables recover(int position) throws InterruptedException {
+        final Tables tables = new Tables();
+        history.recover(SOURCE, Collect.linkMapOf("pos", position), tables, null);
+        return tables;
+    }
+
+    private Tables replayWithoutCheckpoints(int position) throws InterruptedException {
+        final AbstractSchemaHistory fullHistory = new MemorySchemaHistory();
+        fullHistory.configure(Configuration.empty(), null, SchemaHistoryListener.NOOP, true);
+        stored.stream().filter(record -> record.checkpoint() == null).forEach(fullHistory::storeRecord);
+
+        final Tables tables = new Tables();
+        fullHistory.recover(SOURCE, Collect.linkMapOf("pos", position), tables, null);
+        return tables;
+    }
+
+    private static TableId tableId(String name) {
+        return new TableId("db", null, name);
+    }
+
+    private static Table table(String name, int columns) {
+        final TableEditor editor = Table.editor().tableId(tableId(name));
+        for (int i = 0; i < columns; i++) {
+            editor.addColumn(Column.editor()
+                    .name("c" + i)
+                    .jdbcType(Types.INTEGER)
+                    .type("INT")
+                    .optional(i > 0)
+                    .create());
+        }
+        return editor.setPrimaryKeyNames("c0").create();
+    }
+}
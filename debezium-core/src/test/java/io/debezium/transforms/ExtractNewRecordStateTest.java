@@ -285,6 +285,24 @@ public void testAddFields() {
         }
     }
 
+    @Test
+    public void shouldReuseUpdatedSchemaForRecordsOfSameSchema() {
+        try (ExtractNewRecordState<SourceRecord> transform = new ExtractNewRecordState<>()) {
+            final Map<String, String> props = new HashMap<>();
+            props.put(ADD_FIELDS, "op,lsn");
+            transform.configure(props);
+
+            final SourceRecord first = transform.apply(createUpdateRecord());
+            final SourceRecord second = transform.apply(createUpdateRecord());
+            final SourceRecord create = transform.apply(createCreateRecord());
+
+            assertThat(second.valueSchema()).isSameAs(first.valueSchema());
+            assertThat(((Struct) second.value()).get("__lsn")).isEqualTo(1234);
+            assertThat(((Struct) create.value()).get("__op")).isEqualTo(Envelope.Operation.CREATE.code());
+            assertThat(((Struct) second.value()).get("__op")).isEqualTo(Envelope.Operation.UPDATE.code());
+        }
+    }
+
     @Test
     @FixFor({ "DBZ-2606" })
     public void testNewFieldAndHeaderMapping() {
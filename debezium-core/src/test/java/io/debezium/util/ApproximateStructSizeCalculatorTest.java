@@ -9,8 +9,12 @@
 
 import java.math.BigDecimal;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 
+import javax.sql.rowset.serial.SerialBlob;
+import javax.sql.rowset.serial.SerialClob;
+
 import org.apache.kafka.connect.data.Decimal;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
@@ -39,4 +43,14 @@ public void testGetApproximateRecordSizeWithBytesStruct() {
         actual = ApproximateStructSizeCalculator.getApproximateRecordSize(sourceRecord);
         assertEquals(actual, 115);
     }
+
+    @Test
+    public void testGetApproximateRowSizeWithLargeObjects() throws Exception {
+        final char[] text = new char[100_000];
+        final byte[] data = new byte[200_000];
+        final Object[] row = { 1, new SerialClob(text), new SerialBlob(data), "abc".getBytes(StandardCharsets.UTF_8) };
+
+        long actual = ApproximateStructSizeCalculator.getApproximateRowSize(row);
+        assertEquals(64 + 4 * 8 + 24 + (56 + 100_000) + (24 + 200_000) + (24 + 3), actual);
+    }
 }
@@ -201,7 +201,7 @@ private Converter createConverter(Class<? extends SerializationFormat<?>> format
                 converterConfig = converterConfig.edit().withDefault(FIELD_CLASS, "io.apicurio.registry.utils.converter.ExtJsonConverter").build();
             }
             else {
-                converterConfig = converterConfig.edit().withDefault(FIELD_CLASS, "org.apache.kafka.connect.json.JsonConverter").build();
+                converterConfig = converterConfig.edit().withDefault(FIELD_CLASS, "io.debezium.converters.StreamingJsonConverter").build();
             }
         }
         else if (isFormat(format, CloudEvents.class)) {
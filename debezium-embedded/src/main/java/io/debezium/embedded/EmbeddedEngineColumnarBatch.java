@@ -0,0 +1,406 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.embedded;
+
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.kafka.connect.data.Date;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Time;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import io.debezium.data.Envelope;
+import io.debezium.engine.ColumnarBatch;
+import io.debezium.engine.RecordChangeEvent;
+
+/**
+ * The {@link ColumnarBatch} delivered by the engine for the {@link io.debezium.engine.format.Columnar} format. The columns
+ * are filled directly from the {@link Struct} values of the source records, which the batch keeps so that they can be
+ * committed once the batch is processed.
+ */
+public class EmbeddedEngineColumnarBatch implements ColumnarBatch, RecordChangeEvent<ColumnarBatch> {
+
+    private final String destination;
+    private final String[] operations;
+    private final List<Column> columns;
+    private final Map<String, Column> columnsByName;
+    private final List<Column> keyColumns;
+    private final List<SourceRecord> sourceRecords;
+    private final boolean[] lastOfSourcePartition;
+
+    private EmbeddedEngineColumnarBatch(String destination, String[] operations, List<Column> columns, List<Column> keyColumns,
+                                        List<SourceRecord> sourceRecords, boolean[] lastOfSourcePartition) {
+        this.destination = destination;
+        this.operations = operations;
+        this.columns = Collections.unmodifiableList(columns);
+        this.columnsByName = new HashMap<>();
+        for (Column column : columns) {
+            columnsByName.put(column.name(), column);
+        }
+        this.keyColumns = Collections.unmodifiableList(keyColumns);
+        this.sourceRecords = sourceRecords;
+        this.lastOfSourcePartition = lastOfSourcePartition;
+    }
+
+    /**
+     * Lays out the given records by columns, in one batch per destination and row structure. The batches are ordered
+     * by the first record they contain.
+     */
+    public static List<EmbeddedEngineColumnarBatch> fromRecords(List<SourceRecord> records) {
+        // Only the last record of every source partition stores its offset, so that the offsets do not move
+        // backwards whatever the order in which the batches are committed
+        final boolean[] lastOfSourcePartition = new boolean[records.size()];
+        final Set<Map<String, ?>> seenPartitions = new HashSet<>();
+        for (int i = records.size() - 1; i >= 0; i--) {
+            lastOfSourcePartition[i] = seenPartitions.add(records.get(i).sourcePartition());
+        }
+
+        final Map<BatchKey, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            final SourceRecord record = records.get(i);
+            groups.computeIfAbsent(new BatchKey(record.topic(), rowSchema(record), keySchema(record)), k -> new ArrayList<>()).add(i);
+        }
+
+        final List<EmbeddedEngineColumnarBatch> batches = new ArrayList<>(groups.size());
+        for (Map.Entry<BatchKey, List<Integer>> group : groups.entrySet()) {
+            batches.add(build(group.getKey(), group.getValue(), records, lastOfSourcePartition));
+        }
+        return batches;
+    }
+
+    private static EmbeddedEngineColumnarBatch build(BatchKey key, List<Integer> indexes, List<SourceRecord> records, boolean[] lastOfSourcePartition) {
+        final int size = indexes.size();
+        final List<SourceRecord> batchRecords = new ArrayList<>(size);
+        final boolean[] batchLastOfSourcePartition = new boolean[size];
+        final String[] operations = new String[size];
+        final Struct[] rows = new Struct[size];
+        final Struct[] keys = new Struct[size];
+
+        for (int row = 0; row < size; row++) {
+            final int index = indexes.get(row);
+            final SourceRecord record = records.get(index);
+            batchRecords.add(record);
+            batchLastOfSourcePartition[row] = lastOfSourcePartition[index];
+            keys[row] = record.key() instanceof Struct ? (Struct) record.key() : null;
+
+            if (record.value() instanceof Struct) {
+                final Struct value = (Struct) record.value();
+                if (isEnvelope(value.schema())) {
+                    operations[row] = value.schema().field(Envelope.FieldName.OPERATION) != null ? value.getString(Envelope.FieldName.OPERATION) : null;
+                    final Struct after = value.getStruct(Envelope.FieldName.AFTER);
+                    rows[row] = after != null ? after : value.getStruct(Envelope.FieldName.BEFORE);
+                }
+                else {
+                    rows[row] = value;
+                }
+            }
+        }
+
+        return new EmbeddedEngineColumnarBatch(key.topic, operations, columns(key.rowSchema, rows), columns(key.keySchema, keys),
+                batchRecords, batchLastOfSourcePartition);
+    }
+
+    private static List<Column> columns(Schema schema, Struct[] rows) {
+        if (schema == null || schema.type() != Schema.Type.STRUCT) {
+            return new ArrayList<>();
+        }
+        final List<Column> columns = new ArrayList<>(schema.fields().size());
+        for (Field field : schema.fields()) {
+            columns.add(column(field, rows));
+        }
+        return columns;
+    }
+
+    private static Column column(Field field, Struct[] rows) {
+        final Type type = columnType(field.schema());
+        final int size = rows.length;
+        final BitSet nulls = new BitSet(size);
+        final Object values;
+
+        switch (type) {
+            case BOOLEAN:
+                final boolean[] booleans = new boolean[size];
+                for (int row = 0; row < size; row++) {
+                    final Object value = value(rows[row], field, nulls, row);
+                    booleans[row] = value != null && (Boolean) value;
+                }
+                values = booleans;
+                break;
+            case INT32:
+                final int[] ints = new int[size];
+                for (int row = 0; row < size; row++) {
+                    final Object value = value(rows[row], field, nulls, row);
+                    ints[row] = value != null ? ((Number) value).intValue() : 0;
+                }
+                values = ints;
+                break;
+            case INT64:
+                final long[] longs = new long[size];
+                for (int row = 0; row < size; row++) {
+                    final Object value = value(rows[row], field, nulls, row);
+                    longs[row] = value != null ? (Long) value : 0L;
+                }
+                values = longs;
+                break;
+            case FLOAT32:
+                final float[] floats = new float[size];
+                for (int row = 0; row < size; row++) {
+                    final Object value = value(rows[row], field, nulls, row);
+                    floats[row] = value != null ? (Float) value : 0f;
+                }
+                values = floats;
+                break;
+            case FLOAT64:
+                final double[] doubles = new double[size];
+                for (int row = 0; row < size; row++) {
+                    final Object value = value(rows[row], field, nulls, row);
+                    doubles[row] = value != null ? (Double) value : 0d;
+                }
+                values = doubles;
+                break;
+            case STRING:
+                final String[] strings = new String[size];
+                for (int row = 0; row < size; row++) {
+                    strings[row] = (String) value(rows[row], field, nulls, row);
+                }
+                values = strings;
+                break;
+            case BYTES:
+                final byte[][] bytes = new byte[size][];
+                for (int row = 0; row < size; row++) {
+                    bytes[row] = bytes(value(rows[row], field, nulls, row));
+                }
+                values = bytes;
+                break;
+            default:
+                final Object[] objects = new Object[size];
+                for (int row = 0; row < size; row++) {
+                    objects[row] = value(rows[row], field, nulls, row);
+                }
+                values = objects;
+        }
+
+        return new ArrayColumn(field.name(), type, values, nulls);
+    }
+
+    private static Object value(Struct row, Field field, BitSet nulls, int index) {
+        final Object value = row != null ? row.getWithoutDefault(field.name()) : null;
+        if (value == null) {
+            nulls.set(index);
+        }
+        return value;
+    }
+
+    private static byte[] bytes(Object value) {
+        if (value instanceof ByteBuffer) {
+            final ByteBuffer buffer = (ByteBuffer) value;
+            if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0 && buffer.remaining() == buffer.array().length) {
+                return buffer.array();
+            }
+            final byte[] bytes = new byte[buffer.remaining()];
+            buffer.duplicate().get(bytes);
+            return bytes;
+        }
+        return (byte[]) value;
+    }
+
+    private static Type columnType(Schema schema) {
+        if (schema.name() != null) {
+            switch (schema.name()) {
+                case Decimal.LOGICAL_NAME:
+                case Date.LOGICAL_NAME:
+                case Time.LOGICAL_NAME:
+                case Timestamp.LOGICAL_NAME:
+                    return Type.OBJECT;
+                default:
+                    break;
+            }
+        }
+        switch (schema.type()) {
+            case BOOLEAN:
+                return Type.BOOLEAN;
+            case INT8:
+            case INT16:
+            case INT32:
+                return Type.INT32;
+            case INT64:
+                return Type.INT64;
+            case FLOAT32:
+                return Type.FLOAT32;
+            case FLOAT64:
+                return Type.FLOAT64;
+            case STRING:
+                return Type.STRING;
+            case BYTES:
+                return Type.BYTES;
+            default:
+                return Type.OBJECT;
+        }
+    }
+
+    private static boolean isEnvelope(Schema schema) {
+        return schema.name() != null && Envelope.isEnvelopeSchema(schema) && schema.field(Envelope.FieldName.AFTER) != null;
+    }
+
+    private static Schema rowSchema(SourceRecord record) {
+        if (!(record.value() instanceof Struct)) {
+            return null;
+        }
+        final Schema schema = ((Struct) record.value()).schema();
+        return isEnvelope(schema) ? schema.field(Envelope.FieldName.AFTER).schema() : schema;
+    }
+
+    private static Schema keySchema(SourceRecord record) {
+        return record.key() instanceof Struct ? ((Struct) record.key()).schema() : null;
+    }
+
+    @Override
+    public String destination() {
+        return destination;
+    }
+
+    @Override
+    public int size() {
+        return sourceRecords.size();
+    }
+
+    @Override
+    public String operation(int row) {
+        return operations[row];
+    }
+
+    @Override
+    public List<Column> columns() {
+        return columns;
+    }
+
+    @Override
+    public Column column(String name) {
+        return columnsByName.get(name);
+    }
+
+    @Override
+    public List<Column> keyColumns() {
+        return keyColumns;
+    }
+
+    @Override
+    public ColumnarBatch record() {
+        return this;
+    }
+
+    /**
+     * @return The source records of the batch, in the order of its rows
+     */
+    public List<SourceRecord> sourceRecords() {
+        return sourceRecords;
+    }
+
+    /**
+     * @return Whether the record of the given row is the last polled record of its source partition, so its offset
+     *         is the one to be stored once the row is processed
+     */
+    public boolean isLastOfSourcePartition(int row) {
+        return lastOfSourcePartition[row];
+    }
+
+    @Override
+    public String toString() {
+        return "EmbeddedEngineColumnarBatch [destination=" + destination + ", size=" + size() + ", columns=" + columnsByName.keySet() + "]";
+    }
+
+    /**
+     * Identifies the batch of a record. The schemas are compared by identity, as the records of a table share
+     * the schema instances and comparing the schemas by value is expensive.
+     */
+    private static final class BatchKey {
+        private final String topic;
+        private final Schema rowSchema;
+        private final Schema keySchema;
+
+        BatchKey(String topic, Schema rowSchema, Schema keySchema) {
+            this.topic = topic;
+            this.rowSchema = rowSchema;
+            this.keySchema = keySchema;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final BatchKey that = (BatchKey) o;
+            return Objects.equals(topic, that.topic) && rowSchema == that.rowSchema && keySchema == that.keySchema;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(topic, System.identityHashCode(rowSchema), System.identityHashCode(keySchema));
+        }
+    }
+
+    private static final class ArrayColumn implements Column {
+        private final String name;
+        private final Type type;
+        private final Object values;
+        private final BitSet nulls;
+
+        ArrayColumn(String name, Type type, Object values, BitSet nulls) {
+            this.name = name;
+            this.type = type;
+            this.values = values;
+            this.nulls = nulls;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public Type type() {
+            return type;
+        }
+
+        @Override
+        public Object values() {
+            return values;
+        }
+
+        @Override
+        public boolean isNull(int row) {
+            return nulls.get(row);
+        }
+
+        @Override
+        public Object get(int row) {
+            return isNull(row) ? null : Array.get(values, row);
+        }
+
+        @Override
+        public String toString() {
+            return name + " " + type;
+        }
+    }
+}
@@ -65,14 +65,18 @@
 import io.debezium.embedded.ConverterBuilder;
 import io.debezium.embedded.DebeziumEngineCommon;
 import io.debezium.embedded.EmbeddedEngineChangeEvent;
+import io.debezium.embedded.EmbeddedEngineColumnarBatch;
 import io.debezium.embedded.EmbeddedEngineConfig;
 import io.debezium.embedded.EmbeddedEngineSignaler;
 import io.debezium.embedded.EmbeddedWorkerConfig;
 import io.debezium.embedded.KafkaConnectUtil;
 import io.debezium.embedded.Transformations;
+import io.debezium.engine.ColumnarBatch;
 import io.debezium.engine.DebeziumEngine;
+import io.debezium.engine.RecordChangeEvent;
 import io.debezium.engine.StopEngineException;
 import io.debezium.engine.format.ChangeEventFormat;
+import io.debezium.engine.format.Columnar;
 import io.debezium.engine.format.KeyValueChangeEventFormat;
 import io.debezium.engine.format.KeyValueHeaderChangeEventFormat;
 import io.debezium.engine.source.DebeziumSourceConnectorContext;
@@ -110,6 +114,7 @@
     private final HeaderConverter headerConverter;
     private final Function<SourceRecord, R> recordConverter;
     private final Function<R, SourceRecord> sourceConverter;
+    private final boolean columnarOutput;
 
     private final AtomicReference<State> state = new AtomicReference<>(State.CREATING); // state must be changed only via setEngineState() method
     private final List<EngineSourceTask> tasks = new ArrayList<>();
@@ -129,7 +134,8 @@ private AsyncEmbeddedEngine(Properties config,
                                 ConnectorCallback connectorCallback,
                                 OffsetCommitPolicy offsetCommitPolicy,
                                 HeaderConverter headerConverter,
-                                Function<SourceRecord, R> recordConverter) {
+                                Function<SourceRecord, R> recordConverter,
+                                boolean columnarOutput) {
 
         this.config = Configuration.from(Objects.requireNonNull(config, "A connector configuration must be specified."));
         this.consumer = consumer;
@@ -141,11 +147,15 @@ private AsyncEmbeddedEngine(Properties config,
         this.headerConverter = headerConverter;
         this.recordConverter = recordConverter;
         this.sourceConverter = (record) -> ((EmbeddedEngineChangeEvent<?, ?, ?>) record).sourceRecord();
+        this.columnarOutput = columnarOutput;
 
         // Ensure either user ChangeConsumer or Consumer is provided and validate supported records ordering is provided when relevant.
         if (this.handler == null & this.consumer == null) {
             throw new DebeziumException("Either java.util.function.Consumer or DebeziumEngine.ChangeConsumer must be specified.");
         }
+        if (this.columnarOutput && this.handler == null) {
+            throw new DebeziumException("DebeziumEngine.ChangeConsumer must be specified for the " + Columnar.class.getSimpleName() + " format.");
+        }
         if (this.handler == null && RecordProcessingOrder.parse(this.config.getString(AsyncEngineConfig.RECORD_PROCESSING_ORDER)) == null) {
             throw new DebeziumException(
                     String.format("'%s' is not a valid 'record.processing.order' options", this.config.getString(AsyncEngineConfig.RECORD_PROCESSING_ORDER)));
@@ -526,6 +536,11 @@ private void runTasksPolling(final List<EngineSourceTask> tasks)
      * @return Name of the class which should be used for creating {@link RecordProcessor} instances.
      */
     private String selectRecordProcessor() {
+        // Columnar batches are always passed to the change consumer.
+        if (columnarOutput) {
+            LOGGER.info("Using {} processor", ParallelSmtColumnarBatchProcessor.class.getName());
+            return ParallelSmtColumnarBatchProcessor.class.getName();
+        }
         // If the change consumer is provided, it has precedence over the consumer.
         if (handler != null && recordConverter == null) {
             LOGGER.info("Using {} processor", ParallelSmtBatchProcessor.class.getName());
@@ -564,6 +579,10 @@ private String selectRecordProcessor() {
      * @return {@link RecordProcessor} instance which will be used for processing the records.
      */
     private RecordProcessor createRecordProcessor(String processorClassName, EngineSourceTask task) {
+        if (ParallelSmtColumnarBatchProcessor.class.getName().equals(processorClassName)) {
+            return new ParallelSmtColumnarBatchProcessor(new ColumnarBatchCommitter(task),
+                    (DebeziumEngine.ChangeConsumer<RecordChangeEvent<ColumnarBatch>>) handler);
+        }
         if (ParallelSmtBatchProcessor.class.getName().equals(processorClassName)) {
             return new ParallelSmtBatchProcessor(new SourceRecordCommitter(task), (DebeziumEngine.ChangeConsumer<SourceRecord>) handler);
         }
@@ -890,13 +909,16 @@ public Signaler getSignaler() {
         private HeaderConverter headerConverter;
         private Function<SourceRecord, R> recordConverter;
         private ConverterBuilder converterBuilder;
+        private boolean columnarOutput;
 
         AsyncEngineBuilder() {
             this((KeyValueHeaderChangeEventFormat<?, ?, ?>) null);
         }
 
         AsyncEngineBuilder(ChangeEventFormat<?> format) {
-            this(KeyValueHeaderChangeEventFormat.of(null, format.getValueFormat(), null));
+            // Columnar batches are built directly from the records, without any converter
+            this(isColumnar(format) ? null : KeyValueHeaderChangeEventFormat.of(null, format.getValueFormat(), null));
+            this.columnarOutput = isColumnar(format);
         }
 
         AsyncEngineBuilder(KeyValueChangeEventFormat<?, ?> format) {
@@ -911,8 +933,15 @@ public Signaler getSignaler() {
             }
         }
 
+        private static boolean isColumnar(ChangeEventFormat<?> format) {
+            return Columnar.class.equals(format.getValueFormat());
+        }
+
         @Override
         public Builder<R> notifying(final Consumer<R> consumer) {
+            if (columnarOutput) {
+                throw new DebeziumException("The " + Columnar.class.getSimpleName() + " format requires DebeziumEngine.ChangeConsumer.");
+            }
             this.consumer = consumer;
             if (config.contains(AsyncEngineConfig.RECORD_PROCESSING_WITH_SERIAL_CONSUMER.name())
                     && config.getProperty(AsyncEngineConfig.RECORD_PROCESSING_WITH_SERIAL_CONSUMER.name()).equalsIgnoreCase("true")) {
@@ -982,7 +1011,7 @@ public DebeziumEngine<R> build() {
                 recordConverter = converterBuilder.toFormat(headerConverter);
             }
             return new AsyncEmbeddedEngine(config, consumer, handler, classLoader, clock, completionCallback, connectorCallback, offsetCommitPolicy, headerConverter,
-                    recordConverter);
+                    recordConverter, columnarOutput);
         }
     }
 
@@ -1266,9 +1295,15 @@ private static class SourceRecordCommitter implements DebeziumEngine.RecordCommi
 
         @Override
         public void markProcessed(SourceRecord record) throws InterruptedException {
+            markProcessed(record, true);
+        }
+
+        void markProcessed(SourceRecord record, boolean storeOffset) throws InterruptedException {
             task.commitRecord(record, null);
             recordsSinceLastCommit += 1;
-            offsetWriter.offset(record.sourcePartition(), record.sourceOffset());
+            if (storeOffset) {
+                offsetWriter.offset(record.sourcePartition(), record.sourceOffset());
+            }
         }
 
         @Override
@@ -1334,4 +1369,50 @@ public DebeziumEngine.Offsets buildOffsets() {
             return delegate.buildOffsets();
         }
     }
+
+    /**
+     * Implementation of {@link DebeziumEngine.RecordCommitter} which marks all the {@link SourceRecord}s of a columnar batch as processed.
+     * Only the offsets of the last polled records of each source partition are stored, so the batches can be marked in any order.
+     * The implementation is not thread safe and the caller has to ensure it's used in thread safe manner.
+     */
+    private static class ColumnarBatchCommitter implements DebeziumEngine.RecordCommitter<RecordChangeEvent<ColumnarBatch>> {
+
+        private final SourceRecordCommitter delegate;
+
+        ColumnarBatchCommitter(final EngineSourceTask task) {
+            this.delegate = new SourceRecordCommitter(task);
+        }
+
+        @Override
+        public void markProcessed(RecordChangeEvent<ColumnarBatch> record) throws InterruptedException {
+            final EmbeddedEngineColumnarBatch batch = (EmbeddedEngineColumnarBatch) record;
+            final List<SourceRecord> sourceRecords = batch.sourceRecords();
+            for (int row = 0; row < sourceRecords.size(); row++) {
+                delegate.markProcessed(sourceRecords.get(row), batch.isLastOfSourcePartition(row));
+            }
+        }
+
+        @Override
+        public void markBatchFinished() throws InterruptedException {
+            delegate.markBatchFinished();
+        }
+
+        @Override
+        public void markProcessed(RecordChangeEvent<ColumnarBatch> record, DebeziumEngine.Offsets sourceOffsets) throws InterruptedException {
+            // The provided offsets replace the offsets of the last record of the batch
+            final EmbeddedEngineColumnarBatch batch = (EmbeddedEngineColumnarBatch) record;
+            final List<SourceRecord> sourceRecords = batch.sourceRecords();
+            for (int row = 0; row < sourceRecords.size() - 1; row++) {
+                delegate.markProcessed(sourceRecords.get(row), batch.isLastOfSourcePartition(row));
+            }
+            if (!sourceRecords.isEmpty()) {
+                delegate.markProcessed(sourceRecords.get(sourceRecords.size() - 1), sourceOffsets);
+            }
+        }
+
+        @Override
+        public DebeziumEngine.Offsets buildOffsets() {
+            return delegate.buildOffsets();
+        }
+    }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.embedded.async;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import org.apache.kafka.connect.source.SourceRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.embedded.EmbeddedEngineColumnarBatch;
+import io.debezium.engine.ColumnarBatch;
+import io.debezium.engine.DebeziumEngine;
+import io.debezium.engine.RecordChangeEvent;
+
+/**
+ * {@link RecordProcessor} which runs transformations of the records in parallel, lays out the transformed records by columns
+ * and then passes the resulting batches to the user-provided handler.
+ * This processor is used when user provides its own {@link DebeziumEngine.ChangeConsumer} for the {@link io.debezium.engine.format.Columnar} format.
+ */
+public class ParallelSmtColumnarBatchProcessor extends AbstractRecordProcessor<RecordChangeEvent<ColumnarBatch>> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelSmtColumnarBatchProcessor.class);
+
+    final DebeziumEngine.RecordCommitter<RecordChangeEvent<ColumnarBatch>> committer;
+    final DebeziumEngine.ChangeConsumer<RecordChangeEvent<ColumnarBatch>> userHandler;
+
+    ParallelSmtColumnarBatchProcessor(final DebeziumEngine.RecordCommitter<RecordChangeEvent<ColumnarBatch>> committer,
+                                      final DebeziumEngine.ChangeConsumer<RecordChangeEvent<ColumnarBatch>> userHandler) {
+        this.committer = committer;
+        this.userHandler = userHandler;
+    }
+
+    @Override
+    public void processRecords(final List<SourceRecord> records) throws Exception {
+        LOGGER.debug("Thread {} is submitting {} records for processing.", Thread.currentThread().getName(), records.size());
+        final List<Future<SourceRecord>> recordFutures = new ArrayList<>(records.size());
+        records.stream().forEachOrdered(r -> recordFutures.add(recordService.submit(new ProcessingCallables.TransformRecord(r, transformations))));
+
+        LOGGER.trace("Thread {} is getting source records.", Thread.currentThread().getName());
+        final List<SourceRecord> transformedRecords = new ArrayList<>(recordFutures.size());
+        for (Future<SourceRecord> f : recordFutures) {
+            SourceRecord record = f.get(); // we need the whole batch, eventually wait forever
+            if (record != null) {
+                transformedRecords.add(record);
+            }
+        }
+
+        LOGGER.trace("Building columnar batches.");
+        final List<RecordChangeEvent<ColumnarBatch>> batches = new ArrayList<>(EmbeddedEngineColumnarBatch.fromRecords(transformedRecords));
+
+        LOGGER.trace("Calling user handler.");
+        userHandler.handleBatch(batches, committer);
+    }
+}
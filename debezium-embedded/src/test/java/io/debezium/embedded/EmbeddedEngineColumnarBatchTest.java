@@ -0,0 +1,171 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.embedded;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Test;
+
+import io.debezium.data.Envelope;
+import io.debezium.engine.ColumnarBatch;
+
+public class EmbeddedEngineColumnarBatchTest {
+
+    private static final Schema KEY_SCHEMA = SchemaBuilder.struct().name("server.db.a.Key").field("id", Schema.INT32_SCHEMA).build();
+    private static final Schema ROW_SCHEMA = SchemaBuilder.struct()
+            .name("server.db.a.Value")
+            .field("id", Schema.INT32_SCHEMA)
+            .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+            .field("amount", Decimal.builder(2).optional().build())
+            .field("flag", Schema.OPTIONAL_BOOLEAN_SCHEMA)
+            .optional()
+            .build();
+    private static final Schema SOURCE_SCHEMA = SchemaBuilder.struct().name("source").field("db", Schema.STRING_SCHEMA).build();
+    private static final Envelope ENVELOPE = Envelope.defineSchema()
+            .withName("server.db.a.Envelope")
+            .withRecord(ROW_SCHEMA)
+            .withSource(SOURCE_SCHEMA)
+            .build();
+    private static final Schema OTHER_SCHEMA = SchemaBuilder.struct().name("server.db.b.Value").field("code", Schema.INT64_SCHEMA).build();
+
+    private static final Map<String, ?> PARTITION = Collections.singletonMap("server", "server");
+    private static final Map<String, ?> OTHER_PARTITION = Collections.singletonMap("server", "other");
+
+    @Test
+    public void shouldGroupRecordsByDestinationAndStructure() {
+        final List<EmbeddedEngineColumnarBatch> batches = EmbeddedEngineColumnarBatch.fromRecords(Arrays.asList(
+                change("server.db.a", 1, "one", Envelope.Operation.CREATE),
+                plain("server.db.b", 10L),
+                change("server.db.a", 2, null, Envelope.Operation.UPDATE),
+                change("server.db.a", 3, "three", Envelope.Operation.DELETE)));
+
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(0).destination()).isEqualTo("server.db.a");
+        assertThat(batches.get(0).size()).isEqualTo(3);
+        assertThat(batches.get(0).sourceRecords()).extracting(SourceRecord::topic).containsOnly("server.db.a");
+        assertThat(batches.get(1).destination()).isEqualTo("server.db.b");
+        assertThat(batches.get(1).size()).isEqualTo(1);
+        assertThat(batches.get(1).record()).isSameAs(batches.get(1));
+    }
+
+    @Test
+    public void shouldLayOutRowsByColumns() {
+        final ColumnarBatch batch = EmbeddedEngineColumnarBatch.fromRecords(Arrays.asList(
+                change("server.db.a", 1, "one", Envelope.Operation.CREATE),
+                change("server.db.a", 2, null, Envelope.Operation.UPDATE),
+                change("server.db.a", 3, "three", Envelope.Operation.DELETE))).get(0);
+
+        assertThat(batch.columns()).extracting(ColumnarBatch.Column::name).containsExactly("id", "name", "amount", "flag");
+        assertThat(batch.column("id").type()).isEqualTo(ColumnarBatch.Type.INT32);
+        assertThat((int[]) batch.column("id").values()).containsExactly(1, 2, 3);
+        assertThat(batch.column("name").type()).isEqualTo(ColumnarBatch.Type.STRING);
+        assertThat((String[]) batch.column("name").values()).containsExactly("one", null, "three");
+        assertThat(batch.column("name").isNull(1)).isTrue();
+        assertThat(batch.column("amount").type()).isEqualTo(ColumnarBatch.Type.OBJECT);
+        assertThat(batch.column("amount").get(0)).isEqualTo(new BigDecimal("1.00"));
+        assertThat(batch.column("flag").type()).isEqualTo(ColumnarBatch.Type.BOOLEAN);
+        assertThat(batch.column("flag").isNull(0)).isTrue();
+        assertThat(batch.column("flag").get(0)).isNull();
+        assertThat(batch.column("missing")).isNull();
+
+        assertThat(batch.operation(0)).isEqualTo("c");
+        assertThat(batch.operation(1)).isEqualTo("u");
+        // deletes carry the before image
+        assertThat(batch.operation(2)).isEqualTo("d");
+        assertThat(batch.column("id").get(2)).isEqualTo(3);
+
+        assertThat(batch.keyColumns()).extracting(ColumnarBatch.Column::name).containsExactly("id");
+        assertThat((int[]) batch.keyColumns().get(0).values()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void shouldUsePlainValuesAsRows() {
+        final ColumnarBatch batch = EmbeddedEngineColumnarBatch.fromRecords(Arrays.asList(
+                plain("server.db.b", 10L),
+                plain("server.db.b", 20L))).get(0);
+
+        assertThat(batch.operation(0)).isNull();
+        assertThat(batch.column("code").type()).isEqualTo(ColumnarBatch.Type.INT64);
+        assertThat((long[]) batch.column("code").values()).containsExactly(10L, 20L);
+        assertThat(batch.keyColumns()).isEmpty();
+    }
+
+    @Test
+    public void shouldKeepTombstonesInSeparateBatch() {
+        final SourceRecord tombstone = new SourceRecord(PARTITION, offset(5), "server.db.a", null, KEY_SCHEMA, key(1), null, null);
+        final List<EmbeddedEngineColumnarBatch> batches = EmbeddedEngineColumnarBatch.fromRecords(Arrays.asList(
+                change("server.db.a", 1, "one", Envelope.Operation.DELETE),
+                tombstone));
+
+        assertThat(batches).hasSize(2);
+        final ColumnarBatch tombstones = batches.get(1);
+        assertThat(tombstones.size()).isEqualTo(1);
+        assertThat(tombstones.columns()).isEmpty();
+        assertThat(tombstones.operation(0)).isNull();
+        assertThat(tombstones.keyColumns().get(0).get(0)).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldMarkLastRecordOfEverySourcePartition() {
+        final SourceRecord other = new SourceRecord(OTHER_PARTITION, offset(1), "server.db.b", OTHER_SCHEMA, new Struct(OTHER_SCHEMA).put("code", 1L));
+        final List<EmbeddedEngineColumnarBatch> batches = EmbeddedEngineColumnarBatch.fromRecords(Arrays.asList(
+                change("server.db.a", 1, "one", Envelope.Operation.CREATE),
+                plain("server.db.b", 10L),
+                other,
+                change("server.db.a", 2, "two", Envelope.Operation.CREATE)));
+
+        final EmbeddedEngineColumnarBatch first = batches.get(0);
+        assertThat(first.isLastOfSourcePartition(0)).isFalse();
+        assertThat(first.isLastOfSourcePartition(1)).isTrue();
+        final EmbeddedEngineColumnarBatch second = batches.get(1);
+        assertThat(second.isLastOfSourcePartition(0)).isFalse();
+        assertThat(second.isLastOfSourcePartition(1)).isTrue();
+    }
+
+    private static SourceRecord change(String topic, int id, String name, Envelope.Operation operation) {
+        final Struct row = new Struct(ROW_SCHEMA)
+                .put("id", id)
+                .put("name", name)
+                .put("amount", new BigDecimal(id).setScale(2));
+        final Struct source = new Struct(SOURCE_SCHEMA).put("db", "db");
+        final Struct value;
+        switch (operation) {
+            case CREATE:
+                value = ENVELOPE.create(row, source, Instant.now());
+                break;
+            case UPDATE:
+                value = ENVELOPE.update(row, row, source, Instant.now());
+                break;
+            default:
+                value = ENVELOPE.delete(row, source, Instant.now());
+        }
+        return new SourceRecord(PARTITION, offset(id), topic, null, KEY_SCHEMA, key(id), ENVELOPE.schema(), value);
+    }
+
+    private static SourceRecord plain(String topic, long code) {
+        return new SourceRecord(PARTITION, offset(code), topic, OTHER_SCHEMA, new Struct(OTHER_SCHEMA).put("code", code));
+    }
+
+    private static Struct key(int id) {
+        return new Struct(KEY_SCHEMA).put("id", id);
+    }
+
+    private static Map<String, ?> offset(long position) {
+        return Collections.singletonMap("position", position);
+    }
+}
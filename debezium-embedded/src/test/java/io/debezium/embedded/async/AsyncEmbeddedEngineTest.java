@@ -6,6 +6,7 @@
 package io.debezium.embedded.async;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.File;
 import java.io.IOException;
@@ -52,8 +53,12 @@
 import io.debezium.embedded.EmbeddedEngineHeader;
 import io.debezium.embedded.KafkaConnectUtil;
 import io.debezium.engine.ChangeEvent;
+import io.debezium.engine.ColumnarBatch;
 import io.debezium.engine.DebeziumEngine;
+import io.debezium.engine.RecordChangeEvent;
 import io.debezium.engine.StopEngineException;
+import io.debezium.engine.format.ChangeEventFormat;
+import io.debezium.engine.format.Columnar;
 import io.debezium.engine.format.Json;
 import io.debezium.engine.format.KeyValueHeaderChangeEventFormat;
 import io.debezium.junit.logging.LogInterceptor;
@@ -826,6 +831,49 @@ public void testDefaultBuilderFactory() throws Exception {
         engine.close();
     }
 
+    @Test
+    public void testColumnarBatches() throws Exception {
+        final Properties props = new Properties();
+        props.setProperty(ConnectorConfig.NAME_CONFIG, "debezium-engine");
+        props.setProperty(ConnectorConfig.TASKS_MAX_CONFIG, "1");
+        props.setProperty(ConnectorConfig.CONNECTOR_CLASS_CONFIG, FileStreamSourceConnector.class.getName());
+        props.setProperty(StandaloneConfig.OFFSET_STORAGE_FILE_FILENAME_CONFIG, OFFSET_STORE_PATH.toAbsolutePath().toString());
+        props.setProperty(WorkerConfig.OFFSET_COMMIT_INTERVAL_MS_CONFIG, "0");
+        props.setProperty(FileStreamSourceConnector.FILE_CONFIG, TEST_FILE_PATH.toAbsolutePath().toString());
+        props.setProperty(FileStreamSourceConnector.TOPIC_CONFIG, "testTopic");
+
+        final DebeziumEngine.Builder<RecordChangeEvent<ColumnarBatch>> builder = DebeziumEngine.create(ChangeEventFormat.of(Columnar.class));
+        assertThatThrownBy(() -> builder.notifying(record -> {
+        })).isInstanceOf(DebeziumException.class);
+
+        appendLinesToSource(NUMBER_OF_LINES);
+        CountDownLatch recordsLatch = new CountDownLatch(NUMBER_OF_LINES);
+
+        DebeziumEngine<RecordChangeEvent<ColumnarBatch>> engine = builder
+                .using(props)
+                .using(new TestEngineConnectorCallback())
+                .notifying((batches, committer) -> {
+                    for (RecordChangeEvent<ColumnarBatch> batch : batches) {
+                        assertThat(batch.record().destination()).isEqualTo("testTopic");
+                        for (int i = 0; i < batch.record().size(); i++) {
+                            recordsLatch.countDown();
+                        }
+                        committer.markProcessed(batch);
+                    }
+                    committer.markBatchFinished();
+                }).build();
+
+        engineExecSrv.submit(() -> {
+            LoggingContext.forConnector(getClass().getSimpleName(), "", "engine");
+            engine.run();
+        });
+
+        recordsLatch.await(AbstractConnectorTest.waitTimeForEngine(), TimeUnit.SECONDS);
+        assertThat(recordsLatch.getCount()).isEqualTo(0);
+
+        engine.close();
+    }
+
     @Test
     @FixFor("DBZ-8434")
     public void testSmtReturnsNullToProcessor() throws Exception {
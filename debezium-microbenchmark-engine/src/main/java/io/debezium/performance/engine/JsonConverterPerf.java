@@ -0,0 +1,111 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.engine;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.json.JsonConverter;
+import org.apache.kafka.connect.storage.Converter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.debezium.converters.StreamingJsonConverter;
+import io.debezium.data.Envelope;
+import io.debezium.util.Collect;
+
+/**
+ * JMH benchmark comparing the conversion of change events to JSON by Kafka Connect's {@link JsonConverter}
+ * and by {@link StreamingJsonConverter}, which the engine uses for its JSON formats.
+ */
+public class JsonConverterPerf {
+
+    @State(Scope.Thread)
+    public static class ConverterState {
+
+        @Param({ "10", "100" })
+        public int columns;
+
+        @Param({ "true", "false" })
+        public boolean schemasEnable;
+
+        public Converter jsonConverter;
+        public Converter streamingJsonConverter;
+        public Schema schema;
+        public Struct value;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            final SchemaBuilder recordSchemaBuilder = SchemaBuilder.struct().name("server.db.table.Value").optional();
+            for (int i = 0; i < columns; i++) {
+                recordSchemaBuilder.field("col" + i, i % 2 == 0 ? Schema.OPTIONAL_INT64_SCHEMA : Schema.OPTIONAL_STRING_SCHEMA);
+            }
+            final Schema recordSchema = recordSchemaBuilder.build();
+            final Schema sourceSchema = SchemaBuilder.struct()
+                    .name("source")
+                    .field("db", Schema.STRING_SCHEMA)
+                    .field("table", Schema.STRING_SCHEMA)
+                    .field("lsn", Schema.INT64_SCHEMA)
+                    .build();
+            final Envelope envelope = Envelope.defineSchema()
+                    .withName("server.db.table.Envelope")
+                    .withRecord(recordSchema)
+                    .withSource(sourceSchema)
+                    .build();
+
+            final Struct after = new Struct(recordSchema);
+            for (int i = 0; i < columns; i++) {
+                after.put("col" + i, i % 2 == 0 ? (Object) (long) i : "value" + i);
+            }
+            final Struct source = new Struct(sourceSchema)
+                    .put("db", "db")
+                    .put("table", "table")
+                    .put("lsn", 1234L);
+            schema = envelope.schema();
+            value = envelope.create(after, source, Instant.now());
+
+            final Map<String, String> config = Collect.hashMapOf("schemas.enable", String.valueOf(schemasEnable));
+            jsonConverter = new JsonConverter();
+            jsonConverter.configure(config, false);
+            streamingJsonConverter = new StreamingJsonConverter();
+            streamingJsonConverter.configure(config, false);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public byte[] jsonConverter(ConverterState state) {
+        return state.jsonConverter.fromConnectData("server.db.table", state.schema, state.value);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public byte[] streamingJsonConverter(ConverterState state) {
+        return state.streamingJsonConverter.fromConnectData("server.db.table", state.schema, state.value);
+    }
+}
@@ -35,6 +35,18 @@
 
 public class ChangeEventQueuePerf {
 
+    private static ChangeEventQueue<DataChangeEvent> createQueue(long pollIntervalMillis, String queueImplementation) {
+        final ChangeEventQueue.Builder<DataChangeEvent> builder = new ChangeEventQueue.Builder<DataChangeEvent>()
+                .pollInterval(Duration.ofMillis(pollIntervalMillis))
+                .maxQueueSize(DEFAULT_MAX_QUEUE_SIZE).maxBatchSize(DEFAULT_MAX_BATCH_SIZE)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
+                .maxQueueSizeInBytes(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES);
+        if ("ring_buffer".equals(queueImplementation)) {
+            builder.ringBuffer();
+        }
+        return builder.build();
+    }
+
     @Fork(1)
     @State(Scope.Thread)
     @Warmup(iterations = 2, time = 5)
@@ -49,16 +61,15 @@ public static class ProducerPerf {
         @Param({ "10", "50", "500" })
         private long pollIntervalMillis;
 
+        @Param({ "lock", "ring_buffer" })
+        private String queueImplementation;
+
         private ChangeEventQueue<DataChangeEvent> changeEventQueue;
         private Thread consumer;
 
         @Setup(Level.Trial)
         public void setup() {
-            changeEventQueue = new ChangeEventQueue.Builder<DataChangeEvent>()
-                    .pollInterval(Duration.ofMillis(pollIntervalMillis))
-                    .maxQueueSize(DEFAULT_MAX_QUEUE_SIZE).maxBatchSize(DEFAULT_MAX_BATCH_SIZE)
-                    .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
-                    .maxQueueSizeInBytes(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES).build();
+            changeEventQueue = createQueue(pollIntervalMillis, queueImplementation);
             consumer = new Thread(() -> {
                 try {
                     while (true) {
@@ -98,16 +109,15 @@ public static class ConsumerPerf {
         @Param({ "10", "50", "500" })
         private long pollIntervalMillis;
 
+        @Param({ "lock", "ring_buffer" })
+        private String queueImplementation;
+
         private ChangeEventQueue<DataChangeEvent> changeEventQueue;
         private Thread producer;
 
         @Setup(Level.Trial)
         public void setup() {
-            changeEventQueue = new ChangeEventQueue.Builder<DataChangeEvent>()
-                    .pollInterval(Duration.ofMillis(pollIntervalMillis))
-                    .maxQueueSize(DEFAULT_MAX_QUEUE_SIZE).maxBatchSize(DEFAULT_MAX_BATCH_SIZE)
-                    .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
-                    .maxQueueSizeInBytes(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES).build();
+            changeEventQueue = createQueue(pollIntervalMillis, queueImplementation);
             producer = new Thread(() -> {
                 try {
                     for (;;) {
@@ -148,17 +158,16 @@ public static class QueuePerf {
         @Param({ "10", "50", "500" })
         long pollIntervalMillis;
 
+        @Param({ "lock", "ring_buffer" })
+        String queueImplementation;
+
         private ChangeEventQueue<DataChangeEvent> changeEventQueue;
         private Thread producer;
         private Thread consumer;
 
         @Setup(Level.Trial)
         public void setupInvocation() {
-            changeEventQueue = new ChangeEventQueue.Builder<DataChangeEvent>()
-                    .pollInterval(Duration.ofMillis(pollIntervalMillis))
-                    .maxQueueSize(DEFAULT_MAX_QUEUE_SIZE).maxBatchSize(DEFAULT_MAX_BATCH_SIZE)
-                    .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
-                    .maxQueueSizeInBytes(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES).build();
+            changeEventQueue = createQueue(pollIntervalMillis, queueImplementation);
         }
 
         @Setup(Level.Invocation)
@@ -222,17 +231,16 @@ public static class MultiWriterQueuePerf {
         @Param({ "10", "50", "500" })
         long pollIntervalMillis;
 
+        @Param({ "lock", "ring_buffer" })
+        String queueImplementation;
+
         private ChangeEventQueue<DataChangeEvent> changeEventQueue;
         private Thread[] producers;
         private Thread consumer;
 
         @Setup(Level.Trial)
         public void setupInvocation() {
-            changeEventQueue = new ChangeEventQueue.Builder<DataChangeEvent>()
-                    .pollInterval(Duration.ofMillis(pollIntervalMillis))
-                    .maxQueueSize(DEFAULT_MAX_QUEUE_SIZE).maxBatchSize(DEFAULT_MAX_BATCH_SIZE)
-                    .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
-                    .maxQueueSizeInBytes(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES).build();
+            changeEventQueue = createQueue(pollIntervalMillis, queueImplementation);
         }
 
         @Setup(Level.Invocation)
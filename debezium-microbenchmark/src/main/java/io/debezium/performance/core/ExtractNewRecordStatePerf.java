@@ -0,0 +1,123 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.core;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.apache.kafka.connect.transforms.Transformation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.debezium.data.Envelope;
+import io.debezium.transforms.ExtractNewRecordState;
+import io.debezium.util.Collect;
+
+/**
+ * Measures the cost of unwrapping change events with {@link ExtractNewRecordState}, with and without
+ * additional fields and headers.
+ */
+public class ExtractNewRecordStatePerf {
+
+    @State(Scope.Thread)
+    public static class TransformState {
+
+        @Param({ "10", "100" })
+        public int columns;
+
+        public Transformation<SourceRecord> unwrap;
+        public Transformation<SourceRecord> unwrapWithFields;
+        public Transformation<SourceRecord> unwrapWithHeaders;
+        public SourceRecord create;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            final SchemaBuilder recordSchemaBuilder = SchemaBuilder.struct().name("server.db.table.Value");
+            for (int i = 0; i < columns; i++) {
+                recordSchemaBuilder.field("col" + i, i % 2 == 0 ? Schema.OPTIONAL_INT64_SCHEMA : Schema.OPTIONAL_STRING_SCHEMA);
+            }
+            final Schema recordSchema = recordSchemaBuilder.build();
+            final Schema sourceSchema = SchemaBuilder.struct()
+                    .name("source")
+                    .field("db", Schema.STRING_SCHEMA)
+                    .field("table", Schema.STRING_SCHEMA)
+                    .field("lsn", Schema.INT64_SCHEMA)
+                    .build();
+            final Envelope envelope = Envelope.defineSchema()
+                    .withName("server.db.table.Envelope")
+                    .withRecord(recordSchema)
+                    .withSource(sourceSchema)
+                    .build();
+
+            final Struct after = new Struct(recordSchema);
+            for (int i = 0; i < columns; i++) {
+                after.put("col" + i, i % 2 == 0 ? (Object) (long) i : "value" + i);
+            }
+            final Struct source = new Struct(sourceSchema)
+                    .put("db", "db")
+                    .put("table", "table")
+                    .put("lsn", 1234L);
+            final Struct value = envelope.create(after, source, Instant.now());
+            create = new SourceRecord(new HashMap<>(), new HashMap<>(), "server.db.table", 0, envelope.schema(), value);
+
+            unwrap = new ExtractNewRecordState<>();
+            unwrap.configure(new HashMap<>());
+
+            unwrapWithFields = new ExtractNewRecordState<>();
+            unwrapWithFields.configure(Collect.hashMapOf("add.fields", "op,table,lsn,source.ts_ms"));
+
+            unwrapWithHeaders = new ExtractNewRecordState<>();
+            unwrapWithHeaders.configure(Collect.hashMapOf("add.headers", "op,table,lsn,source.ts_ms"));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public SourceRecord unwrap(TransformState state) {
+        return state.unwrap.apply(state.create);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public SourceRecord unwrapWithFields(TransformState state) {
+        return state.unwrapWithFields.apply(state.create);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public SourceRecord unwrapWithHeaders(TransformState state) {
+        // The headers are added to the original record, so use a fresh copy for every invocation
+        return state.unwrapWithHeaders.apply(state.create.newRecord(state.create.topic(), state.create.kafkaPartition(),
+                state.create.keySchema(), state.create.key(), state.create.valueSchema(), state.create.value(), state.create.timestamp()));
+    }
+}
@@ -8,18 +8,23 @@
 import java.io.IOException;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.AdminClientConfig;
@@ -59,6 +64,7 @@
 import io.debezium.config.Field;
 import io.debezium.config.Field.Validator;
 import io.debezium.document.DocumentReader;
+import io.debezium.function.BlockingConsumer;
 import io.debezium.relational.HistorizedRelationalDatabaseConnectorConfig;
 import io.debezium.relational.history.AbstractSchemaHistory;
 import io.debezium.relational.history.HistoryRecord;
@@ -178,6 +184,16 @@ public class KafkaSchemaHistory extends AbstractSchemaHistory {
      */
     private static final Integer PARTITION = 0;
 
+    /**
+     * The number of polled batches of records that may be parsed ahead of the recovery.
+     */
+    private static final int RECOVERY_PARSE_AHEAD_BATCHES = 16;
+
+    /**
+     * The number of records read at once when the history topic is read from the end towards the beginning.
+     */
+    private static final int RECOVERY_NEWEST_FIRST_BATCH_SIZE = 1_000;
+
     private final DocumentReader reader = DocumentReader.defaultReader();
     private String topicName;
     private Configuration consumerConfig;
@@ -186,6 +202,8 @@ public class KafkaSchemaHistory extends AbstractSchemaHistory {
     private int maxRecoveryAttempts;
     private Duration pollInterval;
     private ExecutorService checkTopicSettingsExecutor;
+    private Class<?> recoveryThreadComponent;
+    private String recoveryThreadComponentId;
     private Duration kafkaQueryTimeout;
     private Duration kafkaCreateTimeout;
 
@@ -252,6 +270,8 @@ public void configure(Configuration config, HistoryRecordComparator comparator,
 
         try {
             final String connectorClassname = config.getString(INTERNAL_CONNECTOR_CLASS);
+            this.recoveryThreadComponent = connectorClassname != null ? Class.forName(connectorClassname) : KafkaSchemaHistory.class;
+            this.recoveryThreadComponentId = connectorClassname != null ? config.getString(INTERNAL_CONNECTOR_ID) : dbHistoryName;
             if (connectorClassname != null) {
                 checkTopicSettingsExecutor = Threads.newSingleThreadExecutor((Class<? extends SourceConnector>) Class.forName(connectorClassname),
                         config.getString(INTERNAL_CONNECTOR_ID), "db-history-config-check", true);
@@ -305,83 +325,165 @@ private void checkForInterruption() throws InterruptedException {
 
     @Override
     protected void recoverRecords(Consumer<HistoryRecord> records) throws InterruptedException {
-        try (KafkaConsumer<String, String> historyConsumer = new KafkaConsumer<>(consumerConfig.asProperties())) {
-            // Subscribe to the only partition for this topic, and seek to the beginning of that partition ...
-            LOGGER.debug("Subscribing to database schema history topic '{}'", topicName);
-            historyConsumer.subscribe(Collect.arrayListOf(topicName));
-
-            // Read all messages in the topic ...
-            long lastProcessedOffset = UNLIMITED_VALUE;
-            Long endOffset = null;
-            int recoveryAttempts = 0;
-
-            endOffset = getEndOffsetOfDbHistoryTopic(endOffset, historyConsumer);
-            LOGGER.debug("End offset of database schema history topic is {}", endOffset);
-
-            // read the topic until the end
-            do {
-                if (recoveryAttempts > maxRecoveryAttempts) {
-                    throw new IllegalStateException(
-                            "The database schema history couldn't be recovered. Consider to increase the value for " + RECOVERY_POLL_INTERVAL_MS.name());
+        // Records are polled and parsed by a separate thread so that parsing the next records overlaps with
+        // applying the current ones; the end of the recovery is signalled by an empty batch
+        final BlockingQueue<List<HistoryRecord>> batches = new ArrayBlockingQueue<>(RECOVERY_PARSE_AHEAD_BATCHES);
+        final ExecutorService executor = Threads.newSingleThreadExecutor(recoveryThreadComponent, recoveryThreadComponentId, "db-history-recovery");
+        try {
+            final Future<?> reader = executor.submit(() -> {
+                try {
+                    readRecords(batches);
                 }
+                finally {
+                    batches.put(Collections.emptyList());
+                }
+                return null;
+            });
 
-                checkForInterruption();
-                ConsumerRecords<String, String> recoveredRecords = historyConsumer.poll(this.pollInterval);
-                int numRecordsProcessed = 0;
-
-                for (ConsumerRecord<String, String> record : recoveredRecords) {
+            for (List<HistoryRecord> batch = batches.take(); !batch.isEmpty(); batch = batches.take()) {
+                for (HistoryRecord recordObj : batch) {
                     checkForInterruption();
                     try {
-                        if (lastProcessedOffset < record.offset()) {
-                            if (record.value() == null) {
-                                LOGGER.warn("Skipping null database schema history record. " +
-                                        "This is often not an issue, but if it happens repeatedly please check the '{}' topic.", topicName);
-                            }
-                            else {
-                                HistoryRecord recordObj = new HistoryRecord(reader.read(record.value()));
-                                LOGGER.trace("Recovering database schema history: {}", recordObj);
-                                if (recordObj == null || !recordObj.isValid()) {
-                                    LOGGER.warn("Skipping invalid database schema history record '{}'. " +
-                                            "This is often not an issue, but if it happens repeatedly please check the '{}' topic.",
-                                            recordObj, topicName);
-                                }
-                                else {
-                                    records.accept(recordObj);
-                                    LOGGER.trace("Recovered database schema history: {}", recordObj);
-                                }
-                            }
-                            lastProcessedOffset = record.offset();
-                            ++numRecordsProcessed;
-                        }
-                    }
-                    catch (final IOException e) {
-                        Loggings.logErrorAndTraceRecord(LOGGER, record, "Error while deserializing history record", e);
+                        records.accept(recordObj);
                     }
-                    catch (final Exception e) {
-                        Loggings.logErrorAndTraceRecord(LOGGER, record, "Unexpected exception while processing record", e);
+                    catch (final RuntimeException e) {
+                        Loggings.logErrorAndTraceRecord(LOGGER, recordObj, "Unexpected exception while processing record", e);
                         throw e;
                     }
+                    LOGGER.trace("Recovered database schema history: {}", recordObj);
                 }
-                if (numRecordsProcessed == 0) {
-                    LOGGER.debug("No new records found in the database schema history; will retry");
-                    recoveryAttempts++;
-                    endOffset = getEndOffsetOfDbHistoryTopic(endOffset, historyConsumer);
-                }
-                else {
-                    LOGGER.debug("Processed {} records from database schema history", numRecordsProcessed);
-                    recoveryAttempts = 0;
+            }
+            try {
+                reader.get();
+            }
+            catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
                 }
-            } while (lastProcessedOffset < endOffset - 1);
-            // Check if the end offset has changed during the recovery process
-            getEndOffsetOfDbHistoryTopic(endOffset, historyConsumer);
+                throw new SchemaHistoryException(e.getCause());
+            }
         }
         catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw e;
         }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Reads the history topic from the beginning up to the end offset determined before reading,
+     * and passes the parsed records in batches to the recovering thread.
+     */
+    private void readRecords(BlockingQueue<List<HistoryRecord>> batches) throws InterruptedException {
+        try (KafkaConsumer<String, String> historyConsumer = new KafkaConsumer<>(consumerConfig.asProperties())) {
+            // Assign the only partition for this topic, and seek to the beginning of that partition ...
+            LOGGER.debug("Assigning database schema history topic '{}'", topicName);
+            final Set<TopicPartition> historyTopic = Collections.singleton(new TopicPartition(topicName, PARTITION));
+            historyConsumer.assign(historyTopic);
+            historyConsumer.seekToBeginning(historyTopic);
+
+            final long endOffset = getEndOffsetOfDbHistoryTopic(null, historyConsumer);
+            LOGGER.debug("End offset of database schema history topic is {}", endOffset);
+
+            readRecords(historyConsumer, endOffset, batches::put);
+
+            // Check if the end offset has changed during the recovery process
+            getEndOffsetOfDbHistoryTopic(endOffset, historyConsumer);
+        }
+    }
+
+    @Override
+    protected boolean recoverRecordsNewestFirst(Predicate<HistoryRecord> records) throws InterruptedException {
+        try (KafkaConsumer<String, String> historyConsumer = new KafkaConsumer<>(consumerConfig.asProperties())) {
+            final TopicPartition historyPartition = new TopicPartition(topicName, PARTITION);
+            historyConsumer.assign(Collections.singleton(historyPartition));
+
+            final long beginningOffset = historyConsumer.beginningOffsets(Collections.singleton(historyPartition)).get(historyPartition);
+            final long endOffset = getEndOffsetOfDbHistoryTopic(null, historyConsumer);
+            LOGGER.debug("Reading database schema history topic backwards from end offset {}", endOffset);
+
+            // Each batch of records is read forwards, as the consumer cannot poll backwards
+            final List<HistoryRecord> batch = new ArrayList<>(RECOVERY_NEWEST_FIRST_BATCH_SIZE);
+            for (long batchEndOffset = endOffset; batchEndOffset > beginningOffset; batchEndOffset -= RECOVERY_NEWEST_FIRST_BATCH_SIZE) {
+                historyConsumer.seek(historyPartition, Math.max(beginningOffset, batchEndOffset - RECOVERY_NEWEST_FIRST_BATCH_SIZE));
+                batch.clear();
+                readRecords(historyConsumer, batchEndOffset, batch::addAll);
+                for (int i = batch.size() - 1; i >= 0; i--) {
+                    checkForInterruption();
+                    if (!records.test(batch.get(i))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the history topic from the current position of the consumer up to the given offset,
+     * and passes the parsed records in batches to the given consumer.
+     */
+    private void readRecords(KafkaConsumer<String, String> historyConsumer, long endOffset, BlockingConsumer<List<HistoryRecord>> batches)
+            throws InterruptedException {
+        int recoveryAttempts = 0;
+
+        // read the topic until the end
+        while (historyConsumer.position(new TopicPartition(topicName, PARTITION)) < endOffset) {
+            if (recoveryAttempts > maxRecoveryAttempts) {
+                throw new IllegalStateException(
+                        "The database schema history couldn't be recovered. Consider to increase the value for " + RECOVERY_POLL_INTERVAL_MS.name());
+            }
+
+            checkForInterruption();
+            ConsumerRecords<String, String> recoveredRecords = historyConsumer.poll(this.pollInterval);
+            if (recoveredRecords.isEmpty()) {
+                LOGGER.debug("No new records found in the database schema history; will retry");
+                recoveryAttempts++;
+                continue;
+            }
+            recoveryAttempts = 0;
+
+            final List<HistoryRecord> batch = new ArrayList<>(recoveredRecords.count());
+            for (ConsumerRecord<String, String> record : recoveredRecords) {
+                if (record.offset() >= endOffset) {
+                    break;
+                }
+                try {
+                    if (record.value() == null) {
+                        LOGGER.warn("Skipping null database schema history record. " +
+                                "This is often not an issue, but if it happens repeatedly please check the '{}' topic.", topicName);
+                    }
+                    else {
+                        HistoryRecord recordObj = new HistoryRecord(reader.read(record.value()));
+                        LOGGER.trace("Recovering database schema history: {}", recordObj);
+                        if (!recordObj.isValid()) {
+                            LOGGER.warn("Skipping invalid database schema history record '{}'. " +
+                                    "This is often not an issue, but if it happens repeatedly please check the '{}' topic.",
+                                    recordObj, topicName);
+                        }
+                        else {
+                            batch.add(recordObj);
+                        }
+                    }
+                }
+                catch (final IOException e) {
+                    Loggings.logErrorAndTraceRecord(LOGGER, record, "Error while deserializing history record", e);
+                }
+                catch (final RuntimeException e) {
+                    Loggings.logErrorAndTraceRecord(LOGGER, record, "Unexpected exception while processing record", e);
+                    throw e;
+                }
+            }
+            LOGGER.debug("Read {} records from database schema history", batch.size());
+            if (!batch.isEmpty()) {
+                batches.accept(batch);
+            }
+        }
     }
 
-    private Long getEndOffsetOfDbHistoryTopic(Long previousEndOffset, KafkaConsumer<String, String> historyConsumer) {
+    private long getEndOffsetOfDbHistoryTopic(Long previousEndOffset, KafkaConsumer<String, String> historyConsumer) {
         Map<TopicPartition, Long> offsets = historyConsumer.endOffsets(Collections.singleton(new TopicPartition(topicName, PARTITION)));
         Long endOffset = offsets.entrySet().iterator().next().getValue();
 